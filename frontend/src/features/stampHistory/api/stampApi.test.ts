@@ -95,45 +95,65 @@ describe("stampApi", () => {
     );
 
     await expect(
-      updateStamp({ id: 42, inTime: "09:00", outTime: "18:00" })
+      updateStamp({
+        id: 42,
+        stampDate: "2025-11-14",
+        inTime: "09:00",
+        outTime: "18:00",
+      })
     ).rejects.toBeInstanceOf(AuthorizationError);
   });
 
   it("raises AuthorizationError when deleting stamp without permission", async () => {
     mockedApi.delete.mockRejectedValue(new ApiError("Forbidden", 403));
 
-    await expect(deleteStamp({ id: 24 })).rejects.toBeInstanceOf(
-      AuthorizationError
-    );
+    await expect(
+      deleteStamp({ id: 24, stampDate: "2025-11-14" })
+    ).rejects.toBeInstanceOf(AuthorizationError);
   });
 
   it("updates multiple stamps sequentially when using batch helper", async () => {
     mockedApi.put.mockResolvedValue(undefined);
 
     await updateStampsBatch([
-      { id: 1, inTime: "09:00", outTime: "18:00" },
-      { id: 2, inTime: "10:00" },
+      { id: 1, stampDate: "2025-11-13", inTime: "09:00", outTime: "18:00" },
+      { id: 2, stampDate: "2025-11-14", inTime: "10:00" },
     ]);
 
     expect(mockedApi.put).toHaveBeenCalledTimes(2);
-    expect(mockedApi.put).toHaveBeenNthCalledWith(1, "/stamps/1", {
-      inTime: "09:00",
-      outTime: "18:00",
-    });
-    expect(mockedApi.put).toHaveBeenNthCalledWith(2, "/stamps/2", {
-      inTime: "10:00",
-    });
+    expect(mockedApi.put).toHaveBeenNthCalledWith(
+      1,
+      "/stamps/1",
+      { inTime: "09:00", outTime: "18:00" },
+      { params: { stampDate: "2025-11-13" } }
+    );
+    expect(mockedApi.put).toHaveBeenNthCalledWith(
+      2,
+      "/stamps/2",
+      { inTime: "10:00" },
+      { params: { stampDate: "2025-11-14" } }
+    );
   });
 
   it("deletes multiple stamps sequentially when using batch helper", async () => {
     mockedApi.delete.mockResolvedValue(undefined);
 
-    await deleteStampsBatch([3, 4, 5]);
+    await deleteStampsBatch([
+      { id: 3, stampDate: "2025-11-03" },
+      { id: 4, stampDate: "2025-11-04" },
+      { id: 5, stampDate: "2025-11-05" },
+    ]);
 
     expect(mockedApi.delete).toHaveBeenCalledTimes(3);
-    expect(mockedApi.delete).toHaveBeenNthCalledWith(1, "/stamps/3");
-    expect(mockedApi.delete).toHaveBeenNthCalledWith(2, "/stamps/4");
-    expect(mockedApi.delete).toHaveBeenNthCalledWith(3, "/stamps/5");
+    expect(mockedApi.delete).toHaveBeenNthCalledWith(1, "/stamps/3", {
+      params: { stampDate: "2025-11-03" },
+    });
+    expect(mockedApi.delete).toHaveBeenNthCalledWith(2, "/stamps/4", {
+      params: { stampDate: "2025-11-04" },
+    });
+    expect(mockedApi.delete).toHaveBeenNthCalledWith(3, "/stamps/5", {
+      params: { stampDate: "2025-11-05" },
+    });
   });
 
   // ========================================
@@ -146,14 +166,19 @@ describe("stampApi", () => {
 
       await updateStamp({
         id: 100,
+        stampDate: "2025-11-14",
         breakStartTime: "",
         breakEndTime: "",
       });
 
-      expect(mockedApi.put).toHaveBeenCalledWith("/stamps/100", {
-        breakStartTime: "",
-        breakEndTime: "",
-      });
+      expect(mockedApi.put).toHaveBeenCalledWith(
+        "/stamps/100",
+        {
+          breakStartTime: "",
+          breakEndTime: "",
+        },
+        { params: { stampDate: "2025-11-14" } }
+      );
     });
 
     it("sends night shift flag with break times 【OK】", async () => {
@@ -161,16 +186,21 @@ describe("stampApi", () => {
 
       await updateStamp({
         id: 200,
+        stampDate: "2025-11-14",
         breakStartTime: "01:00",
         breakEndTime: "02:00",
         isNightShift: true,
       });
 
-      expect(mockedApi.put).toHaveBeenCalledWith("/stamps/200", {
-        breakStartTime: "01:00",
-        breakEndTime: "02:00",
-        isNightShift: true,
-      });
+      expect(mockedApi.put).toHaveBeenCalledWith(
+        "/stamps/200",
+        {
+          breakStartTime: "01:00",
+          breakEndTime: "02:00",
+          isNightShift: true,
+        },
+        { params: { stampDate: "2025-11-14" } }
+      );
     });
 
     it("does not send in/out times when they are empty strings", async () => {
@@ -178,6 +208,7 @@ describe("stampApi", () => {
 
       await updateStamp({
         id: 300,
+        stampDate: "2025-11-14",
         inTime: "",
         outTime: "",
         breakStartTime: "12:00",
@@ -185,9 +216,13 @@ describe("stampApi", () => {
 
       // inTimeとoutTimeは送信されない（空文字列だから）
       // breakStartTimeは送信される
-      expect(mockedApi.put).toHaveBeenCalledWith("/stamps/300", {
-        breakStartTime: "12:00",
-      });
+      expect(mockedApi.put).toHaveBeenCalledWith(
+        "/stamps/300",
+        {
+          breakStartTime: "12:00",
+        },
+        { params: { stampDate: "2025-11-14" } }
+      );
     });
 
     it("includes isNightShift when it is false", async () => {
@@ -195,12 +230,17 @@ describe("stampApi", () => {
 
       await updateStamp({
         id: 400,
+        stampDate: "2025-11-14",
         isNightShift: false,
       });
 
-      expect(mockedApi.put).toHaveBeenCalledWith("/stamps/400", {
-        isNightShift: false,
-      });
+      expect(mockedApi.put).toHaveBeenCalledWith(
+        "/stamps/400",
+        {
+          isNightShift: false,
+        },
+        { params: { stampDate: "2025-11-14" } }
+      );
     });
   });
 });
@@ -183,8 +183,15 @@ export const createStamp = async (
 export const updateStamp = async (
   payload: UpdateStampRequest
 ): Promise<void> => {
-  const { id, inTime, outTime, breakStartTime, breakEndTime, isNightShift } =
-    payload;
+  const {
+    id,
+    stampDate,
+    inTime,
+    outTime,
+    breakStartTime,
+    breakEndTime,
+    isNightShift,
+  } = payload;
 
   const data: {
     inTime?: string;
@@ -213,7 +220,7 @@ export const updateStamp = async (
   }
 
   try {
-    await api.put<void>(`/stamps/${id}`, data);
+    await api.put<void>(`/stamps/${id}`, data, { params: { stampDate } });
   } catch (error) {
     return handleApiError(error);
   }
@@ -223,7 +230,9 @@ export const deleteStamp = async (
   payload: DeleteStampRequest
 ): Promise<void> => {
   try {
-    await api.delete<void>(`/stamps/${payload.id}`);
+    await api.delete<void>(`/stamps/${payload.id}`, {
+      params: { stampDate: payload.stampDate },
+    });
   } catch (error) {
     return handleApiError(error);
   }
@@ -237,8 +246,10 @@ export const updateStampsBatch = async (
   }
 };
 
-export const deleteStampsBatch = async (ids: number[]): Promise<void> => {
-  for (const id of ids) {
-    await deleteStamp({ id });
+export const deleteStampsBatch = async (
+  targets: DeleteStampRequest[]
+): Promise<void> => {
+  for (const target of targets) {
+    await deleteStamp(target);
   }
 };
@@ -11,6 +11,7 @@ import {
   AlertDialogTitle,
 } from "@/components/ui/alert-dialog";
 import { deleteStamp } from "@/features/stampHistory/api";
+import { toStampDate } from "@/features/stampHistory/lib/dateUtils";
 import type { StampHistoryEntry } from "@/features/stampHistory/types";
 import { toast } from "@/hooks/use-toast";
 import { queryKeys } from "@/shared/utils/queryUtils";
@@ -95,8 +96,11 @@ export const DeleteStampDialog = ({
   });
 
   const handleDelete = () => {
-    if (entry?.id) {
-      mutation.mutate({ id: entry.id });
+    const stampDate = entry
+      ? toStampDate(entry.year, entry.month, entry.day)
+      : null;
+    if (entry?.id && stampDate) {
+      mutation.mutate({ id: entry.id, stampDate });
     }
   };
 
@@ -34,6 +34,25 @@ export const isPastOrToday = (
   return entryDate <= today;
 };
 
+/**
+ * 年月日をYYYY-MM-DD形式の勤務日に変換
+ * @param year - 年（例: "2025"）
+ * @param month - 月（例: "11"）
+ * @param day - 日（例: "8"）
+ * @returns YYYY-MM-DD形式の文字列（例: "2025-11-08"）、または null
+ */
+export const toStampDate = (
+  year: string | null,
+  month: string | null,
+  day: string | null
+): string | null => {
+  if (!(year && month && day)) {
+    return null;
+  }
+
+  return `${year}-${month.padStart(2, "0")}-${day.padStart(2, "0")}`;
+};
+
 /**
  * 年月日とHH:mm形式の時刻を組み合わせてISO 8601形式に変換
  * @param year - 年（例: "2025"）
@@ -50,6 +50,8 @@ export type StampHistoryResponse = {
 // 打刻更新リクエスト型
 export type UpdateStampRequest = {
   id: number;
+  // 勤務日（YYYY-MM-DD、打刻履歴の主キーの一部）
+  stampDate: string;
   inTime?: string;
   outTime?: string;
   breakStartTime?: string;
@@ -73,6 +75,8 @@ export type CreateStampRequest = {
 // 打刻削除リクエスト型
 export type DeleteStampRequest = {
   id: number;
+  // 勤務日（YYYY-MM-DD、打刻履歴の主キーの一部）
+  stampDate: string;
 };
 
 // 編集フォーム用Zodスキーマ
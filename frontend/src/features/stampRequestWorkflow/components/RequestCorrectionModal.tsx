@@ -24,7 +24,10 @@ import {
 } from "@/components/ui/form";
 import { Input } from "@/components/ui/input";
 import { Textarea } from "@/components/ui/textarea";
-import { combineDateTimeToISO } from "@/features/stampHistory/lib/dateUtils";
+import {
+  combineDateTimeToISO,
+  toStampDate,
+} from "@/features/stampHistory/lib/dateUtils";
 import type { StampHistoryEntry } from "@/features/stampHistory/types";
 import { useCreateStampRequestMutation } from "@/features/stampRequestWorkflow/hooks/useStampRequests";
 import { stampRequestCreateSchema } from "@/features/stampRequestWorkflow/schemas/stampRequestSchema";
@@ -63,6 +66,7 @@ const normalizePayload = (
 ): StampRequestCreatePayload => ({
   stampHistoryId:
     values.stampHistoryId === 0 ? null : (values.stampHistoryId ?? null),
+  stampDate: toStampDate(entry.year, entry.month, entry.day),
   requestedInTime: combineDateTimeToISO(
     entry.year,
     entry.month,
@@ -78,6 +78,7 @@ describe("RequestCorrectionModal", () => {
     await waitFor(() => {
       expect(mutateAsync).toHaveBeenCalledWith({
         stampHistoryId: mockStampHistoryEntry.id,
+        stampDate: "2025-11-07",
         requestedInTime: "2025-11-07T09:00:00+09:00",
         requestedOutTime: "2025-11-07T18:10:00+09:00",
         requestedBreakStartTime: "2025-11-07T12:00:00+09:00",
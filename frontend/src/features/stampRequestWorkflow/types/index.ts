@@ -55,6 +55,8 @@ export type MyRequestFilters = {
 
 export type StampRequestCreatePayload = {
   stampHistoryId: number | null;
+  // 勤務日（YYYY-MM-DD、stampHistoryId とともに指定を推奨。省略時はIDのみで検索）
+  stampDate?: string | null;
   requestedInTime?: string | null;
   requestedOutTime?: string | null;
   requestedBreakStartTime?: string | null;
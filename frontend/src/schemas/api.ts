@@ -215,6 +215,7 @@ const ProfileStatisticsResponse = z
 const StampRequestCreateRequest = z
   .object({
     stampHistoryId: z.number().int().nullish(),
+    stampDate: z.string().nullish(),
     requestedInTime: z.string().datetime({ offset: true }).optional(),
     requestedOutTime: z.string().datetime({ offset: true }).optional(),
     requestedBreakStartTime: z.string().datetime({ offset: true }).optional(),
@@ -736,7 +737,7 @@ const endpoints = makeApi([
     method: "put",
     path: "/api/stamps/:id",
     alias: "updateStamp",
-    description: `指定した打刻IDの出勤/退勤時刻を更新`,
+    description: `指定した打刻ID・勤務日の出勤/退勤時刻を更新`,
     requestFormat: "json",
     parameters: [
       {
@@ -749,6 +750,11 @@ const endpoints = makeApi([
         type: "Path",
         schema: z.number().int(),
       },
+      {
+        name: "stampDate",
+        type: "Query",
+        schema: z.string().optional(),
+      },
     ],
     response: z.void(),
     errors: [
@@ -778,7 +784,7 @@ const endpoints = makeApi([
     method: "delete",
     path: "/api/stamps/:id",
     alias: "deleteStamp",
-    description: `指定した打刻IDを削除`,
+    description: `指定した打刻ID・勤務日の打刻を削除`,
     requestFormat: "json",
     parameters: [
       {
@@ -786,6 +792,11 @@ const endpoints = makeApi([
         type: "Path",
         schema: z.number().int(),
       },
+      {
+        name: "stampDate",
+        type: "Query",
+        schema: z.string().optional(),
+      },
     ],
     response: z.void(),
     errors: [
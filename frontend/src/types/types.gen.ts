@@ -434,6 +434,10 @@ export type StampRequestCreateRequest = {
      * 紐づく打刻履歴ID（打刻レコードがない日の場合はnull）
      */
     stampHistoryId?: number | null;
+    /**
+     * 紐づく打刻履歴の勤務日（stampHistoryId とともに指定を推奨。省略時はIDのみで検索）
+     */
+    stampDate?: string | null;
     /**
      * 希望する出勤時刻
      */
@@ -938,7 +942,12 @@ export type DeleteStampData = {
     path: {
         id: number;
     };
-    query?: never;
+    query?: {
+        /**
+         * 勤務日（YYYY-MM-DD形式、打刻履歴の主キーの一部）。省略時はIDのみで検索します（全パーティションを走査するため指定を推奨）
+         */
+        stampDate?: string;
+    };
     url: '/api/stamps/{id}';
 };
 
@@ -973,7 +982,12 @@ export type UpdateStampData = {
     path: {
         id: number;
     };
-    query?: never;
+    query?: {
+        /**
+         * 勤務日（YYYY-MM-DD形式、打刻履歴の主キーの一部）。省略時はIDのみで検索します（全パーティションを走査するため指定を推奨）
+         */
+        stampDate?: string;
+    };
     url: '/api/stamps/{id}';
 };
 
@@ -0,0 +1,156 @@
+package com.example.teamdev.config;
+
+import com.example.teamdev.config.SqlStatementMetrics.StatementDetails;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.ArgumentTypePreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.SqlProvider;
+
+/**
+ * 実行時間・行数・エラー数を {@link SqlStatementMetrics} に記録する {@link JdbcTemplate}。
+ *
+ * <p>ステートメントIDは呼び出し元のクラスの単純名とメソッド名（例: {@code ProfileMetadataRepository.load}）です。
+ * {@code query}/{@code queryForObject}/{@code update} の各オーバーロードが経由する箇所で計測します。
+ * {@code batchUpdate}・{@code execute}・{@code call}・{@code queryForStream} は計測しません。</p>
+ */
+public class InstrumentedJdbcTemplate extends JdbcTemplate {
+
+    static final String SOURCE = "jdbc";
+
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private final SqlStatementMetrics metrics;
+
+    public InstrumentedJdbcTemplate(DataSource dataSource, SqlStatementMetrics metrics) {
+        super(dataSource);
+        this.metrics = metrics;
+    }
+
+    @Override
+    public <T> T query(String sql, ResultSetExtractor<T> rse) {
+        return measure(sql, null, () -> super.query(sql, rse));
+    }
+
+    @Override
+    public <T> T query(PreparedStatementCreator psc, PreparedStatementSetter pss, ResultSetExtractor<T> rse) {
+        return measure(sqlOf(psc), pss, () -> super.query(psc, pss, rse));
+    }
+
+    @Override
+    public int update(String sql) {
+        return measure(sql, null, () -> super.update(sql));
+    }
+
+    @Override
+    protected int update(PreparedStatementCreator psc, PreparedStatementSetter pss) {
+        return measure(sqlOf(psc), pss, () -> super.update(psc, pss));
+    }
+
+    @Override
+    protected PreparedStatementSetter newArgPreparedStatementSetter(Object[] args) {
+        return new RecordingArgumentSetter(args);
+    }
+
+    @Override
+    protected PreparedStatementSetter newArgTypePreparedStatementSetter(Object[] args, int[] argTypes) {
+        return new RecordingArgumentTypeSetter(args, argTypes);
+    }
+
+    private <T> T measure(String sql, PreparedStatementSetter pss, Supplier<T> call) {
+        String statementId = callerStatementId();
+        long start = System.nanoTime();
+        T result = null;
+        Throwable error = null;
+        try {
+            result = call.get();
+            return result;
+        } catch (Throwable e) {
+            error = e;
+            throw e;
+        } finally {
+            metrics.record(
+                SOURCE,
+                statementId,
+                System.nanoTime() - start,
+                rows(result),
+                error,
+                () -> new StatementDetails(sql, parameters(pss))
+            );
+        }
+    }
+
+    private static String sqlOf(PreparedStatementCreator psc) {
+        return psc instanceof SqlProvider provider ? provider.getSql() : null;
+    }
+
+    private static long rows(Object result) {
+        if (result == null) {
+            return 0L;
+        }
+        if (result instanceof List<?> list) {
+            return list.size();
+        }
+        if (result instanceof Integer count) {
+            return count;
+        }
+        return 1L;
+    }
+
+    private static List<String> parameters(PreparedStatementSetter pss) {
+        Object[] args;
+        if (pss instanceof RecordingArgumentSetter setter) {
+            args = setter.args;
+        } else if (pss instanceof RecordingArgumentTypeSetter setter) {
+            args = setter.args;
+        } else {
+            // ラムダ等で設定されるパラメータは取得できない
+            return pss != null ? List.of("<unavailable>") : List.of();
+        }
+        return args != null ? Arrays.stream(args).map(SqlStatementMetrics::redact).toList() : List.of();
+    }
+
+    /**
+     * Spring と本クラス以外で最初に現れるフレームを呼び出し元とします。
+     */
+    static String callerStatementId() {
+        return STACK_WALKER.walk(frames -> frames
+            .filter(frame -> !frame.getClassName().startsWith("org.springframework.")
+                && !frame.getClassName().startsWith(InstrumentedJdbcTemplate.class.getName()))
+            .findFirst()
+            .map(frame -> simpleName(frame.getClassName()) + "." + frame.getMethodName())
+            .orElse("unknown"));
+    }
+
+    private static String simpleName(String className) {
+        String simple = className.substring(className.lastIndexOf('.') + 1);
+        int nested = simple.indexOf('$');
+        return nested > 0 ? simple.substring(0, nested) : simple;
+    }
+
+    private static final class RecordingArgumentSetter extends ArgumentPreparedStatementSetter {
+
+        private final Object[] args;
+
+        RecordingArgumentSetter(Object[] args) {
+            super(args);
+            this.args = args;
+        }
+    }
+
+    private static final class RecordingArgumentTypeSetter extends ArgumentTypePreparedStatementSetter {
+
+        private final Object[] args;
+
+        RecordingArgumentTypeSetter(Object[] args, int[] argTypes) {
+            super(args, argTypes);
+            this.args = args;
+        }
+    }
+}
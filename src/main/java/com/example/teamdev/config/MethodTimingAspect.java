@@ -0,0 +1,119 @@
+package com.example.teamdev.config;
+
+import com.example.teamdev.util.LogUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+/**
+ * サービス層のメソッド実行時間を計測するアスペクト。
+ *
+ * <p>{@code com.example.teamdev.service} 配下の Bean の public メソッドと、{@link TimedOperation} を付与した
+ * クラス・メソッドが対象です。実行時間は {@code app.method}（タグ: class, method, outcome）のタイマーに記録し、
+ * actuator の {@code /actuator/metrics/app.method} で 50/95/99 パーセンタイルを参照できます。
+ * パーセンタイルは Micrometer の HdrHistogram ベースの集計で、記録1回あたりのロックやログ出力はありません。</p>
+ *
+ * <p>1秒以上かかった呼び出しのみ、従来どおり {@link LogUtil#logPerformance} でパフォーマンスログに出力します。
+ * 同じ Bean 内の自己呼び出しはプロキシを経由しないため計測されません。</p>
+ */
+@Aspect
+@Component
+public class MethodTimingAspect {
+
+    static final String METRIC = "app.method";
+
+    private static final long SLOW_LOG_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final MeterRegistry registry;
+    private final Map<Method, MethodTimers> timers = new ConcurrentHashMap<>();
+
+    public MethodTimingAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("(within(com.example.teamdev.service..*) && execution(public * *(..)))"
+        + " || @within(com.example.teamdev.config.TimedOperation)"
+        + " || @annotation(com.example.teamdev.config.TimedOperation)")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        boolean succeeded = false;
+        try {
+            Object result = joinPoint.proceed();
+            succeeded = true;
+            return result;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            MethodTimers methodTimers = timersFor(joinPoint);
+            (succeeded ? methodTimers.success : methodTimers.error()).record(elapsed, TimeUnit.NANOSECONDS);
+            if (elapsed >= SLOW_LOG_NANOS) {
+                LogUtil.logPerformance(methodTimers.name, TimeUnit.NANOSECONDS.toMillis(elapsed),
+                    "outcome=" + (succeeded ? "success" : "error"));
+            }
+        }
+    }
+
+    private MethodTimers timersFor(ProceedingJoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        MethodTimers methodTimers = timers.get(method);
+        if (methodTimers == null) {
+            Class<?> targetClass = joinPoint.getTarget() != null
+                ? ClassUtils.getUserClass(joinPoint.getTarget())
+                : method.getDeclaringClass();
+            methodTimers = timers.computeIfAbsent(method,
+                key -> new MethodTimers(targetClass.getSimpleName(), key.getName()));
+        }
+        return methodTimers;
+    }
+
+    private Timer register(String className, String methodName, String outcome) {
+        return Timer.builder(METRIC)
+            .description("Execution time of service methods")
+            .tag("class", className)
+            .tag("method", methodName)
+            .tag("outcome", outcome)
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.ofNanos(10_000))
+            .maximumExpectedValue(Duration.ofSeconds(30))
+            .register(registry);
+    }
+
+    /**
+     * メソッドごとのタイマー。エラー側は初回のエラー時に登録する。
+     */
+    private final class MethodTimers {
+
+        private final String className;
+        private final String methodName;
+        private final String name;
+        private final Timer success;
+        private volatile Timer error;
+
+        private MethodTimers(String className, String methodName) {
+            this.className = className;
+            this.methodName = methodName;
+            this.name = className + "." + methodName;
+            this.success = register(className, methodName, "success");
+        }
+
+        private Timer error() {
+            Timer timer = error;
+            if (timer == null) {
+                // 同時に登録しても MeterRegistry が同じタイマーを返す
+                timer = register(className, methodName, "error");
+                error = timer;
+            }
+            return timer;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.teamdev.config;
+
+import com.example.teamdev.config.SqlStatementMetrics.StatementDetails;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.ParameterMode;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.stereotype.Component;
+
+/**
+ * MyBatis のステートメント単位で実行時間・行数・エラー数を記録するインターセプター。
+ *
+ * <p>ステートメントIDは Mapper の単純名とメソッド名（例: {@code StampRequestMapper.findWithSearch}）です。
+ * mybatis-spring-boot の自動設定が {@link Interceptor} の Bean を SqlSessionFactory に登録します。</p>
+ */
+@Component
+@Intercepts({
+    @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}),
+    @Signature(type = Executor.class, method = "query",
+        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+    @Signature(type = Executor.class, method = "query",
+        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class})
+})
+public class MyBatisStatementMetricsInterceptor implements Interceptor {
+
+    static final String SOURCE = "mybatis";
+
+    private final SqlStatementMetrics metrics;
+
+    public MyBatisStatementMetricsInterceptor(SqlStatementMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        Object[] args = invocation.getArgs();
+        MappedStatement mappedStatement = (MappedStatement) args[0];
+        Object parameter = args[1];
+        BoundSql boundSql = args.length == 6 ? (BoundSql) args[5] : null;
+
+        long start = System.nanoTime();
+        Object result = null;
+        Throwable error = null;
+        try {
+            result = invocation.proceed();
+            return result;
+        } catch (InvocationTargetException e) {
+            error = e.getTargetException();
+            throw e;
+        } catch (Throwable e) {
+            error = e;
+            throw e;
+        } finally {
+            metrics.record(
+                SOURCE,
+                statementId(mappedStatement.getId()),
+                System.nanoTime() - start,
+                rows(result),
+                error,
+                () -> details(mappedStatement, parameter, boundSql)
+            );
+        }
+    }
+
+    /**
+     * {@code com.example.teamdev.mapper.StampRequestMapper.findWithSearch} を
+     * {@code StampRequestMapper.findWithSearch} に短縮します。
+     */
+    static String statementId(String id) {
+        int methodDot = id.lastIndexOf('.');
+        int typeDot = methodDot > 0 ? id.lastIndexOf('.', methodDot - 1) : -1;
+        return typeDot >= 0 ? id.substring(typeDot + 1) : id;
+    }
+
+    private static long rows(Object result) {
+        if (result instanceof List<?> list) {
+            return list.size();
+        }
+        if (result instanceof Number count) {
+            return count.longValue();
+        }
+        return 0L;
+    }
+
+    /**
+     * バインドパラメータを DefaultParameterHandler と同じ規則で解決します。
+     */
+    private static StatementDetails details(MappedStatement mappedStatement, Object parameter, BoundSql boundSql) {
+        BoundSql resolved = boundSql != null ? boundSql : mappedStatement.getBoundSql(parameter);
+        Configuration configuration = mappedStatement.getConfiguration();
+        MetaObject metaObject = null;
+        List<String> parameters = new ArrayList<>();
+        for (ParameterMapping mapping : resolved.getParameterMappings()) {
+            if (mapping.getMode() == ParameterMode.OUT) {
+                continue;
+            }
+            String property = mapping.getProperty();
+            Object value;
+            if (resolved.hasAdditionalParameter(property)) {
+                value = resolved.getAdditionalParameter(property);
+            } else if (parameter == null) {
+                value = null;
+            } else if (configuration.getTypeHandlerRegistry().hasTypeHandler(parameter.getClass())) {
+                value = parameter;
+            } else {
+                if (metaObject == null) {
+                    metaObject = configuration.newMetaObject(parameter);
+                }
+                value = metaObject.getValue(property);
+            }
+            parameters.add(property + "=" + SqlStatementMetrics.redact(value));
+        }
+        return new StatementDetails(resolved.getSql(), parameters);
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.teamdev.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import java.io.IOException;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * リードレプリカ使用時に、書き込んだセッションの読み取りをレプリカが追いつくまでプライマリへ固定するフィルター。
+ *
+ * <p>更新系のリクエスト（POST/PUT/PATCH/DELETE）の後にプライマリの LSN をセッションに記録し、
+ * 以降のリクエストではその LSN を要求値としてスレッドに設定します。LSN は応答の確定（本体の送信開始・リダイレクト・エラー）の前に記録するため、
+ * クライアントが応答を受け取った直後の読み取りも固定されます。すべてのレプリカが再生済みになった時点で記録を削除します。
+ * セッションのないリクエストは対象外です。記録先は {@link RequiredLsnHolder} で切り替えます。</p>
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String SESSION_ATTRIBUTE = ReadYourWritesFilter.class.getName() + ".REQUIRED_LSN";
+
+    private static final Logger log = LoggerFactory.getLogger(ReadYourWritesFilter.class);
+    private static final Set<String> WRITE_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private final ReplicaLsnTracker lsnTracker;
+    private final RequiredLsnHolder lsnHolder;
+
+    public ReadYourWritesFilter(ReplicaLsnTracker lsnTracker) {
+        this(lsnTracker, new HttpSessionRequiredLsnHolder());
+    }
+
+    public ReadYourWritesFilter(ReplicaLsnTracker lsnTracker, RequiredLsnHolder lsnHolder) {
+        this.lsnTracker = lsnTracker;
+        this.lsnHolder = lsnHolder;
+    }
+
+    @Override
+    protected void doFilterInternal(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        FilterChain filterChain
+    ) throws ServletException, IOException {
+        ReplicaLsnTracker.pin(requiredLsn(request));
+        if (!WRITE_METHODS.contains(request.getMethod())) {
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                ReplicaLsnTracker.clearPin();
+            }
+            return;
+        }
+
+        // 応答を受け取ったクライアントが直後に送る読み取りに間に合うよう、応答の確定前に記録する
+        WriteRecordingResponse recording = new WriteRecordingResponse(request, response);
+        try {
+            filterChain.doFilter(request, recording);
+        } finally {
+            ReplicaLsnTracker.clearPin();
+            // 失敗したリクエストでも一部が書き込まれている可能性があるため、結果によらず記録する。
+            // 応答を確定した後にコミットした書き込み（ストリーミング応答など）も含めるため、確定時に記録済みでも再度記録する
+            recordWrite(request);
+        }
+    }
+
+    private Long requiredLsn(HttpServletRequest request) {
+        try {
+            Long lsn = lsnHolder.get(request);
+            if (lsn == null) {
+                return null;
+            }
+            if (lsnTracker.allReplayed(lsn)) {
+                lsnHolder.clear(request, lsn);
+                return null;
+            }
+            return lsn;
+        } catch (DataAccessException e) {
+            // 記録を読めない場合は固定しない（レプリカの遅延分だけ古い値が見える可能性がある）
+            log.warn("Failed to read required LSN for read-your-writes: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void recordWrite(HttpServletRequest request) {
+        if (!lsnHolder.hasSession(request)) {
+            return;
+        }
+        try {
+            lsnHolder.record(request, lsnTracker.currentPrimaryLsn());
+        } catch (DataAccessException | IllegalStateException e) {
+            // 記録できない場合は固定しない（レプリカの遅延分だけ古い値が見える可能性がある）
+            log.warn("Failed to record primary LSN for read-your-writes: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 応答が確定する直前に書き込み後の LSN を記録するレスポンス。
+     */
+    private final class WriteRecordingResponse extends OnCommittedResponseWrapper {
+
+        private final HttpServletRequest request;
+
+        private WriteRecordingResponse(HttpServletRequest request, HttpServletResponse response) {
+            super(response);
+            this.request = request;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            recordWrite(request);
+        }
+    }
+
+    /**
+     * 要求 LSN を HttpSession の属性に保持する既定の {@link RequiredLsnHolder}。
+     */
+    public static final class HttpSessionRequiredLsnHolder implements RequiredLsnHolder {
+
+        @Override
+        public boolean hasSession(HttpServletRequest request) {
+            return request.getSession(false) != null;
+        }
+
+        @Override
+        public Long get(HttpServletRequest request) {
+            HttpSession session = request.getSession(false);
+            return session != null && session.getAttribute(SESSION_ATTRIBUTE) instanceof Long lsn ? lsn : null;
+        }
+
+        @Override
+        public void record(HttpServletRequest request, long lsn) {
+            HttpSession session = request.getSession(false);
+            if (session == null
+                || session.getAttribute(SESSION_ATTRIBUTE) instanceof Long recorded && recorded > lsn) {
+                return;
+            }
+            session.setAttribute(SESSION_ATTRIBUTE, lsn);
+        }
+
+        @Override
+        public void clear(HttpServletRequest request, long lsn) {
+            HttpSession session = request.getSession(false);
+            if (session != null && session.getAttribute(SESSION_ATTRIBUTE) instanceof Long recorded && recorded <= lsn) {
+                session.removeAttribute(SESSION_ATTRIBUTE);
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.teamdev.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.web.context.SecurityContextRepository;
+
+/**
+ * リードレプリカ構成のデータソース設定クラス。
+ *
+ * <p>{@code app.datasource.replica.enabled=true} の場合のみ有効です。無効の場合は Spring Boot の自動設定どおり
+ * {@code spring.datasource.*} の単一データソースを使用します。</p>
+ * <ul>
+ *   <li>プライマリ: {@code spring.datasource.*}（Flyway のマイグレーションもプライマリに対して実行）</li>
+ *   <li>レプリカ: {@code app.datasource.replica.urls}（カンマ区切りで複数指定可、接続は読み取り専用）</li>
+ *   <li>アプリケーションが使用するデータソース: 読み取り専用トランザクションをレプリカへ振り分ける
+ *       {@link ReplicaRoutingDataSource} を {@link LazyConnectionDataSourceProxy} で包んだもの</li>
+ * </ul>
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaLsnTracker replicaLsnTracker(
+        @Qualifier("primaryDataSource") DataSource primaryDataSource,
+        DataSourceProperties properties,
+        @Value("${app.datasource.replica.urls:}") String urls,
+        @Value("${app.datasource.replica.username:}") String username,
+        @Value("${app.datasource.replica.password:}") String password,
+        @Value("${app.datasource.replica.maximum-pool-size:10}") int maximumPoolSize,
+        @Value("${app.datasource.replica.lsn-cache-millis:200}") long lsnCacheMillis
+    ) {
+        List<String> replicaUrls = Arrays.stream(urls.split(","))
+            .map(String::trim)
+            .filter(url -> !url.isEmpty())
+            .toList();
+        if (replicaUrls.isEmpty()) {
+            throw new IllegalArgumentException("app.datasource.replica.urls must not be empty when replicas are enabled");
+        }
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + (i + 1));
+            replica.setJdbcUrl(replicaUrls.get(i));
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setUsername(username.isEmpty() ? properties.determineUsername() : username);
+            replica.setPassword(password.isEmpty() ? properties.determinePassword() : password);
+            replica.setMaximumPoolSize(maximumPoolSize);
+            replica.setReadOnly(true);
+            // 起動時にレプリカが停止していてもアプリケーションは起動し、読み取りはプライマリへ振り分ける
+            replica.setInitializationFailTimeout(-1);
+            replicas.put(replica.getPoolName(), replica);
+        }
+        return new ReplicaLsnTracker(primaryDataSource, replicas, Duration.ofMillis(lsnCacheMillis));
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+        @Qualifier("primaryDataSource") DataSource primaryDataSource,
+        ReplicaLsnTracker replicaLsnTracker
+    ) {
+        return new ReplicaRoutingDataSource(
+            primaryDataSource, replicaLsnTracker.replicaDataSources(), replicaLsnTracker);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(
+        ReplicaLsnTracker replicaLsnTracker,
+        SecurityContextRepository securityContextRepository
+    ) {
+        // 共有セッションストア使用時は要求 LSN もセッションテーブルに保持し、別のノードでも固定を引き継ぐ
+        if (securityContextRepository instanceof RequiredLsnHolder lsnHolder) {
+            return new ReadYourWritesFilter(replicaLsnTracker, lsnHolder);
+        }
+        return new ReadYourWritesFilter(replicaLsnTracker);
+    }
+}
@@ -0,0 +1,235 @@
+package com.example.teamdev.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * プライマリとリードレプリカの WAL 位置（LSN）を追跡し、read-your-writes の判定を行うクラス。
+ *
+ * <p>書き込み後のセッションには、書き込み時点のプライマリの LSN を要求値として設定します。
+ * レプリカは {@code pg_last_wal_replay_lsn()} がその値以上になるまで選択されません。
+ * レプリカの再生位置は {@code cacheTtl} の間キャッシュするため、問い合わせはレプリカごとに一定間隔で1回です。
+ * 接続できないレプリカは次の問い合わせまで選択されません。</p>
+ *
+ * <p>要求値はリクエストスレッドに {@link #pin(Long)} で設定します（{@link ReadYourWritesFilter} が設定・解除します）。
+ * 複数のリクエストで共有するキャッシュの読み込みなど、レプリカの遅延を許容できない読み取りは
+ * {@link #onPrimary(Supplier)} で囲むとプライマリから読み取ります。</p>
+ */
+public class ReplicaLsnTracker implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLsnTracker.class);
+
+    /** 現在のスレッドが読み取りに要求する LSN（null の場合は要求なし） */
+    private static final ThreadLocal<Long> REQUIRED_LSN = new ThreadLocal<>();
+
+    /** 現在のスレッドの読み取りをプライマリに固定しているかどうか */
+    private static final ThreadLocal<Boolean> PRIMARY_ONLY = new ThreadLocal<>();
+
+    private final JdbcTemplate primary;
+    private final Map<String, DataSource> replicas;
+    private final Map<String, JdbcTemplate> replicaTemplates = new ConcurrentHashMap<>();
+    private final long cacheTtlNanos;
+    private final Map<String, ReplaySample> samples = new ConcurrentHashMap<>();
+
+    /**
+     * @param primary プライマリのデータソース（ルーティングを経由しないこと）
+     * @param replicas レプリカ名とデータソース（ルーティングを経由しないこと）
+     * @param cacheTtl レプリカの再生位置をキャッシュする期間
+     */
+    public ReplicaLsnTracker(DataSource primary, Map<String, DataSource> replicas, Duration cacheTtl) {
+        this.primary = new JdbcTemplate(primary);
+        this.replicas = Map.copyOf(replicas);
+        this.cacheTtlNanos = cacheTtl.toNanos();
+        this.replicas.forEach((name, dataSource) -> replicaTemplates.put(name, new JdbcTemplate(dataSource)));
+    }
+
+    /**
+     * 現在のスレッドの読み取りに要求する LSN を設定します。
+     *
+     * @param lsn 要求する LSN（null の場合は要求なし）
+     */
+    public static void pin(Long lsn) {
+        if (lsn == null) {
+            REQUIRED_LSN.remove();
+        } else {
+            REQUIRED_LSN.set(lsn);
+        }
+    }
+
+    /**
+     * 現在のスレッドの要求 LSN を解除します。
+     */
+    public static void clearPin() {
+        REQUIRED_LSN.remove();
+    }
+
+    /**
+     * 現在のスレッドの要求 LSN を返します。
+     *
+     * @return 要求する LSN（要求なしの場合は0）
+     */
+    public static long requiredLsn() {
+        Long lsn = REQUIRED_LSN.get();
+        return lsn != null ? lsn : 0L;
+    }
+
+    /**
+     * 処理中の読み取りをプライマリに固定して実行します。読み取り専用トランザクションもプライマリを使用します。
+     * リードレプリカを使用しない構成では何もせずに実行します。
+     *
+     * <p>接続は最初の問い合わせ時に選ぶため、トランザクションの開始もこの中で行ってください。</p>
+     *
+     * @param action 実行する処理
+     * @param <T> 戻り値の型
+     * @return 処理の戻り値
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        if (PRIMARY_ONLY.get() != null) {
+            return action.get();
+        }
+        PRIMARY_ONLY.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            PRIMARY_ONLY.remove();
+        }
+    }
+
+    /**
+     * 現在のスレッドの読み取りがプライマリに固定されているかを返します。
+     *
+     * @return {@link #onPrimary(Supplier)} の実行中の場合 true
+     */
+    public static boolean isPrimaryOnly() {
+        return PRIMARY_ONLY.get() != null;
+    }
+
+    /**
+     * レプリカ名の一覧を返します。
+     *
+     * @return レプリカ名
+     */
+    public List<String> replicaNames() {
+        return List.copyOf(replicas.keySet());
+    }
+
+    /**
+     * レプリカ名とデータソースを返します。
+     *
+     * @return レプリカ名とデータソース
+     */
+    public Map<String, DataSource> replicaDataSources() {
+        return replicas;
+    }
+
+    /**
+     * プライマリの現在の WAL 位置を取得します。書き込みをコミットした後に呼び出すと、その書き込みを含む位置が返ります。
+     *
+     * @return プライマリの LSN
+     */
+    public long currentPrimaryLsn() {
+        return parseLsn(primary.queryForObject("SELECT pg_current_wal_lsn()::text", String.class));
+    }
+
+    /**
+     * レプリカが利用可能で、指定した LSN まで再生済みかを判定します。
+     *
+     * @param replica レプリカ名
+     * @param requiredLsn 要求する LSN（0の場合は利用可能かどうかのみ判定）
+     * @return 読み取りに使用できる場合 true
+     */
+    public boolean hasReplayed(String replica, long requiredLsn) {
+        ReplaySample sample = sample(replica);
+        return sample.available() && (requiredLsn <= 0L || sample.lsn() >= requiredLsn);
+    }
+
+    /**
+     * すべてのレプリカが指定した LSN まで再生済みかを判定します。
+     *
+     * @param requiredLsn 要求する LSN
+     * @return すべて再生済みの場合 true
+     */
+    public boolean allReplayed(long requiredLsn) {
+        return replicas.keySet().stream().allMatch(replica -> hasReplayed(replica, requiredLsn));
+    }
+
+    /**
+     * 利用可能なレプリカのうち、最も遅れているレプリカの再生遅延（プライマリの現在位置との差）を返します。
+     *
+     * @return 再生遅延（バイト）、計測できるレプリカがない場合は{@code OptionalLong.empty()}
+     */
+    public OptionalLong maxReplayLagBytes() {
+        long primaryLsn = currentPrimaryLsn();
+        long maxLag = -1L;
+        for (String replica : replicas.keySet()) {
+            ReplaySample sample = sample(replica);
+            // 利用できない・スタンバイでないレプリカは遅延を計測できない
+            if (sample.available() && sample.lsn() > 0L) {
+                maxLag = Math.max(maxLag, Math.max(0L, primaryLsn - sample.lsn()));
+            }
+        }
+        return maxLag >= 0L ? OptionalLong.of(maxLag) : OptionalLong.empty();
+    }
+
+    @Override
+    public void close() {
+        replicas.values().forEach(dataSource -> {
+            if (dataSource instanceof HikariDataSource hikari) {
+                hikari.close();
+            }
+        });
+    }
+
+    private ReplaySample sample(String replica) {
+        long now = System.nanoTime();
+        ReplaySample cached = samples.get(replica);
+        if (cached != null && now - cached.sampledAt() < cacheTtlNanos) {
+            return cached;
+        }
+        // 同時に期限切れを検出したスレッドは重複して問い合わせることがあるが、結果は同じため許容する
+        ReplaySample sample;
+        try {
+            String lsn = replicaTemplates.get(replica)
+                .queryForObject("SELECT pg_last_wal_replay_lsn()::text", String.class);
+            // NULL はスタンバイでない（レプリケーションしていない）インスタンス。読み取りには使えるが、要求 LSN は満たさない
+            sample = new ReplaySample(true, lsn != null ? parseLsn(lsn) : 0L, now);
+        } catch (DataAccessException e) {
+            if (cached == null || cached.available()) {
+                log.warn("Read replica {} is unavailable; routing reads to the primary: {}", replica, e.getMessage());
+            }
+            sample = new ReplaySample(false, 0L, now);
+        }
+        samples.put(replica, sample);
+        return sample;
+    }
+
+    /**
+     * {@code pg_lsn} の文字列表現（例: {@code 16/B374D848}）を比較可能な数値に変換します。
+     *
+     * @param lsn LSN の文字列表現
+     * @return LSN の数値
+     * @throws IllegalArgumentException 形式が不正な場合
+     */
+    static long parseLsn(String lsn) {
+        int slash = lsn != null ? lsn.indexOf('/') : -1;
+        if (slash <= 0 || slash == lsn.length() - 1) {
+            throw new IllegalArgumentException("Invalid LSN: " + lsn);
+        }
+        long high = Long.parseLong(lsn.substring(0, slash), 16);
+        long low = Long.parseLong(lsn.substring(slash + 1), 16);
+        return (high << 32) | low;
+    }
+
+    private record ReplaySample(boolean available, long lsn, long sampledAt) {
+    }
+}
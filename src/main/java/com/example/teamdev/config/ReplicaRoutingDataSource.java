@@ -0,0 +1,65 @@
+package com.example.teamdev.config;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 読み取り専用トランザクション（{@code @Transactional(readOnly = true)}）の接続をリードレプリカへ振り分けるデータソース。
+ *
+ * <p>トランザクションの属性が確定してから接続を選ぶため、{@link LazyConnectionDataSourceProxy} で包んで使用します。
+ * レプリカはラウンドロビンで選び、現在のスレッドに要求 LSN（{@link ReplicaLsnTracker#requiredLsn()}）がある場合は
+ * その位置まで再生済みのレプリカだけを使います。該当するレプリカがない場合、読み書きトランザクション・
+ * トランザクション外の接続、および {@link ReplicaLsnTracker#onPrimary} の実行中はプライマリを使います。</p>
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final ReplicaLsnTracker lsnTracker;
+    private final List<String> replicaNames;
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * @param primary プライマリのデータソース
+     * @param replicas レプリカ名とデータソース
+     * @param lsnTracker LSN の追跡
+     */
+    public ReplicaRoutingDataSource(
+        DataSource primary,
+        Map<String, DataSource> replicas,
+        ReplicaLsnTracker lsnTracker
+    ) {
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+        this.lsnTracker = lsnTracker;
+        this.replicaNames = List.copyOf(replicas.keySet());
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicaNames.isEmpty() || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+            || ReplicaLsnTracker.isPrimaryOnly()) {
+            return PRIMARY;
+        }
+        long requiredLsn = ReplicaLsnTracker.requiredLsn();
+        int size = replicaNames.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            String replica = replicaNames.get((start + i) % size);
+            if (lsnTracker.hasReplayed(replica, requiredLsn)) {
+                return replica;
+            }
+        }
+        return PRIMARY;
+    }
+}
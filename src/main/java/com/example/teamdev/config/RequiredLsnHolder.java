@@ -0,0 +1,46 @@
+package com.example.teamdev.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * read-your-writes の要求 LSN をリクエストのセッションに保持する方法。
+ *
+ * <p>既定は HttpSession の属性（{@link ReadYourWritesFilter.HttpSessionRequiredLsnHolder}）です。
+ * 共有セッションストアを使用する場合はセッションテーブルに保持し、別のノードへ振り分けられても固定を引き継ぎます。</p>
+ *
+ * @see ReadYourWritesFilter
+ */
+public interface RequiredLsnHolder {
+
+    /**
+     * リクエストにセッションがあるかを返します。セッションのないリクエストは read-your-writes の対象外です。
+     *
+     * @param request リクエスト
+     * @return セッションがある場合は{@code true}
+     */
+    boolean hasSession(HttpServletRequest request);
+
+    /**
+     * 記録された要求 LSN を取得します。
+     *
+     * @param request リクエスト
+     * @return 要求 LSN、記録がない場合は{@code null}
+     */
+    Long get(HttpServletRequest request);
+
+    /**
+     * 要求 LSN を記録します。同じセッションの並行リクエストで古い値に戻さないよう、既により大きい値があれば変更しません。
+     *
+     * @param request リクエスト
+     * @param lsn プライマリの LSN
+     */
+    void record(HttpServletRequest request, long lsn);
+
+    /**
+     * 全レプリカが再生済みになった要求 LSN を削除します。
+     *
+     * @param request リクエスト
+     * @param lsn 再生済みの LSN
+     */
+    void clear(HttpServletRequest request, long lsn);
+}
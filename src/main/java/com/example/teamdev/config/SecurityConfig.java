@@ -1,9 +1,13 @@
 package com.example.teamdev.config;
 
+import com.example.teamdev.security.JdbcSecurityContextRepository;
+import com.example.teamdev.security.JdbcSessionStore;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,6 +21,7 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
@@ -29,7 +34,9 @@ import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.security.web.csrf.CookieCsrfTokenRepository;
 import org.springframework.security.web.csrf.CsrfTokenRequestAttributeHandler;
 import org.springframework.security.web.csrf.CsrfTokenRequestHandler;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.DispatcherTypeRequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -53,6 +60,9 @@ public class SecurityConfig {
     @Value("${app.environment:production}")
     private String environment;
 
+    @Value("${app.session.maximum-sessions:3}")
+    private int maximumSessions;
+
     /**
      * CSRF Token Repository を環境に応じて設定
      * クロスサイトリクエスト（Vercel→Render）に対応するため SameSite=None を設定
@@ -102,8 +112,21 @@ public class SecurityConfig {
         return new BCryptPasswordEncoder();
     }
 
+    /**
+     * SecurityContext の保存先を {@code app.session.store} に応じて設定
+     * memory: 各ノードの HttpSession（既定）
+     * jdbc: 全ノードで共有する http_session テーブル。Cookie の Secure/SameSite は CSRF Cookie と同じく環境に応じて設定
+     */
     @Bean
-    public SecurityContextRepository securityContextRepository() {
+    public SecurityContextRepository securityContextRepository(
+        ObjectProvider<JdbcSessionStore> jdbcSessionStore,
+        @Value("${app.session.jdbc.cookie-name:TEAMDEV_SESSION}") String cookieName
+    ) {
+        JdbcSessionStore store = jdbcSessionStore.getIfAvailable();
+        if (store != null) {
+            boolean local = ENV_DEV.equals(environment) || ENV_TEST.equals(environment);
+            return new JdbcSecurityContextRepository(store, cookieName, !local, local ? "Lax" : "None");
+        }
         HttpSessionSecurityContextRepository repository = new HttpSessionSecurityContextRepository();
         repository.setDisableUrlRewriting(true);
         return repository;
@@ -170,7 +193,10 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(
+        HttpSecurity http,
+        SecurityContextRepository securityContextRepository
+    ) throws Exception {
         http
             .cors(Customizer.withDefaults())
             .csrf(csrf -> csrf
@@ -182,6 +208,12 @@ public class SecurityConfig {
             // Add CSRF token to response headers for cross-origin scenarios
             .addFilterAfter(new CsrfHeaderFilter(), org.springframework.security.web.csrf.CsrfFilter.class)
             .authorizeHttpRequests(authz -> authz
+                // SSE (ライブボード) の非同期ディスパッチは元リクエストで認可済みのため許可
+                // （ほかのパスの非同期ディスパッチは通常どおり認可する）
+                .requestMatchers(new AndRequestMatcher(
+                    new DispatcherTypeRequestMatcher(DispatcherType.ASYNC),
+                    new AntPathRequestMatcher("/api/admin/live-board/events")
+                )).permitAll()
                 // API & Health endpoints only (SPA is hosted on Vercel)
                 .requestMatchers(
                      "/",
@@ -203,17 +235,20 @@ public class SecurityConfig {
                     "/v3/api-docs/**"
                 ).permitAll()
                 .requestMatchers("/api/news/published").permitAll()
-                .requestMatchers(HttpMethod.POST, "/api/stamp-requests").authenticated()
-                .requestMatchers(HttpMethod.GET, "/api/stamp-requests/my-requests").authenticated()
-                .requestMatchers(HttpMethod.GET, "/api/stamp-requests/{id}").authenticated()
-                .requestMatchers(HttpMethod.POST, "/api/stamp-requests/{id}/cancel").authenticated()
+                .requestMatchers(HttpMethod.POST, "/api/stamp-requests").hasAnyRole("ADMIN", "USER")
+                .requestMatchers(HttpMethod.GET, "/api/stamp-requests/my-requests").hasAnyRole("ADMIN", "USER")
+                .requestMatchers(HttpMethod.GET, "/api/stamp-requests/{id}").hasAnyRole("ADMIN", "USER")
+                .requestMatchers(HttpMethod.POST, "/api/stamp-requests/{id}/cancel").hasAnyRole("ADMIN", "USER")
                 .requestMatchers("/api/stamp-requests/pending/**").hasRole("ADMIN")
                 .requestMatchers("/api/stamp-requests/*/approve").hasRole("ADMIN")
                 .requestMatchers("/api/stamp-requests/*/reject").hasRole("ADMIN")
                 .requestMatchers("/api/stamp-requests/bulk/**").hasRole("ADMIN")
                 .requestMatchers("/employeemanage/**", "/newsmanage/**").hasRole("ADMIN")
                 .requestMatchers("/api/admin/**").hasRole("ADMIN")
-                .anyRequest().authenticated()
+                .requestMatchers("/api/bulk-jobs/**", "/api/bulk-jobs").hasRole("ADMIN")
+                // キオスク端末のアカウント（KIOSK）は一括打刻 API のみ。従業員・管理者は使用できない
+                .requestMatchers("/api/kiosk/**").hasRole("KIOSK")
+                .anyRequest().hasAnyRole("ADMIN", "USER")
             )
             .formLogin(AbstractHttpConfigurer::disable)
             .httpBasic(AbstractHttpConfigurer::disable)
@@ -244,11 +279,17 @@ public class SecurityConfig {
                     response.sendError(HttpServletResponse.SC_FORBIDDEN);
                 })
             )
-            .securityContext(security -> security.securityContextRepository(securityContextRepository()))
-            .sessionManagement(session -> session
-                .maximumSessions(3)  // Allow multiple devices (PC + mobile + tablet)
-                .maxSessionsPreventsLogin(false)
-            )
+            .securityContext(security -> security.securityContextRepository(securityContextRepository))
+            .sessionManagement(session -> {
+                if (securityContextRepository instanceof JdbcSecurityContextRepository) {
+                    // HttpSession は使用しない。同時セッション数は JdbcSessionStore がログイン時に制限する
+                    session.sessionCreationPolicy(SessionCreationPolicy.STATELESS);
+                } else {
+                    session
+                        .maximumSessions(maximumSessions)  // Allow multiple devices (PC + mobile + tablet)
+                        .maxSessionsPreventsLogin(false);
+                }
+            })
             .headers(headers -> headers
                 .frameOptions(HeadersConfigurer.FrameOptionsConfig::deny)
                 .contentTypeOptions(Customizer.withDefaults())
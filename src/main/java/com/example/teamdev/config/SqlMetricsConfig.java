@@ -0,0 +1,19 @@
+package com.example.teamdev.config;
+
+import javax.sql.DataSource;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * SQL ステートメントの計測設定クラス。
+ * 自動設定の JdbcTemplate の代わりに、実行時間等を記録する {@link InstrumentedJdbcTemplate} を登録します。
+ * MyBatis 側は {@link MyBatisStatementMetricsInterceptor} が計測します。
+ */
+@Configuration
+public class SqlMetricsConfig {
+
+    @Bean
+    public InstrumentedJdbcTemplate jdbcTemplate(DataSource dataSource, SqlStatementMetrics sqlStatementMetrics) {
+        return new InstrumentedJdbcTemplate(dataSource, sqlStatementMetrics);
+    }
+}
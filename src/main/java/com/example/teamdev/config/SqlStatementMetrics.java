@@ -0,0 +1,275 @@
+package com.example.teamdev.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Array;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * SQL ステートメント単位の実行時間・行数・エラー数を Micrometer に記録し、遅いステートメントを保持するクラス。
+ *
+ * <p>MyBatis のステートメント（{@link MyBatisStatementMetricsInterceptor}）と {@code JdbcTemplate} のクエリ
+ * （{@link InstrumentedJdbcTemplate}）の両方から呼び出されます。記録するメトリクスは actuator の
+ * {@code /actuator/metrics} で参照できます。</p>
+ * <ul>
+ *   <li>{@code db.statement}: 実行時間（タグ: source, statement, outcome）</li>
+ *   <li>{@code db.statement.rows}: 取得・更新行数（タグ: source, statement）</li>
+ *   <li>{@code db.statement.errors}: エラー数（タグ: source, statement, exception）</li>
+ * </ul>
+ *
+ * <p>実行時間が {@code app.sql-metrics.slow-threshold-millis} 以上のステートメントは、SQL とバインドパラメータ
+ * （マスク済み）を固定長のリングバッファに保持します。パラメータの取得は遅いステートメントの場合のみ行います。</p>
+ */
+@Component
+public class SqlStatementMetrics {
+
+    static final String TIMER = "db.statement";
+    static final String ROWS = "db.statement.rows";
+    static final String ERRORS = "db.statement.errors";
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementMetrics.class);
+    private static final int MAX_SQL_LENGTH = 2000;
+    /** 区分値（PENDING など）とみなして表示する文字列 */
+    private static final Pattern CODE_VALUE = Pattern.compile("[A-Z][A-Z0-9_]{0,31}");
+
+    private final MeterRegistry registry;
+    private final long slowThresholdNanos;
+    private final Clock clock;
+    private final AtomicReferenceArray<SlowQuery> slowQueries;
+    private final AtomicLong slowQuerySequence = new AtomicLong();
+    private final Map<MeterKey, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<MeterKey, DistributionSummary> rowSummaries = new ConcurrentHashMap<>();
+    private final Map<MeterKey, Counter> errorCounters = new ConcurrentHashMap<>();
+
+    public SqlStatementMetrics(
+        MeterRegistry registry,
+        @Value("${app.sql-metrics.slow-threshold-millis:200}") long slowThresholdMillis,
+        @Value("${app.sql-metrics.slow-log-size:100}") int slowLogSize,
+        Clock clock
+    ) {
+        if (slowLogSize <= 0) {
+            throw new IllegalArgumentException("app.sql-metrics.slow-log-size must be positive");
+        }
+        this.registry = registry;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+        this.clock = clock;
+        this.slowQueries = new AtomicReferenceArray<>(slowLogSize);
+    }
+
+    /**
+     * ステートメントの実行結果を記録します。
+     *
+     * @param source 呼び出し元（mybatis / jdbc）
+     * @param statementId ステートメントID（例: {@code StampRequestMapper.findWithSearch}）
+     * @param elapsedNanos 実行時間（ナノ秒）
+     * @param rows 取得・更新行数
+     * @param error 発生した例外（正常終了の場合は null）
+     * @param details SQL とパラメータ（遅いステートメントの場合のみ取得）
+     */
+    public void record(
+        String source,
+        String statementId,
+        long elapsedNanos,
+        long rows,
+        Throwable error,
+        Supplier<StatementDetails> details
+    ) {
+        String outcome = error == null ? "success" : "error";
+        timers.computeIfAbsent(new MeterKey(source, statementId, outcome), key -> Timer.builder(TIMER)
+                .description("SQL statement execution time")
+                .tag("source", key.source())
+                .tag("statement", key.statementId())
+                .tag("outcome", key.qualifier())
+                .publishPercentileHistogram()
+                .register(registry))
+            .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        if (error == null) {
+            rowSummaries.computeIfAbsent(new MeterKey(source, statementId, ""), key -> DistributionSummary.builder(ROWS)
+                    .description("Rows returned or affected by the SQL statement")
+                    .baseUnit("rows")
+                    .tag("source", key.source())
+                    .tag("statement", key.statementId())
+                    .register(registry))
+                .record(rows);
+        } else {
+            errorCounters.computeIfAbsent(
+                    new MeterKey(source, statementId, error.getClass().getSimpleName()),
+                    key -> Counter.builder(ERRORS)
+                        .description("SQL statement failures")
+                        .tag("source", key.source())
+                        .tag("statement", key.statementId())
+                        .tag("exception", key.qualifier())
+                        .register(registry))
+                .increment();
+        }
+
+        if (elapsedNanos >= slowThresholdNanos) {
+            captureSlowQuery(source, statementId, elapsedNanos, rows, error, details);
+        }
+    }
+
+    /**
+     * 保持している遅いステートメントを新しい順に返します。
+     *
+     * @param limit 最大件数
+     * @return 遅いステートメント
+     */
+    public List<SlowQuery> recentSlowQueries(int limit) {
+        int capacity = slowQueries.length();
+        long last = slowQuerySequence.get();
+        int count = (int) Math.min(Math.min(last, capacity), Math.max(limit, 0));
+        List<SlowQuery> result = new ArrayList<>(count);
+        long oldest = Math.max(0L, last - capacity);
+        for (long seq = last - 1; seq >= oldest && result.size() < count; seq--) {
+            SlowQuery entry = slowQueries.get((int) (seq % capacity));
+            // 書き込み途中のスロットは読み飛ばす
+            if (entry != null && entry.sequence() == seq) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 保持している遅いステートメントを破棄します。
+     */
+    public void clearSlowQueries() {
+        for (int i = 0; i < slowQueries.length(); i++) {
+            slowQueries.set(i, null);
+        }
+    }
+
+    /**
+     * 遅いステートメントとみなす実行時間（ミリ秒）を返します。
+     *
+     * @return 閾値（ミリ秒）
+     */
+    public long slowThresholdMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(slowThresholdNanos);
+    }
+
+    private void captureSlowQuery(
+        String source,
+        String statementId,
+        long elapsedNanos,
+        long rows,
+        Throwable error,
+        Supplier<StatementDetails> details
+    ) {
+        StatementDetails resolved;
+        try {
+            resolved = details.get();
+        } catch (RuntimeException e) {
+            // パラメータの取得に失敗してもステートメントの実行結果には影響させない
+            log.debug("Failed to resolve slow statement details for {}: {}", statementId, e.getMessage());
+            resolved = new StatementDetails(null, List.of());
+        }
+        long seq = slowQuerySequence.getAndIncrement();
+        slowQueries.set((int) (seq % slowQueries.length()), new SlowQuery(
+            seq,
+            clock.instant(),
+            source,
+            statementId,
+            TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+            rows,
+            error != null ? error.getClass().getSimpleName() : null,
+            normalizeSql(resolved.sql()),
+            resolved.parameters()
+        ));
+    }
+
+    private static String normalizeSql(String sql) {
+        if (sql == null) {
+            return null;
+        }
+        String normalized = sql.strip().replaceAll("\\s+", " ");
+        return normalized.length() > MAX_SQL_LENGTH ? normalized.substring(0, MAX_SQL_LENGTH) + "..." : normalized;
+    }
+
+    /**
+     * バインドパラメータを表示用の文字列に変換します。
+     *
+     * <p>個人情報を含み得る文字列はマスクし、長さのみ表示します。数値・真偽値・日時・列挙値・区分値（英大文字の識別子）は
+     * そのまま表示し、配列とコレクションは件数のみ表示します。</p>
+     *
+     * @param value パラメータの値
+     * @return 表示用の文字列
+     */
+    static String redact(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Enum<?>
+            || value instanceof TemporalAccessor || value instanceof Date) {
+            return String.valueOf(value);
+        }
+        if (value instanceof CharSequence text) {
+            return CODE_VALUE.matcher(text).matches() ? "'" + text + "'" : "'***'(" + text.length() + " chars)";
+        }
+        if (value instanceof Collection<?> collection) {
+            return "[" + collection.size() + " items]";
+        }
+        if (value.getClass().isArray()) {
+            return "[" + Array.getLength(value) + " items]";
+        }
+        return "<" + value.getClass().getSimpleName() + ">";
+    }
+
+    /**
+     * 遅いステートメントの記録に使用する SQL とバインドパラメータ。
+     *
+     * @param sql SQL（取得できない場合は null）
+     * @param parameters マスク済みのパラメータ
+     */
+    public record StatementDetails(String sql, List<String> parameters) {
+    }
+
+    /**
+     * 遅いステートメントの記録。
+     *
+     * @param sequence 記録の連番
+     * @param occurredAt 記録日時
+     * @param source 呼び出し元（mybatis / jdbc）
+     * @param statementId ステートメントID
+     * @param elapsedMillis 実行時間（ミリ秒）
+     * @param rows 取得・更新行数
+     * @param error 例外のクラス名（正常終了の場合は null）
+     * @param sql SQL（空白を正規化済み）
+     * @param parameters マスク済みのパラメータ
+     */
+    public record SlowQuery(
+        long sequence,
+        Instant occurredAt,
+        String source,
+        String statementId,
+        long elapsedMillis,
+        long rows,
+        String error,
+        String sql,
+        List<String> parameters
+    ) {
+    }
+
+    private record MeterKey(String source, String statementId, String qualifier) {
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.teamdev.config;
+
+import com.example.teamdev.service.stamp.StampImportFormat;
+import com.example.teamdev.service.stamp.StampImportResult;
+import com.example.teamdev.service.stamp.StampImportService;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * 打刻一括取り込みのコマンドライン実行。
+ *
+ * <p>{@code app.stamp-import.file} を指定して起動した場合のみ有効になり、ファイルを取り込んで結果をログに出力したあと
+ * アプリケーションを終了します（すべての行を取り込めた場合は終了コード 0、不備行があった場合は 2、失敗した場合は 1）。</p>
+ *
+ * <pre>
+ * java -jar app.jar --app.stamp-import.file=stamps.csv --app.stamp-import.operator-id=1 --spring.main.web-application-type=none
+ * </pre>
+ */
+@Component
+@ConditionalOnProperty(name = "app.stamp-import.file")
+public class StampImportCommandRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(StampImportCommandRunner.class);
+
+    private final StampImportService stampImportService;
+    private final ConfigurableApplicationContext context;
+    private final Path file;
+    private final int operatorId;
+
+    public StampImportCommandRunner(
+        StampImportService stampImportService,
+        ConfigurableApplicationContext context,
+        @Value("${app.stamp-import.file}") Path file,
+        @Value("${app.stamp-import.operator-id}") int operatorId
+    ) {
+        this.stampImportService = stampImportService;
+        this.context = context;
+        this.file = file;
+        this.operatorId = operatorId;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int exitCode;
+        try (InputStream input = Files.newInputStream(file)) {
+            StampImportResult result = stampImportService.importStamps(
+                input, StampImportFormat.detect(file.getFileName().toString()), operatorId);
+            result.rejects().forEach(reject ->
+                logger.warn("Stamp import {} line {}: {}", file, reject.lineNumber(), reject.reason()));
+            if (result.rejectsTruncated()) {
+                logger.warn("Stamp import {}: {} more rejected line(s) not reported",
+                    file, result.rejectedCount() - result.rejects().size());
+            }
+            logger.info("Stamp import {} finished: {} staged, {} inserted, {} updated, {} rejected",
+                file, result.staged(), result.inserted(), result.updated(), result.rejectedCount());
+            exitCode = result.rejectedCount() == 0 ? 0 : 2;
+        } catch (IOException | RuntimeException e) {
+            logger.error("Stamp import {} failed", file, e);
+            exitCode = 1;
+        }
+        int code = exitCode;
+        System.exit(SpringApplication.exit(context, () -> code));
+    }
+}
@@ -54,15 +54,14 @@ public class StartupConfig implements CommandLineRunner {
     }
 
     @Override
+    @TimedOperation
     public void run(String... args) throws Exception {
         validateSecuritySecrets();
 
         // アプリケーション開始ログ
         LogUtil.logApplicationEvent("START", applicationVersion);
         logger.info("アプリケーション初期化処理開始 - {}", applicationName);
-        
-        long startTime = LogUtil.startPerformanceMeasurement();
-        
+
         try {
             // パスワードマイグレーションの実行判定
             if (passwordMigrationEnabled) {
@@ -82,9 +81,6 @@ public class StartupConfig implements CommandLineRunner {
             
             // 初期化エラーでもアプリケーションは続行
             logger.warn("初期化処理でエラーが発生しましたが、アプリケーションは続行します");
-        } finally {
-            LogUtil.endPerformanceMeasurement(startTime, "StartupConfig.run", 
-                "application=" + applicationName);
         }
         
         logger.info("アプリケーション初期化処理完了 - {}", applicationName);
@@ -0,0 +1,19 @@
+package com.example.teamdev.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * {@link MethodTimingAspect} による実行時間の計測対象であることを示すアノテーション。
+ *
+ * <p>{@code com.example.teamdev.service} 配下の Bean の public メソッドは付与しなくても計測されます。
+ * それ以外の Bean で計測する場合にクラスまたはメソッドに付与します（クラスに付与した場合は全メソッドが対象）。</p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface TimedOperation {
+}
@@ -34,9 +34,11 @@ public final class AppConstants {
     public static final class Employee {
         public static final int ADMIN_FLAG_GENERAL = 0;  // 一般ユーザー
         public static final int ADMIN_FLAG_ADMIN = 1;    // 管理者
+        public static final int ADMIN_FLAG_KIOSK = 2;    // キオスク端末（一括打刻 API のみ）
         
         public static final String ADMIN_AUTHORITY = "ADMIN";
         public static final String USER_AUTHORITY = "USER";
+        public static final String KIOSK_AUTHORITY = "KIOSK";
 
         private Employee() {
             throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
@@ -0,0 +1,23 @@
+package com.example.teamdev.constant;
+
+/**
+ * 非同期一括ジョブのステータス定数。
+ */
+public enum BulkJobStatus {
+
+    QUEUED(false),
+    RUNNING(false),
+    SUCCEEDED(true),
+    FAILED(true),
+    CANCELLED(true);
+
+    private final boolean finalState;
+
+    BulkJobStatus(boolean finalState) {
+        this.finalState = finalState;
+    }
+
+    public boolean isFinalState() {
+        return finalState;
+    }
+}
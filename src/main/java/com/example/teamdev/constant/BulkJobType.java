@@ -0,0 +1,31 @@
+package com.example.teamdev.constant;
+
+/**
+ * 非同期一括ジョブの種別定数。
+ *
+ * <p>対象はいずれも整数の配列として保持します。
+ * {@link #STAMP_MONTH_DELETE}・{@link #ATTENDANCE_MONTH_CLOSE}・{@link #STAMP_REQUEST_LATEST_VERIFY} の対象は
+ * {@code yyyyMM} 形式の年月、{@link #STAMP_ARCHIVE_YEAR}・{@link #STAMP_ARCHIVE_RESTORE} の対象は
+ * {@code yyyy} 形式の年です。</p>
+ */
+public enum BulkJobType {
+
+    /** 打刻修正リクエストの一括承認（パラメータ: approvalNote） */
+    STAMP_REQUEST_APPROVE,
+    /** 打刻修正リクエストの一括却下（パラメータ: rejectionReason） */
+    STAMP_REQUEST_REJECT,
+    /** お知らせの一括公開/非公開（パラメータ: releaseFlag） */
+    NEWS_PUBLISH,
+    /** お知らせの一括削除 */
+    NEWS_DELETE,
+    /** 年月単位の打刻記録削除（月ごとに範囲削除ジョブを投入） */
+    STAMP_MONTH_DELETE,
+    /** 勤怠の月次締め（スナップショット作成） */
+    ATTENDANCE_MONTH_CLOSE,
+    /** 最新申請の投影（stamp_request_latest）の整合性確認・補正 */
+    STAMP_REQUEST_LATEST_VERIFY,
+    /** 打刻記録・修正申請の年単位の退避 */
+    STAMP_ARCHIVE_YEAR,
+    /** 退避した打刻記録・修正申請の年単位の復元 */
+    STAMP_ARCHIVE_RESTORE
+}
@@ -0,0 +1,24 @@
+package com.example.teamdev.constant;
+
+/**
+ * 論理削除した従業員のデータ削除ジョブのステータス定数。
+ *
+ * <p>{@link #FAILED} のジョブは再実行すると {@link #QUEUED} に戻り、記録済みのフェーズから処理します。</p>
+ */
+public enum EmployeePurgeJobStatus {
+
+    QUEUED(false),
+    RUNNING(false),
+    SUCCEEDED(true),
+    FAILED(true);
+
+    private final boolean finalState;
+
+    EmployeePurgeJobStatus(boolean finalState) {
+        this.finalState = finalState;
+    }
+
+    public boolean isFinalState() {
+        return finalState;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.teamdev.constant;
+
+/**
+ * 論理削除した従業員のデータ削除ジョブのフェーズ定数。
+ *
+ * <p>外部キーの参照元から順に削除するため、宣言順に処理します。
+ * {@link #EMPLOYEE} では退避テーブルの行と従業員行を削除して完了します。</p>
+ */
+public enum EmployeePurgePhase {
+
+    LOG_HISTORY,
+    STAMP_REQUEST,
+    STAMP_HISTORY,
+    EMPLOYEE;
+
+    /**
+     * 次のフェーズを返します。
+     *
+     * @return 次のフェーズ（{@link #EMPLOYEE} の場合は {@link #EMPLOYEE}）
+     */
+    public EmployeePurgePhase next() {
+        EmployeePurgePhase[] phases = values();
+        return phases[Math.min(ordinal() + 1, phases.length - 1)];
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.teamdev.constant;
+
+/**
+ * 打刻記録の範囲削除ジョブのステータス定数。
+ *
+ * <p>{@link #PAUSED} は一時停止中で、再開すると {@link #QUEUED} に戻り、最後にコミットしたチャンクの次から処理します。</p>
+ */
+public enum StampDeleteJobStatus {
+
+    QUEUED(false),
+    RUNNING(false),
+    PAUSED(false),
+    SUCCEEDED(true),
+    FAILED(true),
+    CANCELLED(true);
+
+    private final boolean finalState;
+
+    StampDeleteJobStatus(boolean finalState) {
+        this.finalState = finalState;
+    }
+
+    public boolean isFinalState() {
+        return finalState;
+    }
+}
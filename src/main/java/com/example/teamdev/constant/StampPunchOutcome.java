@@ -0,0 +1,14 @@
+package com.example.teamdev.constant;
+
+/**
+ * キオスク端末からの一括打刻の処理結果。
+ */
+public enum StampPunchOutcome {
+
+    /** 打刻を記録した */
+    APPLIED,
+    /** 同じ種別の打刻が既に記録されていた（再送・二重打刻） */
+    ALREADY_RECORDED,
+    /** 打刻できない状態・不正な入力のため記録しなかった */
+    REJECTED
+}
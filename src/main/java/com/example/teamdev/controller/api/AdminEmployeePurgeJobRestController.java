@@ -0,0 +1,70 @@
+package com.example.teamdev.controller.api;
+
+import com.example.teamdev.dto.api.admin.EmployeePurgeJobResponse;
+import com.example.teamdev.entity.EmployeePurgeJob;
+import com.example.teamdev.service.job.EmployeePurgeJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import java.util.function.Supplier;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 論理削除した従業員のデータ削除ジョブ API。
+ * 従業員の削除後にバックグラウンドで行う関連データの削除の進捗照会と、失敗したジョブの再実行を行います。
+ */
+@RestController
+@RequestMapping("/api/admin/employee-purge-jobs")
+@Tag(name = "Admin Employee Purge Jobs", description = "論理削除した従業員のデータ削除ジョブ API")
+public class AdminEmployeePurgeJobRestController {
+
+    private final EmployeePurgeJobService employeePurgeJobService;
+
+    public AdminEmployeePurgeJobRestController(EmployeePurgeJobService employeePurgeJobService) {
+        this.employeePurgeJobService = employeePurgeJobService;
+    }
+
+    @Operation(summary = "データ削除ジョブ状態取得", description = "フェーズ・テーブルごとの削除済み件数・直近のチャンクの処理時間と待機時間を返す")
+    @GetMapping("/{employeeId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<EmployeePurgeJobResponse> get(@PathVariable Integer employeeId) {
+        EmployeePurgeJob job = employeePurgeJobService.findById(employeeId).orElseThrow(notFound());
+        return ResponseEntity.ok(EmployeePurgeJobResponse.from(job));
+    }
+
+    @Operation(summary = "データ削除ジョブ一覧", description = "作成日時の降順で返す")
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<EmployeePurgeJobResponse>> list(
+        @RequestParam(value = "limit", defaultValue = "20") int limit
+    ) {
+        return ResponseEntity.ok(employeePurgeJobService.findRecent(limit).stream()
+            .map(EmployeePurgeJobResponse::from)
+            .toList());
+    }
+
+    @Operation(summary = "データ削除ジョブ再実行", description = "失敗したジョブを最後にコミットしたフェーズから再実行する")
+    @PostMapping("/{employeeId}/retry")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<EmployeePurgeJobResponse> retry(@PathVariable Integer employeeId) {
+        try {
+            EmployeePurgeJob job = employeePurgeJobService.retry(employeeId).orElseThrow(notFound());
+            return ResponseEntity.accepted().body(EmployeePurgeJobResponse.from(job));
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage());
+        }
+    }
+
+    private static Supplier<ResponseStatusException> notFound() {
+        return () -> new ResponseStatusException(HttpStatus.NOT_FOUND, "ジョブが見つかりません");
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.teamdev.controller.api;
+
+import com.example.teamdev.service.event.AttendanceEvent;
+import com.example.teamdev.service.event.AttendanceEventBus;
+import com.example.teamdev.service.event.AttendanceEventSink;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.IOException;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 管理者ライブボード向けの勤怠イベントストリーム API。
+ * 打刻・休憩・打刻修正リクエストのイベントを Server-Sent Events で配信します。
+ */
+@RestController
+@RequestMapping("/api/admin/live-board")
+@Tag(name = "Admin Live Board", description = "管理者ライブボード API")
+public class AdminLiveBoardRestController {
+
+    /** リプレイできない欠落を通知するイベント名 */
+    static final String RESET_EVENT = "RESET";
+
+    private final AttendanceEventBus eventBus;
+    private final long timeoutMillis;
+
+    public AdminLiveBoardRestController(
+        AttendanceEventBus eventBus,
+        @Value("${app.live-board.timeout-minutes:30}") long timeoutMinutes
+    ) {
+        this.eventBus = eventBus;
+        this.timeoutMillis = Duration.ofMinutes(timeoutMinutes).toMillis();
+    }
+
+    @Operation(summary = "勤怠イベントストリーム",
+        description = "Last-Event-ID ヘッダ（または lastEventId パラメータ）指定時は以降のイベントを再送。"
+            + "再送できない場合は RESET イベントを送るため、クライアントは表示内容を取得し直す")
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public SseEmitter events(
+        @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+        @RequestParam(value = "lastEventId", required = false) String lastEventIdParam
+    ) {
+        Long lastEventId = parseLastEventId(lastEventIdHeader != null ? lastEventIdHeader : lastEventIdParam);
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+
+        AttendanceEventBus.Subscription subscription;
+        try {
+            subscription = eventBus.subscribe(lastEventId, new EmitterSink(emitter));
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+        }
+
+        emitter.onCompletion(() -> eventBus.unsubscribe(subscription));
+        emitter.onTimeout(() -> eventBus.unsubscribe(subscription));
+        emitter.onError(error -> eventBus.unsubscribe(subscription));
+        return emitter;
+    }
+
+    private Long parseLastEventId(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid Last-Event-ID");
+        }
+    }
+
+    private record EmitterSink(SseEmitter emitter) implements AttendanceEventSink {
+
+        @Override
+        public void send(long eventId, AttendanceEvent event) throws IOException {
+            emitter.send(SseEmitter.event()
+                .id(Long.toString(eventId))
+                .name(event.type().name())
+                .data(event, MediaType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void reset(long eventId) throws IOException {
+            // data のないイベントはブラウザに通知されないため空のオブジェクトを付ける
+            emitter.send(SseEmitter.event()
+                .id(Long.toString(eventId))
+                .name(RESET_EVENT)
+                .data("{}", MediaType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void heartbeat() throws IOException {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+        }
+
+        @Override
+        public void close() {
+            emitter.complete();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.teamdev.controller.api;
+
+import com.example.teamdev.config.SqlStatementMetrics;
+import com.example.teamdev.dto.api.admin.SlowQueryListResponse;
+import com.example.teamdev.dto.api.admin.SlowQueryResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 遅い SQL ステートメントの参照 API。
+ * 実行時間が閾値を超えた MyBatis / JdbcTemplate のステートメントを新しい順に返します。
+ */
+@RestController
+@RequestMapping("/api/admin/slow-queries")
+@Tag(name = "Admin Slow Queries", description = "遅い SQL ステートメントの参照 API")
+public class AdminSlowQueryRestController {
+
+    private static final int MAX_LIMIT = 500;
+
+    private final SqlStatementMetrics sqlStatementMetrics;
+
+    public AdminSlowQueryRestController(SqlStatementMetrics sqlStatementMetrics) {
+        this.sqlStatementMetrics = sqlStatementMetrics;
+    }
+
+    @Operation(summary = "遅いステートメント一覧", description = "新しい順に最大 limit 件（保持件数は app.sql-metrics.slow-log-size）")
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<SlowQueryListResponse> list(
+        @RequestParam(value = "limit", defaultValue = "50") int limit
+    ) {
+        int safeLimit = Math.min(Math.max(limit, 1), MAX_LIMIT);
+        return ResponseEntity.ok(new SlowQueryListResponse(
+            sqlStatementMetrics.slowThresholdMillis(),
+            sqlStatementMetrics.recentSlowQueries(safeLimit).stream().map(SlowQueryResponse::from).toList()
+        ));
+    }
+
+    @Operation(summary = "遅いステートメントの記録を破棄")
+    @DeleteMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> clear() {
+        sqlStatementMetrics.clearSlowQueries();
+        return ResponseEntity.noContent().build();
+    }
+}
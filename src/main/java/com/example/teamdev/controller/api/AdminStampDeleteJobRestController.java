@@ -0,0 +1,140 @@
+package com.example.teamdev.controller.api;
+
+import com.example.teamdev.dto.api.admin.StampDeleteJobRequest;
+import com.example.teamdev.dto.api.admin.StampDeleteJobResponse;
+import com.example.teamdev.entity.StampDeleteJob;
+import com.example.teamdev.service.job.StampDeleteJobService;
+import com.example.teamdev.util.SecurityUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.net.URI;
+import java.util.List;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 打刻記録の範囲削除ジョブ API。
+ * 年月範囲の打刻記録をチャンク単位で削除するジョブを投入し、進捗の照会・一時停止・再開・取消を行います。
+ */
+@RestController
+@RequestMapping("/api/admin/stamp-delete-jobs")
+@Tag(name = "Admin Stamp Delete Jobs", description = "打刻記録の範囲削除ジョブ API")
+public class AdminStampDeleteJobRestController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdminStampDeleteJobRestController.class);
+
+    private final StampDeleteJobService stampDeleteJobService;
+
+    public AdminStampDeleteJobRestController(StampDeleteJobService stampDeleteJobService) {
+        this.stampDeleteJobService = stampDeleteJobService;
+    }
+
+    @Operation(summary = "範囲削除ジョブ投入", description = "ジョブを登録して即時に 202 を返す（削除はバックグラウンドでチャンク単位に実行）")
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StampDeleteJobResponse> submit(@Valid @RequestBody StampDeleteJobRequest request) {
+        Integer operatorId = requireCurrentEmployeeId();
+        try {
+            StampDeleteJob job = stampDeleteJobService.submit(request.startMonth(), request.endMonth(), operatorId);
+            return ResponseEntity.accepted()
+                .location(URI.create("/api/admin/stamp-delete-jobs/" + job.getId()))
+                .body(StampDeleteJobResponse.from(job));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Stamp delete job validation error: {}", e.getMessage());
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    @Operation(summary = "範囲削除ジョブ状態取得", description = "削除済み件数・進捗率・直近のチャンクの処理時間と待機時間を返す")
+    @GetMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StampDeleteJobResponse> get(@PathVariable Long id) {
+        StampDeleteJob job = stampDeleteJobService.findById(id).orElseThrow(notFound());
+        return ResponseEntity.ok(StampDeleteJobResponse.from(job));
+    }
+
+    @Operation(summary = "自分が投入した範囲削除ジョブ一覧", description = "作成日時の降順で返す")
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<StampDeleteJobResponse>> listMine(
+        @RequestParam(value = "limit", defaultValue = "20") int limit
+    ) {
+        Integer operatorId = requireCurrentEmployeeId();
+        return ResponseEntity.ok(stampDeleteJobService.findRecent(operatorId, limit).stream()
+            .map(StampDeleteJobResponse::from)
+            .toList());
+    }
+
+    @Operation(summary = "範囲削除ジョブ一時停止", description = "未開始のジョブは即時に、実行中のジョブは処理中のチャンクのコミット後に一時停止する")
+    @PostMapping("/{id}/pause")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StampDeleteJobResponse> pause(@PathVariable Long id) {
+        try {
+            StampDeleteJob job = stampDeleteJobService.pause(id).orElseThrow(notFound());
+            return ResponseEntity.accepted().body(StampDeleteJobResponse.from(job));
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage());
+        }
+    }
+
+    @Operation(summary = "範囲削除ジョブ再開", description = "一時停止したジョブを最後にコミットしたチャンクの次から再開する")
+    @PostMapping("/{id}/resume")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StampDeleteJobResponse> resume(@PathVariable Long id) {
+        try {
+            StampDeleteJob job = stampDeleteJobService.resume(id).orElseThrow(notFound());
+            return ResponseEntity.accepted().body(StampDeleteJobResponse.from(job));
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage());
+        }
+    }
+
+    @Operation(summary = "範囲削除ジョブ取消", description = "以降のチャンクを実行しない（削除済みの打刻記録は戻らない）")
+    @PostMapping("/{id}/cancel")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StampDeleteJobResponse> cancel(@PathVariable Long id) {
+        try {
+            StampDeleteJob job = stampDeleteJobService.cancel(id).orElseThrow(notFound());
+            return ResponseEntity.accepted().body(StampDeleteJobResponse.from(job));
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage());
+        }
+    }
+
+    @Operation(summary = "範囲削除ジョブ再実行", description = "失敗したジョブを最後にコミットしたチャンクの次から再実行する")
+    @PostMapping("/{id}/retry")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StampDeleteJobResponse> retry(@PathVariable Long id) {
+        try {
+            StampDeleteJob job = stampDeleteJobService.retry(id).orElseThrow(notFound());
+            return ResponseEntity.accepted().body(StampDeleteJobResponse.from(job));
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage());
+        }
+    }
+
+    private static Supplier<ResponseStatusException> notFound() {
+        return () -> new ResponseStatusException(HttpStatus.NOT_FOUND, "ジョブが見つかりません");
+    }
+
+    private Integer requireCurrentEmployeeId() {
+        Integer employeeId = SecurityUtil.getCurrentEmployeeId();
+        if (employeeId == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "認証が必要です");
+        }
+        return employeeId;
+    }
+}
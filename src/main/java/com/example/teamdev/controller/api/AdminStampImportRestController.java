@@ -0,0 +1,64 @@
+package com.example.teamdev.controller.api;
+
+import com.example.teamdev.dto.api.admin.StampImportResponse;
+import com.example.teamdev.service.stamp.StampImportFormat;
+import com.example.teamdev.service.stamp.StampImportResult;
+import com.example.teamdev.service.stamp.StampImportService;
+import com.example.teamdev.util.SecurityUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 打刻の一括取り込み API。
+ * リクエストボディ（CSV / NDJSON）をバッファせずに読み込み、検証済みの行を打刻記録へ反映します。
+ */
+@RestController
+@RequestMapping("/api/admin/stamp-imports")
+@Tag(name = "Admin Stamp Import", description = "打刻の一括取り込み API")
+public class AdminStampImportRestController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdminStampImportRestController.class);
+
+    private final StampImportService stampImportService;
+
+    public AdminStampImportRestController(StampImportService stampImportService) {
+        this.stampImportService = stampImportService;
+    }
+
+    @Operation(
+        summary = "打刻一括取り込み",
+        description = "text/csv（ヘッダー行必須）または application/x-ndjson のボディを取り込む。"
+            + "不備のある行は読み飛ばして行番号と理由を返し、それ以外の行は従業員・勤務日ごとに作成または更新する")
+    @PostMapping(consumes = {"text/csv", "application/x-ndjson"})
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StampImportResponse> importStamps(HttpServletRequest request) {
+        Integer operatorId = SecurityUtil.getCurrentEmployeeId();
+        if (operatorId == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "認証が必要です");
+        }
+        try (InputStream body = request.getInputStream()) {
+            StampImportFormat format = StampImportFormat.detect(request.getContentType());
+            StampImportResult result = stampImportService.importStamps(body, format, operatorId);
+            return ResponseEntity.ok(StampImportResponse.from(result));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Stamp import rejected: {}", e.getMessage());
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (IOException | UncheckedIOException e) {
+            logger.warn("Stamp import body could not be read: {}", e.getMessage());
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "リクエストボディを読み込めません");
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.teamdev.controller.api;
+
+import com.example.teamdev.dto.api.bulkjob.BulkJobListResponse;
+import com.example.teamdev.dto.api.bulkjob.BulkJobResponse;
+import com.example.teamdev.dto.api.bulkjob.BulkJobSubmitRequest;
+import com.example.teamdev.entity.BulkJob;
+import com.example.teamdev.service.job.BulkJobService;
+import com.example.teamdev.util.SecurityUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.net.URI;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 非同期一括ジョブ API。
+ * 大量の一括承認/却下・お知らせ一括操作・月単位の打刻削除をジョブとして投入し、進捗を照会します。
+ */
+@RestController
+@RequestMapping("/api/bulk-jobs")
+@Tag(name = "Bulk Jobs", description = "非同期一括ジョブ API")
+public class BulkJobRestController {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkJobRestController.class);
+
+    private final BulkJobService bulkJobService;
+
+    public BulkJobRestController(BulkJobService bulkJobService) {
+        this.bulkJobService = bulkJobService;
+    }
+
+    @Operation(summary = "一括ジョブ投入", description = "ジョブを登録して即時に 202 を返す（処理はバックグラウンドでチャンク単位に実行）")
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkJobResponse> submit(@Valid @RequestBody BulkJobSubmitRequest request) {
+        Integer operatorId = requireCurrentEmployeeId();
+        try {
+            BulkJob job = bulkJobService.submit(request.type(), request.targetIds(), request.parameters(), operatorId);
+            return ResponseEntity.accepted()
+                .location(URI.create("/api/bulk-jobs/" + job.getId()))
+                .body(BulkJobResponse.from(job));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Bulk job validation error: {}", e.getMessage());
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    @Operation(summary = "一括ジョブ状態取得", description = "進捗・部分結果（失敗ID）・失敗理由を返す")
+    @GetMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkJobResponse> get(@PathVariable Long id) {
+        BulkJob job = bulkJobService.findById(id).orElseThrow(notFound());
+        return ResponseEntity.ok(BulkJobResponse.from(job));
+    }
+
+    @Operation(summary = "自分が投入した一括ジョブ一覧", description = "作成日時の降順で返す（失敗IDを含む、処理対象IDは含まない）")
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkJobListResponse> listMine(
+        @RequestParam(value = "limit", defaultValue = "20") int limit
+    ) {
+        Integer operatorId = requireCurrentEmployeeId();
+        var jobs = bulkJobService.findRecent(operatorId, limit).stream()
+            .map(BulkJobResponse::from)
+            .toList();
+        return ResponseEntity.ok(new BulkJobListResponse(jobs));
+    }
+
+    @Operation(summary = "一括ジョブ取消", description = "未開始のジョブは即時に、実行中のジョブは処理中のチャンクのコミット後に取り消す")
+    @PostMapping("/{id}/cancel")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkJobResponse> cancel(@PathVariable Long id) {
+        try {
+            BulkJob job = bulkJobService.cancel(id).orElseThrow(notFound());
+            return ResponseEntity.accepted().body(BulkJobResponse.from(job));
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage());
+        }
+    }
+
+    @Operation(summary = "一括ジョブ再実行", description = "失敗したジョブを最後にコミットしたチャンクの次から再実行する")
+    @PostMapping("/{id}/retry")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkJobResponse> retry(@PathVariable Long id) {
+        try {
+            BulkJob job = bulkJobService.retry(id).orElseThrow(notFound());
+            return ResponseEntity.accepted().body(BulkJobResponse.from(job));
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage());
+        }
+    }
+
+    private static Supplier<ResponseStatusException> notFound() {
+        return () -> new ResponseStatusException(HttpStatus.NOT_FOUND, "ジョブが見つかりません");
+    }
+
+    private Integer requireCurrentEmployeeId() {
+        Integer employeeId = SecurityUtil.getCurrentEmployeeId();
+        if (employeeId == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "認証が必要です");
+        }
+        return employeeId;
+    }
+}
@@ -10,6 +10,9 @@ import com.example.teamdev.exception.EmployeeNotFoundException;
 import com.example.teamdev.form.EmployeeManageForm;
 import com.example.teamdev.form.ListForm;
 import com.example.teamdev.service.EmployeeService;
+import com.example.teamdev.service.ResourceVersionService;
+import com.example.teamdev.service.dto.ResourceVersion;
+import com.example.teamdev.util.HttpCacheUtil;
 import com.example.teamdev.util.SecurityUtil;
 import jakarta.validation.Valid;
 import java.util.List;
@@ -25,6 +28,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.Operation;
@@ -35,20 +39,29 @@ import io.swagger.v3.oas.annotations.Operation;
 public class EmployeeRestController {
 
     private final EmployeeService employeeService;
+    private final ResourceVersionService resourceVersionService;
 
-    public EmployeeRestController(EmployeeService employeeService) {
+    public EmployeeRestController(EmployeeService employeeService, ResourceVersionService resourceVersionService) {
         this.employeeService = employeeService;
+        this.resourceVersionService = resourceVersionService;
     }
 
-    @Operation(summary = "従業員一覧", description = "管理者のみ絞り込み可能（adminOnly=true）")
+    @Operation(summary = "従業員一覧", description = "管理者のみ絞り込み可能（adminOnly=true）。ETagによる条件付きGETに対応")
     @GetMapping
-    public ResponseEntity<EmployeeListResponse> list(@RequestParam(name = "adminOnly", defaultValue = "false") boolean adminOnly) {
+    public ResponseEntity<EmployeeListResponse> list(
+        @RequestParam(name = "adminOnly", defaultValue = "false") boolean adminOnly,
+        WebRequest webRequest
+    ) {
+        ResourceVersion version = resourceVersionService.employeeList(adminOnly);
+        if (HttpCacheUtil.isNotModified(webRequest, version)) {
+            return null;
+        }
         Integer filterFlag = adminOnly ? 1 : null;
         List<Employee> employees = employeeService.getAllEmployees(filterFlag);
         List<EmployeeSummaryResponse> summaries = employees.stream()
             .map(this::toSummary)
             .toList();
-        return ResponseEntity.ok(new EmployeeListResponse(summaries));
+        return ResponseEntity.ok().cacheControl(HttpCacheUtil.REVALIDATE).body(new EmployeeListResponse(summaries));
     }
 
     @Operation(summary = "従業員作成", description = "新規ユーザーを作成（ADMIN権限が必要）")
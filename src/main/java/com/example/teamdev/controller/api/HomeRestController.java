@@ -4,7 +4,6 @@ import com.example.teamdev.constant.AppConstants;
 import com.example.teamdev.dto.api.common.EmployeeSummaryResponse;
 import com.example.teamdev.dto.api.home.BreakToggleRequest;
 import com.example.teamdev.dto.api.home.HomeDashboardResponse;
-import com.example.teamdev.dto.api.home.HomeNewsItem;
 import com.example.teamdev.dto.api.home.StampRequest;
 import com.example.teamdev.dto.api.home.StampResponse;
 import com.example.teamdev.dto.api.home.StampType;
@@ -13,9 +12,12 @@ import com.example.teamdev.exception.DuplicateStampException;
 import com.example.teamdev.exception.InvalidStampStateException;
 import com.example.teamdev.form.HomeForm;
 import com.example.teamdev.service.HomeAttendanceService;
-import com.example.teamdev.service.HomeNewsService;
+import com.example.teamdev.service.NewsFeedCache;
+import com.example.teamdev.service.ResourceVersionService;
 import com.example.teamdev.service.StampService;
 import com.example.teamdev.service.dto.DailyAttendanceSnapshot;
+import com.example.teamdev.service.dto.ResourceVersion;
+import com.example.teamdev.util.HttpCacheUtil;
 import com.example.teamdev.util.MessageUtil;
 import com.example.teamdev.util.SecurityUtil;
 import jakarta.validation.Valid;
@@ -27,14 +29,15 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.Operation;
 
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
 import java.util.Optional;
 
 @RestController
@@ -44,41 +47,54 @@ public class HomeRestController {
 
     private static final DateTimeFormatter INPUT_FORMATTER = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
     private static final DateTimeFormatter OUTPUT_FORMATTER = DateTimeFormatter.ofPattern(AppConstants.DateFormat.DISPLAY_DATE_TIME);
+    private static final ZoneId BUSINESS_ZONE = ZoneId.of("Asia/Tokyo");
 
-    private final HomeNewsService homeNewsService;
+    private final NewsFeedCache newsFeedCache;
     private final StampService stampService;
     private final HomeAttendanceService homeAttendanceService;
+    private final ResourceVersionService resourceVersionService;
 
     public HomeRestController(
-        HomeNewsService homeNewsService,
+        NewsFeedCache newsFeedCache,
         StampService stampService,
-        HomeAttendanceService homeAttendanceService
+        HomeAttendanceService homeAttendanceService,
+        ResourceVersionService resourceVersionService
     ) {
-        this.homeNewsService = homeNewsService;
+        this.newsFeedCache = newsFeedCache;
         this.stampService = stampService;
         this.homeAttendanceService = homeAttendanceService;
+        this.resourceVersionService = resourceVersionService;
     }
 
-    @Operation(summary = "ホーム概要", description = "ログイン中の従業員情報とお知らせ一覧を返却")
+    @Operation(summary = "ホーム概要", description = "ログイン中の従業員情報とお知らせ一覧を返却（ETagによる条件付きGETに対応）")
     @GetMapping(value = "/overview", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<HomeDashboardResponse> overview() {
+    public ResponseEntity<HomeDashboardResponse> overview(WebRequest webRequest) {
         Employee currentEmployee = SecurityUtil.getCurrentEmployee();
         if (currentEmployee == null) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Authentication required");
         }
 
-        List<HomeNewsItem> newsItems = homeNewsService.execute();
+        NewsFeedCache.HomeNews news = newsFeedCache.homeNews();
+        ResourceVersion version = resourceVersionService.homeOverview(
+            currentEmployee.getId(),
+            LocalDate.now(BUSINESS_ZONE),
+            news.etag()
+        );
+        if (HttpCacheUtil.isNotModified(webRequest, version)) {
+            return null;
+        }
+
         Optional<DailyAttendanceSnapshot> attendance = homeAttendanceService.fetchTodaySnapshot(
             currentEmployee.getId(),
-            ZoneId.of("Asia/Tokyo")
+            BUSINESS_ZONE
         );
 
         HomeDashboardResponse response = new HomeDashboardResponse(
             toEmployeeSummary(currentEmployee),
-            newsItems,
+            news.items(),
             attendance.orElse(null)
         );
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().cacheControl(HttpCacheUtil.REVALIDATE).body(response);
     }
 
     @Operation(summary = "打刻", description = "出勤/退勤の打刻を記録")
@@ -103,7 +119,7 @@ public class HomeRestController {
 
         OffsetDateTime dateTime = OffsetDateTime.parse(request.stampTime(), INPUT_FORMATTER);
         // 日本時間に変換してフォーマット
-        String formattedDateTime = dateTime.atZoneSameInstant(ZoneId.of("Asia/Tokyo"))
+        String formattedDateTime = dateTime.atZoneSameInstant(BUSINESS_ZONE)
             .format(OUTPUT_FORMATTER);
         String messageKey = request.stampType() == StampType.ATTENDANCE ?
             "stamp.attendance.success" : "stamp.departure.success";
@@ -0,0 +1,63 @@
+package com.example.teamdev.controller.api;
+
+import com.example.teamdev.dto.api.kiosk.KioskPunchBatchRequest;
+import com.example.teamdev.dto.api.kiosk.KioskPunchBatchResponse;
+import com.example.teamdev.dto.api.kiosk.KioskPunchRequest;
+import com.example.teamdev.dto.api.kiosk.KioskPunchResultResponse;
+import com.example.teamdev.service.StampPunchBatchService;
+import com.example.teamdev.util.SecurityUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * キオスク端末の一括打刻 API。
+ * 端末がオフライン中に蓄積した複数従業員の打刻を1リクエストで受け付け、冪等キーごとの処理結果を返します。
+ * キオスク端末のアカウント（KIOSK 権限）のみ使用でき、冪等キーは端末のアカウントごとに区別します。
+ */
+@RestController
+@RequestMapping("/api/kiosk")
+@Tag(name = "Kiosk", description = "キオスク端末の一括打刻 API")
+public class KioskPunchRestController {
+
+    private static final Logger logger = LoggerFactory.getLogger(KioskPunchRestController.class);
+
+    private final StampPunchBatchService stampPunchBatchService;
+
+    public KioskPunchRestController(StampPunchBatchService stampPunchBatchService) {
+        this.stampPunchBatchService = stampPunchBatchService;
+    }
+
+    @Operation(
+        summary = "一括打刻",
+        description = "打刻を1トランザクションで従業員ごとに打刻時刻の順で記録する。"
+            + "処理済みの冪等キー（端末・従業員ごと）は何も変更せず初回の処理結果を返す（replayed=true）")
+    @PostMapping(value = "/punches", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('KIOSK')")
+    public ResponseEntity<KioskPunchBatchResponse> punch(@Valid @RequestBody KioskPunchBatchRequest request) {
+        Integer kioskId = SecurityUtil.getCurrentEmployeeId();
+        if (kioskId == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Authentication required");
+        }
+        try {
+            var results = stampPunchBatchService.apply(kioskId,
+                request.punches().stream().map(KioskPunchRequest::toStampPunch).toList());
+            return ResponseEntity.ok(new KioskPunchBatchResponse(
+                results.stream().map(KioskPunchResultResponse::from).toList()));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Kiosk punch batch rejected: {}", e.getMessage());
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+}
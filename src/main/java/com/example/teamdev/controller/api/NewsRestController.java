@@ -1,6 +1,7 @@
 package com.example.teamdev.controller.api;
 
-import com.example.teamdev.constant.AppConstants;
+import com.example.teamdev.dto.api.news.NewsBatchDeleteRequest;
+import com.example.teamdev.dto.api.news.NewsBatchPublishRequest;
 import com.example.teamdev.dto.api.news.NewsBulkDeleteRequest;
 import com.example.teamdev.dto.api.news.NewsBulkOperationResponse;
 import com.example.teamdev.dto.api.news.NewsBulkPublishRequest;
@@ -12,24 +13,30 @@ import com.example.teamdev.dto.api.news.NewsUpdateRequest;
 import com.example.teamdev.entity.News;
 import com.example.teamdev.form.ListForm;
 import com.example.teamdev.form.NewsManageForm;
+import com.example.teamdev.service.NewsFeedCache;
+import com.example.teamdev.service.NewsManageBatchService;
 import com.example.teamdev.service.NewsManageBulkDeletionService;
 import com.example.teamdev.service.NewsManageBulkReleaseService;
 import com.example.teamdev.service.NewsManageDeletionService;
 import com.example.teamdev.service.NewsManageRegistrationService;
 import com.example.teamdev.service.NewsManageReleaseService;
 import com.example.teamdev.service.NewsManageService;
+import com.example.teamdev.util.HttpCacheUtil;
 import com.example.teamdev.util.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
-import java.time.OffsetDateTime;
-import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -39,8 +46,10 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 
 @RestController
@@ -56,6 +65,8 @@ public class NewsRestController {
     private final NewsManageReleaseService releaseService;
     private final NewsManageBulkDeletionService bulkDeletionService;
     private final NewsManageBulkReleaseService bulkReleaseService;
+    private final NewsManageBatchService batchService;
+    private final NewsFeedCache newsFeedCache;
 
     public NewsRestController(
         NewsManageService newsManageService,
@@ -63,7 +74,9 @@ public class NewsRestController {
         NewsManageDeletionService deletionService,
         NewsManageReleaseService releaseService,
         NewsManageBulkDeletionService bulkDeletionService,
-        NewsManageBulkReleaseService bulkReleaseService
+        NewsManageBulkReleaseService bulkReleaseService,
+        NewsManageBatchService batchService,
+        NewsFeedCache newsFeedCache
     ) {
         this.newsManageService = newsManageService;
         this.registrationService = registrationService;
@@ -71,6 +84,8 @@ public class NewsRestController {
         this.releaseService = releaseService;
         this.bulkDeletionService = bulkDeletionService;
         this.bulkReleaseService = bulkReleaseService;
+        this.batchService = batchService;
+        this.newsFeedCache = newsFeedCache;
     }
 
     @Operation(summary = "お知らせ一覧取得", description = "すべてのお知らせを日付降順で取得（管理者向け）")
@@ -83,13 +98,29 @@ public class NewsRestController {
         return ResponseEntity.ok(new NewsListResponse(news));
     }
 
-    @Operation(summary = "公開お知らせ一覧取得", description = "公開フラグがtrueのお知らせを日付降順で取得")
+    @Operation(summary = "公開お知らせ一覧取得",
+        description = "公開フラグがtrueのお知らせを日付降順で取得（シリアライズ済みキャッシュから返却、ETagによる条件付きGETとgzipに対応）")
+    @ApiResponse(responseCode = "200", description = "公開お知らせ一覧",
+        content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            schema = @Schema(implementation = NewsListResponse.class)))
     @GetMapping("/published")
-    public ResponseEntity<NewsListResponse> listPublished() {
-        List<NewsResponse> news = newsManageService.getPublishedNews().stream()
-            .map(this::toResponse)
-            .toList();
-        return ResponseEntity.ok(new NewsListResponse(news));
+    public ResponseEntity<byte[]> listPublished(
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+        WebRequest webRequest
+    ) {
+        NewsFeedCache.SerializedFeed feed = newsFeedCache.publishedFeed();
+        boolean gzip = acceptsGzip(acceptEncoding);
+        if (webRequest.checkNotModified(feed.etag(gzip))) {
+            return null;
+        }
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+            .cacheControl(HttpCacheUtil.REVALIDATE)
+            .contentType(MediaType.APPLICATION_JSON)
+            .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(feed.gzip());
+        }
+        return builder.body(feed.json());
     }
 
     @Operation(summary = "お知らせ作成", description = "新規お知らせを作成（ADMIN権限が必要）")
@@ -259,6 +290,64 @@ public class NewsRestController {
         }
     }
 
+    @Operation(
+        summary = "お知らせ大量一括削除",
+        description = "アーカイブ整理向けに最大10000件を一括削除（内部でチャンク分割してコミット、ADMIN権限が必要）"
+    )
+    @PostMapping("/batch/delete")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<NewsBulkOperationResponse> batchDelete(
+        @Valid @RequestBody NewsBatchDeleteRequest request
+    ) {
+        Integer operatorId = requireCurrentEmployeeId();
+        try {
+            var result = batchService.delete(request.ids(), operatorId);
+            return ResponseEntity.ok(new NewsBulkOperationResponse(
+                result.successCount(),
+                result.failureCount(),
+                result.results()
+            ));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Batch delete validation error: {}", e.getMessage());
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (Exception e) {
+            logger.error("Batch delete failed", e);
+            throw new ResponseStatusException(
+                HttpStatus.INTERNAL_SERVER_ERROR,
+                "一括削除に失敗しました: " + extractRootCause(e)
+            );
+        }
+    }
+
+    @Operation(
+        summary = "お知らせ大量一括公開切り替え",
+        description = "アーカイブ整理向けに最大10000件の公開ステータスを一括変更（内部でチャンク分割してコミット、ADMIN権限が必要）"
+    )
+    @PatchMapping("/batch/publish")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<NewsBulkOperationResponse> batchPublish(
+        @Valid @RequestBody NewsBatchPublishRequest request
+    ) {
+        Integer operatorId = requireCurrentEmployeeId();
+        try {
+            var result = batchService.publish(request.items(), operatorId);
+            return ResponseEntity.ok(new NewsBulkOperationResponse(
+                result.successCount(),
+                result.failureCount(),
+                result.results()
+            ));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Batch publish validation error: {}", e.getMessage());
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (Exception e) {
+            logger.error("Batch publish toggle failed", e);
+            throw new ResponseStatusException(
+                HttpStatus.INTERNAL_SERVER_ERROR,
+                "一括公開切り替えに失敗しました: " + extractRootCause(e)
+            );
+        }
+    }
+
     private Integer requireCurrentEmployeeId() {
         Integer operatorId = SecurityUtil.getCurrentEmployeeId();
         if (operatorId == null) {
@@ -272,36 +361,22 @@ public class NewsRestController {
         return news.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "News not found"));
     }
 
+    private boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                // "gzip;q=0" は明示的な拒否
+                return parts.length < 2 || !parts[1].trim().replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
     private NewsResponse toResponse(News news) {
-        boolean releaseFlag = Boolean.TRUE.equals(news.getReleaseFlag());
-        String updateDate = news.getUpdateDate() != null
-            ? OffsetDateTime.ofInstant(news.getUpdateDate().toInstant(), ZoneOffset.UTC).toString()
-            : null;
-        String newsDate = news.getNewsDate() != null ? news.getNewsDate().toString() : null;
-        String content = Optional.ofNullable(news.getContent()).orElse("");
-        String fallbackTitle = Optional.ofNullable(news.getContent())
-            .map(String::trim)
-            .filter(value -> !value.isEmpty())
-            .orElse("お知らせ");
-        String title = Optional.ofNullable(news.getTitle())
-            .map(String::trim)
-            .filter(value -> !value.isEmpty())
-            .orElse(fallbackTitle);
-        String label = Optional.ofNullable(news.getLabel())
-            .map(String::trim)
-            .filter(value -> !value.isEmpty())
-            .map(String::toUpperCase)
-            .filter(AppConstants.News.Label::isValid)
-            .orElse(AppConstants.News.DEFAULT_LABEL);
-        return new NewsResponse(
-            news.getId(),
-            newsDate,
-            title,
-            content,
-            label,
-            releaseFlag,
-            updateDate
-        );
+        return NewsResponse.from(news);
     }
 
     /**
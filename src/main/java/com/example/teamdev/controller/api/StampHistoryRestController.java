@@ -2,9 +2,14 @@ package com.example.teamdev.controller.api;
 
 import com.example.teamdev.dto.api.stamp.StampHistoryEntryResponse;
 import com.example.teamdev.dto.api.stamp.StampHistoryResponse;
+import com.example.teamdev.service.ResourceVersionService;
 import com.example.teamdev.service.StampHistoryService;
+import com.example.teamdev.service.dto.ResourceVersion;
+import com.example.teamdev.util.HttpCacheUtil;
 import com.example.teamdev.util.SecurityUtil;
+import java.time.DateTimeException;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Map;
 import org.springframework.http.HttpStatus;
@@ -14,6 +19,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.Operation;
@@ -24,16 +30,22 @@ import io.swagger.v3.oas.annotations.Operation;
 public class StampHistoryRestController {
 
     private final StampHistoryService stampHistoryService;
+    private final ResourceVersionService resourceVersionService;
 
-    public StampHistoryRestController(StampHistoryService stampHistoryService) {
+    public StampHistoryRestController(
+        StampHistoryService stampHistoryService,
+        ResourceVersionService resourceVersionService
+    ) {
         this.stampHistoryService = stampHistoryService;
+        this.resourceVersionService = resourceVersionService;
     }
 
     @Operation(summary = "打刻履歴取得", description = "年・月の指定がなければ当月を返却")
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<StampHistoryResponse> history(
         @RequestParam(value = "year", required = false) String year,
-        @RequestParam(value = "month", required = false) String month
+        @RequestParam(value = "month", required = false) String month,
+        WebRequest webRequest
     ) {
         Integer employeeId = SecurityUtil.getCurrentEmployeeId();
         if (employeeId == null) {
@@ -44,7 +56,18 @@ public class StampHistoryRestController {
         String resolvedYear = (year != null && !year.isBlank()) ? year : String.valueOf(today.getYear());
         String resolvedMonth = (month != null && !month.isBlank()) ? month : String.format("%02d", today.getMonthValue());
 
-        List<Map<String, Object>> entries = stampHistoryService.execute(resolvedYear, resolvedMonth, employeeId);
+        YearMonth target = parseYearMonth(resolvedYear, resolvedMonth);
+        String etag = null;
+        if (target != null) {
+            ResourceVersion version = resourceVersionService.stampHistory(employeeId, target);
+            if (HttpCacheUtil.isNotModified(webRequest, version)) {
+                return null;
+            }
+            etag = version.etag();
+        }
+
+        // 本体はETagと同じバージョン以降のデータを返す（古い本体が新しいETagでクライアントに保存されないようにする）
+        List<Map<String, Object>> entries = stampHistoryService.execute(resolvedYear, resolvedMonth, employeeId, etag);
         List<String> years = stampHistoryService.getYearList();
         List<String> months = stampHistoryService.getMonthList();
 
@@ -53,7 +76,18 @@ public class StampHistoryRestController {
             .toList();
 
         StampHistoryResponse response = new StampHistoryResponse(resolvedYear, resolvedMonth, years, months, mappedEntries);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().cacheControl(HttpCacheUtil.REVALIDATE).body(response);
+    }
+
+    /**
+     * 年・月の文字列を解析します。解析できない場合は条件付きGETを行わず従来どおり処理させるため null を返します。
+     */
+    private YearMonth parseYearMonth(String year, String month) {
+        try {
+            return YearMonth.of(Integer.parseInt(year.trim()), Integer.parseInt(month.trim()));
+        } catch (NumberFormatException | DateTimeException e) {
+            return null;
+        }
     }
 
     private StampHistoryEntryResponse toEntry(Map<String, Object> source) {
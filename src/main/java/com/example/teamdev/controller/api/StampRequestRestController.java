@@ -5,6 +5,9 @@ import com.example.teamdev.dto.api.stamprequest.StampRequestBulkApprovalRequest;
 import com.example.teamdev.dto.api.stamprequest.StampRequestBulkOperationResponse;
 import com.example.teamdev.dto.api.stamprequest.StampRequestBulkRejectionRequest;
 import com.example.teamdev.dto.api.stamprequest.StampRequestCancellationRequest;
+import com.example.teamdev.dto.api.stamprequest.StampRequestClaimReleaseRequest;
+import com.example.teamdev.dto.api.stamprequest.StampRequestClaimRequest;
+import com.example.teamdev.dto.api.stamprequest.StampRequestClaimResponse;
 import com.example.teamdev.dto.api.stamprequest.StampRequestCreateRequest;
 import com.example.teamdev.dto.api.stamprequest.StampRequestListResponse;
 import com.example.teamdev.dto.api.stamprequest.StampRequestRejectionRequest;
@@ -18,6 +21,7 @@ import com.example.teamdev.service.StampRequestBulkOperationService;
 import com.example.teamdev.service.StampRequestCancellationService;
 import com.example.teamdev.service.StampRequestQueryService;
 import com.example.teamdev.service.StampRequestRegistrationService;
+import com.example.teamdev.service.StampRequestReviewQueueService;
 import com.example.teamdev.util.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -53,6 +57,7 @@ public class StampRequestRestController {
     private final StampRequestApprovalService approvalService;
     private final StampRequestCancellationService cancellationService;
     private final StampRequestBulkOperationService bulkOperationService;
+    private final StampRequestReviewQueueService reviewQueueService;
     private final EmployeeMapper employeeMapper;
 
     public StampRequestRestController(
@@ -61,6 +66,7 @@ public class StampRequestRestController {
         StampRequestApprovalService approvalService,
         StampRequestCancellationService cancellationService,
         StampRequestBulkOperationService bulkOperationService,
+        StampRequestReviewQueueService reviewQueueService,
         EmployeeMapper employeeMapper
     ) {
         this.queryService = queryService;
@@ -68,6 +74,7 @@ public class StampRequestRestController {
         this.approvalService = approvalService;
         this.cancellationService = cancellationService;
         this.bulkOperationService = bulkOperationService;
+        this.reviewQueueService = reviewQueueService;
         this.employeeMapper = employeeMapper;
     }
 
@@ -110,11 +117,44 @@ public class StampRequestRestController {
         @RequestParam(defaultValue = "0") Integer page,
         @RequestParam(defaultValue = "20") Integer size
     ) {
-        List<StampRequest> requests = queryService.getPendingRequests(page, size, status, search, sort);
-        Integer totalCount = queryService.countPendingRequests(status, search);
+        // 他の管理者が割り当て中の申請は一覧に含めない
+        Integer reviewerId = requireCurrentEmployeeId();
+        List<StampRequest> requests = queryService.getPendingRequests(page, size, status, search, sort, reviewerId);
+        Integer totalCount = queryService.countPendingRequests(status, search, reviewerId);
         return ResponseEntity.ok(toListResponse(requests, totalCount, page, size));
     }
 
+    @PostMapping("/claims")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "承認キューから次の打刻修正リクエストを割り当てる")
+    public ResponseEntity<?> claimRequests(
+        @Valid @RequestBody(required = false) StampRequestClaimRequest request
+    ) {
+        Integer reviewerId = requireCurrentEmployeeId();
+        try {
+            List<StampRequest> claimed =
+                reviewQueueService.claimNext(reviewerId, request != null ? request.count() : null);
+            String claimExpiresAt = claimed.isEmpty() ? null : toIso(claimed.get(0).getClaimExpiresAt());
+            return ResponseEntity.ok(new StampRequestClaimResponse(
+                claimed.stream().map(this::toResponse).toList(),
+                claimExpiresAt
+            ));
+        } catch (IllegalArgumentException e) {
+            return buildError(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    @PostMapping("/claims/release")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "承認キューの割り当てを解除する")
+    public ResponseEntity<?> releaseClaims(
+        @Valid @RequestBody(required = false) StampRequestClaimReleaseRequest request
+    ) {
+        Integer reviewerId = requireCurrentEmployeeId();
+        int released = reviewQueueService.release(reviewerId, request != null ? request.requestIds() : null);
+        return ResponseEntity.ok(Map.of("releasedCount", released));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "打刻修正リクエスト詳細を取得する")
     public ResponseEntity<StampRequestResponse> getRequestDetail(@PathVariable Integer id) {
@@ -8,8 +8,10 @@ import com.example.teamdev.service.StampDeleteService;
 import com.example.teamdev.service.StampEditService;
 import com.example.teamdev.util.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
@@ -19,6 +21,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -27,6 +30,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
 
@@ -69,14 +73,16 @@ public class StampRestController {
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
 
-    @Operation(summary = "打刻履歴更新", description = "打刻IDを指定して時刻を更新する")
+    @Operation(summary = "打刻履歴更新", description = "打刻IDと勤務日を指定して時刻を更新する")
     @PutMapping("/{id}")
     public ResponseEntity<Void> updateStamp(
         @PathVariable Integer id,
+        @Parameter(description = "勤務日（打刻履歴の主キーの一部。省略時はIDのみで検索）", example = "2025-11-14")
+        @RequestParam(value = "stampDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate stampDate,
         @Valid @RequestBody StampUpdateRequest request
     ) {
         Integer operatorId = requireAuthenticatedEmployeeId();
-        StampHistory target = fetchAndAuthorize(id, operatorId);
+        StampHistory target = fetchAndAuthorize(id, stampDate, operatorId);
 
         Map<String, Object> payload = buildUpdatePayload(target, request);
         stampEditService.execute(List.of(payload), operatorId);
@@ -84,13 +90,17 @@ public class StampRestController {
         return ResponseEntity.noContent().build();
     }
 
-    @Operation(summary = "打刻履歴削除", description = "打刻IDを指定して削除する")
+    @Operation(summary = "打刻履歴削除", description = "打刻IDと勤務日を指定して削除する")
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteStamp(@PathVariable Integer id) {
+    public ResponseEntity<Void> deleteStamp(
+        @PathVariable Integer id,
+        @Parameter(description = "勤務日（打刻履歴の主キーの一部。省略時はIDのみで検索）", example = "2025-11-14")
+        @RequestParam(value = "stampDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate stampDate
+    ) {
         Integer operatorId = requireAuthenticatedEmployeeId();
-        fetchAndAuthorize(id, operatorId);
+        fetchAndAuthorize(id, stampDate, operatorId);
 
-        boolean deleted = stampDeleteService.deleteStampById(id, operatorId);
+        boolean deleted = stampDeleteService.deleteStampById(id, stampDate, operatorId);
         if (!deleted) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Stamp not found");
         }
@@ -106,8 +116,8 @@ public class StampRestController {
         return employeeId;
     }
 
-    private StampHistory fetchAndAuthorize(Integer id, Integer operatorId) {
-        Optional<StampHistory> optionalStamp = stampHistoryMapper.getById(id);
+    private StampHistory fetchAndAuthorize(Integer id, LocalDate stampDate, Integer operatorId) {
+        Optional<StampHistory> optionalStamp = stampHistoryMapper.getById(id, stampDate);
         if (optionalStamp.isEmpty()) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Stamp not found");
         }
@@ -124,9 +134,11 @@ public class StampRestController {
         Map<String, Object> payload = new HashMap<>();
         payload.put("id", target.getId().toString());
         payload.put("employeeId", target.getEmployeeId().toString());
-        payload.put("year", target.getYear());
-        payload.put("month", target.getMonth());
-        payload.put("day", target.getDay());
+        // 編集フォームは年月日を文字列で受け取るため、勤務日から組み立てる
+        LocalDate stampDate = target.getStampDate();
+        payload.put("year", String.format("%04d", stampDate.getYear()));
+        payload.put("month", String.format("%02d", stampDate.getMonthValue()));
+        payload.put("day", String.format("%02d", stampDate.getDayOfMonth()));
 
         String resolvedInTime = resolveTimeValue(request.inTime(), target.getInTime());
         if (resolvedInTime != null) {
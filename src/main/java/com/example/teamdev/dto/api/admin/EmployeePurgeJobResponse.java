@@ -0,0 +1,89 @@
+package com.example.teamdev.dto.api.admin;
+
+import com.example.teamdev.entity.EmployeePurgeJob;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.OffsetDateTime;
+
+/**
+ * 論理削除した従業員のデータ削除ジョブの状態
+ */
+@Schema(description = "論理削除した従業員のデータ削除ジョブの状態")
+public record EmployeePurgeJobResponse(
+    @Schema(description = "削除対象の従業員ID", example = "12")
+    Integer employeeId,
+
+    @Schema(description = "ステータス", example = "RUNNING",
+        allowableValues = {"QUEUED", "RUNNING", "SUCCEEDED", "FAILED"})
+    String status,
+
+    @Schema(description = "処理中のフェーズ", example = "STAMP_HISTORY",
+        allowableValues = {"LOG_HISTORY", "STAMP_REQUEST", "STAMP_HISTORY", "EMPLOYEE"})
+    String phase,
+
+    @Schema(description = "削除を実行した従業員ID", example = "1")
+    Integer requestedBy,
+
+    @Schema(description = "削除済みの操作履歴の件数", example = "320")
+    int logHistoryDeleted,
+
+    @Schema(description = "削除済みの打刻修正申請の件数", example = "15")
+    int stampRequestDeleted,
+
+    @Schema(description = "削除済みの打刻記録の件数（コミット済みのチャンクまで）", example = "2000")
+    int stampHistoryDeleted,
+
+    @Schema(description = "コミットしたチャンク数", example = "5")
+    int chunkCount,
+
+    @Schema(description = "直近のチャンクの処理時間（ミリ秒）", example = "40")
+    Integer lastChunkMillis,
+
+    @Schema(description = "直近のチャンク後の待機時間（ミリ秒）", example = "50")
+    Integer lastSleepMillis,
+
+    @Schema(description = "他のデータから参照されているため従業員を論理削除のまま残したかどうか")
+    boolean employeeRetained,
+
+    @Schema(description = "ジョブの失敗理由")
+    String errorMessage,
+
+    OffsetDateTime createdAt,
+
+    OffsetDateTime startedAt,
+
+    OffsetDateTime updatedAt,
+
+    OffsetDateTime finishedAt
+) {
+
+    /**
+     * エンティティからレスポンスを生成します。
+     *
+     * @param job ジョブ
+     * @return レスポンス
+     */
+    public static EmployeePurgeJobResponse from(EmployeePurgeJob job) {
+        return new EmployeePurgeJobResponse(
+            job.getEmployeeId(),
+            job.getStatus(),
+            job.getPhase(),
+            job.getRequestedBy(),
+            orZero(job.getLogHistoryDeleted()),
+            orZero(job.getStampRequestDeleted()),
+            orZero(job.getStampHistoryDeleted()),
+            orZero(job.getChunkCount()),
+            job.getLastChunkMillis(),
+            job.getLastSleepMillis(),
+            Boolean.TRUE.equals(job.getEmployeeRetained()),
+            job.getErrorMessage(),
+            job.getCreatedAt(),
+            job.getStartedAt(),
+            job.getUpdatedAt(),
+            job.getFinishedAt()
+        );
+    }
+
+    private static int orZero(Integer value) {
+        return value != null ? value : 0;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.teamdev.dto.api.admin;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * 遅い SQL ステートメントの一覧
+ */
+@Schema(description = "遅い SQL ステートメントの一覧")
+public record SlowQueryListResponse(
+    @Schema(description = "遅いとみなす実行時間（ミリ秒）", example = "200")
+    long thresholdMillis,
+
+    @Schema(description = "遅いステートメント（新しい順）")
+    List<SlowQueryResponse> queries
+) {
+}
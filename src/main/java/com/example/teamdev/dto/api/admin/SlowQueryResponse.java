@@ -0,0 +1,50 @@
+package com.example.teamdev.dto.api.admin;
+
+import com.example.teamdev.config.SqlStatementMetrics.SlowQuery;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 遅い SQL ステートメントの記録
+ */
+@Schema(description = "遅い SQL ステートメントの記録")
+public record SlowQueryResponse(
+    @Schema(description = "記録日時")
+    Instant occurredAt,
+
+    @Schema(description = "呼び出し元", example = "mybatis", allowableValues = {"mybatis", "jdbc"})
+    String source,
+
+    @Schema(description = "ステートメントID", example = "StampRequestMapper.findWithSearch")
+    String statementId,
+
+    @Schema(description = "実行時間（ミリ秒）", example = "412")
+    long elapsedMillis,
+
+    @Schema(description = "取得・更新行数", example = "20")
+    long rows,
+
+    @Schema(description = "例外のクラス名（正常終了の場合は null）")
+    String error,
+
+    @Schema(description = "SQL（空白を正規化済み）")
+    String sql,
+
+    @Schema(description = "バインドパラメータ（文字列はマスク済み）")
+    List<String> parameters
+) {
+
+    public static SlowQueryResponse from(SlowQuery query) {
+        return new SlowQueryResponse(
+            query.occurredAt(),
+            query.source(),
+            query.statementId(),
+            query.elapsedMillis(),
+            query.rows(),
+            query.error(),
+            query.sql(),
+            query.parameters()
+        );
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.teamdev.dto.api.admin;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import java.time.YearMonth;
+
+/**
+ * 打刻記録の範囲削除ジョブの投入リクエスト
+ */
+@Schema(description = "打刻記録の範囲削除ジョブの投入リクエスト")
+public record StampDeleteJobRequest(
+    @Schema(description = "開始年月（含む）", example = "2023-01", type = "string")
+    @NotNull(message = "開始年月を指定してください")
+    YearMonth startMonth,
+
+    @Schema(description = "終了年月（含む）", example = "2023-12", type = "string")
+    @NotNull(message = "終了年月を指定してください")
+    YearMonth endMonth
+) {
+}
@@ -0,0 +1,109 @@
+package com.example.teamdev.dto.api.admin;
+
+import com.example.teamdev.entity.StampDeleteJob;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+/**
+ * 打刻記録の範囲削除ジョブの状態
+ */
+@Schema(description = "打刻記録の範囲削除ジョブの状態")
+public record StampDeleteJobResponse(
+    @Schema(description = "ジョブID", example = "1")
+    Long id,
+
+    @Schema(description = "ステータス", example = "RUNNING",
+        allowableValues = {"QUEUED", "RUNNING", "PAUSED", "SUCCEEDED", "FAILED", "CANCELLED"})
+    String status,
+
+    @Schema(description = "削除範囲の開始日（含む）", example = "2023-01-01")
+    LocalDate fromDate,
+
+    @Schema(description = "削除範囲の終了日（含まない）", example = "2024-01-01")
+    LocalDate toDate,
+
+    @Schema(description = "処理中の勤務日ウィンドウの開始日（この日より前は削除済み）", example = "2023-06-04")
+    LocalDate windowStart,
+
+    @Schema(description = "開始時点の削除対象件数（開始前は null）", example = "250000")
+    Integer estimatedCount,
+
+    @Schema(description = "削除済み件数（コミット済みのチャンクまで）", example = "120000")
+    int deletedCount,
+
+    @Schema(description = "進捗率（%、開始前は null）", example = "48.0")
+    Double progressPercent,
+
+    @Schema(description = "コミットしたチャンク数", example = "120")
+    int chunkCount,
+
+    @Schema(description = "直近のチャンクの処理時間（ミリ秒）", example = "85")
+    Integer lastChunkMillis,
+
+    @Schema(description = "直近のチャンク後の待機時間（ミリ秒）", example = "85")
+    Integer lastSleepMillis,
+
+    @Schema(description = "直近に計測したレプリカの再生遅延（バイト、レプリカなしの場合は null）", example = "4096")
+    Long lastReplayLagBytes,
+
+    @Schema(description = "ジョブの失敗理由")
+    String errorMessage,
+
+    @Schema(description = "一時停止要求の有無")
+    boolean pauseRequested,
+
+    @Schema(description = "取消要求の有無")
+    boolean cancelRequested,
+
+    OffsetDateTime createdAt,
+
+    OffsetDateTime startedAt,
+
+    OffsetDateTime updatedAt,
+
+    OffsetDateTime finishedAt
+) {
+
+    /**
+     * エンティティからレスポンスを生成します。
+     *
+     * @param job ジョブ
+     * @return レスポンス
+     */
+    public static StampDeleteJobResponse from(StampDeleteJob job) {
+        int deleted = job.getDeletedCount() != null ? job.getDeletedCount() : 0;
+        return new StampDeleteJobResponse(
+            job.getId(),
+            job.getStatus(),
+            job.getFromDate(),
+            job.getToDate(),
+            job.getWindowStart(),
+            job.getEstimatedCount(),
+            deleted,
+            progressPercent(job.getEstimatedCount(), deleted),
+            job.getChunkCount() != null ? job.getChunkCount() : 0,
+            job.getLastChunkMillis(),
+            job.getLastSleepMillis(),
+            job.getLastReplayLagBytes(),
+            job.getErrorMessage(),
+            Boolean.TRUE.equals(job.getPauseRequested()),
+            Boolean.TRUE.equals(job.getCancelRequested()),
+            job.getCreatedAt(),
+            job.getStartedAt(),
+            job.getUpdatedAt(),
+            job.getFinishedAt()
+        );
+    }
+
+    private static Double progressPercent(Integer estimated, int deleted) {
+        if (estimated == null) {
+            return null;
+        }
+        if (estimated == 0) {
+            return 100.0;
+        }
+        // 開始後に追加された打刻も削除するため 100% を超えないよう丸める
+        return Math.min(100.0, Math.round(deleted * 1000.0 / estimated) / 10.0);
+    }
+}
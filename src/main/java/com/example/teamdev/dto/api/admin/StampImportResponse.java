@@ -0,0 +1,58 @@
+package com.example.teamdev.dto.api.admin;
+
+import com.example.teamdev.service.stamp.StampImportResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * 打刻一括取り込みの結果
+ */
+@Schema(description = "打刻一括取り込みの結果")
+public record StampImportResponse(
+    @Schema(description = "読み込んだ行数（ヘッダー・空行を含む）", example = "10001")
+    long linesRead,
+
+    @Schema(description = "検証を通過した行数", example = "9998")
+    long staged,
+
+    @Schema(description = "新規に作成した打刻記録の件数", example = "9000")
+    long inserted,
+
+    @Schema(description = "既存の打刻記録を更新した件数", example = "998")
+    long updated,
+
+    @Schema(description = "取り込めなかった行数", example = "2")
+    long rejectedCount,
+
+    @Schema(description = "取り込めなかった行（先頭から最大 app.stamp-import.max-reported-rejects 件）")
+    List<Reject> rejects,
+
+    @Schema(description = "取り込めなかった行の一部を省略した場合は true")
+    boolean rejectsTruncated
+) {
+
+    /**
+     * 取り込めなかった行
+     */
+    @Schema(description = "取り込めなかった行")
+    public record Reject(
+        @Schema(description = "行番号（1始まり）", example = "42")
+        long lineNumber,
+
+        @Schema(description = "理由", example = "Unknown employee ID: 999")
+        String reason
+    ) {
+    }
+
+    public static StampImportResponse from(StampImportResult result) {
+        return new StampImportResponse(
+            result.linesRead(),
+            result.staged(),
+            result.inserted(),
+            result.updated(),
+            result.rejectedCount(),
+            result.rejects().stream().map(r -> new Reject(r.lineNumber(), r.reason())).toList(),
+            result.rejectsTruncated()
+        );
+    }
+}
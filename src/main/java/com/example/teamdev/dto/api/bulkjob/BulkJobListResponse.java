@@ -0,0 +1,13 @@
+package com.example.teamdev.dto.api.bulkjob;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * 非同期一括ジョブ一覧
+ */
+@Schema(description = "非同期一括ジョブ一覧")
+public record BulkJobListResponse(
+    List<BulkJobResponse> jobs
+) {
+}
@@ -0,0 +1,78 @@
+package com.example.teamdev.dto.api.bulkjob;
+
+import com.example.teamdev.entity.BulkJob;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * 非同期一括ジョブの状態
+ */
+@Schema(description = "非同期一括ジョブの状態")
+public record BulkJobResponse(
+    @Schema(description = "ジョブID", example = "1")
+    Long id,
+
+    @Schema(description = "ジョブ種別", example = "STAMP_REQUEST_APPROVE")
+    String type,
+
+    @Schema(description = "ステータス", example = "RUNNING",
+        allowableValues = {"QUEUED", "RUNNING", "SUCCEEDED", "FAILED", "CANCELLED"})
+    String status,
+
+    @Schema(description = "対象件数", example = "2500")
+    int totalCount,
+
+    @Schema(description = "処理済み件数（コミット済みのチャンクまで）", example = "1000")
+    int processedCount,
+
+    @Schema(description = "成功件数", example = "990")
+    int successCount,
+
+    @Schema(description = "失敗件数", example = "10")
+    int failureCount,
+
+    @Schema(description = "失敗した対象ID")
+    List<Integer> failedIds,
+
+    @Schema(description = "ジョブ全体の失敗理由")
+    String errorMessage,
+
+    @Schema(description = "取消要求の有無")
+    boolean cancelRequested,
+
+    OffsetDateTime createdAt,
+
+    OffsetDateTime startedAt,
+
+    OffsetDateTime finishedAt
+) {
+
+    /**
+     * エンティティからレスポンスを生成します。
+     *
+     * @param job ジョブ
+     * @return レスポンス
+     */
+    public static BulkJobResponse from(BulkJob job) {
+        return new BulkJobResponse(
+            job.getId(),
+            job.getJobType(),
+            job.getStatus(),
+            valueOf(job.getTotalCount()),
+            valueOf(job.getNextOffset()),
+            valueOf(job.getSuccessCount()),
+            valueOf(job.getFailureCount()),
+            job.getFailedIds() != null ? List.of(job.getFailedIds()) : List.of(),
+            job.getErrorMessage(),
+            Boolean.TRUE.equals(job.getCancelRequested()),
+            job.getCreatedAt(),
+            job.getStartedAt(),
+            job.getFinishedAt()
+        );
+    }
+
+    private static int valueOf(Integer value) {
+        return value != null ? value : 0;
+    }
+}
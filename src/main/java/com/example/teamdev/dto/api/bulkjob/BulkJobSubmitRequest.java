@@ -0,0 +1,29 @@
+package com.example.teamdev.dto.api.bulkjob;
+
+import com.example.teamdev.constant.BulkJobType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 非同期一括ジョブ投入リクエスト
+ */
+@Schema(description = "非同期一括ジョブ投入リクエスト")
+public record BulkJobSubmitRequest(
+    @Schema(description = "ジョブ種別", example = "STAMP_REQUEST_APPROVE")
+    @NotNull(message = "ジョブ種別を指定してください")
+    BulkJobType type,
+
+    @Schema(description = "処理対象IDのリスト（STAMP_MONTH_DELETE は yyyyMM 形式の年月）", example = "[101, 102]")
+    @NotEmpty(message = "処理対象を最低1件指定してください")
+    @Size(max = 10000, message = "一度に処理できる対象は10000件までです")
+    List<Integer> targetIds,
+
+    @Schema(description = "ジョブ種別ごとのパラメータ（approvalNote / rejectionReason / releaseFlag）",
+        example = "{\"approvalNote\": \"内容確認済み\"}")
+    Map<String, String> parameters
+) {
+}
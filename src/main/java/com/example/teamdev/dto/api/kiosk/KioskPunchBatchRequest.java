@@ -0,0 +1,17 @@
+package com.example.teamdev.dto.api.kiosk;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+
+/**
+ * キオスク端末の一括打刻リクエスト
+ */
+@Schema(description = "キオスク端末の一括打刻リクエスト")
+public record KioskPunchBatchRequest(
+    @Schema(description = "打刻（最大 app.kiosk.max-batch-size 件）")
+    @NotEmpty(message = "打刻を最低1件指定してください")
+    List<@Valid KioskPunchRequest> punches
+) {
+}
@@ -0,0 +1,14 @@
+package com.example.teamdev.dto.api.kiosk;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * キオスク端末の一括打刻の処理結果
+ */
+@Schema(description = "キオスク端末の一括打刻の処理結果")
+public record KioskPunchBatchResponse(
+    @Schema(description = "リクエストと同じ順序の処理結果")
+    List<KioskPunchResultResponse> results
+) {
+}
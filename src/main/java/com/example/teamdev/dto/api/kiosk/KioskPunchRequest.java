@@ -0,0 +1,39 @@
+package com.example.teamdev.dto.api.kiosk;
+
+import com.example.teamdev.dto.api.home.StampType;
+import com.example.teamdev.service.dto.StampPunch;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * キオスク端末の1件の打刻
+ */
+@Schema(description = "キオスク端末の1件の打刻")
+public record KioskPunchRequest(
+    @Schema(description = "端末が採番した冪等キー（再送時も同じ値）", example = "kiosk-01:2025-10-01T09:00:03+09:00:1001")
+    @NotBlank(message = "冪等キーを指定してください")
+    @Size(max = 128, message = "冪等キーは128文字以内で指定してください")
+    String idempotencyKey,
+
+    @Schema(description = "従業員ID", example = "1001")
+    @NotNull(message = "従業員IDを指定してください")
+    Integer employeeId,
+
+    @Schema(description = "打刻種別", example = "1")
+    @NotNull(message = "打刻種別を指定してください")
+    StampType stampType,
+
+    @Schema(description = "打刻時刻(ISO)", example = "2025-10-01T09:00:03+09:00")
+    @NotBlank(message = "打刻時刻を指定してください")
+    String stampTime,
+
+    @Schema(description = "深夜勤務フラグ（退勤を前日の勤務として記録）", example = "false")
+    boolean nightWork
+) {
+
+    public StampPunch toStampPunch() {
+        return new StampPunch(idempotencyKey, employeeId, stampType, stampTime, nightWork);
+    }
+}
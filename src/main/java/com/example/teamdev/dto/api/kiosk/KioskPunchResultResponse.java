@@ -0,0 +1,37 @@
+package com.example.teamdev.dto.api.kiosk;
+
+import com.example.teamdev.constant.StampPunchOutcome;
+import com.example.teamdev.service.dto.StampPunchResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 1件の打刻の処理結果
+ */
+@Schema(description = "1件の打刻の処理結果")
+public record KioskPunchResultResponse(
+    @Schema(description = "冪等キー", example = "kiosk-01:2025-10-01T09:00:03+09:00:1001")
+    String idempotencyKey,
+
+    @Schema(description = "従業員ID", example = "1001")
+    int employeeId,
+
+    @Schema(description = "処理結果（再送の場合は初回の処理結果）", example = "APPLIED")
+    StampPunchOutcome outcome,
+
+    @Schema(description = "記録しなかった理由", nullable = true)
+    String message,
+
+    @Schema(description = "処理済みの冪等キーのため今回は何も変更しなかった場合は true", example = "false")
+    boolean replayed
+) {
+
+    public static KioskPunchResultResponse from(StampPunchResult result) {
+        return new KioskPunchResultResponse(
+            result.idempotencyKey(),
+            result.employeeId(),
+            result.outcome(),
+            result.message(),
+            result.replayed()
+        );
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.teamdev.dto.api.news;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * お知らせ大量一括公開/非公開リクエスト（アーカイブ整理向け）
+ */
+@Schema(description = "お知らせ大量一括公開/非公開リクエスト")
+public record NewsBatchPublishRequest(
+    @Schema(description = "公開ステータス変更リスト")
+    @NotEmpty(message = "変更対象を最低1件指定してください")
+    @Size(min = 1, max = 10000, message = "一度に変更できるのは10000件までです")
+    @Valid
+    List<NewsBulkPublishRequest.NewsPublishItem> items
+) {
+}
@@ -1,6 +1,11 @@
 package com.example.teamdev.dto.api.news;
 
+import com.example.teamdev.constant.AppConstants;
+import com.example.teamdev.entity.News;
 import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
 
 public record NewsResponse(
     @Schema(description = "お知らせID", example = "42")
@@ -18,4 +23,43 @@ public record NewsResponse(
     @Schema(description = "更新日時（ISO 8601形式）", example = "2025-10-15T12:34:56Z")
     String updateDate
 ) {
+
+    /**
+     * エンティティからレスポンスを生成します。
+     * タイトル・ラベルが未設定の場合は表示用の既定値で補完します。
+     *
+     * @param news お知らせエンティティ
+     * @return お知らせレスポンス
+     */
+    public static NewsResponse from(News news) {
+        boolean releaseFlag = Boolean.TRUE.equals(news.getReleaseFlag());
+        String updateDate = news.getUpdateDate() != null
+            ? OffsetDateTime.ofInstant(news.getUpdateDate().toInstant(), ZoneOffset.UTC).toString()
+            : null;
+        String newsDate = news.getNewsDate() != null ? news.getNewsDate().toString() : null;
+        String content = Optional.ofNullable(news.getContent()).orElse("");
+        String fallbackTitle = Optional.ofNullable(news.getContent())
+            .map(String::trim)
+            .filter(value -> !value.isEmpty())
+            .orElse("お知らせ");
+        String title = Optional.ofNullable(news.getTitle())
+            .map(String::trim)
+            .filter(value -> !value.isEmpty())
+            .orElse(fallbackTitle);
+        String label = Optional.ofNullable(news.getLabel())
+            .map(String::trim)
+            .filter(value -> !value.isEmpty())
+            .map(String::toUpperCase)
+            .filter(AppConstants.News.Label::isValid)
+            .orElse(AppConstants.News.DEFAULT_LABEL);
+        return new NewsResponse(
+            news.getId(),
+            newsDate,
+            title,
+            content,
+            label,
+            releaseFlag,
+            updateDate
+        );
+    }
 }
@@ -9,7 +9,7 @@ import java.util.List;
 public record StampRequestBulkApprovalRequest(
     @Schema(description = "処理対象のリクエストIDリスト", example = "[101,102]")
     @NotEmpty
-    @Size(max = 50)
+    @Size(max = 5000)
     List<Integer> requestIds,
 
     @Schema(description = "承認メモ", example = "内容確認済み", maxLength = 500)
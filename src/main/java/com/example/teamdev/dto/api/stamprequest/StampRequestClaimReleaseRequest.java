@@ -0,0 +1,13 @@
+package com.example.teamdev.dto.api.stamprequest;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+@Schema(description = "承認キューの割り当て解除リクエスト")
+public record StampRequestClaimReleaseRequest(
+    @Schema(description = "解除するリクエストIDリスト（省略時は自分の割り当てをすべて解除）", example = "[201,202]")
+    @Size(max = 500)
+    List<Integer> requestIds
+) {
+}
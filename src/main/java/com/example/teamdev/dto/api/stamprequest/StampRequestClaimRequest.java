@@ -0,0 +1,12 @@
+package com.example.teamdev.dto.api.stamprequest;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+
+@Schema(description = "承認キューの割り当てリクエスト")
+public record StampRequestClaimRequest(
+    @Schema(description = "割り当てる件数（省略時は10件）", example = "10")
+    @Min(1)
+    Integer count
+) {
+}
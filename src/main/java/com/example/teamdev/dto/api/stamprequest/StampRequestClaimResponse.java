@@ -0,0 +1,14 @@
+package com.example.teamdev.dto.api.stamprequest;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "承認キューの割り当てレスポンス")
+public record StampRequestClaimResponse(
+    @Schema(description = "割り当てられたリクエスト一覧（作成日時の古い順）")
+    List<StampRequestResponse> requests,
+
+    @Schema(description = "割り当ての有効期限（割り当てがない場合はnull）", example = "2025-11-15T10:15:00Z")
+    String claimExpiresAt
+) {
+}
@@ -3,6 +3,7 @@ package com.example.teamdev.dto.api.stamprequest;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
 
 @Schema(description = "打刻修正リクエストの作成リクエスト")
@@ -10,6 +11,9 @@ public record StampRequestCreateRequest(
     @Schema(description = "紐づく打刻履歴ID（打刻レコードがない日の場合はnull）", example = "101")
     Integer stampHistoryId,
 
+    @Schema(description = "紐づく打刻履歴の勤務日（stampHistoryId とともに指定を推奨。省略時はIDのみで検索）", example = "2025-11-15")
+    LocalDate stampDate,
+
     @Schema(description = "希望する出勤時刻", example = "2025-11-15T08:30:00+09:00")
     OffsetDateTime requestedInTime,
 
@@ -0,0 +1,45 @@
+package com.example.teamdev.entity;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 月次締めの計算元（打刻記録と従業員の勤務スケジュール）
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceCloseSource {
+
+    private Integer stampHistoryId;
+
+    private Integer employeeId;
+
+    private LocalDate stampDate;
+
+    private OffsetDateTime inTime;
+
+    private OffsetDateTime outTime;
+
+    private OffsetDateTime breakStartTime;
+
+    private OffsetDateTime breakEndTime;
+
+    private Boolean isNightShift;
+
+    private Integer updateEmployeeId;
+
+    private OffsetDateTime updateDate;
+
+    /** 勤務開始時刻（HH:mm） */
+    private String scheduleStart;
+
+    /** 勤務終了時刻（HH:mm） */
+    private String scheduleEnd;
+
+    private Integer scheduleBreakMinutes;
+}
@@ -0,0 +1,31 @@
+package com.example.teamdev.entity;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 月次締めテーブル：attendance_month_close
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceMonthClose {
+
+    /** 対象月（月初日） */
+    private LocalDate targetMonth;
+
+    /** スナップショットに含まれる従業員数 */
+    private Integer employeeCount;
+
+    /** スナップショットの行数（打刻のある日数の合計） */
+    private Integer rowCount;
+
+    /** 締め処理を実行した従業員ID */
+    private Integer closedBy;
+
+    private OffsetDateTime closedAt;
+}
@@ -0,0 +1,58 @@
+package com.example.teamdev.entity;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 締め済み月の日次勤怠テーブル：attendance_month_snapshot
+ *
+ * <p>締め時点の打刻と、その時点の勤務スケジュールで計算した日次の値を保持します。
+ * 登録後は変更・削除できません（DBトリガーで禁止）。</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceMonthSnapshot {
+
+    /** 対象月（月初日） */
+    private LocalDate targetMonth;
+
+    private Integer employeeId;
+
+    private LocalDate stampDate;
+
+    /** 締め時点の打刻記録ID */
+    private Integer stampHistoryId;
+
+    private OffsetDateTime inTime;
+
+    private OffsetDateTime outTime;
+
+    private OffsetDateTime breakStartTime;
+
+    private OffsetDateTime breakEndTime;
+
+    private Boolean isNightShift;
+
+    private Integer updateEmployeeId;
+
+    private OffsetDateTime updateDate;
+
+    /** 実労働時間（分） */
+    private int workedMinutes;
+
+    /** 残業時間（分） */
+    private int overtimeMinutes;
+
+    /** 深夜労働時間（22:00〜翌5:00、分） */
+    private int nightMinutes;
+
+    /** 遅刻時間（分） */
+    private int lateMinutes;
+}
@@ -0,0 +1,58 @@
+package com.example.teamdev.entity;
+
+import java.time.OffsetDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 非同期一括ジョブテーブル：bulk_job
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkJob {
+
+    private Long id;
+
+    /** ジョブ種別（{@link com.example.teamdev.constant.BulkJobType}） */
+    private String jobType;
+
+    /** ステータス（{@link com.example.teamdev.constant.BulkJobStatus}） */
+    private String status;
+
+    /** 依頼者の従業員ID */
+    private Integer requestedBy;
+
+    /** 処理対象ID（一覧取得時は null） */
+    private Integer[] targetIds;
+
+    /** ジョブ種別ごとのパラメータ（JSON文字列） */
+    private String parameters;
+
+    private Integer chunkSize;
+
+    private Integer totalCount;
+
+    /** 最後にコミットしたチャンクの次の位置（処理済み件数） */
+    private Integer nextOffset;
+
+    private Integer successCount;
+
+    private Integer failureCount;
+
+    private Integer[] failedIds;
+
+    private String errorMessage;
+
+    private Boolean cancelRequested;
+
+    private OffsetDateTime createdAt;
+
+    private OffsetDateTime startedAt;
+
+    private OffsetDateTime updatedAt;
+
+    private OffsetDateTime finishedAt;
+}
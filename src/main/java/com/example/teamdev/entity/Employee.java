@@ -1,5 +1,6 @@
 package com.example.teamdev.entity;
 
+import java.io.Serializable;
 import java.sql.Timestamp;
 
 import lombok.AllArgsConstructor;
@@ -8,11 +9,15 @@ import lombok.NoArgsConstructor;
 
 /**
  * 従業員情報テーブル
+ * <p>認証情報（TeamDevelopUserDetails）としてセッションに保存するためシリアライズ可能とする</p>
  */
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class Employee {
+public class Employee implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
 	/**
 	 * ID
 	 */
@@ -0,0 +1,58 @@
+package com.example.teamdev.entity;
+
+import java.time.OffsetDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 論理削除した従業員のデータ削除ジョブテーブル：employee_purge_job
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeePurgeJob {
+
+    /** 削除対象の従業員ID（ジョブの識別子を兼ねる） */
+    private Integer employeeId;
+
+    /** ステータス（{@link com.example.teamdev.constant.EmployeePurgeJobStatus}） */
+    private String status;
+
+    /** 処理中のフェーズ（{@link com.example.teamdev.constant.EmployeePurgePhase}） */
+    private String phase;
+
+    /** 削除を実行した従業員ID */
+    private Integer requestedBy;
+
+    /** 1チャンク（1トランザクション）で削除する最大件数 */
+    private Integer chunkSize;
+
+    private Integer logHistoryDeleted;
+
+    private Integer stampRequestDeleted;
+
+    private Integer stampHistoryDeleted;
+
+    private Integer chunkCount;
+
+    /** 直近のチャンクの処理時間 */
+    private Integer lastChunkMillis;
+
+    /** 直近のチャンク後の待機時間 */
+    private Integer lastSleepMillis;
+
+    /** 他のテーブルから参照されているため従業員行を論理削除のまま残した場合 true */
+    private Boolean employeeRetained;
+
+    private String errorMessage;
+
+    private OffsetDateTime createdAt;
+
+    private OffsetDateTime startedAt;
+
+    private OffsetDateTime updatedAt;
+
+    private OffsetDateTime finishedAt;
+}
@@ -0,0 +1,43 @@
+package com.example.teamdev.entity;
+
+import java.time.OffsetDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 全ノードで共有する HTTP セッションテーブル：http_session
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HttpSessionRecord {
+
+    /** セッション Cookie の値の SHA-256（16進） */
+    private String id;
+
+    /** 認証済みユーザー名（メールアドレス） */
+    private String principalName;
+
+    /** Java シリアライズした SecurityContext（状態の確認時は取得しない） */
+    private byte[] securityContext;
+
+    /** SecurityContext のバージョン */
+    private Long version;
+
+    /** 直近の書き込み時点のプライマリ LSN（read-your-writes 用） */
+    private Long requiredLsn;
+
+    /** 作成日時 */
+    private OffsetDateTime createdAt;
+
+    /** 最終アクセス日時 */
+    private OffsetDateTime lastAccessedAt;
+
+    /** 無操作で失効するまでの秒数 */
+    private Integer maxInactiveSeconds;
+
+    /** 失効日時 */
+    private OffsetDateTime expiresAt;
+}
@@ -0,0 +1,31 @@
+package com.example.teamdev.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.sql.Timestamp;
+
+/**
+ * リソースの更新有無を判定するためのウォーターマーク
+ * MyBatisクエリ結果用のエンティティ（件数・最終更新日時・ID合計の集約値）
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceWatermark {
+    /**
+     * 対象行数（削除の検知に使用）
+     */
+    private Long rowCount;
+
+    /**
+     * 対象行の最終更新日時（対象行がない場合はnull）
+     */
+    private Timestamp lastModified;
+
+    /**
+     * 対象行IDの合計（同数の削除と追加が同時に起きた場合の検知に使用）
+     */
+    private Long checksum;
+}
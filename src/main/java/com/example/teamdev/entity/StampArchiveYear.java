@@ -0,0 +1,30 @@
+package com.example.teamdev.entity;
+
+import java.time.OffsetDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 退避済みの年テーブル：stamp_archive_year
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StampArchiveYear {
+
+    /** 対象年 */
+    private Integer year;
+
+    /** 退避した打刻記録の件数 */
+    private Integer historyRows;
+
+    /** 退避した修正申請の件数 */
+    private Integer requestRows;
+
+    /** 退避を実行した従業員ID */
+    private Integer archivedBy;
+
+    private OffsetDateTime archivedAt;
+}
@@ -0,0 +1,31 @@
+package com.example.teamdev.entity;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 打刻記録の範囲削除の1チャンク分の結果
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StampDeleteChunk {
+
+    /** 対象として選択した件数（チャンクサイズ未満の場合はウィンドウの終端） */
+    private int selectedCount;
+
+    /** 削除した件数 */
+    private int deletedCount;
+
+    /** 選択した最大の打刻記録ID（選択なしの場合は null） */
+    private Integer lastId;
+
+    /** 削除した最も古い勤務日（削除なしの場合は null） */
+    private LocalDate minStampDate;
+
+    /** 削除した最も新しい勤務日（削除なしの場合は null） */
+    private LocalDate maxStampDate;
+}
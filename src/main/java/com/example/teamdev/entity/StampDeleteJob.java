@@ -0,0 +1,73 @@
+package com.example.teamdev.entity;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 打刻記録の範囲削除ジョブテーブル：stamp_delete_job
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StampDeleteJob {
+
+    private Long id;
+
+    /** ステータス（{@link com.example.teamdev.constant.StampDeleteJobStatus}） */
+    private String status;
+
+    /** 依頼者の従業員ID */
+    private Integer requestedBy;
+
+    /** 削除範囲の開始日（含む） */
+    private LocalDate fromDate;
+
+    /** 削除範囲の終了日（含まない） */
+    private LocalDate toDate;
+
+    /** 1チャンク（1トランザクション）で削除する最大件数 */
+    private Integer chunkSize;
+
+    /** 勤務日ウィンドウの日数 */
+    private Integer windowDays;
+
+    /** 処理中の勤務日ウィンドウの開始日 */
+    private LocalDate windowStart;
+
+    /** 処理中のウィンドウで削除済みの最大の打刻記録ID */
+    private Integer cursorId;
+
+    /** 開始時点の削除対象件数（開始前は null） */
+    private Integer estimatedCount;
+
+    private Integer deletedCount;
+
+    private Integer chunkCount;
+
+    /** 直近のチャンクの処理時間 */
+    private Integer lastChunkMillis;
+
+    /** 直近のチャンク後の待機時間 */
+    private Integer lastSleepMillis;
+
+    /** 直近に計測したレプリカの再生遅延（バイト、レプリカなしの場合は null） */
+    private Long lastReplayLagBytes;
+
+    private String errorMessage;
+
+    private Boolean pauseRequested;
+
+    private Boolean cancelRequested;
+
+    private OffsetDateTime createdAt;
+
+    private OffsetDateTime startedAt;
+
+    private OffsetDateTime updatedAt;
+
+    private OffsetDateTime finishedAt;
+}
@@ -21,24 +21,11 @@ public class StampHistory {
 	 * ID
 	 */
 	private Integer id;
-	/**
-	 * 年
-	 */
-	private String year;
-	/**
-	 * 月
-	 */
-	private String month;
-	/**
-	 * 日
-	 */
-	private String day;
 	/**
 	 * 打刻日付（YYYY-MM-DD形式、DATE型）
 	 *
-	 * Note: year/month/day カラムとの互換性維持のため、両方のフィールドを保持。
-	 * V5マイグレーションでDBトリガーにより自動同期される。
-	 * 今後はこのフィールドを主要な日付ソースとして使用する。
+	 * Note: 打刻記録の唯一の日付カラムで、パーティションキーを兼ねる（登録時は必須）。
+	 * 画面・CSV で年・月・日の文字列が必要な場合は、この値から組み立てる。
 	 */
 	private LocalDate stampDate;
 	//フィールド名をキャメルケースに修正
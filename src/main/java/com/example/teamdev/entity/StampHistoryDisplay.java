@@ -31,8 +31,8 @@ public class StampHistoryDisplay {
 	/**
 	 * 打刻日付（YYYY-MM-DD形式、DATE型）
 	 *
-	 * Note: year/month/day カラムとの互換性維持のため、両方のフィールドを保持。
-	 * CSV出力では従来フォーマット（年,月,日）を維持するため、year/month/dayを使用。
+	 * Note: CSV出力では従来フォーマット（年,月,日）を維持するため、year/month/day も保持する。
+	 * year/month/day は問い合わせで stamp_date（カレンダーの日付）から組み立てる。
 	 */
 	private LocalDate stampDate;
 	/**
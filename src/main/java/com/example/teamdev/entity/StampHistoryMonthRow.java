@@ -0,0 +1,44 @@
+package com.example.teamdev.entity;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 月次打刻記録の疎取得行（打刻記録または修正申請が存在する日のみ、整形前の生値）
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StampHistoryMonthRow {
+
+    private Integer employeeId;
+
+    private LocalDate stampDate;
+
+    /** 打刻記録ID（修正申請のみ存在する日はnull） */
+    private Integer stampHistoryId;
+
+    private OffsetDateTime inTime;
+
+    private OffsetDateTime outTime;
+
+    private OffsetDateTime breakStartTime;
+
+    private OffsetDateTime breakEndTime;
+
+    private Boolean isNightShift;
+
+    private Integer updateEmployeeId;
+
+    private OffsetDateTime updateDate;
+
+    /** 対象日の最新の修正申請ID */
+    private Integer requestId;
+
+    /** 対象日の最新の修正申請ステータス */
+    private String requestStatus;
+}
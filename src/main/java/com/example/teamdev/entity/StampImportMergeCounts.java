@@ -0,0 +1,20 @@
+package com.example.teamdev.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 打刻一括取り込みの反映件数
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StampImportMergeCounts {
+
+    /** 新規に作成した打刻記録の件数 */
+    private long inserted;
+
+    /** 既存の打刻記録を更新した件数 */
+    private long updated;
+}
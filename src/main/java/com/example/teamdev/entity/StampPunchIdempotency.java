@@ -0,0 +1,32 @@
+package com.example.teamdev.entity;
+
+import com.example.teamdev.constant.StampPunchOutcome;
+import java.time.OffsetDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 一括打刻の冪等キーと処理結果：stamp_punch_idempotency
+ * キーは送信したキオスク端末のアカウント・従業員ごとに一意です。
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StampPunchIdempotency {
+
+    /** 送信したキオスク端末のアカウントの従業員ID */
+    private Integer kioskId;
+
+    private String idempotencyKey;
+
+    private Integer employeeId;
+
+    /** 処理結果（キーを確保した直後は null） */
+    private StampPunchOutcome outcome;
+
+    private String message;
+
+    private OffsetDateTime createdAt;
+}
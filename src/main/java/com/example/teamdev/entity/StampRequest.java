@@ -73,4 +73,23 @@ public class StampRequest {
     private OffsetDateTime rejectedAt;
 
     private OffsetDateTime cancelledAt;
+
+    // レビューのリース（承認キューの割り当て）
+    private Integer claimedBy;
+
+    private OffsetDateTime claimExpiresAt;
+
+    /**
+     * 指定時刻に他のレビュー担当者が有効なリースを保持しているかを判定します。
+     *
+     * @param reviewerId レビュー担当者の従業員ID
+     * @param now 現在時刻
+     * @return 他の担当者のリースが有効な場合 true
+     */
+    public boolean isClaimedByOther(Integer reviewerId, OffsetDateTime now) {
+        return claimedBy != null
+            && !claimedBy.equals(reviewerId)
+            && claimExpiresAt != null
+            && claimExpiresAt.isAfter(now);
+    }
 }
@@ -0,0 +1,35 @@
+package com.example.teamdev.exception;
+
+import java.time.YearMonth;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 締め済みの月の打刻記録を変更しようとした場合にスローされる例外
+ *
+ * <p>締め済みの月の表示・CSV出力・統計は締め時点のスナップショットから返すため、
+ * 締め後の変更は反映されません。コントローラーで個別に変換しない場合は 409 Conflict を返します。</p>
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class ClosedMonthException extends RuntimeException {
+    private final YearMonth month;
+
+    /**
+     * ClosedMonthExceptionを生成します
+     *
+     * @param month 締め済みの月
+     */
+    public ClosedMonthException(YearMonth month) {
+        super(String.format("%d年%d月は締め済みのため打刻記録を変更できません", month.getYear(), month.getMonthValue()));
+        this.month = month;
+    }
+
+    /**
+     * 締め済みの月を取得します
+     *
+     * @return 締め済みの月
+     */
+    public YearMonth getMonth() {
+        return month;
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.teamdev.mapper;
+
+import com.example.teamdev.entity.AttendanceCloseSource;
+import com.example.teamdev.entity.AttendanceMonthClose;
+import com.example.teamdev.entity.MonthlyAttendanceStats;
+import com.example.teamdev.entity.StampHistoryDisplay;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 月次締めテーブル（attendance_month_close / attendance_month_snapshot）へのアクセスを提供するMapper。
+ *
+ * <p>スナップショットの登録は件数が多いため {@code COPY} で行います
+ * （{@link com.example.teamdev.service.AttendanceMonthSnapshotCopyWriter}）。
+ * すべてのSQLマッピングは {@code AttendanceMonthSnapshotMapper.xml} で定義されています。</p>
+ */
+@Mapper
+public interface AttendanceMonthSnapshotMapper {
+
+    /**
+     * 締め済みとして登録します。既に登録済みの場合は何もしません。
+     * 同じ月を同時に締めようとした場合、後続はこの文で先行トランザクションの完了を待ちます。
+     *
+     * @param targetMonth 対象月（月初日）
+     * @param closedBy 締め処理を実行した従業員ID
+     * @param closedAt 締め日時
+     * @return 登録件数（既に締め済みの場合は0）
+     */
+    int insertClose(
+        @Param("targetMonth") LocalDate targetMonth,
+        @Param("closedBy") Integer closedBy,
+        @Param("closedAt") OffsetDateTime closedAt
+    );
+
+    /**
+     * スナップショットの件数を記録します。
+     *
+     * @param targetMonth 対象月（月初日）
+     * @param employeeCount 従業員数
+     * @param rowCount 行数
+     * @return 更新件数
+     */
+    int updateCloseCounts(
+        @Param("targetMonth") LocalDate targetMonth,
+        @Param("employeeCount") int employeeCount,
+        @Param("rowCount") int rowCount
+    );
+
+    /**
+     * 締め情報を取得します。
+     *
+     * @param targetMonth 対象月（月初日）
+     * @return 締め情報、未締めの場合は{@code Optional.empty()}
+     */
+    Optional<AttendanceMonthClose> findClose(@Param("targetMonth") LocalDate targetMonth);
+
+    /**
+     * 締め済みかどうかを判定します。
+     *
+     * @param targetMonth 対象月（月初日）
+     * @return 締め済みの場合 true
+     */
+    boolean existsClose(@Param("targetMonth") LocalDate targetMonth);
+
+    /**
+     * 締め処理のため、対象月の排他ロックをトランザクションの終了まで取得します。
+     * 対象月の打刻記録を変更中のトランザクション（{@link #lockMonthShared} を取得済み）があれば完了を待ちます。
+     *
+     * @param targetMonth 対象月（月初日）
+     * @return 常に1
+     */
+    int lockMonthExclusive(@Param("targetMonth") LocalDate targetMonth);
+
+    /**
+     * 打刻記録の変更のため、対象月の共有ロックをトランザクションの終了まで取得します。
+     * 対象月の締め処理が実行中であれば完了を待ちます。
+     *
+     * @param targetMonth 対象月（月初日）
+     * @return 常に1
+     */
+    int lockMonthShared(@Param("targetMonth") LocalDate targetMonth);
+
+    /**
+     * 締め処理の計算元として、期間内の全従業員の打刻記録を勤務スケジュール付きで取得します
+     * （従業員ID・打刻日付の昇順）。
+     *
+     * @param from 期間の開始日（含む）
+     * @param to 期間の終了日（含む）
+     * @return 計算元のリスト
+     */
+    List<AttendanceCloseSource> findCloseSources(
+        @Param("from") LocalDate from,
+        @Param("to") LocalDate to
+    );
+
+    /**
+     * 締め済み月の勤怠をカレンダー形式で取得します。
+     * {@link StampHistoryMapper#getStampHistoryByYearMonthEmployeeIds} と同じ形式で、
+     * 残業分数はスナップショットの値を返します。
+     *
+     * @param targetMonth 対象月（月初日）
+     * @param employeeIds 従業員IDのリスト（この順に並べます）
+     * @param datesInMonth 対象月のすべての日付
+     * @return 勤怠のリスト
+     */
+    List<StampHistoryDisplay> getSnapshotByEmployeeIds(
+        @Param("targetMonth") LocalDate targetMonth,
+        @Param("employeeIds") List<Integer> employeeIds,
+        @Param("datesInMonth") List<LocalDate> datesInMonth
+    );
+
+    /**
+     * 締め済み月の月次勤怠統計をスナップショットから取得します。
+     *
+     * @param employeeId 従業員ID
+     * @param startMonth 開始月（月初日）
+     * @param endMonth 終了月（月初日）
+     * @return 月次勤怠統計のリスト（締め済みの月のみ）
+     */
+    List<MonthlyAttendanceStats> findMonthlyStatistics(
+        @Param("employeeId") int employeeId,
+        @Param("startMonth") LocalDate startMonth,
+        @Param("endMonth") LocalDate endMonth
+    );
+}
@@ -0,0 +1,130 @@
+package com.example.teamdev.mapper;
+
+import com.example.teamdev.entity.BulkJob;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 非同期一括ジョブテーブルへのアクセスを提供するMapper。
+ *
+ * <p>すべてのSQLマッピングは {@code BulkJobMapper.xml} で定義されています。</p>
+ *
+ * @see com.example.teamdev.entity.BulkJob
+ */
+@Mapper
+public interface BulkJobMapper {
+
+    /**
+     * ジョブを登録します（ステータスは QUEUED）。
+     *
+     * @param job 登録するジョブ（IDと作成日時が設定されます）
+     */
+    void insert(BulkJob job);
+
+    /**
+     * IDでジョブを取得します（処理対象IDを含む）。
+     *
+     * @param id ジョブID
+     * @return 該当するジョブ、存在しない場合は{@code Optional.empty()}
+     */
+    Optional<BulkJob> findById(@Param("id") Long id);
+
+    /**
+     * 依頼者の直近のジョブを作成日時の降順で取得します（処理対象IDは含みません）。
+     *
+     * @param requestedBy 依頼者の従業員ID
+     * @param limit 取得する最大件数
+     * @return ジョブのリスト
+     */
+    List<BulkJob> findRecentByRequester(
+            @Param("requestedBy") Integer requestedBy,
+            @Param("limit") int limit
+    );
+
+    /**
+     * 再開対象のジョブIDを取得します。
+     *
+     * <p>QUEUED のジョブと、{@code staleBefore} 以降に進捗が記録されていない RUNNING のジョブが対象です。</p>
+     *
+     * @param staleBefore 停止したとみなす最終更新日時
+     * @return ジョブIDのリスト（作成順）
+     */
+    List<Long> findResumableIds(@Param("staleBefore") OffsetDateTime staleBefore);
+
+    /**
+     * 未完了のジョブを RUNNING に遷移させます。
+     *
+     * @param id ジョブID
+     * @param now 現在日時
+     * @return 更新件数（既に完了・取消済みの場合は0）
+     */
+    int markRunning(@Param("id") Long id, @Param("now") OffsetDateTime now);
+
+    /**
+     * ジョブ行をロックし、チャンク処理に必要な進捗情報を取得します。
+     *
+     * <p>チャンクの処理と進捗の記録は同じトランザクションで行うため、
+     * 複数のワーカーが同じジョブを処理しても同じチャンクを重複して処理しません。</p>
+     *
+     * @param id ジョブID
+     * @return status, nextOffset, cancelRequested を設定したジョブ
+     */
+    Optional<BulkJob> lockForChunk(@Param("id") Long id);
+
+    /**
+     * チャンクの処理結果を記録し、再開位置を進めます。
+     *
+     * @param id ジョブID
+     * @param nextOffset 次のチャンクの開始位置
+     * @param successCount このチャンクの成功件数
+     * @param failedIds このチャンクで失敗したID
+     * @param now 現在日時
+     * @return 更新件数
+     */
+    int recordChunk(
+            @Param("id") Long id,
+            @Param("nextOffset") int nextOffset,
+            @Param("successCount") int successCount,
+            @Param("failedIds") Integer[] failedIds,
+            @Param("now") OffsetDateTime now
+    );
+
+    /**
+     * RUNNING のジョブを終了状態に遷移させます。
+     *
+     * @param id ジョブID
+     * @param status 終了ステータス
+     * @param errorMessage エラーメッセージ（失敗時のみ）
+     * @param now 現在日時
+     * @return 更新件数
+     */
+    int finish(
+            @Param("id") Long id,
+            @Param("status") String status,
+            @Param("errorMessage") String errorMessage,
+            @Param("now") OffsetDateTime now
+    );
+
+    /**
+     * ジョブの取消を要求します。QUEUED のジョブは即時に CANCELLED となり、
+     * RUNNING のジョブは次のチャンクの開始時に取り消されます。
+     *
+     * @param id ジョブID
+     * @param now 現在日時
+     * @return 更新件数（既に完了している場合は0）
+     */
+    int requestCancel(@Param("id") Long id, @Param("now") OffsetDateTime now);
+
+    /**
+     * 失敗したジョブを最後にコミットしたチャンクから再実行できるよう QUEUED に戻します。
+     *
+     * @param id ジョブID
+     * @param now 現在日時
+     * @return 更新件数（FAILED 以外の場合は0）
+     */
+    int requeueFailed(@Param("id") Long id, @Param("now") OffsetDateTime now);
+}
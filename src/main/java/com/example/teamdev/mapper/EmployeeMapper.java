@@ -1,5 +1,6 @@
 package com.example.teamdev.mapper;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,31 +20,35 @@ public interface EmployeeMapper {
 	// 従業員情報管理画面でメールアドレス重複チェックを行うため、メールアドレスが重複するレコードは存在しない前提
 	@Select("SELECT id, first_name AS firstName, last_name AS lastName, email, password, " +
 			"admin_flag AS adminFlag, update_date AS updateDate " +
-			"FROM employee WHERE email = #{email} LIMIT 1")
+			"FROM employee WHERE email = #{email} AND deleted_at IS NULL LIMIT 1")
 	Employee getEmployeeByEmail(String email);
 
 	// 管理者フラグが一致するレコードをID昇順で取得
 	@Select("SELECT id, first_name AS firstName, last_name AS lastName, email, password, " +
 			"admin_flag AS adminFlag, update_date AS updateDate " +
-			"FROM employee WHERE admin_flag = #{adminFlag} ORDER BY id asc")
+			"FROM employee WHERE admin_flag = #{adminFlag} AND deleted_at IS NULL ORDER BY id asc")
 	List<Employee> getEmployeeByAdminFlagOrderById(int adminFlag);
 
 	// すべてのレコードをID昇順で取得
 	@Select("SELECT id, first_name AS firstName, last_name AS lastName, email, password, " +
 			"admin_flag AS adminFlag, update_date AS updateDate " +
-			"FROM employee ORDER BY id")
+			"FROM employee WHERE deleted_at IS NULL ORDER BY id")
 	List<Employee> getAllOrderById();
 
+	// すべての従業員IDを昇順で取得（打刻一括取り込みの従業員存在チェック用）
+	@Select("SELECT id FROM employee WHERE deleted_at IS NULL ORDER BY id")
+	List<Integer> getAllIds();
+
 	// 先頭から指定件数のレコードをID昇順で取得（マイグレーション事前チェック用）
 	@Select("SELECT id, first_name AS firstName, last_name AS lastName, email, password, " +
 			"admin_flag AS adminFlag, update_date AS updateDate " +
-			"FROM employee ORDER BY id LIMIT #{limit}")
+			"FROM employee WHERE deleted_at IS NULL ORDER BY id LIMIT #{limit}")
 	List<Employee> getTopEmployees(@Param("limit") int limit);
 
 	// 指定のidで1レコードを取得する
 	@Select("SELECT id, first_name AS firstName, last_name AS lastName, email, password, " +
 			"admin_flag AS adminFlag, update_date AS updateDate " +
-			"FROM employee WHERE id = #{id}")
+			"FROM employee WHERE id = #{id} AND deleted_at IS NULL")
 	Optional<Employee> getById(@Param("id") Integer id);
 
     List<Employee> findFilteredEmployees(@Param("start") int start, @Param("length") int length, @Param("searchValue") String searchValue, @Param("orderColumn") String orderColumn, @Param("orderDir") String orderDir);
@@ -61,12 +66,20 @@ public interface EmployeeMapper {
 	@Delete("DELETE FROM employee WHERE id = #{id}")
 	int deleteById(@Param("id") Integer id);
 
-	// バッチ削除用（N+1問題解決）
-	int deleteByIdList(@Param("idList") List<Integer> idList);
+	// 一括で論理削除し、論理削除した従業員IDを返す（削除済みの従業員は対象外）
+	// 関連データと従業員行の物理削除は EmployeePurgeRunner がバックグラウンドで行う
+	List<Integer> softDeleteByIdList(@Param("idList") List<Integer> idList,
+			@Param("deletedAt") OffsetDateTime deletedAt);
+
+	// 指定IDの氏名のみを一括取得する（打刻記録の疎取得で氏名を結合するため。過去の更新者を表示するため論理削除済みも含む）
+	List<Employee> getNamesByIdList(@Param("idList") List<Integer> idList);
+
+	// 指定IDのうち論理削除されていない従業員のIDを取得する（打刻の一括登録の従業員存在チェック用）
+	List<Integer> getActiveIdsByIdList(@Param("idList") List<Integer> idList);
 
 	// 管理者フラグによる一括取得（N+1問題解決）
 	@Select("SELECT id, first_name AS firstName, last_name AS lastName, email, password, " +
 			"admin_flag AS adminFlag, update_date AS updateDate " +
-			"FROM employee ORDER BY admin_flag, id")
+			"FROM employee WHERE deleted_at IS NULL ORDER BY admin_flag, id")
 	List<Employee> getAllEmployeesGroupedByAdminFlag();
 }
@@ -0,0 +1,139 @@
+package com.example.teamdev.mapper;
+
+import com.example.teamdev.entity.EmployeePurgeJob;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 論理削除した従業員のデータ削除ジョブテーブルへのアクセスを提供するMapper。
+ *
+ * <p>すべてのSQLマッピングは {@code EmployeePurgeJobMapper.xml} で定義されています。</p>
+ *
+ * @see com.example.teamdev.entity.EmployeePurgeJob
+ */
+@Mapper
+public interface EmployeePurgeJobMapper {
+
+    /**
+     * 従業員ごとのジョブを登録します（ステータスは QUEUED、フェーズは LOG_HISTORY）。
+     * 既にジョブがある従業員は登録しません。
+     *
+     * @param employeeIds 論理削除した従業員IDのリスト
+     * @param requestedBy 削除を実行した従業員ID
+     * @param chunkSize 1チャンクで削除する最大件数
+     * @return 登録した件数
+     */
+    int insertAll(
+            @Param("employeeIds") List<Integer> employeeIds,
+            @Param("requestedBy") Integer requestedBy,
+            @Param("chunkSize") int chunkSize
+    );
+
+    /**
+     * 従業員IDでジョブを取得します。
+     *
+     * @param employeeId 従業員ID
+     * @return 該当するジョブ、存在しない場合は{@code Optional.empty()}
+     */
+    Optional<EmployeePurgeJob> findById(@Param("employeeId") Integer employeeId);
+
+    /**
+     * 直近のジョブを作成日時の降順で取得します。
+     *
+     * @param limit 取得する最大件数
+     * @return ジョブのリスト
+     */
+    List<EmployeePurgeJob> findRecent(@Param("limit") int limit);
+
+    /**
+     * 再開対象のジョブの従業員IDを取得します。
+     *
+     * <p>QUEUED のジョブと、{@code staleBefore} 以降に進捗が記録されていない RUNNING のジョブが対象です。</p>
+     *
+     * @param staleBefore 停止したとみなす最終更新日時
+     * @return 従業員IDのリスト（作成順）
+     */
+    List<Integer> findResumableIds(@Param("staleBefore") OffsetDateTime staleBefore);
+
+    /**
+     * 未完了のジョブを RUNNING に遷移させます。
+     *
+     * @param employeeId 従業員ID
+     * @param now 現在日時
+     * @return 更新件数（完了済みの場合は0）
+     */
+    int markRunning(@Param("employeeId") Integer employeeId, @Param("now") OffsetDateTime now);
+
+    /**
+     * チャンクの処理前にジョブ行をロックして取得します（同じジョブのチャンクを直列化します）。
+     *
+     * @param employeeId 従業員ID
+     * @return ステータス・フェーズ・チャンクサイズのみを設定したジョブ
+     */
+    Optional<EmployeePurgeJob> lockForChunk(@Param("employeeId") Integer employeeId);
+
+    /**
+     * チャンクの結果と次に処理するフェーズを記録します。
+     *
+     * @param employeeId 従業員ID
+     * @param phase このチャンクで処理したフェーズ（削除件数を加算する列を決めます）
+     * @param nextPhase 次に処理するフェーズ
+     * @param deletedCount このチャンクで削除した件数
+     * @param chunkMillis このチャンクの処理時間
+     * @param now 現在日時
+     * @return 更新件数
+     */
+    int recordChunk(
+            @Param("employeeId") Integer employeeId,
+            @Param("phase") String phase,
+            @Param("nextPhase") String nextPhase,
+            @Param("deletedCount") int deletedCount,
+            @Param("chunkMillis") int chunkMillis,
+            @Param("now") OffsetDateTime now
+    );
+
+    /**
+     * チャンク後の待機時間を記録します。
+     *
+     * @param employeeId 従業員ID
+     * @param sleepMillis 待機時間
+     * @param now 現在日時
+     * @return 更新件数
+     */
+    int recordThrottle(
+            @Param("employeeId") Integer employeeId,
+            @Param("sleepMillis") int sleepMillis,
+            @Param("now") OffsetDateTime now
+    );
+
+    /**
+     * 実行中のジョブを指定のステータスで終了させます（SUCCEEDED / FAILED）。
+     *
+     * @param employeeId 従業員ID
+     * @param status 終了ステータス
+     * @param employeeRetained 従業員行を論理削除のまま残した場合 true
+     * @param errorMessage 失敗理由（失敗時以外は null）
+     * @param now 現在日時
+     * @return 更新件数
+     */
+    int finish(
+            @Param("employeeId") Integer employeeId,
+            @Param("status") String status,
+            @Param("employeeRetained") boolean employeeRetained,
+            @Param("errorMessage") String errorMessage,
+            @Param("now") OffsetDateTime now
+    );
+
+    /**
+     * 失敗したジョブを QUEUED に戻します（フェーズは保持します）。
+     *
+     * @param employeeId 従業員ID
+     * @param now 現在日時
+     * @return 更新件数（失敗状態でない場合は0）
+     */
+    int requeueFailed(@Param("employeeId") Integer employeeId, @Param("now") OffsetDateTime now);
+}
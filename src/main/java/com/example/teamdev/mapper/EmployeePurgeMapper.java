@@ -0,0 +1,59 @@
+package com.example.teamdev.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * 論理削除した従業員のデータ削除を提供するMapper。
+ *
+ * <p>従業員の関連行を1文で削除せず、テーブルごとに一定件数ずつ削除します。
+ * いずれの削除も冪等で、途中で中断しても同じ呼び出しを繰り返せば残りの行を削除できます。
+ * すべてのSQLマッピングは {@code EmployeePurgeMapper.xml} で定義されています。</p>
+ */
+@Mapper
+public interface EmployeePurgeMapper {
+
+    /**
+     * 従業員の操作履歴を最大 {@code limit} 件削除します。
+     *
+     * @param employeeId 従業員ID
+     * @param limit 最大件数
+     * @return 削除した件数
+     */
+    int deleteLogHistoryChunk(@Param("employeeId") Integer employeeId, @Param("limit") int limit);
+
+    /**
+     * 従業員の打刻修正申請を最大 {@code limit} 件削除します（最新申請の索引は外部キーの連鎖で削除されます）。
+     *
+     * @param employeeId 従業員ID
+     * @param limit 最大件数
+     * @return 削除した件数
+     */
+    int deleteStampRequestChunk(@Param("employeeId") Integer employeeId, @Param("limit") int limit);
+
+    /**
+     * 従業員の打刻記録を最大 {@code limit} 件削除します。
+     *
+     * @param employeeId 従業員ID
+     * @param limit 最大件数
+     * @return 削除した件数
+     */
+    int deleteStampHistoryChunk(@Param("employeeId") Integer employeeId, @Param("limit") int limit);
+
+    /**
+     * 従業員の退避済みの打刻記録・打刻修正申請を削除します（従業員あたり月数・申請数の行のため一括で削除します）。
+     *
+     * @param employeeId 従業員ID
+     * @return 削除した件数
+     */
+    int deleteArchivedRows(@Param("employeeId") Integer employeeId);
+
+    /**
+     * 論理削除済みの従業員行を削除します。
+     *
+     * @param employeeId 従業員ID
+     * @return 削除した件数（論理削除されていない・削除済みの場合は0）
+     * @throws org.springframework.dao.DataIntegrityViolationException 他の従業員の申請の承認者などとして参照されている場合
+     */
+    int deleteEmployee(@Param("employeeId") Integer employeeId);
+}
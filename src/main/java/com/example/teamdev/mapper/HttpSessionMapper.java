@@ -0,0 +1,111 @@
+package com.example.teamdev.mapper;
+
+import com.example.teamdev.entity.HttpSessionRecord;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 全ノードで共有する HTTP セッションテーブルへのアクセスを提供するMapper。
+ *
+ * <p>すべてのSQLマッピングは {@code HttpSessionMapper.xml} で定義されています。</p>
+ *
+ * @see com.example.teamdev.entity.HttpSessionRecord
+ */
+@Mapper
+public interface HttpSessionMapper {
+
+    /**
+     * セッションを登録します。
+     *
+     * @param record 登録するセッション（id・principalName・securityContext・maxInactiveSeconds・作成日時・失効日時）
+     * @return 登録した件数
+     */
+    int insert(HttpSessionRecord record);
+
+    /**
+     * シリアライズした SecurityContext を含めてセッションを取得します。
+     *
+     * @param id セッションID
+     * @return 該当するセッション、存在しない場合は{@code Optional.empty()}
+     */
+    Optional<HttpSessionRecord> findById(@Param("id") String id);
+
+    /**
+     * SecurityContext を除いたセッションの状態（バージョン・要求 LSN・失効日時）を取得します。
+     *
+     * @param id セッションID
+     * @return 該当するセッション、存在しない場合は{@code Optional.empty()}
+     */
+    Optional<HttpSessionRecord> findStateById(@Param("id") String id);
+
+    /**
+     * SecurityContext を置き換え、バージョンを加算します。
+     *
+     * @param id セッションID
+     * @param principalName 認証済みユーザー名
+     * @param securityContext シリアライズした SecurityContext
+     * @return 更新後のバージョン、セッションが存在しない場合は{@code null}
+     */
+    Long updateSecurityContext(
+            @Param("id") String id,
+            @Param("principalName") String principalName,
+            @Param("securityContext") byte[] securityContext
+    );
+
+    /**
+     * 最終アクセス日時と失効日時をまとめて更新します。既により新しい日時が記録されている行は更新しません。
+     *
+     * @param touches セッションIDと最終アクセス日時の組
+     * @return 更新した件数
+     */
+    int touchAll(@Param("touches") List<HttpSessionRecord> touches);
+
+    /**
+     * 要求 LSN を記録します。既により大きい値が記録されている場合は変更しません。
+     *
+     * @param id セッションID
+     * @param lsn プライマリの LSN
+     * @return 更新した件数
+     */
+    int recordRequiredLsn(@Param("id") String id, @Param("lsn") long lsn);
+
+    /**
+     * 要求 LSN が指定値以下の場合に削除します。
+     *
+     * @param id セッションID
+     * @param lsn 全レプリカが再生済みの LSN
+     * @return 更新した件数
+     */
+    int clearRequiredLsn(@Param("id") String id, @Param("lsn") long lsn);
+
+    /**
+     * セッションを削除します。
+     *
+     * @param id セッションID
+     * @return 削除した件数
+     */
+    int deleteById(@Param("id") String id);
+
+    /**
+     * ユーザーのセッションを新しい順に {@code keep} 件残し、それより古いセッションを削除します。
+     *
+     * @param principalName 認証済みユーザー名
+     * @param keep 残す件数
+     * @return 削除したセッションIDのリスト
+     */
+    List<String> deleteOldestByPrincipal(@Param("principalName") String principalName, @Param("keep") int keep);
+
+    /**
+     * 失効日時を過ぎたセッションを最大 {@code limit} 件削除します。
+     * 他のノードが削除中の行は読み飛ばします。
+     *
+     * @param before この日時より前に失効したセッションを削除する
+     * @param limit 削除する最大件数
+     * @return 削除した件数
+     */
+    int deleteExpired(@Param("before") OffsetDateTime before, @Param("limit") int limit);
+}
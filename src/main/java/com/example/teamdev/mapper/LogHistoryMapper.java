@@ -31,7 +31,4 @@ public interface LogHistoryMapper {
 
 	// existsLogHistoryForTodayメゾット
     int existsLogHistoryForToday(java.util.Map<String, Object> params);
-
-    // バッチ削除: 指定した従業員IDの履歴を削除
-    int deleteByEmployeeIds(java.util.List<Integer> employeeIds);
 }
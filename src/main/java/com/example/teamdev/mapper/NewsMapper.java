@@ -148,4 +148,33 @@ public interface NewsMapper {
 		@Param("items") List<NewsBulkPublishRequest.NewsPublishItem> items,
 		@Param("updateDate") Timestamp updateDate
 	);
+
+	/**
+	 * 配列パラメータで受け取ったIDと公開フラグの組を1文で一括更新し、更新できたIDを返す
+	 * <p>
+	 * XMLマッパーで定義（src/main/resources/com/example/teamdev/mapper/NewsMapper.xml）。
+	 * 存在しないIDは単に返却されないため、事前の存在確認は不要。
+	 * </p>
+	 *
+	 * @param ids お知らせIDの配列（重複なし）
+	 * @param releaseFlags {@code ids} と同じ並びの公開フラグ配列
+	 * @param updateDate 更新日時
+	 * @return 更新されたIDのリスト
+	 */
+	List<Integer> updateReleaseFlagsReturningIds(
+		@Param("ids") Integer[] ids,
+		@Param("releaseFlags") Boolean[] releaseFlags,
+		@Param("updateDate") Timestamp updateDate
+	);
+
+	/**
+	 * 配列パラメータで受け取ったIDのお知らせを1文で一括削除し、削除できたIDを返す
+	 * <p>
+	 * XMLマッパーで定義（src/main/resources/com/example/teamdev/mapper/NewsMapper.xml）
+	 * </p>
+	 *
+	 * @param ids お知らせIDの配列
+	 * @return 削除されたIDのリスト
+	 */
+	List<Integer> deleteByIdsReturningIds(@Param("ids") Integer[] ids);
 }
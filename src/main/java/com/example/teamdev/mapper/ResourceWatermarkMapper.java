@@ -0,0 +1,47 @@
+package com.example.teamdev.mapper;
+
+import java.time.LocalDate;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+
+import com.example.teamdev.entity.ResourceWatermark;
+
+/**
+ * 条件付きGET（ETag / Last-Modified）用のウォーターマーク取得
+ * いずれも集約関数のみで1行を返し、一覧本体のクエリより軽量であることを前提とする
+ */
+@Mapper
+public interface ResourceWatermarkMapper {
+	// 公開中のお知らせのウォーターマークを取得する
+	@Select("SELECT COUNT(*) AS rowCount, MAX(update_date) AS lastModified, " +
+			"COALESCE(SUM(id), 0) AS checksum " +
+			"FROM news WHERE release_flag = TRUE")
+	ResourceWatermark findPublishedNewsWatermark();
+
+	// 従業員のウォーターマークを取得する（論理削除済みは除外。管理者フラグ・IDは指定時のみ絞り込み）
+	@Select("<script>" +
+			"SELECT COUNT(*) AS rowCount, MAX(update_date) AS lastModified, " +
+			"COALESCE(SUM(id), 0) AS checksum " +
+			"FROM employee " +
+			"WHERE deleted_at IS NULL " +
+			"<if test='adminFlag != null'>AND admin_flag = #{adminFlag}</if>" +
+			"<if test='employeeId != null'>AND id = #{employeeId}</if>" +
+			"</script>")
+	ResourceWatermark findEmployeeWatermark(@Param("adminFlag") Integer adminFlag,
+			@Param("employeeId") Integer employeeId);
+
+	// 指定従業員・期間 [from, to) の打刻履歴と打刻修正リクエストを合わせたウォーターマークを取得する
+	@Select("SELECT sh.row_count + sr.row_count AS rowCount, " +
+			"GREATEST(sh.last_modified, sr.last_modified) AS lastModified, " +
+			"sh.checksum + sr.checksum AS checksum " +
+			"FROM (SELECT COUNT(*) AS row_count, MAX(update_date) AS last_modified, " +
+			"COALESCE(SUM(id), 0) AS checksum FROM stamp_history " +
+			"WHERE employee_id = #{employeeId} AND stamp_date >= #{from} AND stamp_date < #{to}) sh, " +
+			"(SELECT COUNT(*) AS row_count, MAX(updated_at) AS last_modified, " +
+			"COALESCE(SUM(id), 0) AS checksum FROM stamp_request " +
+			"WHERE employee_id = #{employeeId} AND stamp_date >= #{from} AND stamp_date < #{to}) sr")
+	ResourceWatermark findStampWatermark(@Param("employeeId") int employeeId,
+			@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -0,0 +1,157 @@
+package com.example.teamdev.mapper;
+
+import com.example.teamdev.entity.StampArchiveYear;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 打刻記録・修正申請の退避テーブル（stamp_archive_year / stamp_history_archive / stamp_request_archive /
+ * stamp_request_latest_archive）へのアクセスを提供するMapper。
+ *
+ * <p>期間はいずれも開始日を含み終了日を含みません。
+ * すべてのSQLマッピングは {@code StampArchiveMapper.xml} で定義されています。</p>
+ */
+@Mapper
+public interface StampArchiveMapper {
+
+    /**
+     * 退避済みとして登録します。既に登録済みの場合は何もしません。
+     * 同じ年を同時に退避しようとした場合、後続はこの文で先行トランザクションの完了を待ちます。
+     *
+     * @param year 対象年
+     * @param archivedBy 退避を実行した従業員ID
+     * @param archivedAt 退避日時
+     * @return 登録件数（既に退避済みの場合は0）
+     */
+    int insertArchiveYear(
+        @Param("year") int year,
+        @Param("archivedBy") Integer archivedBy,
+        @Param("archivedAt") OffsetDateTime archivedAt
+    );
+
+    /**
+     * 退避した件数を記録します。
+     *
+     * @param year 対象年
+     * @param historyRows 打刻記録の件数
+     * @param requestRows 修正申請の件数
+     * @return 更新件数
+     */
+    int updateArchiveYearCounts(
+        @Param("year") int year,
+        @Param("historyRows") int historyRows,
+        @Param("requestRows") int requestRows
+    );
+
+    /**
+     * 退避情報を取得します。
+     *
+     * @param year 対象年
+     * @return 退避情報、未退避の場合は{@code Optional.empty()}
+     */
+    Optional<StampArchiveYear> findArchiveYear(@Param("year") int year);
+
+    /**
+     * 指定した年のうち退避済みの年を取得します。
+     *
+     * @param years 対象年
+     * @return 退避済みの年（昇順）
+     */
+    List<Integer> findArchivedYears(@Param("years") Collection<Integer> years);
+
+    /**
+     * 退避済みの登録を削除します（復元時）。
+     *
+     * @param year 対象年
+     * @return 削除件数
+     */
+    int deleteArchiveYear(@Param("year") int year);
+
+    /**
+     * 期間内の承認待ち（PENDING）の修正申請の件数を取得します。
+     *
+     * @param fromDate 開始日（含む）
+     * @param toDate 終了日（含まない）
+     * @return 件数
+     */
+    int countPendingRequests(@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+    /**
+     * 期間内の最新申請の投影を {@code stamp_request_latest_archive} に複製します。
+     *
+     * @param fromDate 開始日（含む）
+     * @param toDate 終了日（含まない）
+     * @return 複製した件数
+     */
+    int archiveLatestRequests(@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+    /**
+     * 期間内の修正申請を {@code stamp_request_archive} に複製します。
+     *
+     * @param fromDate 開始日（含む）
+     * @param toDate 終了日（含まない）
+     * @return 複製した件数
+     */
+    int archiveRequests(@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+    /**
+     * 期間内の修正申請を削除します（最新申請の投影は外部キーで連動して削除されます）。
+     *
+     * @param fromDate 開始日（含む）
+     * @param toDate 終了日（含まない）
+     * @return 削除件数
+     */
+    int deleteRequests(@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+    /**
+     * 期間内の打刻記録を従業員・月ごとに1行へ詰めて {@code stamp_history_archive} に複製します。
+     *
+     * @param fromDate 開始日（含む、月初日）
+     * @param toDate 終了日（含まない、月初日）
+     * @return 複製した打刻記録の件数（詰めた後の行数ではありません）
+     */
+    int archiveHistories(@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+    /**
+     * 期間内の打刻記録を削除します。
+     *
+     * @param fromDate 開始日（含む）
+     * @param toDate 終了日（含まない）
+     * @return 削除件数
+     */
+    int deleteHistories(@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+    /**
+     * 退避した打刻記録を元のIDのまま {@code stamp_history} に戻します。
+     *
+     * @param fromDate 開始日（含む、月初日）
+     * @param toDate 終了日（含まない、月初日）
+     * @return 戻した件数
+     */
+    int restoreHistories(@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+    /**
+     * 退避した修正申請を元のIDのまま {@code stamp_request} に戻します。
+     * 最新申請の投影は {@link StampRequestMapper#repairLatestRequests} で再計算してください。
+     *
+     * @param fromDate 開始日（含む）
+     * @param toDate 終了日（含まない）
+     * @return 戻した件数
+     */
+    int restoreRequests(@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+    /**
+     * 期間内の退避データ（打刻記録・修正申請・最新申請の投影）を削除します。
+     *
+     * @param fromDate 開始日（含む、月初日）
+     * @param toDate 終了日（含まない、月初日）
+     * @return 削除した退避行の件数
+     */
+    int deleteArchived(@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+}
@@ -0,0 +1,178 @@
+package com.example.teamdev.mapper;
+
+import com.example.teamdev.entity.StampDeleteJob;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 打刻記録の範囲削除ジョブテーブルへのアクセスを提供するMapper。
+ *
+ * <p>すべてのSQLマッピングは {@code StampDeleteJobMapper.xml} で定義されています。</p>
+ *
+ * @see com.example.teamdev.entity.StampDeleteJob
+ */
+@Mapper
+public interface StampDeleteJobMapper {
+
+    /**
+     * ジョブを登録します（ステータスは QUEUED、カーソルは範囲の先頭）。
+     *
+     * @param job 登録するジョブ（IDと作成日時が設定されます）
+     */
+    void insert(StampDeleteJob job);
+
+    /**
+     * IDでジョブを取得します。
+     *
+     * @param id ジョブID
+     * @return 該当するジョブ、存在しない場合は{@code Optional.empty()}
+     */
+    Optional<StampDeleteJob> findById(@Param("id") Long id);
+
+    /**
+     * 依頼者の直近のジョブを作成日時の降順で取得します。
+     *
+     * @param requestedBy 依頼者の従業員ID
+     * @param limit 取得する最大件数
+     * @return ジョブのリスト
+     */
+    List<StampDeleteJob> findRecentByRequester(
+            @Param("requestedBy") Integer requestedBy,
+            @Param("limit") int limit
+    );
+
+    /**
+     * 再開対象のジョブIDを取得します。
+     *
+     * <p>QUEUED のジョブと、{@code staleBefore} 以降に進捗が記録されていない RUNNING のジョブが対象です
+     * （PAUSED のジョブは再開が要求されるまで対象外です）。</p>
+     *
+     * @param staleBefore 停止したとみなす最終更新日時
+     * @return ジョブIDのリスト（作成順）
+     */
+    List<Long> findResumableIds(@Param("staleBefore") OffsetDateTime staleBefore);
+
+    /**
+     * 未完了のジョブを RUNNING に遷移させます。初回の開始時は削除対象の件数を記録します。
+     *
+     * @param id ジョブID
+     * @param estimatedCount 削除対象の件数（記録済みの場合は上書きしません）
+     * @param now 現在日時
+     * @return 更新件数（完了済み・一時停止中の場合は0）
+     */
+    int markRunning(
+            @Param("id") Long id,
+            @Param("estimatedCount") Integer estimatedCount,
+            @Param("now") OffsetDateTime now
+    );
+
+    /**
+     * チャンクの処理前にジョブ行をロックして取得します（同じジョブのチャンクを直列化します）。
+     *
+     * @param id ジョブID
+     * @return ステータス・カーソル・一時停止/取消要求のみを設定したジョブ
+     */
+    Optional<StampDeleteJob> lockForChunk(@Param("id") Long id);
+
+    /**
+     * チャンクの結果とカーソルを記録します。
+     *
+     * @param id ジョブID
+     * @param windowStart 次に処理する勤務日ウィンドウの開始日
+     * @param cursorId 次に処理するウィンドウで削除済みの最大の打刻記録ID
+     * @param deletedCount このチャンクで削除した件数
+     * @param chunkMillis このチャンクの処理時間
+     * @param now 現在日時
+     * @return 更新件数
+     */
+    int recordChunk(
+            @Param("id") Long id,
+            @Param("windowStart") LocalDate windowStart,
+            @Param("cursorId") int cursorId,
+            @Param("deletedCount") int deletedCount,
+            @Param("chunkMillis") int chunkMillis,
+            @Param("now") OffsetDateTime now
+    );
+
+    /**
+     * チャンク後の待機時間と計測したレプリカの再生遅延を記録します。
+     *
+     * @param id ジョブID
+     * @param sleepMillis 待機時間
+     * @param replayLagBytes レプリカの再生遅延（レプリカなしの場合は null）
+     * @param now 現在日時
+     * @return 更新件数
+     */
+    int recordThrottle(
+            @Param("id") Long id,
+            @Param("sleepMillis") int sleepMillis,
+            @Param("replayLagBytes") Long replayLagBytes,
+            @Param("now") OffsetDateTime now
+    );
+
+    /**
+     * 実行中のジョブを指定のステータスで終了させます（SUCCEEDED / FAILED / CANCELLED）。
+     *
+     * @param id ジョブID
+     * @param status 終了ステータス
+     * @param errorMessage 失敗理由（失敗時以外は null）
+     * @param now 現在日時
+     * @return 更新件数
+     */
+    int finish(
+            @Param("id") Long id,
+            @Param("status") String status,
+            @Param("errorMessage") String errorMessage,
+            @Param("now") OffsetDateTime now
+    );
+
+    /**
+     * 実行中のジョブを一時停止させます（一時停止要求を処理済みにします）。
+     *
+     * @param id ジョブID
+     * @param now 現在日時
+     * @return 更新件数
+     */
+    int markPaused(@Param("id") Long id, @Param("now") OffsetDateTime now);
+
+    /**
+     * 一時停止を要求します。QUEUED のジョブは即時に PAUSED になり、RUNNING のジョブは処理中のチャンクのコミット後に停止します。
+     *
+     * @param id ジョブID
+     * @param now 現在日時
+     * @return 更新件数（完了済み・一時停止中の場合は0）
+     */
+    int requestPause(@Param("id") Long id, @Param("now") OffsetDateTime now);
+
+    /**
+     * 一時停止中のジョブを QUEUED に戻します（未処理の一時停止要求も取り消します）。
+     *
+     * @param id ジョブID
+     * @param now 現在日時
+     * @return 更新件数（一時停止中・一時停止要求中でない場合は0）
+     */
+    int resume(@Param("id") Long id, @Param("now") OffsetDateTime now);
+
+    /**
+     * 取消を要求します。QUEUED・PAUSED のジョブは即時に CANCELLED になります。
+     *
+     * @param id ジョブID
+     * @param now 現在日時
+     * @return 更新件数（完了済みの場合は0）
+     */
+    int requestCancel(@Param("id") Long id, @Param("now") OffsetDateTime now);
+
+    /**
+     * 失敗したジョブを QUEUED に戻します（カーソルは保持します）。
+     *
+     * @param id ジョブID
+     * @param now 現在日時
+     * @return 更新件数（失敗状態でない場合は0）
+     */
+    int requeueFailed(@Param("id") Long id, @Param("now") OffsetDateTime now);
+}
@@ -1,15 +1,43 @@
 package com.example.teamdev.mapper;
 
-import com.example.teamdev.entity.StampDelete;
+import com.example.teamdev.entity.StampDeleteChunk;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDate;
+
+/**
+ * 打刻記録の範囲削除を提供するMapper。
+ *
+ * <p>範囲全体を1文で削除せず、勤務日のウィンドウ内を id 順に一定件数ずつ削除します
+ * （{@code idx_stamp_history_date_id} を使用）。
+ * すべてのSQLマッピングは {@code StampDeleteMapper.xml} で定義されています。</p>
+ */
 @Mapper
 public interface StampDeleteMapper {
 
     /**
-     * 指定した年月範囲の打刻記録を削除する
+     * 期間内の打刻記録の件数を取得します（進捗表示用）。
+     *
+     * @param fromDate 開始日（含む）
+     * @param toDate 終了日（含まない）
+     * @return 件数
+     */
+    int countInRange(@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+    /**
+     * 勤務日ウィンドウ内で {@code afterId} より大きいIDの打刻記録を、ID順に最大 {@code limit} 件削除します。
      *
-     * @return 削除された件数
+     * @param fromDate ウィンドウの開始日（含む）
+     * @param toDate ウィンドウの終了日（含まない）
+     * @param afterId 削除済みの最大の打刻記録ID（ウィンドウの先頭からの場合は0）
+     * @param limit 最大件数
+     * @return 削除結果
      */
-    int deleteStampsByYearMonthRange(StampDelete stampDelete);
+    StampDeleteChunk deleteChunk(
+        @Param("fromDate") LocalDate fromDate,
+        @Param("toDate") LocalDate toDate,
+        @Param("afterId") int afterId,
+        @Param("limit") int limit
+    );
 }
@@ -3,6 +3,8 @@ package com.example.teamdev.mapper;
 import com.example.teamdev.entity.MonthlyAttendanceStats;
 import com.example.teamdev.entity.StampHistory;
 import com.example.teamdev.entity.StampHistoryDisplay;
+import com.example.teamdev.entity.StampHistoryMonthRow;
+import com.example.teamdev.entity.StampImportMergeCounts;
 import com.example.teamdev.service.dto.DailyAttendanceRecord;
 import org.apache.ibatis.annotations.Delete;
 import org.apache.ibatis.annotations.Mapper;
@@ -10,6 +12,7 @@ import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Select;
 
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,7 +23,7 @@ import java.util.Optional;
 public interface StampHistoryMapper {
     //打刻記録テーブルから打刻日付・従業員IDが一致するレコードを取得する
     //※重複するレコードは存在しない前提のため1件取得
-    @Select("SELECT id, stamp_date AS stampDate, year, month, day, employee_id AS employeeId, in_time AS inTime, "
+    @Select("SELECT id, stamp_date AS stampDate, employee_id AS employeeId, in_time AS inTime, "
             + "out_time AS outTime, break_start_time AS breakStartTime, break_end_time AS breakEndTime, "
             + "is_night_shift AS isNightShift, update_employee_id AS updateEmployeeId, update_date AS updateDate "
             + "FROM stamp_history WHERE stamp_date = #{stampDate} "
@@ -44,20 +47,33 @@ public interface StampHistoryMapper {
             @Param("datesInMonth") List<java.time.LocalDate> datesInMonth
     );
 
-    //指定のidで1レコードを取得する
-    @Select("SELECT id, stamp_date AS stampDate, year, month, day, employee_id AS employeeId, in_time AS inTime, "
+    // 疎取得用: 打刻記録または修正申請が存在する日のみを整形前の生値で取得（カレンダーへの展開はJava側で行う）
+    List<StampHistoryMonthRow> findMonthRows(
+            @Param("employeeIds") List<Integer> employeeIds,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate
+    );
+
+    //指定のid・打刻日付で1レコードを取得する（主キーが (id, stamp_date) のため日付で1パーティションに絞り込む）
+    //打刻日付がnullの場合はidのみで検索する（勤務日を送らない旧クライアント向け。全パーティションを走査する）
+    @Select({
+            "<script>",
+            "SELECT id, stamp_date AS stampDate, employee_id AS employeeId, in_time AS inTime, "
             + "out_time AS outTime, break_start_time AS breakStartTime, break_end_time AS breakEndTime, "
             + "is_night_shift AS isNightShift, update_employee_id AS updateEmployeeId, update_date AS updateDate "
-            + "FROM stamp_history WHERE id = #{id}")
-    Optional<StampHistory> getById(@Param("id") Integer id);
+            + "FROM stamp_history WHERE id = #{id}",
+            "<if test='stampDate != null'>AND stamp_date = #{stampDate}</if>",
+            "</script>"
+    })
+    Optional<StampHistory> getById(@Param("id") Integer id, @Param("stampDate") LocalDate stampDate);
 
-    @Delete("DELETE FROM stamp_history WHERE id = #{id}")
-    int deleteById(@Param("id") Integer id);
+    @Delete("DELETE FROM stamp_history WHERE id = #{id} AND stamp_date = #{stampDate}")
+    int deleteById(@Param("id") Integer id, @Param("stampDate") LocalDate stampDate);
 
     //打刻記録テーブルにレコードを挿入する
     void save(StampHistory entity);
 
-    // 追加：打刻記録テーブルのレコードを更新する
+    // 追加：打刻記録テーブルのレコードを更新する（id と stampDate で対象を特定し、stamp_date は変更しない）
     void update(StampHistory entity);
 
     Optional<DailyAttendanceRecord> selectDailyAttendance(
@@ -77,4 +93,72 @@ public interface StampHistoryMapper {
             @Param("startMonth") String startMonth,
             @Param("endMonth") String endMonth
     );
+
+    /**
+     * 指定されたID・打刻日付の打刻記録を行ロック付きで取得する（打刻修正の一括承認用、ID昇順）
+     * @param keys id と stampDate を設定した打刻記録のリスト
+     * @return 打刻記録のリスト
+     */
+    List<StampHistory> findByIdsForUpdate(@Param("keys") List<StampHistory> keys);
+
+    /**
+     * 従業員ID・打刻日付の組み合わせに一致する既存の打刻記録を取得する（打刻修正の一括承認用）
+     * @param keys employeeId と stampDate を設定した打刻記録のリスト
+     * @return 既存の打刻記録のリスト（id, employeeId, stampDate のみ）
+     */
+    List<StampHistory> findByEmployeeIdAndStampDates(@Param("keys") List<StampHistory> keys);
+
+    /**
+     * 複数の打刻記録の時刻情報を1文で更新する（打刻修正の一括承認用）
+     * @param histories 更新後の値を設定した打刻記録のリスト（id と stampDate で対象を特定）
+     * @return 更新件数
+     */
+    int updateAll(@Param("histories") List<StampHistory> histories);
+
+    /**
+     * 複数の打刻記録を1文で挿入する（打刻修正の一括承認用）
+     * @param histories 挿入する打刻記録のリスト
+     * @return 採番されたIDを含む打刻記録のリスト（id, employeeId, stampDate のみ）
+     */
+    List<StampHistory> saveAllReturning(@Param("histories") List<StampHistory> histories);
+
+    /**
+     * 一括取り込み用の一時テーブル（stamp_import_staging）を作成する（トランザクション終了時に破棄）
+     */
+    void createImportStaging();
+
+    /**
+     * 一時テーブルの行の勤務日の月を返す（一括取り込み用）
+     * @return 月初日のリスト（昇順）
+     */
+    List<LocalDate> findImportStagingMonths();
+
+    /**
+     * 指定した月の一時テーブルの行の行番号を返す（一括取り込みで反映しない行の報告用）
+     * @param targetMonths 月初日のリスト（空でないこと）
+     * @param limit 最大件数
+     * @return 行番号のリスト（昇順）
+     */
+    List<Long> findImportStagingLinesInMonths(
+        @Param("targetMonths") List<LocalDate> targetMonths,
+        @Param("limit") int limit
+    );
+
+    /**
+     * 指定した月の一時テーブルの行を削除する（一括取り込みで反映しない行の除外用）
+     * @param targetMonths 月初日のリスト（空でないこと）
+     * @return 削除件数
+     */
+    int deleteImportStagingInMonths(@Param("targetMonths") List<LocalDate> targetMonths);
+
+    /**
+     * 一時テーブルの内容を1文で打刻記録へ反映する（一括取り込み用）
+     * @param updateEmployeeId 更新者の従業員ID
+     * @param updateDate 更新日時
+     * @return 挿入・更新件数
+     */
+    StampImportMergeCounts mergeImportStaging(
+            @Param("updateEmployeeId") int updateEmployeeId,
+            @Param("updateDate") OffsetDateTime updateDate
+    );
 }
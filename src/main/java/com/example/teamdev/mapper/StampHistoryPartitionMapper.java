@@ -0,0 +1,33 @@
+package com.example.teamdev.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+
+/**
+ * 打刻記録（stamp_history）の月単位のパーティションを管理するMapper。
+ *
+ * <p>パーティションの作成・削除はDB関数（V18）で行います。
+ * すべてのSQLマッピングは {@code StampHistoryPartitionMapper.xml} で定義されています。</p>
+ */
+@Mapper
+public interface StampHistoryPartitionMapper {
+
+    /**
+     * 指定した月のパーティションを作成します（作成済みの場合は何もしません）。
+     *
+     * @param month 対象月の任意の日
+     * @return 作成した場合 true
+     */
+    boolean ensurePartition(@Param("month") LocalDate month);
+
+    /**
+     * 指定した月のパーティションを切り離して削除し、空のパーティションを作り直します。
+     *
+     * @param month 対象月の任意の日
+     * @param lockTimeoutMillis 親テーブルのロックを待つ上限（ミリ秒）
+     * @return 削除した件数、パーティションがない場合は null
+     */
+    Long dropPartition(@Param("month") LocalDate month, @Param("lockTimeoutMillis") int lockTimeoutMillis);
+}
@@ -0,0 +1,60 @@
+package com.example.teamdev.mapper;
+
+import com.example.teamdev.entity.StampPunchIdempotency;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * 一括打刻の冪等キーテーブルへのアクセスを提供するMapper。
+ *
+ * <p>すべてのSQLマッピングは {@code StampPunchIdempotencyMapper.xml} で定義されています。</p>
+ *
+ * @see com.example.teamdev.entity.StampPunchIdempotency
+ */
+@Mapper
+public interface StampPunchIdempotencyMapper {
+
+    /**
+     * 冪等キーを確保します。既に登録済み（他のトランザクションが処理中の場合はそのコミットを待機）のキーは確保しません。
+     * キーは端末・従業員ごとに一意です。
+     *
+     * @param keys 確保するキー（kioskId・employeeId・idempotencyKey を設定したもの）
+     * @return 確保できたキー（kioskId・employeeId・idempotencyKey のみ設定）
+     */
+    List<StampPunchIdempotency> claim(@Param("keys") List<StampPunchIdempotency> keys);
+
+    /**
+     * 登録済みのキーと処理結果を取得します。
+     *
+     * @param keys 冪等キー（kioskId・employeeId・idempotencyKey を設定したもの）
+     * @return 登録済みのキーと処理結果
+     */
+    List<StampPunchIdempotency> findByKeys(@Param("keys") List<StampPunchIdempotency> keys);
+
+    /**
+     * 確保したキーに処理結果を1文で記録します。
+     *
+     * @param records 端末・従業員・冪等キー・処理結果・メッセージを設定したもの
+     * @return 更新件数
+     */
+    int recordOutcomes(@Param("records") List<StampPunchIdempotency> records);
+
+    /**
+     * 指定したキーを削除します（処理結果を記録せずに解放する場合）。
+     *
+     * @param keys 冪等キー（kioskId・employeeId・idempotencyKey を設定したもの）
+     * @return 削除件数
+     */
+    int deleteByKeys(@Param("keys") List<StampPunchIdempotency> keys);
+
+    /**
+     * 保持期間を過ぎたキーを削除します。
+     *
+     * @param cutoff この日時より前に登録したキーを削除する
+     * @return 削除件数
+     */
+    int deleteCreatedBefore(@Param("cutoff") OffsetDateTime cutoff);
+}
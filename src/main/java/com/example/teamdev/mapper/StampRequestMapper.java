@@ -4,6 +4,8 @@ import com.example.teamdev.entity.StampRequest;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -262,6 +264,8 @@ public interface StampRequestMapper {
      * @param sort ソート順（"recent", "oldest", "status"）
      * @param offset スキップする件数
      * @param limit 取得する最大件数
+     * @param reviewerId レビュー担当者ID（指定した場合、他の担当者がリース中のPENDING申請を除外）
+     * @param now リースの有効期限を判定する現在時刻
      * @return 該当するリクエストのリスト
      */
     List<StampRequest> findWithSearch(
@@ -269,7 +273,9 @@ public interface StampRequestMapper {
             @Param("search") String search,
             @Param("sort") String sort,
             @Param("offset") int offset,
-            @Param("limit") int limit
+            @Param("limit") int limit,
+            @Param("reviewerId") Integer reviewerId,
+            @Param("now") OffsetDateTime now
     );
 
     /**
@@ -277,11 +283,15 @@ public interface StampRequestMapper {
      *
      * @param status ステータス（nullの場合は全ステータス）
      * @param search 検索キーワード（nullの場合はフィルタなし）
+     * @param reviewerId レビュー担当者ID（指定した場合、他の担当者がリース中のPENDING申請を除外）
+     * @param now リースの有効期限を判定する現在時刻
      * @return 該当するリクエストの件数
      */
     int countWithSearch(
             @Param("status") String status,
-            @Param("search") String search
+            @Param("search") String search,
+            @Param("reviewerId") Integer reviewerId,
+            @Param("now") OffsetDateTime now
     );
 
     /**
@@ -291,4 +301,111 @@ public interface StampRequestMapper {
      * @return 削除された件数（0または1）
      */
     int deleteById(@Param("id") Integer id);
+
+    /**
+     * 指定されたIDのリクエストを行ロック付きで取得します（一括承認用）。
+     *
+     * <p>デッドロックを避けるため、ID昇順でロックを取得します。
+     * 存在しないIDは結果に含まれません。</p>
+     *
+     * @param ids リクエストIDの配列
+     * @return 該当するリクエストのリスト（ID昇順）
+     */
+    List<StampRequest> findByIdsForUpdate(@Param("ids") Integer[] ids);
+
+    /**
+     * 複数のPENDINGリクエストを1文で承認済みに更新します（一括承認用）。
+     *
+     * <p>{@code stampHistoryIds} は {@code ids} と同じ並びで、打刻忘れ申請の承認時に作成した
+     * 勤怠記録IDを指定します（null の要素は既存値を保持）。
+     * PENDING 以外のリクエストは更新されません。</p>
+     *
+     * @param ids リクエストIDの配列
+     * @param stampHistoryIds 反映する勤怠記録IDの配列
+     * @param approverId 承認者の従業員ID
+     * @param approvalNote 承認ノート
+     * @param approvedAt 承認日時
+     * @return 更新されたリクエストのID
+     */
+    List<Integer> approveAllReturningIds(
+            @Param("ids") Integer[] ids,
+            @Param("stampHistoryIds") Integer[] stampHistoryIds,
+            @Param("approverId") Integer approverId,
+            @Param("approvalNote") String approvalNote,
+            @Param("approvedAt") OffsetDateTime approvedAt
+    );
+
+    /**
+     * 複数のPENDINGリクエストを1文で却下済みに更新します（一括却下ジョブ用）。
+     *
+     * <p>PENDING 以外のリクエスト、および他の管理者が有効なリースを保持しているリクエストは更新されません。</p>
+     *
+     * @param ids リクエストIDの配列
+     * @param rejecterId 却下者の従業員ID
+     * @param rejectionReason 却下理由
+     * @param rejectedAt 却下日時
+     * @return 更新されたリクエスト
+     */
+    List<StampRequest> rejectAllReturning(
+            @Param("ids") Integer[] ids,
+            @Param("rejecterId") Integer rejecterId,
+            @Param("rejectionReason") String rejectionReason,
+            @Param("rejectedAt") OffsetDateTime rejectedAt
+    );
+
+    /**
+     * PENDINGのリクエストを古い順に最大 {@code limit} 件、レビュー担当者にリースします（承認キュー用）。
+     *
+     * <p>{@code FOR UPDATE SKIP LOCKED} で対象行をロックするため、複数の担当者が同時に呼び出しても
+     * 同じ申請は割り当てられません。担当者自身のリースは優先して含め、期限を延長します。
+     * 期限切れのリースは他の担当者に割り当て直されます。</p>
+     *
+     * @param reviewerId レビュー担当者の従業員ID
+     * @param limit 最大件数
+     * @param now 現在時刻（リースの有効期限の判定に使用）
+     * @param expiresAt 新しいリースの有効期限
+     * @return リースしたリクエスト（順不同）
+     */
+    List<StampRequest> claimPending(
+            @Param("reviewerId") Integer reviewerId,
+            @Param("limit") int limit,
+            @Param("now") OffsetDateTime now,
+            @Param("expiresAt") OffsetDateTime expiresAt
+    );
+
+    /**
+     * レビュー担当者のリースを解放します。
+     *
+     * @param reviewerId レビュー担当者の従業員ID
+     * @param ids 解放するリクエストIDの配列（nullの場合は担当者のすべてのリース）
+     * @return 解放された件数
+     */
+    int releaseClaims(
+            @Param("reviewerId") Integer reviewerId,
+            @Param("ids") Integer[] ids
+    );
+
+    /**
+     * 指定したリクエストを最新申請の投影（{@code stamp_request_latest}）に反映します。
+     *
+     * <p>従業員・日付ごとに作成日時が最も新しいリクエストのみを保持します。
+     * 既に保持しているリクエストのステータス変更、またはより新しいリクエストの場合のみ更新するため、
+     * 同時に作成された古いリクエストが新しいリクエストを上書きすることはありません。</p>
+     *
+     * @param ids リクエストIDの配列
+     * @return 追加・更新された件数
+     */
+    int upsertLatestRequests(@Param("ids") Integer[] ids);
+
+    /**
+     * 期間内の最新申請の投影を {@code stamp_request} から再計算し、差異を補正します（整合性確認ジョブ用）。
+     *
+     * @param fromDate 開始日（含む）
+     * @param toDate 終了日（含まない）
+     * @return 補正（追加・更新・削除）した件数
+     */
+    int repairLatestRequests(
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate
+    );
 }
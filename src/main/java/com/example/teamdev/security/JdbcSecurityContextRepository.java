@@ -0,0 +1,155 @@
+package com.example.teamdev.security;
+
+import com.example.teamdev.config.RequiredLsnHolder;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.DeferredSecurityContext;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.HttpRequestResponseHolder;
+import org.springframework.security.web.context.SecurityContextRepository;
+
+/**
+ * {@link JdbcSessionStore} に SecurityContext を保存する {@link SecurityContextRepository}。
+ *
+ * <p>{@code app.session.store=jdbc} の場合に HttpSession の代わりに使用します。セッションの識別には
+ * {@code app.session.jdbc.cookie-name} の Cookie を使い、HttpSession（JSESSIONID）は作成しません。
+ * read-your-writes の要求 LSN も同じセッションに保持します（{@link RequiredLsnHolder}）。</p>
+ */
+public class JdbcSecurityContextRepository implements SecurityContextRepository, RequiredLsnHolder {
+
+    private final JdbcSessionStore store;
+    private final String cookieName;
+    private final boolean secureCookie;
+    private final String sameSite;
+    private final AuthenticationTrustResolver trustResolver = new AuthenticationTrustResolverImpl();
+
+    public JdbcSecurityContextRepository(JdbcSessionStore store, String cookieName, boolean secureCookie, String sameSite) {
+        this.store = store;
+        this.cookieName = cookieName;
+        this.secureCookie = secureCookie;
+        this.sameSite = sameSite;
+    }
+
+    @Override
+    @Deprecated
+    public SecurityContext loadContext(HttpRequestResponseHolder requestResponseHolder) {
+        return loadDeferredContext(requestResponseHolder.getRequest()).get();
+    }
+
+    /**
+     * 認可で参照されるまでセッションを読み込みません。
+     */
+    @Override
+    public DeferredSecurityContext loadDeferredContext(HttpServletRequest request) {
+        return new DeferredSecurityContext() {
+
+            private SecurityContext context;
+            private boolean generated;
+
+            @Override
+            public SecurityContext get() {
+                if (context == null) {
+                    String token = readToken(request);
+                    SecurityContext loaded = token == null ? null : store.load(token).orElse(null);
+                    generated = loaded == null;
+                    context = generated ? SecurityContextHolder.createEmptyContext() : loaded;
+                }
+                return context;
+            }
+
+            @Override
+            public boolean isGenerated() {
+                get();
+                return generated;
+            }
+        };
+    }
+
+    /**
+     * 認証済みの SecurityContext を保存し、新しいトークンを発行した場合は Cookie に設定します。
+     * 空の SecurityContext（ログアウト）の場合はセッションを削除して Cookie を失効させます。
+     */
+    @Override
+    public void saveContext(SecurityContext context, HttpServletRequest request, HttpServletResponse response) {
+        String token = readToken(request);
+        Authentication authentication = context.getAuthentication();
+        if (authentication == null || trustResolver.isAnonymous(authentication)) {
+            if (token != null) {
+                store.delete(token);
+                writeCookie(request, response, "", Duration.ZERO);
+            }
+            return;
+        }
+        String saved = store.save(token, context);
+        if (!saved.equals(token)) {
+            writeCookie(request, response, saved, null);
+        }
+    }
+
+    @Override
+    public boolean containsContext(HttpServletRequest request) {
+        String token = readToken(request);
+        return token != null && store.load(token).isPresent();
+    }
+
+    @Override
+    public boolean hasSession(HttpServletRequest request) {
+        return readToken(request) != null;
+    }
+
+    @Override
+    public Long get(HttpServletRequest request) {
+        String token = readToken(request);
+        return token == null ? null : store.requiredLsn(token);
+    }
+
+    @Override
+    public void record(HttpServletRequest request, long lsn) {
+        String token = readToken(request);
+        if (token != null) {
+            store.recordRequiredLsn(token, lsn);
+        }
+    }
+
+    @Override
+    public void clear(HttpServletRequest request, long lsn) {
+        String token = readToken(request);
+        if (token != null) {
+            store.clearRequiredLsn(token, lsn);
+        }
+    }
+
+    private String readToken(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (cookieName.equals(cookie.getName()) && cookie.getValue() != null && !cookie.getValue().isBlank()) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+
+    private void writeCookie(HttpServletRequest request, HttpServletResponse response, String value, Duration maxAge) {
+        String contextPath = request.getContextPath();
+        ResponseCookie.ResponseCookieBuilder cookie = ResponseCookie.from(cookieName, value)
+            .path(contextPath == null || contextPath.isEmpty() ? "/" : contextPath)
+            .httpOnly(true)
+            .secure(secureCookie)
+            .sameSite(sameSite);
+        if (maxAge != null) {
+            cookie.maxAge(maxAge);
+        }
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.build().toString());
+    }
+}
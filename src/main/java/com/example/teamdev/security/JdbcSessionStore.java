@@ -0,0 +1,421 @@
+package com.example.teamdev.security;
+
+import com.example.teamdev.entity.HttpSessionRecord;
+import com.example.teamdev.mapper.HttpSessionMapper;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializationFailedException;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.dao.DataAccessException;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.stereotype.Component;
+
+/**
+ * 認証済みの SecurityContext を PostgreSQL の {@code http_session} テーブルに保存し、全ノードで共有するストア。
+ *
+ * <p>セッション Cookie にはランダムなトークンを設定し、テーブルにはその SHA-256 だけを保存します。
+ * 各ノードは読み込んだセッションを {@code cache-ttl-millis} の間ローカルに保持し、期間を過ぎたら
+ * バージョンと失効日時だけを確認して、SecurityContext が更新されていた場合に限り読み直します。
+ * 最終アクセス日時はノード内で集約し、{@code touch-flush-interval-millis} ごとに1回の UPDATE で反映します。
+ * 失効したセッションは {@code sweep-interval-seconds} ごとに {@code sweep-batch-size} 件ずつ削除します。</p>
+ *
+ * <p>ほかのノードで行われたログアウトや同時セッション数超過による削除は、最大でキャッシュの有効期間だけ遅れて反映されます。</p>
+ */
+@Component
+@ConditionalOnProperty(name = "app.session.store", havingValue = "jdbc")
+public class JdbcSessionStore {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcSessionStore.class);
+    private static final int TOKEN_BYTES = 32;
+    private static final int TOUCH_BATCH_SIZE = 500;
+
+    private final HttpSessionMapper mapper;
+    private final Clock clock;
+    private final Duration maxInactive;
+    private final int maximumSessions;
+    private final long cacheTtlNanos;
+    private final int cacheMaxEntries;
+    private final long touchFlushIntervalMillis;
+    private final long sweepIntervalSeconds;
+    private final int sweepBatchSize;
+    private final SecureRandom random = new SecureRandom();
+    private final SerializingConverter serializer = new SerializingConverter();
+    private final DeserializingConverter deserializer = new DeserializingConverter(getClass().getClassLoader());
+    private final Map<String, CachedSession> cache = new ConcurrentHashMap<>();
+    private final Map<String, OffsetDateTime> pendingTouches = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+
+    public JdbcSessionStore(
+        HttpSessionMapper mapper,
+        Clock clock,
+        @Value("${server.servlet.session.timeout:30m}") Duration maxInactive,
+        @Value("${app.session.maximum-sessions:3}") int maximumSessions,
+        @Value("${app.session.jdbc.cache-ttl-millis:2000}") long cacheTtlMillis,
+        @Value("${app.session.jdbc.cache-max-entries:10000}") int cacheMaxEntries,
+        @Value("${app.session.jdbc.touch-flush-interval-millis:5000}") long touchFlushIntervalMillis,
+        @Value("${app.session.jdbc.sweep-interval-seconds:60}") long sweepIntervalSeconds,
+        @Value("${app.session.jdbc.sweep-batch-size:500}") int sweepBatchSize
+    ) {
+        if (maxInactive.toSeconds() < 1 || maximumSessions < 1 || cacheTtlMillis < 0 || cacheMaxEntries < 1
+            || touchFlushIntervalMillis < 1 || sweepIntervalSeconds < 1 || sweepBatchSize < 1) {
+            throw new IllegalArgumentException("app.session.jdbc settings must be positive");
+        }
+        this.mapper = mapper;
+        this.clock = clock;
+        this.maxInactive = maxInactive;
+        this.maximumSessions = maximumSessions;
+        this.cacheTtlNanos = TimeUnit.MILLISECONDS.toNanos(cacheTtlMillis);
+        this.cacheMaxEntries = cacheMaxEntries;
+        this.touchFlushIntervalMillis = touchFlushIntervalMillis;
+        this.sweepIntervalSeconds = sweepIntervalSeconds;
+        this.sweepBatchSize = sweepBatchSize;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "http-session-store");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 最終アクセス日時の反映と失効セッションの削除を開始します。
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::flushTouches,
+            touchFlushIntervalMillis, touchFlushIntervalMillis, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::sweepExpired, 0L, sweepIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+        // 停止前に集約済みの最終アクセス日時を反映する
+        flushTouches();
+    }
+
+    /**
+     * トークンに対応する SecurityContext を取得し、最終アクセス日時を更新します。
+     *
+     * @param token セッション Cookie の値
+     * @return SecurityContext の複製、存在しないか失効している場合は{@code Optional.empty()}
+     */
+    public Optional<SecurityContext> load(String token) {
+        String id = hash(token);
+        CachedSession session = lookup(id);
+        if (session == null) {
+            return Optional.empty();
+        }
+        touch(id);
+        return Optional.of(copy(session.context()));
+    }
+
+    /**
+     * SecurityContext を保存します。
+     *
+     * <p>同じユーザーのセッションであればそのトークンのまま更新し、それ以外（未ログイン・別ユーザー）は
+     * セッション固定攻撃を防ぐため新しいトークンで登録します。登録後、同時セッション数を超えたユーザーの
+     * 古いセッションを削除します。</p>
+     *
+     * @param token 現在のセッション Cookie の値、ない場合は{@code null}
+     * @param context 認証済みの SecurityContext
+     * @return セッション Cookie に設定するトークン
+     */
+    public String save(String token, SecurityContext context) {
+        String principalName = context.getAuthentication().getName();
+        byte[] serialized = serializer.convert(context);
+        if (token != null) {
+            String id = hash(token);
+            CachedSession current = lookup(id);
+            if (current != null && principalName.equals(current.principalName())) {
+                Long version = mapper.updateSecurityContext(id, principalName, serialized);
+                if (version != null) {
+                    putCache(id, new CachedSession(principalName, copy(context), version,
+                        current.requiredLsn(), current.expiresAt(), nanoTime()));
+                    return token;
+                }
+            }
+            delete(token);
+        }
+
+        String newToken = newToken();
+        String id = hash(newToken);
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        OffsetDateTime expiresAt = now.plus(maxInactive);
+        mapper.insert(new HttpSessionRecord(id, principalName, serialized, 1L, null,
+            now, now, (int) maxInactive.toSeconds(), expiresAt));
+        putCache(id, new CachedSession(principalName, copy(context), 1L, null, expiresAt, nanoTime()));
+
+        List<String> evicted = mapper.deleteOldestByPrincipal(principalName, maximumSessions);
+        if (!evicted.isEmpty()) {
+            evicted.forEach(this::evict);
+            log.info("Evicted {} oldest sessions of {} beyond maximum {}", evicted.size(), principalName, maximumSessions);
+        }
+        return newToken;
+    }
+
+    /**
+     * セッションを削除します。
+     *
+     * @param token セッション Cookie の値
+     */
+    public void delete(String token) {
+        String id = hash(token);
+        evict(id);
+        mapper.deleteById(id);
+    }
+
+    /**
+     * セッションに記録された read-your-writes の要求 LSN を取得します。
+     *
+     * @param token セッション Cookie の値
+     * @return 要求 LSN、記録がないかセッションが存在しない場合は{@code null}
+     */
+    public Long requiredLsn(String token) {
+        CachedSession session = lookup(hash(token));
+        return session == null ? null : session.requiredLsn();
+    }
+
+    /**
+     * read-your-writes の要求 LSN を記録します。既により大きい値が記録されている場合は変更しません。
+     *
+     * @param token セッション Cookie の値
+     * @param lsn プライマリの LSN
+     */
+    public void recordRequiredLsn(String token, long lsn) {
+        String id = hash(token);
+        mapper.recordRequiredLsn(id, lsn);
+        cache.computeIfPresent(id, (key, session) -> session.requiredLsn() != null && session.requiredLsn() >= lsn
+            ? session : session.withRequiredLsn(lsn));
+    }
+
+    /**
+     * 全レプリカが再生済みになった要求 LSN を削除します。
+     *
+     * @param token セッション Cookie の値
+     * @param lsn 再生済みの LSN
+     */
+    public void clearRequiredLsn(String token, long lsn) {
+        String id = hash(token);
+        // ほかのノードのキャッシュが期限切れになるまで同じ削除を繰り返さないよう、先にローカルから消す
+        cache.computeIfPresent(id, (key, session) -> session.requiredLsn() != null && session.requiredLsn() <= lsn
+            ? session.withRequiredLsn(null) : session);
+        mapper.clearRequiredLsn(id, lsn);
+    }
+
+    /**
+     * 集約した最終アクセス日時をまとめて反映します。
+     *
+     * @return 更新したセッション数
+     */
+    public int flushTouches() {
+        if (pendingTouches.isEmpty()) {
+            return 0;
+        }
+        List<HttpSessionRecord> touches = new ArrayList<>();
+        for (String id : List.copyOf(pendingTouches.keySet())) {
+            OffsetDateTime accessedAt = pendingTouches.remove(id);
+            if (accessedAt != null) {
+                HttpSessionRecord touch = new HttpSessionRecord();
+                touch.setId(id);
+                touch.setLastAccessedAt(accessedAt);
+                touches.add(touch);
+            }
+        }
+        int updated = 0;
+        for (int from = 0; from < touches.size(); from += TOUCH_BATCH_SIZE) {
+            List<HttpSessionRecord> batch = touches.subList(from, Math.min(from + TOUCH_BATCH_SIZE, touches.size()));
+            try {
+                updated += mapper.touchAll(batch);
+            } catch (DataAccessException e) {
+                // 次回のフラッシュで再試行する（その間に新しいアクセスがあればそちらを残す）
+                batch.forEach(touch -> pendingTouches.merge(touch.getId(), touch.getLastAccessedAt(),
+                    (pending, failed) -> pending.isAfter(failed) ? pending : failed));
+                log.warn("Failed to flush {} session touches: {}", batch.size(), e.getMessage());
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * 失効したセッションを削除します。
+     *
+     * <p>ほかのノードでまだ反映していない最終アクセス日時があり得るため、失効日時から
+     * {@code touch-flush-interval-millis} 以上経過したセッションだけを削除します。</p>
+     *
+     * @return 削除したセッション数
+     */
+    public int sweepExpired() {
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        cache.entrySet().removeIf(entry -> !entry.getValue().expiresAt().isAfter(now));
+        OffsetDateTime before = now.minus(Duration.ofMillis(touchFlushIntervalMillis));
+        int total = 0;
+        try {
+            int deleted;
+            do {
+                deleted = mapper.deleteExpired(before, sweepBatchSize);
+                total += deleted;
+            } while (deleted == sweepBatchSize);
+        } catch (DataAccessException e) {
+            log.warn("Failed to sweep expired sessions: {}", e.getMessage());
+        }
+        if (total > 0) {
+            log.info("Swept {} expired sessions", total);
+        }
+        return total;
+    }
+
+    long nanoTime() {
+        return System.nanoTime();
+    }
+
+    private CachedSession lookup(String id) {
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        long nanos = nanoTime();
+        CachedSession cached = cache.get(id);
+        if (cached != null) {
+            if (nanos - cached.checkedAtNanos() < cacheTtlNanos && cached.expiresAt().isAfter(now)) {
+                return cached;
+            }
+            Optional<HttpSessionRecord> state = mapper.findStateById(id);
+            if (state.isEmpty() || !expiresAt(id, state.get()).isAfter(now)) {
+                evict(id);
+                return null;
+            }
+            if (state.get().getVersion() == cached.version()) {
+                CachedSession revalidated = new CachedSession(cached.principalName(), cached.context(), cached.version(),
+                    state.get().getRequiredLsn(), expiresAt(id, state.get()), nanos);
+                putCache(id, revalidated);
+                return revalidated;
+            }
+        }
+
+        Optional<HttpSessionRecord> found = mapper.findById(id);
+        if (found.isEmpty() || !expiresAt(id, found.get()).isAfter(now)) {
+            evict(id);
+            return null;
+        }
+        HttpSessionRecord record = found.get();
+        SecurityContext context = deserialize(record);
+        if (context == null) {
+            evict(id);
+            mapper.deleteById(id);
+            return null;
+        }
+        CachedSession loaded = new CachedSession(record.getPrincipalName(), context, record.getVersion(),
+            record.getRequiredLsn(), expiresAt(id, record), nanos);
+        putCache(id, loaded);
+        return loaded;
+    }
+
+    private void touch(String id) {
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        pendingTouches.put(id, now);
+        OffsetDateTime expiresAt = now.plus(maxInactive);
+        cache.computeIfPresent(id, (key, session) -> session.withExpiresAt(expiresAt));
+    }
+
+    /**
+     * テーブルの失効日時と、このノードでまだ反映していないアクセスによる失効日時の遅い方を返します。
+     */
+    private OffsetDateTime expiresAt(String id, HttpSessionRecord record) {
+        OffsetDateTime pending = pendingTouches.get(id);
+        if (pending == null) {
+            return record.getExpiresAt();
+        }
+        OffsetDateTime touched = pending.plus(maxInactive);
+        return touched.isAfter(record.getExpiresAt()) ? touched : record.getExpiresAt();
+    }
+
+    private SecurityContext deserialize(HttpSessionRecord record) {
+        try {
+            if (deserializer.convert(record.getSecurityContext()) instanceof SecurityContext context) {
+                return context;
+            }
+        } catch (SerializationFailedException e) {
+            // デプロイでクラスの互換性がなくなった場合など。再ログインを求める
+            log.warn("Discarding session of {} that cannot be deserialized: {}", record.getPrincipalName(), e.getMessage());
+        }
+        return null;
+    }
+
+    private void evict(String id) {
+        cache.remove(id);
+        pendingTouches.remove(id);
+    }
+
+    private void putCache(String id, CachedSession session) {
+        if (cache.size() >= cacheMaxEntries && !cache.containsKey(id)) {
+            long nanos = nanoTime();
+            cache.entrySet().removeIf(entry -> nanos - entry.getValue().checkedAtNanos() >= cacheTtlNanos);
+            if (cache.size() >= cacheMaxEntries) {
+                // すべて有効期間内の場合は読み直しのコストを許容して空にする
+                cache.clear();
+            }
+        }
+        cache.put(id, session);
+    }
+
+    private String newToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * 呼び出し側で Authentication を差し替えても、キャッシュや並行リクエストに影響しないよう複製する。
+     */
+    private static SecurityContext copy(SecurityContext context) {
+        return new SecurityContextImpl(context.getAuthentication());
+    }
+
+    private record CachedSession(
+        String principalName,
+        SecurityContext context,
+        long version,
+        Long requiredLsn,
+        OffsetDateTime expiresAt,
+        long checkedAtNanos
+    ) {
+
+        CachedSession withRequiredLsn(Long lsn) {
+            return new CachedSession(principalName, context, version, lsn, expiresAt, checkedAtNanos);
+        }
+
+        CachedSession withExpiresAt(OffsetDateTime newExpiresAt) {
+            return new CachedSession(principalName, context, version, requiredLsn, newExpiresAt, checkedAtNanos);
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package com.example.teamdev.service;
+
+import com.example.teamdev.entity.AttendanceCloseSource;
+import com.example.teamdev.entity.AttendanceMonthClose;
+import com.example.teamdev.entity.AttendanceMonthSnapshot;
+import com.example.teamdev.entity.MonthlyAttendanceStats;
+import com.example.teamdev.entity.StampHistoryDisplay;
+import com.example.teamdev.exception.ClosedMonthException;
+import com.example.teamdev.mapper.AttendanceMonthSnapshotMapper;
+import com.example.teamdev.service.event.StampHistoryChangedEvent;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 勤怠の月次締めサービス。
+ *
+ * <p>締め処理では対象月の全従業員の打刻を1クエリで取得し、従業員単位で分割して複数スレッドで日次の値を計算したうえで、
+ * {@code attendance_month_snapshot} に {@code COPY} で一括登録します。締め情報の登録・計算・登録は1トランザクションで行うため、
+ * 途中で失敗した場合は締め済みになりません。</p>
+ *
+ * <p>締め済みの月は取り消せないため、月次表示・CSV出力・統計はスナップショットから返します。
+ * 打刻記録を変更する処理は {@link #assertOpen} / {@link #lockOpenMonths} で対象の月が締め済みでないことを確認します。
+ * 確認した月の共有ロックは変更するトランザクションの終了まで保持し、締め処理はその月の排他ロックを取得してから
+ * 計算元を読むため、締め処理と並行した変更がスナップショットから漏れることはありません。</p>
+ */
+@Service
+public class AttendanceMonthCloseService {
+
+    private static final Logger log = LoggerFactory.getLogger(AttendanceMonthCloseService.class);
+
+    private final AttendanceMonthSnapshotMapper mapper;
+    private final AttendanceMonthSnapshotCopyWriter copyWriter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+    private final int parallelism;
+    private final ExecutorService executor;
+
+    /** 締め済みと判定した月（締めは取り消せないため、未締めの判定はキャッシュしない） */
+    private final Set<YearMonth> closedMonths = ConcurrentHashMap.newKeySet();
+
+    public AttendanceMonthCloseService(
+        AttendanceMonthSnapshotMapper mapper,
+        AttendanceMonthSnapshotCopyWriter copyWriter,
+        ApplicationEventPublisher eventPublisher,
+        Clock clock,
+        @Value("${app.attendance-close.parallelism:0}") int parallelism
+    ) {
+        if (parallelism < 0) {
+            throw new IllegalArgumentException("app.attendance-close.parallelism must not be negative");
+        }
+        this.mapper = mapper;
+        this.copyWriter = copyWriter;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.executor = Executors.newFixedThreadPool(this.parallelism, daemonThreads("attendance-close-"));
+    }
+
+    /**
+     * 月次締めを実行します。
+     *
+     * @param month 対象月（当月より前であること）
+     * @param operatorId 実行者の従業員ID
+     * @return 締め情報、既に締め済みの場合は{@code Optional.empty()}
+     * @throws IllegalArgumentException 対象月が当月以降の場合
+     */
+    @Transactional
+    public Optional<AttendanceMonthClose> close(YearMonth month, Integer operatorId) {
+        Objects.requireNonNull(month, "month must not be null");
+        if (!month.isBefore(currentMonth())) {
+            throw new IllegalArgumentException("締め処理は前月以前の月のみ実行できます: " + month);
+        }
+        LocalDate targetMonth = month.atDay(1);
+        // 対象月の打刻記録を変更中のトランザクションの完了を待ち、締め処理の完了まで新たな変更を待たせる
+        mapper.lockMonthExclusive(targetMonth);
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        if (mapper.insertClose(targetMonth, operatorId, now) == 0) {
+            log.info("Attendance month {} is already closed", month);
+            return Optional.empty();
+        }
+
+        List<AttendanceCloseSource> sources = mapper.findCloseSources(targetMonth, month.atEndOfMonth());
+        long started = System.nanoTime();
+        List<AttendanceMonthSnapshot> snapshots = computeSnapshots(targetMonth, sources);
+        long computed = System.nanoTime();
+        long copied = copyWriter.copy(snapshots);
+
+        int employeeCount = (int) snapshots.stream().map(AttendanceMonthSnapshot::getEmployeeId).distinct().count();
+        mapper.updateCloseCounts(targetMonth, employeeCount, snapshots.size());
+        // 締め後はスナップショットから表示するため、全従業員の対象月の打刻履歴キャッシュを無効化（コミット後に反映）
+        eventPublisher.publishEvent(StampHistoryChangedEvent.forMonths(month, month));
+        log.info("Attendance month {} closed by employee {}: {} employee(s), {} row(s) (compute {} ms, copy {} ms)",
+            month, operatorId, employeeCount, copied,
+            (computed - started) / 1_000_000, (System.nanoTime() - computed) / 1_000_000);
+        return Optional.of(new AttendanceMonthClose(targetMonth, employeeCount, snapshots.size(), operatorId, now));
+    }
+
+    /**
+     * 業務タイムゾーンでの当月を返します（締め処理は当月より前の月のみ実行できます）。
+     *
+     * @return 当月
+     */
+    public YearMonth currentMonth() {
+        return YearMonth.now(clock);
+    }
+
+    /**
+     * 締め済みかどうかを判定します。
+     *
+     * @param month 対象月
+     * @return 締め済みの場合 true
+     */
+    public boolean isClosed(YearMonth month) {
+        if (closedMonths.contains(month)) {
+            return true;
+        }
+        boolean closed = mapper.existsClose(month.atDay(1));
+        if (closed) {
+            closedMonths.add(month);
+        }
+        return closed;
+    }
+
+    /**
+     * 打刻記録を変更する前に、勤務日の月が締め済みでないことを確認します。
+     * 打刻記録を変更するトランザクション内で呼び出してください。
+     *
+     * @param stampDate 変更する打刻記録の勤務日
+     * @throws ClosedMonthException 締め済みの月の場合
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void assertOpen(LocalDate stampDate) {
+        YearMonth month = YearMonth.from(stampDate);
+        if (!lockOpenMonths(List.of(stampDate)).isEmpty()) {
+            throw new ClosedMonthException(month);
+        }
+    }
+
+    /**
+     * 打刻記録を変更する前に、勤務日の月のうち締め済みの月を返します。
+     * 打刻記録を変更するトランザクション内で呼び出してください。
+     *
+     * <p>未締めの月には共有ロックを取得し、トランザクションの終了までその月の締め処理を待たせます
+     * （ロックの取得後に締め情報を確認するため、取得を待つ間に締められた月は締め済みとして返します）。</p>
+     *
+     * @param stampDates 変更する打刻記録の勤務日
+     * @return 締め済みの月（空の場合はすべて変更できます）
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Set<YearMonth> lockOpenMonths(Collection<LocalDate> stampDates) {
+        Set<YearMonth> months = new TreeSet<>();
+        stampDates.forEach(date -> months.add(YearMonth.from(date)));
+        Set<YearMonth> closed = new TreeSet<>();
+        for (YearMonth month : months) {
+            if (closedMonths.contains(month)) {
+                closed.add(month);
+                continue;
+            }
+            LocalDate targetMonth = month.atDay(1);
+            mapper.lockMonthShared(targetMonth);
+            if (mapper.existsClose(targetMonth)) {
+                closedMonths.add(month);
+                closed.add(month);
+            }
+        }
+        return closed;
+    }
+
+    /**
+     * 締め情報を取得します。
+     *
+     * @param month 対象月
+     * @return 締め情報、未締めの場合は{@code Optional.empty()}
+     */
+    public Optional<AttendanceMonthClose> findClose(YearMonth month) {
+        return mapper.findClose(month.atDay(1));
+    }
+
+    /**
+     * 締め済み月の勤怠をスナップショットからカレンダー形式で取得します。
+     *
+     * @param month 対象月（締め済みであること）
+     * @param employeeIds 従業員IDのリスト
+     * @param datesInMonth 対象月のすべての日付
+     * @return 勤怠のリスト（従業員IDの指定順・日付順）
+     */
+    public List<StampHistoryDisplay> getClosedMonthHistories(
+        YearMonth month,
+        List<Integer> employeeIds,
+        List<LocalDate> datesInMonth
+    ) {
+        return mapper.getSnapshotByEmployeeIds(month.atDay(1), employeeIds, datesInMonth);
+    }
+
+    /**
+     * 締め済み月の月次勤怠統計をスナップショットから取得します。
+     *
+     * @param employeeId 従業員ID
+     * @param startMonth 開始月
+     * @param endMonth 終了月
+     * @return 締め済みの月の統計のリスト（未締めの月は含みません）
+     */
+    public List<MonthlyAttendanceStats> findClosedMonthlyStatistics(
+        int employeeId,
+        YearMonth startMonth,
+        YearMonth endMonth
+    ) {
+        return mapper.findMonthlyStatistics(employeeId, startMonth.atDay(1), endMonth.atDay(1));
+    }
+
+    /**
+     * 計算元を従業員単位で分割し、並列に日次の値を計算します。
+     *
+     * @param targetMonth 対象月（月初日）
+     * @param sources 計算元（従業員ID・打刻日付の昇順）
+     * @return {@code sources} と同じ並びのスナップショット行
+     */
+    List<AttendanceMonthSnapshot> computeSnapshots(LocalDate targetMonth, List<AttendanceCloseSource> sources) {
+        List<int[]> employeeRanges = employeeRanges(sources);
+        int partitions = Math.min(parallelism, employeeRanges.size());
+        if (partitions <= 1) {
+            return computeRange(targetMonth, sources, employeeRanges);
+        }
+
+        int perPartition = (employeeRanges.size() + partitions - 1) / partitions;
+        List<CompletableFuture<List<AttendanceMonthSnapshot>>> futures = new ArrayList<>(partitions);
+        for (int from = 0; from < employeeRanges.size(); from += perPartition) {
+            List<int[]> partition = employeeRanges.subList(from, Math.min(from + perPartition, employeeRanges.size()));
+            futures.add(CompletableFuture.supplyAsync(() -> computeRange(targetMonth, sources, partition), executor));
+        }
+
+        List<AttendanceMonthSnapshot> snapshots = new ArrayList<>(sources.size());
+        try {
+            for (CompletableFuture<List<AttendanceMonthSnapshot>> future : futures) {
+                snapshots.addAll(future.join());
+            }
+        } catch (CompletionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return snapshots;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private List<AttendanceMonthSnapshot> computeRange(
+        LocalDate targetMonth,
+        List<AttendanceCloseSource> sources,
+        List<int[]> employeeRanges
+    ) {
+        List<AttendanceMonthSnapshot> rows = new ArrayList<>();
+        for (int[] range : employeeRanges) {
+            rows.addAll(AttendanceSnapshotCalculator.calculate(
+                targetMonth, sources.subList(range[0], range[1]), clock.getZone()));
+        }
+        return rows;
+    }
+
+    /**
+     * 従業員ごとの計算元の範囲 {@code [from, to)} を返します。
+     */
+    private static List<int[]> employeeRanges(List<AttendanceCloseSource> sources) {
+        List<int[]> ranges = new ArrayList<>();
+        int from = 0;
+        for (int i = 1; i <= sources.size(); i++) {
+            if (i == sources.size()
+                || !Objects.equals(sources.get(i).getEmployeeId(), sources.get(from).getEmployeeId())) {
+                ranges.add(new int[] {from, i});
+                from = i;
+            }
+        }
+        return ranges;
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
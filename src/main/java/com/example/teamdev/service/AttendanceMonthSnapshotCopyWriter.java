@@ -0,0 +1,110 @@
+package com.example.teamdev.service;
+
+import com.example.teamdev.entity.AttendanceMonthSnapshot;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import javax.sql.DataSource;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 月次締めのスナップショットを PostgreSQL の {@code COPY ... FROM STDIN} で一括登録するリポジトリ。
+ *
+ * <p>数十万行を INSERT で登録すると文の解析とラウンドトリップが支配的になるため、
+ * CSV に符号化した行を一定サイズごとにドライバへ送ります。
+ * 接続は {@link DataSourceUtils} で取得するため、呼び出し元のトランザクションに参加します。</p>
+ */
+@Repository
+public class AttendanceMonthSnapshotCopyWriter {
+
+    private static final String COPY_SQL = "COPY attendance_month_snapshot ("
+        + "target_month, employee_id, stamp_date, stamp_history_id, in_time, out_time, break_start_time, "
+        + "break_end_time, is_night_shift, update_employee_id, update_date, worked_minutes, overtime_minutes, "
+        + "night_minutes, late_minutes) FROM STDIN WITH (FORMAT csv)";
+
+    /** ドライバへ送るバッファの目安サイズ（文字数） */
+    private static final int FLUSH_THRESHOLD = 64 * 1024;
+
+    private final DataSource dataSource;
+
+    public AttendanceMonthSnapshotCopyWriter(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * スナップショット行を登録します。
+     *
+     * @param rows 登録する行
+     * @return 登録件数
+     */
+    public long copy(List<AttendanceMonthSnapshot> rows) {
+        if (rows.isEmpty()) {
+            return 0L;
+        }
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+            try {
+                StringBuilder buffer = new StringBuilder(FLUSH_THRESHOLD + 512);
+                for (AttendanceMonthSnapshot row : rows) {
+                    appendCsv(buffer, row);
+                    if (buffer.length() >= FLUSH_THRESHOLD) {
+                        write(copyIn, buffer);
+                    }
+                }
+                write(copyIn, buffer);
+                return copyIn.endCopy();
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Failed to copy attendance month snapshot", e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    /**
+     * 1行を CSV に符号化します。NULL は空欄で表します（値に区切り文字・引用符は含まれません）。
+     */
+    static void appendCsv(StringBuilder buffer, AttendanceMonthSnapshot row) {
+        buffer.append(row.getTargetMonth()).append(',')
+            .append(row.getEmployeeId()).append(',')
+            .append(row.getStampDate()).append(',');
+        appendNullable(buffer, row.getStampHistoryId());
+        appendNullable(buffer, row.getInTime());
+        appendNullable(buffer, row.getOutTime());
+        appendNullable(buffer, row.getBreakStartTime());
+        appendNullable(buffer, row.getBreakEndTime());
+        appendNullable(buffer, row.getIsNightShift());
+        appendNullable(buffer, row.getUpdateEmployeeId());
+        appendNullable(buffer, row.getUpdateDate());
+        buffer.append(row.getWorkedMinutes()).append(',')
+            .append(row.getOvertimeMinutes()).append(',')
+            .append(row.getNightMinutes()).append(',')
+            .append(row.getLateMinutes()).append('\n');
+    }
+
+    private static void appendNullable(StringBuilder buffer, Object value) {
+        if (value != null) {
+            buffer.append(value);
+        }
+        buffer.append(',');
+    }
+
+    private static void write(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+}
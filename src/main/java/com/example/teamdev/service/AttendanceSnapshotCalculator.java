@@ -0,0 +1,130 @@
+package com.example.teamdev.service;
+
+import com.example.teamdev.entity.AttendanceCloseSource;
+import com.example.teamdev.entity.AttendanceMonthSnapshot;
+import com.example.teamdev.service.profile.model.ProfileWorkScheduleDocument;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 月次締めの日次値（実労働・残業・深夜・遅刻）の計算。
+ *
+ * <p>実労働・残業は {@link OvertimeEngine} と同じ規則で計算し、従業員ごとに勤務スケジュールを1回だけ解析します。
+ * 状態を持たないため、従業員を分割して複数スレッドから同時に呼び出せます。</p>
+ */
+final class AttendanceSnapshotCalculator {
+
+    private static final LocalTime NIGHT_START = LocalTime.of(22, 0);
+    private static final LocalTime NIGHT_END = LocalTime.of(5, 0);
+
+    private AttendanceSnapshotCalculator() {
+    }
+
+    /**
+     * 1従業員分の計算元から日次の値を計算します。
+     *
+     * @param targetMonth 対象月（月初日）
+     * @param sources     同一従業員の計算元（打刻日付順、空でないこと）
+     * @param zone        業務タイムゾーン（深夜・遅刻の判定に使用）
+     * @return {@code sources} と同じ並びのスナップショット行
+     */
+    static List<AttendanceMonthSnapshot> calculate(LocalDate targetMonth, List<AttendanceCloseSource> sources,
+                                                   ZoneId zone) {
+        AttendanceCloseSource first = sources.get(0);
+        OvertimeEngine engine = OvertimeEngine.compile(new ProfileWorkScheduleDocument(
+            first.getScheduleStart(), first.getScheduleEnd(), valueOf(first.getScheduleBreakMinutes())));
+        LocalTime scheduleStart = engine.schedule().start().isBlank()
+            ? null
+            : LocalTime.parse(engine.schedule().start());
+
+        List<AttendanceMonthSnapshot> rows = new ArrayList<>(sources.size());
+        for (AttendanceCloseSource source : sources) {
+            long attendance = OvertimeEngine.toEpochMicros(source.getInTime());
+            long breakStart = OvertimeEngine.toEpochMicros(source.getBreakStartTime());
+            long breakEnd = OvertimeEngine.toEpochMicros(source.getBreakEndTime());
+            long departure = OvertimeEngine.toEpochMicros(source.getOutTime());
+
+            rows.add(AttendanceMonthSnapshot.builder()
+                .targetMonth(targetMonth)
+                .employeeId(source.getEmployeeId())
+                .stampDate(source.getStampDate())
+                .stampHistoryId(source.getStampHistoryId())
+                .inTime(source.getInTime())
+                .outTime(source.getOutTime())
+                .breakStartTime(source.getBreakStartTime())
+                .breakEndTime(source.getBreakEndTime())
+                .isNightShift(source.getIsNightShift())
+                .updateEmployeeId(source.getUpdateEmployeeId())
+                .updateDate(source.getUpdateDate())
+                .workedMinutes(engine.workedMinutes(attendance, breakStart, breakEnd, departure))
+                .overtimeMinutes(engine.overtimeMinutes(attendance, breakStart, breakEnd, departure))
+                .nightMinutes(nightMinutes(source, zone))
+                .lateMinutes(lateMinutes(source, scheduleStart, zone))
+                .build());
+        }
+        return rows;
+    }
+
+    /**
+     * 22:00〜翌5:00 に含まれる勤務時間（分）を計算します。記録された休憩のうち深夜帯の部分は除きます。
+     */
+    static int nightMinutes(AttendanceCloseSource source, ZoneId zone) {
+        OffsetDateTime in = source.getInTime();
+        OffsetDateTime out = source.getOutTime();
+        if (in == null || out == null || !out.isAfter(in)) {
+            return 0;
+        }
+        long seconds = nightSeconds(in.toInstant(), out.toInstant(), zone);
+
+        OffsetDateTime breakStart = source.getBreakStartTime();
+        OffsetDateTime breakEnd = source.getBreakEndTime();
+        if (breakStart != null && breakEnd != null) {
+            // 勤務時間外の休憩は差し引かない
+            Instant from = breakStart.isAfter(in) ? breakStart.toInstant() : in.toInstant();
+            Instant to = breakEnd.isBefore(out) ? breakEnd.toInstant() : out.toInstant();
+            if (to.isAfter(from)) {
+                seconds -= nightSeconds(from, to, zone);
+            }
+        }
+        return (int) (Math.max(seconds, 0L) / 60L);
+    }
+
+    /**
+     * 勤務開始時刻からの遅れ（分）を計算します。
+     * 比較は {@code StampHistoryMapper.findMonthlyStatistics} と同じく分単位で行い、
+     * 夜勤の日は勤務スケジュールが適用されないため0とします。
+     */
+    static int lateMinutes(AttendanceCloseSource source, LocalTime scheduleStart, ZoneId zone) {
+        if (source.getInTime() == null || scheduleStart == null || Boolean.TRUE.equals(source.getIsNightShift())) {
+            return 0;
+        }
+        LocalTime in = source.getInTime().atZoneSameInstant(zone).toLocalTime();
+        int late = (in.getHour() * 60 + in.getMinute()) - (scheduleStart.getHour() * 60 + scheduleStart.getMinute());
+        return Math.max(late, 0);
+    }
+
+    private static long nightSeconds(Instant from, Instant to, ZoneId zone) {
+        long total = 0L;
+        LocalDate last = to.atZone(zone).toLocalDate();
+        for (LocalDate day = from.atZone(zone).toLocalDate().minusDays(1); !day.isAfter(last);
+             day = day.plusDays(1)) {
+            long windowStart = day.atTime(NIGHT_START).atZone(zone).toEpochSecond();
+            long windowEnd = day.plusDays(1).atTime(NIGHT_END).atZone(zone).toEpochSecond();
+            long start = Math.max(from.getEpochSecond(), windowStart);
+            long end = Math.min(to.getEpochSecond(), windowEnd);
+            if (end > start) {
+                total += end - start;
+            }
+        }
+        return total;
+    }
+
+    private static int valueOf(Integer value) {
+        return value != null ? value : 0;
+    }
+}
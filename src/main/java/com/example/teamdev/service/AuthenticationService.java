@@ -53,7 +53,6 @@ public class AuthenticationService {
      * @return 認証成功時は従業員情報（名前、IDなど）とサインイン時刻を含むMap。失敗時は空のMap。
      */
     public Map<String, Object> execute(Employee employeeFromForm) {
-        long startTime = LogUtil.startPerformanceMeasurement();
         Map<String, Object> map = new HashMap<>();
         String email = employeeFromForm.getEmail();
         String rawPassword = employeeFromForm.getPassword(); // フォームからの平文パスワード
@@ -100,9 +99,6 @@ public class AuthenticationService {
         } catch (Exception e) {
             LogUtil.logError(logger, "認証処理中にエラーが発生しました", e, null, "email=" + email);
             return map; // エラー時は空のMapを返す
-        } finally {
-            LogUtil.endPerformanceMeasurement(startTime, "AuthenticationService.execute", 
-                "email=" + (email != null ? email.substring(0, Math.min(email.length(), 3)) + "***" : "null"));
         }
     }
 }
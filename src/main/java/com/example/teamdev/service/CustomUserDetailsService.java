@@ -38,6 +38,9 @@ public class CustomUserDetailsService implements UserDetailsService {
         List<GrantedAuthority> authorities = new ArrayList<>();
         if (employee.getAdminFlag() == AppConstants.Employee.ADMIN_FLAG_ADMIN) {
             authorities.add(new SimpleGrantedAuthority("ROLE_" + AppConstants.Employee.ADMIN_AUTHORITY));
+        } else if (employee.getAdminFlag() == AppConstants.Employee.ADMIN_FLAG_KIOSK) {
+            // キオスク端末のアカウントは一括打刻 API のみ使用できる（USER 権限は付与しない）
+            authorities.add(new SimpleGrantedAuthority("ROLE_" + AppConstants.Employee.KIOSK_AUTHORITY));
         } else {
             authorities.add(new SimpleGrantedAuthority("ROLE_" + AppConstants.Employee.USER_AUTHORITY));
         }
@@ -6,7 +6,7 @@ import com.example.teamdev.exception.EmployeeNotFoundException;
 import com.example.teamdev.form.EmployeeManageForm;
 import com.example.teamdev.form.ListForm;
 import com.example.teamdev.mapper.EmployeeMapper;
-import com.example.teamdev.mapper.LogHistoryMapper;
+import com.example.teamdev.service.job.EmployeePurgeJobService;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -14,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Timestamp;
 import java.time.Clock;
+import java.time.OffsetDateTime;
 import java.util.List;
 
 /**
@@ -24,7 +25,7 @@ import java.util.List;
 public class EmployeeCommandService {
 
     private final EmployeeMapper employeeMapper;
-    private final LogHistoryMapper logHistoryMapper;
+    private final EmployeePurgeJobService employeePurgeJobService;
     private final LogHistoryRegistrationService logHistoryService;
     private final PasswordEncoder passwordEncoder;
     private final EmployeeQueryService employeeQueryService;
@@ -34,20 +35,20 @@ public class EmployeeCommandService {
      * EmployeeCommandServiceのコンストラクタ。
      *
      * @param employeeMapper      従業員マッパー
-     * @param logHistoryMapper    ログ履歴マッパー
+     * @param employeePurgeJobService 論理削除した従業員のデータ削除ジョブサービス
      * @param logHistoryService   ログ履歴サービス
      * @param passwordEncoder     パスワードエンコーダー
      * @param employeeQueryService 従業員検索サービス
      */
     public EmployeeCommandService(
             EmployeeMapper employeeMapper,
-            LogHistoryMapper logHistoryMapper,
+            EmployeePurgeJobService employeePurgeJobService,
             LogHistoryRegistrationService logHistoryService,
             PasswordEncoder passwordEncoder,
             EmployeeQueryService employeeQueryService,
             Clock clock) {
         this.employeeMapper = employeeMapper;
-        this.logHistoryMapper = logHistoryMapper;
+        this.employeePurgeJobService = employeePurgeJobService;
         this.logHistoryService = logHistoryService;
         this.passwordEncoder = passwordEncoder;
         this.employeeQueryService = employeeQueryService;
@@ -142,7 +143,8 @@ public class EmployeeCommandService {
 
     /**
      * 指定されたIDリストに基づいて複数の従業員情報を削除します。
-     * N+1クエリ問題を解決するため、バッチ削除を使用します。
+     * 従業員は論理削除（削除日時の設定）により即時にすべての参照から除外され、
+     * 操作履歴・打刻修正申請・打刻記録と従業員行はコミット後にバックグラウンドのジョブがチャンク単位で削除します。
      *
      * @param listForm         削除対象の従業員IDのリストを含むフォームオブジェクト
      * @param updateEmployeeId この操作を行う従業員のID（操作履歴用）
@@ -151,15 +153,13 @@ public class EmployeeCommandService {
     @CacheEvict(value = {"employees", "employeeDataTables", "employeeById", "employeesGrouped"},
                 allEntries = true)
     public void deleteEmployees(ListForm listForm, Integer updateEmployeeId) {
-        // N+1問題解決：バッチ削除を使用
         List<Integer> idList = listForm.getIdList().stream()
                 .map(Integer::parseInt)
                 .toList();
 
         if (!idList.isEmpty()) {
-            // 先に履歴を削除してFK制約違反を回避
-            logHistoryMapper.deleteByEmployeeIds(idList);
-            employeeMapper.deleteByIdList(idList);
+            List<Integer> deletedIds = employeeMapper.softDeleteByIdList(idList, OffsetDateTime.now(clock));
+            employeePurgeJobService.submit(deletedIds, updateEmployeeId);
             Timestamp timestamp = Timestamp.from(clock.instant());
             logHistoryService.execute(3, 4, null, null, updateEmployeeId, timestamp);
         }
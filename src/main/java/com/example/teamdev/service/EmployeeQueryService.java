@@ -1,10 +1,12 @@
 package com.example.teamdev.service;
 
+import com.example.teamdev.config.ReplicaLsnTracker;
 import com.example.teamdev.entity.Employee;
 import com.example.teamdev.mapper.EmployeeMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Map;
@@ -14,8 +16,14 @@ import java.util.stream.Collectors;
 /**
  * 従業員情報の検索・取得に関するビジネスロジックを担当するサービスクラス。
  * 読み取り専用の操作を提供し、単一責任の原則に従っています。
+ * リードレプリカ使用時はレプリカから読み取ります。
+ *
+ * <p>ただし {@code @Cacheable} の読み込みは後続のリクエストにも返すため、プライマリから読み取ります
+ * （遅れているレプリカから読み込むと、変更前の内容をキャッシュの退避まで返し続けるため）。
+ * 接続は最初の問い合わせ時に選ぶため、メソッド内で {@link ReplicaLsnTracker#onPrimary} を使用します。</p>
  */
 @Service
+@Transactional(readOnly = true)
 public class EmployeeQueryService {
 
     private final EmployeeMapper employeeMapper;
@@ -38,7 +46,7 @@ public class EmployeeQueryService {
      */
     @Cacheable(value = "employeeById", key = "#employeeId")
     public Optional<Employee> getById(Integer employeeId) {
-        return employeeMapper.getById(employeeId);
+        return ReplicaLsnTracker.onPrimary(() -> employeeMapper.getById(employeeId));
     }
 
     /**
@@ -60,12 +68,13 @@ public class EmployeeQueryService {
      */
     @Cacheable(value = "employees", key = "#adminFlag != null ? #adminFlag : 'all'")
     public List<Employee> getAllEmployees(Integer adminFlag) {
+        List<Employee> employees = ReplicaLsnTracker.onPrimary(employeeMapper::getAllOrderById);
         if (adminFlag == null) {
             // 管理者フラグが指定されていない場合は全件取得
-            return employeeMapper.getAllOrderById();
+            return employees;
         } else {
             // N+1問題解決：全件取得後Javaでフィルタリング（キャッシュ効果も期待）
-            return employeeMapper.getAllOrderById().stream()
+            return employees.stream()
                     .filter(employee -> employee.getAdminFlag().equals(adminFlag))
                     .toList();
         }
@@ -79,7 +88,7 @@ public class EmployeeQueryService {
      */
     @Cacheable(value = "employeesGrouped")
     public Map<Integer, List<Employee>> getEmployeesGroupedByAdminFlag() {
-        return employeeMapper.getAllEmployeesGroupedByAdminFlag().stream()
+        return ReplicaLsnTracker.onPrimary(employeeMapper::getAllEmployeesGroupedByAdminFlag).stream()
                 .collect(Collectors.groupingBy(Employee::getAdminFlag));
     }
 
@@ -3,6 +3,7 @@ package com.example.teamdev.service;
 import java.util.List;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.teamdev.constant.AppConstants;
 import com.example.teamdev.dto.api.home.HomeNewsItem;
@@ -23,6 +24,7 @@ public class HomeNewsService {
         this.mapper = mapper;
     }
 
+    @Transactional(readOnly = true)
     public List<HomeNewsItem> execute() {
         List<News> newsList = mapper.getNewsByReleaseFlagTrueWithLimit(
             AppConstants.News.HOME_DISPLAY_LIMIT
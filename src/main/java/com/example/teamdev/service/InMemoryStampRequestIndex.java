@@ -0,0 +1,347 @@
+package com.example.teamdev.service;
+
+import com.example.teamdev.constant.StampRequestStatus;
+import com.example.teamdev.entity.StampRequest;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * {@link StampRequestStore} のインメモリバックエンド。
+ *
+ * <p>負荷試験やDBなしのローカル実行で PostgreSQL の代わりに使えるよう、
+ * SQL 版と同じ検索・並び順を索引で処理します。</p>
+ * <ul>
+ *   <li>全件・ステータス・従業員・(従業員, ステータス)・(従業員, 対象日) ごとに、
+ *       {@code (created_at, id)} 順の {@link ConcurrentSkipListMap} を保持します
+ *       （新しい順は {@code descendingMap()} で取得）</li>
+ *   <li>件数は索引ごとのカウンタで保持し、{@code count*} は O(1) です
+ *       （{@code ConcurrentSkipListMap#size()} は全件走査のため使用しません）</li>
+ *   <li>ページングは索引の先頭から {@code offset + limit} 件だけを辿るため、
+ *       O(log n + offset + limit) です。キーワード検索のみ対象索引の走査になります</li>
+ * </ul>
+ *
+ * <p>同じIDへの更新は {@link ConcurrentHashMap#compute} で直列化し、索引に登録した時点のキーを保持して
+ * 差し替えます（呼び出し側がインスタンスのステータスを直接変更してから保存しても古い索引が残りません）。
+ * 読み取りはロックを取らず、更新中のリクエストが一時的にどちらの索引にも現れない場合があります。</p>
+ */
+final class InMemoryStampRequestIndex {
+
+    private final Map<Integer, Entry> entries = new ConcurrentHashMap<>();
+    private final SortedIndex all = new SortedIndex();
+    private final Map<String, SortedIndex> byStatus = new ConcurrentHashMap<>();
+    private final Map<Integer, SortedIndex> byEmployee = new ConcurrentHashMap<>();
+    private final Map<EmployeeStatusKey, SortedIndex> byEmployeeStatus = new ConcurrentHashMap<>();
+    private final Map<EmployeeDateKey, SortedIndex> byEmployeeDate = new ConcurrentHashMap<>();
+
+    /**
+     * リクエストを登録または差し替えます（IDが設定済みであること）。
+     *
+     * @param request リクエスト
+     */
+    void put(StampRequest request) {
+        Objects.requireNonNull(request.getId(), "request id must not be null");
+        entries.compute(request.getId(), (id, previous) -> {
+            if (previous != null) {
+                unindex(previous);
+            }
+            Entry entry = new Entry(request, OrderKey.of(request), request.getEmployeeId(), request.getStatus(),
+                request.getStampDate());
+            index(entry);
+            return entry;
+        });
+    }
+
+    Optional<StampRequest> findById(Integer id) {
+        Entry entry = entries.get(id);
+        return entry != null ? Optional.of(entry.request()) : Optional.empty();
+    }
+
+    List<StampRequest> findAll() {
+        return new ArrayList<>(all.map.values());
+    }
+
+    List<StampRequest> findByEmployeeId(Integer employeeId, int offset, int limit) {
+        return page(recent(lookup(byEmployee, employeeId)), offset, limit);
+    }
+
+    List<StampRequest> findByEmployeeIdAndStatus(Integer employeeId, String status, int offset, int limit) {
+        return page(recent(lookup(byEmployeeStatus, EmployeeStatusKey.of(employeeId, status))), offset, limit);
+    }
+
+    List<StampRequest> findByStatus(String status, int offset, int limit) {
+        return page(recent(lookup(byStatus, status)), offset, limit);
+    }
+
+    int countByEmployeeId(Integer employeeId) {
+        return count(lookup(byEmployee, employeeId));
+    }
+
+    int countByEmployeeIdAndStatus(Integer employeeId, String status) {
+        return count(lookup(byEmployeeStatus, EmployeeStatusKey.of(employeeId, status)));
+    }
+
+    int countByStatus(String status) {
+        return count(lookup(byStatus, status));
+    }
+
+    Optional<StampRequest> findPendingByEmployeeIdAndStampHistoryId(Integer employeeId, Integer stampHistoryId) {
+        return recent(lookup(byEmployeeStatus, EmployeeStatusKey.of(employeeId, StampRequestStatus.PENDING.name())))
+            .stream()
+            .filter(r -> Objects.equals(r.getStampHistoryId(), stampHistoryId))
+            .findFirst();
+    }
+
+    Optional<StampRequest> findPendingByEmployeeIdAndStampDate(Integer employeeId, LocalDate stampDate) {
+        return recent(lookup(byEmployeeDate, EmployeeDateKey.of(employeeId, stampDate)))
+            .stream()
+            .filter(r -> StampRequestStatus.PENDING.name().equals(r.getStatus()))
+            .filter(r -> r.getStampHistoryId() == null)
+            .findFirst();
+    }
+
+    /**
+     * {@code StampRequestMapper.findWithSearch} と同じ並び順で検索します。
+     * キーワードはIDの部分一致と理由の部分一致（大文字小文字を区別しない）で判定します
+     * （従業員テーブルを持たないため氏名は対象外です）。
+     * {@code reviewerId} を指定した場合は、他のレビュー担当者がリース中のPENDING申請を除外します。
+     */
+    List<StampRequest> findWithSearch(String status, String search, String sort, int offset, int limit,
+                                      Integer reviewerId, OffsetDateTime now) {
+        Stream<StampRequest> ordered = switch (sort == null ? "recent" : sort) {
+            case "oldest" -> ascending(status).stream();
+            case "status" -> byStatusOrder(status);
+            default -> recent(status).stream();
+        };
+        Predicate<StampRequest> filter = filter(search, reviewerId, now);
+        if (filter != null) {
+            ordered = ordered.filter(filter);
+        }
+        return ordered.skip(Math.max(offset, 0)).limit(Math.max(limit, 0)).toList();
+    }
+
+    int countWithSearch(String status, String search, Integer reviewerId, OffsetDateTime now) {
+        SortedIndex index = status != null ? lookup(byStatus, status) : all;
+        Predicate<StampRequest> filter = filter(search, reviewerId, now);
+        if (filter == null) {
+            return count(index);
+        }
+        return index == null ? 0 : (int) index.map.values().stream().filter(filter).count();
+    }
+
+    /**
+     * PENDINGのリクエストを古い順に最大 {@code limit} 件、レビュー担当者にリースします。
+     * 担当者自身のリースを優先して延長し、残りをリース中でない申請から割り当てます。
+     * 割り当て同士は直列化します（索引のキーは変わらないため再索引はしません）。
+     *
+     * @return リースしたリクエスト（古い順）
+     */
+    synchronized List<StampRequest> claimPending(Integer reviewerId, int limit, OffsetDateTime now,
+                                                 OffsetDateTime expiresAt) {
+        Collection<StampRequest> pending = ascending(StampRequestStatus.PENDING.name());
+        List<StampRequest> claimed = new ArrayList<>();
+        pending.stream()
+            .filter(r -> reviewerId.equals(r.getClaimedBy()))
+            .limit(limit)
+            .forEach(claimed::add);
+        pending.stream()
+            .filter(r -> !reviewerId.equals(r.getClaimedBy()) && !r.isClaimedByOther(reviewerId, now))
+            .limit(Math.max(limit - claimed.size(), 0))
+            .forEach(claimed::add);
+        for (StampRequest request : claimed) {
+            request.setClaimedBy(reviewerId);
+            request.setClaimExpiresAt(expiresAt);
+        }
+        claimed.sort(Comparator.comparing(OrderKey::of));
+        return claimed;
+    }
+
+    /**
+     * レビュー担当者のリースを解放します（{@code ids} がnullの場合はすべて）。
+     *
+     * @return 解放した件数
+     */
+    synchronized int releaseClaims(Integer reviewerId, Collection<Integer> ids) {
+        int released = 0;
+        for (Entry entry : entries.values()) {
+            StampRequest request = entry.request();
+            if (reviewerId.equals(request.getClaimedBy()) && (ids == null || ids.contains(request.getId()))) {
+                request.setClaimedBy(null);
+                request.setClaimExpiresAt(null);
+                released++;
+            }
+        }
+        return released;
+    }
+
+    private Collection<StampRequest> recent(String status) {
+        return recent(status != null ? lookup(byStatus, status) : all);
+    }
+
+    private Collection<StampRequest> ascending(String status) {
+        SortedIndex index = status != null ? lookup(byStatus, status) : all;
+        return index != null ? index.map.values() : List.of();
+    }
+
+    /** ステータスの定義順（PostgreSQL の ENUM 順）、同一ステータス内は新しい順 */
+    private Stream<StampRequest> byStatusOrder(String status) {
+        if (status != null) {
+            return recent(status).stream();
+        }
+        return Arrays.stream(StampRequestStatus.values())
+            .flatMap(s -> recent(lookup(byStatus, s.name())).stream());
+    }
+
+    private static Predicate<StampRequest> filter(String search, Integer reviewerId, OffsetDateTime now) {
+        Predicate<StampRequest> filter = search != null ? matcher(search) : null;
+        if (reviewerId != null) {
+            Predicate<StampRequest> visible = r -> !StampRequestStatus.PENDING.name().equals(r.getStatus())
+                || !r.isClaimedByOther(reviewerId, now);
+            filter = filter != null ? filter.and(visible) : visible;
+        }
+        return filter;
+    }
+
+    private static Predicate<StampRequest> matcher(String search) {
+        String lower = search.toLowerCase(Locale.ROOT);
+        return r -> String.valueOf(r.getId()).contains(search)
+            || (r.getReason() != null && r.getReason().toLowerCase(Locale.ROOT).contains(lower));
+    }
+
+    private static Collection<StampRequest> recent(SortedIndex index) {
+        return index != null ? index.map.descendingMap().values() : List.of();
+    }
+
+    private static List<StampRequest> page(Collection<StampRequest> ordered, int offset, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        List<StampRequest> page = new ArrayList<>(Math.min(limit, 256));
+        int skipped = 0;
+        for (StampRequest request : ordered) {
+            if (skipped < offset) {
+                skipped++;
+                continue;
+            }
+            page.add(request);
+            if (page.size() == limit) {
+                break;
+            }
+        }
+        return page;
+    }
+
+    private static int count(SortedIndex index) {
+        return index != null ? index.count.get() : 0;
+    }
+
+    private static <K> SortedIndex lookup(Map<K, SortedIndex> indexes, K key) {
+        return key != null ? indexes.get(key) : null;
+    }
+
+    private void index(Entry entry) {
+        OrderKey key = entry.order();
+        all.add(key, entry.request());
+        if (entry.status() != null) {
+            byStatus.computeIfAbsent(entry.status(), k -> new SortedIndex()).add(key, entry.request());
+        }
+        if (entry.employeeId() != null) {
+            byEmployee.computeIfAbsent(entry.employeeId(), k -> new SortedIndex()).add(key, entry.request());
+            if (entry.status() != null) {
+                byEmployeeStatus.computeIfAbsent(EmployeeStatusKey.of(entry.employeeId(), entry.status()),
+                    k -> new SortedIndex()).add(key, entry.request());
+            }
+            if (entry.stampDate() != null) {
+                byEmployeeDate.computeIfAbsent(EmployeeDateKey.of(entry.employeeId(), entry.stampDate()),
+                    k -> new SortedIndex()).add(key, entry.request());
+            }
+        }
+    }
+
+    private void unindex(Entry entry) {
+        OrderKey key = entry.order();
+        all.remove(key);
+        remove(byStatus, entry.status(), key);
+        remove(byEmployee, entry.employeeId(), key);
+        remove(byEmployeeStatus, EmployeeStatusKey.of(entry.employeeId(), entry.status()), key);
+        remove(byEmployeeDate, EmployeeDateKey.of(entry.employeeId(), entry.stampDate()), key);
+    }
+
+    private static <K> void remove(Map<K, SortedIndex> indexes, K key, OrderKey orderKey) {
+        SortedIndex index = lookup(indexes, key);
+        if (index != null) {
+            index.remove(orderKey);
+        }
+    }
+
+    /** {@code (created_at, id)} の昇順キー */
+    private record OrderKey(long createdAtSeconds, int createdAtNanos, int id) implements Comparable<OrderKey> {
+
+        static OrderKey of(StampRequest request) {
+            OffsetDateTime createdAt = request.getCreatedAt();
+            return createdAt != null
+                ? new OrderKey(createdAt.toEpochSecond(), createdAt.getNano(), request.getId())
+                : new OrderKey(Long.MIN_VALUE, 0, request.getId());
+        }
+
+        @Override
+        public int compareTo(OrderKey other) {
+            int result = Long.compare(createdAtSeconds, other.createdAtSeconds);
+            if (result == 0) {
+                result = Integer.compare(createdAtNanos, other.createdAtNanos);
+            }
+            return result != 0 ? result : Integer.compare(id, other.id);
+        }
+    }
+
+    private record EmployeeStatusKey(Integer employeeId, String status) {
+
+        static EmployeeStatusKey of(Integer employeeId, String status) {
+            return employeeId != null && status != null ? new EmployeeStatusKey(employeeId, status) : null;
+        }
+    }
+
+    private record EmployeeDateKey(Integer employeeId, LocalDate stampDate) {
+
+        static EmployeeDateKey of(Integer employeeId, LocalDate stampDate) {
+            return employeeId != null && stampDate != null ? new EmployeeDateKey(employeeId, stampDate) : null;
+        }
+    }
+
+    /** 索引に登録した時点のキー */
+    private record Entry(StampRequest request, OrderKey order, Integer employeeId, String status,
+                         LocalDate stampDate) {
+    }
+
+    /** 並び順付きの索引と件数 */
+    private static final class SortedIndex {
+
+        private final ConcurrentSkipListMap<OrderKey, StampRequest> map = new ConcurrentSkipListMap<>();
+        private final AtomicInteger count = new AtomicInteger();
+
+        void add(OrderKey key, StampRequest request) {
+            if (map.put(key, request) == null) {
+                count.incrementAndGet();
+            }
+        }
+
+        void remove(OrderKey key) {
+            if (map.remove(key) != null) {
+                count.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.example.teamdev.service;
+
+import com.example.teamdev.config.ReplicaLsnTracker;
+import com.example.teamdev.dto.api.home.HomeNewsItem;
+import com.example.teamdev.dto.api.news.NewsListResponse;
+import com.example.teamdev.dto.api.news.NewsResponse;
+import com.example.teamdev.entity.ResourceWatermark;
+import com.example.teamdev.mapper.ResourceWatermarkMapper;
+import com.example.teamdev.service.event.NewsChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 公開お知らせフィードのキャッシュ。
+ *
+ * <p>公開お知らせ一覧を送信可能な UTF-8 JSON バイト列（および gzip 圧縮版）として、
+ * ホーム画面の上位N件を変換済みの {@link HomeNewsItem} として保持します。
+ * 公開お知らせは週に数回しか変わらないため、リクエストごとのDBアクセスと
+ * DTO変換・シリアライズを省略します。</p>
+ *
+ * <p>お知らせ管理サービスが発行する {@link NewsChangedEvent} をコミット後に受け取り、
+ * 新しいスナップショットを構築してから参照を差し替えます。
+ * 読み取り側は常に一貫したスナップショットを参照します。</p>
+ *
+ * <p>イベントは変更を処理したノードにしか届かないため、読み取り時にも {@code revalidate-millis} ごとに
+ * 公開お知らせのウォーターマーク（件数・最終更新日時・ID合計）を確認し、構築時から変わっていれば再構築します。
+ * ほかのノードでの変更は最大でこの間隔だけ遅れて反映されます。</p>
+ *
+ * <p>スナップショットはすべての利用者に返すため、リードレプリカ使用時もプライマリから構築します
+ * （遅れているレプリカから構築すると、変更前の内容を次の変更まで返し続けるため）。</p>
+ */
+@Component
+public class NewsFeedCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(NewsFeedCache.class);
+
+    private final NewsManageService newsManageService;
+    private final HomeNewsService homeNewsService;
+    private final ResourceWatermarkMapper watermarkMapper;
+    private final ObjectMapper objectMapper;
+    private final long revalidateNanos;
+
+    /** 変更通知ごとに進む世代番号。古い世代で構築したスナップショットは保存しない */
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Snapshot current;
+    /** 直近にウォーターマークを確認した時刻（{@link #nanoTime()}） */
+    private volatile long checkedAtNanos;
+
+    public NewsFeedCache(
+        NewsManageService newsManageService,
+        HomeNewsService homeNewsService,
+        ResourceWatermarkMapper watermarkMapper,
+        ObjectMapper objectMapper,
+        @Value("${app.news-feed.revalidate-millis:2000}") long revalidateMillis
+    ) {
+        if (revalidateMillis < 0) {
+            throw new IllegalArgumentException("app.news-feed.revalidate-millis must not be negative");
+        }
+        this.newsManageService = newsManageService;
+        this.homeNewsService = homeNewsService;
+        this.watermarkMapper = watermarkMapper;
+        this.objectMapper = objectMapper;
+        this.revalidateNanos = TimeUnit.MILLISECONDS.toNanos(revalidateMillis);
+    }
+
+    /**
+     * 公開お知らせ一覧のシリアライズ済みフィードを返します。
+     *
+     * @return シリアライズ済みフィード
+     */
+    public SerializedFeed publishedFeed() {
+        return snapshot().published();
+    }
+
+    /**
+     * ホーム画面に表示する公開お知らせ（上位N件）を、構築元のフィードのETagとともに返します。
+     * 条件付きGETのETagには、DBの現在値ではなく実際に返すスナップショットのETagを使用してください
+     * （ほかのノードでの変更を反映するまでの間、DBとスナップショットの内容が異なるため）。
+     *
+     * @return ホーム画面用お知らせ
+     */
+    public HomeNews homeNews() {
+        return snapshot().homeNews();
+    }
+
+    /**
+     * お知らせの変更がコミットされた後にキャッシュを再構築します。
+     *
+     * @param event お知らせ変更イベント
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNewsChanged(NewsChangedEvent event) {
+        generation.incrementAndGet();
+        current = null;
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            // 次回の読み取り時に再構築されるため、変更処理の呼び出し元には伝播させない
+            logger.warn("Failed to rebuild news feed cache: {}", e.getMessage());
+        }
+    }
+
+    long nanoTime() {
+        return System.nanoTime();
+    }
+
+    private Snapshot snapshot() {
+        Snapshot snapshot = current;
+        if (snapshot != null && !changedElsewhere(snapshot)) {
+            return snapshot;
+        }
+        return rebuild();
+    }
+
+    /**
+     * 確認間隔を過ぎていればウォーターマークを確認し、構築時から変わっていればスナップショットを破棄します。
+     */
+    private boolean changedElsewhere(Snapshot snapshot) {
+        long now = nanoTime();
+        if (now - checkedAtNanos < revalidateNanos) {
+            return false;
+        }
+        checkedAtNanos = now;
+        ResourceWatermark watermark;
+        try {
+            watermark = watermarkMapper.findPublishedNewsWatermark();
+        } catch (DataAccessException e) {
+            // 確認できない場合は保持中のスナップショットを返す
+            logger.warn("Failed to check news feed watermark: {}", e.getMessage());
+            return false;
+        }
+        if (Objects.equals(watermark, snapshot.watermark())) {
+            return false;
+        }
+        logger.debug("News feed changed on another node, rebuilding cache");
+        generation.incrementAndGet();
+        current = null;
+        return true;
+    }
+
+    private synchronized Snapshot rebuild() {
+        long targetGeneration = generation.get();
+        Snapshot snapshot = current;
+        if (snapshot != null && snapshot.generation() == targetGeneration) {
+            return snapshot;
+        }
+
+        Snapshot built = ReplicaLsnTracker.onPrimary(() -> load(targetGeneration));
+
+        // 構築中に変更通知を受けた場合は古いデータのため保存しない（呼び出し元には返す）
+        if (generation.get() == targetGeneration) {
+            current = built;
+            checkedAtNanos = nanoTime();
+            logger.debug("News feed cache rebuilt: {} published item(s), {} bytes",
+                built.publishedCount(), built.published().json().length);
+        }
+        return built;
+    }
+
+    private Snapshot load(long targetGeneration) {
+        // 本体より先に取得する（取得中に変更された場合は次回の確認で再構築される）
+        ResourceWatermark watermark = watermarkMapper.findPublishedNewsWatermark();
+        List<NewsResponse> published = newsManageService.getPublishedNews().stream()
+            .map(NewsResponse::from)
+            .toList();
+        SerializedFeed feed = SerializedFeed.of(serialize(new NewsListResponse(published)));
+        HomeNews homeNews = new HomeNews(homeNewsService.execute(), feed.etag());
+        return new Snapshot(targetGeneration, watermark, published.size(), feed, homeNews);
+    }
+
+    private byte[] serialize(NewsListResponse response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize published news feed", e);
+        }
+    }
+
+    private record Snapshot(
+        long generation,
+        ResourceWatermark watermark,
+        int publishedCount,
+        SerializedFeed published,
+        HomeNews homeNews
+    ) {
+    }
+
+    /**
+     * ホーム画面用の公開お知らせ。
+     *
+     * @param items ホーム画面用お知らせ一覧（不変）
+     * @param etag  構築元の公開お知らせフィードのETag（ダブルクォート付き）
+     */
+    public record HomeNews(List<HomeNewsItem> items, String etag) {
+    }
+
+    /**
+     * シリアライズ済みの公開お知らせフィード。
+     *
+     * @param json UTF-8 JSON バイト列
+     * @param gzip {@code json} を gzip 圧縮したバイト列
+     * @param etag 内容から算出した強いETag（ダブルクォート付き、非圧縮版）
+     */
+    public record SerializedFeed(byte[] json, byte[] gzip, String etag) {
+
+        /**
+         * 送信する表現に対応するETagを返します。
+         * 強いETagは表現ごとに一意である必要があるため、gzip 版には接尾辞を付与します。
+         *
+         * @param gzipped gzip 版を送信する場合 true
+         * @return 強いETag
+         */
+        public String etag(boolean gzipped) {
+            return gzipped ? etag.substring(0, etag.length() - 1) + "-gzip\"" : etag;
+        }
+
+        /**
+         * JSON バイト列から gzip 圧縮版とETagを算出してフィードを生成します。
+         *
+         * @param json UTF-8 JSON バイト列
+         * @return シリアライズ済みフィード
+         */
+        public static SerializedFeed of(byte[] json) {
+            return new SerializedFeed(json, gzip(json), '"' + sha256Hex(json) + '"');
+        }
+
+        private static byte[] gzip(byte[] source) {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, source.length / 4));
+            try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+                out.write(source);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return buffer.toByteArray();
+        }
+
+        private static String sha256Hex(byte[] source) {
+            try {
+                byte[] hash = MessageDigest.getInstance("SHA-256").digest(source);
+                return HexFormat.of().formatHex(hash, 0, 16);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not available", e);
+            }
+        }
+    }
+}
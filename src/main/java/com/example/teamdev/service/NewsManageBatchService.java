@@ -0,0 +1,170 @@
+package com.example.teamdev.service;
+
+import com.example.teamdev.dto.api.news.BulkDeletionResult;
+import com.example.teamdev.dto.api.news.BulkUpdateResult;
+import com.example.teamdev.dto.api.news.NewsBulkOperationResponse;
+import com.example.teamdev.dto.api.news.NewsBulkPublishRequest;
+import com.example.teamdev.mapper.NewsMapper;
+import com.example.teamdev.service.event.NewsChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * お知らせの大量一括公開/非公開・削除サービス（集合指向）
+ *
+ * <p>{@link NewsManageBulkReleaseService} / {@link NewsManageBulkDeletionService} と異なり、
+ * 数千件のIDを受け付けます。IDと公開フラグは配列パラメータとして
+ * {@code UPDATE ... FROM unnest(...)} / {@code DELETE ... WHERE id = ANY(...)} の1文で処理し、
+ * 個別の成否は {@code RETURNING} の結果から判定するため事前の存在確認クエリは行いません。</p>
+ *
+ * <p>ロック保持時間を抑えるため、内部でチャンクに分割し、チャンクごとに個別のトランザクションでコミットします。
+ * 途中のチャンクで失敗した場合、それ以前のチャンクはコミット済みのまま例外を送出します。</p>
+ */
+@Service
+public class NewsManageBatchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NewsManageBatchService.class);
+    static final int MAX_BATCH_SIZE = 10_000;
+
+    private final NewsMapper mapper;
+    private final LogHistoryRegistrationService logHistoryService;
+    private final Clock clock;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public NewsManageBatchService(
+        NewsMapper mapper,
+        LogHistoryRegistrationService logHistoryService,
+        Clock clock,
+        ApplicationEventPublisher eventPublisher,
+        PlatformTransactionManager transactionManager,
+        @Value("${app.news.batch-chunk-size:1000}") int chunkSize
+    ) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("app.news.batch-chunk-size must be positive");
+        }
+        this.mapper = mapper;
+        this.logHistoryService = logHistoryService;
+        this.clock = clock;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 複数のお知らせの公開フラグを個別に一括更新します。
+     * 同じIDが複数回指定された場合は最後の指定を採用します。
+     *
+     * @param items 更新アイテムリスト
+     * @param operatorId 操作者ID
+     * @return 更新結果（重複を除いたIDごとの成否を含む）
+     */
+    public BulkUpdateResult publish(List<NewsBulkPublishRequest.NewsPublishItem> items, Integer operatorId) {
+        validateSize(items, "更新");
+
+        Map<Integer, Boolean> flags = new LinkedHashMap<>();
+        for (NewsBulkPublishRequest.NewsPublishItem item : items) {
+            flags.put(item.id(), item.releaseFlag());
+        }
+        List<Integer> ids = new ArrayList<>(flags.keySet());
+
+        Set<Integer> updated = processInChunks(ids, chunk -> {
+            Boolean[] chunkFlags = new Boolean[chunk.length];
+            for (int i = 0; i < chunk.length; i++) {
+                chunkFlags[i] = flags.get(chunk[i]);
+            }
+            Timestamp timestamp = Timestamp.from(clock.instant());
+            List<Integer> changed = mapper.updateReleaseFlagsReturningIds(chunk, chunkFlags, timestamp);
+            if (!changed.isEmpty()) {
+                logHistoryService.execute(2, 5, null, null, operatorId, timestamp);
+                eventPublisher.publishEvent(new NewsChangedEvent(timestamp.toInstant()));
+            }
+            return changed;
+        });
+
+        List<NewsBulkOperationResponse.OperationResult> results = toResults(ids, updated);
+        logger.info("Batch updated release flag for {} of {} news items", updated.size(), ids.size());
+        return new BulkUpdateResult(updated.size(), ids.size() - updated.size(), results);
+    }
+
+    /**
+     * 複数のお知らせを一括削除します。
+     *
+     * @param ids 削除対象のIDリスト
+     * @param operatorId 操作者ID
+     * @return 削除結果（重複を除いたIDごとの成否を含む）
+     */
+    public BulkDeletionResult delete(List<Integer> ids, Integer operatorId) {
+        validateSize(ids, "削除");
+
+        List<Integer> uniqueIds = new ArrayList<>(new LinkedHashSet<>(ids));
+
+        Set<Integer> deleted = processInChunks(uniqueIds, chunk -> {
+            List<Integer> removed = mapper.deleteByIdsReturningIds(chunk);
+            if (!removed.isEmpty()) {
+                Timestamp timestamp = Timestamp.from(clock.instant());
+                logHistoryService.execute(2, 4, null, null, operatorId, timestamp);
+                eventPublisher.publishEvent(new NewsChangedEvent(timestamp.toInstant()));
+            }
+            return removed;
+        });
+
+        List<NewsBulkOperationResponse.OperationResult> results = toResults(uniqueIds, deleted);
+        logger.info("Batch deleted {} of {} news items", deleted.size(), uniqueIds.size());
+        return new BulkDeletionResult(deleted.size(), uniqueIds.size() - deleted.size(), results);
+    }
+
+    private Set<Integer> processInChunks(List<Integer> ids, Function<Integer[], List<Integer>> statement) {
+        Set<Integer> affected = new HashSet<>(ids.size() * 2);
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            Integer[] chunk = ids.subList(from, Math.min(from + chunkSize, ids.size())).toArray(Integer[]::new);
+            List<Integer> returned = transactionTemplate.execute(status -> statement.apply(chunk));
+            if (returned != null) {
+                affected.addAll(returned);
+            }
+        }
+        return affected;
+    }
+
+    private List<NewsBulkOperationResponse.OperationResult> toResults(List<Integer> ids, Set<Integer> affected) {
+        List<NewsBulkOperationResponse.OperationResult> results = new ArrayList<>(ids.size());
+        for (Integer id : ids) {
+            results.add(affected.contains(id)
+                ? new NewsBulkOperationResponse.OperationResult(id, true, null)
+                : new NewsBulkOperationResponse.OperationResult(id, false, "お知らせが見つかりません"));
+        }
+        return results;
+    }
+
+    private void validateSize(List<?> values, String operation) {
+        if (values == null || values.isEmpty()) {
+            throw new IllegalArgumentException(operation + "対象のリストが空です");
+        }
+        if (values.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException(
+                String.format("一度に%sできるのは%d件までです（リクエスト: %d件）", operation, MAX_BATCH_SIZE, values.size())
+            );
+        }
+        if (values.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException(operation + "対象にnullが含まれています");
+        }
+    }
+}
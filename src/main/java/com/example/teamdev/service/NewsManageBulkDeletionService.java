@@ -3,8 +3,10 @@ package com.example.teamdev.service;
 import com.example.teamdev.dto.api.news.BulkDeletionResult;
 import com.example.teamdev.dto.api.news.NewsBulkOperationResponse;
 import com.example.teamdev.mapper.NewsMapper;
+import com.example.teamdev.service.event.NewsChangedEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,15 +29,18 @@ public class NewsManageBulkDeletionService {
     private final NewsMapper mapper;
     private final LogHistoryRegistrationService logHistoryService;
     private final Clock clock;
+    private final ApplicationEventPublisher eventPublisher;
 
     public NewsManageBulkDeletionService(
         NewsMapper mapper,
         LogHistoryRegistrationService logHistoryService,
-        Clock clock
+        Clock clock,
+        ApplicationEventPublisher eventPublisher
     ) {
         this.mapper = mapper;
         this.logHistoryService = logHistoryService;
         this.clock = clock;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -88,6 +93,7 @@ public class NewsManageBulkDeletionService {
                     // 履歴記録
                     Timestamp timestamp = Timestamp.from(clock.instant());
                     logHistoryService.execute(2, 4, null, null, operatorId, timestamp);
+                    eventPublisher.publishEvent(new NewsChangedEvent(timestamp.toInstant()));
                 }
             } catch (Exception e) {
                 logger.error("Error in bulk deletion", e);
@@ -4,8 +4,10 @@ import com.example.teamdev.dto.api.news.BulkUpdateResult;
 import com.example.teamdev.dto.api.news.NewsBulkOperationResponse;
 import com.example.teamdev.dto.api.news.NewsBulkPublishRequest;
 import com.example.teamdev.mapper.NewsMapper;
+import com.example.teamdev.service.event.NewsChangedEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,15 +31,18 @@ public class NewsManageBulkReleaseService {
     private final NewsMapper mapper;
     private final LogHistoryRegistrationService logHistoryService;
     private final Clock clock;
+    private final ApplicationEventPublisher eventPublisher;
 
     public NewsManageBulkReleaseService(
         NewsMapper mapper,
         LogHistoryRegistrationService logHistoryService,
-        Clock clock
+        Clock clock,
+        ApplicationEventPublisher eventPublisher
     ) {
         this.mapper = mapper;
         this.logHistoryService = logHistoryService;
         this.clock = clock;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -62,6 +67,7 @@ public class NewsManageBulkReleaseService {
 
             if (updatedCount > 0) {
                 logHistoryService.execute(2, 5, null, null, operatorId, timestamp);
+                eventPublisher.publishEvent(new NewsChangedEvent(timestamp.toInstant()));
             }
 
             return updatedCount;
@@ -125,6 +131,7 @@ public class NewsManageBulkReleaseService {
                 // 履歴記録
                 if (updatedCount > 0) {
                     logHistoryService.execute(2, 5, null, null, operatorId, timestamp);
+                    eventPublisher.publishEvent(new NewsChangedEvent(timestamp.toInstant()));
                 }
             } catch (Exception e) {
                 logger.error("Error in bulk individual release flag update", e);
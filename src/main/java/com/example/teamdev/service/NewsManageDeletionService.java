@@ -3,11 +3,13 @@ package com.example.teamdev.service;
 import java.sql.Timestamp;
 import java.time.Clock;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.teamdev.form.ListForm;
 import com.example.teamdev.mapper.NewsMapper;
+import com.example.teamdev.service.event.NewsChangedEvent;
 
 /**
  * お知らせ管理
@@ -20,15 +22,18 @@ public class NewsManageDeletionService {
     private final NewsMapper mapper;
     private final LogHistoryRegistrationService logHistoryService;
     private final Clock clock;
+    private final ApplicationEventPublisher eventPublisher;
 
     public NewsManageDeletionService(
         NewsMapper mapper,
         LogHistoryRegistrationService logHistoryService,
-        Clock clock
+        Clock clock,
+        ApplicationEventPublisher eventPublisher
     ) {
         this.mapper = mapper;
         this.logHistoryService = logHistoryService;
         this.clock = clock;
+        this.eventPublisher = eventPublisher;
     }
 
 	public void execute(ListForm listForm, Integer updateEmployeeId) {
@@ -43,6 +48,7 @@ public class NewsManageDeletionService {
             // 履歴記録
             Timestamp timestamp = Timestamp.from(clock.instant());
             logHistoryService.execute(2, 4, null, null, updateEmployeeId, timestamp);
+            eventPublisher.publishEvent(new NewsChangedEvent(timestamp.toInstant()));
         }
 	}
 }
@@ -3,12 +3,14 @@ package com.example.teamdev.service;
 import java.sql.Timestamp;
 import java.time.Clock;
 import java.time.LocalDate;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.teamdev.entity.News;
 import com.example.teamdev.form.NewsManageForm;
 import com.example.teamdev.mapper.NewsMapper;
+import com.example.teamdev.service.event.NewsChangedEvent;
 import com.example.teamdev.constant.AppConstants;
 
 /**
@@ -22,15 +24,18 @@ public class NewsManageRegistrationService {
     private final NewsMapper mapper;
     private final LogHistoryRegistrationService logHistoryService;
     private final Clock clock;
+    private final ApplicationEventPublisher eventPublisher;
 
     public NewsManageRegistrationService(
         NewsMapper mapper,
         LogHistoryRegistrationService logHistoryService,
-        Clock clock
+        Clock clock,
+        ApplicationEventPublisher eventPublisher
     ) {
         this.mapper = mapper;
         this.logHistoryService = logHistoryService;
         this.clock = clock;
+        this.eventPublisher = eventPublisher;
     }
 
 	public News execute(NewsManageForm newsManageForm, Integer updateEmployeeId) {
@@ -60,6 +65,7 @@ public class NewsManageRegistrationService {
             mapper.upDate(entity);
             // 履歴記録
             logHistoryService.execute(2, 3, null, null, updateEmployeeId, timestamp);
+            eventPublisher.publishEvent(new NewsChangedEvent(timestamp.toInstant()));
             return entity;
         } else {
             // idが格納されていない場合は新規登録
@@ -73,6 +79,7 @@ public class NewsManageRegistrationService {
             mapper.save(entity);
             // 履歴記録
             logHistoryService.execute(2, 3, null, null, updateEmployeeId, timestamp);
+            eventPublisher.publishEvent(new NewsChangedEvent(timestamp.toInstant()));
             return entity;
         }
 	}
@@ -6,12 +6,14 @@ import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.teamdev.entity.News;
 import com.example.teamdev.form.ListForm;
 import com.example.teamdev.mapper.NewsMapper;
+import com.example.teamdev.service.event.NewsChangedEvent;
 
 /**
  * お知らせ管理
@@ -25,15 +27,18 @@ public class NewsManageReleaseService {
     private final NewsMapper mapper;
     private final LogHistoryRegistrationService logHistoryService;
     private final Clock clock;
+    private final ApplicationEventPublisher eventPublisher;
 
     public NewsManageReleaseService(
         NewsMapper mapper,
         LogHistoryRegistrationService logHistoryService,
-        Clock clock
+        Clock clock,
+        ApplicationEventPublisher eventPublisher
     ) {
         this.mapper = mapper;
         this.logHistoryService = logHistoryService;
         this.clock = clock;
+        this.eventPublisher = eventPublisher;
     }
 
 	@Transactional
@@ -95,6 +100,7 @@ public class NewsManageReleaseService {
                 logger.debug("Recording log history for release operation");
                 Timestamp timestamp = Timestamp.from(clock.instant());
                 logHistoryService.execute(2, 5, null, null, updateEmployeeId, timestamp);
+                eventPublisher.publishEvent(new NewsChangedEvent(timestamp.toInstant()));
             } else {
                 logger.debug("No news items updated during release toggle");
             }
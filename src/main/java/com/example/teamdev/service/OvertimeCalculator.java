@@ -2,19 +2,26 @@ package com.example.teamdev.service;
 
 import com.example.teamdev.service.dto.DailyAttendanceRecord;
 import com.example.teamdev.service.profile.model.ProfileWorkScheduleDocument;
-import java.time.Duration;
-import java.time.LocalDate;
-import java.time.LocalTime;
-import java.time.OffsetDateTime;
-import java.time.ZoneOffset;
-import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 日次残業計算ユーティリティ。
+ * 実際の計算は {@link OvertimeEngine} にデリゲートします。
  */
 final class OvertimeCalculator {
 
+    /** 解析済みエンジンの最大保持数（超えた場合は全件を破棄して解析し直す） */
+    private static final int MAX_CACHED_ENGINES = 256;
+
+    /**
+     * 勤務スケジュールごとの解析済みエンジン。
+     * 従業員ごとにスケジュールが異なる出力で交互に呼び出されても再解析しないよう、スケジュールをキーに保持する
+     */
+    private static final Map<ProfileWorkScheduleDocument, OvertimeEngine> ENGINES = new ConcurrentHashMap<>();
+
     private OvertimeCalculator() {
     }
 
@@ -25,50 +32,36 @@ final class OvertimeCalculator {
         if (record.departureTime() == null || record.attendanceTime() == null) {
             return 0;
         }
-
-        Duration worked = Duration.between(record.attendanceTime(), record.departureTime());
-
-        // 休憩時間を差し引く
-        Duration breakDuration;
-        if (record.breakStartTime() != null && record.breakEndTime() != null) {
-            // 実際の休憩時間が記録されている場合はそれを使用
-            breakDuration = Duration.between(record.breakStartTime(), record.breakEndTime());
-            if (!breakDuration.isNegative()) {
-                worked = worked.minus(breakDuration);
-            }
-        } else {
-            // 休憩時間が記録されていない場合はスケジュールの休憩時間を使用
-            int scheduleBreakMinutes = schedule.breakMinutes();
-            if (scheduleBreakMinutes > 0) {
-                worked = worked.minus(Duration.ofMinutes(scheduleBreakMinutes));
-            }
-        }
-
-        Duration scheduled = parseScheduleDuration(schedule);
-        Duration overtime = worked.minus(scheduled);
-        if (overtime.isNegative()) {
-            return 0;
-        }
-        return (int) overtime.truncatedTo(ChronoUnit.MINUTES).toMinutes();
+        return engineFor(schedule).overtimeMinutes(record);
     }
 
-    private static Duration parseScheduleDuration(ProfileWorkScheduleDocument schedule) {
-        LocalTime startTime = parseTimeOrDefault(schedule.start(), LocalTime.of(9, 0));
-        LocalTime endTime = parseTimeOrDefault(schedule.end(), LocalTime.of(18, 0));
-        OffsetDateTime start = OffsetDateTime.of(LocalDate.now(), startTime, ZoneOffset.UTC);
-        OffsetDateTime end = OffsetDateTime.of(LocalDate.now(), endTime, ZoneOffset.UTC);
+    /**
+     * 月次グリッド分の残業分数を一括計算します。
+     * スケジュールの解析は1回のみ行います。
+     *
+     * @param records  日次打刻のリスト（グリッドの並び順）
+     * @param schedule 勤務スケジュール
+     * @return {@code records} と同じ並びの残業分数配列
+     */
+    static int[] calculateMonthlyOvertimeMinutes(List<DailyAttendanceRecord> records,
+                                                 ProfileWorkScheduleDocument schedule) {
+        Objects.requireNonNull(records, "records must not be null");
+        Objects.requireNonNull(schedule, "schedule must not be null");
 
-        Duration base = Duration.between(start, end);
-        if (schedule.breakMinutes() > 0) {
-            base = base.minus(Duration.ofMinutes(schedule.breakMinutes()));
-        }
-        return base.isNegative() ? Duration.ZERO : base;
+        int[] result = new int[records.size()];
+        engineFor(schedule).fill(records, result);
+        return result;
     }
 
-    private static LocalTime parseTimeOrDefault(String value, LocalTime defaultValue) {
-        if (value == null || value.isBlank()) {
-            return defaultValue;
+    private static OvertimeEngine engineFor(ProfileWorkScheduleDocument schedule) {
+        OvertimeEngine engine = ENGINES.get(schedule);
+        if (engine == null) {
+            engine = OvertimeEngine.compile(schedule);
+            if (ENGINES.size() >= MAX_CACHED_ENGINES) {
+                ENGINES.clear();
+            }
+            ENGINES.putIfAbsent(schedule, engine);
         }
-        return LocalTime.parse(value);
+        return engine;
     }
 }
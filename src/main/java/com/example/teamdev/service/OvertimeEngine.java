@@ -0,0 +1,213 @@
+package com.example.teamdev.service;
+
+import com.example.teamdev.service.dto.DailyAttendanceRecord;
+import com.example.teamdev.service.profile.model.ProfileWorkScheduleDocument;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * プリミティブ値で残業分数を計算するエンジン。
+ *
+ * <p>勤務スケジュールを一度だけ解析してマイクロ秒単位の long 値に圧縮し、
+ * 日次の計算は打刻時刻のエポックマイクロ秒同士の差分のみで行います。
+ * {@code Duration} / {@code OffsetDateTime} を日ごとに生成しないため、
+ * 月次グリッドやCSV出力のように「従業員数 × 日数」回呼ばれる経路で使用します。</p>
+ *
+ * <p>分未満の端数は従来の {@link OvertimeCalculator} と同じく最後に切り捨てるため、
+ * 打刻時刻そのものは分単位に丸めず、打刻記録（PostgreSQL の timestamptz）と同じマイクロ秒精度で保持します。
+ * 表現範囲を超える時刻は範囲の端に丸めます（{@link #toEpochMicros(OffsetDateTime)}）。</p>
+ *
+ * <p>インスタンスは不変でスレッドセーフです。</p>
+ */
+final class OvertimeEngine {
+
+    /** 打刻なしを表す番兵値 */
+    static final long NONE = Long.MIN_VALUE;
+
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+    private static final long MICROS_PER_MINUTE = 60L * MICROS_PER_SECOND;
+    private static final long NANOS_PER_MICRO = 1_000L;
+    /**
+     * 変換後の時刻の上限（絶対値）。2つの時刻の差から休憩時間と所定労働時間を引いてもオーバーフローしないよう
+     * {@code Long.MAX_VALUE} の 1/8（約3.6万年）に制限する
+     */
+    private static final long MAX_EPOCH_MICROS = Long.MAX_VALUE / 8;
+    private static final long MAX_EPOCH_SECOND = MAX_EPOCH_MICROS / MICROS_PER_SECOND - 1;
+    private static final LocalTime DEFAULT_START = LocalTime.of(9, 0);
+    private static final LocalTime DEFAULT_END = LocalTime.of(18, 0);
+
+    private final ProfileWorkScheduleDocument schedule;
+    private final long scheduleBreakMicros;
+    private final long scheduledMicros;
+
+    private OvertimeEngine(ProfileWorkScheduleDocument schedule, long scheduleBreakMicros, long scheduledMicros) {
+        this.schedule = schedule;
+        this.scheduleBreakMicros = scheduleBreakMicros;
+        this.scheduledMicros = scheduledMicros;
+    }
+
+    /**
+     * 勤務スケジュールを解析してエンジンを生成します。
+     *
+     * @param schedule 勤務スケジュール
+     * @return 解析済みエンジン
+     * @throws java.time.format.DateTimeParseException 開始・終了時刻が解析できない場合
+     */
+    static OvertimeEngine compile(ProfileWorkScheduleDocument schedule) {
+        Objects.requireNonNull(schedule, "schedule must not be null");
+
+        long start = parseTimeOrDefault(schedule.start(), DEFAULT_START).toNanoOfDay() / NANOS_PER_MICRO;
+        long end = parseTimeOrDefault(schedule.end(), DEFAULT_END).toNanoOfDay() / NANOS_PER_MICRO;
+        long breakMicros = schedule.breakMinutes() > 0 ? schedule.breakMinutes() * MICROS_PER_MINUTE : 0L;
+
+        long scheduled = end - start - breakMicros;
+        return new OvertimeEngine(schedule, breakMicros, Math.max(scheduled, 0L));
+    }
+
+    /**
+     * 解析元の勤務スケジュールを返します。
+     *
+     * @return 勤務スケジュール
+     */
+    ProfileWorkScheduleDocument schedule() {
+        return schedule;
+    }
+
+    /**
+     * 1日分の打刻から残業分数を計算します。
+     *
+     * @param record 日次打刻
+     * @return 残業分数（0以上）
+     */
+    int overtimeMinutes(DailyAttendanceRecord record) {
+        Objects.requireNonNull(record, "record must not be null");
+        if (record.departureTime() == null || record.attendanceTime() == null) {
+            return 0;
+        }
+        return overtimeMinutes(
+            toEpochMicros(record.attendanceTime()),
+            toEpochMicros(record.breakStartTime()),
+            toEpochMicros(record.breakEndTime()),
+            toEpochMicros(record.departureTime())
+        );
+    }
+
+    /**
+     * エポックマイクロ秒で表した打刻から残業分数を計算します。
+     * 打刻がない項目には {@link #NONE} を渡します。
+     *
+     * @param attendance 出勤時刻
+     * @param breakStart 休憩開始時刻
+     * @param breakEnd   休憩終了時刻
+     * @param departure  退勤時刻
+     * @return 残業分数（0以上）
+     */
+    int overtimeMinutes(long attendance, long breakStart, long breakEnd, long departure) {
+        if (departure == NONE || attendance == NONE) {
+            return 0;
+        }
+
+        long overtime = workedMicros(attendance, breakStart, breakEnd, departure) - scheduledMicros;
+        if (overtime < 0) {
+            return 0;
+        }
+        return (int) Math.min(overtime / MICROS_PER_MINUTE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * エポックマイクロ秒で表した打刻から実労働分数を計算します。
+     * 休憩の扱いは {@link #overtimeMinutes(long, long, long, long)} と同じです。
+     *
+     * @param attendance 出勤時刻
+     * @param breakStart 休憩開始時刻
+     * @param breakEnd   休憩終了時刻
+     * @param departure  退勤時刻
+     * @return 実労働分数（0以上）
+     */
+    int workedMinutes(long attendance, long breakStart, long breakEnd, long departure) {
+        if (departure == NONE || attendance == NONE) {
+            return 0;
+        }
+        long worked = workedMicros(attendance, breakStart, breakEnd, departure);
+        return worked > 0 ? (int) Math.min(worked / MICROS_PER_MINUTE, Integer.MAX_VALUE) : 0;
+    }
+
+    private long workedMicros(long attendance, long breakStart, long breakEnd, long departure) {
+        long worked = departure - attendance;
+        if (breakStart != NONE && breakEnd != NONE) {
+            // 実際の休憩時間が記録されている場合はそれを使用（負の休憩は無視）
+            long breakMicros = breakEnd - breakStart;
+            if (breakMicros >= 0) {
+                worked -= breakMicros;
+            }
+        } else {
+            // 休憩時間が記録されていない場合はスケジュールの休憩時間を使用
+            worked -= scheduleBreakMicros;
+        }
+        return worked;
+    }
+
+    /**
+     * 月次グリッド分の打刻から残業分数を一括計算し、{@code out} に格納します。
+     *
+     * @param records 日次打刻のリスト（グリッドの並び順）
+     * @param out     結果の格納先（{@code records.size()} 以上の長さ）
+     */
+    void fill(List<DailyAttendanceRecord> records, int[] out) {
+        Objects.requireNonNull(records, "records must not be null");
+        if (out.length < records.size()) {
+            throw new IllegalArgumentException("out must have at least " + records.size() + " elements");
+        }
+        for (int i = 0, n = records.size(); i < n; i++) {
+            out[i] = overtimeMinutes(records.get(i));
+        }
+    }
+
+    /**
+     * エポックマイクロ秒の並列配列から残業分数を一括計算し、{@code out} に格納します。
+     *
+     * @param attendance 出勤時刻の配列
+     * @param breakStart 休憩開始時刻の配列
+     * @param breakEnd   休憩終了時刻の配列
+     * @param departure  退勤時刻の配列
+     * @param out        結果の格納先
+     */
+    void fill(long[] attendance, long[] breakStart, long[] breakEnd, long[] departure, int[] out) {
+        int n = out.length;
+        if (attendance.length < n || breakStart.length < n || breakEnd.length < n || departure.length < n) {
+            throw new IllegalArgumentException("input arrays must have at least " + n + " elements");
+        }
+        for (int i = 0; i < n; i++) {
+            out[i] = overtimeMinutes(attendance[i], breakStart[i], breakEnd[i], departure[i]);
+        }
+    }
+
+    /**
+     * 打刻時刻をエポックマイクロ秒に変換します。
+     *
+     * @param time 打刻時刻（null可）
+     * @return エポックマイクロ秒。nullの場合は {@link #NONE}
+     */
+    static long toEpochMicros(OffsetDateTime time) {
+        if (time == null) {
+            return NONE;
+        }
+        long epochSecond = time.toEpochSecond();
+        if (epochSecond > MAX_EPOCH_SECOND) {
+            return MAX_EPOCH_MICROS;
+        }
+        if (epochSecond < -MAX_EPOCH_SECOND) {
+            return -MAX_EPOCH_MICROS;
+        }
+        return epochSecond * MICROS_PER_SECOND + time.getNano() / NANOS_PER_MICRO;
+    }
+
+    private static LocalTime parseTimeOrDefault(String value, LocalTime defaultValue) {
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        return LocalTime.parse(value);
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.teamdev.service;
+
+import com.example.teamdev.entity.ResourceWatermark;
+import com.example.teamdev.mapper.ResourceWatermarkMapper;
+import com.example.teamdev.service.dto.ResourceVersion;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HexFormat;
+import org.springframework.stereotype.Service;
+
+/**
+ * 一覧系APIの条件付きGET（ETag / Last-Modified）用バージョンを算出するサービス。
+ *
+ * <p>一覧本体を取得する前に、対象テーブルの件数・最終更新日時・ID合計のみを集約して
+ * 強いETagを生成します。値が変わらない限り同じETagを返すため、
+ * コントローラーは本体のクエリを実行せずに 304 Not Modified を返却できます。</p>
+ */
+@Service
+public class ResourceVersionService {
+
+    private final ResourceWatermarkMapper watermarkMapper;
+    private final Clock clock;
+
+    public ResourceVersionService(ResourceWatermarkMapper watermarkMapper, Clock clock) {
+        this.watermarkMapper = watermarkMapper;
+        this.clock = clock;
+    }
+
+    /**
+     * 従業員一覧のバージョンを返します。
+     *
+     * @param adminOnly 管理者のみに絞り込むかどうか
+     * @return リソースバージョン
+     */
+    public ResourceVersion employeeList(boolean adminOnly) {
+        Integer adminFlag = adminOnly ? 1 : null;
+        return versionOf("employees:" + adminOnly, watermarkMapper.findEmployeeWatermark(adminFlag, null));
+    }
+
+    /**
+     * 指定従業員・年月の打刻履歴のバージョンを返します。
+     * 年リストがシステム日付に依存するため、現在の年もETagに含めます。
+     *
+     * @param employeeId 従業員ID
+     * @param month      対象年月
+     * @return リソースバージョン
+     */
+    public ResourceVersion stampHistory(int employeeId, YearMonth month) {
+        LocalDate from = month.atDay(1);
+        String scope = "stamp-history:" + employeeId + ":" + month + ":" + LocalDate.now(clock).getYear();
+        return versionOf(scope,
+            watermarkMapper.findStampWatermark(employeeId, from, from.plusMonths(1)),
+            // 従業員名・勤務スケジュールの変更も一覧に反映されるため従業員テーブルも対象とする
+            watermarkMapper.findEmployeeWatermark(null, null));
+    }
+
+    /**
+     * ホーム概要（お知らせ・当日の勤怠・従業員情報）のバージョンを返します。
+     * お知らせはキャッシュから返すため、DBではなく返却するスナップショットのETagを含めます。
+     *
+     * @param employeeId 従業員ID
+     * @param today      当日の日付
+     * @param newsEtag   返却するお知らせスナップショットのETag
+     * @return リソースバージョン
+     */
+    public ResourceVersion homeOverview(int employeeId, LocalDate today, String newsEtag) {
+        String scope = "home:" + employeeId + ":" + today + ":" + newsEtag;
+        return versionOf(scope,
+            watermarkMapper.findStampWatermark(employeeId, today, today.plusDays(1)),
+            watermarkMapper.findEmployeeWatermark(null, employeeId));
+    }
+
+    private static ResourceVersion versionOf(String scope, ResourceWatermark... watermarks) {
+        StringBuilder seed = new StringBuilder(scope);
+        long lastModified = -1L;
+        for (ResourceWatermark watermark : watermarks) {
+            long modified = -1L;
+            long rowCount = 0L;
+            long checksum = 0L;
+            if (watermark != null) {
+                modified = watermark.getLastModified() != null ? watermark.getLastModified().getTime() : -1L;
+                rowCount = watermark.getRowCount() != null ? watermark.getRowCount() : 0L;
+                checksum = watermark.getChecksum() != null ? watermark.getChecksum() : 0L;
+            }
+            seed.append('|').append(rowCount).append(':').append(modified).append(':').append(checksum);
+            lastModified = Math.max(lastModified, modified);
+        }
+        return new ResourceVersion('"' + sha256Hex(seed.toString()) + '"', lastModified);
+    }
+
+    private static String sha256Hex(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(value.getBytes(StandardCharsets.UTF_8));
+            // 衝突耐性は128bitで十分なため先頭16バイトのみ使用する
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.teamdev.service;
+
+import com.example.teamdev.entity.StampArchiveYear;
+import com.example.teamdev.mapper.StampArchiveMapper;
+import com.example.teamdev.mapper.StampRequestMapper;
+import com.example.teamdev.service.event.StampHistoryChangedEvent;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.OffsetDateTime;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 打刻記録・修正申請の年単位の退避サービス。
+ *
+ * <p>全月締め済みの年の {@code stamp_history}・{@code stamp_request} を退避テーブルへ移し、稼働テーブルとその索引を
+ * 直近の年の分だけに保ちます。打刻記録は従業員・月ごとに1行の配列へ詰めて保持します。
+ * 締め済み月の表示・CSV出力・統計はスナップショットから返すため（{@link AttendanceMonthCloseService}）、
+ * 退避後も同じ内容を返します。申請ステータスは {@code stamp_request_latest_archive} から表示します。</p>
+ *
+ * <p>退避済みの年の打刻記録・修正申請はトリガーにより変更できません。変更が必要な場合は
+ * {@link #restoreYear} で稼働テーブルに戻してください。退避・復元はそれぞれ1トランザクションで行います。</p>
+ */
+@Service
+public class StampArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(StampArchiveService.class);
+
+    private final StampArchiveMapper mapper;
+    private final StampRequestMapper stampRequestMapper;
+    private final AttendanceMonthCloseService monthCloseService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+
+    public StampArchiveService(
+        StampArchiveMapper mapper,
+        StampRequestMapper stampRequestMapper,
+        AttendanceMonthCloseService monthCloseService,
+        ApplicationEventPublisher eventPublisher,
+        Clock clock
+    ) {
+        this.mapper = mapper;
+        this.stampRequestMapper = stampRequestMapper;
+        this.monthCloseService = monthCloseService;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+    }
+
+    /**
+     * 指定した年の打刻記録・修正申請を退避します。
+     *
+     * @param year 対象年（前年以前で、全月締め済みであること）
+     * @param operatorId 実行者の従業員ID
+     * @return 退避情報、既に退避済みの場合は{@code Optional.empty()}
+     * @throws IllegalArgumentException 対象年が当年以降の場合、未締めの月がある場合、承認待ちの申請がある場合
+     */
+    @Transactional
+    public Optional<StampArchiveYear> archiveYear(int year, Integer operatorId) {
+        verifyArchivable(year);
+        LocalDate from = LocalDate.of(year, 1, 1);
+        LocalDate to = from.plusYears(1);
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        if (mapper.insertArchiveYear(year, operatorId, now) == 0) {
+            log.info("Stamp year {} is already archived", year);
+            return Optional.empty();
+        }
+
+        // 申請は打刻記録を参照するため、申請を先に退避・削除する（最新申請の投影は削除に連動する）
+        mapper.archiveLatestRequests(from, to);
+        int requestRows = mapper.archiveRequests(from, to);
+        mapper.deleteRequests(from, to);
+        int historyRows = mapper.archiveHistories(from, to);
+        int deleted = mapper.deleteHistories(from, to);
+        if (deleted != historyRows) {
+            throw new IllegalStateException(String.format(
+                "Archived %d stamp_history rows of %d but deleted %d", historyRows, year, deleted));
+        }
+        mapper.updateArchiveYearCounts(year, historyRows, requestRows);
+
+        eventPublisher.publishEvent(
+            StampHistoryChangedEvent.forMonths(YearMonth.of(year, Month.JANUARY), YearMonth.of(year, Month.DECEMBER)));
+        log.info("Stamp year {} archived by employee {}: {} stamp_history row(s), {} stamp_request row(s)",
+            year, operatorId, historyRows, requestRows);
+        return Optional.of(new StampArchiveYear(year, historyRows, requestRows, operatorId, now));
+    }
+
+    /**
+     * 退避した年の打刻記録・修正申請を稼働テーブルに戻します（IDは退避前と同じです）。
+     *
+     * @param year 対象年
+     * @return 戻した退避情報、退避されていない場合は{@code Optional.empty()}
+     */
+    @Transactional
+    public Optional<StampArchiveYear> restoreYear(int year) {
+        Optional<StampArchiveYear> archived = mapper.findArchiveYear(year);
+        if (archived.isEmpty()) {
+            log.info("Stamp year {} is not archived", year);
+            return Optional.empty();
+        }
+        LocalDate from = LocalDate.of(year, 1, 1);
+        LocalDate to = from.plusYears(1);
+
+        // 先に退避済みの登録を外し、トリガーによる変更の拒否を解除する
+        mapper.deleteArchiveYear(year);
+        int historyRows = mapper.restoreHistories(from, to);
+        int requestRows = mapper.restoreRequests(from, to);
+        stampRequestMapper.repairLatestRequests(from, to);
+        mapper.deleteArchived(from, to);
+
+        eventPublisher.publishEvent(
+            StampHistoryChangedEvent.forMonths(YearMonth.of(year, Month.JANUARY), YearMonth.of(year, Month.DECEMBER)));
+        log.info("Stamp year {} restored: {} stamp_history row(s), {} stamp_request row(s)",
+            year, historyRows, requestRows);
+        return archived;
+    }
+
+    /**
+     * 退避情報を取得します。
+     *
+     * @param year 対象年
+     * @return 退避情報、未退避の場合は{@code Optional.empty()}
+     */
+    public Optional<StampArchiveYear> findArchiveYear(int year) {
+        return mapper.findArchiveYear(year);
+    }
+
+    /**
+     * 退避できる年であること（前年以前で、全月締め済みで、承認待ちの修正申請がない）を検証します。
+     *
+     * <p>トランザクションに参加しないため、一括ジョブでは退避前にこのメソッドで対象を振り分けてください
+     * （{@link #archiveYear} 内の例外はジョブのトランザクション全体をロールバック対象にします）。</p>
+     *
+     * @param year 対象年
+     * @throws IllegalArgumentException 退避できない場合
+     */
+    public void verifyArchivable(int year) {
+        if (year >= Year.now(clock).getValue()) {
+            throw new IllegalArgumentException("退避は前年以前の年のみ実行できます: " + year);
+        }
+        for (Month month : Month.values()) {
+            if (!monthCloseService.isClosed(YearMonth.of(year, month))) {
+                throw new IllegalArgumentException(
+                    "未締めの月がある年は退避できません: " + YearMonth.of(year, month));
+            }
+        }
+        LocalDate from = LocalDate.of(year, 1, 1);
+        int pending = mapper.countPendingRequests(from, from.plusYears(1));
+        if (pending > 0) {
+            throw new IllegalArgumentException(
+                String.format("承認待ちの修正申請がある年は退避できません: %d (%d件)", year, pending));
+        }
+    }
+}
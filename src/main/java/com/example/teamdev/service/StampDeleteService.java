@@ -1,57 +1,74 @@
 package com.example.teamdev.service;
 
-import com.example.teamdev.entity.StampDelete;
+import com.example.teamdev.entity.StampDeleteJob;
 import com.example.teamdev.entity.StampHistory;
+import com.example.teamdev.exception.ClosedMonthException;
 import com.example.teamdev.form.StampDeleteForm;
-import com.example.teamdev.mapper.StampDeleteMapper;
 import com.example.teamdev.mapper.StampHistoryMapper;
+import com.example.teamdev.service.event.StampHistoryChangedEvent;
+import com.example.teamdev.service.job.StampDeleteJobService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Timestamp;
 import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
 
 @Service
 public class StampDeleteService {
 
-    private final StampDeleteMapper stampDeleteMapper;
+    private final StampDeleteJobService stampDeleteJobService;
     private final StampHistoryMapper stampHistoryMapper;
     private final LogHistoryRegistrationService logHistoryService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AttendanceMonthCloseService monthCloseService;
     private final Clock clock;
 
     public StampDeleteService(
-        StampDeleteMapper stampDeleteMapper,
+        StampDeleteJobService stampDeleteJobService,
         StampHistoryMapper stampHistoryMapper,
         LogHistoryRegistrationService logHistoryService,
+        ApplicationEventPublisher eventPublisher,
+        AttendanceMonthCloseService monthCloseService,
         Clock clock
     ) {
-        this.stampDeleteMapper = stampDeleteMapper;
+        this.stampDeleteJobService = stampDeleteJobService;
         this.stampHistoryMapper = stampHistoryMapper;
         this.logHistoryService = logHistoryService;
+        this.eventPublisher = eventPublisher;
+        this.monthCloseService = monthCloseService;
         this.clock = clock;
     }
 
     /**
-     * 年と月を分解し打刻記録を取得
+     * 年月範囲の打刻記録の削除ジョブを投入します。
      *
-     * @return 削除された件数
+     * <p>範囲全体を1トランザクションで削除せず、{@link com.example.teamdev.service.job.StampRangeDeleteRunner} が勤務日のウィンドウ内を
+     * 一定件数ずつ削除してコミットします。進捗は返したジョブのIDで照会でき、完了時に操作履歴を登録します。</p>
+     *
+     * @param stampDeleteForm 削除範囲
+     * @param updateEmployeeId 操作を行う従業員ID
+     * @return 登録したジョブ
+     * @throws IllegalArgumentException 削除範囲が不正な場合
+     * @throws ClosedMonthException 削除範囲に締め済みの月を含む場合
      */
-    @Transactional
-    public int deleteStampsByYearMonthRange(StampDeleteForm stampDeleteForm,
-            Integer updateEmployeeId) {
-        StampDelete stampDeleteEntity = new StampDelete();
-        stampDeleteEntity.setStartYear(stampDeleteForm.getStartYear());
-        stampDeleteEntity.setStartMonth(stampDeleteForm.getStartMonth());
-        stampDeleteEntity.setEndYear(stampDeleteForm.getEndYear());
-        stampDeleteEntity.setEndMonth(stampDeleteForm.getEndMonth());
-        int deletedCount = stampDeleteMapper.deleteStampsByYearMonthRange(
-                stampDeleteEntity);
-        
-        // 削除が成功した場合のみ履歴に登録
-        Timestamp timestamp = Timestamp.from(clock.instant());
-        logHistoryService.execute(5, 4, null, null, updateEmployeeId, timestamp);
-
-        return deletedCount;
+    public StampDeleteJob startRangeDeletion(StampDeleteForm stampDeleteForm, Integer updateEmployeeId) {
+        if (!validateYearMonthRange(stampDeleteForm)) {
+            throw new IllegalArgumentException("開始年月は終了年月以前の年月を指定してください");
+        }
+        YearMonth startMonth = YearMonth.of(Integer.parseInt(stampDeleteForm.getStartYear()),
+            Integer.parseInt(stampDeleteForm.getStartMonth()));
+        YearMonth endMonth = YearMonth.of(Integer.parseInt(stampDeleteForm.getEndYear()),
+            Integer.parseInt(stampDeleteForm.getEndMonth()));
+        // 実行中に締められた月は StampRangeDeleteRunner がチャンクごとに確認してジョブを失敗させる
+        for (YearMonth month = startMonth; !month.isAfter(endMonth); month = month.plusMonths(1)) {
+            if (monthCloseService.isClosed(month)) {
+                throw new ClosedMonthException(month);
+            }
+        }
+        return stampDeleteJobService.submit(startMonth, endMonth, updateEmployeeId);
     }
 
     /**
@@ -99,28 +116,39 @@ public class StampDeleteService {
      * 打刻記録をID単位で削除します。
      *
      * @param stampId          削除対象の打刻ID
+     * @param stampDate        削除対象の勤務日（主キーの一部。nullの場合はIDのみで検索）
      * @param updateEmployeeId 操作を行う従業員ID
      * @return 削除に成功した場合true
+     * @throws ClosedMonthException 締め済みの月の打刻記録の場合
      */
     @Transactional
-    public boolean deleteStampById(Integer stampId, Integer updateEmployeeId) {
+    public boolean deleteStampById(Integer stampId, LocalDate stampDate, Integer updateEmployeeId) {
         if (stampId == null) {
             throw new IllegalArgumentException("stampId must not be null");
         }
 
-        return stampHistoryMapper.getById(stampId)
+        return stampHistoryMapper.getById(stampId, stampDate)
             .map(history -> performSingleDelete(history, updateEmployeeId))
             .orElse(false);
     }
 
     private boolean performSingleDelete(StampHistory history, Integer updateEmployeeId) {
-        int deleted = stampHistoryMapper.deleteById(history.getId());
+        if (history.getStampDate() != null) {
+            monthCloseService.assertOpen(history.getStampDate());
+        }
+        int deleted = stampHistoryMapper.deleteById(history.getId(), history.getStampDate());
         if (deleted == 0) {
             return false;
         }
 
         Timestamp timestamp = Timestamp.from(clock.instant());
         logHistoryService.execute(5, 4, null, history.getEmployeeId(), updateEmployeeId, timestamp);
+        if (history.getStampDate() != null) {
+            eventPublisher.publishEvent(
+                StampHistoryChangedEvent.forDate(history.getEmployeeId(), history.getStampDate()));
+        } else {
+            eventPublisher.publishEvent(StampHistoryChangedEvent.forEmployee(history.getEmployeeId()));
+        }
         return true;
     }
 }
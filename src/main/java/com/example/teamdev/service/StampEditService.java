@@ -1,7 +1,9 @@
 package com.example.teamdev.service;
 
 import com.example.teamdev.dto.StampEditData;
+import com.example.teamdev.service.event.StampHistoryChangedEvent;
 import com.example.teamdev.service.stamp.*;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +25,8 @@ public class StampEditService {
     private final OutTimeAdjuster outTimeAdjuster;
     private final StampHistoryPersistence stampPersistence;
     private final LogHistoryRegistrationService logHistoryService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AttendanceMonthCloseService monthCloseService;
     private final Clock clock;
 
     /**
@@ -32,17 +36,23 @@ public class StampEditService {
      * @param outTimeAdjuster    退勤時刻調整器
      * @param stampPersistence   打刻履歴永続化
      * @param logHistoryService  ログ履歴サービス
+     * @param eventPublisher     打刻履歴変更イベントの発行元
+     * @param monthCloseService  月次締めサービス（締め済みの月の変更を拒否する）
      */
     public StampEditService(
             StampFormDataExtractor dataExtractor,
             OutTimeAdjuster outTimeAdjuster,
             StampHistoryPersistence stampPersistence,
             LogHistoryRegistrationService logHistoryService,
+            ApplicationEventPublisher eventPublisher,
+            AttendanceMonthCloseService monthCloseService,
             Clock clock) {
         this.dataExtractor = dataExtractor;
         this.outTimeAdjuster = outTimeAdjuster;
         this.stampPersistence = stampPersistence;
         this.logHistoryService = logHistoryService;
+        this.eventPublisher = eventPublisher;
+        this.monthCloseService = monthCloseService;
         this.clock = clock;
     }
 
@@ -53,6 +63,7 @@ public class StampEditService {
      *
      * @param stampEditList    打刻編集データのリスト
      * @param updateEmployeeId 更新を実行する従業員のID
+     * @throws com.example.teamdev.exception.ClosedMonthException 締め済みの月の打刻記録を含む場合（何も変更しません）
      */
     @Transactional
     public void execute(List<Map<String, Object>> stampEditList, int updateEmployeeId) {
@@ -94,6 +105,9 @@ public class StampEditService {
         // Step 1: データ抽出
         StampEditData data = dataExtractor.extractFromMap(stampEdit);
 
+        // Step 1.5: 締め済みの月は変更できない
+        monthCloseService.assertOpen(data.getStampDate());
+
         // Step 2: 時刻を直接OffsetDateTimeに変換（LocalDateを使用）
         java.time.OffsetDateTime inTime = parseToOffsetDateTime(
             data.getStampDate(), data.getInTime());
@@ -104,7 +118,14 @@ public class StampEditService {
         java.time.OffsetDateTime adjustedOutTime = outTimeAdjuster.adjustOutTimeIfNeeded(inTime, outTime);
 
         // Step 4: データ永続化
-        return stampPersistence.saveOrUpdate(data, inTime, adjustedOutTime, updateEmployeeId);
+        boolean saved = stampPersistence.saveOrUpdate(data, inTime, adjustedOutTime, updateEmployeeId);
+
+        // Step 5: 打刻履歴キャッシュの無効化通知（コミット後に反映）
+        if (saved) {
+            eventPublisher.publishEvent(
+                StampHistoryChangedEvent.forDate(data.getEmployeeId(), data.getStampDate()));
+        }
+        return saved;
     }
 
     /**
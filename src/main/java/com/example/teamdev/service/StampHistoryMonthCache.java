@@ -0,0 +1,231 @@
+package com.example.teamdev.service;
+
+import com.example.teamdev.service.event.AttendanceEvent;
+import com.example.teamdev.service.event.StampHistoryChangedEvent;
+import java.time.Clock;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 打刻履歴画面の月次グリッドのキャッシュ。
+ *
+ * <p>{@link StampHistoryService#execute} が算出した1か月分の表示データを
+ * {@code (従業員ID, 年月)} 単位で保持し、画面の再表示・再読み込みでのカレンダー問い合わせを省略します。</p>
+ *
+ * <ul>
+ *   <li>当月以降は打刻で頻繁に変わるため、件数上限・保持期間を短くした領域に保持します</li>
+ *   <li>過去月はほとんど変わらないため、件数上限・保持期間を長くした領域に保持します</li>
+ *   <li>各領域は件数上限を超えると最も長く参照されていないエントリから破棄します（LRU）</li>
+ * </ul>
+ *
+ * <p>打刻・修正申請・編集・削除・月次締めなどの変更は、コミット後に受け取る
+ * {@link AttendanceEvent} / {@link StampHistoryChangedEvent} で対象の従業員・年月のみ無効化します。
+ * 読み込み中に無効化が発生した場合は、変更前のデータの可能性があるため保存しません。</p>
+ *
+ * <p>呼び出し元が条件付きGETのバージョン（ETag）を渡した場合は、エントリを保存時のバージョンと照合し、
+ * 異なる場合は読み込み直します。イベントの届かないほかのノードでの変更も、応答のETagと本体がずれることはありません。</p>
+ */
+@Component
+public class StampHistoryMonthCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(StampHistoryMonthCache.class);
+
+    private final Clock clock;
+    private final Tier currentTier;
+    private final Tier pastTier;
+
+    /** 無効化ごとに進む世代番号。読み込み開始後に進んだ場合は保存しない（このインスタンスのロック下で更新） */
+    private long generation;
+
+    public StampHistoryMonthCache(
+            Clock clock,
+            @Value("${app.stamp-history-cache.current-month-max-entries:1000}") int currentMonthMaxEntries,
+            @Value("${app.stamp-history-cache.current-month-ttl-seconds:60}") long currentMonthTtlSeconds,
+            @Value("${app.stamp-history-cache.past-month-max-entries:10000}") int pastMonthMaxEntries,
+            @Value("${app.stamp-history-cache.past-month-ttl-seconds:3600}") long pastMonthTtlSeconds) {
+        if (currentMonthMaxEntries < 0 || pastMonthMaxEntries < 0
+                || currentMonthTtlSeconds < 0 || pastMonthTtlSeconds < 0) {
+            throw new IllegalArgumentException("stamp-history-cache settings must not be negative");
+        }
+        this.clock = clock;
+        this.currentTier = new Tier(currentMonthMaxEntries, currentMonthTtlSeconds * 1000L);
+        this.pastTier = new Tier(pastMonthMaxEntries, pastMonthTtlSeconds * 1000L);
+    }
+
+    /**
+     * キャッシュ済みの月次グリッドを返します。未保持・期限切れの場合は読み込んで保存します。
+     *
+     * @param employeeId 従業員ID
+     * @param month      対象年月
+     * @param loader     月次グリッドの読み込み処理
+     * @return 月次グリッド（変更不可）
+     */
+    public List<Map<String, Object>> get(int employeeId, YearMonth month, Supplier<List<Map<String, Object>>> loader) {
+        return get(employeeId, month, null, loader);
+    }
+
+    /**
+     * 指定したバージョンのキャッシュ済み月次グリッドを返します。
+     * 未保持・期限切れ・保存時とバージョンが異なる場合は読み込んで、そのバージョンとして保存します。
+     *
+     * @param employeeId 従業員ID
+     * @param month      対象年月
+     * @param version    読み込み前に取得したバージョン（null の場合は照合しない）
+     * @param loader     月次グリッドの読み込み処理（バージョン取得時点以降のデータを返すこと）
+     * @return 月次グリッド（変更不可）
+     */
+    public List<Map<String, Object>> get(
+            int employeeId,
+            YearMonth month,
+            String version,
+            Supplier<List<Map<String, Object>>> loader) {
+        Key key = new Key(employeeId, month);
+        Tier tier = tierOf(month);
+        long observedGeneration;
+        synchronized (this) {
+            List<Map<String, Object>> cached = tier.get(key, version, clock.millis());
+            if (cached != null) {
+                return cached;
+            }
+            observedGeneration = generation;
+        }
+
+        List<Map<String, Object>> loaded = freeze(loader.get());
+        synchronized (this) {
+            if (generation == observedGeneration) {
+                tier.put(key, loaded, version, clock.millis());
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 打刻・修正申請のコミット後に対象の従業員・年月を無効化します。
+     *
+     * @param event 勤怠イベント
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAttendanceEvent(AttendanceEvent event) {
+        if (event.employeeId() == null) {
+            return;
+        }
+        invalidate(event.stampDate() != null
+            ? StampHistoryChangedEvent.forDate(event.employeeId(), event.stampDate())
+            : StampHistoryChangedEvent.forEmployee(event.employeeId()));
+    }
+
+    /**
+     * 打刻履歴の変更がコミットされた後に対象の従業員・年月を無効化します。
+     *
+     * @param event 打刻履歴変更イベント
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStampHistoryChanged(StampHistoryChangedEvent event) {
+        invalidate(event);
+    }
+
+    /**
+     * 変更の対象となるエントリを破棄します。
+     *
+     * @param event 打刻履歴変更イベント
+     */
+    public synchronized void invalidate(StampHistoryChangedEvent event) {
+        generation++;
+        int removed;
+        if (event.employeeId() != null && event.fromMonth() != null && event.fromMonth().equals(event.toMonth())) {
+            Key key = new Key(event.employeeId(), event.fromMonth());
+            removed = currentTier.remove(key) + pastTier.remove(key);
+        } else {
+            removed = currentTier.removeIf(event) + pastTier.removeIf(event);
+        }
+        logger.debug("Stamp history cache invalidated for {}: {} entries removed", event, removed);
+    }
+
+    /**
+     * 保持しているエントリ数を返します。
+     *
+     * @return エントリ数
+     */
+    public synchronized int size() {
+        return currentTier.entries.size() + pastTier.entries.size();
+    }
+
+    private Tier tierOf(YearMonth month) {
+        return month.isBefore(YearMonth.now(clock)) ? pastTier : currentTier;
+    }
+
+    private static List<Map<String, Object>> freeze(List<Map<String, Object>> grid) {
+        List<Map<String, Object>> frozen = new ArrayList<>(grid.size());
+        for (Map<String, Object> row : grid) {
+            frozen.add(Collections.unmodifiableMap(row));
+        }
+        return Collections.unmodifiableList(frozen);
+    }
+
+    private record Key(int employeeId, YearMonth month) {
+    }
+
+    private record Entry(List<Map<String, Object>> grid, String version, long expiresAtMillis) {
+    }
+
+    /**
+     * 件数上限と保持期間を持つ LRU 領域。呼び出し元のロック下で使用します。
+     */
+    private static final class Tier {
+
+        private final int maxEntries;
+        private final long ttlMillis;
+        private final LinkedHashMap<Key, Entry> entries;
+
+        private Tier(int maxEntries, long ttlMillis) {
+            this.maxEntries = maxEntries;
+            this.ttlMillis = ttlMillis;
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                    return size() > Tier.this.maxEntries;
+                }
+            };
+        }
+
+        private List<Map<String, Object>> get(Key key, String version, long nowMillis) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAtMillis() <= nowMillis
+                    || version != null && !version.equals(entry.version())) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.grid();
+        }
+
+        private void put(Key key, List<Map<String, Object>> grid, String version, long nowMillis) {
+            if (maxEntries == 0 || ttlMillis == 0) {
+                return;
+            }
+            entries.put(key, new Entry(grid, version, nowMillis + ttlMillis));
+        }
+
+        private int remove(Key key) {
+            return entries.remove(key) != null ? 1 : 0;
+        }
+
+        private int removeIf(StampHistoryChangedEvent event) {
+            int before = entries.size();
+            entries.keySet().removeIf(key -> event.covers(key.employeeId(), key.month()));
+            return before - entries.size();
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package com.example.teamdev.service;
+
+import com.example.teamdev.entity.Employee;
+import com.example.teamdev.entity.StampHistoryDisplay;
+import com.example.teamdev.entity.StampHistoryMonthRow;
+import com.example.teamdev.mapper.EmployeeMapper;
+import com.example.teamdev.mapper.StampHistoryMapper;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 未締め月の打刻記録をカレンダー形式（対象月の全日 × 従業員）で取得するコンポーネント。
+ *
+ * <p>疎取得モード（既定）では、打刻記録または修正申請が存在する日のみを整形前の生値で取得し、
+ * 月ごとに1度だけ構築する不変のカレンダーテンプレート（日付文字列・曜日）へアプリケーション側で展開します。
+ * 時刻の整形と氏名の結合もアプリケーション側で行い、共有DBの CPU 負荷をスケールアウト可能なアプリケーションへ移します。</p>
+ *
+ * <p>{@code app.stamp-history.sparse-fetch=false} の場合は従来どおり SQL でカレンダー行を生成します。
+ * どちらのモードも同じ内容・順序（従業員IDの指定順・日付順）の結果を返します。</p>
+ */
+@Component
+public class StampHistoryMonthReader {
+
+    private static final ZoneId BUSINESS_ZONE = ZoneId.of("Asia/Tokyo");
+    private static final DateTimeFormatter TIME_FORMAT =
+        DateTimeFormatter.ofPattern("HH:mm").withZone(BUSINESS_ZONE);
+    private static final DateTimeFormatter UPDATE_DATE_FORMAT =
+        DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm").withZone(BUSINESS_ZONE);
+    /** {@link java.time.DayOfWeek#getValue()} - 1 で参照する曜日ラベル */
+    private static final String[] DAY_OF_WEEK_LABELS = {"月", "火", "水", "木", "金", "土", "日"};
+    /** 保持するテンプレート数の上限（超えた場合は全て破棄して作り直す） */
+    private static final int MAX_TEMPLATES = 240;
+
+    private static final Map<YearMonth, List<CalendarDay>> TEMPLATES = new ConcurrentHashMap<>();
+
+    private final StampHistoryMapper mapper;
+    private final EmployeeMapper employeeMapper;
+    private final boolean sparseFetch;
+
+    public StampHistoryMonthReader(
+            StampHistoryMapper mapper,
+            EmployeeMapper employeeMapper,
+            @Value("${app.stamp-history.sparse-fetch:true}") boolean sparseFetch) {
+        this.mapper = mapper;
+        this.employeeMapper = employeeMapper;
+        this.sparseFetch = sparseFetch;
+    }
+
+    /**
+     * 1従業員の対象月の打刻記録を取得します。
+     *
+     * @param year         年（YYYY）
+     * @param month        月（MM）
+     * @param employeeId   従業員ID
+     * @param datesInMonth 対象月のすべての日付
+     * @return 対象月の日数分の打刻記録（日付順）
+     */
+    public List<StampHistoryDisplay> read(String year, String month, int employeeId, List<LocalDate> datesInMonth) {
+        if (!sparseFetch) {
+            return mapper.getStampHistoryByYearMonthEmployeeId(year, month, employeeId, datesInMonth);
+        }
+        return readSparse(List.of(employeeId), datesInMonth);
+    }
+
+    /**
+     * 複数従業員の対象月の打刻記録を取得します。
+     *
+     * @param year         年（YYYY）
+     * @param month        月（MM）
+     * @param employeeIds  従業員IDのリスト
+     * @param datesInMonth 対象月のすべての日付
+     * @return 従業員ごとに対象月の日数分の打刻記録（従業員IDの指定順・日付順）
+     */
+    public List<StampHistoryDisplay> read(String year, String month, List<Integer> employeeIds,
+                                          List<LocalDate> datesInMonth) {
+        if (!sparseFetch) {
+            return mapper.getStampHistoryByYearMonthEmployeeIds(year, month, employeeIds, datesInMonth);
+        }
+        return readSparse(employeeIds, datesInMonth);
+    }
+
+    private List<StampHistoryDisplay> readSparse(List<Integer> employeeIds, List<LocalDate> datesInMonth) {
+        if (employeeIds == null || employeeIds.isEmpty() || datesInMonth == null || datesInMonth.isEmpty()) {
+            return List.of();
+        }
+        YearMonth month = YearMonth.from(datesInMonth.get(0));
+        List<StampHistoryMonthRow> rows = mapper.findMonthRows(
+            employeeIds, month.atDay(1), month.plusMonths(1).atDay(1));
+
+        Set<Integer> nameIds = new LinkedHashSet<>(employeeIds);
+        for (StampHistoryMonthRow row : rows) {
+            if (row.getUpdateEmployeeId() != null) {
+                nameIds.add(row.getUpdateEmployeeId());
+            }
+        }
+        Map<Integer, String> names = new HashMap<>(nameIds.size() * 2);
+        for (Employee employee : employeeMapper.getNamesByIdList(new ArrayList<>(nameIds))) {
+            names.put(employee.getId(), fullName(employee.getFirstName(), employee.getLastName()));
+        }
+        return merge(template(month), employeeIds, rows, names);
+    }
+
+    /**
+     * 疎取得した行をカレンダーテンプレートへ展開します。
+     * 行が存在しない日は日付・曜日・従業員のみを設定した行を出力します。
+     */
+    static List<StampHistoryDisplay> merge(
+            List<CalendarDay> template,
+            List<Integer> employeeIds,
+            List<StampHistoryMonthRow> rows,
+            Map<Integer, String> names) {
+        LocalDate firstDay = template.get(0).date();
+        int days = template.size();
+        // 従業員ごとに日付（月内の通し番号）単位で行を振り分ける（同じ日に複数の打刻記録がある場合は ID 順）
+        Map<Integer, List<List<StampHistoryMonthRow>>> byEmployee = new HashMap<>(employeeIds.size() * 2);
+        for (StampHistoryMonthRow row : rows) {
+            int dayIndex = (int) ChronoUnit.DAYS.between(firstDay, row.getStampDate());
+            if (dayIndex < 0 || dayIndex >= days) {
+                continue;
+            }
+            List<List<StampHistoryMonthRow>> slots = byEmployee.computeIfAbsent(row.getEmployeeId(), id -> {
+                List<List<StampHistoryMonthRow>> empty = new ArrayList<>(days);
+                for (int i = 0; i < days; i++) {
+                    empty.add(null);
+                }
+                return empty;
+            });
+            List<StampHistoryMonthRow> slot = slots.get(dayIndex);
+            if (slot == null) {
+                slot = new ArrayList<>(1);
+                slots.set(dayIndex, slot);
+            }
+            slot.add(row);
+        }
+
+        String emptyName = fullName(null, null);
+        List<StampHistoryDisplay> result = new ArrayList<>(employeeIds.size() * days);
+        for (Integer employeeId : employeeIds) {
+            String employeeName = names.getOrDefault(employeeId, emptyName);
+            List<List<StampHistoryMonthRow>> slots = byEmployee.get(employeeId);
+            for (int i = 0; i < days; i++) {
+                CalendarDay day = template.get(i);
+                List<StampHistoryMonthRow> slot = slots != null ? slots.get(i) : null;
+                if (slot == null) {
+                    result.add(toDisplay(day, employeeId, employeeName, null, emptyName));
+                    continue;
+                }
+                if (slot.size() > 1) {
+                    slot.sort((a, b) -> compareNullsFirst(a.getStampHistoryId(), b.getStampHistoryId()));
+                }
+                for (StampHistoryMonthRow row : slot) {
+                    String updateEmployeeName = row.getUpdateEmployeeId() != null
+                        ? names.getOrDefault(row.getUpdateEmployeeId(), emptyName)
+                        : emptyName;
+                    result.add(toDisplay(day, employeeId, employeeName, row, updateEmployeeName));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 対象月のカレンダーテンプレート（不変）を返します。月ごとに1度だけ構築します。
+     *
+     * @param month 対象月
+     * @return 日付順のカレンダー日
+     */
+    static List<CalendarDay> template(YearMonth month) {
+        List<CalendarDay> template = TEMPLATES.get(month);
+        if (template != null) {
+            return template;
+        }
+        if (TEMPLATES.size() >= MAX_TEMPLATES) {
+            TEMPLATES.clear();
+        }
+        return TEMPLATES.computeIfAbsent(month, StampHistoryMonthReader::buildTemplate);
+    }
+
+    private static List<CalendarDay> buildTemplate(YearMonth month) {
+        String year = String.format("%04d", month.getYear());
+        String monthValue = String.format("%02d", month.getMonthValue());
+        List<CalendarDay> days = new ArrayList<>(month.lengthOfMonth());
+        for (int day = 1; day <= month.lengthOfMonth(); day++) {
+            LocalDate date = month.atDay(day);
+            days.add(new CalendarDay(date, year, monthValue, String.format("%02d", day),
+                DAY_OF_WEEK_LABELS[date.getDayOfWeek().getValue() - 1]));
+        }
+        return List.copyOf(days);
+    }
+
+    private static StampHistoryDisplay toDisplay(CalendarDay day, Integer employeeId, String employeeName,
+                                                 StampHistoryMonthRow row, String updateEmployeeName) {
+        StampHistoryDisplay display = new StampHistoryDisplay();
+        display.setYear(day.year());
+        display.setMonth(day.month());
+        display.setDay(day.day());
+        display.setStampDate(day.date());
+        display.setDayOfWeek(day.dayOfWeek());
+        display.setEmployeeId(employeeId);
+        display.setEmployeeName(employeeName);
+        display.setUpdateEmployeeName(updateEmployeeName);
+        if (row == null) {
+            return display;
+        }
+        Integer stampHistoryId = row.getStampHistoryId();
+        display.setId(stampHistoryId);
+        display.setRequestId(row.getRequestId());
+        display.setRequestStatus(row.getRequestStatus());
+        if (stampHistoryId == null) {
+            // 修正申請のみ存在する日
+            return display;
+        }
+        display.setInTime(formatTime(row.getInTime()));
+        display.setOutTime(formatTime(row.getOutTime()));
+        display.setBreakStartTime(formatTime(row.getBreakStartTime()));
+        display.setBreakEndTime(formatTime(row.getBreakEndTime()));
+        display.setOvertimeMinutes(0);
+        display.setIsNightShift(row.getIsNightShift());
+        display.setUpdateDate(row.getUpdateDate() != null ? UPDATE_DATE_FORMAT.format(row.getUpdateDate()) : null);
+        display.setInTimeRaw(row.getInTime());
+        display.setOutTimeRaw(row.getOutTime());
+        display.setBreakStartTimeRaw(row.getBreakStartTime());
+        display.setBreakEndTimeRaw(row.getBreakEndTime());
+        return display;
+    }
+
+    private static String formatTime(OffsetDateTime value) {
+        return value != null ? TIME_FORMAT.format(value) : null;
+    }
+
+    /** SQL の {@code concat_ws(' ', COALESCE(first_name, ''), COALESCE(last_name, ''))} と同じ結合 */
+    private static String fullName(String firstName, String lastName) {
+        return (firstName != null ? firstName : "") + " " + (lastName != null ? lastName : "");
+    }
+
+    private static int compareNullsFirst(Integer a, Integer b) {
+        if (a == null) {
+            return b == null ? 0 : -1;
+        }
+        return b == null ? 1 : a.compareTo(b);
+    }
+
+    /**
+     * カレンダーテンプレートの1日分。
+     *
+     * @param date      日付
+     * @param year      年（YYYY）
+     * @param month     月（MM）
+     * @param day       日（DD）
+     * @param dayOfWeek 曜日（日〜土）
+     */
+    record CalendarDay(LocalDate date, String year, String month, String day, String dayOfWeek) {
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.teamdev.service;
+
+import com.example.teamdev.mapper.StampHistoryPartitionMapper;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.YearMonth;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 打刻記録の月単位のパーティションを事前に作成するコンポーネント。
+ *
+ * <p>起動時と一定間隔で、当月から {@code months-ahead} か月先までのパーティションを作成します。
+ * パーティションがない月の行は既定パーティション（{@code stamp_history_default}）に入り、
+ * その月のパーティションは既定パーティションの行を移すまで作成できなくなるため、余裕を持って作成します。</p>
+ */
+@Component
+public class StampHistoryPartitionMaintainer {
+
+    private static final Logger log = LoggerFactory.getLogger(StampHistoryPartitionMaintainer.class);
+
+    private final StampHistoryPartitionMapper mapper;
+    private final Clock clock;
+    private final int monthsAhead;
+    private final long checkIntervalHours;
+    private final ScheduledExecutorService scheduler;
+
+    public StampHistoryPartitionMaintainer(
+        StampHistoryPartitionMapper mapper,
+        Clock clock,
+        @Value("${app.stamp-history.partition.months-ahead:3}") int monthsAhead,
+        @Value("${app.stamp-history.partition.check-interval-hours:24}") long checkIntervalHours
+    ) {
+        if (monthsAhead < 1 || checkIntervalHours < 1) {
+            throw new IllegalArgumentException("stamp-history partition settings must be positive");
+        }
+        this.mapper = mapper;
+        this.clock = clock;
+        this.monthsAhead = monthsAhead;
+        this.checkIntervalHours = checkIntervalHours;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "stamp-history-partition");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 起動時にパーティションを作成し、以降の定期実行を開始します。
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::ensureUpcomingPartitions, 0L, checkIntervalHours, TimeUnit.HOURS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 当月から {@code months-ahead} か月先までのパーティションを作成します。
+     * 作成できない月があっても残りの月の作成を続けます。
+     *
+     * @return 新たに作成したパーティションの数
+     */
+    public int ensureUpcomingPartitions() {
+        YearMonth current = YearMonth.now(clock);
+        int created = 0;
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            try {
+                if (mapper.ensurePartition(month.atDay(1))) {
+                    created++;
+                    log.info("Created stamp_history partition for {}", month);
+                }
+            } catch (DataAccessException e) {
+                // 既定パーティションにその月の行がある場合など。行を移すまで毎回警告する
+                log.warn("Failed to create stamp_history partition for {}: {}", month, e.getMessage());
+            }
+        }
+        return created;
+    }
+}
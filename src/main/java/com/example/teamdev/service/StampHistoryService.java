@@ -2,19 +2,22 @@ package com.example.teamdev.service;
 
 import java.time.Clock;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import com.example.teamdev.config.ReplicaLsnTracker;
 import com.example.teamdev.entity.StampHistoryDisplay;
-import com.example.teamdev.mapper.StampHistoryMapper;
 import com.example.teamdev.service.dto.DailyAttendanceRecord;
 import com.example.teamdev.service.profile.ProfileMetadataRepository;
 import com.example.teamdev.service.profile.model.ProfileMetadataDocument;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * 打刻記録確認
@@ -23,8 +26,7 @@ import org.springframework.stereotype.Service;
 @Service
 public class StampHistoryService{
 
-	@Autowired
-	StampHistoryMapper mapper;
+	private final StampHistoryMonthReader monthReader;
 
 	@Autowired
 	private ObjectMapper objectMapper;
@@ -32,6 +34,12 @@ public class StampHistoryService{
 	@Autowired
 	private ProfileMetadataRepository profileMetadataRepository;
 
+	private final AttendanceMonthCloseService monthCloseService;
+
+	private final StampHistoryMonthCache monthCache;
+
+	private final TransactionTemplate readOnlyTransaction;
+
 	private final Clock clock;
 
 	/**
@@ -39,18 +47,38 @@ public class StampHistoryService{
 	 * Clockが提供されていない場合はシステムデフォルトのClockを使用
 	 */
 	public StampHistoryService(
-			StampHistoryMapper mapper,
+			StampHistoryMonthReader monthReader,
 			ObjectMapper objectMapper,
 			ProfileMetadataRepository profileMetadataRepository,
+			AttendanceMonthCloseService monthCloseService,
+			StampHistoryMonthCache monthCache,
+			PlatformTransactionManager transactionManager,
 			@Autowired(required = false) Clock clock) {
-		this.mapper = mapper;
+		this.monthReader = monthReader;
 		this.objectMapper = objectMapper;
 		this.profileMetadataRepository = profileMetadataRepository;
+		this.monthCloseService = monthCloseService;
+		this.monthCache = monthCache;
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
 		this.clock = clock != null ? clock : Clock.systemDefaultZone();
 	}
 
-	//打刻記録取得
+	//打刻記録取得（月次キャッシュを優先し、未保持の場合のみ読み取り専用トランザクションで取得する）
 	public List<Map<String,Object>> execute(String year, String month, int employeeId) {
+		return execute(year, month, employeeId, null);
+	}
+
+	//打刻記録取得（versionは条件付きGETのETag。キャッシュの保存時と異なる場合は読み込み直す）
+	//キャッシュは後続のリクエストにも返すため、リードレプリカ使用時もプライマリから読み取る
+	public List<Map<String,Object>> execute(String year, String month, int employeeId, String version) {
+		YearMonth targetMonth = YearMonth.of(Integer.parseInt(year), Integer.parseInt(month));
+		return monthCache.get(employeeId, targetMonth, version,
+				() -> ReplicaLsnTracker.onPrimary(
+						() -> readOnlyTransaction.execute(status -> load(year, month, employeeId))));
+	}
+
+	private List<Map<String,Object>> load(String year, String month, int employeeId) {
 
 		List<Map<String,Object>>stampHistoryMapList = new ArrayList<Map<String,Object>>();
 		Map<String, Object> stampHistoryMap = new HashMap<String, Object>();
@@ -63,21 +91,28 @@ public class StampHistoryService{
             datesInMonth.add(date);
         }
 
+		//締め済みの月はスナップショット（残業分数は締め時点の計算値）から取得する
+		YearMonth targetMonth = YearMonth.from(startDate);
+		boolean closed = monthCloseService.isClosed(targetMonth);
+
 		//対象年月・従業員IDの打刻記録をカレンダー形式で取得する
 		//形式：year(YYYY),month(MM),startDate(YYYYMM01)
-		List<StampHistoryDisplay> stampHistoryList =
-				mapper.getStampHistoryByYearMonthEmployeeId(year, month, employeeId, datesInMonth);
-		ProfileMetadataDocument metadata = profileMetadataRepository.load(employeeId);
+		List<StampHistoryDisplay> stampHistoryList = closed
+				? monthCloseService.getClosedMonthHistories(targetMonth, List.of(employeeId), datesInMonth)
+				: monthReader.read(year, month, employeeId, datesInMonth);
+		ProfileMetadataDocument metadata = closed ? null : profileMetadataRepository.load(employeeId);
 
 		for (StampHistoryDisplay stampHistory : stampHistoryList) {
-			DailyAttendanceRecord record = new DailyAttendanceRecord(
-				stampHistory.getInTimeRaw(),
-				stampHistory.getBreakStartTimeRaw(),
-				stampHistory.getBreakEndTimeRaw(),
-				stampHistory.getOutTimeRaw()
-			);
-			int overtimeMinutes = OvertimeCalculator.calculateOvertimeMinutes(record, metadata.schedule());
-			stampHistory.setOvertimeMinutes(overtimeMinutes);
+			if (!closed) {
+				DailyAttendanceRecord record = new DailyAttendanceRecord(
+					stampHistory.getInTimeRaw(),
+					stampHistory.getBreakStartTimeRaw(),
+					stampHistory.getBreakEndTimeRaw(),
+					stampHistory.getOutTimeRaw()
+				);
+				int overtimeMinutes = OvertimeCalculator.calculateOvertimeMinutes(record, metadata.schedule());
+				stampHistory.setOvertimeMinutes(overtimeMinutes);
+			}
 
 			//取得した打刻記録をmapに詰め替え
 			stampHistoryMap = objectMapper.convertValue(stampHistory, Map.class);
@@ -2,13 +2,14 @@ package com.example.teamdev.service;
 
 import com.example.teamdev.entity.StampHistoryDisplay;
 import com.example.teamdev.form.StampOutputForm;
-import com.example.teamdev.mapper.StampHistoryMapper;
 import com.example.teamdev.service.StampCsvDocumentFactory.StampCsvDocument;
 import com.opencsv.CSVWriter;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.IOException;
 import java.net.URLEncoder;
@@ -16,6 +17,7 @@ import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
 import java.time.Clock;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -32,28 +34,36 @@ public class StampOutputService {
     private static final Logger logger = LoggerFactory.getLogger(
             StampOutputService.class);
 
-    private final StampHistoryMapper mapper;
+    private final StampHistoryMonthReader monthReader;
     private final LogHistoryRegistrationService logHistoryService;
     private final StampCsvDocumentFactory documentFactory;
+    private final AttendanceMonthCloseService monthCloseService;
     private final Clock clock;
+    private final TransactionTemplate readOnlyTransaction;
 
     public StampOutputService(
-        StampHistoryMapper mapper,
+        StampHistoryMonthReader monthReader,
         LogHistoryRegistrationService logHistoryService,
         StampCsvDocumentFactory documentFactory,
-        Clock clock
+        AttendanceMonthCloseService monthCloseService,
+        Clock clock,
+        PlatformTransactionManager transactionManager
     ) {
-        this.mapper = mapper;
+        this.monthReader = monthReader;
         this.logHistoryService = logHistoryService;
         this.documentFactory = documentFactory;
+        this.monthCloseService = monthCloseService;
         this.clock = clock;
+        // 出力対象の読み取りは読み取り専用トランザクションで行う（リードレプリカ使用時はレプリカから読み取る）
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     public void execute(HttpServletResponse response, StampOutputForm stampOutputForm,
             Integer updateEmployeeId) throws IOException {
 
         StampOutputRequest request = createRequest(stampOutputForm);
-        StampExportMaterial exportMaterial = collectStampHistories(request);
+        StampExportMaterial exportMaterial = readOnlyTransaction.execute(status -> collectStampHistories(request));
         StampCsvDocument document = documentFactory.create(
                 request.year(), request.month(), exportMaterial.employeeNames(), exportMaterial.histories());
 
@@ -85,9 +95,13 @@ public class StampOutputService {
         }
 
         List<LocalDate> datesInMonth = createDateRange(request.year(), request.month());
-        List<StampHistoryDisplay> histories = mapper.getStampHistoryByYearMonthEmployeeIds(
-                request.year(), request.month(), employeeIds, datesInMonth
-        );
+        // 締め済みの月は締め時点のスナップショットを出力する
+        YearMonth targetMonth = YearMonth.from(datesInMonth.get(0));
+        List<StampHistoryDisplay> histories = monthCloseService.isClosed(targetMonth)
+                ? monthCloseService.getClosedMonthHistories(targetMonth, employeeIds, datesInMonth)
+                : monthReader.read(
+                        request.year(), request.month(), employeeIds, datesInMonth
+                );
 
         List<String> employeeNames = buildEmployeeNames(employeeIds, histories);
         return new StampExportMaterial(employeeNames, histories);
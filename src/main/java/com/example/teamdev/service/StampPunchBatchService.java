@@ -0,0 +1,230 @@
+package com.example.teamdev.service;
+
+import com.example.teamdev.constant.StampPunchOutcome;
+import com.example.teamdev.entity.StampPunchIdempotency;
+import com.example.teamdev.exception.ClosedMonthException;
+import com.example.teamdev.exception.DuplicateStampException;
+import com.example.teamdev.exception.InvalidStampStateException;
+import com.example.teamdev.form.HomeForm;
+import com.example.teamdev.mapper.EmployeeMapper;
+import com.example.teamdev.service.dto.StampPunch;
+import com.example.teamdev.service.dto.StampPunchResult;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * キオスク端末からの一括打刻サービス。
+ *
+ * <p>端末がオフライン中に蓄積した複数従業員の打刻を1トランザクションで記録します。</p>
+ * <ul>
+ *   <li>冪等キーが処理済みの打刻は何も変更せず、初回の処理結果を返します（{@link StampPunchIdempotencyStore}）。
+ *       キーは送信した端末・従業員ごとに区別します</li>
+ *   <li>未処理の打刻は従業員ごとに打刻時刻の順で {@link StampService#execute} と同じ規則で記録します</li>
+ *   <li>各打刻はセーブポイント内で記録するため、記録できない打刻（DBエラーを含む）があっても他の打刻はそのままコミットされます</li>
+ * </ul>
+ */
+@Service
+public class StampPunchBatchService {
+
+    private static final Logger log = LoggerFactory.getLogger(StampPunchBatchService.class);
+
+    private final StampService stampService;
+    private final StampPunchIdempotencyStore idempotencyStore;
+    private final EmployeeMapper employeeMapper;
+    private final TransactionTemplate savepointTemplate;
+    private final int maxBatchSize;
+
+    public StampPunchBatchService(
+        StampService stampService,
+        StampPunchIdempotencyStore idempotencyStore,
+        EmployeeMapper employeeMapper,
+        PlatformTransactionManager transactionManager,
+        @Value("${app.kiosk.max-batch-size:1000}") int maxBatchSize
+    ) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("app.kiosk.max-batch-size must be positive");
+        }
+        this.stampService = stampService;
+        this.idempotencyStore = idempotencyStore;
+        this.employeeMapper = employeeMapper;
+        this.savepointTemplate = new TransactionTemplate(transactionManager);
+        this.savepointTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * 打刻を一括で記録します。
+     *
+     * @param kioskId 送信したキオスク端末のアカウントの従業員ID
+     * @param punches 打刻（同じ従業員・冪等キーが複数ある場合は最初の打刻のみ処理し、以降は再送として扱う）
+     * @return 入力と同じ順序の処理結果
+     * @throws IllegalArgumentException 件数が上限（{@code app.kiosk.max-batch-size}）を超える場合
+     */
+    @Transactional
+    public List<StampPunchResult> apply(int kioskId, List<StampPunch> punches) {
+        Objects.requireNonNull(punches, "punches must not be null");
+        if (punches.size() > maxBatchSize) {
+            throw new IllegalArgumentException(
+                "一度に送信できる打刻は" + maxBatchSize + "件までです: " + punches.size());
+        }
+
+        StampPunchResult[] results = new StampPunchResult[punches.size()];
+        StampPunchIdempotencyStore.ScopedKey[] keys = new StampPunchIdempotencyStore.ScopedKey[punches.size()];
+        Map<StampPunchIdempotencyStore.ScopedKey, Integer> firstIndexByKey = new HashMap<>();
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < punches.size(); i++) {
+            StampPunch punch = punches.get(i);
+            keys[i] = new StampPunchIdempotencyStore.ScopedKey(kioskId, punch.employeeId(), punch.idempotencyKey());
+            if (firstIndexByKey.putIfAbsent(keys[i], i) != null) {
+                continue;
+            }
+            Optional<StampPunchIdempotencyStore.Recorded> cached = idempotencyStore.findCached(keys[i]);
+            if (cached.isPresent()) {
+                results[i] = replay(punch, cached.get());
+            } else {
+                pending.add(i);
+            }
+        }
+
+        Set<StampPunchIdempotencyStore.ScopedKey> claimed =
+            idempotencyStore.claim(pending.stream().map(i -> keys[i]).toList());
+        List<Integer> toApply = new ArrayList<>();
+        List<StampPunchIdempotencyStore.ScopedKey> alreadyClaimed = new ArrayList<>();
+        for (int i : pending) {
+            if (claimed.contains(keys[i])) {
+                toApply.add(i);
+            } else {
+                alreadyClaimed.add(keys[i]);
+            }
+        }
+        Map<StampPunchIdempotencyStore.ScopedKey, StampPunchIdempotencyStore.Recorded> recorded =
+            idempotencyStore.findRecorded(alreadyClaimed);
+        for (int i : pending) {
+            StampPunchIdempotencyStore.Recorded previous = recorded.get(keys[i]);
+            if (previous != null) {
+                results[i] = replay(punches.get(i), previous);
+            } else if (!claimed.contains(keys[i])) {
+                // 確保できなかったが結果も見つからない（保持期間切れで削除された直後など）。記録せずに再送を促す
+                results[i] = new StampPunchResult(punches.get(i).idempotencyKey(), punches.get(i).employeeId(),
+                    StampPunchOutcome.REJECTED, "冪等キーを確認できませんでした。再送してください", false);
+            }
+        }
+
+        Set<Integer> failed = applyInOrder(punches, toApply, results);
+        // DBエラーで記録できなかった打刻はキーを解放し、同じキーでの再送で記録し直せるようにする
+        idempotencyStore.release(failed.stream().map(i -> keys[i]).toList());
+        idempotencyStore.record(toApply.stream()
+            .filter(i -> !failed.contains(i))
+            .map(i -> new StampPunchIdempotency(kioskId, results[i].idempotencyKey(), results[i].employeeId(),
+                results[i].outcome(), results[i].message(), null))
+            .toList());
+
+        for (int i = 0; i < punches.size(); i++) {
+            if (results[i] == null) {
+                results[i] = results[firstIndexByKey.get(keys[i])].asReplay();
+            }
+        }
+        if (log.isInfoEnabled()) {
+            log.info("Kiosk punch batch from kiosk {}: {} punch(es), {} applied, {} replayed",
+                kioskId,
+                punches.size(),
+                Arrays.stream(results).filter(r -> !r.replayed() && r.outcome() == StampPunchOutcome.APPLIED).count(),
+                Arrays.stream(results).filter(StampPunchResult::replayed).count());
+        }
+        return List.of(results);
+    }
+
+    /**
+     * 確保した打刻を従業員ごとに打刻時刻の順で記録します（従業員ID順に処理するため、行ロックの取得順も揃います）。
+     *
+     * @return DBエラーで記録できなかった打刻の位置
+     */
+    private Set<Integer> applyInOrder(List<StampPunch> punches, List<Integer> indexes, StampPunchResult[] results) {
+        Map<Integer, Instant> stampTimes = new HashMap<>();
+        for (int i : indexes) {
+            StampPunch punch = punches.get(i);
+            try {
+                stampTimes.put(i, OffsetDateTime.parse(punch.stampTime()).toInstant());
+            } catch (DateTimeParseException | NullPointerException e) {
+                results[i] = rejected(punch, "打刻時刻の形式が不正です: " + punch.stampTime());
+            }
+        }
+        List<Integer> ordered = new ArrayList<>(stampTimes.keySet());
+        ordered.sort(Comparator
+            .<Integer>comparingInt(i -> punches.get(i).employeeId())
+            .thenComparing(stampTimes::get)
+            .thenComparingInt(i -> i));
+
+        Set<Integer> employeeIds = new HashSet<>();
+        if (!ordered.isEmpty()) {
+            List<Integer> ids = ordered.stream().map(i -> punches.get(i).employeeId()).distinct().toList();
+            employeeIds.addAll(employeeMapper.getActiveIdsByIdList(ids));
+        }
+        Set<Integer> failed = new HashSet<>();
+        for (int i : ordered) {
+            StampPunch punch = punches.get(i);
+            if (!employeeIds.contains(punch.employeeId())) {
+                results[i] = rejected(punch, "従業員が存在しません: " + punch.employeeId());
+                continue;
+            }
+            try {
+                results[i] = applyOne(punch);
+            } catch (DataAccessException e) {
+                // セーブポイントまで取り消し済みのため、この打刻だけを失敗として扱う
+                log.warn("Kiosk punch {} for employee {} failed: {}",
+                    punch.idempotencyKey(), punch.employeeId(), e.getMessage());
+                results[i] = rejected(punch, "打刻を記録できませんでした。再送してください");
+                failed.add(i);
+            }
+        }
+        return failed;
+    }
+
+    private StampPunchResult applyOne(StampPunch punch) {
+        HomeForm form = new HomeForm(punch.stampTime(), punch.stampType(), punch.nightWork() ? "1" : "0");
+        try {
+            // 失敗した打刻の変更のみをセーブポイントまで取り消す
+            savepointTemplate.executeWithoutResult(status -> stampService.execute(form, punch.employeeId()));
+            return new StampPunchResult(punch.idempotencyKey(), punch.employeeId(), StampPunchOutcome.APPLIED, null, false);
+        } catch (DuplicateStampException e) {
+            return new StampPunchResult(
+                punch.idempotencyKey(), punch.employeeId(), StampPunchOutcome.ALREADY_RECORDED, e.getMessage(), false);
+        } catch (DuplicateKeyException e) {
+            // 同じ従業員・勤務日の打刻が並行して登録された
+            return new StampPunchResult(punch.idempotencyKey(), punch.employeeId(),
+                StampPunchOutcome.ALREADY_RECORDED, "同じ日の打刻が既に登録されています", false);
+        } catch (InvalidStampStateException | ClosedMonthException | IllegalArgumentException e) {
+            return rejected(punch, e.getMessage());
+        }
+    }
+
+    private static StampPunchResult rejected(StampPunch punch, String message) {
+        return new StampPunchResult(punch.idempotencyKey(), punch.employeeId(), StampPunchOutcome.REJECTED, message, false);
+    }
+
+    private static StampPunchResult replay(StampPunch punch, StampPunchIdempotencyStore.Recorded recorded) {
+        return new StampPunchResult(
+            punch.idempotencyKey(), recorded.employeeId(), recorded.outcome(), recorded.message(), true);
+    }
+}
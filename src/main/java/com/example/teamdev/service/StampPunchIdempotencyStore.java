@@ -0,0 +1,230 @@
+package com.example.teamdev.service;
+
+import com.example.teamdev.constant.StampPunchOutcome;
+import com.example.teamdev.entity.StampPunchIdempotency;
+import com.example.teamdev.mapper.StampPunchIdempotencyMapper;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 一括打刻の冪等キーの保管庫。
+ *
+ * <p>キーは端末が採番するため、送信したキオスク端末のアカウント・従業員ごとに区別します（{@link ScopedKey}）。
+ * キーと初回の処理結果は {@code stamp_punch_idempotency} に保持し、直近に確定したキーは件数上限付きの LRU にも保持します。
+ * 端末の再送は短時間に集中するため、多くは LRU のみで判定でき、テーブルへの問い合わせを省略できます。
+ * LRU への反映はコミット後に行うため、ロールバックされたキーを重複と判定することはありません。</p>
+ *
+ * <p>保持期間を過ぎたキーは、キーの確保時に一定間隔でまとめて削除します。</p>
+ */
+@Component
+public class StampPunchIdempotencyStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(StampPunchIdempotencyStore.class);
+
+    /** 保持期間を過ぎたキーを削除する間隔（ミリ秒） */
+    private static final long PURGE_INTERVAL_MILLIS = 60L * 60L * 1000L;
+
+    private final StampPunchIdempotencyMapper mapper;
+    private final Clock clock;
+    private final Duration retention;
+    private final LinkedHashMap<ScopedKey, Recorded> recent;
+    private final AtomicLong nextPurgeAtMillis = new AtomicLong();
+
+    public StampPunchIdempotencyStore(
+        StampPunchIdempotencyMapper mapper,
+        Clock clock,
+        @Value("${app.kiosk.idempotency-cache-size:10000}") int cacheSize,
+        @Value("${app.kiosk.idempotency-retention-hours:72}") long retentionHours
+    ) {
+        if (cacheSize < 0 || retentionHours < 1) {
+            throw new IllegalArgumentException(
+                "app.kiosk.idempotency-cache-size must not be negative and app.kiosk.idempotency-retention-hours must be positive");
+        }
+        this.mapper = mapper;
+        this.clock = clock;
+        this.retention = Duration.ofHours(retentionHours);
+        this.recent = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ScopedKey, Recorded> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * 端末・従業員ごとの冪等キー。
+     *
+     * @param kioskId        送信したキオスク端末のアカウントの従業員ID
+     * @param employeeId     打刻した従業員ID
+     * @param idempotencyKey 端末が採番した冪等キー
+     */
+    public record ScopedKey(int kioskId, int employeeId, String idempotencyKey) {
+
+        /**
+         * @return 登録用の行（kioskId・employeeId・idempotencyKey のみ設定）
+         */
+        StampPunchIdempotency toRow() {
+            return new StampPunchIdempotency(kioskId, idempotencyKey, employeeId, null, null, null);
+        }
+
+        static ScopedKey of(StampPunchIdempotency row) {
+            return new ScopedKey(row.getKioskId(), row.getEmployeeId(), row.getIdempotencyKey());
+        }
+    }
+
+    /**
+     * 確定済みのキーの処理結果。
+     *
+     * @param employeeId 従業員ID
+     * @param outcome    初回の処理結果
+     * @param message    初回の処理結果のメッセージ（記録した場合は null）
+     * @param createdAt  キーを登録した日時
+     */
+    public record Recorded(int employeeId, StampPunchOutcome outcome, String message, OffsetDateTime createdAt) {
+    }
+
+    /**
+     * LRU に保持している確定済みのキーを返します。
+     *
+     * @param key 冪等キー
+     * @return 処理結果（保持していない、または保持期間を過ぎた場合は空）
+     */
+    public synchronized Optional<Recorded> findCached(ScopedKey key) {
+        Recorded recorded = recent.get(key);
+        if (recorded == null) {
+            return Optional.empty();
+        }
+        if (isExpired(recorded)) {
+            recent.remove(key);
+            return Optional.empty();
+        }
+        return Optional.of(recorded);
+    }
+
+    /**
+     * 冪等キーを確保します。呼び出し元のトランザクション内で実行してください。
+     *
+     * @param keys 確保するキー
+     * @return 確保できたキー（それ以外は登録済み）
+     */
+    public Set<ScopedKey> claim(Collection<ScopedKey> keys) {
+        purgeIfDue();
+        if (keys.isEmpty()) {
+            return Set.of();
+        }
+        Set<ScopedKey> claimed = new HashSet<>();
+        for (StampPunchIdempotency row : mapper.claim(keys.stream().map(ScopedKey::toRow).toList())) {
+            claimed.add(ScopedKey.of(row));
+        }
+        return claimed;
+    }
+
+    /**
+     * 登録済みのキーの処理結果を取得します。取得した結果は確定済みのため LRU にも保持します。
+     *
+     * @param keys 冪等キー
+     * @return キーごとの処理結果
+     */
+    public Map<ScopedKey, Recorded> findRecorded(Collection<ScopedKey> keys) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        Map<ScopedKey, Recorded> found = new HashMap<>();
+        for (StampPunchIdempotency row : mapper.findByKeys(keys.stream().map(ScopedKey::toRow).toList())) {
+            if (row.getOutcome() != null) {
+                found.put(ScopedKey.of(row), toRecorded(row));
+            }
+        }
+        remember(found);
+        return found;
+    }
+
+    /**
+     * 確保したキーに処理結果を記録します。LRU にはコミット後に反映します。
+     *
+     * @param records 端末・従業員ID・冪等キー・処理結果・メッセージを設定したもの
+     */
+    public void record(List<StampPunchIdempotency> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        mapper.recordOutcomes(records);
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        Map<ScopedKey, Recorded> recorded = new HashMap<>();
+        for (StampPunchIdempotency row : records) {
+            row.setCreatedAt(now);
+            recorded.put(ScopedKey.of(row), toRecorded(row));
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remember(recorded);
+                }
+            });
+        } else {
+            remember(recorded);
+        }
+    }
+
+    /**
+     * 確保したキーを処理結果を記録せずに解放します。同じキーの再送は未処理として扱われます。
+     *
+     * @param keys 解放するキー
+     */
+    public void release(Collection<ScopedKey> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        mapper.deleteByKeys(keys.stream().map(ScopedKey::toRow).toList());
+    }
+
+    /**
+     * LRU に保持しているキー数を返します。
+     *
+     * @return キー数
+     */
+    public synchronized int cachedSize() {
+        return recent.size();
+    }
+
+    private synchronized void remember(Map<ScopedKey, Recorded> recorded) {
+        recent.putAll(recorded);
+    }
+
+    private boolean isExpired(Recorded recorded) {
+        return !recorded.createdAt().plus(retention).toInstant().isAfter(clock.instant());
+    }
+
+    private void purgeIfDue() {
+        long now = clock.millis();
+        long due = nextPurgeAtMillis.get();
+        if (now < due || !nextPurgeAtMillis.compareAndSet(due, now + PURGE_INTERVAL_MILLIS)) {
+            return;
+        }
+        int deleted = mapper.deleteCreatedBefore(OffsetDateTime.now(clock).minus(retention));
+        if (deleted > 0) {
+            logger.info("Purged {} expired stamp punch idempotency key(s)", deleted);
+        }
+    }
+
+    private static Recorded toRecorded(StampPunchIdempotency row) {
+        return new Recorded(row.getEmployeeId(), row.getOutcome(), row.getMessage(), row.getCreatedAt());
+    }
+}
@@ -3,10 +3,14 @@ package com.example.teamdev.service;
 import com.example.teamdev.constant.StampRequestStatus;
 import com.example.teamdev.entity.StampHistory;
 import com.example.teamdev.entity.StampRequest;
+import com.example.teamdev.exception.ClosedMonthException;
 import com.example.teamdev.exception.StampRequestException;
 import com.example.teamdev.mapper.StampHistoryMapper;
+import com.example.teamdev.service.event.AttendanceEvent;
+import com.example.teamdev.service.event.AttendanceEventType;
 import java.time.OffsetDateTime;
 import java.util.Objects;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,10 +28,19 @@ public class StampRequestApprovalService {
 
     private final StampRequestStore store;
     private final StampHistoryMapper stampHistoryMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AttendanceMonthCloseService monthCloseService;
 
-    public StampRequestApprovalService(StampRequestStore store, StampHistoryMapper stampHistoryMapper) {
+    public StampRequestApprovalService(
+        StampRequestStore store,
+        StampHistoryMapper stampHistoryMapper,
+        ApplicationEventPublisher eventPublisher,
+        AttendanceMonthCloseService monthCloseService
+    ) {
         this.store = store;
         this.stampHistoryMapper = stampHistoryMapper;
+        this.eventPublisher = eventPublisher;
+        this.monthCloseService = monthCloseService;
     }
 
     @Transactional
@@ -41,8 +54,9 @@ public class StampRequestApprovalService {
             throw new IllegalArgumentException("承認ノートは500文字以内で入力してください");
         }
 
-        StampRequest request = findEditableRequest(requestId);
         OffsetDateTime now = store.now();
+        StampRequest request = findEditableRequest(requestId, approverId, now);
+        assertMonthOpen(request);
 
         if (request.getStampHistoryId() != null) {
             // ケースA: 既存の打刻レコードを更新
@@ -65,7 +79,9 @@ public class StampRequestApprovalService {
         request.setApprovalEmployeeId(approverId);
         request.setApprovedAt(now);
         request.setUpdatedAt(now);
-        return store.save(request);
+        StampRequest saved = store.save(request);
+        publishRequestEvent(AttendanceEventType.REQUEST_APPROVED, saved, now);
+        return saved;
     }
 
     @Transactional
@@ -77,14 +93,22 @@ public class StampRequestApprovalService {
         // 却下理由の検証（Requirement 3-6）
         validateRejectionReason(rejectionReason);
 
-        StampRequest request = findEditableRequest(requestId);
         OffsetDateTime now = store.now();
+        StampRequest request = findEditableRequest(requestId, rejecterId, now);
         request.setStatus(StampRequestStatus.REJECTED.name());
         request.setRejectionReason(rejectionReason);
         request.setRejectionEmployeeId(rejecterId);
         request.setRejectedAt(now);
         request.setUpdatedAt(now);
-        return store.save(request);
+        StampRequest saved = store.save(request);
+        publishRequestEvent(AttendanceEventType.REQUEST_REJECTED, saved, now);
+        return saved;
+    }
+
+    private void publishRequestEvent(AttendanceEventType type, StampRequest request, OffsetDateTime occurredAt) {
+        // ライブボード通知（コミット後に配信）
+        eventPublisher.publishEvent(AttendanceEvent.request(
+            type, request.getEmployeeId(), request.getStampDate(), request.getId(), occurredAt));
     }
 
     private void validateRejectionReason(String reason) {
@@ -99,7 +123,7 @@ public class StampRequestApprovalService {
         }
     }
 
-    private StampRequest findEditableRequest(Integer requestId) {
+    private StampRequest findEditableRequest(Integer requestId, Integer reviewerId, OffsetDateTime now) {
         StampRequest request = store.findById(requestId)
             .orElseThrow(() -> new StampRequestException(
                 HttpStatus.NOT_FOUND,
@@ -109,24 +133,53 @@ public class StampRequestApprovalService {
         if (StampRequestStatus.isFinalState(request.getStatus())) {
             throw new StampRequestException(HttpStatus.CONFLICT, "対象の申請は存在しないか既に処理済みです");
         }
+        // 承認キューで他の管理者に割り当て中の申請は処理しない（割り当ての期限切れ後は処理可能）
+        if (request.isClaimedByOther(reviewerId, now)) {
+            throw new StampRequestException(HttpStatus.CONFLICT, "対象の申請は他の管理者が確認中です");
+        }
         return request;
     }
 
+    /**
+     * 承認すると勤怠記録を変更するため、締め済みの月の申請は承認できません（却下は可能です）。
+     *
+     * @param request 承認するリクエスト
+     * @throws StampRequestException 締め済みの月の申請の場合
+     */
+    private void assertMonthOpen(StampRequest request) {
+        try {
+            monthCloseService.assertOpen(request.getStampDate());
+        } catch (ClosedMonthException e) {
+            throw new StampRequestException(HttpStatus.CONFLICT, e.getMessage() + "。申請を却下してください。");
+        }
+    }
+
     private StampHistory loadStampHistory(StampRequest request) {
-        return stampHistoryMapper.getById(request.getStampHistoryId())
+        return stampHistoryMapper.getById(request.getStampHistoryId(), request.getStampDate())
             .orElseThrow(() -> new StampRequestException(HttpStatus.NOT_FOUND, "対象の勤怠記録が見つかりません"));
     }
 
     private void assertStampHistorySnapshot(StampHistory history, StampRequest request) {
-        if (!Objects.equals(history.getInTime(), request.getOriginalInTime())
-            || !Objects.equals(history.getOutTime(), request.getOriginalOutTime())
-            || !Objects.equals(history.getBreakStartTime(), request.getOriginalBreakStartTime())
-            || !Objects.equals(history.getBreakEndTime(), request.getOriginalBreakEndTime())
-            || !Objects.equals(history.getIsNightShift(), request.getOriginalIsNightShift())) {
+        if (!matchesSnapshot(history, request)) {
             throw new StampRequestException(HttpStatus.CONFLICT, "対象の勤怠記録は既に変更されています");
         }
     }
 
+    /**
+     * 勤怠履歴が申請時のスナップショット（original* の値）から変更されていないかを判定します。
+     *
+     * @param history 現在の勤怠履歴
+     * @param request 承認するリクエスト
+     * @return 変更されていない場合 true
+     */
+    static boolean matchesSnapshot(StampHistory history, StampRequest request) {
+        return Objects.equals(history.getInTime(), request.getOriginalInTime())
+            && Objects.equals(history.getOutTime(), request.getOriginalOutTime())
+            && Objects.equals(history.getBreakStartTime(), request.getOriginalBreakStartTime())
+            && Objects.equals(history.getBreakEndTime(), request.getOriginalBreakEndTime())
+            && Objects.equals(history.getIsNightShift(), request.getOriginalIsNightShift());
+    }
+
     /**
      * リクエストされた値を勤怠履歴に適用します。
      *
@@ -138,7 +191,7 @@ public class StampRequestApprovalService {
      * @param approverId 承認者ID
      * @param now 更新日時
      */
-    private void applyRequestedValuesToHistory(
+    static void applyRequestedValuesToHistory(
         StampHistory history,
         StampRequest request,
         Integer approverId,
@@ -166,15 +219,6 @@ public class StampRequestApprovalService {
         }
         history.setUpdateEmployeeId(approverId);
         history.setUpdateDate(now);
-        syncDateColumns(history);
-    }
-
-    private void syncDateColumns(StampHistory history) {
-        if (history.getStampDate() != null) {
-            history.setYear(String.format("%04d", history.getStampDate().getYear()));
-            history.setMonth(String.format("%02d", history.getStampDate().getMonthValue()));
-            history.setDay(String.format("%02d", history.getStampDate().getDayOfMonth()));
-        }
     }
 
     /**
@@ -205,7 +249,7 @@ public class StampRequestApprovalService {
      * @param now 現在時刻
      * @return 作成された勤怠記録（IDが自動設定される）
      */
-    private StampHistory createNewStampHistory(
+    static StampHistory createNewStampHistory(
         StampRequest request,
         Integer approverId,
         OffsetDateTime now
@@ -213,11 +257,8 @@ public class StampRequestApprovalService {
         StampHistory history = new StampHistory();
         java.time.LocalDate stampDate = request.getStampDate();
 
-        // 日付フィールド：stamp_date と year/month/day の両方を設定
+        // 勤務日（パーティションキーのため必ず設定する）
         history.setStampDate(stampDate);
-        history.setYear(String.format("%04d", stampDate.getYear()));
-        history.setMonth(String.format("%02d", stampDate.getMonthValue()));
-        history.setDay(String.format("%02d", stampDate.getDayOfMonth()));
 
         // 従業員情報
         history.setEmployeeId(request.getEmployeeId());
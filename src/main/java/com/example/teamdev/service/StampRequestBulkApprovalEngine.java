@@ -0,0 +1,300 @@
+package com.example.teamdev.service;
+
+import com.example.teamdev.constant.StampRequestStatus;
+import com.example.teamdev.entity.StampHistory;
+import com.example.teamdev.entity.StampRequest;
+import com.example.teamdev.mapper.StampHistoryMapper;
+import com.example.teamdev.mapper.StampRequestMapper;
+import com.example.teamdev.service.event.AttendanceEvent;
+import com.example.teamdev.service.event.AttendanceEventType;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 打刻修正リクエストの一括承認・却下エンジン（集合指向）
+ *
+ * <p>{@link StampRequestApprovalService#approveRequest} を1件ずつ呼び出すと申請ごとに
+ * 4文以上のSQLが発行されるため、チャンク単位で次のように処理します。</p>
+ * <ol>
+ *   <li>対象リクエストと参照先の勤怠記録をそれぞれ1クエリで {@code FOR UPDATE} 付きで取得</li>
+ *   <li>ステータス・締め済みの月・スナップショット整合性・打刻忘れ申請の重複をメモリ上で検証</li>
+ *   <li>勤怠記録の更新・新規作成とリクエストのステータス更新をそれぞれ1文で反映</li>
+ * </ol>
+ *
+ * <p>検証に失敗した申請は個別に失敗として扱い、同じチャンクの他の申請は承認します。
+ * チャンクごとに個別のトランザクションでコミットします。呼び出し元のトランザクション
+ * （一括処理ジョブのチャンクなど）がある場合は、チャンクごとにセーブポイントを設定します。
+ * チャンクの反映中にDBエラー（承認までの間に同じ日付の打刻が登録された場合の一意制約違反など）
+ * が発生した場合は、そのチャンクだけをロールバックして全件を失敗として扱い、後続のチャンクの
+ * 処理を続けます。呼び出し元のトランザクションは中断されず、反映済みのチャンクの結果も失われません。</p>
+ */
+@Service
+public class StampRequestBulkApprovalEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(StampRequestBulkApprovalEngine.class);
+    static final int MAX_BATCH_SIZE = 5_000;
+
+    private final StampRequestMapper requestMapper;
+    private final StampHistoryMapper stampHistoryMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AttendanceMonthCloseService monthCloseService;
+    private final Clock clock;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public StampRequestBulkApprovalEngine(
+        StampRequestMapper requestMapper,
+        StampHistoryMapper stampHistoryMapper,
+        ApplicationEventPublisher eventPublisher,
+        AttendanceMonthCloseService monthCloseService,
+        Clock clock,
+        PlatformTransactionManager transactionManager,
+        @Value("${app.stamp-request.bulk-chunk-size:500}") int chunkSize
+    ) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("app.stamp-request.bulk-chunk-size must be positive");
+        }
+        this.requestMapper = requestMapper;
+        this.stampHistoryMapper = stampHistoryMapper;
+        this.eventPublisher = eventPublisher;
+        this.monthCloseService = monthCloseService;
+        this.clock = clock;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 呼び出し元のトランザクションに参加すると、チャンクの失敗でそのトランザクション全体が
+        // ロールバック専用になるため、セーブポイントで分離する（トランザクション外では新規に開始する）
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 複数の申請を一括承認します。
+     *
+     * @param requestIds 承認対象のリクエストID（null・重複を含まないこと）
+     * @param approverId 承認者の従業員ID
+     * @param approvalNote 承認ノート
+     * @return 承認できたリクエストID
+     */
+    public Set<Integer> approve(List<Integer> requestIds, Integer approverId, String approvalNote) {
+        Set<Integer> approved = new HashSet<>(requestIds.size() * 2);
+        for (int from = 0; from < requestIds.size(); from += chunkSize) {
+            Integer[] chunk = requestIds.subList(from, Math.min(from + chunkSize, requestIds.size()))
+                .toArray(Integer[]::new);
+            try {
+                List<Integer> result = transactionTemplate.execute(
+                    status -> approveChunk(chunk, approverId, approvalNote));
+                if (result != null) {
+                    approved.addAll(result);
+                }
+            } catch (DataAccessException | TransactionException e) {
+                logChunkFailure("承認", chunk, e);
+            }
+        }
+        return approved;
+    }
+
+    /**
+     * 複数の申請を一括却下します。
+     *
+     * <p>却下は勤怠記録を変更しないため、PENDING の申請をチャンクごとに1文で更新します。
+     * 却下理由の検証は呼び出し元で行ってください。</p>
+     *
+     * @param requestIds 却下対象のリクエストID（null・重複を含まないこと）
+     * @param rejecterId 却下者の従業員ID
+     * @param rejectionReason 却下理由
+     * @return 却下できたリクエストID
+     */
+    public Set<Integer> reject(List<Integer> requestIds, Integer rejecterId, String rejectionReason) {
+        Set<Integer> rejected = new HashSet<>(requestIds.size() * 2);
+        for (int from = 0; from < requestIds.size(); from += chunkSize) {
+            Integer[] chunk = requestIds.subList(from, Math.min(from + chunkSize, requestIds.size()))
+                .toArray(Integer[]::new);
+            try {
+                List<Integer> result = transactionTemplate.execute(
+                    status -> rejectChunk(chunk, rejecterId, rejectionReason));
+                if (result != null) {
+                    rejected.addAll(result);
+                }
+            } catch (DataAccessException | TransactionException e) {
+                logChunkFailure("却下", chunk, e);
+            }
+        }
+        return rejected;
+    }
+
+    private List<Integer> rejectChunk(Integer[] ids, Integer rejecterId, String rejectionReason) {
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        List<Integer> rejected = new ArrayList<>(ids.length);
+        for (StampRequest request : requestMapper.rejectAllReturning(ids, rejecterId, rejectionReason, now)) {
+            rejected.add(request.getId());
+            eventPublisher.publishEvent(AttendanceEvent.request(AttendanceEventType.REQUEST_REJECTED,
+                request.getEmployeeId(), request.getStampDate(), request.getId(), now));
+        }
+        if (!rejected.isEmpty()) {
+            requestMapper.upsertLatestRequests(rejected.toArray(Integer[]::new));
+        }
+        return rejected;
+    }
+
+    private List<Integer> approveChunk(Integer[] ids, Integer approverId, String approvalNote) {
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        List<StampRequest> requests = requestMapper.findByIdsForUpdate(ids);
+        // 締め済みの月の申請は承認しない（未締めの月は締め処理とこのチャンクのコミットまで直列化される）
+        Set<YearMonth> closedMonths = monthCloseService.lockOpenMonths(requests.stream()
+            .filter(request -> !StampRequestStatus.isFinalState(request.getStatus()))
+            .map(StampRequest::getStampDate)
+            .toList());
+        Map<Integer, StampHistory> histories = loadHistoriesForUpdate(requests);
+
+        List<StampRequest> approvable = new ArrayList<>(requests.size());
+        List<StampHistory> updates = new ArrayList<>();
+        Map<HistoryKey, StampRequest> missingStampRequests = new HashMap<>();
+        Map<HistoryKey, StampHistory> inserts = new HashMap<>();
+
+        for (StampRequest request : requests) {
+            if (StampRequestStatus.isFinalState(request.getStatus())) {
+                logFailure(request.getId(), "対象の申請は存在しないか既に処理済みです");
+                continue;
+            }
+            if (request.isClaimedByOther(approverId, now)) {
+                logFailure(request.getId(), "対象の申請は他の管理者が確認中です");
+                continue;
+            }
+            if (closedMonths.contains(YearMonth.from(request.getStampDate()))) {
+                logFailure(request.getId(), "締め済みの月の勤怠記録は変更できません");
+                continue;
+            }
+            if (request.getStampHistoryId() != null) {
+                // ケースA: 既存の打刻レコードを更新
+                StampHistory history = histories.remove(request.getStampHistoryId());
+                if (history == null) {
+                    // 存在しない、または同じ勤怠記録を対象とする申請がチャンク内で先に処理済み
+                    logFailure(request.getId(), "対象の勤怠記録が見つかりません");
+                    continue;
+                }
+                if (!StampRequestApprovalService.matchesSnapshot(history, request)) {
+                    logFailure(request.getId(), "対象の勤怠記録は既に変更されています");
+                    continue;
+                }
+                StampRequestApprovalService.applyRequestedValuesToHistory(history, request, approverId, now);
+                updates.add(history);
+            } else {
+                // ケースB: 打刻忘れのため新規レコードを作成
+                HistoryKey key = new HistoryKey(request.getEmployeeId(), request.getStampDate());
+                if (missingStampRequests.putIfAbsent(key, request) != null) {
+                    logFailure(request.getId(), "この日付の勤怠記録は既に登録されています");
+                    continue;
+                }
+                inserts.put(key, StampRequestApprovalService.createNewStampHistory(request, approverId, now));
+            }
+            approvable.add(request);
+        }
+
+        if (!inserts.isEmpty()) {
+            // 申請から承認までの間に同じ日付の打刻が登録されたものを除外する
+            List<StampHistory> existingHistories =
+                stampHistoryMapper.findByEmployeeIdAndStampDates(List.copyOf(inserts.values()));
+            for (StampHistory existing : existingHistories) {
+                HistoryKey key = new HistoryKey(existing.getEmployeeId(), existing.getStampDate());
+                inserts.remove(key);
+                StampRequest conflicted = missingStampRequests.remove(key);
+                if (conflicted != null) {
+                    approvable.remove(conflicted);
+                    logFailure(conflicted.getId(), "この日付の勤怠記録は既に登録されています");
+                }
+            }
+        }
+        if (approvable.isEmpty()) {
+            return List.of();
+        }
+
+        if (!updates.isEmpty()) {
+            stampHistoryMapper.updateAll(updates);
+        }
+        if (!inserts.isEmpty()) {
+            for (StampHistory created : stampHistoryMapper.saveAllReturning(List.copyOf(inserts.values()))) {
+                StampRequest request = missingStampRequests.get(
+                    new HistoryKey(created.getEmployeeId(), created.getStampDate()));
+                if (request != null) {
+                    request.setStampHistoryId(created.getId());
+                }
+            }
+        }
+
+        Integer[] approveIds = new Integer[approvable.size()];
+        Integer[] stampHistoryIds = new Integer[approvable.size()];
+        Map<Integer, StampRequest> byId = new HashMap<>(approvable.size() * 2);
+        for (int i = 0; i < approvable.size(); i++) {
+            StampRequest request = approvable.get(i);
+            approveIds[i] = request.getId();
+            stampHistoryIds[i] = request.getStampHistoryId();
+            byId.put(request.getId(), request);
+        }
+        List<Integer> approved = requestMapper.approveAllReturningIds(
+            approveIds, stampHistoryIds, approverId, approvalNote, now);
+        if (!approved.isEmpty()) {
+            // 最新申請の投影のステータスを同じトランザクションで反映
+            requestMapper.upsertLatestRequests(approved.toArray(Integer[]::new));
+        }
+
+        for (Integer id : approved) {
+            StampRequest request = byId.get(id);
+            // ライブボード通知（コミット後に配信）
+            eventPublisher.publishEvent(AttendanceEvent.request(
+                AttendanceEventType.REQUEST_APPROVED, request.getEmployeeId(), request.getStampDate(), id, now));
+        }
+        return approved;
+    }
+
+    private Map<Integer, StampHistory> loadHistoriesForUpdate(List<StampRequest> requests) {
+        // 主キー (id, stamp_date) で指定し、対象日のパーティションだけをロックさせる
+        Map<Integer, StampHistory> keys = new LinkedHashMap<>();
+        for (StampRequest request : requests) {
+            if (StampRequestStatus.isFinalState(request.getStatus()) || request.getStampHistoryId() == null) {
+                continue;
+            }
+            StampHistory key = new StampHistory();
+            key.setId(request.getStampHistoryId());
+            key.setStampDate(request.getStampDate());
+            keys.putIfAbsent(key.getId(), key);
+        }
+        if (keys.isEmpty()) {
+            return new HashMap<>();
+        }
+        Map<Integer, StampHistory> histories = new HashMap<>(keys.size() * 2);
+        for (StampHistory history : stampHistoryMapper.findByIdsForUpdate(List.copyOf(keys.values()))) {
+            histories.put(history.getId(), history);
+        }
+        return histories;
+    }
+
+    private void logFailure(Integer requestId, String reason) {
+        log.warn("一括承認でリクエスト {} の承認に失敗: {}", requestId, reason);
+    }
+
+    private void logChunkFailure(String operationType, Integer[] chunk, RuntimeException e) {
+        log.error("一括{}のチャンク（{}件、先頭ID {}）をロールバックしました: {}",
+            operationType, chunk.length, chunk[0], e.getMessage(), e);
+    }
+
+    private record HistoryKey(Integer employeeId, LocalDate stampDate) {
+    }
+}
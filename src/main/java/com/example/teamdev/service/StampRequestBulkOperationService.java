@@ -4,6 +4,8 @@ import com.example.teamdev.dto.api.stamprequest.StampRequestBulkOperationRespons
 import com.example.teamdev.exception.StampRequestException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -12,7 +14,8 @@ import org.springframework.stereotype.Service;
  * 打刻修正リクエストの一括操作を扱うサービス。
  *
  * Requirement 4 の受入基準を実装:
- * - バルク承認/却下（≤50件）
+ * - バルク承認（≤5000件、{@link StampRequestBulkApprovalEngine} による集合指向処理）
+ * - バルク却下（≤50件）
  * - 部分的成功の報告
  * - 共通却下理由（10-500文字）
  */
@@ -21,16 +24,20 @@ public class StampRequestBulkOperationService {
 
     private static final Logger log = LoggerFactory.getLogger(StampRequestBulkOperationService.class);
     private static final int MAX_BULK_SIZE = 50;
+    private static final int MAX_BULK_APPROVE_SIZE = StampRequestBulkApprovalEngine.MAX_BATCH_SIZE;
 
     private final StampRequestStore store;
     private final StampRequestApprovalService approvalService;
+    private final StampRequestBulkApprovalEngine bulkApprovalEngine;
 
     public StampRequestBulkOperationService(
         StampRequestStore store,
-        StampRequestApprovalService approvalService
+        StampRequestApprovalService approvalService,
+        StampRequestBulkApprovalEngine bulkApprovalEngine
     ) {
         this.store = store;
         this.approvalService = approvalService;
+        this.bulkApprovalEngine = bulkApprovalEngine;
     }
 
     /**
@@ -44,8 +51,10 @@ public class StampRequestBulkOperationService {
      * </ul>
      *
      * <p>部分的成功を許容し、個々のエラーは失敗件数としてカウント。
+     * 一括承認エンジンにより、申請数に依存しない件数のSQLで処理します。
+     * null のIDは無視し、重複したIDは1件として扱います。
      *
-     * @param requestIds 承認対象のリクエストID一覧（最大50件）
+     * @param requestIds 承認対象のリクエストID一覧（最大5000件）
      * @param approverId 承認者の従業員ID
      * @param approvalNote 承認ノート（オプショナル、最大500文字）
      * @return 成功件数・失敗件数・失敗IDを含む結果
@@ -69,29 +78,21 @@ public class StampRequestBulkOperationService {
         }
 
         // バッチサイズ制限（Requirement 4-3）
-        if (requestIds.size() > MAX_BULK_SIZE) {
-            throw new IllegalArgumentException("一度に処理できる申請は50件までです");
+        if (requestIds.size() > MAX_BULK_APPROVE_SIZE) {
+            throw new IllegalArgumentException(
+                String.format("一度に処理できる申請は%d件までです", MAX_BULK_APPROVE_SIZE)
+            );
         }
 
-        List<Integer> failedIds = new ArrayList<>();
-        int successCount = 0;
-
-        for (Integer requestId : requestIds) {
-            if (requestId == null) {
-                continue;
-            }
-            try {
-                // 個別承認と同じロジックを実行（StampHistory の更新を含む）
-                approvalService.approveRequest(requestId, approverId, approvalNote);
-                successCount++;
-            } catch (StampRequestException e) {
-                handleBulkOperationFailure(requestId, failedIds, e, "承認");
-            } catch (IllegalArgumentException e) {
-                handleBulkOperationFailure(requestId, failedIds, e, "承認");
-            }
-        }
-
-        return new StampRequestBulkOperationResponse(successCount, failedIds.size(), failedIds);
+        List<Integer> targetIds = requestIds.stream()
+            .filter(Objects::nonNull)
+            .distinct()
+            .toList();
+        Set<Integer> approved = bulkApprovalEngine.approve(targetIds, approverId, approvalNote);
+        List<Integer> failedIds = targetIds.stream()
+            .filter(id -> !approved.contains(id))
+            .toList();
+        return new StampRequestBulkOperationResponse(approved.size(), failedIds.size(), failedIds);
     }
 
     /**
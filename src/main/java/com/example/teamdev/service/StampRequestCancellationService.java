@@ -3,8 +3,10 @@ package com.example.teamdev.service;
 import com.example.teamdev.constant.StampRequestStatus;
 import com.example.teamdev.entity.StampRequest;
 import com.example.teamdev.exception.StampRequestException;
+import com.example.teamdev.service.event.StampHistoryChangedEvent;
 import java.time.OffsetDateTime;
 import java.util.Objects;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,9 +23,11 @@ import org.springframework.transaction.annotation.Transactional;
 public class StampRequestCancellationService {
 
     private final StampRequestStore store;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public StampRequestCancellationService(StampRequestStore store) {
+    public StampRequestCancellationService(StampRequestStore store, ApplicationEventPublisher eventPublisher) {
         this.store = store;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -51,7 +55,13 @@ public class StampRequestCancellationService {
         request.setCancellationReason(cancellationReason);
         request.setCancelledAt(now);
         request.setUpdatedAt(now);
-        return store.save(request);
+        StampRequest saved = store.save(request);
+
+        // 打刻履歴画面の申請状態が変わるためキャッシュを無効化（コミット後に反映）
+        eventPublisher.publishEvent(request.getStampDate() != null
+            ? StampHistoryChangedEvent.forDate(request.getEmployeeId(), request.getStampDate())
+            : StampHistoryChangedEvent.forEmployee(request.getEmployeeId()));
+        return saved;
     }
 
     private void validateCancellationReason(String reason) {
@@ -10,8 +10,10 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Transactional(readOnly = true)
 public class StampRequestQueryService {
 
     private final StampRequestStore store;
@@ -59,6 +61,7 @@ public class StampRequestQueryService {
      * @param status ステータスフィルタ（nullの場合はPENDINGをデフォルト使用）
      * @param search 検索キーワード（従業員名、理由、IDで検索）
      * @param sort ソート順（"recent", "oldest", "status"）
+     * @param reviewerId 閲覧するレビュー担当者ID（他の担当者が割り当て中の申請を除外。nullの場合は除外しない）
      * @return フィルタリング・ソート済みのリクエスト一覧
      */
     public List<StampRequest> getPendingRequests(
@@ -66,7 +69,8 @@ public class StampRequestQueryService {
         Integer size,
         String status,
         String search,
-        String sort
+        String sort,
+        Integer reviewerId
     ) {
         String normalizedStatus = normalizeStatus(status);
         String normalizedSearch = normalizeSearch(search);
@@ -75,7 +79,7 @@ public class StampRequestQueryService {
         int offset = safePage * safeSize;
         String queryStatus = normalizedStatus != null ? normalizedStatus : "PENDING";
 
-        return store.findWithSearch(queryStatus, normalizedSearch, sort, offset, safeSize);
+        return store.findWithSearch(queryStatus, normalizedSearch, sort, offset, safeSize, reviewerId);
     }
 
     /**
@@ -85,14 +89,15 @@ public class StampRequestQueryService {
      *
      * @param status ステータスフィルタ（nullの場合はPENDINGをデフォルト使用）
      * @param search 検索キーワード（従業員名、理由、IDで検索）
+     * @param reviewerId 閲覧するレビュー担当者ID（他の担当者が割り当て中の申請を除外。nullの場合は除外しない）
      * @return マッチするリクエストの件数
      */
-    public Integer countPendingRequests(String status, String search) {
+    public Integer countPendingRequests(String status, String search, Integer reviewerId) {
         String normalizedStatus = normalizeStatus(status);
         String normalizedSearch = normalizeSearch(search);
         String queryStatus = normalizedStatus != null ? normalizedStatus : "PENDING";
 
-        return store.countWithSearch(queryStatus, normalizedSearch);
+        return store.countWithSearch(queryStatus, normalizedSearch, reviewerId);
     }
 
     public Optional<StampRequest> getRequestDetail(Integer requestId) {
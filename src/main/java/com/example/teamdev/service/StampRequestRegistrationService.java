@@ -6,6 +6,9 @@ import com.example.teamdev.entity.StampHistory;
 import com.example.teamdev.entity.StampRequest;
 import com.example.teamdev.exception.StampRequestException;
 import com.example.teamdev.mapper.StampHistoryMapper;
+import com.example.teamdev.service.event.AttendanceEvent;
+import com.example.teamdev.service.event.AttendanceEventType;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,10 +32,16 @@ public class StampRequestRegistrationService {
 
     private final StampRequestStore store;
     private final StampHistoryMapper stampHistoryMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public StampRequestRegistrationService(StampRequestStore store, StampHistoryMapper stampHistoryMapper) {
+    public StampRequestRegistrationService(
+        StampRequestStore store,
+        StampHistoryMapper stampHistoryMapper,
+        ApplicationEventPublisher eventPublisher
+    ) {
         this.store = store;
         this.stampHistoryMapper = stampHistoryMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -48,7 +57,8 @@ public class StampRequestRegistrationService {
         validateTimes(request);
 
         // 勤怠記録の存在と所有者チェック（stampHistoryIdがnullの場合はOptional.empty()）
-        java.util.Optional<StampHistory> stampHistoryOpt = findOwnedStampHistory(request.stampHistoryId(), employeeId);
+        java.util.Optional<StampHistory> stampHistoryOpt =
+            findOwnedStampHistory(request.stampHistoryId(), request.stampDate(), employeeId);
 
         // stamp_dateの決定（重複チェックで使用）
         LocalDate stampDate = resolveStampDate(stampHistoryOpt, request);
@@ -85,7 +95,10 @@ public class StampRequestRegistrationService {
             .status(StampRequestStatus.PENDING.name())
             .build();
 
-        return store.create(stampRequest);
+        StampRequest created = store.create(stampRequest);
+        eventPublisher.publishEvent(AttendanceEvent.request(AttendanceEventType.REQUEST_CREATED,
+            employeeId, stampDate, created.getId(), created.getCreatedAt()));
+        return created;
     }
 
     private void validateReason(String reason) {
@@ -155,12 +168,14 @@ public class StampRequestRegistrationService {
         }
     }
 
-    private java.util.Optional<StampHistory> findOwnedStampHistory(Integer stampHistoryId, Integer employeeId) {
+    private java.util.Optional<StampHistory> findOwnedStampHistory(
+        Integer stampHistoryId, LocalDate stampDate, Integer employeeId) {
         if (stampHistoryId == null) {
             return java.util.Optional.empty();
         }
 
-        StampHistory history = stampHistoryMapper.getById(stampHistoryId)
+        // 勤務日を送らない旧クライアントの場合はIDのみで検索する
+        StampHistory history = stampHistoryMapper.getById(stampHistoryId, stampDate)
             .orElseThrow(() -> new StampRequestException(HttpStatus.NOT_FOUND, "対象の勤怠記録が見つかりません"));
 
         if (!Objects.equals(history.getEmployeeId(), employeeId)) {
@@ -176,13 +191,6 @@ public class StampRequestRegistrationService {
             if (history.getStampDate() != null) {
                 return history.getStampDate();
             }
-            if (history.getYear() != null && history.getMonth() != null && history.getDay() != null) {
-                return LocalDate.of(
-                    Integer.parseInt(history.getYear()),
-                    Integer.parseInt(history.getMonth()),
-                    Integer.parseInt(history.getDay())
-                );
-            }
         }
 
         // stampHistory がない場合は requestedInTime から導出
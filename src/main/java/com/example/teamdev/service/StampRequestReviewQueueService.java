@@ -0,0 +1,87 @@
+package com.example.teamdev.service;
+
+import com.example.teamdev.entity.StampRequest;
+import java.time.Duration;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 打刻修正リクエストの承認キューを複数の管理者で分担するためのサービス。
+ *
+ * <p>PENDING の申請を古い順にレビュー担当者へ期限付きでリースします。リース中の申請は他の担当者の一覧に表示されず、
+ * 承認・却下もできません。リースは期限切れで自動的に解放されるため、担当者が離席しても申請が滞留しません。</p>
+ */
+@Service
+public class StampRequestReviewQueueService {
+
+    private static final Logger log = LoggerFactory.getLogger(StampRequestReviewQueueService.class);
+    private static final int DEFAULT_CLAIM_COUNT = 10;
+
+    private final StampRequestStore store;
+    private final Duration lease;
+    private final int maxClaimCount;
+
+    public StampRequestReviewQueueService(
+        StampRequestStore store,
+        @Value("${app.stamp-request.claim-lease-seconds:900}") long leaseSeconds,
+        @Value("${app.stamp-request.claim-max:50}") int maxClaimCount
+    ) {
+        if (leaseSeconds <= 0) {
+            throw new IllegalArgumentException("app.stamp-request.claim-lease-seconds must be positive");
+        }
+        if (maxClaimCount <= 0) {
+            throw new IllegalArgumentException("app.stamp-request.claim-max must be positive");
+        }
+        this.store = store;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.maxClaimCount = maxClaimCount;
+    }
+
+    /**
+     * 次の申請を最大 {@code count} 件リースします。
+     *
+     * <p>既に保持しているリースは優先して含め、期限を延長します。</p>
+     *
+     * @param reviewerId レビュー担当者の従業員ID
+     * @param count 件数（nullの場合は10件）
+     * @return リースした申請（作成日時の古い順）
+     * @throws IllegalArgumentException 担当者が未指定、または件数が範囲外の場合
+     */
+    @Transactional
+    public List<StampRequest> claimNext(Integer reviewerId, Integer count) {
+        if (reviewerId == null) {
+            throw new IllegalArgumentException("レビュー担当者が指定されていません");
+        }
+        int limit = count != null ? count : Math.min(DEFAULT_CLAIM_COUNT, maxClaimCount);
+        if (limit < 1 || limit > maxClaimCount) {
+            throw new IllegalArgumentException(
+                String.format("一度に割り当てられる申請は1〜%d件です", maxClaimCount)
+            );
+        }
+
+        List<StampRequest> claimed = store.claimPending(reviewerId, limit, lease);
+        log.debug("Reviewer {} claimed {} stamp request(s)", reviewerId, claimed.size());
+        return claimed;
+    }
+
+    /**
+     * リースを解放し、申請を他の担当者の一覧に戻します。
+     *
+     * @param reviewerId レビュー担当者の従業員ID
+     * @param requestIds 解放する申請ID（null または空の場合は担当者のすべてのリース）
+     * @return 解放した件数
+     * @throws IllegalArgumentException 担当者が未指定の場合
+     */
+    @Transactional
+    public int release(Integer reviewerId, List<Integer> requestIds) {
+        if (reviewerId == null) {
+            throw new IllegalArgumentException("レビュー担当者が指定されていません");
+        }
+        List<Integer> ids = requestIds == null || requestIds.isEmpty() ? null : requestIds;
+        return store.releaseClaims(reviewerId, ids);
+    }
+}
@@ -3,14 +3,13 @@ package com.example.teamdev.service;
 import com.example.teamdev.entity.StampRequest;
 import com.example.teamdev.mapper.StampRequestMapper;
 import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
-import java.util.ArrayList;
+import java.time.YearMonth;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -19,7 +18,11 @@ import org.springframework.stereotype.Service;
  * StampRequest の永続化を抽象化するストア。
  *
  * <p>本番環境では {@link StampRequestMapper} (MyBatis) を使用し、
- * テスト環境（Mapper未注入時）ではインメモリストレージにフォールバックします。</p>
+ * テスト環境や負荷試験・DBなしのローカル実行（Mapper未注入時）ではインメモリストレージにフォールバックします。
+ * インメモリストレージは {@link InMemoryStampRequestIndex} で索引付けし、SQL 版と同じ並び順・件数を返します。</p>
+ *
+ * <p>DB 使用時は作成・保存のたびに、従業員・日付ごとの最新申請の投影（{@code stamp_request_latest}）を
+ * 同じトランザクションで更新します。勤怠履歴の月次取得・CSV 出力はこの投影を結合して申請ステータスを表示します。</p>
  *
  * <p>このパターンにより、サービス層のコードを変更することなく、
  * テスト環境と本番環境で異なる永続化戦略を使用できます。</p>
@@ -30,9 +33,9 @@ public class StampRequestStore {
     private final StampRequestMapper mapper;
     private final Clock clock;
 
-    // テスト用インメモリストレージ（mapperがnullの場合のみ使用）
+    // インメモリストレージ（mapperがnullの場合のみ使用）
     private final AtomicInteger idGenerator = new AtomicInteger(1000);
-    private final Map<Integer, StampRequest> storage = new ConcurrentHashMap<>();
+    private final InMemoryStampRequestIndex memory = new InMemoryStampRequestIndex();
 
     public StampRequestStore(
         @Autowired(required = false) StampRequestMapper mapper,
@@ -59,14 +62,14 @@ public class StampRequestStore {
         request.setUpdatedAt(now);
 
         if (mapper != null) {
-            // 本番: DB保存（IDは自動生成）
+            // 本番: DB保存（IDは自動生成）し、最新申請の投影に反映
             mapper.save(request);
+            mapper.upsertLatestRequests(new Integer[] {request.getId()});
             return request;
         } else {
             // テスト: インメモリ
-            int id = idGenerator.incrementAndGet();
-            request.setId(id);
-            storage.put(id, request);
+            request.setId(idGenerator.incrementAndGet());
+            memory.put(request);
             return request;
         }
     }
@@ -88,12 +91,13 @@ public class StampRequestStore {
         }
 
         if (mapper != null) {
-            // 本番: DB更新
+            // 本番: DB更新し、最新申請の投影のステータスに反映
             mapper.update(request);
+            mapper.upsertLatestRequests(new Integer[] {request.getId()});
             return request;
         } else {
             // テスト: インメモリ
-            storage.put(request.getId(), request);
+            memory.put(request);
             return request;
         }
     }
@@ -112,7 +116,7 @@ public class StampRequestStore {
         if (mapper != null) {
             return mapper.findById(id);
         } else {
-            return Optional.ofNullable(storage.get(id));
+            return memory.findById(id);
         }
     }
 
@@ -126,10 +130,7 @@ public class StampRequestStore {
         if (mapper != null) {
             return mapper.findByEmployeeId(employeeId);
         } else {
-            return storage.values().stream()
-                .filter(r -> Objects.equals(r.getEmployeeId(), employeeId))
-                .sorted(Comparator.comparing(StampRequest::getCreatedAt).reversed())
-                .toList();
+            return memory.findByEmployeeId(employeeId, 0, Integer.MAX_VALUE);
         }
     }
 
@@ -144,11 +145,7 @@ public class StampRequestStore {
         if (mapper != null) {
             return mapper.findByEmployeeIdAndStatus(employeeId, status);
         } else {
-            return storage.values().stream()
-                .filter(r -> Objects.equals(r.getEmployeeId(), employeeId))
-                .filter(r -> Objects.equals(r.getStatus(), status))
-                .sorted(Comparator.comparing(StampRequest::getCreatedAt).reversed())
-                .toList();
+            return memory.findByEmployeeIdAndStatus(employeeId, status, 0, Integer.MAX_VALUE);
         }
     }
 
@@ -164,12 +161,7 @@ public class StampRequestStore {
         if (mapper != null) {
             return mapper.findByEmployeeIdWithPagination(employeeId, offset, limit);
         } else {
-            return storage.values().stream()
-                .filter(r -> Objects.equals(r.getEmployeeId(), employeeId))
-                .sorted(Comparator.comparing(StampRequest::getCreatedAt).reversed())
-                .skip(offset)
-                .limit(limit)
-                .toList();
+            return memory.findByEmployeeId(employeeId, offset, limit);
         }
     }
 
@@ -191,13 +183,7 @@ public class StampRequestStore {
         if (mapper != null) {
             return mapper.findByEmployeeIdAndStatusWithPagination(employeeId, status, offset, limit);
         } else {
-            return storage.values().stream()
-                .filter(r -> Objects.equals(r.getEmployeeId(), employeeId))
-                .filter(r -> Objects.equals(r.getStatus(), status))
-                .sorted(Comparator.comparing(StampRequest::getCreatedAt).reversed())
-                .skip(offset)
-                .limit(limit)
-                .toList();
+            return memory.findByEmployeeIdAndStatus(employeeId, status, offset, limit);
         }
     }
 
@@ -211,9 +197,7 @@ public class StampRequestStore {
         if (mapper != null) {
             return mapper.countByEmployeeId(employeeId);
         } else {
-            return (int) storage.values().stream()
-                .filter(r -> Objects.equals(r.getEmployeeId(), employeeId))
-                .count();
+            return memory.countByEmployeeId(employeeId);
         }
     }
 
@@ -228,10 +212,7 @@ public class StampRequestStore {
         if (mapper != null) {
             return mapper.countByEmployeeIdAndStatus(employeeId, status);
         } else {
-            return (int) storage.values().stream()
-                .filter(r -> Objects.equals(r.getEmployeeId(), employeeId))
-                .filter(r -> Objects.equals(r.getStatus(), status))
-                .count();
+            return memory.countByEmployeeIdAndStatus(employeeId, status);
         }
     }
 
@@ -249,11 +230,7 @@ public class StampRequestStore {
         if (mapper != null) {
             return mapper.findPendingByEmployeeIdAndStampHistoryId(employeeId, stampHistoryId);
         } else {
-            return storage.values().stream()
-                .filter(r -> Objects.equals(r.getEmployeeId(), employeeId))
-                .filter(r -> Objects.equals(r.getStampHistoryId(), stampHistoryId))
-                .filter(r -> Objects.equals(r.getStatus(), "PENDING"))
-                .findFirst();
+            return memory.findPendingByEmployeeIdAndStampHistoryId(employeeId, stampHistoryId);
         }
     }
 
@@ -266,17 +243,12 @@ public class StampRequestStore {
      */
     public Optional<StampRequest> findPendingByEmployeeIdAndStampDate(
         Integer employeeId,
-        java.time.LocalDate stampDate
+        LocalDate stampDate
     ) {
         if (mapper != null) {
             return mapper.findPendingByEmployeeIdAndStampDate(employeeId, stampDate);
         } else {
-            return storage.values().stream()
-                .filter(r -> Objects.equals(r.getEmployeeId(), employeeId))
-                .filter(r -> Objects.equals(r.getStampDate(), stampDate))
-                .filter(r -> Objects.equals(r.getStatus(), "PENDING"))
-                .filter(r -> r.getStampHistoryId() == null)  // 打刻レコードなしのみ
-                .findFirst();
+            return memory.findPendingByEmployeeIdAndStampDate(employeeId, stampDate);
         }
     }
 
@@ -290,10 +262,7 @@ public class StampRequestStore {
         if (mapper != null) {
             return mapper.findByStatus(status);
         } else {
-            return storage.values().stream()
-                .filter(r -> Objects.equals(r.getStatus(), status))
-                .sorted(Comparator.comparing(StampRequest::getCreatedAt).reversed())
-                .toList();
+            return memory.findByStatus(status, 0, Integer.MAX_VALUE);
         }
     }
 
@@ -309,12 +278,7 @@ public class StampRequestStore {
         if (mapper != null) {
             return mapper.findByStatusWithPagination(status, offset, limit);
         } else {
-            return storage.values().stream()
-                .filter(r -> Objects.equals(r.getStatus(), status))
-                .sorted(Comparator.comparing(StampRequest::getCreatedAt).reversed())
-                .skip(offset)
-                .limit(limit)
-                .toList();
+            return memory.findByStatus(status, offset, limit);
         }
     }
 
@@ -328,9 +292,7 @@ public class StampRequestStore {
         if (mapper != null) {
             return mapper.countByStatus(status);
         } else {
-            return (int) storage.values().stream()
-                .filter(r -> Objects.equals(r.getStatus(), status))
-                .count();
+            return memory.countByStatus(status);
         }
     }
 
@@ -345,17 +307,34 @@ public class StampRequestStore {
      * @return 該当するリクエストのリスト
      */
     public List<StampRequest> findWithSearch(String status, String search, String sort, int offset, int limit) {
+        return findWithSearch(status, search, sort, offset, limit, null);
+    }
+
+    /**
+     * 検索条件に基づいてリクエストを検索します。
+     * レビュー担当者を指定した場合、他の担当者がリース中のPENDING申請は含みません。
+     *
+     * @param status ステータス（nullの場合は全ステータス）
+     * @param search 検索キーワード（nullの場合はフィルタなし）
+     * @param sort ソート順（"recent", "oldest", "status"）
+     * @param offset スキップする件数
+     * @param limit 取得する最大件数
+     * @param reviewerId レビュー担当者ID（nullの場合はリースで除外しない）
+     * @return 該当するリクエストのリスト
+     */
+    public List<StampRequest> findWithSearch(
+        String status,
+        String search,
+        String sort,
+        int offset,
+        int limit,
+        Integer reviewerId
+    ) {
         if (mapper != null) {
-            return mapper.findWithSearch(status, search, sort, offset, limit);
+            return mapper.findWithSearch(status, search, sort, offset, limit, reviewerId, now());
         } else {
-            // テスト用簡易実装
-            return storage.values().stream()
-                .filter(r -> status == null || Objects.equals(r.getStatus(), status))
-                .filter(r -> search == null || (r.getReason() != null && r.getReason().contains(search)))
-                .sorted(Comparator.comparing(StampRequest::getCreatedAt).reversed()) // 簡易的に常に作成日降順
-                .skip(offset)
-                .limit(limit)
-                .toList();
+            // 氏名はインメモリでは検索対象外
+            return memory.findWithSearch(status, search, sort, offset, limit, reviewerId, now());
         }
     }
 
@@ -367,15 +346,78 @@ public class StampRequestStore {
      * @return 該当するリクエストの件数
      */
     public int countWithSearch(String status, String search) {
+        return countWithSearch(status, search, null);
+    }
+
+    /**
+     * 検索条件に基づいてリクエスト件数をカウントします。
+     * レビュー担当者を指定した場合、他の担当者がリース中のPENDING申請は数えません。
+     *
+     * @param status ステータス（nullの場合は全ステータス）
+     * @param search 検索キーワード（nullの場合はフィルタなし）
+     * @param reviewerId レビュー担当者ID（nullの場合はリースで除外しない）
+     * @return 該当するリクエストの件数
+     */
+    public int countWithSearch(String status, String search, Integer reviewerId) {
         if (mapper != null) {
-            return mapper.countWithSearch(status, search);
+            return mapper.countWithSearch(status, search, reviewerId, now());
         } else {
-            // テスト用簡易実装
-            return (int) storage.values().stream()
-                .filter(r -> status == null || Objects.equals(r.getStatus(), status))
-                .filter(r -> search == null || (r.getReason() != null && r.getReason().contains(search)))
-                .count();
+            return memory.countWithSearch(status, search, reviewerId, now());
+        }
+    }
+
+    /**
+     * PENDINGのリクエストを古い順に最大 {@code limit} 件、レビュー担当者にリースします。
+     *
+     * <p>他の担当者が有効なリースを保持している申請、および同時に割り当て中の申請は対象外です。
+     * 担当者自身のリースは優先して含め、期限を延長します。</p>
+     *
+     * @param reviewerId レビュー担当者の従業員ID
+     * @param limit 最大件数
+     * @param lease リースの有効期間
+     * @return リースしたリクエスト（作成日時の古い順）
+     */
+    public List<StampRequest> claimPending(Integer reviewerId, int limit, Duration lease) {
+        OffsetDateTime now = now();
+        OffsetDateTime expiresAt = now.plus(lease);
+        if (mapper != null) {
+            // UPDATE ... RETURNING は順序を保証しないため、キューの並び（古い順）に揃える
+            return mapper.claimPending(reviewerId, limit, now, expiresAt).stream()
+                .sorted(Comparator.comparing(StampRequest::getCreatedAt).thenComparing(StampRequest::getId))
+                .toList();
+        } else {
+            return memory.claimPending(reviewerId, limit, now, expiresAt);
+        }
+    }
+
+    /**
+     * レビュー担当者のリースを解放します。
+     *
+     * @param reviewerId レビュー担当者の従業員ID
+     * @param ids 解放するリクエストID（nullの場合は担当者のすべてのリース）
+     * @return 解放された件数
+     */
+    public int releaseClaims(Integer reviewerId, List<Integer> ids) {
+        if (mapper != null) {
+            return mapper.releaseClaims(reviewerId, ids != null ? ids.toArray(Integer[]::new) : null);
+        } else {
+            return memory.releaseClaims(reviewerId, ids);
+        }
+    }
+
+    /**
+     * 対象月の最新申請の投影（{@code stamp_request_latest}）を再計算し、差異を補正します。
+     *
+     * <p>インメモリストレージは投影を持たないため、常に0を返します。</p>
+     *
+     * @param month 対象年月
+     * @return 補正した件数
+     */
+    public int repairLatestRequests(YearMonth month) {
+        if (mapper == null) {
+            return 0;
         }
+        return mapper.repairLatestRequests(month.atDay(1), month.plusMonths(1).atDay(1));
     }
 
     /**
@@ -396,7 +438,7 @@ public class StampRequestStore {
                 "findAll() is not supported in production. Use specific query methods instead."
             );
         }
-        return new ArrayList<>(storage.values());
+        return memory.findAll();
     }
 
     /**
@@ -7,11 +7,14 @@ import com.example.teamdev.exception.DuplicateStampException;
 import com.example.teamdev.exception.InvalidStampStateException;
 import com.example.teamdev.form.HomeForm;
 import com.example.teamdev.mapper.StampHistoryMapper;
+import com.example.teamdev.service.event.AttendanceEvent;
+import com.example.teamdev.service.event.AttendanceEventType;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.Objects;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,10 +28,19 @@ public class StampService {
 
     private final StampHistoryMapper mapper;
     private final LogHistoryRegistrationService logHistoryService;
-
-    public StampService(StampHistoryMapper mapper, LogHistoryRegistrationService logHistoryService) {
+    private final ApplicationEventPublisher eventPublisher;
+    private final AttendanceMonthCloseService monthCloseService;
+
+    public StampService(
+        StampHistoryMapper mapper,
+        LogHistoryRegistrationService logHistoryService,
+        ApplicationEventPublisher eventPublisher,
+        AttendanceMonthCloseService monthCloseService
+    ) {
         this.mapper = mapper;
         this.logHistoryService = logHistoryService;
+        this.eventPublisher = eventPublisher;
+        this.monthCloseService = monthCloseService;
     }
 
     public void execute(HomeForm homeForm, Integer employeeId) {
@@ -44,22 +56,17 @@ public class StampService {
         OffsetDateTime stampTime = OffsetDateTime.parse(homeForm.getStampTime(), formatter);
         // PostgreSQL TIMESTAMPTZ が自動的に UTC で保存
 
-        //DBに登録するため、年月日分割
         LocalDate targetDate = stampTime.toLocalDate();
         //退勤かつ夜勤打刻チェックがある場合は日を前日とする
         if (stampType == StampType.DEPARTURE && nightWorkFlag == 1) {
             // 前日の日付を計算
             targetDate = targetDate.minusDays(1);
         }
-        String year = String.format("%04d", targetDate.getYear());
-        String month = String.format("%02d", targetDate.getMonthValue());
-        String day = String.format("%02d", targetDate.getDayOfMonth());
+        // 締め済みの月の打刻は記録しない（締め処理とはこのトランザクションの終了まで直列化される）
+        monthCloseService.assertOpen(targetDate);
 
         StampHistory entity = new StampHistory();
         entity.setStampDate(targetDate);
-        entity.setYear(year);
-        entity.setMonth(month);
-        entity.setDay(day);
         entity.setEmployeeId(employeeId);
 
         if (stampType == StampType.ATTENDANCE) {
@@ -138,6 +145,12 @@ public class StampService {
             employeeId,
             dateForLog
         );
+
+        // ライブボード通知（コミット後に配信）
+        AttendanceEventType eventType = stampType == StampType.ATTENDANCE
+            ? AttendanceEventType.STAMP_ATTENDANCE
+            : AttendanceEventType.STAMP_DEPARTURE;
+        eventPublisher.publishEvent(AttendanceEvent.stamp(eventType, employeeId, targetDate, stampTime));
     }
 
     public void toggleBreak(Integer employeeId, OffsetDateTime toggleTime) {
@@ -145,9 +158,7 @@ public class StampService {
         Objects.requireNonNull(toggleTime, "toggleTime must not be null");
 
         LocalDate targetDate = toggleTime.toLocalDate();
-        String year = String.format("%04d", targetDate.getYear());
-        String month = String.format("%02d", targetDate.getMonthValue());
-        String day = String.format("%02d", targetDate.getDayOfMonth());
+        monthCloseService.assertOpen(targetDate);
 
         StampHistory existing = mapper.getStampHistoryByStampDateEmployeeId(targetDate, employeeId);
         OffsetDateTime updateDate = OffsetDateTime.now(ZoneOffset.UTC);
@@ -166,9 +177,6 @@ public class StampService {
         StampHistory entity = new StampHistory();
         entity.setId(existing.getId());
         entity.setStampDate(targetDate);
-        entity.setYear(year);
-        entity.setMonth(month);
-        entity.setDay(day);
         entity.setEmployeeId(employeeId);
         entity.setInTime(existing.getInTime());
         entity.setOutTime(existing.getOutTime());
@@ -197,5 +205,9 @@ public class StampService {
             employeeId,
             updateTimestamp
         );
+
+        // ライブボード通知（コミット後に配信）
+        eventPublisher.publishEvent(
+            AttendanceEvent.stamp(AttendanceEventType.BREAK_TOGGLED, employeeId, targetDate, toggleTime));
     }
 }
@@ -0,0 +1,10 @@
+package com.example.teamdev.service.dto;
+
+/**
+ * 条件付きGET用のリソースバージョン。
+ *
+ * @param etag         強いETag（ダブルクォート付き）
+ * @param lastModified 最終更新日時のエポックミリ秒（不明な場合は -1）
+ */
+public record ResourceVersion(String etag, long lastModified) {
+}
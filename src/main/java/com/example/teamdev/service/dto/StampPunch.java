@@ -0,0 +1,21 @@
+package com.example.teamdev.service.dto;
+
+import com.example.teamdev.dto.api.home.StampType;
+
+/**
+ * キオスク端末から一括で受け付ける1件の打刻。
+ *
+ * @param idempotencyKey 端末が採番した冪等キー（再送時も同じ値）
+ * @param employeeId     打刻した従業員ID
+ * @param stampType      打刻種別
+ * @param stampTime      打刻時刻（ISO 8601、オフセット付き）
+ * @param nightWork      夜勤の退勤（前日の勤務として記録）の場合は true
+ */
+public record StampPunch(
+    String idempotencyKey,
+    int employeeId,
+    StampType stampType,
+    String stampTime,
+    boolean nightWork
+) {
+}
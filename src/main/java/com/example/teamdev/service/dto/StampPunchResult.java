@@ -0,0 +1,28 @@
+package com.example.teamdev.service.dto;
+
+import com.example.teamdev.constant.StampPunchOutcome;
+
+/**
+ * 一括打刻の1件ごとの処理結果。
+ *
+ * @param idempotencyKey 冪等キー
+ * @param employeeId     従業員ID
+ * @param outcome        処理結果（再送の場合は初回の処理結果）
+ * @param message        記録しなかった理由（記録した場合は null）
+ * @param replayed       処理済みの冪等キーのため、今回は何も変更しなかった場合は true
+ */
+public record StampPunchResult(
+    String idempotencyKey,
+    int employeeId,
+    StampPunchOutcome outcome,
+    String message,
+    boolean replayed
+) {
+
+    /**
+     * @return 同じ処理結果を再送として表したもの
+     */
+    public StampPunchResult asReplay() {
+        return replayed ? this : new StampPunchResult(idempotencyKey, employeeId, outcome, message, true);
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.teamdev.service.event;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+
+/**
+ * 勤怠に関するドメインイベント。
+ * サービス層から {@link org.springframework.context.ApplicationEventPublisher} 経由で発行され、
+ * トランザクションのコミット後に {@link AttendanceEventBus} が購読者へ配信します。
+ *
+ * @param type       イベント種別
+ * @param employeeId 対象従業員ID
+ * @param stampDate  対象の勤務日（不明な場合はnull）
+ * @param requestId  打刻修正リクエストID（リクエスト関連イベント以外はnull）
+ * @param occurredAt 発生日時
+ */
+public record AttendanceEvent(
+    AttendanceEventType type,
+    Integer employeeId,
+    LocalDate stampDate,
+    Integer requestId,
+    OffsetDateTime occurredAt
+) {
+
+    public AttendanceEvent {
+        Objects.requireNonNull(type, "type must not be null");
+    }
+
+    /**
+     * 打刻・休憩操作のイベントを生成します。
+     *
+     * @param type       イベント種別
+     * @param employeeId 従業員ID
+     * @param stampDate  勤務日
+     * @param occurredAt 打刻時刻
+     * @return イベント
+     */
+    public static AttendanceEvent stamp(AttendanceEventType type, Integer employeeId,
+                                        LocalDate stampDate, OffsetDateTime occurredAt) {
+        return new AttendanceEvent(type, employeeId, stampDate, null, occurredAt);
+    }
+
+    /**
+     * 打刻修正リクエストのイベントを生成します。
+     *
+     * @param type       イベント種別
+     * @param employeeId 申請者の従業員ID
+     * @param stampDate  対象の勤務日
+     * @param requestId  リクエストID
+     * @param occurredAt 発生日時
+     * @return イベント
+     */
+    public static AttendanceEvent request(AttendanceEventType type, Integer employeeId,
+                                          LocalDate stampDate, Integer requestId, OffsetDateTime occurredAt) {
+        return new AttendanceEvent(type, employeeId, stampDate, requestId, occurredAt);
+    }
+}
@@ -0,0 +1,310 @@
+package com.example.teamdev.service.event;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 勤怠イベントのプロセス内ファンアウトバス。
+ *
+ * <p>サービス層で発行された {@link AttendanceEvent} をトランザクションのコミット後に受け取り、
+ * 連番のイベントIDを採番して全購読者へ配信します。</p>
+ *
+ * <ul>
+ *   <li>購読者ごとに上限付きバッファを持ち、溢れた場合は最も古いイベントを破棄します</li>
+ *   <li>送信は配信スレッドプールで購読者ごとに直列化され、遅いクライアントが発行元をブロックしません</li>
+ *   <li>直近のイベントをリプレイウィンドウに保持し、{@code Last-Event-ID} 以降を再送します。
+ *       要求されたイベントがウィンドウから外れている場合（再起動後を含む）は再送せず、
+ *       {@link AttendanceEventSink#reset} で取得し直しを求めます</li>
+ *   <li>一定間隔でハートビートを送り、切断済みの購読者を検出・解除します</li>
+ * </ul>
+ */
+@Component
+public class AttendanceEventBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(AttendanceEventBus.class);
+
+    private final int bufferSize;
+    private final int replaySize;
+    private final int maxSubscribers;
+
+    /** リプレイウィンドウ。採番・追加・ファンアウトはこのロック下で行う */
+    private final Deque<Envelope> replay = new ArrayDeque<>();
+    private long sequence;
+
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final ExecutorService deliveryExecutor;
+    private final ScheduledExecutorService heartbeatScheduler;
+
+    public AttendanceEventBus(
+            @Value("${app.live-board.buffer-size:256}") int bufferSize,
+            @Value("${app.live-board.replay-size:1024}") int replaySize,
+            @Value("${app.live-board.max-subscribers:100}") int maxSubscribers,
+            @Value("${app.live-board.delivery-threads:2}") int deliveryThreads,
+            @Value("${app.live-board.heartbeat-seconds:15}") long heartbeatSeconds) {
+        if (bufferSize < 1 || replaySize < 0 || maxSubscribers < 1 || deliveryThreads < 1 || heartbeatSeconds < 1) {
+            throw new IllegalArgumentException("live-board settings must be positive");
+        }
+        this.bufferSize = bufferSize;
+        this.replaySize = replaySize;
+        this.maxSubscribers = maxSubscribers;
+        this.deliveryExecutor = Executors.newFixedThreadPool(deliveryThreads, daemonThreads("live-board-delivery-"));
+        this.heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(daemonThreads("live-board-heartbeat-"));
+        this.heartbeatScheduler.scheduleAtFixedRate(
+            this::heartbeatAll, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * コミット済みトランザクションで発行されたイベントを配信します。
+     * トランザクション外で発行された場合は即時に配信します。
+     *
+     * @param event 勤怠イベント
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAttendanceEvent(AttendanceEvent event) {
+        publish(event);
+    }
+
+    /**
+     * イベントを採番してリプレイウィンドウに追加し、全購読者へ配信します。
+     *
+     * @param event 勤怠イベント
+     * @return 採番したイベントID
+     */
+    public long publish(AttendanceEvent event) {
+        synchronized (replay) {
+            Envelope envelope = new Envelope(++sequence, event);
+            if (replaySize > 0) {
+                if (replay.size() >= replaySize) {
+                    replay.pollFirst();
+                }
+                replay.addLast(envelope);
+            }
+            for (Subscription subscription : subscriptions) {
+                subscription.offer(envelope);
+            }
+            return envelope.id();
+        }
+    }
+
+    /**
+     * 購読を開始します。
+     *
+     * @param lastEventId クライアントが最後に受信したイベントID（初回接続時はnull）
+     * @param sink        配信先
+     * @return 購読ハンドル
+     * @throws IllegalStateException 購読者数が上限に達している場合
+     */
+    public Subscription subscribe(Long lastEventId, AttendanceEventSink sink) {
+        Subscription subscription = new Subscription(sink);
+        synchronized (replay) {
+            if (subscriptions.size() >= maxSubscribers) {
+                throw new IllegalStateException("Too many live-board subscribers");
+            }
+            if (lastEventId != null) {
+                if (isReplayable(lastEventId)) {
+                    for (Envelope envelope : replay) {
+                        if (envelope.id() > lastEventId) {
+                            subscription.offer(envelope);
+                        }
+                    }
+                } else {
+                    logger.debug("Live-board replay gap after event {}, requesting reset at {}", lastEventId, sequence);
+                    subscription.requestReset(sequence);
+                }
+            }
+            subscriptions.add(subscription);
+        }
+        return subscription;
+    }
+
+    /**
+     * {@code lastEventId} より後のイベントがすべてリプレイウィンドウに残っているかを返します。
+     * 採番済みの最新IDより大きい場合は、再起動前（またはほかのノード）のIDのため再送できません。
+     */
+    private boolean isReplayable(long lastEventId) {
+        long oldest = replay.isEmpty() ? sequence + 1 : replay.peekFirst().id();
+        return lastEventId <= sequence && lastEventId >= oldest - 1;
+    }
+
+    /**
+     * 購読を終了します。複数回呼び出しても安全です。
+     *
+     * @param subscription 購読ハンドル
+     */
+    public void unsubscribe(Subscription subscription) {
+        if (subscription != null && subscriptions.remove(subscription)) {
+            subscription.close();
+        }
+    }
+
+    /**
+     * 現在の購読者数を返します。
+     *
+     * @return 購読者数
+     */
+    public int subscriberCount() {
+        return subscriptions.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeatScheduler.shutdownNow();
+        for (Subscription subscription : subscriptions) {
+            unsubscribe(subscription);
+        }
+        deliveryExecutor.shutdown();
+    }
+
+    private void heartbeatAll() {
+        for (Subscription subscription : subscriptions) {
+            subscription.requestHeartbeat();
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record Envelope(long id, AttendanceEvent event) {
+    }
+
+    /**
+     * 購読ハンドル。購読者ごとの上限付きバッファと配信状態を保持します。
+     */
+    public final class Subscription {
+
+        private final AttendanceEventSink sink;
+        private final ArrayDeque<Envelope> buffer = new ArrayDeque<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        /** 送信待ちのリセット通知のイベントID（なしの場合は -1） */
+        private volatile long resetPendingId = -1L;
+        private volatile boolean heartbeatPending;
+        private volatile boolean closed;
+        private long droppedCount;
+
+        private Subscription(AttendanceEventSink sink) {
+            this.sink = sink;
+        }
+
+        /**
+         * バッファ溢れで破棄したイベント数を返します。
+         *
+         * @return 破棄件数
+         */
+        public long droppedCount() {
+            synchronized (buffer) {
+                return droppedCount;
+            }
+        }
+
+        private void offer(Envelope envelope) {
+            if (closed) {
+                return;
+            }
+            synchronized (buffer) {
+                if (buffer.size() >= bufferSize) {
+                    buffer.pollFirst();
+                    droppedCount++;
+                }
+                buffer.addLast(envelope);
+            }
+            scheduleDrain();
+        }
+
+        private void requestReset(long eventId) {
+            resetPendingId = eventId;
+            scheduleDrain();
+        }
+
+        private void requestHeartbeat() {
+            heartbeatPending = true;
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (closed || !draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                deliveryExecutor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+            }
+        }
+
+        private void drain() {
+            try {
+                while (!closed) {
+                    // リセット通知は購読開始時に1度だけ、後続のイベントより先に送る
+                    long resetId = resetPendingId;
+                    if (resetId >= 0) {
+                        resetPendingId = -1L;
+                        sink.reset(resetId);
+                        continue;
+                    }
+                    Envelope next;
+                    synchronized (buffer) {
+                        next = buffer.pollFirst();
+                    }
+                    if (next != null) {
+                        sink.send(next.id(), next.event());
+                        heartbeatPending = false;
+                        continue;
+                    }
+                    if (heartbeatPending) {
+                        heartbeatPending = false;
+                        sink.heartbeat();
+                        continue;
+                    }
+                    draining.set(false);
+                    // 解放直後に追加された要素を取りこぼさないよう再確認する
+                    if (!hasPendingWork() || !draining.compareAndSet(false, true)) {
+                        return;
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                logger.debug("Live-board subscriber disconnected: {}", e.getMessage());
+                unsubscribe(this);
+            }
+        }
+
+        private boolean hasPendingWork() {
+            if (heartbeatPending || resetPendingId >= 0) {
+                return true;
+            }
+            synchronized (buffer) {
+                return !buffer.isEmpty();
+            }
+        }
+
+        private void close() {
+            closed = true;
+            synchronized (buffer) {
+                buffer.clear();
+            }
+            sink.close();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.teamdev.service.event;
+
+import java.io.IOException;
+
+/**
+ * {@link AttendanceEventBus} の購読者が実装する配信先。
+ * 同一購読者への呼び出しは常に1スレッドずつ直列に行われます。
+ */
+public interface AttendanceEventSink {
+
+    /**
+     * イベントを送信します。
+     *
+     * @param eventId イベントID（単調増加）
+     * @param event   イベント
+     * @throws IOException 送信に失敗した場合（購読は解除されます）
+     */
+    void send(long eventId, AttendanceEvent event) throws IOException;
+
+    /**
+     * 再接続時に要求されたイベントがリプレイウィンドウに残っておらず、再送できないことを通知します。
+     * 購読者は表示内容を取得し直してください。以降は {@code eventId} より後のイベントを送信します。
+     *
+     * @param eventId 通知時点の最新のイベントID（次回の再接続の起点）
+     * @throws IOException 送信に失敗した場合（購読は解除されます）
+     */
+    void reset(long eventId) throws IOException;
+
+    /**
+     * 接続維持用のハートビートを送信します。
+     *
+     * @throws IOException 送信に失敗した場合（購読は解除されます）
+     */
+    void heartbeat() throws IOException;
+
+    /**
+     * 購読終了時に呼び出されます。
+     */
+    void close();
+}
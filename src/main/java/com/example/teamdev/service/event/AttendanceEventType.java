@@ -0,0 +1,19 @@
+package com.example.teamdev.service.event;
+
+/**
+ * 管理者ライブボードに配信する勤怠イベントの種別。
+ */
+public enum AttendanceEventType {
+    /** 出勤打刻 */
+    STAMP_ATTENDANCE,
+    /** 退勤打刻 */
+    STAMP_DEPARTURE,
+    /** 休憩開始・終了 */
+    BREAK_TOGGLED,
+    /** 打刻修正リクエストの登録 */
+    REQUEST_CREATED,
+    /** 打刻修正リクエストの承認 */
+    REQUEST_APPROVED,
+    /** 打刻修正リクエストの却下 */
+    REQUEST_REJECTED
+}
@@ -0,0 +1,12 @@
+package com.example.teamdev.service.event;
+
+import java.time.Instant;
+
+/**
+ * お知らせの登録・更新・公開状態変更・削除を通知するイベント。
+ * 公開お知らせフィードのキャッシュ再構築に使用します。
+ *
+ * @param changedAt 変更日時
+ */
+public record NewsChangedEvent(Instant changedAt) {
+}
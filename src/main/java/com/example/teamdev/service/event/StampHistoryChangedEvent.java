@@ -0,0 +1,77 @@
+package com.example.teamdev.service.event;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Objects;
+
+/**
+ * 打刻履歴画面の表示内容に影響する変更を通知するイベント。
+ * 打刻履歴の月次キャッシュの無効化に使用します。
+ *
+ * <p>{@link AttendanceEvent} を発行しない変更（打刻編集・削除・申請取消・月次締め・勤務スケジュール変更）で発行します。</p>
+ *
+ * @param employeeId 対象従業員ID（null の場合は全従業員）
+ * @param fromMonth  対象期間の開始月（null の場合は全期間）
+ * @param toMonth    対象期間の終了月（null の場合は全期間）
+ */
+public record StampHistoryChangedEvent(Integer employeeId, YearMonth fromMonth, YearMonth toMonth) {
+
+    public StampHistoryChangedEvent {
+        if ((fromMonth == null) != (toMonth == null)) {
+            throw new IllegalArgumentException("fromMonth and toMonth must both be set or both be null");
+        }
+        if (fromMonth != null && fromMonth.isAfter(toMonth)) {
+            throw new IllegalArgumentException("fromMonth must not be after toMonth");
+        }
+    }
+
+    /**
+     * 従業員の1日分の変更を表すイベントを生成します。
+     *
+     * @param employeeId 従業員ID
+     * @param stampDate  勤務日
+     * @return イベント
+     */
+    public static StampHistoryChangedEvent forDate(Integer employeeId, LocalDate stampDate) {
+        Objects.requireNonNull(employeeId, "employeeId must not be null");
+        YearMonth month = YearMonth.from(Objects.requireNonNull(stampDate, "stampDate must not be null"));
+        return new StampHistoryChangedEvent(employeeId, month, month);
+    }
+
+    /**
+     * 全従業員の指定期間の変更を表すイベントを生成します。
+     *
+     * @param fromMonth 開始月
+     * @param toMonth   終了月
+     * @return イベント
+     */
+    public static StampHistoryChangedEvent forMonths(YearMonth fromMonth, YearMonth toMonth) {
+        return new StampHistoryChangedEvent(null,
+            Objects.requireNonNull(fromMonth, "fromMonth must not be null"),
+            Objects.requireNonNull(toMonth, "toMonth must not be null"));
+    }
+
+    /**
+     * 従業員の全期間の変更を表すイベントを生成します。
+     *
+     * @param employeeId 従業員ID
+     * @return イベント
+     */
+    public static StampHistoryChangedEvent forEmployee(Integer employeeId) {
+        return new StampHistoryChangedEvent(Objects.requireNonNull(employeeId, "employeeId must not be null"), null, null);
+    }
+
+    /**
+     * 指定した従業員・年月がこの変更の対象かどうかを返します。
+     *
+     * @param targetEmployeeId 従業員ID
+     * @param month            年月
+     * @return 対象の場合 true
+     */
+    public boolean covers(int targetEmployeeId, YearMonth month) {
+        if (employeeId != null && employeeId != targetEmployeeId) {
+            return false;
+        }
+        return fromMonth == null || (!month.isBefore(fromMonth) && !month.isAfter(toMonth));
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.teamdev.service.job;
+
+import com.example.teamdev.constant.BulkJobType;
+import com.example.teamdev.service.AttendanceMonthCloseService;
+import java.time.YearMonth;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.stereotype.Component;
+
+/**
+ * 勤怠の月次締めジョブ。
+ *
+ * <p>対象は {@code yyyyMM} 形式の整数（例: 202501）で、1か月ずつ
+ * {@link AttendanceMonthCloseService#close} でスナップショットを作成します。
+ * 既に締め済みの月は失敗として記録します。</p>
+ */
+@Component
+public class AttendanceMonthCloseJobHandler implements BulkJobHandler {
+
+    private final AttendanceMonthCloseService monthCloseService;
+
+    public AttendanceMonthCloseJobHandler(AttendanceMonthCloseService monthCloseService) {
+        this.monthCloseService = monthCloseService;
+    }
+
+    @Override
+    public BulkJobType type() {
+        return BulkJobType.ATTENDANCE_MONTH_CLOSE;
+    }
+
+    @Override
+    public void validate(List<Integer> targetIds, Map<String, String> parameters) {
+        YearMonthTargets.validate(targetIds);
+        YearMonth current = monthCloseService.currentMonth();
+        for (Integer yearMonth : targetIds) {
+            if (!YearMonthTargets.toYearMonth(yearMonth).isBefore(current)) {
+                throw new IllegalArgumentException("締め処理は前月以前の月のみ実行できます: " + yearMonth);
+            }
+        }
+    }
+
+    @Override
+    public Set<Integer> process(List<Integer> targetIds, Map<String, String> parameters, Integer operatorId) {
+        Set<Integer> closed = new HashSet<>();
+        for (Integer yearMonth : targetIds) {
+            if (monthCloseService.close(YearMonthTargets.toYearMonth(yearMonth), operatorId).isPresent()) {
+                closed.add(yearMonth);
+            }
+        }
+        return closed;
+    }
+}
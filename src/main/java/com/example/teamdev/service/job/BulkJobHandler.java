@@ -0,0 +1,40 @@
+package com.example.teamdev.service.job;
+
+import com.example.teamdev.constant.BulkJobType;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 非同期一括ジョブのチャンク処理を実装するハンドラ。
+ *
+ * <p>{@link #process} は {@link BulkJobRunner} が開いたトランザクション内で呼び出され、
+ * 進捗の記録と同時にコミットされます。個々の対象の失敗は例外ではなく戻り値で表現してください
+ * （例外を送出するとチャンク全体がロールバックされ、ジョブは FAILED になります）。</p>
+ */
+public interface BulkJobHandler {
+
+    /**
+     * @return このハンドラが処理するジョブ種別
+     */
+    BulkJobType type();
+
+    /**
+     * 投入時に対象とパラメータを検証します。
+     *
+     * @param targetIds 処理対象ID（null・重複なし）
+     * @param parameters ジョブパラメータ
+     * @throws IllegalArgumentException 不正な場合
+     */
+    void validate(List<Integer> targetIds, Map<String, String> parameters);
+
+    /**
+     * 1チャンク分の対象を処理します。
+     *
+     * @param targetIds チャンクの対象ID
+     * @param parameters ジョブパラメータ
+     * @param operatorId 依頼者の従業員ID
+     * @return 成功した対象ID（含まれないIDは失敗として記録されます）
+     */
+    Set<Integer> process(List<Integer> targetIds, Map<String, String> parameters, Integer operatorId);
+}
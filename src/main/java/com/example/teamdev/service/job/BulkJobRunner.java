@@ -0,0 +1,243 @@
+package com.example.teamdev.service.job;
+
+import com.example.teamdev.constant.BulkJobStatus;
+import com.example.teamdev.constant.BulkJobType;
+import com.example.teamdev.entity.BulkJob;
+import com.example.teamdev.mapper.BulkJobMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 非同期一括ジョブの実行基盤。
+ *
+ * <ul>
+ *   <li>上限付きのワーカープールで実行し、キューが満杯の場合はジョブを QUEUED のまま残して
+ *       実行中のジョブの完了後に取り出します</li>
+ *   <li>チャンクごとにジョブ行をロックし、ハンドラの処理と進捗の記録を同じトランザクションでコミットします</li>
+ *   <li>取消要求はチャンクの開始時に確認します</li>
+ *   <li>起動時に未完了のジョブを、最後にコミットしたチャンクの次から再開します</li>
+ * </ul>
+ */
+@Component
+public class BulkJobRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkJobRunner.class);
+    private static final TypeReference<Map<String, String>> PARAMETERS_TYPE = new TypeReference<>() {
+    };
+
+    private final BulkJobMapper mapper;
+    private final Map<BulkJobType, BulkJobHandler> handlers = new EnumMap<>(BulkJobType.class);
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration staleAfter;
+    private final ThreadPoolExecutor executor;
+
+    /** 実行中またはキュー投入済みのジョブID（同一プロセス内での二重投入防止） */
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    public BulkJobRunner(
+        BulkJobMapper mapper,
+        List<BulkJobHandler> handlers,
+        ObjectMapper objectMapper,
+        Clock clock,
+        PlatformTransactionManager transactionManager,
+        @Value("${app.bulk-job.worker-threads:2}") int workerThreads,
+        @Value("${app.bulk-job.queue-capacity:100}") int queueCapacity,
+        @Value("${app.bulk-job.stale-after-seconds:300}") long staleAfterSeconds
+    ) {
+        if (workerThreads < 1 || queueCapacity < 1 || staleAfterSeconds < 1) {
+            throw new IllegalArgumentException("bulk-job settings must be positive");
+        }
+        this.mapper = mapper;
+        for (BulkJobHandler handler : handlers) {
+            if (this.handlers.put(handler.type(), handler) != null) {
+                throw new IllegalStateException("Duplicate bulk job handler: " + handler.type());
+            }
+        }
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.staleAfter = Duration.ofSeconds(staleAfterSeconds);
+        this.executor = new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), daemonThreads("bulk-job-"));
+    }
+
+    /**
+     * ジョブ種別に対応するハンドラを返します。
+     *
+     * @param type ジョブ種別
+     * @return ハンドラ
+     * @throws IllegalArgumentException ハンドラが登録されていない場合
+     */
+    BulkJobHandler handlerFor(BulkJobType type) {
+        BulkJobHandler handler = handlers.get(type);
+        if (handler == null) {
+            throw new IllegalArgumentException("未対応のジョブ種別です: " + type);
+        }
+        return handler;
+    }
+
+    /**
+     * ジョブをワーカープールに投入します。
+     * キューが満杯の場合は QUEUED のまま残し、実行中のジョブの完了後に再投入します。
+     *
+     * @param jobId ジョブID
+     */
+    public void dispatch(Long jobId) {
+        if (!inFlight.add(jobId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> runAndRelease(jobId));
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(jobId);
+            log.info("Bulk job queue is full; job {} stays QUEUED", jobId);
+        }
+    }
+
+    /**
+     * 起動時に未完了のジョブ（QUEUED、および一定時間進捗のない RUNNING）を再開します。
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedJobs() {
+        List<Long> ids = mapper.findResumableIds(now().minus(staleAfter));
+        if (!ids.isEmpty()) {
+            log.info("Resuming {} unfinished bulk job(s)", ids.size());
+        }
+        ids.forEach(this::dispatch);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // 実行中のチャンクはコミットまたはロールバックされ、次回起動時に再開される
+        executor.shutdownNow();
+    }
+
+    private void runAndRelease(Long jobId) {
+        try {
+            run(jobId);
+        } finally {
+            inFlight.remove(jobId);
+        }
+        if (executor.getQueue().isEmpty() && !executor.isShutdown()) {
+            // キュー満杯で取り残された QUEUED ジョブを取り出す
+            try {
+                resumeUnfinishedJobs();
+            } catch (RuntimeException e) {
+                log.warn("Failed to look up queued bulk jobs: {}", e.getMessage());
+            }
+        }
+    }
+
+    void run(Long jobId) {
+        BulkJob job = mapper.findById(jobId).orElse(null);
+        if (job == null || mapper.markRunning(jobId, now()) == 0) {
+            return;
+        }
+        try {
+            BulkJobHandler handler = handlerFor(BulkJobType.valueOf(job.getJobType()));
+            Map<String, String> parameters = parseParameters(job.getParameters());
+            List<Integer> targetIds = Arrays.asList(job.getTargetIds());
+            boolean hasNext = true;
+            while (hasNext) {
+                hasNext = Boolean.TRUE.equals(transactionTemplate.execute(
+                    status -> processNextChunk(job, targetIds, handler, parameters)));
+            }
+        } catch (RuntimeException e) {
+            log.error("Bulk job {} ({}) failed", jobId, job.getJobType(), e);
+            mapper.finish(jobId, BulkJobStatus.FAILED.name(), failureMessage(e), now());
+        }
+    }
+
+    /**
+     * 次のチャンクを処理します（トランザクション内で呼び出されます）。
+     *
+     * @return 続けて次のチャンクを処理する場合 true
+     */
+    private boolean processNextChunk(
+        BulkJob job,
+        List<Integer> targetIds,
+        BulkJobHandler handler,
+        Map<String, String> parameters
+    ) {
+        BulkJob locked = mapper.lockForChunk(job.getId()).orElse(null);
+        if (locked == null || !BulkJobStatus.RUNNING.name().equals(locked.getStatus())) {
+            return false;
+        }
+        if (Boolean.TRUE.equals(locked.getCancelRequested())) {
+            mapper.finish(job.getId(), BulkJobStatus.CANCELLED.name(), null, now());
+            log.info("Bulk job {} cancelled at {}/{}", job.getId(), locked.getNextOffset(), targetIds.size());
+            return false;
+        }
+        int from = locked.getNextOffset();
+        if (from >= targetIds.size()) {
+            mapper.finish(job.getId(), BulkJobStatus.SUCCEEDED.name(), null, now());
+            log.info("Bulk job {} ({}) completed: {} target(s)", job.getId(), job.getJobType(), targetIds.size());
+            return false;
+        }
+
+        int to = Math.min(from + job.getChunkSize(), targetIds.size());
+        List<Integer> chunk = targetIds.subList(from, to);
+        Set<Integer> succeeded = handler.process(chunk, parameters, job.getRequestedBy());
+        Integer[] failedIds = chunk.stream()
+            .filter(id -> !succeeded.contains(id))
+            .toArray(Integer[]::new);
+        mapper.recordChunk(job.getId(), to, chunk.size() - failedIds.length, failedIds, now());
+        return true;
+    }
+
+    private Map<String, String> parseParameters(String json) {
+        if (json == null || json.isBlank()) {
+            return Map.of();
+        }
+        try {
+            return objectMapper.readValue(json, PARAMETERS_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Invalid bulk job parameters", e);
+        }
+    }
+
+    private static String failureMessage(RuntimeException e) {
+        String message = e.getMessage();
+        return message != null && message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+
+    private OffsetDateTime now() {
+        return OffsetDateTime.now(clock);
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.teamdev.service.job;
+
+import com.example.teamdev.constant.BulkJobStatus;
+import com.example.teamdev.constant.BulkJobType;
+import com.example.teamdev.entity.BulkJob;
+import com.example.teamdev.mapper.BulkJobMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 非同期一括ジョブの投入・照会・取消を扱うサービス。
+ *
+ * <p>投入時に対象とパラメータを検証して {@code bulk_job} に登録し、ジョブIDを即時に返します。
+ * 実際の処理は {@link BulkJobRunner} がチャンク単位で行います。</p>
+ */
+@Service
+public class BulkJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkJobService.class);
+    static final int MAX_TARGETS = 10_000;
+
+    private final BulkJobMapper mapper;
+    private final BulkJobRunner runner;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final int chunkSize;
+
+    public BulkJobService(
+        BulkJobMapper mapper,
+        BulkJobRunner runner,
+        ObjectMapper objectMapper,
+        Clock clock,
+        @Value("${app.bulk-job.chunk-size:500}") int chunkSize
+    ) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("app.bulk-job.chunk-size must be positive");
+        }
+        this.mapper = mapper;
+        this.runner = runner;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * ジョブを投入します。重複した対象は1件として扱います。
+     *
+     * @param type ジョブ種別
+     * @param targetIds 処理対象ID（最大10000件）
+     * @param parameters ジョブパラメータ（null可）
+     * @param requesterId 依頼者の従業員ID
+     * @return 登録したジョブ（ステータスは QUEUED）
+     * @throws IllegalArgumentException 対象またはパラメータが不正な場合
+     */
+    public BulkJob submit(
+        BulkJobType type,
+        List<Integer> targetIds,
+        Map<String, String> parameters,
+        Integer requesterId
+    ) {
+        if (type == null) {
+            throw new IllegalArgumentException("ジョブ種別が指定されていません");
+        }
+        if (requesterId == null) {
+            throw new IllegalArgumentException("依頼者が指定されていません");
+        }
+        if (targetIds == null || targetIds.isEmpty()) {
+            throw new IllegalArgumentException("処理対象が選択されていません");
+        }
+        if (targetIds.size() > MAX_TARGETS) {
+            throw new IllegalArgumentException(
+                String.format("一度に処理できる対象は%d件までです（リクエスト: %d件）", MAX_TARGETS, targetIds.size())
+            );
+        }
+        if (targetIds.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("処理対象にnullが含まれています");
+        }
+
+        List<Integer> uniqueIds = List.copyOf(new LinkedHashSet<>(targetIds));
+        Map<String, String> safeParameters = parameters != null ? parameters : Map.of();
+        runner.handlerFor(type).validate(uniqueIds, safeParameters);
+
+        BulkJob job = new BulkJob();
+        job.setJobType(type.name());
+        job.setStatus(BulkJobStatus.QUEUED.name());
+        job.setRequestedBy(requesterId);
+        job.setTargetIds(uniqueIds.toArray(Integer[]::new));
+        job.setParameters(toJson(safeParameters));
+        job.setChunkSize(chunkSize);
+        job.setTotalCount(uniqueIds.size());
+        job.setNextOffset(0);
+        job.setSuccessCount(0);
+        job.setFailureCount(0);
+        job.setFailedIds(new Integer[0]);
+        job.setCancelRequested(false);
+        mapper.insert(job);
+
+        log.info("Bulk job {} ({}) submitted by employee {}: {} target(s)",
+            job.getId(), type, requesterId, uniqueIds.size());
+        runner.dispatch(job.getId());
+        return job;
+    }
+
+    /**
+     * ジョブを取得します。
+     *
+     * @param id ジョブID
+     * @return 該当するジョブ、存在しない場合は{@code Optional.empty()}
+     */
+    public Optional<BulkJob> findById(Long id) {
+        return mapper.findById(id);
+    }
+
+    /**
+     * 依頼者の直近のジョブを取得します。
+     *
+     * @param requesterId 依頼者の従業員ID
+     * @param limit 取得する最大件数
+     * @return ジョブのリスト（作成日時降順）
+     */
+    public List<BulkJob> findRecent(Integer requesterId, int limit) {
+        return mapper.findRecentByRequester(requesterId, Math.max(1, Math.min(limit, 100)));
+    }
+
+    /**
+     * ジョブの取消を要求します。実行中のジョブは処理中のチャンクのコミット後に停止します。
+     *
+     * @param id ジョブID
+     * @return 取消要求後のジョブ、存在しない場合は{@code Optional.empty()}
+     * @throws IllegalStateException 既に完了している場合
+     */
+    public Optional<BulkJob> cancel(Long id) {
+        boolean requested = mapper.requestCancel(id, OffsetDateTime.now(clock)) > 0;
+        Optional<BulkJob> job = mapper.findById(id);
+        if (!requested && job.isPresent()) {
+            throw new IllegalStateException("ジョブは既に完了しています");
+        }
+        return job;
+    }
+
+    /**
+     * 失敗したジョブを最後にコミットしたチャンクの次から再実行します。
+     *
+     * @param id ジョブID
+     * @return 再投入後のジョブ、存在しない場合は{@code Optional.empty()}
+     * @throws IllegalStateException 失敗状態でない場合
+     */
+    public Optional<BulkJob> retry(Long id) {
+        boolean requeued = mapper.requeueFailed(id, OffsetDateTime.now(clock)) > 0;
+        if (requeued) {
+            runner.dispatch(id);
+        }
+        Optional<BulkJob> job = mapper.findById(id);
+        if (!requeued && job.isPresent()) {
+            throw new IllegalStateException("失敗したジョブのみ再実行できます");
+        }
+        return job;
+    }
+
+    private String toJson(Map<String, String> parameters) {
+        try {
+            return objectMapper.writeValueAsString(parameters);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("ジョブパラメータを変換できません", e);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.teamdev.service.job;
+
+import com.example.teamdev.entity.EmployeePurgeJob;
+import com.example.teamdev.mapper.EmployeePurgeJobMapper;
+import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 論理削除した従業員のデータ削除ジョブの投入・照会・再実行を扱うサービス。
+ *
+ * <p>従業員の論理削除と同じトランザクションで {@code employee_purge_job} に登録します。
+ * 実際の削除は {@link EmployeePurgeRunner} がチャンク単位で行います。</p>
+ */
+@Service
+public class EmployeePurgeJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeePurgeJobService.class);
+
+    private final EmployeePurgeJobMapper mapper;
+    private final EmployeePurgeRunner runner;
+    private final Clock clock;
+    private final int chunkSize;
+
+    public EmployeePurgeJobService(
+        EmployeePurgeJobMapper mapper,
+        EmployeePurgeRunner runner,
+        Clock clock,
+        @Value("${app.employee-purge.chunk-size:1000}") int chunkSize
+    ) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("app.employee-purge.chunk-size must be positive");
+        }
+        this.mapper = mapper;
+        this.runner = runner;
+        this.clock = clock;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 論理削除した従業員のデータ削除ジョブを投入します。
+     * トランザクション内で呼び出した場合は、コミット後に実行を開始します。
+     *
+     * @param employeeIds 論理削除した従業員IDのリスト
+     * @param requesterId 削除を実行した従業員ID
+     */
+    public void submit(List<Integer> employeeIds, Integer requesterId) {
+        if (employeeIds == null || employeeIds.isEmpty()) {
+            return;
+        }
+        if (requesterId == null) {
+            throw new IllegalArgumentException("依頼者が指定されていません");
+        }
+        int inserted = mapper.insertAll(employeeIds, requesterId, chunkSize);
+        log.info("Employee purge jobs submitted by employee {}: {} of {}", requesterId, inserted, employeeIds);
+        dispatchAfterCommit(employeeIds);
+    }
+
+    /**
+     * ジョブを取得します。
+     *
+     * @param employeeId 従業員ID
+     * @return 該当するジョブ、存在しない場合は{@code Optional.empty()}
+     */
+    public Optional<EmployeePurgeJob> findById(Integer employeeId) {
+        return mapper.findById(employeeId);
+    }
+
+    /**
+     * 直近のジョブを取得します。
+     *
+     * @param limit 取得する最大件数
+     * @return ジョブのリスト（作成日時降順）
+     */
+    public List<EmployeePurgeJob> findRecent(int limit) {
+        return mapper.findRecent(Math.max(1, Math.min(limit, 100)));
+    }
+
+    /**
+     * 失敗したジョブを最後にコミットしたフェーズから再実行します。
+     *
+     * @param employeeId 従業員ID
+     * @return 再投入後のジョブ、存在しない場合は{@code Optional.empty()}
+     * @throws IllegalStateException 失敗状態でない場合
+     */
+    public Optional<EmployeePurgeJob> retry(Integer employeeId) {
+        boolean requeued = mapper.requeueFailed(employeeId, OffsetDateTime.now(clock)) > 0;
+        if (requeued) {
+            runner.dispatch(employeeId);
+        }
+        Optional<EmployeePurgeJob> job = mapper.findById(employeeId);
+        if (!requeued && job.isPresent()) {
+            throw new IllegalStateException("失敗したジョブのみ再実行できます");
+        }
+        return job;
+    }
+
+    private void dispatchAfterCommit(List<Integer> employeeIds) {
+        List<Integer> ids = List.copyOf(employeeIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    ids.forEach(runner::dispatch);
+                }
+            });
+        } else {
+            ids.forEach(runner::dispatch);
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package com.example.teamdev.service.job;
+
+import com.example.teamdev.config.ReplicaLsnTracker;
+import com.example.teamdev.constant.EmployeePurgeJobStatus;
+import com.example.teamdev.constant.EmployeePurgePhase;
+import com.example.teamdev.entity.EmployeePurgeJob;
+import com.example.teamdev.mapper.EmployeePurgeJobMapper;
+import com.example.teamdev.mapper.EmployeePurgeMapper;
+import com.example.teamdev.service.event.StampHistoryChangedEvent;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 論理削除した従業員のデータ削除ジョブの実行基盤。
+ *
+ * <ul>
+ *   <li>操作履歴・打刻修正申請・打刻記録の順に、従業員の行を最大 {@code chunk_size} 件ずつ削除して、
+ *       チャンクごとにフェーズ・削除件数と同じトランザクションでコミットします。
+ *       削除件数がチャンクサイズ未満のチャンクでそのテーブルを完了とし、次のフェーズへ進みます</li>
+ *   <li>最後に退避テーブルの行と従業員行を削除します。他の従業員の申請の承認者・ジョブの依頼者などとして
+ *       参照されている場合は、従業員行を論理削除のまま残して完了します</li>
+ *   <li>チャンク間は {@link StampDeleteThrottle} が処理時間とレプリカの再生遅延から決めた時間だけ待機します</li>
+ *   <li>起動時に未完了のジョブを、最後にコミットしたフェーズから再開します（削除は冪等です）</li>
+ * </ul>
+ */
+@Component
+public class EmployeePurgeRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeePurgeRunner.class);
+
+    private final EmployeePurgeJobMapper jobMapper;
+    private final EmployeePurgeMapper purgeMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectProvider<ReplicaLsnTracker> replicaLsnTracker;
+    private final Clock clock;
+    private final TransactionTemplate transactionTemplate;
+    private final long minSleepMillis;
+    private final long maxSleepMillis;
+    private final double sleepRatio;
+    private final long maxLagBytes;
+    private final Duration staleAfter;
+    private final ThreadPoolExecutor executor;
+
+    /** 実行中またはキュー投入済みのジョブの従業員ID（同一プロセス内での二重投入防止） */
+    private final Set<Integer> inFlight = ConcurrentHashMap.newKeySet();
+
+    public EmployeePurgeRunner(
+        EmployeePurgeJobMapper jobMapper,
+        EmployeePurgeMapper purgeMapper,
+        ApplicationEventPublisher eventPublisher,
+        ObjectProvider<ReplicaLsnTracker> replicaLsnTracker,
+        Clock clock,
+        PlatformTransactionManager transactionManager,
+        @Value("${app.employee-purge.worker-threads:1}") int workerThreads,
+        @Value("${app.employee-purge.min-sleep-millis:50}") long minSleepMillis,
+        @Value("${app.employee-purge.max-sleep-millis:10000}") long maxSleepMillis,
+        @Value("${app.employee-purge.sleep-ratio:1.0}") double sleepRatio,
+        @Value("${app.employee-purge.max-replay-lag-bytes:16777216}") long maxLagBytes,
+        @Value("${app.employee-purge.stale-after-seconds:300}") long staleAfterSeconds
+    ) {
+        if (workerThreads < 1 || staleAfterSeconds < 1) {
+            throw new IllegalArgumentException("employee-purge settings must be positive");
+        }
+        // 設定値の検証を兼ねる
+        new StampDeleteThrottle(minSleepMillis, maxSleepMillis, sleepRatio, maxLagBytes);
+        this.jobMapper = jobMapper;
+        this.purgeMapper = purgeMapper;
+        this.eventPublisher = eventPublisher;
+        this.replicaLsnTracker = replicaLsnTracker;
+        this.clock = clock;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.minSleepMillis = minSleepMillis;
+        this.maxSleepMillis = maxSleepMillis;
+        this.sleepRatio = sleepRatio;
+        this.maxLagBytes = maxLagBytes;
+        this.staleAfter = Duration.ofSeconds(staleAfterSeconds);
+        this.executor = new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(100), daemonThreads("employee-purge-"));
+    }
+
+    /**
+     * ジョブをワーカープールに投入します。
+     * キューが満杯の場合は QUEUED のまま残し、実行中のジョブの完了後に再投入します。
+     *
+     * @param employeeId 従業員ID
+     */
+    public void dispatch(Integer employeeId) {
+        if (!inFlight.add(employeeId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> runAndRelease(employeeId));
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(employeeId);
+            log.info("Employee purge queue is full; job for employee {} stays QUEUED", employeeId);
+        }
+    }
+
+    /**
+     * 起動時に未完了のジョブ（QUEUED、および一定時間進捗のない RUNNING）を再開します。
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedJobs() {
+        List<Integer> ids = jobMapper.findResumableIds(now().minus(staleAfter));
+        if (!ids.isEmpty()) {
+            log.info("Resuming {} unfinished employee purge job(s)", ids.size());
+        }
+        ids.forEach(this::dispatch);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // 実行中のチャンクはコミットまたはロールバックされ、次回起動時に再開される
+        executor.shutdownNow();
+    }
+
+    private void runAndRelease(Integer employeeId) {
+        try {
+            run(employeeId);
+        } finally {
+            inFlight.remove(employeeId);
+        }
+        if (executor.getQueue().isEmpty() && !executor.isShutdown()) {
+            // キュー満杯で取り残された QUEUED ジョブ・再開されたジョブを取り出す
+            try {
+                resumeUnfinishedJobs();
+            } catch (RuntimeException e) {
+                log.warn("Failed to look up queued employee purge jobs: {}", e.getMessage());
+            }
+        }
+    }
+
+    void run(Integer employeeId) {
+        if (jobMapper.findById(employeeId).isEmpty()) {
+            return;
+        }
+        try {
+            if (jobMapper.markRunning(employeeId, now()) == 0) {
+                return;
+            }
+            StampDeleteThrottle throttle =
+                new StampDeleteThrottle(minSleepMillis, maxSleepMillis, sleepRatio, maxLagBytes);
+            while (true) {
+                long started = System.nanoTime();
+                Integer deleted;
+                try {
+                    deleted = transactionTemplate.execute(status -> processNextChunk(employeeId));
+                } catch (DataIntegrityViolationException e) {
+                    deleted = transactionTemplate.execute(status -> retainEmployee(employeeId, e));
+                }
+                if (deleted == null) {
+                    return;
+                }
+                if (deleted == 0) {
+                    // 対象の行がなくなったフェーズの後は待機せずに次のフェーズへ進む
+                    continue;
+                }
+                long chunkMillis = (System.nanoTime() - started) / 1_000_000;
+                OptionalLong lag = measureReplayLag();
+                long sleepMillis = throttle.nextSleepMillis(chunkMillis, lag.orElse(-1L));
+                jobMapper.recordThrottle(employeeId, (int) sleepMillis, now());
+                if (!sleep(sleepMillis)) {
+                    // 停止中。RUNNING のまま残し、次回起動時に再開する
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Employee purge job for employee {} failed", employeeId, e);
+            jobMapper.finish(employeeId, EmployeePurgeJobStatus.FAILED.name(), false, failureMessage(e), now());
+        }
+    }
+
+    /**
+     * 次のチャンクを処理します（トランザクション内で呼び出されます）。
+     *
+     * @return 削除した件数、ジョブを終了した場合は null
+     */
+    private Integer processNextChunk(Integer employeeId) {
+        EmployeePurgeJob locked = jobMapper.lockForChunk(employeeId).orElse(null);
+        if (locked == null || !EmployeePurgeJobStatus.RUNNING.name().equals(locked.getStatus())) {
+            return null;
+        }
+        EmployeePurgePhase phase = EmployeePurgePhase.valueOf(locked.getPhase());
+        if (phase == EmployeePurgePhase.EMPLOYEE) {
+            int archived = purgeMapper.deleteArchivedRows(employeeId);
+            // 参照が残っている場合は DataIntegrityViolationException でロールバックされ、retainEmployee で完了する
+            purgeMapper.deleteEmployee(employeeId);
+            complete(employeeId, false);
+            log.info("Employee purge job for employee {} completed ({} archived rows)", employeeId, archived);
+            return null;
+        }
+
+        long started = System.nanoTime();
+        int deleted = switch (phase) {
+            case LOG_HISTORY -> purgeMapper.deleteLogHistoryChunk(employeeId, locked.getChunkSize());
+            case STAMP_REQUEST -> purgeMapper.deleteStampRequestChunk(employeeId, locked.getChunkSize());
+            case STAMP_HISTORY -> purgeMapper.deleteStampHistoryChunk(employeeId, locked.getChunkSize());
+            case EMPLOYEE -> throw new IllegalStateException("unreachable");
+        };
+        int chunkMillis = (int) ((System.nanoTime() - started) / 1_000_000);
+
+        // 削除件数がチャンクサイズ未満ならそのテーブルの行は残っていないため、次のフェーズへ進む
+        EmployeePurgePhase nextPhase = deleted < locked.getChunkSize() ? phase.next() : phase;
+        jobMapper.recordChunk(employeeId, phase.name(), nextPhase.name(), deleted, chunkMillis, now());
+        return deleted;
+    }
+
+    /**
+     * 従業員行を削除できなかった場合に、従業員行を論理削除のまま残してジョブを完了します
+     * （トランザクション内で呼び出されます）。
+     *
+     * @param cause 従業員行の削除で発生した例外
+     * @return 常に null（ジョブを終了する）
+     * @throws DataIntegrityViolationException 従業員行の削除フェーズ以外で発生した場合（ジョブは失敗する）
+     */
+    private Integer retainEmployee(Integer employeeId, DataIntegrityViolationException cause) {
+        EmployeePurgeJob locked = jobMapper.lockForChunk(employeeId).orElse(null);
+        if (locked == null || !EmployeePurgeJobStatus.RUNNING.name().equals(locked.getStatus())) {
+            return null;
+        }
+        if (!EmployeePurgePhase.EMPLOYEE.name().equals(locked.getPhase())) {
+            throw cause;
+        }
+        purgeMapper.deleteArchivedRows(employeeId);
+        complete(employeeId, true);
+        log.info("Employee purge job for employee {} completed; the soft-deleted employee row is retained "
+            + "because other rows still reference it: {}", employeeId, cause.getMostSpecificCause().getMessage());
+        return null;
+    }
+
+    private void complete(Integer employeeId, boolean employeeRetained) {
+        jobMapper.finish(employeeId, EmployeePurgeJobStatus.SUCCEEDED.name(), employeeRetained, null, now());
+        // 従業員の打刻履歴キャッシュを無効化（コミット後に反映）
+        eventPublisher.publishEvent(StampHistoryChangedEvent.forEmployee(employeeId));
+    }
+
+    private OptionalLong measureReplayLag() {
+        ReplicaLsnTracker tracker = replicaLsnTracker.getIfAvailable();
+        if (tracker == null) {
+            return OptionalLong.empty();
+        }
+        try {
+            return tracker.maxReplayLagBytes();
+        } catch (DataAccessException e) {
+            log.warn("Failed to measure replica replay lag: {}", e.getMessage());
+            return OptionalLong.empty();
+        }
+    }
+
+    /**
+     * 指定時間待機します。
+     *
+     * @return 待機を完了した場合 true、割り込まれた場合 false
+     */
+    boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static String failureMessage(RuntimeException e) {
+        String message = e.getMessage();
+        return message != null && message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+
+    private OffsetDateTime now() {
+        return OffsetDateTime.now(clock);
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
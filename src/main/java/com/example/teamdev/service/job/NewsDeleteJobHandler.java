@@ -0,0 +1,43 @@
+package com.example.teamdev.service.job;
+
+import com.example.teamdev.constant.BulkJobType;
+import com.example.teamdev.dto.api.news.BulkDeletionResult;
+import com.example.teamdev.dto.api.news.NewsBulkOperationResponse;
+import com.example.teamdev.service.NewsManageBatchService;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+
+/**
+ * お知らせの一括削除ジョブ。
+ */
+@Component
+public class NewsDeleteJobHandler implements BulkJobHandler {
+
+    private final NewsManageBatchService batchService;
+
+    public NewsDeleteJobHandler(NewsManageBatchService batchService) {
+        this.batchService = batchService;
+    }
+
+    @Override
+    public BulkJobType type() {
+        return BulkJobType.NEWS_DELETE;
+    }
+
+    @Override
+    public void validate(List<Integer> targetIds, Map<String, String> parameters) {
+        // 追加パラメータなし
+    }
+
+    @Override
+    public Set<Integer> process(List<Integer> targetIds, Map<String, String> parameters, Integer operatorId) {
+        BulkDeletionResult result = batchService.delete(targetIds, operatorId);
+        return result.results().stream()
+            .filter(NewsBulkOperationResponse.OperationResult::success)
+            .map(NewsBulkOperationResponse.OperationResult::id)
+            .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.teamdev.service.job;
+
+import com.example.teamdev.constant.BulkJobType;
+import com.example.teamdev.dto.api.news.BulkUpdateResult;
+import com.example.teamdev.dto.api.news.NewsBulkOperationResponse;
+import com.example.teamdev.dto.api.news.NewsBulkPublishRequest;
+import com.example.teamdev.service.NewsManageBatchService;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+
+/**
+ * お知らせの一括公開/非公開ジョブ。
+ */
+@Component
+public class NewsPublishJobHandler implements BulkJobHandler {
+
+    static final String RELEASE_FLAG = "releaseFlag";
+
+    private final NewsManageBatchService batchService;
+
+    public NewsPublishJobHandler(NewsManageBatchService batchService) {
+        this.batchService = batchService;
+    }
+
+    @Override
+    public BulkJobType type() {
+        return BulkJobType.NEWS_PUBLISH;
+    }
+
+    @Override
+    public void validate(List<Integer> targetIds, Map<String, String> parameters) {
+        String releaseFlag = parameters.get(RELEASE_FLAG);
+        if (!"true".equals(releaseFlag) && !"false".equals(releaseFlag)) {
+            throw new IllegalArgumentException("releaseFlag には true または false を指定してください");
+        }
+    }
+
+    @Override
+    public Set<Integer> process(List<Integer> targetIds, Map<String, String> parameters, Integer operatorId) {
+        boolean releaseFlag = Boolean.parseBoolean(parameters.get(RELEASE_FLAG));
+        List<NewsBulkPublishRequest.NewsPublishItem> items = targetIds.stream()
+            .map(id -> new NewsBulkPublishRequest.NewsPublishItem(id, releaseFlag))
+            .toList();
+        BulkUpdateResult result = batchService.publish(items, operatorId);
+        return result.results().stream()
+            .filter(NewsBulkOperationResponse.OperationResult::success)
+            .map(NewsBulkOperationResponse.OperationResult::id)
+            .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.teamdev.service.job;
+
+import com.example.teamdev.constant.BulkJobType;
+import com.example.teamdev.service.StampArchiveService;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.stereotype.Component;
+
+/**
+ * 退避した打刻記録・修正申請の年単位の復元ジョブ。
+ *
+ * <p>対象は {@code yyyy} 形式の整数（例: 2023）で、1年ずつ {@link StampArchiveService#restoreYear} で
+ * 稼働テーブルに戻します。退避されていない年は失敗として記録します。</p>
+ */
+@Component
+public class StampArchiveRestoreJobHandler implements BulkJobHandler {
+
+    private final StampArchiveService archiveService;
+
+    public StampArchiveRestoreJobHandler(StampArchiveService archiveService) {
+        this.archiveService = archiveService;
+    }
+
+    @Override
+    public BulkJobType type() {
+        return BulkJobType.STAMP_ARCHIVE_RESTORE;
+    }
+
+    @Override
+    public void validate(List<Integer> targetIds, Map<String, String> parameters) {
+        YearTargets.validate(targetIds);
+    }
+
+    @Override
+    public Set<Integer> process(List<Integer> targetIds, Map<String, String> parameters, Integer operatorId) {
+        Set<Integer> restored = new HashSet<>();
+        for (Integer year : targetIds) {
+            if (archiveService.restoreYear(year).isPresent()) {
+                restored.add(year);
+            }
+        }
+        return restored;
+    }
+}
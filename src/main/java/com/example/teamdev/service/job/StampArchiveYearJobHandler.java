@@ -0,0 +1,57 @@
+package com.example.teamdev.service.job;
+
+import com.example.teamdev.constant.BulkJobType;
+import com.example.teamdev.service.StampArchiveService;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 打刻記録・修正申請の年単位の退避ジョブ。
+ *
+ * <p>対象は {@code yyyy} 形式の整数（例: 2023）で、1年ずつ {@link StampArchiveService#archiveYear} で退避します。
+ * 未締めの月・承認待ちの申請がある年と、既に退避済みの年は失敗として記録します。</p>
+ */
+@Component
+public class StampArchiveYearJobHandler implements BulkJobHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(StampArchiveYearJobHandler.class);
+
+    private final StampArchiveService archiveService;
+
+    public StampArchiveYearJobHandler(StampArchiveService archiveService) {
+        this.archiveService = archiveService;
+    }
+
+    @Override
+    public BulkJobType type() {
+        return BulkJobType.STAMP_ARCHIVE_YEAR;
+    }
+
+    @Override
+    public void validate(List<Integer> targetIds, Map<String, String> parameters) {
+        YearTargets.validate(targetIds);
+    }
+
+    @Override
+    public Set<Integer> process(List<Integer> targetIds, Map<String, String> parameters, Integer operatorId) {
+        Set<Integer> archived = new HashSet<>();
+        for (Integer year : targetIds) {
+            // 退避処理内で例外を送出するとチャンク全体がロールバックされるため、先に振り分ける
+            try {
+                archiveService.verifyArchivable(year);
+            } catch (IllegalArgumentException e) {
+                log.warn("Stamp year {} skipped: {}", year, e.getMessage());
+                continue;
+            }
+            if (archiveService.archiveYear(year, operatorId).isPresent()) {
+                archived.add(year);
+            }
+        }
+        return archived;
+    }
+}
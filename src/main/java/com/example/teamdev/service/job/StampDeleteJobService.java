@@ -0,0 +1,198 @@
+package com.example.teamdev.service.job;
+
+import com.example.teamdev.constant.StampDeleteJobStatus;
+import com.example.teamdev.entity.StampDeleteJob;
+import com.example.teamdev.mapper.StampDeleteJobMapper;
+import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 打刻記録の範囲削除ジョブの投入・照会・一時停止・再開・取消を扱うサービス。
+ *
+ * <p>投入時に {@code stamp_delete_job} に登録してジョブを即時に返します。
+ * 実際の削除は {@link StampRangeDeleteRunner} がチャンク単位で行います。</p>
+ */
+@Service
+public class StampDeleteJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(StampDeleteJobService.class);
+
+    private final StampDeleteJobMapper mapper;
+    private final StampRangeDeleteRunner runner;
+    private final Clock clock;
+    private final int chunkSize;
+    private final int windowDays;
+
+    public StampDeleteJobService(
+        StampDeleteJobMapper mapper,
+        StampRangeDeleteRunner runner,
+        Clock clock,
+        @Value("${app.stamp-delete.chunk-size:1000}") int chunkSize,
+        @Value("${app.stamp-delete.window-days:7}") int windowDays
+    ) {
+        if (chunkSize < 1 || windowDays < 1) {
+            throw new IllegalArgumentException("app.stamp-delete.chunk-size and window-days must be positive");
+        }
+        this.mapper = mapper;
+        this.runner = runner;
+        this.clock = clock;
+        this.chunkSize = chunkSize;
+        this.windowDays = windowDays;
+    }
+
+    /**
+     * 年月範囲の打刻記録の削除ジョブを投入します。
+     * トランザクション内で呼び出した場合は、コミット後に実行を開始します。
+     *
+     * @param startMonth 開始年月（含む）
+     * @param endMonth 終了年月（含む）
+     * @param requesterId 依頼者の従業員ID
+     * @return 登録したジョブ（ステータスは QUEUED）
+     * @throws IllegalArgumentException 範囲が不正な場合
+     */
+    public StampDeleteJob submit(YearMonth startMonth, YearMonth endMonth, Integer requesterId) {
+        if (startMonth == null || endMonth == null || startMonth.isAfter(endMonth)) {
+            throw new IllegalArgumentException("削除範囲が不正です: " + startMonth + " - " + endMonth);
+        }
+        if (requesterId == null) {
+            throw new IllegalArgumentException("依頼者が指定されていません");
+        }
+
+        StampDeleteJob job = new StampDeleteJob();
+        job.setStatus(StampDeleteJobStatus.QUEUED.name());
+        job.setRequestedBy(requesterId);
+        job.setFromDate(startMonth.atDay(1));
+        job.setToDate(endMonth.plusMonths(1).atDay(1));
+        job.setChunkSize(chunkSize);
+        job.setWindowDays(windowDays);
+        job.setWindowStart(job.getFromDate());
+        job.setCursorId(0);
+        job.setDeletedCount(0);
+        job.setChunkCount(0);
+        job.setPauseRequested(false);
+        job.setCancelRequested(false);
+        mapper.insert(job);
+
+        log.info("Stamp delete job {} submitted by employee {}: {} - {}", job.getId(), requesterId, startMonth, endMonth);
+        dispatchAfterCommit(job.getId());
+        return job;
+    }
+
+    /**
+     * ジョブを取得します。
+     *
+     * @param id ジョブID
+     * @return 該当するジョブ、存在しない場合は{@code Optional.empty()}
+     */
+    public Optional<StampDeleteJob> findById(Long id) {
+        return mapper.findById(id);
+    }
+
+    /**
+     * 依頼者の直近のジョブを取得します。
+     *
+     * @param requesterId 依頼者の従業員ID
+     * @param limit 取得する最大件数
+     * @return ジョブのリスト（作成日時降順）
+     */
+    public List<StampDeleteJob> findRecent(Integer requesterId, int limit) {
+        return mapper.findRecentByRequester(requesterId, Math.max(1, Math.min(limit, 100)));
+    }
+
+    /**
+     * ジョブの一時停止を要求します。実行中のジョブは処理中のチャンクのコミット後に停止します。
+     *
+     * @param id ジョブID
+     * @return 一時停止要求後のジョブ、存在しない場合は{@code Optional.empty()}
+     * @throws IllegalStateException 待機中・実行中でない場合
+     */
+    public Optional<StampDeleteJob> pause(Long id) {
+        boolean requested = mapper.requestPause(id, now()) > 0;
+        Optional<StampDeleteJob> job = mapper.findById(id);
+        if (!requested && job.isPresent()) {
+            throw new IllegalStateException("待機中・実行中のジョブのみ一時停止できます");
+        }
+        return job;
+    }
+
+    /**
+     * 一時停止したジョブを最後にコミットしたチャンクの次から再開します。
+     *
+     * @param id ジョブID
+     * @return 再開後のジョブ、存在しない場合は{@code Optional.empty()}
+     * @throws IllegalStateException 一時停止中（または一時停止要求中）でない場合
+     */
+    public Optional<StampDeleteJob> resume(Long id) {
+        boolean resumed = mapper.resume(id, now()) > 0;
+        if (resumed) {
+            runner.dispatch(id);
+        }
+        Optional<StampDeleteJob> job = mapper.findById(id);
+        if (!resumed && job.isPresent()) {
+            throw new IllegalStateException("一時停止中のジョブのみ再開できます");
+        }
+        return job;
+    }
+
+    /**
+     * ジョブの取消を要求します。待機中・一時停止中のジョブは即時に、実行中のジョブは処理中のチャンクのコミット後に停止します。
+     * 削除済みの打刻記録は戻りません。
+     *
+     * @param id ジョブID
+     * @return 取消要求後のジョブ、存在しない場合は{@code Optional.empty()}
+     * @throws IllegalStateException 既に完了している場合
+     */
+    public Optional<StampDeleteJob> cancel(Long id) {
+        boolean requested = mapper.requestCancel(id, now()) > 0;
+        Optional<StampDeleteJob> job = mapper.findById(id);
+        if (!requested && job.isPresent()) {
+            throw new IllegalStateException("ジョブは既に完了しています");
+        }
+        return job;
+    }
+
+    /**
+     * 失敗したジョブを最後にコミットしたチャンクの次から再実行します。
+     *
+     * @param id ジョブID
+     * @return 再投入後のジョブ、存在しない場合は{@code Optional.empty()}
+     * @throws IllegalStateException 失敗状態でない場合
+     */
+    public Optional<StampDeleteJob> retry(Long id) {
+        boolean requeued = mapper.requeueFailed(id, now()) > 0;
+        if (requeued) {
+            runner.dispatch(id);
+        }
+        Optional<StampDeleteJob> job = mapper.findById(id);
+        if (!requeued && job.isPresent()) {
+            throw new IllegalStateException("失敗したジョブのみ再実行できます");
+        }
+        return job;
+    }
+
+    private void dispatchAfterCommit(Long jobId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    runner.dispatch(jobId);
+                }
+            });
+        } else {
+            runner.dispatch(jobId);
+        }
+    }
+
+    private OffsetDateTime now() {
+        return OffsetDateTime.now(clock);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.teamdev.service.job;
+
+/**
+ * 打刻記録の範囲削除でチャンク間に待機する時間を決める制御。
+ *
+ * <p>通常はチャンクの処理時間に比例して待機し（{@code sleepRatio} = 1.0 で削除に使う時間が全体の半分以下）、
+ * 他のトランザクションとの競合でチャンクが遅くなるほど間隔を空けます。
+ * レプリカの再生遅延が {@code maxLagBytes} を超えている間は、遅延が解消するまで待機時間を倍々に延ばします。
+ * 待機時間は常に {@code [minSleepMillis, maxSleepMillis]} に収めます。</p>
+ *
+ * <p>1ジョブの実行スレッド内でのみ使用するため、スレッドセーフではありません。</p>
+ */
+final class StampDeleteThrottle {
+
+    private final long minSleepMillis;
+    private final long maxSleepMillis;
+    private final double sleepRatio;
+    private final long maxLagBytes;
+
+    /** 直前の待機時間（再生遅延による延長の基準） */
+    private long lastSleepMillis;
+
+    StampDeleteThrottle(long minSleepMillis, long maxSleepMillis, double sleepRatio, long maxLagBytes) {
+        if (minSleepMillis < 0 || maxSleepMillis < minSleepMillis || sleepRatio < 0 || maxLagBytes < 0) {
+            throw new IllegalArgumentException("Invalid stamp-delete throttle settings");
+        }
+        this.minSleepMillis = minSleepMillis;
+        this.maxSleepMillis = maxSleepMillis;
+        this.sleepRatio = sleepRatio;
+        this.maxLagBytes = maxLagBytes;
+    }
+
+    /**
+     * 次のチャンクまでの待機時間を返します。
+     *
+     * @param chunkMillis 直前のチャンクの処理時間（コミットを含む）
+     * @param replayLagBytes レプリカの再生遅延（計測できない場合は負数）
+     * @return 待機時間（ミリ秒）
+     */
+    long nextSleepMillis(long chunkMillis, long replayLagBytes) {
+        long sleep;
+        if (replayLagBytes > maxLagBytes) {
+            sleep = Math.max(Math.max(lastSleepMillis * 2, minSleepMillis), 1L);
+        } else {
+            sleep = Math.round(Math.max(chunkMillis, 0L) * sleepRatio);
+        }
+        lastSleepMillis = Math.min(Math.max(sleep, minSleepMillis), maxSleepMillis);
+        return lastSleepMillis;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.teamdev.service.job;
+
+import com.example.teamdev.constant.BulkJobType;
+import com.example.teamdev.exception.ClosedMonthException;
+import com.example.teamdev.form.StampDeleteForm;
+import com.example.teamdev.service.StampDeleteService;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 年月単位の打刻記録削除ジョブ。
+ *
+ * <p>対象は {@code yyyyMM} 形式の整数（例: 202501）で、1か月ずつ
+ * {@link StampDeleteService#startRangeDeletion} で範囲削除ジョブを投入します
+ * （削除そのものは {@link StampRangeDeleteRunner} がこのジョブのコミット後にチャンク単位で行います）。</p>
+ */
+@Component
+public class StampMonthDeleteJobHandler implements BulkJobHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(StampMonthDeleteJobHandler.class);
+
+    private final StampDeleteService stampDeleteService;
+
+    public StampMonthDeleteJobHandler(StampDeleteService stampDeleteService) {
+        this.stampDeleteService = stampDeleteService;
+    }
+
+    @Override
+    public BulkJobType type() {
+        return BulkJobType.STAMP_MONTH_DELETE;
+    }
+
+    @Override
+    public void validate(List<Integer> targetIds, Map<String, String> parameters) {
+        YearMonthTargets.validate(targetIds);
+    }
+
+    @Override
+    public Set<Integer> process(List<Integer> targetIds, Map<String, String> parameters, Integer operatorId) {
+        Set<Integer> submitted = new HashSet<>();
+        for (Integer yearMonth : targetIds) {
+            String year = String.format("%04d", yearMonth / 100);
+            String month = String.format("%02d", yearMonth % 100);
+            try {
+                stampDeleteService.startRangeDeletion(
+                    new StampDeleteForm(year, month, year, month), operatorId);
+                submitted.add(yearMonth);
+            } catch (ClosedMonthException e) {
+                // 締め済みの月は投入せず、失敗として扱う
+                log.warn("Skipped stamp delete for {}: {}", yearMonth, e.getMessage());
+            }
+        }
+        return submitted;
+    }
+}
@@ -0,0 +1,364 @@
+package com.example.teamdev.service.job;
+
+import com.example.teamdev.config.ReplicaLsnTracker;
+import com.example.teamdev.constant.StampDeleteJobStatus;
+import com.example.teamdev.entity.StampDeleteChunk;
+import com.example.teamdev.entity.StampDeleteJob;
+import com.example.teamdev.mapper.StampDeleteJobMapper;
+import com.example.teamdev.mapper.StampDeleteMapper;
+import com.example.teamdev.mapper.StampHistoryPartitionMapper;
+import com.example.teamdev.service.AttendanceMonthCloseService;
+import com.example.teamdev.service.LogHistoryRegistrationService;
+import com.example.teamdev.service.event.StampHistoryChangedEvent;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 打刻記録の範囲削除ジョブの実行基盤。
+ *
+ * <ul>
+ *   <li>範囲を勤務日のウィンドウ（{@code window_days}、月をまたがない）に分け、ウィンドウ内を打刻記録ID順に
+ *       最大 {@code chunk_size} 件ずつ削除して、チャンクごとにカーソルと同じトランザクションでコミットします</li>
+ *   <li>月全体が範囲に含まれる場合は、その月のパーティションを切り離して削除します（1チャンクとして記録）。
+ *       親テーブルのロックを待ちきれない場合は、以降のウィンドウを通常のチャンク削除で処理します</li>
+ *   <li>チャンク間は {@link StampDeleteThrottle} が処理時間とレプリカの再生遅延から決めた時間だけ待機します</li>
+ *   <li>一時停止・取消要求はチャンクの開始時に確認します</li>
+ *   <li>締め済みの月は削除しません。投入後に締められた月に達した場合はジョブを失敗させます</li>
+ *   <li>起動時に未完了のジョブを、最後にコミットしたチャンクの次から再開します</li>
+ * </ul>
+ */
+@Component
+public class StampRangeDeleteRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(StampRangeDeleteRunner.class);
+
+    private final StampDeleteJobMapper jobMapper;
+    private final StampDeleteMapper deleteMapper;
+    private final StampHistoryPartitionMapper partitionMapper;
+    private final LogHistoryRegistrationService logHistoryService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AttendanceMonthCloseService monthCloseService;
+    private final ObjectProvider<ReplicaLsnTracker> replicaLsnTracker;
+    private final Clock clock;
+    private final TransactionTemplate transactionTemplate;
+    private final long minSleepMillis;
+    private final long maxSleepMillis;
+    private final double sleepRatio;
+    private final long maxLagBytes;
+    private final Duration staleAfter;
+    private final int partitionLockTimeoutMillis;
+    private final ThreadPoolExecutor executor;
+
+    /** 実行中またはキュー投入済みのジョブID（同一プロセス内での二重投入防止） */
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    public StampRangeDeleteRunner(
+        StampDeleteJobMapper jobMapper,
+        StampDeleteMapper deleteMapper,
+        StampHistoryPartitionMapper partitionMapper,
+        LogHistoryRegistrationService logHistoryService,
+        ApplicationEventPublisher eventPublisher,
+        AttendanceMonthCloseService monthCloseService,
+        ObjectProvider<ReplicaLsnTracker> replicaLsnTracker,
+        Clock clock,
+        PlatformTransactionManager transactionManager,
+        @Value("${app.stamp-delete.worker-threads:1}") int workerThreads,
+        @Value("${app.stamp-delete.min-sleep-millis:50}") long minSleepMillis,
+        @Value("${app.stamp-delete.max-sleep-millis:10000}") long maxSleepMillis,
+        @Value("${app.stamp-delete.sleep-ratio:1.0}") double sleepRatio,
+        @Value("${app.stamp-delete.max-replay-lag-bytes:16777216}") long maxLagBytes,
+        @Value("${app.stamp-delete.stale-after-seconds:300}") long staleAfterSeconds,
+        @Value("${app.stamp-delete.partition-lock-timeout-millis:2000}") int partitionLockTimeoutMillis
+    ) {
+        if (workerThreads < 1 || staleAfterSeconds < 1 || partitionLockTimeoutMillis < 1) {
+            throw new IllegalArgumentException("stamp-delete settings must be positive");
+        }
+        // 設定値の検証を兼ねる
+        new StampDeleteThrottle(minSleepMillis, maxSleepMillis, sleepRatio, maxLagBytes);
+        this.jobMapper = jobMapper;
+        this.deleteMapper = deleteMapper;
+        this.partitionMapper = partitionMapper;
+        this.logHistoryService = logHistoryService;
+        this.eventPublisher = eventPublisher;
+        this.monthCloseService = monthCloseService;
+        this.replicaLsnTracker = replicaLsnTracker;
+        this.clock = clock;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.minSleepMillis = minSleepMillis;
+        this.maxSleepMillis = maxSleepMillis;
+        this.sleepRatio = sleepRatio;
+        this.maxLagBytes = maxLagBytes;
+        this.staleAfter = Duration.ofSeconds(staleAfterSeconds);
+        this.partitionLockTimeoutMillis = partitionLockTimeoutMillis;
+        this.executor = new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(100), daemonThreads("stamp-delete-"));
+    }
+
+    /**
+     * ジョブをワーカープールに投入します。
+     * キューが満杯の場合は QUEUED のまま残し、実行中のジョブの完了後に再投入します。
+     *
+     * @param jobId ジョブID
+     */
+    public void dispatch(Long jobId) {
+        if (!inFlight.add(jobId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> runAndRelease(jobId));
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(jobId);
+            log.info("Stamp delete queue is full; job {} stays QUEUED", jobId);
+        }
+    }
+
+    /**
+     * 起動時に未完了のジョブ（QUEUED、および一定時間進捗のない RUNNING）を再開します。
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedJobs() {
+        List<Long> ids = jobMapper.findResumableIds(now().minus(staleAfter));
+        if (!ids.isEmpty()) {
+            log.info("Resuming {} unfinished stamp delete job(s)", ids.size());
+        }
+        ids.forEach(this::dispatch);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // 実行中のチャンクはコミットまたはロールバックされ、次回起動時に再開される
+        executor.shutdownNow();
+    }
+
+    private void runAndRelease(Long jobId) {
+        try {
+            run(jobId);
+        } finally {
+            inFlight.remove(jobId);
+        }
+        if (executor.getQueue().isEmpty() && !executor.isShutdown()) {
+            // キュー満杯で取り残された QUEUED ジョブ・再開されたジョブを取り出す
+            try {
+                resumeUnfinishedJobs();
+            } catch (RuntimeException e) {
+                log.warn("Failed to look up queued stamp delete jobs: {}", e.getMessage());
+            }
+        }
+    }
+
+    void run(Long jobId) {
+        StampDeleteJob job = jobMapper.findById(jobId).orElse(null);
+        if (job == null) {
+            return;
+        }
+        try {
+            Integer estimated = job.getEstimatedCount() == null
+                ? deleteMapper.countInRange(job.getFromDate(), job.getToDate())
+                : null;
+            if (jobMapper.markRunning(jobId, estimated, now()) == 0) {
+                return;
+            }
+            StampDeleteThrottle throttle =
+                new StampDeleteThrottle(minSleepMillis, maxSleepMillis, sleepRatio, maxLagBytes);
+            boolean dropPartitions = true;
+            while (true) {
+                long started = System.nanoTime();
+                Integer deleted;
+                try {
+                    boolean dropWholeMonths = dropPartitions;
+                    deleted = transactionTemplate.execute(status -> processNextChunk(job, dropWholeMonths));
+                } catch (CannotAcquireLockException e) {
+                    if (!dropPartitions) {
+                        throw e;
+                    }
+                    // 打刻の読み書きが続いている。親テーブルの排他ロックを取らず通常のチャンク削除で続ける
+                    log.warn("Stamp delete job {} could not lock stamp_history to drop a partition; "
+                        + "continuing with chunked deletes: {}", jobId, e.getMessage());
+                    dropPartitions = false;
+                    continue;
+                }
+                if (deleted == null) {
+                    return;
+                }
+                if (deleted == 0) {
+                    // 空のウィンドウは待機せずに次のウィンドウへ進む
+                    continue;
+                }
+                long chunkMillis = (System.nanoTime() - started) / 1_000_000;
+                OptionalLong lag = measureReplayLag();
+                long sleepMillis = throttle.nextSleepMillis(chunkMillis, lag.orElse(-1L));
+                jobMapper.recordThrottle(jobId, (int) sleepMillis, lag.isPresent() ? lag.getAsLong() : null, now());
+                if (!sleep(sleepMillis)) {
+                    // 停止中。RUNNING のまま残し、次回起動時に再開する
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Stamp delete job {} failed", jobId, e);
+            jobMapper.finish(jobId, StampDeleteJobStatus.FAILED.name(), failureMessage(e), now());
+        }
+    }
+
+    /**
+     * 次のチャンクを処理します（トランザクション内で呼び出されます）。
+     *
+     * @return 削除した件数、ジョブを終了・停止した場合は null
+     */
+    private Integer processNextChunk(StampDeleteJob job, boolean dropWholeMonths) {
+        StampDeleteJob locked = jobMapper.lockForChunk(job.getId()).orElse(null);
+        if (locked == null || !StampDeleteJobStatus.RUNNING.name().equals(locked.getStatus())) {
+            return null;
+        }
+        if (Boolean.TRUE.equals(locked.getCancelRequested())) {
+            jobMapper.finish(job.getId(), StampDeleteJobStatus.CANCELLED.name(), null, now());
+            log.info("Stamp delete job {} cancelled at {}", job.getId(), locked.getWindowStart());
+            return null;
+        }
+        if (Boolean.TRUE.equals(locked.getPauseRequested())) {
+            jobMapper.markPaused(job.getId(), now());
+            log.info("Stamp delete job {} paused at {} (id > {})",
+                job.getId(), locked.getWindowStart(), locked.getCursorId());
+            return null;
+        }
+        LocalDate windowStart = locked.getWindowStart();
+        if (!windowStart.isBefore(job.getToDate())) {
+            jobMapper.finish(job.getId(), StampDeleteJobStatus.SUCCEEDED.name(), null, now());
+            logHistoryService.execute(5, 4, null, null, job.getRequestedBy(), Timestamp.from(clock.instant()));
+            log.info("Stamp delete job {} completed: [{}, {})", job.getId(), job.getFromDate(), job.getToDate());
+            return null;
+        }
+
+        // 投入後に締められた月は削除せず、ジョブを失敗させる（ClosedMonthException）
+        monthCloseService.assertOpen(windowStart);
+
+        LocalDate nextMonth = windowStart.withDayOfMonth(1).plusMonths(1);
+        if (dropWholeMonths && windowStart.getDayOfMonth() == 1 && locked.getCursorId() == 0
+                && !nextMonth.isAfter(job.getToDate())) {
+            Integer dropped = dropMonthPartition(job, windowStart);
+            if (dropped != null) {
+                return dropped;
+            }
+        }
+
+        // ウィンドウは月をまたがない（月の先頭から始まるウィンドウはパーティションごと削除できる）
+        LocalDate windowEnd = windowStart.plusDays(job.getWindowDays());
+        if (windowEnd.isAfter(nextMonth)) {
+            windowEnd = nextMonth;
+        }
+        if (windowEnd.isAfter(job.getToDate())) {
+            windowEnd = job.getToDate();
+        }
+        long started = System.nanoTime();
+        StampDeleteChunk chunk = deleteMapper.deleteChunk(windowStart, windowEnd, locked.getCursorId(), job.getChunkSize());
+        int chunkMillis = (int) ((System.nanoTime() - started) / 1_000_000);
+
+        // 選択件数がチャンクサイズ未満ならウィンドウの終端に達したため、次のウィンドウの先頭から続ける
+        boolean windowDone = chunk.getSelectedCount() < job.getChunkSize() || chunk.getLastId() == null;
+        jobMapper.recordChunk(job.getId(),
+            windowDone ? windowEnd : windowStart,
+            windowDone ? 0 : chunk.getLastId(),
+            chunk.getDeletedCount(), chunkMillis, now());
+        if (chunk.getDeletedCount() > 0) {
+            // 全従業員の削除した期間の打刻履歴キャッシュを無効化（コミット後に反映）
+            eventPublisher.publishEvent(StampHistoryChangedEvent.forMonths(
+                YearMonth.from(chunk.getMinStampDate()), YearMonth.from(chunk.getMaxStampDate())));
+        }
+        return chunk.getDeletedCount();
+    }
+
+    /**
+     * 月のパーティションを切り離して削除し、カーソルを翌月の先頭に進めます。
+     *
+     * @return 削除した件数、その月のパーティションがない場合は null（通常のチャンク削除で処理する）
+     */
+    private Integer dropMonthPartition(StampDeleteJob job, LocalDate monthStart) {
+        long started = System.nanoTime();
+        Long dropped = partitionMapper.dropPartition(monthStart, partitionLockTimeoutMillis);
+        if (dropped == null) {
+            return null;
+        }
+        int chunkMillis = (int) ((System.nanoTime() - started) / 1_000_000);
+        int deleted = Math.toIntExact(dropped);
+        jobMapper.recordChunk(job.getId(), monthStart.plusMonths(1), 0, deleted, chunkMillis, now());
+        if (deleted > 0) {
+            YearMonth month = YearMonth.from(monthStart);
+            eventPublisher.publishEvent(StampHistoryChangedEvent.forMonths(month, month));
+        }
+        log.info("Stamp delete job {} dropped the stamp_history partition for {} ({} rows)",
+            job.getId(), YearMonth.from(monthStart), deleted);
+        return deleted;
+    }
+
+    private OptionalLong measureReplayLag() {
+        ReplicaLsnTracker tracker = replicaLsnTracker.getIfAvailable();
+        if (tracker == null) {
+            return OptionalLong.empty();
+        }
+        try {
+            return tracker.maxReplayLagBytes();
+        } catch (DataAccessException e) {
+            log.warn("Failed to measure replica replay lag: {}", e.getMessage());
+            return OptionalLong.empty();
+        }
+    }
+
+    /**
+     * 指定時間待機します。
+     *
+     * @return 待機を完了した場合 true、割り込まれた場合 false
+     */
+    boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static String failureMessage(RuntimeException e) {
+        String message = e.getMessage();
+        return message != null && message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+
+    private OffsetDateTime now() {
+        return OffsetDateTime.now(clock);
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
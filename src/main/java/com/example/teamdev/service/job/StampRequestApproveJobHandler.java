@@ -0,0 +1,41 @@
+package com.example.teamdev.service.job;
+
+import com.example.teamdev.constant.BulkJobType;
+import com.example.teamdev.service.StampRequestBulkApprovalEngine;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.stereotype.Component;
+
+/**
+ * 打刻修正リクエストの一括承認ジョブ。
+ */
+@Component
+public class StampRequestApproveJobHandler implements BulkJobHandler {
+
+    static final String APPROVAL_NOTE = "approvalNote";
+
+    private final StampRequestBulkApprovalEngine engine;
+
+    public StampRequestApproveJobHandler(StampRequestBulkApprovalEngine engine) {
+        this.engine = engine;
+    }
+
+    @Override
+    public BulkJobType type() {
+        return BulkJobType.STAMP_REQUEST_APPROVE;
+    }
+
+    @Override
+    public void validate(List<Integer> targetIds, Map<String, String> parameters) {
+        String approvalNote = parameters.get(APPROVAL_NOTE);
+        if (approvalNote != null && approvalNote.length() > 500) {
+            throw new IllegalArgumentException("承認ノートは500文字以内で入力してください");
+        }
+    }
+
+    @Override
+    public Set<Integer> process(List<Integer> targetIds, Map<String, String> parameters, Integer operatorId) {
+        return engine.approve(targetIds, operatorId, parameters.get(APPROVAL_NOTE));
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.teamdev.service.job;
+
+import com.example.teamdev.constant.BulkJobType;
+import com.example.teamdev.service.StampRequestStore;
+import java.time.YearMonth;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 最新申請の投影（{@code stamp_request_latest}）の整合性確認ジョブ。
+ *
+ * <p>対象は {@code yyyyMM} 形式の整数（例: 202501）で、1か月ずつ
+ * {@link StampRequestStore#repairLatestRequests} で {@code stamp_request} から再計算して差異を補正します。
+ * 差異があった月は警告ログに件数を出力します（補正できた月は成功として記録します）。</p>
+ */
+@Component
+public class StampRequestLatestVerifyJobHandler implements BulkJobHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(StampRequestLatestVerifyJobHandler.class);
+
+    private final StampRequestStore store;
+
+    public StampRequestLatestVerifyJobHandler(StampRequestStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public BulkJobType type() {
+        return BulkJobType.STAMP_REQUEST_LATEST_VERIFY;
+    }
+
+    @Override
+    public void validate(List<Integer> targetIds, Map<String, String> parameters) {
+        YearMonthTargets.validate(targetIds);
+    }
+
+    @Override
+    public Set<Integer> process(List<Integer> targetIds, Map<String, String> parameters, Integer operatorId) {
+        Set<Integer> verified = new HashSet<>();
+        for (Integer yearMonth : targetIds) {
+            YearMonth month = YearMonthTargets.toYearMonth(yearMonth);
+            int repaired = store.repairLatestRequests(month);
+            if (repaired > 0) {
+                log.warn("stamp_request_latest drift repaired for {}: {} rows", month, repaired);
+            }
+            verified.add(yearMonth);
+        }
+        return verified;
+    }
+}
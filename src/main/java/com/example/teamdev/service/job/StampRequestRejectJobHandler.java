@@ -0,0 +1,47 @@
+package com.example.teamdev.service.job;
+
+import com.example.teamdev.constant.BulkJobType;
+import com.example.teamdev.service.StampRequestBulkApprovalEngine;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.stereotype.Component;
+
+/**
+ * 打刻修正リクエストの一括却下ジョブ。
+ */
+@Component
+public class StampRequestRejectJobHandler implements BulkJobHandler {
+
+    static final String REJECTION_REASON = "rejectionReason";
+
+    private final StampRequestBulkApprovalEngine engine;
+
+    public StampRequestRejectJobHandler(StampRequestBulkApprovalEngine engine) {
+        this.engine = engine;
+    }
+
+    @Override
+    public BulkJobType type() {
+        return BulkJobType.STAMP_REQUEST_REJECT;
+    }
+
+    @Override
+    public void validate(List<Integer> targetIds, Map<String, String> parameters) {
+        String reason = parameters.get(REJECTION_REASON);
+        if (reason == null || reason.trim().isEmpty()) {
+            throw new IllegalArgumentException("却下理由は必須です");
+        }
+        if (reason.length() < 10) {
+            throw new IllegalArgumentException("却下理由は10文字以上で入力してください");
+        }
+        if (reason.length() > 500) {
+            throw new IllegalArgumentException("却下理由は500文字以内で入力してください");
+        }
+    }
+
+    @Override
+    public Set<Integer> process(List<Integer> targetIds, Map<String, String> parameters, Integer operatorId) {
+        return engine.reject(targetIds, operatorId, parameters.get(REJECTION_REASON));
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.teamdev.service.job;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * {@code yyyyMM} 形式の整数（例: 202501）で表した年月を対象とするジョブの共通処理。
+ */
+final class YearMonthTargets {
+
+    private YearMonthTargets() {
+    }
+
+    /**
+     * 対象がすべて {@code yyyyMM} 形式であることを検証します。
+     *
+     * @param targetIds 対象
+     * @throws IllegalArgumentException 不正な値が含まれる場合
+     */
+    static void validate(List<Integer> targetIds) {
+        for (Integer yearMonth : targetIds) {
+            int year = yearMonth / 100;
+            int month = yearMonth % 100;
+            if (year < 1000 || year > 9999 || month < 1 || month > 12) {
+                throw new IllegalArgumentException("対象年月はyyyyMM形式で指定してください: " + yearMonth);
+            }
+        }
+    }
+
+    /**
+     * {@code yyyyMM} 形式の整数を年月に変換します。
+     *
+     * @param yearMonth 検証済みの対象
+     * @return 年月
+     */
+    static YearMonth toYearMonth(int yearMonth) {
+        return YearMonth.of(yearMonth / 100, yearMonth % 100);
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.teamdev.service.job;
+
+import java.util.List;
+
+/**
+ * {@code yyyy} 形式の整数（例: 2023）で表した年を対象とするジョブの共通処理。
+ */
+final class YearTargets {
+
+    private YearTargets() {
+    }
+
+    /**
+     * 対象がすべて {@code yyyy} 形式であることを検証します。
+     *
+     * @param targetIds 対象
+     * @throws IllegalArgumentException 不正な値が含まれる場合
+     */
+    static void validate(List<Integer> targetIds) {
+        for (Integer year : targetIds) {
+            if (year < 1000 || year > 9999) {
+                throw new IllegalArgumentException("対象年はyyyy形式で指定してください: " + year);
+            }
+        }
+    }
+}
@@ -4,7 +4,9 @@ import com.example.teamdev.constant.AppConstants;
 import com.example.teamdev.entity.Employee;
 import com.example.teamdev.entity.MonthlyAttendanceStats;
 import com.example.teamdev.mapper.StampHistoryMapper;
+import com.example.teamdev.service.AttendanceMonthCloseService;
 import com.example.teamdev.service.EmployeeQueryService;
+import com.example.teamdev.service.event.StampHistoryChangedEvent;
 import com.example.teamdev.service.profile.model.ProfileActivityPage;
 import com.example.teamdev.service.profile.model.ProfileActivityQuery;
 import com.example.teamdev.service.profile.model.ProfileAggregate;
@@ -28,7 +30,10 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeMap;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 /**
@@ -44,6 +49,8 @@ public class ProfileAppService {
     private final ProfileActivityQueryService activityQueryService;
     private final ProfileAuditService auditService;
     private final StampHistoryMapper stampHistoryMapper;
+    private final AttendanceMonthCloseService monthCloseService;
+    private final ApplicationEventPublisher eventPublisher;
     private final Clock clock;
 
     public ProfileAppService(
@@ -52,6 +59,8 @@ public class ProfileAppService {
         ProfileActivityQueryService activityQueryService,
         ProfileAuditService auditService,
         StampHistoryMapper stampHistoryMapper,
+        AttendanceMonthCloseService monthCloseService,
+        ApplicationEventPublisher eventPublisher,
         Clock clock
     ) {
         this.employeeQueryService = employeeQueryService;
@@ -59,6 +68,8 @@ public class ProfileAppService {
         this.activityQueryService = activityQueryService;
         this.auditService = auditService;
         this.stampHistoryMapper = stampHistoryMapper;
+        this.monthCloseService = monthCloseService;
+        this.eventPublisher = eventPublisher;
         this.clock = clock;
     }
 
@@ -88,6 +99,8 @@ public class ProfileAppService {
         ProfileMetadataDocument updatedDocument = merge(before, command);
         Timestamp now = Timestamp.from(clock.instant());
         metadataRepository.save(targetEmployeeId, updatedDocument, now);
+        // 勤務スケジュールは未締め月の残業時間に反映されるため、打刻履歴キャッシュを無効化する
+        eventPublisher.publishEvent(StampHistoryChangedEvent.forEmployee(targetEmployeeId));
 
         ProfileMetadataDocument persistedDocument = metadataRepository.load(targetEmployeeId);
         ProfileChangeSet changeSet = computeChangeSet(before, persistedDocument);
@@ -114,6 +127,7 @@ public class ProfileAppService {
      * @param targetEmployeeId 対象従業員ID
      * @return 統計データ
      */
+    @Transactional(readOnly = true)
     public ProfileStatisticsData getProfileStatistics(int operatorId, int targetEmployeeId) {
         Employee operator = requireEmployee(operatorId);
         Employee target = requireEmployee(targetEmployeeId);
@@ -127,11 +141,30 @@ public class ProfileAppService {
         String endMonthStr = currentMonth.toString();
 
         // DBから月次統計を取得
-        List<MonthlyAttendanceStats> stats = stampHistoryMapper.findMonthlyStatistics(
+        List<MonthlyAttendanceStats> liveStats = stampHistoryMapper.findMonthlyStatistics(
             targetEmployeeId, startMonthStr, endMonthStr
         );
+        // 締め済みの月は締め時点のスナップショットの値で置き換える
+        List<MonthlyAttendanceStats> closedStats = monthCloseService.findClosedMonthlyStatistics(
+            targetEmployeeId, startMonth, currentMonth
+        );
+
+        return buildStatisticsData(mergeClosedMonths(liveStats, closedStats), currentMonth);
+    }
 
-        return buildStatisticsData(stats, currentMonth);
+    private List<MonthlyAttendanceStats> mergeClosedMonths(
+        List<MonthlyAttendanceStats> liveStats,
+        List<MonthlyAttendanceStats> closedStats
+    ) {
+        Map<String, MonthlyAttendanceStats> byMonth = new TreeMap<>();
+        for (MonthlyAttendanceStats s : liveStats) {
+            // 締め後に追加された打刻は締め済みの月の統計に含めない
+            if (!monthCloseService.isClosed(YearMonth.parse(s.getMonth()))) {
+                byMonth.put(s.getMonth(), s);
+            }
+        }
+        closedStats.forEach(s -> byMonth.put(s.getMonth(), s));
+        return List.copyOf(byMonth.values());
     }
 
     private ProfileStatisticsData buildStatisticsData(
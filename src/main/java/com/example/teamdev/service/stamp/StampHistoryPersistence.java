@@ -68,9 +68,6 @@ public class StampHistoryPersistence {
 
         // 基本情報の設定
         entity.setStampDate(data.getStampDate());
-        entity.setYear(data.getYear());
-        entity.setMonth(data.getMonth());
-        entity.setDay(data.getDay());
         entity.setEmployeeId(data.getEmployeeId());
 
         // 時刻情報の設定
@@ -107,7 +104,7 @@ public class StampHistoryPersistence {
             OffsetDateTime outTime, int updateEmployeeId) {
 
         // 既存エンティティの取得
-        Optional<StampHistory> optionalEntity = stampHistoryMapper.getById(data.getId());
+        Optional<StampHistory> optionalEntity = stampHistoryMapper.getById(data.getId(), data.getStampDate());
 
         if (optionalEntity.isEmpty()) {
             // エンティティが見つからない場合はログを出力して処理をスキップ
@@ -167,13 +164,14 @@ public class StampHistoryPersistence {
      * 打刻履歴の存在確認を行います。
      * 将来的な機能拡張用のメソッドです。
      *
-     * @param id 打刻履歴ID
+     * @param id        打刻履歴ID
+     * @param stampDate 打刻日付
      * @return 存在する場合true
      */
-    public boolean exists(Integer id) {
-        if (id == null) {
+    public boolean exists(Integer id, LocalDate stampDate) {
+        if (id == null || stampDate == null) {
             return false;
         }
-        return stampHistoryMapper.getById(id).isPresent();
+        return stampHistoryMapper.getById(id, stampDate).isPresent();
     }
 }
\ No newline at end of file
@@ -0,0 +1,101 @@
+package com.example.teamdev.service.stamp;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Iterator;
+import javax.sql.DataSource;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 打刻一括取り込みの行を PostgreSQL の {@code COPY ... FROM STDIN} で一時テーブルへ登録するリポジトリ。
+ *
+ * <p>行はイテレータから1件ずつ受け取り、一定サイズごとにドライバへ送るため、
+ * 入力の件数に関わらず保持するのは送信バッファ分だけです。
+ * 接続は {@link DataSourceUtils} で取得するため、一時テーブルを作成した呼び出し元のトランザクションに参加します。</p>
+ */
+@Repository
+public class StampImportCopyWriter {
+
+    private static final String COPY_SQL = "COPY stamp_import_staging ("
+        + "line_no, employee_id, stamp_date, in_time, out_time, break_start_time, break_end_time, is_night_shift"
+        + ") FROM STDIN WITH (FORMAT csv)";
+
+    /** ドライバへ送るバッファの目安サイズ（文字数） */
+    private static final int FLUSH_THRESHOLD = 64 * 1024;
+
+    private final DataSource dataSource;
+
+    public StampImportCopyWriter(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * 取り込み行を一時テーブルへ登録します。
+     *
+     * @param rows 登録する行
+     * @return 登録件数
+     */
+    public long copy(Iterator<StampImportRow> rows) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+            try {
+                StringBuilder buffer = new StringBuilder(FLUSH_THRESHOLD + 512);
+                while (rows.hasNext()) {
+                    appendCsv(buffer, rows.next());
+                    if (buffer.length() >= FLUSH_THRESHOLD) {
+                        write(copyIn, buffer);
+                    }
+                }
+                write(copyIn, buffer);
+                return copyIn.endCopy();
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Failed to copy stamp import rows", e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    /**
+     * 1行を CSV に符号化します。NULL は空欄で表します（値に区切り文字・引用符は含まれません）。
+     */
+    static void appendCsv(StringBuilder buffer, StampImportRow row) {
+        buffer.append(row.lineNumber()).append(',')
+            .append(row.employeeId()).append(',')
+            .append(row.stampDate()).append(',');
+        appendNullable(buffer, row.inTime());
+        appendNullable(buffer, row.outTime());
+        appendNullable(buffer, row.breakStartTime());
+        appendNullable(buffer, row.breakEndTime());
+        if (row.isNightShift() != null) {
+            buffer.append(row.isNightShift());
+        }
+        buffer.append('\n');
+    }
+
+    private static void appendNullable(StringBuilder buffer, Object value) {
+        if (value != null) {
+            buffer.append(value);
+        }
+        buffer.append(',');
+    }
+
+    private static void write(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.teamdev.service.stamp;
+
+import java.util.Locale;
+
+/**
+ * 打刻一括取り込みの入力形式。
+ */
+public enum StampImportFormat {
+
+    /** ヘッダー行付きの CSV（列: employeeId, year, month, day, inTime, outTime, breakStartTime, breakEndTime, isNightShift） */
+    CSV,
+    /** 1行に1つの JSON オブジェクト（キーは CSV の列名と同じ） */
+    NDJSON;
+
+    /**
+     * Content-Type またはファイル拡張子から入力形式を判定します。
+     *
+     * @param contentTypeOrFileName Content-Type またはファイル名
+     * @return 入力形式
+     * @throws IllegalArgumentException 判定できない場合
+     */
+    public static StampImportFormat detect(String contentTypeOrFileName) {
+        String value = contentTypeOrFileName != null ? contentTypeOrFileName.toLowerCase(Locale.ROOT) : "";
+        if (value.contains("ndjson") || value.contains("jsonl") || value.endsWith(".json")) {
+            return NDJSON;
+        }
+        if (value.contains("csv")) {
+            return CSV;
+        }
+        throw new IllegalArgumentException("取り込み形式を判定できません（text/csv または application/x-ndjson）: "
+            + contentTypeOrFileName);
+    }
+}
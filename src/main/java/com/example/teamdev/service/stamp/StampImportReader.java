@@ -0,0 +1,269 @@
+package com.example.teamdev.service.stamp;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvValidationException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.IntPredicate;
+
+/**
+ * 打刻一括取り込みの入力を1行ずつ読み込み、検証済みの行を返すイテレータ。
+ *
+ * <p>入力全体を保持せず、次の有効な行が要求されたときに必要な分だけ読み進めます。
+ * 検証に失敗した行は {@link RejectListener} に通知して読み飛ばします。
+ * 入力の読み込み自体に失敗した場合は {@link UncheckedIOException} を送出します。</p>
+ */
+public final class StampImportReader implements Iterator<StampImportRow> {
+
+    /** CSV の列（ヘッダー行で指定。順不同、未知の列は無視） */
+    public static final List<String> CSV_COLUMNS = List.of(
+        "employeeId", "year", "month", "day", "inTime", "outTime", "breakStartTime", "breakEndTime", "isNightShift");
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("employeeId", "year", "month", "day");
+
+    /**
+     * 取り込めない行の通知先。
+     */
+    @FunctionalInterface
+    public interface RejectListener {
+
+        /**
+         * @param lineNumber 行番号（1始まり）
+         * @param reason     理由
+         */
+        void reject(long lineNumber, String reason);
+    }
+
+    private final StampImportFormat format;
+    private final StampImportRowValidator validator;
+    private final ObjectMapper objectMapper;
+    private final IntPredicate employeeExists;
+    private final RejectListener rejectListener;
+
+    private final CSVReader csvReader;
+    private final BufferedReader lineReader;
+    private final String[] header;
+
+    private StampImportRow next;
+    private boolean finished;
+    private long lineNumber;
+    private long acceptedCount;
+    private LocalDate minStampDate;
+    private LocalDate maxStampDate;
+
+    public StampImportReader(
+            Reader reader,
+            StampImportFormat format,
+            StampImportRowValidator validator,
+            ObjectMapper objectMapper,
+            IntPredicate employeeExists,
+            RejectListener rejectListener) {
+        this.format = format;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.employeeExists = employeeExists;
+        this.rejectListener = rejectListener;
+        if (format == StampImportFormat.CSV) {
+            this.csvReader = new CSVReader(reader);
+            this.lineReader = null;
+            this.header = readHeader();
+        } else {
+            this.csvReader = null;
+            this.lineReader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+            this.header = null;
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (next == null && !finished) {
+            next = readNextValid();
+        }
+        return next != null;
+    }
+
+    @Override
+    public StampImportRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        StampImportRow row = next;
+        next = null;
+        return row;
+    }
+
+    /**
+     * @return これまでに読み込んだ最後の行番号
+     */
+    public long lineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * @return これまでに返した有効な行の件数
+     */
+    public long acceptedCount() {
+        return acceptedCount;
+    }
+
+    /**
+     * @return 有効な行の最も古い勤務日（なければ null）
+     */
+    public LocalDate minStampDate() {
+        return minStampDate;
+    }
+
+    /**
+     * @return 有効な行の最も新しい勤務日（なければ null）
+     */
+    public LocalDate maxStampDate() {
+        return maxStampDate;
+    }
+
+    /**
+     * 次の有効な行を読み込みます。入力の終端に達した場合、または行が無効な場合は null を返します。
+     */
+    private StampImportRow readNextValid() {
+        Map<String, Object> fields;
+        long currentLine;
+        try {
+            fields = format == StampImportFormat.CSV ? readCsvFields() : readJsonFields();
+            currentLine = lineNumber;
+        } catch (IllegalArgumentException e) {
+            rejectListener.reject(lineNumber, e.getMessage());
+            return null;
+        }
+        if (fields == null) {
+            finished = true;
+            return null;
+        }
+
+        StampImportRow row;
+        try {
+            row = validator.validate(currentLine, fields);
+        } catch (IllegalArgumentException e) {
+            rejectListener.reject(currentLine, e.getMessage());
+            return null;
+        }
+        if (!employeeExists.test(row.employeeId())) {
+            rejectListener.reject(currentLine, "Unknown employee ID: " + row.employeeId());
+            return null;
+        }
+
+        acceptedCount++;
+        if (minStampDate == null || row.stampDate().isBefore(minStampDate)) {
+            minStampDate = row.stampDate();
+        }
+        if (maxStampDate == null || row.stampDate().isAfter(maxStampDate)) {
+            maxStampDate = row.stampDate();
+        }
+        return row;
+    }
+
+    private String[] readHeader() {
+        String[] columns = readCsvRecord();
+        if (columns == null) {
+            throw new IllegalArgumentException("CSV header is missing");
+        }
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = columns[i].strip();
+        }
+        // 先頭列の BOM を除去
+        if (columns.length > 0 && columns[0].startsWith("\uFEFF")) {
+            columns[0] = columns[0].substring(1);
+        }
+        List<String> names = List.of(columns);
+        for (String required : REQUIRED_COLUMNS) {
+            if (!names.contains(required)) {
+                throw new IllegalArgumentException("CSV header must contain " + REQUIRED_COLUMNS + ": " + names);
+            }
+        }
+        return columns;
+    }
+
+    private Map<String, Object> readCsvFields() {
+        String[] values = readCsvRecord();
+        if (values == null) {
+            return null;
+        }
+        if (values.length != header.length) {
+            throw new IllegalArgumentException(
+                String.format("Expected %d columns but found %d", header.length, values.length));
+        }
+        Map<String, Object> fields = new HashMap<>(header.length * 2);
+        for (int i = 0; i < values.length; i++) {
+            String value = values[i].strip();
+            if (!value.isEmpty() && CSV_COLUMNS.contains(header[i])) {
+                fields.put(header[i], value);
+            }
+        }
+        return fields;
+    }
+
+    private String[] readCsvRecord() {
+        try {
+            String[] values = csvReader.readNext();
+            lineNumber = csvReader.getLinesRead();
+            // 空行は読み飛ばす
+            while (values != null && values.length == 1 && values[0].isBlank()) {
+                values = csvReader.readNext();
+                lineNumber = csvReader.getLinesRead();
+            }
+            return values;
+        } catch (CsvValidationException e) {
+            lineNumber = csvReader.getLinesRead();
+            throw new IllegalArgumentException("Malformed CSV record: " + e.getMessage(), e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Map<String, Object> readJsonFields() {
+        String line;
+        try {
+            do {
+                line = lineReader.readLine();
+                if (line == null) {
+                    return null;
+                }
+                lineNumber++;
+            } while (line.isBlank());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(line);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed JSON: " + e.getOriginalMessage(), e);
+        }
+        if (node == null || !node.isObject()) {
+            throw new IllegalArgumentException("Each line must be a JSON object");
+        }
+        Map<String, Object> fields = new HashMap<>(CSV_COLUMNS.size() * 2);
+        for (String column : CSV_COLUMNS) {
+            JsonNode value = node.get(column);
+            if (value == null || value.isNull()) {
+                continue;
+            }
+            if (value.isBoolean()) {
+                fields.put(column, value.booleanValue());
+            } else if (!value.asText().isEmpty()) {
+                fields.put(column, value.asText());
+            }
+        }
+        return fields;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.teamdev.service.stamp;
+
+import java.util.List;
+
+/**
+ * 打刻一括取り込みの結果。
+ *
+ * @param linesRead        読み込んだ行数（ヘッダー・空行を含む）
+ * @param staged           検証を通過して一時テーブルへ登録した行数
+ * @param inserted         新規に作成した打刻記録の件数
+ * @param updated          既存の打刻記録を更新した件数
+ * @param rejectedCount    取り込めなかった行数
+ * @param rejects          取り込めなかった行（先頭から最大 {@code app.stamp-import.max-reported-rejects} 件）
+ * @param rejectsTruncated 取り込めなかった行の一部を省略した場合は true
+ */
+public record StampImportResult(
+    long linesRead,
+    long staged,
+    long inserted,
+    long updated,
+    long rejectedCount,
+    List<Reject> rejects,
+    boolean rejectsTruncated
+) {
+
+    /**
+     * 取り込めなかった行。
+     *
+     * @param lineNumber 行番号（1始まり）
+     * @param reason     理由
+     */
+    public record Reject(long lineNumber, String reason) {
+    }
+}
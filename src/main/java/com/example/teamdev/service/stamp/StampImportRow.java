@@ -0,0 +1,28 @@
+package com.example.teamdev.service.stamp;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+/**
+ * 検証済みの取り込み行。
+ *
+ * @param lineNumber     入力の行番号（1始まり）
+ * @param employeeId     従業員ID
+ * @param stampDate      勤務日
+ * @param inTime         出勤時刻
+ * @param outTime        退勤時刻（{@link OutTimeAdjuster} で日またぎを調整済み）
+ * @param breakStartTime 休憩開始時刻
+ * @param breakEndTime   休憩終了時刻
+ * @param isNightShift   夜勤フラグ
+ */
+public record StampImportRow(
+    long lineNumber,
+    int employeeId,
+    LocalDate stampDate,
+    OffsetDateTime inTime,
+    OffsetDateTime outTime,
+    OffsetDateTime breakStartTime,
+    OffsetDateTime breakEndTime,
+    Boolean isNightShift
+) {
+}
@@ -0,0 +1,78 @@
+package com.example.teamdev.service.stamp;
+
+import com.example.teamdev.dto.StampEditData;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.ResolverStyle;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+/**
+ * 打刻一括取り込みの1行を検証・変換するコンポーネント。
+ *
+ * <p>打刻編集と同じ規則で検証します。項目の抽出は {@link StampFormDataExtractor}、
+ * 日をまたぐ退勤時刻の調整は {@link OutTimeAdjuster} に委譲し、時刻は JST（+09:00）として扱います。
+ * 取り込みは従業員・勤務日で既存の打刻記録を特定するため、勤務日（year/month/day）は必須です。</p>
+ */
+@Component
+public class StampImportRowValidator {
+
+    private static final ZoneOffset JST = ZoneOffset.ofHours(9);
+    private static final DateTimeFormatter TIME_FORMAT =
+        DateTimeFormatter.ofPattern("HH:mm").withResolverStyle(ResolverStyle.STRICT);
+
+    private final StampFormDataExtractor dataExtractor;
+    private final OutTimeAdjuster outTimeAdjuster;
+
+    public StampImportRowValidator(StampFormDataExtractor dataExtractor, OutTimeAdjuster outTimeAdjuster) {
+        this.dataExtractor = dataExtractor;
+        this.outTimeAdjuster = outTimeAdjuster;
+    }
+
+    /**
+     * 1行分の項目を検証して取り込み行に変換します。
+     *
+     * @param lineNumber 入力の行番号
+     * @param fields     列名と値（空欄の列は含めないこと）
+     * @return 取り込み行
+     * @throws IllegalArgumentException 検証に失敗した場合（メッセージが不備の理由）
+     */
+    public StampImportRow validate(long lineNumber, Map<String, Object> fields) {
+        StampEditData data = dataExtractor.extractFromMap(fields);
+        LocalDate stampDate = data.getStampDate();
+        if (stampDate == null) {
+            throw new IllegalArgumentException("year, month, day are required");
+        }
+
+        OffsetDateTime inTime = parseTime(stampDate, data.getInTime(), "inTime");
+        OffsetDateTime outTime = parseTime(stampDate, data.getOutTime(), "outTime");
+        OffsetDateTime breakStartTime = parseTime(stampDate, data.getBreakStartTime(), "breakStartTime");
+        OffsetDateTime breakEndTime = parseTime(stampDate, data.getBreakEndTime(), "breakEndTime");
+
+        return new StampImportRow(
+            lineNumber,
+            data.getEmployeeId(),
+            stampDate,
+            inTime,
+            outTimeAdjuster.adjustOutTimeIfNeeded(inTime, outTime),
+            breakStartTime,
+            breakEndTime,
+            data.getIsNightShift()
+        );
+    }
+
+    private static OffsetDateTime parseTime(LocalDate date, String time, String field) {
+        if (time == null || time.isEmpty()) {
+            return null;
+        }
+        try {
+            return date.atTime(LocalTime.parse(time, TIME_FORMAT)).atOffset(JST);
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException(String.format("Invalid %s (HH:mm): %s", field, time), e);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.teamdev.service.stamp;
+
+import com.example.teamdev.entity.StampImportMergeCounts;
+import com.example.teamdev.mapper.EmployeeMapper;
+import com.example.teamdev.mapper.StampArchiveMapper;
+import com.example.teamdev.mapper.StampHistoryMapper;
+import com.example.teamdev.service.AttendanceMonthCloseService;
+import com.example.teamdev.service.event.StampHistoryChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 打刻の一括取り込みサービス。
+ *
+ * <p>CSV / NDJSON の入力を1行ずつ検証しながら {@code COPY} で一時テーブルへ流し込み、
+ * 1文の {@code INSERT ... ON CONFLICT} で打刻記録へ反映します。入力全体は保持しないため、
+ * メモリ使用量は入力の件数ではなく従業員数と報告する不備行の上限で決まります。</p>
+ *
+ * <p>一時テーブルの作成から反映までは1トランザクションで行うため、途中で失敗した場合は何も反映されません。
+ * 検証に失敗した行は読み飛ばし、行番号と理由を結果に含めます。締め済みの月・退避済みの年の行は一時テーブルへの
+ * 登録後に反映対象から除き、同様に結果に含めます（{@code COPY} の実行中は同じ接続で問い合わせできないため）。
+ * 退避済みの年の行を反映しようとすると稼働テーブルのトリガーで取り込み全体が失敗するため、反映前に必ず除きます。</p>
+ */
+@Service
+public class StampImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(StampImportService.class);
+
+    private final StampImportRowValidator validator;
+    private final StampImportCopyWriter copyWriter;
+    private final StampHistoryMapper stampHistoryMapper;
+    private final StampArchiveMapper archiveMapper;
+    private final EmployeeMapper employeeMapper;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AttendanceMonthCloseService monthCloseService;
+    private final Clock clock;
+    private final int maxReportedRejects;
+
+    public StampImportService(
+        StampImportRowValidator validator,
+        StampImportCopyWriter copyWriter,
+        StampHistoryMapper stampHistoryMapper,
+        StampArchiveMapper archiveMapper,
+        EmployeeMapper employeeMapper,
+        ObjectMapper objectMapper,
+        ApplicationEventPublisher eventPublisher,
+        AttendanceMonthCloseService monthCloseService,
+        Clock clock,
+        @Value("${app.stamp-import.max-reported-rejects:1000}") int maxReportedRejects
+    ) {
+        if (maxReportedRejects < 0) {
+            throw new IllegalArgumentException("app.stamp-import.max-reported-rejects must not be negative");
+        }
+        this.validator = validator;
+        this.copyWriter = copyWriter;
+        this.stampHistoryMapper = stampHistoryMapper;
+        this.archiveMapper = archiveMapper;
+        this.employeeMapper = employeeMapper;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.monthCloseService = monthCloseService;
+        this.clock = clock;
+        this.maxReportedRejects = maxReportedRejects;
+    }
+
+    /**
+     * 打刻を一括で取り込みます。
+     *
+     * @param input      入力（UTF-8）。呼び出し元で閉じること
+     * @param format     入力形式
+     * @param operatorId 実行者の従業員ID（更新者として記録）
+     * @return 取り込み結果
+     * @throws IllegalArgumentException CSV のヘッダーが不正な場合
+     */
+    @Transactional
+    public StampImportResult importStamps(InputStream input, StampImportFormat format, int operatorId) {
+        Objects.requireNonNull(input, "input must not be null");
+        Objects.requireNonNull(format, "format must not be null");
+
+        Set<Integer> employeeIds = new HashSet<>(employeeMapper.getAllIds());
+        List<StampImportResult.Reject> rejects = new ArrayList<>();
+        long[] rejectedCount = {0L};
+        StampImportReader reader = new StampImportReader(
+            new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)),
+            format,
+            validator,
+            objectMapper,
+            employeeIds::contains,
+            (lineNumber, reason) -> {
+                rejectedCount[0]++;
+                if (rejects.size() < maxReportedRejects) {
+                    rejects.add(new StampImportResult.Reject(lineNumber, reason));
+                }
+            });
+
+        long started = System.nanoTime();
+        stampHistoryMapper.createImportStaging();
+        long staged = copyWriter.copy(reader);
+        long copied = System.nanoTime();
+        if (staged > 0) {
+            long excluded = excludeClosedMonths(rejects);
+            staged -= excluded;
+            rejectedCount[0] += excluded;
+        }
+
+        StampImportMergeCounts counts = staged == 0
+            ? new StampImportMergeCounts(0L, 0L)
+            : stampHistoryMapper.mergeImportStaging(operatorId, OffsetDateTime.now(clock));
+        if (staged > 0) {
+            // 取り込み対象の期間について全従業員の打刻履歴キャッシュを無効化（コミット後に反映）
+            eventPublisher.publishEvent(StampHistoryChangedEvent.forMonths(
+                YearMonth.from(reader.minStampDate()), YearMonth.from(reader.maxStampDate())));
+        }
+        log.info("Stamp import ({}) by employee {}: {} line(s), {} staged, {} inserted, {} updated, {} rejected "
+                + "(copy {} ms, merge {} ms)",
+            format, operatorId, reader.lineNumber(), staged, counts.getInserted(), counts.getUpdated(),
+            rejectedCount[0], (copied - started) / 1_000_000, (System.nanoTime() - copied) / 1_000_000);
+
+        rejects.sort(Comparator.comparingLong(StampImportResult.Reject::lineNumber));
+        return new StampImportResult(
+            reader.lineNumber(),
+            staged,
+            counts.getInserted(),
+            counts.getUpdated(),
+            rejectedCount[0],
+            List.copyOf(rejects),
+            rejectedCount[0] > rejects.size()
+        );
+    }
+
+    /**
+     * 締め済みの月の行を一時テーブルから除き、不備行として報告します。
+     * 未締めの月は反映のコミットまで締め処理を待たせます（{@link AttendanceMonthCloseService#lockOpenMonths}）。
+     *
+     * <p>退避済みの年はすべての月が締め済みのため、ここで除かれます。年の退避はすべての月の締めを前提とし、
+     * 未締めの月は反映のコミットまで締められないため、反映する行の年が途中で退避されることはありません。</p>
+     *
+     * @param rejects 報告する不備行（上限まで追加する）
+     * @return 除いた行数
+     */
+    private long excludeClosedMonths(List<StampImportResult.Reject> rejects) {
+        Set<YearMonth> closed = monthCloseService.lockOpenMonths(stampHistoryMapper.findImportStagingMonths());
+        if (closed.isEmpty()) {
+            return 0;
+        }
+        Set<Integer> archivedYears = new HashSet<>(archiveMapper.findArchivedYears(
+            closed.stream().map(YearMonth::getYear).collect(Collectors.toCollection(TreeSet::new))));
+        Map<Boolean, List<LocalDate>> byArchived = closed.stream()
+            .sorted()
+            .collect(Collectors.partitioningBy(
+                month -> archivedYears.contains(month.getYear()),
+                Collectors.mapping(month -> month.atDay(1), Collectors.toList())));
+
+        long excluded = 0;
+        excluded += exclude(byArchived.get(true), "Stamp date is in an archived year", rejects);
+        excluded += exclude(byArchived.get(false), "Stamp date is in a closed month", rejects);
+        return excluded;
+    }
+
+    private long exclude(List<LocalDate> targetMonths, String reason, List<StampImportResult.Reject> rejects) {
+        if (targetMonths.isEmpty()) {
+            return 0;
+        }
+        int limit = maxReportedRejects - rejects.size();
+        if (limit > 0) {
+            for (Long lineNumber : stampHistoryMapper.findImportStagingLinesInMonths(targetMonths, limit)) {
+                rejects.add(new StampImportResult.Reject(lineNumber, reason));
+            }
+        }
+        return stampHistoryMapper.deleteImportStagingInMonths(targetMonths);
+    }
+}
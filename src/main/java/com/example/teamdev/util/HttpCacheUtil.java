@@ -0,0 +1,35 @@
+package com.example.teamdev.util;
+
+import com.example.teamdev.service.dto.ResourceVersion;
+import org.springframework.http.CacheControl;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * 条件付きGET（ETag）のユーティリティ
+ */
+public final class HttpCacheUtil {
+
+    /** 認証ユーザー固有のレスポンスのため共有キャッシュには載せず、毎回再検証させる */
+    public static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private HttpCacheUtil() {
+    }
+
+    /**
+     * リクエストの If-None-Match を評価します。
+     * 未変更の場合はレスポンスが 304 Not Modified に設定され、ETag も付与されます。
+     *
+     * <p>最終更新日時は削除・非公開化では進まないため、If-Modified-Since は評価しません
+     * （ETag は件数とID合計を含むため、これらの変更でも変わります）。</p>
+     *
+     * @param request HTTPリクエスト
+     * @param version リソースバージョン（nullの場合は評価しない）
+     * @return 未変更で本体の生成が不要な場合 true
+     */
+    public static boolean isNotModified(WebRequest request, ResourceVersion version) {
+        if (version == null) {
+        	return false;
+        }
+        return request.checkNotModified(version.etag());
+    }
+}
@@ -2,24 +2,21 @@ package com.example.teamdev.util;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.slf4j.MDC;
-
-import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.time.format.DateTimeFormatter;
 
 /**
  * ログ出力のためのユーティリティクラス
  * 
  * 主な機能：
- * - 構造化ログの出力
+ * - 構造化ログの出力（{@link StructuredLog} による JSON 形式）
  * - セキュリティ関連ログの標準化
  * - パフォーマンス測定ログ
  * - エラーログの詳細出力
+ *
+ * 各メソッドはログレベルが無効な場合は何もしません。MDC は出力中のみ設定し、出力後は元の値に戻します。
  */
 public class LogUtil {
 
-    private static final String SECURITY_LOGGER = "com.example.teamdev.security";
+    private static final String SECURITY_LOGGER = "com.example.teamdev.security.events";
     private static final String PERFORMANCE_LOGGER = "com.example.teamdev.performance";
     private static final String BUSINESS_LOGGER = "com.example.teamdev.business";
     
@@ -34,8 +31,6 @@ public class LogUtil {
     public static final String LOG_LEVEL_WARN = "WARN";
     public static final String LOG_LEVEL_ERROR = "ERROR";
 
-    private static final ZoneId DEFAULT_ZONE = ZoneId.of("Asia/Tokyo");
-
     /**
      * セキュリティ関連のログを出力します
      * 
@@ -45,17 +40,13 @@ public class LogUtil {
      * @param details 詳細情報
      */
     public static void logSecurity(String action, Integer userId, String result, String details) {
-        try {
-            MDC.put("action", action);
-            MDC.put("userId", userId != null ? userId.toString() : "anonymous");
-            MDC.put("result", result);
-            MDC.put("timestamp", LocalDateTime.now(DEFAULT_ZONE).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
-            
-            securityLogger.info("Security Event - Action: {}, User: {}, Result: {}, Details: {}", 
-                action, userId, result, details);
-        } finally {
-            MDC.clear();
-        }
+        StructuredLog.info(securityLogger, "security")
+            .field("action", action)
+            .field("userId", userId)
+            .field("result", result)
+            .field("details", details)
+            .mdc("userId", userId != null ? userId.toString() : "anonymous")
+            .log();
     }
 
     /**
@@ -66,11 +57,15 @@ public class LogUtil {
      * @param ipAddress IPアドレス
      */
     public static void logAuthentication(String email, boolean success, String ipAddress) {
-        String result = success ? "SUCCESS" : "FAILURE";
-        String maskedEmail = maskEmail(email);
-        
-        logSecurity("AUTHENTICATION", null, result, 
-            String.format("Email: %s, IP: %s", maskedEmail, ipAddress));
+        if (!securityLogger.isInfoEnabled()) {
+            return;
+        }
+        StructuredLog.info(securityLogger, "security")
+            .field("action", "AUTHENTICATION")
+            .field("result", success ? "SUCCESS" : "FAILURE")
+            .field("email", maskEmail(email))
+            .field("ip", ipAddress)
+            .log();
     }
 
     /**
@@ -81,35 +76,30 @@ public class LogUtil {
      * @param success 認可成功フラグ
      */
     public static void logAuthorization(Integer userId, String resource, boolean success) {
-        String result = success ? "GRANTED" : "DENIED";
-        
-        logSecurity("AUTHORIZATION", userId, result, 
-            String.format("Resource: %s", resource));
+        StructuredLog.info(securityLogger, "security")
+            .field("action", "AUTHORIZATION")
+            .field("userId", userId)
+            .field("result", success ? "GRANTED" : "DENIED")
+            .field("resource", resource)
+            .mdc("userId", userId != null ? userId.toString() : "anonymous")
+            .log();
     }
 
     /**
-     * パフォーマンス測定ログを出力します
+     * パフォーマンス測定ログを出力します（1秒を超える場合は WARN）
      * 
      * @param methodName メソッド名
      * @param executionTimeMs 実行時間（ミリ秒）
      * @param parameters パラメータ情報
      */
     public static void logPerformance(String methodName, long executionTimeMs, String parameters) {
-        try {
-            MDC.put("method", methodName);
-            MDC.put("executionTime", String.valueOf(executionTimeMs));
-            MDC.put("timestamp", LocalDateTime.now(DEFAULT_ZONE).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
-            
-            if (executionTimeMs > 1000) {
-                performanceLogger.warn("Slow execution - Method: {}, Time: {}ms, Params: {}", 
-                    methodName, executionTimeMs, parameters);
-            } else {
-                performanceLogger.info("Performance - Method: {}, Time: {}ms, Params: {}", 
-                    methodName, executionTimeMs, parameters);
-            }
-        } finally {
-            MDC.clear();
-        }
+        StructuredLog.Event event = executionTimeMs > 1000
+            ? StructuredLog.warn(performanceLogger, "slow_execution")
+            : StructuredLog.info(performanceLogger, "performance");
+        event.field("method", methodName)
+            .field("executionTimeMs", executionTimeMs)
+            .field("params", parameters)
+            .log();
     }
 
     /**
@@ -123,19 +113,14 @@ public class LogUtil {
      */
     public static void logBusiness(String operation, Integer userId, String entityType, 
                                  String entityId, String result) {
-        try {
-            MDC.put("operation", operation);
-            MDC.put("userId", userId != null ? userId.toString() : "system");
-            MDC.put("entityType", entityType);
-            MDC.put("entityId", entityId);
-            MDC.put("result", result);
-            MDC.put("timestamp", LocalDateTime.now(DEFAULT_ZONE).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
-            
-            businessLogger.info("Business Operation - Op: {}, User: {}, Entity: {}({}), Result: {}", 
-                operation, userId, entityType, entityId, result);
-        } finally {
-            MDC.clear();
-        }
+        StructuredLog.info(businessLogger, "business")
+            .field("operation", operation)
+            .field("userId", userId)
+            .field("entityType", entityType)
+            .field("entityId", entityId)
+            .field("result", result)
+            .mdc("userId", userId != null ? userId.toString() : "system")
+            .log();
     }
 
     /**
@@ -149,21 +134,12 @@ public class LogUtil {
      */
     public static void logError(Logger logger, String message, Throwable exception, 
                                Integer userId, String context) {
-        try {
-            MDC.put("userId", userId != null ? userId.toString() : "unknown");
-            MDC.put("context", context != null ? context : "");
-            MDC.put("timestamp", LocalDateTime.now(DEFAULT_ZONE).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
-            
-            if (exception != null) {
-                logger.error("Error occurred - Message: {}, Context: {}, User: {}", 
-                    message, context, userId, exception);
-            } else {
-                logger.error("Error occurred - Message: {}, Context: {}, User: {}", 
-                    message, context, userId);
-            }
-        } finally {
-            MDC.clear();
-        }
+        StructuredLog.error(logger, "error")
+            .field("message", message)
+            .field("context", context)
+            .field("userId", userId)
+            .mdc("userId", userId != null ? userId.toString() : "unknown")
+            .log(exception);
     }
 
     /**
@@ -173,15 +149,10 @@ public class LogUtil {
      * @param version アプリケーションバージョン
      */
     public static void logApplicationEvent(String event, String version) {
-        try {
-            MDC.put("event", event);
-            MDC.put("version", version != null ? version : "unknown");
-            MDC.put("timestamp", LocalDateTime.now(DEFAULT_ZONE).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
-            
-            businessLogger.info("Application Event - {}, Version: {}", event, version);
-        } finally {
-            MDC.clear();
-        }
+        StructuredLog.info(businessLogger, "application")
+            .field("lifecycle", event)
+            .field("version", version != null ? version : "unknown")
+            .log();
     }
 
     /**
@@ -209,26 +180,4 @@ public class LogUtil {
             return localPart.substring(0, 2) + "*".repeat(localPart.length() - 2) + domain;
         }
     }
-
-    /**
-     * パフォーマンス測定を開始します
-     * 
-     * @return 開始時刻（ナノ秒）
-     */
-    public static long startPerformanceMeasurement() {
-        return System.nanoTime();
-    }
-
-    /**
-     * パフォーマンス測定を終了し、ログを出力します
-     * 
-     * @param startTime 開始時刻（ナノ秒）
-     * @param methodName メソッド名
-     * @param parameters パラメータ情報
-     */
-    public static void endPerformanceMeasurement(long startTime, String methodName, String parameters) {
-        long endTime = System.nanoTime();
-        long executionTimeMs = (endTime - startTime) / 1_000_000;
-        logPerformance(methodName, executionTimeMs, parameters);
-    }
 }
@@ -0,0 +1,237 @@
+package com.example.teamdev.util;
+
+import org.slf4j.Logger;
+import org.slf4j.MDC;
+import org.slf4j.event.Level;
+
+/**
+ * キー・値形式の構造化ログを JSON で出力するための API。
+ *
+ * <p>使用例:</p>
+ * <pre>{@code
+ * StructuredLog.info(logger, "business")
+ *     .field("operation", "LOGIN")
+ *     .field("userId", employeeId)
+ *     .log();
+ * }</pre>
+ *
+ * <ul>
+ *   <li>最初にログレベルを判定し、無効な場合は何もしないイベントを返す（割り当てなし）</li>
+ *   <li>JSON はスレッドごとに再利用する {@link StringBuilder} に直接書き込み、出力時に1回だけ文字列化する</li>
+ *   <li>{@link Event#mdc} で設定した MDC は出力後に元の値へ戻す（他の MDC は変更しない）</li>
+ * </ul>
+ *
+ * <p>メッセージは {@code {"event":"business","operation":"LOGIN",...}} 形式の JSON オブジェクトです。
+ * イベントは {@link Event#log()} を呼び出すまで同じスレッドで使い、保持しないでください。</p>
+ */
+public final class StructuredLog {
+
+    /** 再利用するバッファの上限（これを超えたバッファは破棄する） */
+    private static final int MAX_RETAINED_CAPACITY = 4096;
+    private static final int MAX_MDC_ENTRIES = 4;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private static final ThreadLocal<Event> EVENTS = ThreadLocal.withInitial(Event::new);
+    private static final Event DISABLED = new Event(false);
+
+    private StructuredLog() {
+    }
+
+    public static Event info(Logger logger, String event) {
+        return logger.isInfoEnabled() ? start(logger, Level.INFO, event) : DISABLED;
+    }
+
+    public static Event warn(Logger logger, String event) {
+        return logger.isWarnEnabled() ? start(logger, Level.WARN, event) : DISABLED;
+    }
+
+    public static Event error(Logger logger, String event) {
+        return logger.isErrorEnabled() ? start(logger, Level.ERROR, event) : DISABLED;
+    }
+
+    private static Event start(Logger logger, Level level, String name) {
+        Event event = EVENTS.get();
+        if (event.inUse) {
+            // 値の toString() などからの再入時は別のイベントを使う
+            event = new Event();
+        }
+        return event.begin(logger, level, name);
+    }
+
+    /**
+     * 構築中のログイベント。
+     */
+    public static final class Event {
+
+        private final boolean enabled;
+        private StringBuilder json;
+        private Logger logger;
+        private Level level;
+        private boolean inUse;
+        private final String[] mdcKeys;
+        private final String[] mdcValues;
+        private final String[] mdcPrevious;
+        private int mdcCount;
+
+        private Event() {
+            this(true);
+        }
+
+        private Event(boolean enabled) {
+            this.enabled = enabled;
+            this.json = enabled ? new StringBuilder(256) : null;
+            this.mdcKeys = enabled ? new String[MAX_MDC_ENTRIES] : null;
+            this.mdcValues = enabled ? new String[MAX_MDC_ENTRIES] : null;
+            this.mdcPrevious = enabled ? new String[MAX_MDC_ENTRIES] : null;
+        }
+
+        private Event begin(Logger logger, Level level, String name) {
+            this.logger = logger;
+            this.level = level;
+            this.inUse = true;
+            json.append('{');
+            appendKey("event");
+            appendString(name);
+            return this;
+        }
+
+        public Event field(String key, String value) {
+            if (enabled) {
+                appendKey(key);
+                appendString(value);
+            }
+            return this;
+        }
+
+        public Event field(String key, long value) {
+            if (enabled) {
+                appendKey(key);
+                json.append(value);
+            }
+            return this;
+        }
+
+        public Event field(String key, boolean value) {
+            if (enabled) {
+                appendKey(key);
+                json.append(value);
+            }
+            return this;
+        }
+
+        /**
+         * 値を出力します。数値・真偽値はそのまま、null は {@code null}、それ以外は {@code toString()} の文字列として出力します。
+         */
+        public Event field(String key, Object value) {
+            if (!enabled) {
+                return this;
+            }
+            appendKey(key);
+            if (value == null) {
+                json.append("null");
+            } else if (value instanceof Number || value instanceof Boolean) {
+                json.append(value);
+            } else {
+                appendString(value.toString());
+            }
+            return this;
+        }
+
+        /**
+         * 出力時だけ MDC に値を設定します。出力後は元の値に戻します。
+         */
+        public Event mdc(String key, String value) {
+            if (enabled && mdcCount < MAX_MDC_ENTRIES) {
+                mdcKeys[mdcCount] = key;
+                mdcValues[mdcCount] = value;
+                mdcCount++;
+            }
+            return this;
+        }
+
+        public void log() {
+            log(null);
+        }
+
+        public void log(Throwable cause) {
+            if (!enabled) {
+                return;
+            }
+            int applied = 0;
+            try {
+                String message = json.append('}').toString();
+                for (int i = 0; i < mdcCount; i++) {
+                    mdcPrevious[i] = MDC.get(mdcKeys[i]);
+                    MDC.put(mdcKeys[i], mdcValues[i]);
+                    applied++;
+                }
+                switch (level) {
+                    case ERROR -> logger.error(message, cause);
+                    case WARN -> logger.warn(message, cause);
+                    default -> logger.info(message, cause);
+                }
+            } finally {
+                // 後から設定した順の逆に戻す（同じキーを複数回指定しても元の値に戻る）
+                for (int i = applied - 1; i >= 0; i--) {
+                    if (mdcPrevious[i] == null) {
+                        MDC.remove(mdcKeys[i]);
+                    } else {
+                        MDC.put(mdcKeys[i], mdcPrevious[i]);
+                    }
+                }
+                reset();
+            }
+        }
+
+        private void reset() {
+            if (json.capacity() > MAX_RETAINED_CAPACITY) {
+                json = new StringBuilder(256);
+            } else {
+                json.setLength(0);
+            }
+            for (int i = 0; i < mdcCount; i++) {
+                mdcKeys[i] = null;
+                mdcValues[i] = null;
+                mdcPrevious[i] = null;
+            }
+            mdcCount = 0;
+            logger = null;
+            level = null;
+            inUse = false;
+        }
+
+        private void appendKey(String key) {
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            appendString(key);
+            json.append(':');
+        }
+
+        private void appendString(String value) {
+            if (value == null) {
+                json.append("null");
+                return;
+            }
+            json.append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '"' -> json.append("\\\"");
+                    case '\\' -> json.append("\\\\");
+                    case '\n' -> json.append("\\n");
+                    case '\r' -> json.append("\\r");
+                    case '\t' -> json.append("\\t");
+                    default -> {
+                        if (c < 0x20) {
+                            json.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                        } else {
+                            json.append(c);
+                        }
+                    }
+                }
+            }
+            json.append('"');
+        }
+    }
+}
@@ -0,0 +1,38 @@
+-- V11: Create bulk_job table for asynchronous bulk operations
+-- 一括承認/却下・お知らせ一括操作・月単位の打刻削除をジョブとして非同期実行し、進捗を永続化する
+
+CREATE TABLE bulk_job (
+    id BIGSERIAL PRIMARY KEY,
+
+    -- Job definition
+    job_type VARCHAR(40) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'QUEUED'
+        CHECK (status IN ('QUEUED', 'RUNNING', 'SUCCEEDED', 'FAILED', 'CANCELLED')),
+    requested_by INTEGER NOT NULL REFERENCES employee(id),
+    target_ids INTEGER[] NOT NULL,
+    parameters JSONB NOT NULL DEFAULT '{}'::jsonb,
+    chunk_size INTEGER NOT NULL CHECK (chunk_size > 0),
+
+    -- Progress (next_offset は最後にコミットしたチャンクの次の位置。再起動時はここから再開する)
+    total_count INTEGER NOT NULL,
+    next_offset INTEGER NOT NULL DEFAULT 0,
+    success_count INTEGER NOT NULL DEFAULT 0,
+    failure_count INTEGER NOT NULL DEFAULT 0,
+    failed_ids INTEGER[] NOT NULL DEFAULT '{}',
+    error_message TEXT,
+    cancel_requested BOOLEAN NOT NULL DEFAULT FALSE,
+
+    -- Timestamps
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    started_at TIMESTAMP WITH TIME ZONE,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    finished_at TIMESTAMP WITH TIME ZONE
+);
+
+COMMENT ON TABLE bulk_job IS 'Asynchronous bulk jobs with chunk-level progress, partial results and cancellation';
+
+-- 起動時の再開対象（未完了ジョブ）の検索用
+CREATE INDEX idx_bulk_job_unfinished ON bulk_job(updated_at) WHERE status IN ('QUEUED', 'RUNNING');
+
+-- 依頼者ごとの直近ジョブ一覧用
+CREATE INDEX idx_bulk_job_requested_by_created ON bulk_job(requested_by, created_at DESC);
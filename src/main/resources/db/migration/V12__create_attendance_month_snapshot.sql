@@ -0,0 +1,57 @@
+-- V12: Create attendance month-close tables
+-- 締め済み月の勤怠を日次の計算結果ごと凍結し、給与計算・CSV出力・月次表示・統計の参照元とする
+
+CREATE TABLE attendance_month_close (
+    -- 対象月（月初日）
+    target_month DATE PRIMARY KEY CHECK (target_month = date_trunc('month', target_month)::date),
+    employee_count INTEGER NOT NULL DEFAULT 0,
+    row_count INTEGER NOT NULL DEFAULT 0,
+    closed_by INTEGER REFERENCES employee(id) ON DELETE SET NULL,
+    closed_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE attendance_month_close IS 'Closed months; a row exists only after the snapshot of the month has been committed';
+
+CREATE TABLE attendance_month_snapshot (
+    target_month DATE NOT NULL REFERENCES attendance_month_close(target_month),
+    employee_id INTEGER NOT NULL,
+    stamp_date DATE NOT NULL,
+
+    -- 締め時点の打刻（従業員・打刻記録が後から削除されても残すため外部キーは張らない）
+    stamp_history_id INTEGER,
+    in_time TIMESTAMP WITH TIME ZONE,
+    out_time TIMESTAMP WITH TIME ZONE,
+    break_start_time TIMESTAMP WITH TIME ZONE,
+    break_end_time TIMESTAMP WITH TIME ZONE,
+    is_night_shift BOOLEAN,
+    update_employee_id INTEGER,
+    update_date TIMESTAMP WITH TIME ZONE,
+
+    -- 締め時点の勤務スケジュールで計算した日次の値（分）
+    worked_minutes INTEGER NOT NULL CHECK (worked_minutes >= 0),
+    overtime_minutes INTEGER NOT NULL CHECK (overtime_minutes >= 0),
+    night_minutes INTEGER NOT NULL CHECK (night_minutes >= 0),
+    late_minutes INTEGER NOT NULL CHECK (late_minutes >= 0),
+
+    PRIMARY KEY (employee_id, stamp_date),
+    CHECK (stamp_date >= target_month AND stamp_date < target_month + INTERVAL '1 month')
+);
+
+COMMENT ON TABLE attendance_month_snapshot IS 'Immutable per-day attendance values of closed months';
+
+-- 月単位の読み出し（CSV出力・統計）用
+CREATE INDEX idx_attendance_month_snapshot_month_employee
+    ON attendance_month_snapshot(target_month, employee_id, stamp_date);
+
+-- 締め済みデータの変更を禁止する
+CREATE OR REPLACE FUNCTION reject_attendance_month_snapshot_change()
+RETURNS TRIGGER AS $$
+BEGIN
+    RAISE EXCEPTION 'attendance_month_snapshot is immutable';
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_attendance_month_snapshot_immutable
+    BEFORE UPDATE OR DELETE ON attendance_month_snapshot
+    FOR EACH ROW
+    EXECUTE FUNCTION reject_attendance_month_snapshot_change();
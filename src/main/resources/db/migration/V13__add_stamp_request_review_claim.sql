@@ -0,0 +1,29 @@
+-- V13: Add review leases to stamp_request
+-- 複数の管理者が承認キューを分担できるよう、PENDING の申請をレビュー担当者に期限付きで割り当てる
+
+ALTER TABLE stamp_request
+    ADD COLUMN claimed_by INTEGER REFERENCES employee(id) ON DELETE SET NULL,
+    ADD COLUMN claim_expires_at TIMESTAMP WITH TIME ZONE;
+
+COMMENT ON COLUMN stamp_request.claimed_by IS 'Reviewer holding the lease; the lease is void once claim_expires_at has passed';
+COMMENT ON COLUMN stamp_request.claim_expires_at IS 'Lease expiry of claimed_by';
+
+-- 承認キュー（PENDING の古い順）の取得・割り当て用
+CREATE INDEX idx_stamp_request_pending_queue
+    ON stamp_request(created_at, id)
+    WHERE status = 'PENDING';
+
+-- リースの取得・延長・解放だけの更新では updated_at を変更しない
+-- （updated_at を指定しない UPDATE で、ステータスが変わらずリースだけが変わった場合）
+CREATE OR REPLACE FUNCTION update_stamp_request_updated_at()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF NEW.updated_at IS NOT DISTINCT FROM OLD.updated_at
+        AND NEW.status = OLD.status
+        AND (NEW.claimed_by, NEW.claim_expires_at) IS DISTINCT FROM (OLD.claimed_by, OLD.claim_expires_at) THEN
+        RETURN NEW;
+    END IF;
+    NEW.updated_at = clock_timestamp();
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,25 @@
+-- V14: Create stamp_request_latest projection
+-- 勤怠履歴の月次取得・CSV出力で日ごとに実行していた最新申請の LATERAL サブクエリを、
+-- (employee_id, stamp_date) ごとの最新申請を保持する投影テーブルとのハッシュ結合に置き換える
+
+CREATE TABLE stamp_request_latest (
+    employee_id INTEGER NOT NULL,
+    stamp_date DATE NOT NULL,
+    request_id INTEGER NOT NULL REFERENCES stamp_request(id) ON DELETE CASCADE,
+    request_status stamp_request_status NOT NULL,
+    -- 同時に作成された申請で古い申請が新しい申請を上書きしないための比較用
+    request_created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (employee_id, stamp_date)
+);
+
+COMMENT ON TABLE stamp_request_latest IS
+'Latest stamp_request (created_at DESC, id DESC) per employee and date. Maintained by StampRequestStore and the bulk approval engine; verified by the STAMP_REQUEST_LATEST_VERIFY job';
+
+CREATE INDEX idx_stamp_request_latest_request ON stamp_request_latest(request_id);
+
+-- 既存の申請から初期化
+INSERT INTO stamp_request_latest (employee_id, stamp_date, request_id, request_status, request_created_at)
+SELECT DISTINCT ON (employee_id, stamp_date)
+       employee_id, stamp_date, id, status, created_at
+FROM stamp_request
+ORDER BY employee_id, stamp_date, created_at DESC, id DESC;
@@ -0,0 +1,17 @@
+-- V15: Create stamp_punch_idempotency table for batched kiosk punches
+-- キオスク端末がオフライン中に蓄積して再送する打刻を、端末が採番した冪等キーで重複排除し、初回の処理結果を返す
+
+CREATE TABLE stamp_punch_idempotency (
+    idempotency_key VARCHAR(128) PRIMARY KEY,
+    employee_id INTEGER NOT NULL,
+    -- 処理結果（キーを確保したトランザクション内で設定する。コミット後は常に非NULL）
+    outcome VARCHAR(20)
+        CHECK (outcome IN ('APPLIED', 'ALREADY_RECORDED', 'REJECTED')),
+    message TEXT,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE stamp_punch_idempotency IS
+'Idempotency keys of batched kiosk punches with their first outcome. Rows older than app.kiosk.idempotency-retention-hours are purged by StampPunchIdempotencyStore';
+
+CREATE INDEX idx_stamp_punch_idempotency_created_at ON stamp_punch_idempotency(created_at);
@@ -0,0 +1,77 @@
+-- V16: Create archive tier for stamp_history / stamp_request of closed years
+-- 全月締め済みの年の打刻記録・修正申請を稼働テーブルから退避し、稼働テーブルとそのインデックスを小さく保つ
+-- 締め済み月の表示・CSV出力・統計はスナップショット（attendance_month_snapshot）から読むため、退避後も同じ内容を返す
+
+CREATE TABLE stamp_archive_year (
+    year INTEGER PRIMARY KEY CHECK (year BETWEEN 1000 AND 9999),
+    history_rows INTEGER NOT NULL DEFAULT 0,
+    request_rows INTEGER NOT NULL DEFAULT 0,
+    archived_by INTEGER REFERENCES employee(id) ON DELETE SET NULL,
+    archived_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE stamp_archive_year IS 'Years whose stamp_history / stamp_request rows have been moved to the archive tables';
+
+-- 打刻記録は従業員・月ごとに1行へ列単位で詰める（各配列は stamp_dates と同じ並び）
+CREATE TABLE stamp_history_archive (
+    employee_id INTEGER NOT NULL,
+    target_month DATE NOT NULL CHECK (target_month = date_trunc('month', target_month)::date),
+    stamp_history_ids INTEGER[] NOT NULL,
+    stamp_dates DATE[] NOT NULL,
+    in_times TIMESTAMP WITH TIME ZONE[] NOT NULL,
+    out_times TIMESTAMP WITH TIME ZONE[] NOT NULL,
+    break_start_times TIMESTAMP WITH TIME ZONE[] NOT NULL,
+    break_end_times TIMESTAMP WITH TIME ZONE[] NOT NULL,
+    is_night_shifts BOOLEAN[] NOT NULL,
+    update_employee_ids INTEGER[] NOT NULL,
+    update_dates TIMESTAMP WITH TIME ZONE[] NOT NULL,
+    PRIMARY KEY (employee_id, target_month)
+);
+
+COMMENT ON TABLE stamp_history_archive IS
+'Archived stamp_history rows packed per employee and month (parallel arrays ordered by stamp_date)';
+
+-- 修正申請は列構成を stamp_request と揃えたまま退避する（stamp_request に列を追加する場合はこちらにも追加すること）
+CREATE TABLE stamp_request_archive (LIKE stamp_request);
+
+ALTER TABLE stamp_request_archive ADD PRIMARY KEY (id);
+
+CREATE INDEX idx_stamp_request_archive_employee_date ON stamp_request_archive(employee_id, stamp_date);
+
+COMMENT ON TABLE stamp_request_archive IS 'Archived stamp_request rows of archived years';
+
+-- 締め済み月の表示で申請ステータスを引き続き表示するための最新申請（stamp_request_latest と同じ列構成）
+CREATE TABLE stamp_request_latest_archive (
+    employee_id INTEGER NOT NULL,
+    stamp_date DATE NOT NULL,
+    request_id INTEGER NOT NULL,
+    request_status stamp_request_status NOT NULL,
+    request_created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (employee_id, stamp_date)
+);
+
+COMMENT ON TABLE stamp_request_latest_archive IS 'stamp_request_latest rows of archived years';
+
+-- 退避済みの年の打刻記録・修正申請は変更できない（復元する場合は先に stamp_archive_year から外す）
+CREATE OR REPLACE FUNCTION reject_archived_year_change()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF NEW.stamp_date IS NOT NULL
+       AND EXISTS (SELECT 1 FROM stamp_archive_year WHERE year = EXTRACT(YEAR FROM NEW.stamp_date)::integer) THEN
+        RAISE EXCEPTION '% of archived year % is read-only', TG_TABLE_NAME, EXTRACT(YEAR FROM NEW.stamp_date)
+            USING ERRCODE = 'check_violation';
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- year/month/day のみ指定された行も判定できるよう、trg_stamp_history_sync_stamp_date の後（名前順）に実行する
+CREATE TRIGGER trg_stamp_history_verify_archived_year
+    BEFORE INSERT OR UPDATE ON stamp_history
+    FOR EACH ROW
+    EXECUTE FUNCTION reject_archived_year_change();
+
+CREATE TRIGGER trg_stamp_request_verify_archived_year
+    BEFORE INSERT OR UPDATE OF stamp_date ON stamp_request
+    FOR EACH ROW
+    EXECUTE FUNCTION reject_archived_year_change();
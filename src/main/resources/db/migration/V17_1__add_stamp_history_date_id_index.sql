@@ -0,0 +1,4 @@
+-- V17.1: Index for walking stamp_history by id within stamp_date windows (chunked range deletion).
+
+CREATE INDEX IF NOT EXISTS idx_stamp_history_date_id
+    ON stamp_history (stamp_date, id);
@@ -0,0 +1,43 @@
+-- V17: Create stamp_delete_job table for chunked range deletion of stamp_history
+-- 年月範囲の打刻記録削除を1文の DELETE から、勤務日のウィンドウ内を id 順に一定件数ずつ削除してコミットするジョブに置き換える
+-- 進捗（カーソル）を永続化し、一時停止・再開・取消と再起動後の再開を可能にする
+
+CREATE TABLE stamp_delete_job (
+    id BIGSERIAL PRIMARY KEY,
+
+    status VARCHAR(20) NOT NULL DEFAULT 'QUEUED'
+        CHECK (status IN ('QUEUED', 'RUNNING', 'PAUSED', 'SUCCEEDED', 'FAILED', 'CANCELLED')),
+    requested_by INTEGER NOT NULL REFERENCES employee(id),
+
+    -- 削除範囲（from_date を含み to_date を含まない）
+    from_date DATE NOT NULL,
+    to_date DATE NOT NULL CHECK (to_date > from_date),
+    chunk_size INTEGER NOT NULL CHECK (chunk_size > 0),
+    window_days INTEGER NOT NULL CHECK (window_days > 0),
+
+    -- カーソル（window_start からの勤務日ウィンドウ内で cursor_id まで削除済み。再起動時はここから再開する）
+    window_start DATE NOT NULL,
+    cursor_id INTEGER NOT NULL DEFAULT 0,
+
+    -- 進捗
+    estimated_count INTEGER,
+    deleted_count INTEGER NOT NULL DEFAULT 0,
+    chunk_count INTEGER NOT NULL DEFAULT 0,
+    last_chunk_millis INTEGER,
+    last_sleep_millis INTEGER,
+    last_replay_lag_bytes BIGINT,
+    error_message TEXT,
+    pause_requested BOOLEAN NOT NULL DEFAULT FALSE,
+    cancel_requested BOOLEAN NOT NULL DEFAULT FALSE,
+
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    started_at TIMESTAMP WITH TIME ZONE,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    finished_at TIMESTAMP WITH TIME ZONE
+);
+
+COMMENT ON TABLE stamp_delete_job IS
+'Chunked, throttled range deletions of stamp_history with a persisted cursor, pause/resume and cancellation';
+
+-- 起動時の再開対象（未完了ジョブ）の検索用
+CREATE INDEX idx_stamp_delete_job_unfinished ON stamp_delete_job(updated_at) WHERE status IN ('QUEUED', 'RUNNING');
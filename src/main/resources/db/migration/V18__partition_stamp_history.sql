@@ -0,0 +1,144 @@
+-- V18: Partition stamp_history by month on stamp_date
+-- 打刻記録を勤務日（stamp_date）の月単位の範囲パーティションに分割する
+-- 勤務日で絞り込む問い合わせはパーティションの刈り込みで対象月の索引だけを探索し、
+-- 範囲削除は月全体を含む場合にパーティションの切り離し・削除で行う（StampRangeDeleteRunner）
+-- 将来の月のパーティションは StampHistoryPartitionMaintainer が事前に作成する
+
+LOCK TABLE stamp_history IN ACCESS EXCLUSIVE MODE;
+
+-- 分割キーは主キー・一意制約に含める必要があるため、勤務日のない行や申請と勤務日が一致しない行があれば中止する
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM stamp_history WHERE stamp_date IS NULL) THEN
+        RAISE EXCEPTION 'stamp_history has rows without a valid stamp_date; fix year/month/day before partitioning';
+    END IF;
+    IF EXISTS (
+        SELECT 1
+        FROM stamp_request r
+        JOIN stamp_history h ON h.id = r.stamp_history_id
+        WHERE r.stamp_date <> h.stamp_date
+    ) THEN
+        RAISE EXCEPTION 'stamp_request.stamp_date differs from the referenced stamp_history.stamp_date';
+    END IF;
+END $$;
+
+ALTER TABLE stamp_request DROP CONSTRAINT IF EXISTS stamp_request_stamp_history_id_fkey;
+
+ALTER TABLE stamp_history RENAME TO stamp_history_unpartitioned;
+ALTER SEQUENCE stamp_history_id_seq RENAME TO stamp_history_unpartitioned_id_seq;
+
+-- 列の順序は従来のテーブルと同じ（SELECT * の結果を変えない）
+CREATE TABLE stamp_history (
+    id INTEGER GENERATED BY DEFAULT AS IDENTITY,
+    year VARCHAR(4),
+    month VARCHAR(2),
+    day VARCHAR(2),
+    employee_id INTEGER REFERENCES employee(id),
+    in_time TIMESTAMP WITH TIME ZONE,
+    out_time TIMESTAMP WITH TIME ZONE,
+    break_start_time TIMESTAMP WITH TIME ZONE,
+    break_end_time TIMESTAMP WITH TIME ZONE,
+    update_employee_id INTEGER,
+    update_date TIMESTAMP WITH TIME ZONE NOT NULL,
+    is_night_shift BOOLEAN,
+    stamp_date DATE NOT NULL
+) PARTITION BY RANGE (stamp_date);
+
+COMMENT ON TABLE stamp_history IS
+'Stamp records partitioned by month on stamp_date (stamp_history_pYYYYMM). Rows outside the created months go to stamp_history_default';
+COMMENT ON COLUMN stamp_history.is_night_shift IS '夜勤フラグ: TRUE=夜勤, FALSE=通常勤務, NULL=未設定（過去データ）';
+COMMENT ON COLUMN stamp_history.stamp_date IS '年月日を一意に表す DATE カラム（パーティションキー。year/month/day はトリガーで同期）';
+
+-- 作成済みの月より前・後の勤務日の行（過去データの取り込み・退避からの復元など）を受け入れる
+CREATE TABLE stamp_history_default PARTITION OF stamp_history DEFAULT;
+
+-- 指定した月のパーティションを作成する（作成済みの場合は何もしない）
+-- 既定パーティションにその月の行がある場合は作成できない（エラー）
+CREATE OR REPLACE FUNCTION ensure_stamp_history_partition(p_month DATE)
+RETURNS BOOLEAN AS $$
+DECLARE
+    month_start DATE := date_trunc('month', p_month)::date;
+    partition_name TEXT := 'stamp_history_p' || to_char(p_month, 'YYYYMM');
+BEGIN
+    -- 複数ノードからの同時作成を直列化する
+    PERFORM pg_advisory_xact_lock(hashtext('stamp_history_partition'));
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+    EXECUTE format(
+        'CREATE TABLE %I PARTITION OF stamp_history FOR VALUES FROM (%L) TO (%L)',
+        partition_name, month_start, (month_start + INTERVAL '1 month')::date);
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 指定した月のパーティションを切り離して削除し、空のパーティションを作り直す
+-- 切り離しの前の件数を返す（パーティションがない場合は NULL）
+-- 修正申請から参照されている行がある場合は外部キー違反で失敗する。親テーブルのロック待ちは p_lock_timeout_ms で打ち切る
+CREATE OR REPLACE FUNCTION drop_stamp_history_partition(p_month DATE, p_lock_timeout_ms INTEGER)
+RETURNS BIGINT AS $$
+DECLARE
+    partition_name TEXT := 'stamp_history_p' || to_char(p_month, 'YYYYMM');
+    previous_lock_timeout TEXT := current_setting('lock_timeout');
+    row_count BIGINT;
+BEGIN
+    IF to_regclass(partition_name) IS NULL THEN
+        RETURN NULL;
+    END IF;
+    -- 件数はロックを取らずに数える（親テーブルを排他ロックしたまま走査しない）
+    EXECUTE format('SELECT count(*) FROM %I', partition_name) INTO row_count;
+    PERFORM set_config('lock_timeout', p_lock_timeout_ms || 'ms', true);
+    EXECUTE format('ALTER TABLE stamp_history DETACH PARTITION %I', partition_name);
+    EXECUTE format('DROP TABLE %I', partition_name);
+    PERFORM ensure_stamp_history_partition(p_month);
+    PERFORM set_config('lock_timeout', previous_lock_timeout, true);
+    RETURN row_count;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 既存データの最初の月（最長10年前まで）から3か月先までのパーティションを作成する
+SELECT ensure_stamp_history_partition(m::date)
+FROM generate_series(
+    date_trunc('month', GREATEST(
+        COALESCE((SELECT MIN(stamp_date) FROM stamp_history_unpartitioned), CURRENT_DATE),
+        (CURRENT_DATE - INTERVAL '10 years')::date)),
+    date_trunc('month', CURRENT_DATE) + INTERVAL '3 months',
+    INTERVAL '1 month') AS m;
+
+INSERT INTO stamp_history (
+    id, year, month, day, employee_id, in_time, out_time, break_start_time, break_end_time,
+    update_employee_id, update_date, is_night_shift, stamp_date
+)
+SELECT id, year, month, day, employee_id, in_time, out_time, break_start_time, break_end_time,
+       update_employee_id, update_date, is_night_shift, stamp_date
+FROM stamp_history_unpartitioned;
+
+-- 退避済みの年の ID を再利用しないよう、従来の採番位置を引き継ぐ
+SELECT setval(pg_get_serial_sequence('stamp_history', 'id'), last_value, is_called)
+FROM stamp_history_unpartitioned_id_seq;
+
+DROP TABLE stamp_history_unpartitioned;
+
+-- パーティションごとの索引（親テーブルに定義し、各パーティションに作成される）
+-- 従来の (employee_id, stamp_date)・(year, month)・(employee_id, year, month, day)・(update_date)・夜勤の部分索引は
+-- 一意制約と (stamp_date, id) で代替できるか、参照する問い合わせがないため作成しない
+ALTER TABLE stamp_history ADD CONSTRAINT stamp_history_pkey PRIMARY KEY (id, stamp_date);
+ALTER TABLE stamp_history ADD CONSTRAINT uk_employee_date UNIQUE (employee_id, stamp_date);
+CREATE INDEX idx_stamp_history_date_id ON stamp_history (stamp_date, id);
+
+-- 行トリガーは各パーティションに複製される。パーティションの振り分けは stamp_date で行うため、
+-- 登録時は stamp_date を必ず指定する（year/month/day は従来どおりトリガーで stamp_date から設定される）
+CREATE TRIGGER trg_stamp_history_sync_stamp_date
+    BEFORE INSERT OR UPDATE ON stamp_history
+    FOR EACH ROW
+    EXECUTE FUNCTION sync_stamp_history_stamp_date();
+
+CREATE TRIGGER trg_stamp_history_verify_archived_year
+    BEFORE INSERT OR UPDATE ON stamp_history
+    FOR EACH ROW
+    EXECUTE FUNCTION reject_archived_year_change();
+
+-- 分割キーを含む一意制約しか参照できないため、申請からの参照は (打刻記録ID, 勤務日) にする
+ALTER TABLE stamp_request
+    ADD CONSTRAINT stamp_request_stamp_history_id_fkey
+    FOREIGN KEY (stamp_history_id, stamp_date) REFERENCES stamp_history (id, stamp_date);
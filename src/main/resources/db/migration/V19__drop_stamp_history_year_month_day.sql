@@ -0,0 +1,18 @@
+-- V19: Retire year/month/day columns of stamp_history
+-- 勤務日（stamp_date）を打刻記録の唯一の日付カラムとし、V5 から二重保持していた year/month/day と同期トリガーを廃止する
+-- 一意制約 uk_employee_date (employee_id, stamp_date) への切り替えと year/month/day の索引の削除は V18 で実施済み
+-- 画面・CSV で必要な年・月・日の文字列は、問い合わせまたはアプリケーションで stamp_date から組み立てる
+
+DROP TRIGGER IF EXISTS trg_stamp_history_sync_stamp_date ON stamp_history;
+DROP FUNCTION IF EXISTS sync_stamp_history_stamp_date();
+
+ALTER TABLE stamp_history
+    DROP COLUMN year,
+    DROP COLUMN month,
+    DROP COLUMN day;
+
+COMMENT ON COLUMN stamp_history.stamp_date IS '勤務日（パーティションキー。年月日はこのカラムのみで保持する）';
+
+-- 退避済みの年の判定は stamp_date のみで行う（V16 の同期トリガーとの実行順の前提は不要になった）
+COMMENT ON TRIGGER trg_stamp_history_verify_archived_year ON stamp_history IS
+'Rejects changes to rows whose stamp_date falls in an archived year';
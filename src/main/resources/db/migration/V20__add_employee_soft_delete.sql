@@ -0,0 +1,48 @@
+-- V20: Soft-delete employees and purge their data with a background job
+-- 従業員の削除を1トランザクションでの関連行の一括削除から、削除日時の設定（論理削除）に置き換える
+-- 操作履歴・打刻修正申請・打刻記録と従業員行は employee_purge_job に従って一定件数ずつ削除してコミットする
+-- （EmployeePurgeRunner）。フェーズと削除件数をチャンクごとに永続化し、再起動後はそのフェーズから再開する
+
+ALTER TABLE employee ADD COLUMN deleted_at TIMESTAMP WITH TIME ZONE;
+
+COMMENT ON COLUMN employee.deleted_at IS
+'Soft-delete timestamp. Rows with a value are excluded from every read path and purged by employee_purge_job';
+
+-- 論理削除した従業員のメールアドレスは、物理削除の前でも再登録できるようにする
+ALTER TABLE employee DROP CONSTRAINT IF EXISTS employee_email_key;
+CREATE UNIQUE INDEX uk_employee_email_active ON employee (email) WHERE deleted_at IS NULL;
+
+CREATE TABLE employee_purge_job (
+    -- 従業員行を削除した後もジョブを残すため外部キーは設定しない
+    employee_id INTEGER PRIMARY KEY,
+
+    status VARCHAR(20) NOT NULL DEFAULT 'QUEUED'
+        CHECK (status IN ('QUEUED', 'RUNNING', 'SUCCEEDED', 'FAILED')),
+    -- 処理中のフェーズ（LOG_HISTORY → STAMP_REQUEST → STAMP_HISTORY → EMPLOYEE の順に進む）
+    phase VARCHAR(20) NOT NULL DEFAULT 'LOG_HISTORY'
+        CHECK (phase IN ('LOG_HISTORY', 'STAMP_REQUEST', 'STAMP_HISTORY', 'EMPLOYEE')),
+    requested_by INTEGER NOT NULL,
+    chunk_size INTEGER NOT NULL CHECK (chunk_size > 0),
+
+    -- 進捗
+    log_history_deleted INTEGER NOT NULL DEFAULT 0,
+    stamp_request_deleted INTEGER NOT NULL DEFAULT 0,
+    stamp_history_deleted INTEGER NOT NULL DEFAULT 0,
+    chunk_count INTEGER NOT NULL DEFAULT 0,
+    last_chunk_millis INTEGER,
+    last_sleep_millis INTEGER,
+    -- 他の従業員の申請の承認者などとして参照されているため、従業員行を論理削除のまま残した場合 TRUE
+    employee_retained BOOLEAN NOT NULL DEFAULT FALSE,
+    error_message TEXT,
+
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    started_at TIMESTAMP WITH TIME ZONE,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    finished_at TIMESTAMP WITH TIME ZONE
+);
+
+COMMENT ON TABLE employee_purge_job IS
+'Chunked, throttled purge of a soft-deleted employee''s log_history, stamp_request and stamp_history rows';
+
+-- 起動時の再開対象（未完了ジョブ）の検索用
+CREATE INDEX idx_employee_purge_job_unfinished ON employee_purge_job(updated_at) WHERE status IN ('QUEUED', 'RUNNING');
@@ -0,0 +1,30 @@
+-- V21: Shared HTTP session store
+-- app.session.store=jdbc のとき、認証済みの SecurityContext をシリアライズしてこのテーブルに保存し、全ノードで共有する
+-- （JdbcSessionStore）。ノードの追加・再起動でログイン状態が失われない
+-- 各ノードは短時間のローカルキャッシュと version の比較で読み込みを減らし、最終アクセス日時はまとめて更新する
+
+CREATE TABLE http_session (
+    -- セッション Cookie の値（ランダムなトークン）の SHA-256（16進）。トークン自体は保存しない
+    id CHAR(64) PRIMARY KEY,
+    principal_name VARCHAR(255) NOT NULL,
+    -- Java シリアライズした SecurityContext
+    security_context BYTEA NOT NULL,
+    -- security_context を更新するたびに加算する。ローカルキャッシュはこの値が変わった場合だけ読み直す
+    version BIGINT NOT NULL DEFAULT 1,
+    -- read-your-writes: このセッションの直近の書き込み時点のプライマリ LSN（ReadYourWritesFilter）
+    required_lsn BIGINT,
+
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_accessed_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    max_inactive_seconds INTEGER NOT NULL CHECK (max_inactive_seconds > 0),
+    -- last_accessed_at + max_inactive_seconds
+    expires_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+COMMENT ON TABLE http_session IS
+'Serialized security contexts shared by all nodes when app.session.store=jdbc';
+
+-- 同時セッション数の制限（古いセッションから削除）用
+CREATE INDEX idx_http_session_principal ON http_session(principal_name, created_at);
+-- 期限切れセッションの削除用
+CREATE INDEX idx_http_session_expires_at ON http_session(expires_at);
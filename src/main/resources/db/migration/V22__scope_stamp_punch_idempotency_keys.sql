@@ -0,0 +1,16 @@
+-- V22: Scope kiosk idempotency keys per kiosk account and employee
+-- 冪等キーは端末ごとに採番されるため、別の端末・別の従業員が同じキーを送っても別の打刻として扱う
+-- 一括打刻 API はキオスク端末のアカウント（employee.admin_flag = 2）のみ使用できる
+
+COMMENT ON COLUMN employee.admin_flag IS '0: general user, 1: administrator, 2: kiosk device account (batched punch API only)';
+
+-- 既存のキーは送信元の端末を特定できないため削除する（保持期間は最大72時間。再送された打刻は二重打刻として判定される）
+DELETE FROM stamp_punch_idempotency;
+
+ALTER TABLE stamp_punch_idempotency DROP CONSTRAINT stamp_punch_idempotency_pkey;
+
+ALTER TABLE stamp_punch_idempotency ADD COLUMN kiosk_id INTEGER NOT NULL;
+
+ALTER TABLE stamp_punch_idempotency ADD PRIMARY KEY (kiosk_id, employee_id, idempotency_key);
+
+COMMENT ON COLUMN stamp_punch_idempotency.kiosk_id IS 'Employee ID of the kiosk account that sent the punch';
@@ -0,0 +1,141 @@
+package com.example.teamdev.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.example.teamdev.constant.AppConstants;
+import com.example.teamdev.mapper.NewsMapper;
+import com.example.teamdev.service.HomeNewsService;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+@DisplayName("MethodTimingAspect のテスト")
+class MethodTimingAspectTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MethodTimingAspectTest.class);
+
+    private SimpleMeterRegistry registry;
+    private NewsMapper newsMapper;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        newsMapper = mock(NewsMapper.class);
+        when(newsMapper.getNewsByReleaseFlagTrueWithLimit(AppConstants.News.HOME_DISPLAY_LIMIT)).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("サービス層の public メソッドをクラス・メソッド・結果ごとに記録する")
+    void recordsServiceMethods() {
+        HomeNewsService service = proxy(new HomeNewsService(newsMapper), new MethodTimingAspect(registry));
+
+        service.execute();
+        service.execute();
+
+        Timer timer = registry.get(MethodTimingAspect.METRIC)
+            .tags("class", "HomeNewsService", "method", "execute", "outcome", "success")
+            .timer();
+        assertThat(timer.count()).isEqualTo(2);
+        assertThat(timer.takeSnapshot().percentileValues()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("例外で終了した呼び出しは outcome=error として記録し、例外はそのまま送出する")
+    void recordsFailures() {
+        when(newsMapper.getNewsByReleaseFlagTrueWithLimit(AppConstants.News.HOME_DISPLAY_LIMIT))
+            .thenThrow(new IllegalStateException("db down"));
+        HomeNewsService service = proxy(new HomeNewsService(newsMapper), new MethodTimingAspect(registry));
+
+        assertThatThrownBy(service::execute).isInstanceOf(IllegalStateException.class);
+
+        assertThat(registry.get(MethodTimingAspect.METRIC)
+            .tags("class", "HomeNewsService", "outcome", "error").timer().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("サービス層以外は @TimedOperation を付与したメソッドのみ記録する")
+    void recordsAnnotatedMethodsOutsideServiceLayer() {
+        OptInComponent component = proxy(new OptInComponent(), new MethodTimingAspect(registry));
+
+        component.timed();
+        component.untimed();
+
+        assertThat(registry.find(MethodTimingAspect.METRIC).tag("method", "timed").timer()).isNotNull();
+        assertThat(registry.find(MethodTimingAspect.METRIC).tag("method", "untimed").timer()).isNull();
+    }
+
+    /**
+     * アスペクトなしのプロキシと比べた1呼び出しあたりの追加コストを測り、ログに出力します。
+     * 壁時計時間の1回の計測は実行環境に左右されるため、時間の閾値は検証しません
+     * （検証するのは全呼び出しがタイマーに記録されたことのみ）。値の比較は複数回の実行結果で行ってください。
+     * 通常のテスト実行からは除外され、{@code ./gradlew benchmarkTest} で実行します。
+     */
+    @Tag("benchmark")
+    @DisplayName("計測による1呼び出しあたりの追加コストを出力する")
+    @Test
+    void benchmarkOverheadPerCall() {
+        HomeNewsService plain = proxy(new HomeNewsService(newsMapper), null);
+        HomeNewsService timed = proxy(new HomeNewsService(newsMapper), new MethodTimingAspect(registry));
+        int iterations = 2_000_000;
+
+        long plainNanos = measure(iterations, plain);
+        long timedNanos = measure(iterations, timed);
+        double overheadPerCall = (double) (timedNanos - plainNanos) / iterations;
+
+        log.info("method timing aspect: plain={} ns/op, timed={} ns/op, overhead={} ns/op",
+            plainNanos / iterations, timedNanos / iterations, String.format("%.1f", overheadPerCall));
+        // ウォームアップと計測の両方の呼び出しが記録される
+        assertThat(registry.get(MethodTimingAspect.METRIC)
+            .tags("class", "HomeNewsService", "method", "execute", "outcome", "success")
+            .timer().count())
+            .isEqualTo(2L * iterations);
+    }
+
+    private static long measure(int iterations, HomeNewsService service) {
+        int sink = 0;
+        // ウォームアップ
+        for (int i = 0; i < iterations; i++) {
+            sink += service.execute().size();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink += service.execute().size();
+        }
+        long elapsed = System.nanoTime() - start;
+        if (sink == Integer.MIN_VALUE) {
+            log.debug("sink={}", sink);
+        }
+        return elapsed;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(T target, MethodTimingAspect aspect) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        if (aspect != null) {
+            factory.addAspect(aspect);
+        }
+        return (T) factory.getProxy();
+    }
+
+    static class OptInComponent {
+
+        @TimedOperation
+        public void timed() {
+        }
+
+        public void untimed() {
+        }
+    }
+}
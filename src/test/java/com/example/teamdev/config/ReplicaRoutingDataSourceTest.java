@@ -0,0 +1,108 @@
+package com.example.teamdev.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@DisplayName("ReplicaRoutingDataSource のテスト")
+class ReplicaRoutingDataSourceTest {
+
+    private ReplicaLsnTracker tracker;
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        tracker = mock(ReplicaLsnTracker.class);
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", mock(DataSource.class));
+        replicas.put("replica-2", mock(DataSource.class));
+        routing = new ReplicaRoutingDataSource(mock(DataSource.class), replicas, tracker);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReplicaLsnTracker.clearPin();
+    }
+
+    @Test
+    @DisplayName("読み書きトランザクションはプライマリを使用する")
+    void readWriteTransactionUsesPrimary() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        verify(tracker, never()).hasReplayed(eq("replica-1"), anyLong());
+    }
+
+    @Test
+    @DisplayName("読み取り専用トランザクションはレプリカをラウンドロビンで使用する")
+    void readOnlyTransactionUsesReplicasInTurn() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(tracker.hasReplayed("replica-1", 0L)).thenReturn(true);
+        when(tracker.hasReplayed("replica-2", 0L)).thenReturn(true);
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-1");
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-2");
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-1");
+    }
+
+    @Test
+    @DisplayName("要求 LSN まで再生済みのレプリカだけを使用する")
+    void readOnlyTransactionSkipsLaggingReplica() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReplicaLsnTracker.pin(500L);
+        when(tracker.hasReplayed("replica-1", 500L)).thenReturn(false);
+        when(tracker.hasReplayed("replica-2", 500L)).thenReturn(true);
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-2");
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-2");
+    }
+
+    @Test
+    @DisplayName("再生済みのレプリカがない場合はプライマリを使用する")
+    void readOnlyTransactionFallsBackToPrimary() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReplicaLsnTracker.pin(500L);
+        when(tracker.hasReplayed("replica-1", 500L)).thenReturn(false);
+        when(tracker.hasReplayed("replica-2", 500L)).thenReturn(false);
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("プライマリに固定した読み取りは読み取り専用トランザクションでもプライマリを使用する")
+    void primaryOnlyReadUsesPrimary() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        Object key = ReplicaLsnTracker.onPrimary(routing::determineCurrentLookupKey);
+
+        assertThat(key).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        assertThat(ReplicaLsnTracker.isPrimaryOnly()).isFalse();
+        verify(tracker, never()).hasReplayed(eq("replica-1"), anyLong());
+    }
+
+    @Test
+    @DisplayName("pg_lsn の文字列表現を比較可能な数値に変換する")
+    void parseLsnConvertsTextRepresentation() {
+        assertThat(ReplicaLsnTracker.parseLsn("0/0")).isZero();
+        assertThat(ReplicaLsnTracker.parseLsn("16/B374D848")).isEqualTo((0x16L << 32) | 0xB374D848L);
+        assertThat(ReplicaLsnTracker.parseLsn("1/0"))
+            .isGreaterThan(ReplicaLsnTracker.parseLsn("0/FFFFFFFF"));
+        assertThatThrownBy(() -> ReplicaLsnTracker.parseLsn("B374D848"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
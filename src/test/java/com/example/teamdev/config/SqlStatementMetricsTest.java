@@ -0,0 +1,140 @@
+package com.example.teamdev.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.example.teamdev.config.SqlStatementMetrics.SlowQuery;
+import com.example.teamdev.config.SqlStatementMetrics.StatementDetails;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SqlStatementMetrics のテスト")
+class SqlStatementMetricsTest {
+
+    private static final Instant NOW = Instant.parse("2025-11-01T00:00:00Z");
+
+    private SimpleMeterRegistry registry;
+    private SqlStatementMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new SqlStatementMetrics(registry, 100, 3, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("ステートメント単位で実行時間と行数、エラー数を記録する")
+    void recordsTimerRowsAndErrors() {
+        metrics.record("mybatis", "StampRequestMapper.findWithSearch", millis(5), 20, null, this::noDetails);
+        metrics.record("mybatis", "StampRequestMapper.findWithSearch", millis(7), 10, null, this::noDetails);
+        metrics.record("mybatis", "StampRequestMapper.findWithSearch", millis(1), 0,
+            new IllegalStateException("boom"), this::noDetails);
+
+        assertThat(registry.get(SqlStatementMetrics.TIMER)
+            .tags("statement", "StampRequestMapper.findWithSearch", "outcome", "success").timer().count())
+            .isEqualTo(2);
+        assertThat(registry.get(SqlStatementMetrics.ROWS)
+            .tags("statement", "StampRequestMapper.findWithSearch").summary().totalAmount())
+            .isEqualTo(30);
+        assertThat(registry.get(SqlStatementMetrics.ERRORS)
+            .tags("statement", "StampRequestMapper.findWithSearch", "exception", "IllegalStateException")
+            .counter().count())
+            .isEqualTo(1);
+        assertThat(metrics.recentSlowQueries(10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("閾値以上のステートメントだけをリングバッファに新しい順で保持する")
+    void keepsRecentSlowQueriesInBoundedBuffer() {
+        for (int i = 1; i <= 5; i++) {
+            String id = "Mapper.statement" + i;
+            metrics.record("mybatis", id, millis(100 + i), i, null,
+                () -> new StatementDetails("SELECT  *\n  FROM employee WHERE id = ?", List.of("id=1")));
+        }
+
+        List<SlowQuery> slowQueries = metrics.recentSlowQueries(10);
+
+        assertThat(slowQueries).extracting(SlowQuery::statementId)
+            .containsExactly("Mapper.statement5", "Mapper.statement4", "Mapper.statement3");
+        assertThat(slowQueries.get(0).sql()).isEqualTo("SELECT * FROM employee WHERE id = ?");
+        assertThat(slowQueries.get(0).elapsedMillis()).isEqualTo(105);
+        assertThat(slowQueries.get(0).occurredAt()).isEqualTo(NOW);
+        assertThat(metrics.recentSlowQueries(1)).hasSize(1);
+
+        metrics.clearSlowQueries();
+        assertThat(metrics.recentSlowQueries(10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("パラメータは文字列をマスクし、数値・区分値・件数のみ表示する")
+    void redactsParameters() {
+        assertThat(SqlStatementMetrics.redact(null)).isEqualTo("null");
+        assertThat(SqlStatementMetrics.redact(42)).isEqualTo("42");
+        assertThat(SqlStatementMetrics.redact("PENDING")).isEqualTo("'PENDING'");
+        assertThat(SqlStatementMetrics.redact("taro@example.com")).isEqualTo("'***'(16 chars)");
+        assertThat(SqlStatementMetrics.redact(new Integer[] {1, 2, 3})).isEqualTo("[3 items]");
+        assertThat(SqlStatementMetrics.redact(List.of(1, 2))).isEqualTo("[2 items]");
+    }
+
+    @Test
+    @DisplayName("MyBatis のステートメントIDを Mapper 名とメソッド名に短縮する")
+    void shortensMyBatisStatementId() {
+        assertThat(MyBatisStatementMetricsInterceptor.statementId(
+            "com.example.teamdev.mapper.StampRequestMapper.findWithSearch"))
+            .isEqualTo("StampRequestMapper.findWithSearch");
+        assertThat(MyBatisStatementMetricsInterceptor.statementId("findAll")).isEqualTo("findAll");
+    }
+
+    @Test
+    @DisplayName("JdbcTemplate のクエリを呼び出し元メソッド単位で記録する")
+    void instrumentedJdbcTemplateRecordsCaller() throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(statement.executeUpdate()).thenReturn(2);
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getInt(anyInt())).thenReturn(1);
+        InstrumentedJdbcTemplate jdbcTemplate = new InstrumentedJdbcTemplate(dataSource, metrics);
+
+        List<Integer> ids = jdbcTemplate.query("SELECT id FROM employee WHERE admin_flag = ?",
+            (rs, rowNum) -> rs.getInt(1), 1);
+        int updated = jdbcTemplate.update("UPDATE employee SET update_date = now() WHERE admin_flag = ?", 1);
+
+        assertThat(ids).hasSize(2);
+        assertThat(updated).isEqualTo(2);
+        String statementId = "SqlStatementMetricsTest.instrumentedJdbcTemplateRecordsCaller";
+        assertThat(registry.get(SqlStatementMetrics.TIMER)
+            .tags("source", "jdbc", "statement", statementId).timer().count())
+            .isEqualTo(2);
+        assertThat(registry.get(SqlStatementMetrics.ROWS)
+            .tags("source", "jdbc", "statement", statementId).summary().totalAmount())
+            .isEqualTo(4);
+    }
+
+    private StatementDetails noDetails() {
+        return new StatementDetails(null, List.of());
+    }
+
+    private static long millis(long value) {
+        return TimeUnit.MILLISECONDS.toNanos(value);
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.teamdev.controller.api;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.teamdev.config.SecurityConfig;
+import com.example.teamdev.config.SqlStatementMetrics;
+import com.example.teamdev.config.SqlStatementMetrics.SlowQuery;
+import com.example.teamdev.mapper.EmployeeMapper;
+import com.example.teamdev.util.SecurityUtil;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(controllers = AdminSlowQueryRestController.class)
+@Import({SecurityConfig.class, SecurityUtil.class})
+@ActiveProfiles("test")
+@Tag("api")
+@TestPropertySource(properties = "app.environment=test")
+class AdminSlowQueryRestControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private SqlStatementMetrics sqlStatementMetrics;
+
+    @MockitoBean
+    private EmployeeMapper employeeMapper;
+
+    @DisplayName("GET /api/admin/slow-queries returns the captured statements with the threshold")
+    @Test
+    @WithMockUser(username = "admin@example.com", roles = "ADMIN")
+    void listReturnsSlowQueries() throws Exception {
+        when(sqlStatementMetrics.slowThresholdMillis()).thenReturn(200L);
+        when(sqlStatementMetrics.recentSlowQueries(50)).thenReturn(List.of(new SlowQuery(
+            7L,
+            Instant.parse("2025-11-01T00:00:00Z"),
+            "mybatis",
+            "StampRequestMapper.findWithSearch",
+            412L,
+            20L,
+            null,
+            "SELECT * FROM stamp_request WHERE status = ?",
+            List.of("status='PENDING'")
+        )));
+
+        mockMvc.perform(get("/api/admin/slow-queries"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.thresholdMillis").value(200))
+            .andExpect(jsonPath("$.queries[0].statementId").value("StampRequestMapper.findWithSearch"))
+            .andExpect(jsonPath("$.queries[0].elapsedMillis").value(412))
+            .andExpect(jsonPath("$.queries[0].parameters[0]").value("status='PENDING'"));
+    }
+
+    @DisplayName("DELETE /api/admin/slow-queries clears the buffer")
+    @Test
+    @WithMockUser(username = "admin@example.com", roles = "ADMIN")
+    void clearDiscardsSlowQueries() throws Exception {
+        mockMvc.perform(delete("/api/admin/slow-queries").with(csrf()))
+            .andExpect(status().isNoContent());
+
+        verify(sqlStatementMetrics).clearSlowQueries();
+    }
+
+    @DisplayName("GET /api/admin/slow-queries is forbidden for non-admin users")
+    @Test
+    @WithMockUser(username = "user@example.com", roles = "USER")
+    void listRequiresAdmin() throws Exception {
+        mockMvc.perform(get("/api/admin/slow-queries"))
+            .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.teamdev.controller.api;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.teamdev.config.SecurityConfig;
+import com.example.teamdev.entity.Employee;
+import com.example.teamdev.mapper.EmployeeMapper;
+import com.example.teamdev.service.stamp.StampImportFormat;
+import com.example.teamdev.service.stamp.StampImportResult;
+import com.example.teamdev.service.stamp.StampImportService;
+import com.example.teamdev.util.SecurityUtil;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(controllers = AdminStampImportRestController.class)
+@Import({SecurityConfig.class, SecurityUtil.class})
+@ActiveProfiles("test")
+@Tag("api")
+@TestPropertySource(properties = "app.environment=test")
+class AdminStampImportRestControllerTest {
+
+    private static final String ADMIN_EMAIL = "admin@example.com";
+    private static final Integer ADMIN_ID = 101;
+    private static final String CSV = "employeeId,year,month,day,inTime,outTime\n1,2025,10,01,09:00,18:00\n";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private StampImportService stampImportService;
+
+    @MockitoBean
+    private EmployeeMapper employeeMapper;
+
+    @BeforeEach
+    void stubAdminEmployee() {
+        Employee admin = new Employee(
+            ADMIN_ID,
+            "管理者",
+            "太郎",
+            ADMIN_EMAIL,
+            "encoded",
+            1,
+            Timestamp.from(Instant.parse("2025-01-01T00:00:00Z"))
+        );
+        when(employeeMapper.getEmployeeByEmail(ADMIN_EMAIL)).thenReturn(admin);
+    }
+
+    @DisplayName("POST /api/admin/stamp-imports streams a CSV body and returns the counts and rejects")
+    @Test
+    @WithMockUser(username = ADMIN_EMAIL, roles = "ADMIN")
+    void importCsvReturnsResult() throws Exception {
+        when(stampImportService.importStamps(any(), eq(StampImportFormat.CSV), eq(ADMIN_ID)))
+            .thenReturn(new StampImportResult(
+                3, 1, 1, 0, 1, List.of(new StampImportResult.Reject(3, "Unknown employee ID: 999")), false));
+
+        mockMvc.perform(post("/api/admin/stamp-imports").with(csrf())
+                .contentType("text/csv")
+                .content(CSV))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.staged").value(1))
+            .andExpect(jsonPath("$.inserted").value(1))
+            .andExpect(jsonPath("$.rejectedCount").value(1))
+            .andExpect(jsonPath("$.rejects[0].lineNumber").value(3))
+            .andExpect(jsonPath("$.rejectsTruncated").value(false));
+    }
+
+    @DisplayName("POST /api/admin/stamp-imports returns 400 when the body is rejected as a whole")
+    @Test
+    @WithMockUser(username = ADMIN_EMAIL, roles = "ADMIN")
+    void importReturnsBadRequestOnInvalidInput() throws Exception {
+        when(stampImportService.importStamps(any(), eq(StampImportFormat.NDJSON), eq(ADMIN_ID)))
+            .thenThrow(new IllegalArgumentException("Each line must be a JSON object"));
+
+        mockMvc.perform(post("/api/admin/stamp-imports").with(csrf())
+                .contentType("application/x-ndjson")
+                .content(""))
+            .andExpect(status().isBadRequest());
+    }
+
+    @DisplayName("POST /api/admin/stamp-imports is forbidden for non-admin users")
+    @Test
+    @WithMockUser(username = "user@example.com", roles = "USER")
+    void importRequiresAdmin() throws Exception {
+        mockMvc.perform(post("/api/admin/stamp-imports").with(csrf())
+                .contentType("text/csv")
+                .content(CSV))
+            .andExpect(status().isForbidden());
+
+        verifyNoInteractions(stampImportService);
+    }
+}
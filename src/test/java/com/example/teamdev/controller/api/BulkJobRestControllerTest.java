@@ -0,0 +1,161 @@
+package com.example.teamdev.controller.api;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.teamdev.config.SecurityConfig;
+import com.example.teamdev.constant.BulkJobStatus;
+import com.example.teamdev.constant.BulkJobType;
+import com.example.teamdev.entity.BulkJob;
+import com.example.teamdev.entity.Employee;
+import com.example.teamdev.mapper.EmployeeMapper;
+import com.example.teamdev.service.job.BulkJobService;
+import com.example.teamdev.util.SecurityUtil;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(controllers = BulkJobRestController.class)
+@Import({SecurityConfig.class, SecurityUtil.class})
+@ActiveProfiles("test")
+@Tag("api")
+@TestPropertySource(properties = "app.environment=test")
+class BulkJobRestControllerTest {
+
+    private static final String ADMIN_EMAIL = "admin@example.com";
+    private static final Integer ADMIN_ID = 101;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private BulkJobService bulkJobService;
+
+    @MockitoBean
+    private EmployeeMapper employeeMapper;
+
+    @BeforeEach
+    void stubAdminEmployee() {
+        Employee admin = new Employee(
+            ADMIN_ID,
+            "管理者",
+            "太郎",
+            ADMIN_EMAIL,
+            "encoded",
+            1,
+            Timestamp.from(Instant.parse("2025-01-01T00:00:00Z"))
+        );
+        when(employeeMapper.getEmployeeByEmail(ADMIN_EMAIL)).thenReturn(admin);
+    }
+
+    @DisplayName("POST /api/bulk-jobs accepts the job and returns its location")
+    @Test
+    @WithMockUser(username = ADMIN_EMAIL, roles = "ADMIN")
+    void submitReturnsAcceptedWithLocation() throws Exception {
+        when(bulkJobService.submit(eq(BulkJobType.NEWS_DELETE), anyList(), any(), eq(ADMIN_ID)))
+            .thenReturn(job(BulkJobStatus.QUEUED));
+
+        mockMvc.perform(post("/api/bulk-jobs")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"type\":\"NEWS_DELETE\",\"targetIds\":[1,2,3]}"))
+            .andExpect(status().isAccepted())
+            .andExpect(header().string("Location", "/api/bulk-jobs/42"))
+            .andExpect(jsonPath("$.id").value(42))
+            .andExpect(jsonPath("$.status").value("QUEUED"))
+            .andExpect(jsonPath("$.totalCount").value(3));
+    }
+
+    @DisplayName("POST /api/bulk-jobs returns 400 when the handler rejects the parameters")
+    @Test
+    @WithMockUser(username = ADMIN_EMAIL, roles = "ADMIN")
+    void submitReturnsBadRequestOnValidationError() throws Exception {
+        when(bulkJobService.submit(any(), anyList(), any(), any()))
+            .thenThrow(new IllegalArgumentException("却下理由は必須です"));
+
+        mockMvc.perform(post("/api/bulk-jobs")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"type\":\"STAMP_REQUEST_REJECT\",\"targetIds\":[1]}"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @DisplayName("GET /api/bulk-jobs/{id} returns progress and 404 for unknown jobs")
+    @Test
+    @WithMockUser(username = ADMIN_EMAIL, roles = "ADMIN")
+    void getReturnsProgress() throws Exception {
+        BulkJob running = job(BulkJobStatus.RUNNING);
+        running.setNextOffset(2);
+        running.setSuccessCount(1);
+        running.setFailureCount(1);
+        running.setFailedIds(new Integer[] {2});
+        when(bulkJobService.findById(42L)).thenReturn(Optional.of(running));
+        when(bulkJobService.findById(43L)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/bulk-jobs/42"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.processedCount").value(2))
+            .andExpect(jsonPath("$.failedIds[0]").value(2));
+        mockMvc.perform(get("/api/bulk-jobs/43"))
+            .andExpect(status().isNotFound());
+    }
+
+    @DisplayName("POST /api/bulk-jobs/{id}/cancel returns 409 for finished jobs")
+    @Test
+    @WithMockUser(username = ADMIN_EMAIL, roles = "ADMIN")
+    void cancelReturnsConflictForFinishedJob() throws Exception {
+        when(bulkJobService.cancel(42L)).thenThrow(new IllegalStateException("ジョブは既に完了しています"));
+
+        mockMvc.perform(post("/api/bulk-jobs/42/cancel").with(csrf()))
+            .andExpect(status().isConflict());
+    }
+
+    @DisplayName("POST /api/bulk-jobs is forbidden for non-admin users")
+    @Test
+    @WithMockUser(username = "user@example.com", roles = "USER")
+    void submitRequiresAdmin() throws Exception {
+        mockMvc.perform(post("/api/bulk-jobs")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"type\":\"NEWS_DELETE\",\"targetIds\":[1]}"))
+            .andExpect(status().isForbidden());
+    }
+
+    private static BulkJob job(BulkJobStatus status) {
+        BulkJob job = new BulkJob();
+        job.setId(42L);
+        job.setJobType(BulkJobType.NEWS_DELETE.name());
+        job.setStatus(status.name());
+        job.setRequestedBy(ADMIN_ID);
+        job.setTotalCount(3);
+        job.setNextOffset(0);
+        job.setSuccessCount(0);
+        job.setFailureCount(0);
+        job.setFailedIds(new Integer[0]);
+        job.setCancelRequested(false);
+        job.setCreatedAt(OffsetDateTime.parse("2025-11-30T15:00:00Z"));
+        return job;
+    }
+}
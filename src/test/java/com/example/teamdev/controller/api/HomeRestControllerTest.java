@@ -11,8 +11,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.example.teamdev.config.SecurityConfig;
 import com.example.teamdev.dto.api.home.HomeNewsItem;
 import com.example.teamdev.entity.Employee;
-import com.example.teamdev.service.HomeNewsService;
+import com.example.teamdev.service.NewsFeedCache;
 import com.example.teamdev.service.HomeAttendanceService;
+import com.example.teamdev.service.ResourceVersionService;
 import com.example.teamdev.service.dto.DailyAttendanceSnapshot;
 import com.example.teamdev.service.dto.AttendanceStatus;
 import java.util.Optional;
@@ -55,7 +56,7 @@ class HomeRestControllerTest {
     private MockMvc mockMvc;
 
     @MockitoBean
-    private HomeNewsService homeNewsService;
+    private NewsFeedCache newsFeedCache;
 
     @MockitoBean
     private StampService stampService;
@@ -63,6 +64,9 @@ class HomeRestControllerTest {
     @MockitoBean
     private HomeAttendanceService homeAttendanceService;
 
+    @MockitoBean
+    private ResourceVersionService resourceVersionService;
+
     @MockitoBean
     private EmployeeMapper employeeMapper;
 
@@ -106,7 +110,7 @@ class HomeRestControllerTest {
     @Test
     @WithMockUser(username = ADMIN_EMAIL, roles = "ADMIN")
     void overviewShouldExposeReleaseFlagField() throws Exception {
-        when(homeNewsService.execute()).thenReturn(List.of(
+        when(newsFeedCache.homeNews()).thenReturn(new NewsFeedCache.HomeNews(List.of(
             new HomeNewsItem(
                 1,
                 "メンテナンスのお知らせ",
@@ -115,7 +119,7 @@ class HomeRestControllerTest {
                 "2025/10/10",
                 true
             )
-        ));
+        ), "\"news-etag\""));
         when(homeAttendanceService.fetchTodaySnapshot(eq(100), any()))
             .thenReturn(Optional.of(new DailyAttendanceSnapshot(
                 AttendanceStatus.WORKING,
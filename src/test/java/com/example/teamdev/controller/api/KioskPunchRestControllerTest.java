@@ -0,0 +1,120 @@
+package com.example.teamdev.controller.api;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.teamdev.config.SecurityConfig;
+import com.example.teamdev.constant.AppConstants;
+import com.example.teamdev.constant.StampPunchOutcome;
+import com.example.teamdev.entity.Employee;
+import com.example.teamdev.mapper.EmployeeMapper;
+import com.example.teamdev.service.StampPunchBatchService;
+import com.example.teamdev.service.dto.StampPunchResult;
+import com.example.teamdev.util.SecurityUtil;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(controllers = KioskPunchRestController.class)
+@Import({SecurityConfig.class, SecurityUtil.class})
+@ActiveProfiles("test")
+@Tag("api")
+@TestPropertySource(properties = "app.environment=test")
+class KioskPunchRestControllerTest {
+
+    private static final String KIOSK_EMAIL = "kiosk-01@example.com";
+    private static final int KIOSK_ID = 900;
+
+    private static final String BODY = """
+        {"punches": [
+          {"idempotencyKey": "kiosk-01:1", "employeeId": 1001, "stampType": "1",
+           "stampTime": "2025-10-01T09:00:03+09:00", "nightWork": false},
+          {"idempotencyKey": "kiosk-01:2", "employeeId": 1002, "stampType": "2",
+           "stampTime": "2025-10-01T18:00:00+09:00", "nightWork": false}
+        ]}
+        """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private StampPunchBatchService stampPunchBatchService;
+
+    @MockitoBean
+    private EmployeeMapper employeeMapper;
+
+    @DisplayName("POST /api/kiosk/punches returns one outcome per punch in request order")
+    @Test
+    @WithMockUser(username = KIOSK_EMAIL, roles = "KIOSK")
+    void punchReturnsOutcomes() throws Exception {
+        when(employeeMapper.getEmployeeByEmail(KIOSK_EMAIL)).thenReturn(new Employee(
+            KIOSK_ID, "受付", "端末1", KIOSK_EMAIL, "encoded", AppConstants.Employee.ADMIN_FLAG_KIOSK,
+            Timestamp.from(Instant.parse("2025-01-01T00:00:00Z"))));
+        when(stampPunchBatchService.apply(eq(KIOSK_ID), anyList())).thenReturn(List.of(
+            new StampPunchResult("kiosk-01:1", 1001, StampPunchOutcome.APPLIED, null, false),
+            new StampPunchResult("kiosk-01:2", 1002, StampPunchOutcome.REJECTED, "出勤打刻が必要です", true)));
+
+        mockMvc.perform(post("/api/kiosk/punches").with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(BODY))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.results[0].idempotencyKey").value("kiosk-01:1"))
+            .andExpect(jsonPath("$.results[0].outcome").value("APPLIED"))
+            .andExpect(jsonPath("$.results[1].outcome").value("REJECTED"))
+            .andExpect(jsonPath("$.results[1].replayed").value(true));
+    }
+
+    @DisplayName("POST /api/kiosk/punches returns 400 when an idempotency key is missing")
+    @Test
+    @WithMockUser(username = KIOSK_EMAIL, roles = "KIOSK")
+    void punchValidatesEachPunch() throws Exception {
+        mockMvc.perform(post("/api/kiosk/punches").with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(BODY.replace("\"kiosk-01:2\"", "\"\"")))
+            .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(stampPunchBatchService);
+    }
+
+    @DisplayName("POST /api/kiosk/punches is forbidden for employees and administrators")
+    @Test
+    void punchRequiresKiosk() throws Exception {
+        for (String role : List.of("USER", "ADMIN")) {
+            mockMvc.perform(post("/api/kiosk/punches").with(csrf())
+                    .with(user("someone@example.com").roles(role))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(BODY))
+                .andExpect(status().isForbidden());
+        }
+        verifyNoInteractions(stampPunchBatchService);
+    }
+
+    @DisplayName("Kiosk accounts cannot use any endpoint other than the batched punch API")
+    @Test
+    @WithMockUser(username = KIOSK_EMAIL, roles = "KIOSK")
+    void kioskCannotUseOtherEndpoints() throws Exception {
+        mockMvc.perform(post("/api/stamp-requests").with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{}"))
+            .andExpect(status().isForbidden());
+    }
+}
@@ -13,15 +13,19 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.example.teamdev.dto.api.news.BulkDeletionResult;
 import com.example.teamdev.dto.api.news.BulkUpdateResult;
+import com.example.teamdev.dto.api.news.NewsBatchDeleteRequest;
 import com.example.teamdev.dto.api.news.NewsBulkDeleteRequest;
 import com.example.teamdev.dto.api.news.NewsBulkOperationResponse;
 import com.example.teamdev.dto.api.news.NewsBulkPublishRequest;
 import com.example.teamdev.dto.api.news.NewsCreateRequest;
+import com.example.teamdev.dto.api.news.NewsListResponse;
+import com.example.teamdev.dto.api.news.NewsResponse;
 import com.example.teamdev.entity.Employee;
 import com.example.teamdev.entity.News;
 import com.example.teamdev.form.ListForm;
@@ -30,16 +34,20 @@ import com.example.teamdev.mapper.EmployeeMapper;
 import com.example.teamdev.service.NewsManageDeletionService;
 import com.example.teamdev.service.NewsManageRegistrationService;
 import com.example.teamdev.service.NewsManageReleaseService;
+import com.example.teamdev.service.NewsManageBatchService;
 import com.example.teamdev.service.NewsManageBulkDeletionService;
 import com.example.teamdev.service.NewsManageBulkReleaseService;
 import com.example.teamdev.service.NewsManageService;
+import com.example.teamdev.service.NewsFeedCache;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
@@ -91,6 +99,12 @@ class NewsRestControllerTest {
     @MockitoBean
     private NewsManageBulkReleaseService bulkReleaseService;
 
+    @MockitoBean
+    private NewsManageBatchService batchService;
+
+    @MockitoBean
+    private NewsFeedCache newsFeedCache;
+
     @MockitoBean
     private EmployeeMapper employeeMapper;
 
@@ -144,12 +158,44 @@ class NewsRestControllerTest {
         news.setLabel("GENERAL");
         news.setReleaseFlag(true);
         news.setUpdateDate(Timestamp.from(Instant.parse("2025-10-11T08:00:00Z")));
-        when(newsManageService.getPublishedNews()).thenReturn(List.of(news));
+        when(newsFeedCache.publishedFeed()).thenReturn(feedOf(news));
 
         mockMvc.perform(get("/api/news/published"))
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.news[0].id").value(2))
-            .andExpect(jsonPath("$.news[0].releaseFlag").value(true));
+            .andExpect(jsonPath("$.news[0].releaseFlag").value(true))
+            .andExpect(jsonPath("$.news[0].updateDate").value("2025-10-11T08:00:00Z"));
+    }
+
+    @DisplayName("GET /api/news/published returns ETag and 304 when If-None-Match matches")
+    @Test
+    void listPublishedNewsSupportsConditionalGet() throws Exception {
+        NewsFeedCache.SerializedFeed feed = feedOf();
+        when(newsFeedCache.publishedFeed()).thenReturn(feed);
+
+        mockMvc.perform(get("/api/news/published"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", feed.etag()))
+            .andExpect(header().string("Cache-Control", "no-cache, private"));
+
+        mockMvc.perform(get("/api/news/published").header("If-None-Match", feed.etag()))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string("ETag", feed.etag()));
+    }
+
+    @DisplayName("GET /api/news/published returns pre-compressed body when gzip is accepted")
+    @Test
+    void listPublishedNewsReturnsGzipVariant() throws Exception {
+        NewsFeedCache.SerializedFeed feed = feedOf();
+        when(newsFeedCache.publishedFeed()).thenReturn(feed);
+
+        byte[] body = mockMvc.perform(get("/api/news/published").header("Accept-Encoding", "br, gzip"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Encoding", "gzip"))
+            .andExpect(header().string("ETag", feed.etag(true)))
+            .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(body).isEqualTo(feed.gzip());
     }
 
     @DisplayName("POST /api/news creates news and returns payload")
@@ -367,6 +413,25 @@ class NewsRestControllerTest {
         verify(bulkDeletionService).execute(eq(ids), eq(ADMIN_ID));
     }
 
+    @DisplayName("POST /api/news/batch/delete accepts more than 100 ids")
+    @Test
+    @WithMockUser(username = ADMIN_EMAIL, roles = "ADMIN")
+    void batchDeleteAcceptsLargeIdList() throws Exception {
+        List<Integer> ids = IntStream.rangeClosed(1, 2500).boxed().toList();
+        BulkDeletionResult mockResult = new BulkDeletionResult(2500, 0, List.of());
+        when(batchService.delete(eq(ids), eq(ADMIN_ID))).thenReturn(mockResult);
+
+        mockMvc.perform(post("/api/news/batch/delete")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new NewsBatchDeleteRequest(ids))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.successCount").value(2500))
+            .andExpect(jsonPath("$.failureCount").value(0));
+
+        verify(batchService).delete(eq(ids), eq(ADMIN_ID));
+    }
+
     @DisplayName("PATCH /api/news/bulk/publish updates multiple news release flags")
     @Test
     @WithMockUser(username = ADMIN_EMAIL, roles = "ADMIN")
@@ -483,4 +548,9 @@ class NewsRestControllerTest {
             && label.equals(form.getLabel())
             && Boolean.valueOf(releaseFlag).equals(form.getReleaseFlag());
     }
+
+    private NewsFeedCache.SerializedFeed feedOf(News... news) throws Exception {
+        List<NewsResponse> responses = Arrays.stream(news).map(NewsResponse::from).toList();
+        return NewsFeedCache.SerializedFeed.of(objectMapper.writeValueAsBytes(new NewsListResponse(responses)));
+    }
 }
@@ -21,6 +21,7 @@ import com.example.teamdev.service.StampRequestBulkOperationService;
 import com.example.teamdev.service.StampRequestCancellationService;
 import com.example.teamdev.service.StampRequestQueryService;
 import com.example.teamdev.service.StampRequestRegistrationService;
+import com.example.teamdev.service.StampRequestReviewQueueService;
 import com.example.teamdev.util.SecurityUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.sql.Timestamp;
@@ -76,6 +77,9 @@ class StampRequestRestControllerTest {
     @MockitoBean
     StampRequestBulkOperationService bulkOperationService;
 
+    @MockitoBean
+    StampRequestReviewQueueService reviewQueueService;
+
     @MockitoBean
     EmployeeMapper employeeMapper;
 
@@ -102,6 +106,7 @@ class StampRequestRestControllerTest {
 
         Map<String, Object> payload = Map.of(
             "stampHistoryId", 321,
+            "stampDate", "2025-11-12",
             "reason", "退勤漏れのため修正します。"
         );
 
@@ -162,8 +167,8 @@ class StampRequestRestControllerTest {
     @WithMockUser(username = ADMIN_EMAIL, roles = "ADMIN")
     void pendingRequestsReturnPayload() throws Exception {
         StampRequest pending = buildRequest(920, employee.getId());
-        when(queryService.getPendingRequests(0, 20, null, null, "recent")).thenReturn(List.of(pending));
-        when(queryService.countPendingRequests(null, null)).thenReturn(1);
+        when(queryService.getPendingRequests(0, 20, null, null, "recent", admin.getId())).thenReturn(List.of(pending));
+        when(queryService.countPendingRequests(null, null, admin.getId())).thenReturn(1);
 
         mockMvc.perform(get("/api/stamp-requests/pending"))
             .andExpect(status().isOk())
@@ -172,6 +177,58 @@ class StampRequestRestControllerTest {
             .andExpect(jsonPath("$.totalCount").value(1));
     }
 
+    @Test
+    @DisplayName("POST /api/stamp-requests/claims leases the next requests to the current admin")
+    @WithMockUser(username = ADMIN_EMAIL, roles = "ADMIN")
+    void claimRequestsReturnsLeasedRequests() throws Exception {
+        StampRequest claimed = buildRequest(940, employee.getId());
+        claimed.setClaimedBy(admin.getId());
+        claimed.setClaimExpiresAt(OffsetDateTime.of(2025, 11, 15, 10, 15, 0, 0, ZoneOffset.UTC));
+        when(reviewQueueService.claimNext(admin.getId(), 5)).thenReturn(List.of(claimed));
+
+        mockMvc.perform(post("/api/stamp-requests/claims")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("count", 5))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.requests[0].id").value(940))
+            .andExpect(jsonPath("$.claimExpiresAt").value("2025-11-15T10:15:00Z"));
+    }
+
+    @Test
+    @DisplayName("POST /api/stamp-requests/claims returns 400 when count exceeds the limit")
+    @WithMockUser(username = ADMIN_EMAIL, roles = "ADMIN")
+    void claimRequestsRejectsTooManyRequests() throws Exception {
+        when(reviewQueueService.claimNext(admin.getId(), 500))
+            .thenThrow(new IllegalArgumentException("一度に割り当てられる申請は1〜50件です"));
+
+        mockMvc.perform(post("/api/stamp-requests/claims")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("count", 500))))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("一度に割り当てられる申請は1〜50件です"));
+    }
+
+    @Test
+    @DisplayName("POST /api/stamp-requests/claims/release releases the current admin's leases")
+    @WithMockUser(username = ADMIN_EMAIL, roles = "ADMIN")
+    void releaseClaimsReturnsReleasedCount() throws Exception {
+        when(reviewQueueService.release(admin.getId(), null)).thenReturn(3);
+
+        mockMvc.perform(post("/api/stamp-requests/claims/release").with(csrf()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.releasedCount").value(3));
+    }
+
+    @Test
+    @DisplayName("POST /api/stamp-requests/claims requires admin role")
+    @WithMockUser(username = EMPLOYEE_EMAIL, roles = "USER")
+    void claimRequestsRequireAdmin() throws Exception {
+        mockMvc.perform(post("/api/stamp-requests/claims").with(csrf()))
+            .andExpect(status().isForbidden());
+    }
+
     @Test
     @DisplayName("GET /api/stamp-requests/{id} forbids non-owner non-admin")
     @WithMockUser(username = "other@example.com", roles = "USER")
@@ -100,9 +100,6 @@ class StampRestControllerTest {
         OffsetDateTime outTime = OffsetDateTime.of(2025, 10, 2, 18, 0, 0, 0, ZoneOffset.ofHours(9));
         StampHistory history = new StampHistory(
             99,
-            "2025",
-            "10",
-            "02",
             LocalDate.of(2025, 10, 2),
             10,
             inTime,
@@ -113,10 +110,11 @@ class StampRestControllerTest {
             10,
             OffsetDateTime.now(ZoneOffset.UTC)
         );
-        when(stampHistoryMapper.getById(99)).thenReturn(Optional.of(history));
+        when(stampHistoryMapper.getById(99, history.getStampDate())).thenReturn(Optional.of(history));
 
         mockMvc.perform(
             put("/api/stamps/{id}", 99)
+                .param("stampDate", history.getStampDate().toString())
                 .with(csrf())
                 .contentType(MediaType.APPLICATION_JSON)
                 .content("""
@@ -149,9 +147,6 @@ class StampRestControllerTest {
         OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
         StampHistory history = new StampHistory(
             55,
-            "2025",
-            "11",
-            "01",
             now.toLocalDate(),
             999,
             now,
@@ -162,10 +157,11 @@ class StampRestControllerTest {
             999,
             now
         );
-        when(stampHistoryMapper.getById(55)).thenReturn(Optional.of(history));
+        when(stampHistoryMapper.getById(55, history.getStampDate())).thenReturn(Optional.of(history));
 
         mockMvc.perform(
             put("/api/stamps/{id}", 55)
+                .param("stampDate", history.getStampDate().toString())
                 .with(csrf())
                 .contentType(MediaType.APPLICATION_JSON)
                 .content("""
@@ -182,10 +178,11 @@ class StampRestControllerTest {
     @Test
     @WithMockUser(username = EMPLOYEE_EMAIL)
     void updateStampShouldReturnNotFoundWhenMissing() throws Exception {
-        when(stampHistoryMapper.getById(777)).thenReturn(Optional.empty());
+        when(stampHistoryMapper.getById(777, LocalDate.of(2025, 10, 2))).thenReturn(Optional.empty());
 
         mockMvc.perform(
             put("/api/stamps/{id}", 777)
+                .param("stampDate", "2025-10-02")
                 .with(csrf())
                 .contentType(MediaType.APPLICATION_JSON)
                 .content("""
@@ -198,15 +195,51 @@ class StampRestControllerTest {
         verifyNoInteractions(stampEditService);
     }
 
+    @DisplayName("PUT /api/stamps/{id} は勤務日が指定されていなければIDのみで検索して更新する（旧クライアント互換）")
+    @Test
+    @WithMockUser(username = EMPLOYEE_EMAIL)
+    void updateStampWithoutStampDateShouldFallBackToIdLookup() throws Exception {
+        StampHistory history = new StampHistory(
+            99,
+            LocalDate.of(2025, 10, 2),
+            10,
+            OffsetDateTime.of(2025, 10, 2, 9, 0, 0, 0, ZoneOffset.ofHours(9)),
+            null,
+            null,
+            null,
+            null,
+            10,
+            OffsetDateTime.now(ZoneOffset.UTC)
+        );
+        when(stampHistoryMapper.getById(99, null)).thenReturn(Optional.of(history));
+
+        mockMvc.perform(
+            put("/api/stamps/{id}", 99)
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {
+                      "inTime": "10:00"
+                    }
+                    """)
+        ).andExpect(status().isNoContent());
+
+        ArgumentCaptor<List<Map<String, Object>>> payloadCaptor = ArgumentCaptor.forClass(List.class);
+        verify(stampEditService).execute(payloadCaptor.capture(), eq(10));
+        // 勤務日は検索した打刻履歴から補う
+        org.assertj.core.api.Assertions.assertThat(payloadCaptor.getValue().getFirst())
+            .containsEntry("year", "2025")
+            .containsEntry("month", "10")
+            .containsEntry("day", "02")
+            .containsEntry("inTime", "10:00");
+    }
+
     @DisplayName("DELETE /api/stamps/{id} は削除成功時に204を返す")
     @Test
     @WithMockUser(username = EMPLOYEE_EMAIL)
     void deleteStampShouldReturnNoContent() throws Exception {
         StampHistory history = new StampHistory(
             200,
-            "2025",
-            "09",
-            "30",
             LocalDate.of(2025, 9, 30),
             10,
             null,
@@ -217,15 +250,16 @@ class StampRestControllerTest {
             10,
             OffsetDateTime.now(ZoneOffset.UTC)
         );
-        when(stampHistoryMapper.getById(200)).thenReturn(Optional.of(history));
-        when(stampDeleteService.deleteStampById(200, 10)).thenReturn(true);
+        when(stampHistoryMapper.getById(200, history.getStampDate())).thenReturn(Optional.of(history));
+        when(stampDeleteService.deleteStampById(200, history.getStampDate(), 10)).thenReturn(true);
 
         mockMvc.perform(
             delete("/api/stamps/{id}", 200)
+                .param("stampDate", history.getStampDate().toString())
                 .with(csrf())
         ).andExpect(status().isNoContent());
 
-        verify(stampDeleteService, times(1)).deleteStampById(200, 10);
+        verify(stampDeleteService, times(1)).deleteStampById(200, history.getStampDate(), 10);
     }
 
     @DisplayName("DELETE /api/stamps/{id} は認証されていなければ401を返す")
@@ -233,6 +267,7 @@ class StampRestControllerTest {
     void deleteStampShouldRequireAuthentication() throws Exception {
         mockMvc.perform(
             delete("/api/stamps/{id}", 300)
+                .param("stampDate", "2025-10-02")
                 .with(csrf())
         ).andExpect(status().isUnauthorized());
     }
@@ -252,9 +287,6 @@ class StampRestControllerTest {
 
         StampHistory history = new StampHistory(
             150,
-            "2025",
-            "10",
-            "15",
             LocalDate.of(2025, 10, 15),
             10,
             inTime,
@@ -265,10 +297,11 @@ class StampRestControllerTest {
             10,
             OffsetDateTime.now(ZoneOffset.UTC)
         );
-        when(stampHistoryMapper.getById(150)).thenReturn(Optional.of(history));
+        when(stampHistoryMapper.getById(150, history.getStampDate())).thenReturn(Optional.of(history));
 
         mockMvc.perform(
             put("/api/stamps/{id}", 150)
+                .param("stampDate", history.getStampDate().toString())
                 .with(csrf())
                 .contentType(MediaType.APPLICATION_JSON)
                 .content("""
@@ -302,9 +335,6 @@ class StampRestControllerTest {
 
         StampHistory history = new StampHistory(
             160,
-            "2025",
-            "10",
-            "20",
             LocalDate.of(2025, 10, 20),
             10,
             inTime,
@@ -315,10 +345,11 @@ class StampRestControllerTest {
             10,
             OffsetDateTime.now(ZoneOffset.UTC)
         );
-        when(stampHistoryMapper.getById(160)).thenReturn(Optional.of(history));
+        when(stampHistoryMapper.getById(160, history.getStampDate())).thenReturn(Optional.of(history));
 
         mockMvc.perform(
             put("/api/stamps/{id}", 160)
+                .param("stampDate", history.getStampDate().toString())
                 .with(csrf())
                 .contentType(MediaType.APPLICATION_JSON)
                 .content("""
@@ -352,9 +383,6 @@ class StampRestControllerTest {
 
         StampHistory history = new StampHistory(
             170,
-            "2025",
-            "10",
-            "25",
             LocalDate.of(2025, 10, 25),
             10,
             inTime,
@@ -365,11 +393,12 @@ class StampRestControllerTest {
             10,
             OffsetDateTime.now(ZoneOffset.UTC)
         );
-        when(stampHistoryMapper.getById(170)).thenReturn(Optional.of(history));
+        when(stampHistoryMapper.getById(170, history.getStampDate())).thenReturn(Optional.of(history));
 
         // 休憩終了時刻（11:00）が休憩開始時刻（13:00）より前
         mockMvc.perform(
             put("/api/stamps/{id}", 170)
+                .param("stampDate", history.getStampDate().toString())
                 .with(csrf())
                 .contentType(MediaType.APPLICATION_JSON)
                 .content("""
@@ -393,9 +422,6 @@ class StampRestControllerTest {
 
         StampHistory history = new StampHistory(
             180,
-            "2025",
-            "10",
-            "30",
             LocalDate.of(2025, 10, 30),
             10,
             inTime,
@@ -406,11 +432,12 @@ class StampRestControllerTest {
             10,
             OffsetDateTime.now(ZoneOffset.UTC)
         );
-        when(stampHistoryMapper.getById(180)).thenReturn(Optional.of(history));
+        when(stampHistoryMapper.getById(180, history.getStampDate())).thenReturn(Optional.of(history));
 
         // すべてのフィールドが空またはnull
         mockMvc.perform(
             put("/api/stamps/{id}", 180)
+                .param("stampDate", history.getStampDate().toString())
                 .with(csrf())
                 .contentType(MediaType.APPLICATION_JSON)
                 .content("""
@@ -632,9 +659,6 @@ class StampRestControllerTest {
         OffsetDateTime outTime = OffsetDateTime.of(2025, 12, 1, 18, 0, 0, 0, ZoneOffset.ofHours(9));
         StampHistory createdHistory = new StampHistory(
             200,
-            "2025",
-            "12",
-            "01",
             LocalDate.of(2025, 12, 1),
             10,
             inTime,
@@ -645,10 +669,11 @@ class StampRestControllerTest {
             10,
             OffsetDateTime.now(ZoneOffset.UTC)
         );
-        when(stampHistoryMapper.getById(200)).thenReturn(Optional.of(createdHistory));
+        when(stampHistoryMapper.getById(200, createdHistory.getStampDate())).thenReturn(Optional.of(createdHistory));
 
         mockMvc.perform(
             put("/api/stamps/{id}", 200)
+                .param("stampDate", createdHistory.getStampDate().toString())
                 .with(csrf())
                 .contentType(MediaType.APPLICATION_JSON)
                 .content("""
@@ -1,6 +1,7 @@
 package com.example.teamdev.integration;
 
 import com.example.teamdev.integration.support.ApiTestSupport;
+import com.example.teamdev.mapper.StampRequestMapper;
 import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -36,6 +37,9 @@ class StampHistoryRequestStatusIntegrationTest extends ApiTestSupport {
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
+    @Autowired
+    private StampRequestMapper stampRequestMapper;
+
     private static final String USER_EMAIL = "request.status.user@example.com";
     private static final String USER_PASSWORD = "UserPass123!";
     private static final ZoneOffset JST = ZoneOffset.ofHours(9);
@@ -187,13 +191,10 @@ class StampHistoryRequestStatusIntegrationTest extends ApiTestSupport {
 
         jdbcTemplate.update(
             """
-            INSERT INTO stamp_history (stamp_date, year, month, day, employee_id, in_time, out_time, update_employee_id, update_date)
-            VALUES (?, ?, ?, ?, ?, ?, ?, ?, NOW())
+            INSERT INTO stamp_history (stamp_date, employee_id, in_time, out_time, update_employee_id, update_date)
+            VALUES (?, ?, ?, ?, ?, NOW())
             """,
             stampDate,
-            String.format("%04d", stampDate.getYear()),
-            String.format("%02d", stampDate.getMonthValue()),
-            String.format("%02d", stampDate.getDayOfMonth()),
             employeeId,
             Timestamp.from(inTimeOffset.toInstant()),
             Timestamp.from(outTimeOffset.toInstant()),
@@ -249,6 +250,9 @@ class StampHistoryRequestStatusIntegrationTest extends ApiTestSupport {
             throw new IllegalStateException("Failed to insert stamp_request record");
         }
 
+        // SQLで直接挿入した申請を最新申請の投影に反映（本番では StampRequestStore が反映する）
+        stampRequestMapper.upsertLatestRequests(new Integer[] {requestId});
+
         return requestId;
     }
 }
@@ -2,6 +2,7 @@ package com.example.teamdev.integration;
 
 import com.example.teamdev.integration.support.ApiTestSupport;
 import java.sql.Timestamp;
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import org.junit.jupiter.api.BeforeEach;
@@ -79,11 +80,9 @@ class StampHistoryRestControllerContractTest extends ApiTestSupport {
         OffsetDateTime out = in.plusHours(9);
 
         jdbcTemplate.update(
-            "INSERT INTO stamp_history (year, month, day, employee_id, in_time, out_time, break_start_time, break_end_time, is_night_shift, update_employee_id, update_date) "
-                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
-            "2025",
-            "02",
-            "10",
+            "INSERT INTO stamp_history (stamp_date, employee_id, in_time, out_time, break_start_time, break_end_time, is_night_shift, update_employee_id, update_date) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+            LocalDate.of(2025, 2, 10),
             getEmployeeId(),
             Timestamp.from(in.toInstant()),
             Timestamp.from(out.toInstant()),
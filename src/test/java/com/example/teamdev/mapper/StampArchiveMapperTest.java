@@ -0,0 +1,134 @@
+package com.example.teamdev.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.teamdev.entity.StampArchiveYear;
+import com.example.teamdev.entity.StampHistoryDisplay;
+import com.example.teamdev.service.StampArchiveService;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class StampArchiveMapperTest extends StampRequestMapperTestBase {
+
+    private static final int YEAR = 2015;
+
+    @Autowired
+    private StampArchiveService archiveService;
+
+    @Autowired
+    private AttendanceMonthSnapshotMapper snapshotMapper;
+
+    @Test
+    @DisplayName("archiveYear - 打刻記録を従業員・月ごとに詰めて退避し、締め済み月の申請ステータスは退避先から表示する")
+    void archiveYear_movesRowsAndKeepsSnapshotStatus() {
+        int employeeId = insertEmployee(4101, "Archive", "Owner");
+        LocalDate first = LocalDate.of(YEAR, 3, 2);
+        LocalDate second = LocalDate.of(YEAR, 3, 3);
+        int firstHistory = insertStampHistory(employeeId, first);
+        int secondHistory = insertStampHistory(employeeId, second);
+        int request = insertStampRequest(employeeId, firstHistory, first, "APPROVED", "退避対象の申請の理由です");
+        stampRequestMapper.repairLatestRequests(first, second);
+        closeAllMonths();
+
+        StampArchiveYear archived = archiveService.archiveYear(YEAR, employeeId).orElseThrow();
+
+        assertThat(archived.getHistoryRows()).isEqualTo(2);
+        assertThat(archived.getRequestRows()).isEqualTo(1);
+        assertThat(count("SELECT COUNT(*) FROM stamp_history WHERE employee_id = ?", employeeId)).isZero();
+        assertThat(count("SELECT COUNT(*) FROM stamp_request WHERE employee_id = ?", employeeId)).isZero();
+        assertThat(jdbcTemplate.queryForList(
+            "SELECT target_month, stamp_history_ids FROM stamp_history_archive WHERE employee_id = ?", employeeId))
+            .hasSize(1)
+            .first()
+            .satisfies(row -> assertThat(row.get("target_month").toString()).isEqualTo("2015-03-01"));
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT stamp_history_ids::text FROM stamp_history_archive WHERE employee_id = ?", String.class, employeeId))
+            .isEqualTo("{" + firstHistory + "," + secondHistory + "}");
+
+        List<StampHistoryDisplay> snapshot = snapshotMapper.getSnapshotByEmployeeIds(
+            LocalDate.of(YEAR, 3, 1), List.of(employeeId), List.of(first));
+        assertThat(snapshot).singleElement().satisfies(row -> {
+            assertThat(row.getRequestId()).isEqualTo(request);
+            assertThat(row.getRequestStatus()).isEqualTo("APPROVED");
+        });
+
+        assertThat(archiveService.archiveYear(YEAR, employeeId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("restoreYear - 退避した打刻記録・申請を元のIDで戻し、最新申請の投影を再計算する")
+    void restoreYear_restoresRowsWithOriginalIds() {
+        int employeeId = insertEmployee(4102, "Restore", "Owner");
+        LocalDate date = LocalDate.of(YEAR, 7, 1);
+        int history = insertStampHistory(employeeId, date);
+        int request = insertStampRequest(employeeId, history, date, "REJECTED", "復元対象の申請の理由です");
+        closeAllMonths();
+        archiveService.archiveYear(YEAR, employeeId).orElseThrow();
+
+        assertThat(archiveService.restoreYear(YEAR)).isPresent();
+
+        assertThat(jdbcTemplate.queryForList(
+            "SELECT id, stamp_date::text AS stamp_date FROM stamp_history WHERE employee_id = ?", employeeId))
+            .containsExactly(Map.of("id", history, "stamp_date", "2015-07-01"));
+        assertThat(jdbcTemplate.queryForList(
+            "SELECT request_id, request_status::text AS request_status FROM stamp_request_latest WHERE employee_id = ?",
+            employeeId))
+            .containsExactly(Map.of("request_id", request, "request_status", "REJECTED"));
+        assertThat(count("SELECT COUNT(*) FROM stamp_history_archive WHERE employee_id = ?", employeeId)).isZero();
+        assertThat(count("SELECT COUNT(*) FROM stamp_request_latest_archive WHERE employee_id = ?", employeeId))
+            .isZero();
+        assertThat(archiveService.findArchiveYear(YEAR)).isEmpty();
+        assertThat(archiveService.restoreYear(YEAR)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("archiveYear - 承認待ちの申請がある年は退避しない")
+    void archiveYear_rejectsPendingRequests() {
+        int employeeId = insertEmployee(4103, "Pending", "Owner");
+        LocalDate date = LocalDate.of(YEAR, 5, 1);
+        insertStampRequest(employeeId, insertStampHistory(employeeId, date), date, "PENDING", "承認待ちの申請の理由です");
+        closeAllMonths();
+
+        assertThatThrownBy(() -> archiveService.archiveYear(YEAR, employeeId))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("承認待ち");
+        assertThat(count("SELECT COUNT(*) FROM stamp_history WHERE employee_id = ?", employeeId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("退避済みの年の打刻記録は登録できない")
+    void archivedYear_rejectsNewStampHistory() {
+        int employeeId = insertEmployee(4104, "ReadOnly", "Owner");
+        closeAllMonths();
+        archiveService.archiveYear(YEAR, employeeId).orElseThrow();
+
+        assertThatThrownBy(() -> insertStampHistory(employeeId, LocalDate.of(YEAR, 12, 31)))
+            .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private void closeAllMonths() {
+        for (int month = 1; month <= 12; month++) {
+            jdbcTemplate.update(
+                "INSERT INTO attendance_month_close (target_month) VALUES (?) ON CONFLICT DO NOTHING",
+                YearMonth.of(YEAR, month).atDay(1));
+        }
+    }
+
+    private int count(String sql, int employeeId) {
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, employeeId);
+        return count != null ? count : 0;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.teamdev.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.teamdev.service.stamp.StampImportFormat;
+import com.example.teamdev.service.stamp.StampImportResult;
+import com.example.teamdev.service.stamp.StampImportService;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class StampHistoryImportMergeTest extends StampRequestMapperTestBase {
+
+    @Autowired
+    private StampImportService stampImportService;
+
+    @Test
+    @DisplayName("importStamps - COPY した行を1文で作成・更新し、同じ勤務日は後の行を採用する")
+    void importStamps_upsertsStagedRows() {
+        int employeeId = insertEmployee(4101, "Import", "Target");
+        int operatorId = insertEmployee(4102, "Import", "Operator");
+        int existingId = insertStampHistory(employeeId, LocalDate.of(2025, 10, 1));
+        jdbcTemplate.update("UPDATE stamp_history SET in_time = ? WHERE id = ?",
+            OffsetDateTime.of(2025, 10, 1, 8, 45, 0, 0, JST), existingId);
+        String csv = String.join("\n",
+            "employeeId,year,month,day,inTime,outTime,isNightShift",
+            employeeId + ",2025,10,01,,18:00,false",
+            employeeId + ",2025,10,02,09:00,17:00,false",
+            employeeId + ",2025,10,02,22:00,06:00,true",
+            "999999,2025,10,03,09:00,18:00,false",
+            "");
+
+        StampImportResult result = stampImportService.importStamps(
+            new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), StampImportFormat.CSV, operatorId);
+
+        assertThat(result.staged()).isEqualTo(3);
+        assertThat(result.inserted()).isEqualTo(1);
+        assertThat(result.updated()).isEqualTo(1);
+        assertThat(result.rejectedCount()).isEqualTo(1);
+        assertThat(result.rejects()).singleElement()
+            .satisfies(reject -> assertThat(reject.lineNumber()).isEqualTo(5));
+
+        Map<String, Object> updated = row(employeeId, LocalDate.of(2025, 10, 1));
+        assertThat(updated.get("id")).isEqualTo(existingId);
+        // 出勤が空欄の行は既存の出勤時刻を保持する
+        assertThat(updated.get("in_time")).isEqualTo("08:45");
+        assertThat(updated.get("out_time")).isEqualTo("2025-10-01 18:00");
+        assertThat(updated.get("update_employee_id")).isEqualTo(operatorId);
+
+        Map<String, Object> inserted = row(employeeId, LocalDate.of(2025, 10, 2));
+        assertThat(inserted.get("in_time")).isEqualTo("22:00");
+        assertThat(inserted.get("out_time")).isEqualTo("2025-10-03 06:00");
+        assertThat(inserted.get("is_night_shift")).isEqualTo(true);
+        assertThat(inserted.get("day")).isEqualTo("02");
+    }
+
+    private Map<String, Object> row(int employeeId, LocalDate date) {
+        return jdbcTemplate.queryForMap(
+            "SELECT id, day, is_night_shift, update_employee_id, "
+                + "to_char(in_time AT TIME ZONE 'Asia/Tokyo', 'HH24:MI') AS in_time, "
+                + "to_char(out_time AT TIME ZONE 'Asia/Tokyo', 'YYYY-MM-DD HH24:MI') AS out_time "
+                + "FROM stamp_history WHERE employee_id = ? AND stamp_date = ?",
+            employeeId, date);
+    }
+}
@@ -3,9 +3,11 @@ package com.example.teamdev.mapper;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.example.teamdev.entity.StampHistoryDisplay;
+import com.example.teamdev.service.StampHistoryMonthReader;
 import com.example.teamdev.testconfig.PostgresContainerSupport;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.time.ZoneOffset;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
@@ -24,6 +26,12 @@ class StampHistoryMapperBatchFetchTest extends PostgresContainerSupport {
     @Autowired
     private StampHistoryMapper stampHistoryMapper;
 
+    @Autowired
+    private EmployeeMapper employeeMapper;
+
+    @Autowired
+    private StampRequestMapper stampRequestMapper;
+
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
@@ -126,6 +134,37 @@ class StampHistoryMapperBatchFetchTest extends PostgresContainerSupport {
         assertThat(filledRow.getOutTime()).isEqualTo("18:00");
     }
 
+    @Test
+    @DisplayName("疎取得とアプリケーション側の展開はSQLでのカレンダー生成と同じ結果になる")
+    void sparseFetchMatchesSqlGeneratedCalendar() {
+        int employeeA = insertEmployee(93001, "Sparse", "One");
+        int employeeB = insertEmployee(93002, "Sparse", "Two");
+
+        insertStamp(employeeA, "2025", "04", "01",
+                LocalDateTime.of(2025, 4, 1, 9, 0),
+                LocalDateTime.of(2025, 4, 1, 18, 0));
+        insertStamp(employeeB, "2025", "04", "02",
+                LocalDateTime.of(2025, 4, 2, 22, 0),
+                LocalDateTime.of(2025, 4, 3, 6, 0));
+        int requestId = insertStampRequest(employeeB, LocalDate.of(2025, 4, 2), "PENDING",
+                LocalDateTime.of(2025, 4, 3, 10, 0));
+
+        YearMonth month = YearMonth.of(2025, 4);
+        List<LocalDate> dates = month.atDay(1).datesUntil(month.plusMonths(1).atDay(1)).toList();
+        List<Integer> employeeIds = List.of(employeeB, employeeA);
+
+        List<StampHistoryDisplay> legacy = new StampHistoryMonthReader(stampHistoryMapper, employeeMapper, false)
+                .read("2025", "04", employeeIds, dates);
+        List<StampHistoryDisplay> sparse = new StampHistoryMonthReader(stampHistoryMapper, employeeMapper, true)
+                .read("2025", "04", employeeIds, dates);
+
+        assertThat(sparse).hasSize(60);
+        assertThat(sparse).containsExactlyElementsOf(legacy);
+        assertThat(sparse.get(1).getRequestId()).isEqualTo(requestId);
+        assertThat(sparse.get(1).getInTime()).isEqualTo("22:00");
+        assertThat(sparse.get(30).getEmployeeName()).isEqualTo("Sparse One");
+    }
+
     private int insertEmployee(int id, String firstName, String lastName) {
         jdbcTemplate.update(
                 """
@@ -147,13 +186,10 @@ class StampHistoryMapperBatchFetchTest extends PostgresContainerSupport {
             LocalDateTime inTime, LocalDateTime outTime) {
         jdbcTemplate.update(
                 """
-                INSERT INTO stamp_history (stamp_date, year, month, day, employee_id, in_time, out_time, update_employee_id, update_date)
-                VALUES (?, ?, ?, ?, ?, ?, ?, ?, NOW())
+                INSERT INTO stamp_history (stamp_date, employee_id, in_time, out_time, update_employee_id, update_date)
+                VALUES (?, ?, ?, ?, ?, NOW())
                 """,
                 LocalDate.of(Integer.parseInt(year), Integer.parseInt(month), Integer.parseInt(day)),
-                year,
-                month,
-                day,
                 employeeId,
                 inTime.atOffset(JST),
                 outTime.atOffset(JST),
@@ -208,6 +244,9 @@ class StampHistoryMapperBatchFetchTest extends PostgresContainerSupport {
             throw new IllegalStateException("Failed to insert stamp_request record");
         }
 
+        // SQLで直接挿入した申請を最新申請の投影に反映（本番では StampRequestStore が反映する）
+        stampRequestMapper.upsertLatestRequests(new Integer[] {requestId});
+
         return requestId;
     }
 }
@@ -37,8 +37,8 @@ class StampHistoryMapperDailyAttendanceTest extends PostgresContainerSupport {
         OffsetDateTime out = in.plusHours(10);
 
         jdbcTemplate.update(
-            "INSERT INTO stamp_history (year, month, day, employee_id, in_time, out_time, break_start_time, break_end_time, is_night_shift, update_employee_id, update_date) "
-                + "VALUES ('2025', '11', '07', ?, ?, ?, ?, ?, ?, ?, ?)",
+            "INSERT INTO stamp_history (stamp_date, employee_id, in_time, out_time, break_start_time, break_end_time, is_night_shift, update_employee_id, update_date) "
+                + "VALUES (DATE '2025-11-07', ?, ?, ?, ?, ?, ?, ?, ?)",
             employeeId,
             Timestamp.from(in.toInstant()),
             Timestamp.from(out.toInstant()),
@@ -0,0 +1,100 @@
+package com.example.teamdev.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.example.teamdev.constant.StampPunchOutcome;
+import com.example.teamdev.dto.api.home.StampType;
+import com.example.teamdev.entity.StampPunchIdempotency;
+import com.example.teamdev.service.StampPunchBatchService;
+import com.example.teamdev.service.dto.StampPunch;
+import com.example.teamdev.service.dto.StampPunchResult;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class StampPunchIdempotencyMapperTest extends StampRequestMapperTestBase {
+
+    private static final int KIOSK_ID = 4200;
+
+    @Autowired
+    private StampPunchIdempotencyMapper mapper;
+
+    @Autowired
+    private StampPunchBatchService stampPunchBatchService;
+
+    @Test
+    @DisplayName("claim - 登録済みのキーは確保せず、記録した処理結果を取得できる")
+    void claim_skipsExistingKeys() {
+        assertThat(mapper.claim(List.of(key("kiosk:1", 1), key("kiosk:2", 2))))
+            .extracting(StampPunchIdempotency::getIdempotencyKey)
+            .containsExactlyInAnyOrder("kiosk:1", "kiosk:2");
+        assertThat(mapper.claim(List.of(key("kiosk:2", 2), key("kiosk:3", 3))))
+            .extracting(StampPunchIdempotency::getIdempotencyKey)
+            .containsExactly("kiosk:3");
+
+        int updated = mapper.recordOutcomes(List.of(
+            new StampPunchIdempotency(KIOSK_ID, "kiosk:1", 1, StampPunchOutcome.APPLIED, null, null),
+            new StampPunchIdempotency(KIOSK_ID, "kiosk:2", 2, StampPunchOutcome.REJECTED, "出勤打刻が必要です", null)));
+
+        assertThat(updated).isEqualTo(2);
+        assertThat(mapper.findByKeys(List.of(key("kiosk:1", 1), key("kiosk:2", 2), key("missing", 1))))
+            .extracting(StampPunchIdempotency::getIdempotencyKey, StampPunchIdempotency::getOutcome,
+                StampPunchIdempotency::getMessage)
+            .containsExactlyInAnyOrder(
+                tuple("kiosk:1", StampPunchOutcome.APPLIED, null),
+                tuple("kiosk:2", StampPunchOutcome.REJECTED, "出勤打刻が必要です"));
+        assertThat(mapper.deleteByKeys(List.of(key("kiosk:3", 3)))).isEqualTo(1);
+        assertThat(mapper.deleteCreatedBefore(OffsetDateTime.now().plusMinutes(1))).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("claim - 同じキーでも端末・従業員が異なれば別のキーとして確保する")
+    void claim_scopesKeysPerKioskAndEmployee() {
+        assertThat(mapper.claim(List.of(key("seq:1", 1)))).hasSize(1);
+
+        assertThat(mapper.claim(List.of(
+                key("seq:1", 2),
+                new StampPunchIdempotency(KIOSK_ID + 1, "seq:1", 1, null, null, null))))
+            .extracting(StampPunchIdempotency::getKioskId, StampPunchIdempotency::getEmployeeId)
+            .containsExactlyInAnyOrder(tuple(KIOSK_ID, 2), tuple(KIOSK_ID + 1, 1));
+    }
+
+    @Test
+    @DisplayName("apply - 記録できない打刻はセーブポイントまで取り消し、同じバッチの他の打刻と再送の判定は維持する")
+    void apply_isolatesFailedPunch() {
+        int employeeId = insertEmployee(4201, "Kiosk", "Punch");
+        List<StampPunch> punches = List.of(
+            new StampPunch("kiosk:in", employeeId, StampType.ATTENDANCE, "2025-10-01T09:00:00+09:00", false),
+            new StampPunch("kiosk:in-again", employeeId, StampType.ATTENDANCE, "2025-10-01T09:05:00+09:00", false),
+            new StampPunch("kiosk:out", employeeId, StampType.DEPARTURE, "2025-10-01T18:00:00+09:00", false));
+
+        List<StampPunchResult> first = stampPunchBatchService.apply(KIOSK_ID, punches);
+        List<StampPunchResult> replay = stampPunchBatchService.apply(KIOSK_ID, punches);
+
+        assertThat(first).extracting(StampPunchResult::outcome).containsExactly(
+            StampPunchOutcome.APPLIED, StampPunchOutcome.ALREADY_RECORDED, StampPunchOutcome.APPLIED);
+        assertThat(replay).extracting(StampPunchResult::outcome)
+            .containsExactlyElementsOf(first.stream().map(StampPunchResult::outcome).toList());
+        assertThat(replay).allMatch(StampPunchResult::replayed);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT to_char(in_time AT TIME ZONE 'Asia/Tokyo', 'HH24:MI') || '-' "
+                + "|| to_char(out_time AT TIME ZONE 'Asia/Tokyo', 'HH24:MI') FROM stamp_history "
+                + "WHERE employee_id = ? AND stamp_date = ?",
+            String.class, employeeId, LocalDate.of(2025, 10, 1)))
+            .isEqualTo("09:00-18:00");
+    }
+
+    private static StampPunchIdempotency key(String idempotencyKey, int employeeId) {
+        return new StampPunchIdempotency(KIOSK_ID, idempotencyKey, employeeId, null, null, null);
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.teamdev.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import com.example.teamdev.service.AttendanceMonthCloseService;
+import com.example.teamdev.service.StampRequestBulkApprovalEngine;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class StampRequestBulkApprovalTransactionTest extends StampRequestMapperTestBase {
+
+    private static final LocalDate STAMP_DATE = LocalDate.of(2025, 10, 6);
+
+    @Autowired
+    private StampHistoryMapper stampHistoryMapper;
+
+    @Autowired
+    private AttendanceMonthCloseService monthCloseService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("approve - ジョブのトランザクション内でチャンクがDBエラーになっても、そのチャンクだけを取り消して呼び出し元を継続できる")
+    void approve_isolatesFailedChunkInsideCallerTransaction() {
+        int firstEmployee = insertEmployee(4301, "Bulk", "First");
+        int secondEmployee = insertEmployee(4302, "Bulk", "Second");
+        int failing = insertStampRequest(firstEmployee, insertStampHistory(firstEmployee, STAMP_DATE),
+            STAMP_DATE, "PENDING", "一括承認で失敗させる申請です。");
+        int approvable = insertStampRequest(secondEmployee, insertStampHistory(secondEmployee, STAMP_DATE),
+            STAMP_DATE, "PENDING", "一括承認で承認される申請です。");
+
+        // 1チャンク目の勤怠記録の更新でDBエラーを発生させる（PostgreSQL はトランザクションを中断状態にする）
+        StampHistoryMapper histories = mock(StampHistoryMapper.class, AdditionalAnswers.delegatesTo(stampHistoryMapper));
+        doAnswer(invocation -> jdbcTemplate.queryForObject("SELECT 1 / 0", Integer.class))
+            .doAnswer(AdditionalAnswers.delegatesTo(stampHistoryMapper))
+            .when(histories).updateAll(anyList());
+        StampRequestBulkApprovalEngine engine = new StampRequestBulkApprovalEngine(stampRequestMapper, histories,
+            eventPublisher, monthCloseService, Clock.systemUTC(), transactionManager, 1);
+
+        // 一括処理ジョブのチャンクのトランザクションと同じく、呼び出し元のトランザクション内で実行する
+        TransactionStatus[] callerStatus = new TransactionStatus[1];
+        Set<Integer> approved = new TransactionTemplate(transactionManager).execute(status -> {
+            callerStatus[0] = status;
+            return engine.approve(List.of(failing, approvable), 900, null);
+        });
+
+        assertThat(approved).containsExactly(approvable);
+        assertThat(callerStatus[0].isRollbackOnly()).isFalse();
+        // 失敗したチャンクの後も同じトランザクションで問い合わせを続けられる
+        assertThat(jdbcTemplate.queryForList(
+            "SELECT status::text FROM stamp_request WHERE id IN (?, ?) ORDER BY id", String.class,
+            Math.min(failing, approvable), Math.max(failing, approvable)))
+            .containsExactly(failing < approvable ? "PENDING" : "APPROVED",
+                failing < approvable ? "APPROVED" : "PENDING");
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.teamdev.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class StampRequestLatestMapperTest extends StampRequestMapperTestBase {
+
+    @Test
+    @DisplayName("upsertLatestRequests - 古い申請の反映は新しい申請を上書きせず、保持中の申請のステータス変更は反映する")
+    void upsertLatestRequests_keepsNewestRequest() {
+        int employeeId = insertEmployee(4001, "Latest", "Owner");
+        LocalDate date = LocalDate.of(2025, 10, 1);
+        int historyId = insertStampHistory(employeeId, date);
+        int older = insertStampRequest(employeeId, historyId, date, "CANCELLED", "古い申請の理由です");
+        int newer = insertStampRequest(employeeId, historyId, date, "PENDING", "新しい申請の理由です");
+
+        stampRequestMapper.upsertLatestRequests(new Integer[] {newer});
+        stampRequestMapper.upsertLatestRequests(new Integer[] {older});
+        assertThat(latest(employeeId)).containsExactly(Map.of("request_id", newer, "request_status", "PENDING"));
+
+        jdbcTemplate.update("UPDATE stamp_request SET status = 'APPROVED' WHERE id = ?", newer);
+        stampRequestMapper.upsertLatestRequests(new Integer[] {older, newer});
+        assertThat(latest(employeeId)).containsExactly(Map.of("request_id", newer, "request_status", "APPROVED"));
+    }
+
+    @Test
+    @DisplayName("repairLatestRequests - 投影に反映されていない変更を対象期間のみ補正する")
+    void repairLatestRequests_fixesDriftWithinRange() {
+        int employeeId = insertEmployee(4011, "Drift", "Owner");
+        LocalDate october = LocalDate.of(2025, 10, 2);
+        LocalDate september = LocalDate.of(2025, 9, 30);
+        int octoberRequest = insertStampRequest(
+            employeeId, insertStampHistory(employeeId, october), october, "PENDING", "十月の申請の理由です");
+        insertStampRequest(
+            employeeId, insertStampHistory(employeeId, september), september, "PENDING", "九月の申請の理由です");
+
+        int repaired = stampRequestMapper.repairLatestRequests(LocalDate.of(2025, 10, 1), LocalDate.of(2025, 11, 1));
+
+        assertThat(repaired).isEqualTo(1);
+        assertThat(latest(employeeId)).containsExactly(Map.of("request_id", octoberRequest, "request_status", "PENDING"));
+        assertThat(stampRequestMapper.repairLatestRequests(LocalDate.of(2025, 10, 1), LocalDate.of(2025, 11, 1)))
+            .isZero();
+
+        jdbcTemplate.update("DELETE FROM stamp_request WHERE id = ?", octoberRequest);
+        assertThat(latest(employeeId)).isEmpty();
+    }
+
+    private List<Map<String, Object>> latest(int employeeId) {
+        return jdbcTemplate.queryForList(
+            "SELECT request_id, request_status::text AS request_status FROM stamp_request_latest "
+                + "WHERE employee_id = ? ORDER BY stamp_date",
+            employeeId);
+    }
+}
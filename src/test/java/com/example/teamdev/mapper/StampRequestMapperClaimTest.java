@@ -0,0 +1,85 @@
+package com.example.teamdev.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.teamdev.entity.StampRequest;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class StampRequestMapperClaimTest extends StampRequestMapperTestBase {
+
+    @Test
+    @DisplayName("claimPending - リース中の申請は他の担当者の一覧・割り当てから除外される")
+    void claimPending_hidesLeasedRequestsFromOtherReviewers() {
+        int employeeId = insertEmployee(3001, "Claim", "Owner");
+        int reviewerA = insertEmployee(3002, "Reviewer", "Alpha");
+        int reviewerB = insertEmployee(3003, "Reviewer", "Beta");
+        int first = insertPending(employeeId, LocalDate.of(2025, 11, 3));
+        int second = insertPending(employeeId, LocalDate.of(2025, 11, 4));
+        int third = insertPending(employeeId, LocalDate.of(2025, 11, 5));
+        OffsetDateTime now = OffsetDateTime.now(JST);
+
+        List<StampRequest> claimedByA = stampRequestMapper.claimPending(reviewerA, 2, now, now.plusMinutes(15));
+        List<StampRequest> claimedByB = stampRequestMapper.claimPending(reviewerB, 2, now, now.plusMinutes(15));
+
+        assertThat(claimedByA).extracting(StampRequest::getId).containsExactlyInAnyOrder(first, second);
+        assertThat(claimedByA).allSatisfy(r -> assertThat(r.getClaimedBy()).isEqualTo(reviewerA));
+        assertThat(claimedByB).extracting(StampRequest::getId).containsExactly(third);
+        assertThat(stampRequestMapper.findWithSearch("PENDING", null, "oldest", 0, 10, reviewerB, now))
+            .extracting(StampRequest::getId)
+            .contains(third)
+            .doesNotContain(first, second);
+        assertThat(stampRequestMapper.findWithSearch("PENDING", null, "oldest", 0, 10, null, now))
+            .extracting(StampRequest::getId)
+            .contains(first, second, third);
+    }
+
+    @Test
+    @DisplayName("claimPending - 期限切れのリースは他の担当者に割り当て直される")
+    void claimPending_reassignsExpiredLease() {
+        int employeeId = insertEmployee(3011, "Expired", "Owner");
+        int reviewerA = insertEmployee(3012, "Reviewer", "Gamma");
+        int reviewerB = insertEmployee(3013, "Reviewer", "Delta");
+        int requestId = insertPending(employeeId, LocalDate.of(2025, 11, 6));
+        OffsetDateTime now = OffsetDateTime.now(JST);
+        stampRequestMapper.claimPending(reviewerA, 1, now.minusMinutes(30), now.minusMinutes(15));
+
+        List<StampRequest> claimed = stampRequestMapper.claimPending(reviewerB, 1, now, now.plusMinutes(15));
+
+        assertThat(claimed).extracting(StampRequest::getId).containsExactly(requestId);
+        assertThat(claimed.get(0).getClaimedBy()).isEqualTo(reviewerB);
+    }
+
+    @Test
+    @DisplayName("releaseClaims - 解放した申請は再び他の担当者に割り当てられ、更新日時は変わらない")
+    void releaseClaims_returnsRequestsToQueue() {
+        int employeeId = insertEmployee(3021, "Release", "Owner");
+        int reviewerA = insertEmployee(3022, "Reviewer", "Epsilon");
+        int reviewerB = insertEmployee(3023, "Reviewer", "Zeta");
+        int requestId = insertPending(employeeId, LocalDate.of(2025, 11, 7));
+        OffsetDateTime updatedAt = stampRequestMapper.findById(requestId).orElseThrow().getUpdatedAt();
+        OffsetDateTime now = OffsetDateTime.now(JST);
+        stampRequestMapper.claimPending(reviewerA, 1, now, now.plusMinutes(15));
+
+        int released = stampRequestMapper.releaseClaims(reviewerA, null);
+        List<StampRequest> claimed = stampRequestMapper.claimPending(reviewerB, 1, now, now.plusMinutes(15));
+
+        assertThat(released).isEqualTo(1);
+        assertThat(claimed).extracting(StampRequest::getId).containsExactly(requestId);
+        assertThat(claimed.get(0).getUpdatedAt()).isEqualTo(updatedAt);
+    }
+
+    private int insertPending(int employeeId, LocalDate date) {
+        int stampHistoryId = insertStampHistory(employeeId, date);
+        return insertStampRequest(employeeId, stampHistoryId, date, "PENDING", "承認キューのテストです。");
+    }
+}
@@ -55,15 +55,12 @@ public abstract class StampRequestMapperTestBase extends PostgresContainerSuppor
     protected int insertStampHistory(int employeeId, LocalDate date) {
         Integer id = jdbcTemplate.queryForObject(
                 """
-                INSERT INTO stamp_history (stamp_date, year, month, day, employee_id, update_employee_id, update_date)
-                VALUES (?, ?, ?, ?, ?, ?, NOW())
+                INSERT INTO stamp_history (stamp_date, employee_id, update_employee_id, update_date)
+                VALUES (?, ?, ?, NOW())
                 RETURNING id
                 """,
                 Integer.class,
                 date,
-                String.format("%04d", date.getYear()),
-                String.format("%02d", date.getMonthValue()),
-                String.format("%02d", date.getDayOfMonth()),
                 employeeId,
                 employeeId
         );
@@ -0,0 +1,153 @@
+package com.example.teamdev.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.teamdev.entity.HttpSessionRecord;
+import com.example.teamdev.mapper.HttpSessionMapper;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JdbcSessionStore単体テスト")
+class JdbcSessionStoreTest {
+
+    private static final Instant FIXED_INSTANT = Instant.parse("2025-11-30T15:00:00Z");
+    private static final OffsetDateTime NOW = OffsetDateTime.ofInstant(FIXED_INSTANT, ZoneOffset.UTC);
+    private static final String TOKEN = "session-token";
+    private static final String PRINCIPAL = "alice@example.com";
+    private static final long CACHE_TTL_MILLIS = 2000;
+
+    @Mock
+    private HttpSessionMapper mapper;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private JdbcSessionStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new JdbcSessionStore(mapper, Clock.fixed(FIXED_INSTANT, ZoneOffset.UTC), Duration.ofMinutes(30),
+            2, CACHE_TTL_MILLIS, 100, 5000, 60, 500) {
+            @Override
+            long nanoTime() {
+                return nanos.get();
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.shutdown();
+    }
+
+    @Test
+    @DisplayName("キャッシュの有効期間内はテーブルを読まず、期間後はバージョンが同じなら状態の確認だけで済ませる")
+    void servesFromNearCacheAndRevalidatesByVersion() {
+        String id = JdbcSessionStore.hash(TOKEN);
+        when(mapper.findById(id)).thenReturn(Optional.of(record(id, 1L)));
+        when(mapper.findStateById(id)).thenReturn(Optional.of(state(id, 1L)));
+
+        assertThat(store.load(TOKEN)).hasValueSatisfying(context ->
+            assertThat(context.getAuthentication().getName()).isEqualTo(PRINCIPAL));
+        store.load(TOKEN);
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(CACHE_TTL_MILLIS));
+        assertThat(store.load(TOKEN)).isPresent();
+
+        verify(mapper, times(1)).findById(id);
+        verify(mapper, times(1)).findStateById(id);
+
+        // 3回のアクセスは1行の更新にまとめて反映する
+        store.flushTouches();
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<HttpSessionRecord>> touches = ArgumentCaptor.forClass(List.class);
+        verify(mapper).touchAll(touches.capture());
+        assertThat(touches.getValue()).singleElement().satisfies(touch -> {
+            assertThat(touch.getId()).isEqualTo(id);
+            assertThat(touch.getLastAccessedAt()).isEqualTo(NOW);
+        });
+    }
+
+    @Test
+    @DisplayName("ほかのノードで SecurityContext が更新された場合は読み直し、削除された場合は未認証とする")
+    void reloadsChangedSessionAndDropsDeletedSession() {
+        String id = JdbcSessionStore.hash(TOKEN);
+        when(mapper.findById(id)).thenReturn(Optional.of(record(id, 1L)), Optional.of(record(id, 2L)));
+        when(mapper.findStateById(id)).thenReturn(Optional.of(state(id, 2L)), Optional.empty());
+
+        store.load(TOKEN);
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(CACHE_TTL_MILLIS));
+        assertThat(store.load(TOKEN)).isPresent();
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(CACHE_TTL_MILLIS));
+        assertThat(store.load(TOKEN)).isEmpty();
+
+        verify(mapper, times(2)).findById(id);
+        verify(mapper, times(2)).findStateById(id);
+    }
+
+    @Test
+    @DisplayName("ログイン時は新しいトークンで登録し、同時セッション数を超えた古いセッションを削除する")
+    void issuesNewTokenAndEvictsOldestSessions() {
+        when(mapper.deleteOldestByPrincipal(PRINCIPAL, 2)).thenReturn(List.of("evicted"));
+
+        String token = store.save(null, context());
+
+        ArgumentCaptor<HttpSessionRecord> inserted = ArgumentCaptor.forClass(HttpSessionRecord.class);
+        verify(mapper).insert(inserted.capture());
+        assertThat(inserted.getValue().getId()).isEqualTo(JdbcSessionStore.hash(token)).isNotEqualTo(token);
+        assertThat(inserted.getValue().getExpiresAt()).isEqualTo(NOW.plusMinutes(30));
+        verify(mapper).deleteOldestByPrincipal(PRINCIPAL, 2);
+
+        // 登録したセッションはこのノードのキャッシュから読む
+        assertThat(store.load(token)).isPresent();
+        verify(mapper, never()).findById(anyString());
+        verify(mapper, never()).updateSecurityContext(any(), any(), any());
+    }
+
+    private static SecurityContext context() {
+        return new SecurityContextImpl(UsernamePasswordAuthenticationToken.authenticated(
+            PRINCIPAL, null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+
+    private static HttpSessionRecord record(String id, long version) {
+        HttpSessionRecord record = state(id, version);
+        record.setSecurityContext(new SerializingConverter().convert(context()));
+        return record;
+    }
+
+    private static HttpSessionRecord state(String id, long version) {
+        HttpSessionRecord state = new HttpSessionRecord();
+        state.setId(id);
+        state.setPrincipalName(PRINCIPAL);
+        state.setVersion(version);
+        state.setCreatedAt(NOW.minusMinutes(5));
+        state.setLastAccessedAt(NOW.minusMinutes(1));
+        state.setMaxInactiveSeconds(1800);
+        state.setExpiresAt(NOW.plusMinutes(29));
+        return state;
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.teamdev.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.teamdev.entity.AttendanceCloseSource;
+import com.example.teamdev.entity.AttendanceMonthClose;
+import com.example.teamdev.entity.AttendanceMonthSnapshot;
+import com.example.teamdev.exception.ClosedMonthException;
+import com.example.teamdev.mapper.AttendanceMonthSnapshotMapper;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AttendanceMonthCloseService単体テスト")
+class AttendanceMonthCloseServiceTest {
+
+    private static final Instant FIXED_INSTANT = Instant.parse("2025-11-05T01:00:00Z");
+    private static final ZoneId TOKYO = ZoneId.of("Asia/Tokyo");
+    private static final OffsetDateTime NOW = OffsetDateTime.ofInstant(FIXED_INSTANT, TOKYO);
+    private static final YearMonth OCTOBER = YearMonth.of(2025, 10);
+    private static final Integer OPERATOR_ID = 1;
+
+    @Mock
+    private AttendanceMonthSnapshotMapper mapper;
+
+    @Mock
+    private AttendanceMonthSnapshotCopyWriter copyWriter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private AttendanceMonthCloseService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new AttendanceMonthCloseService(mapper, copyWriter, eventPublisher, Clock.fixed(FIXED_INSTANT, TOKYO), 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("締め情報を登録し、全従業員の計算結果を計算元と同じ並びで一括登録する")
+    void closesMonthAndCopiesSnapshotsInSourceOrder() {
+        List<AttendanceCloseSource> sources = new ArrayList<>();
+        for (int employeeId = 1; employeeId <= 10; employeeId++) {
+            for (int day = 1; day <= 3; day++) {
+                LocalDate date = OCTOBER.atDay(day);
+                sources.add(AttendanceSnapshotCalculatorTest.source(employeeId, date,
+                    date + "T09:00:00+09:00", null, null, date + "T19:00:00+09:00", false));
+            }
+        }
+        when(mapper.insertClose(OCTOBER.atDay(1), OPERATOR_ID, NOW)).thenReturn(1);
+        when(mapper.findCloseSources(OCTOBER.atDay(1), OCTOBER.atEndOfMonth())).thenReturn(sources);
+        when(copyWriter.copy(anyList())).thenReturn(30L);
+
+        Optional<AttendanceMonthClose> result = service.close(OCTOBER, OPERATOR_ID);
+
+        assertThat(result).hasValueSatisfying(close -> {
+            assertThat(close.getEmployeeCount()).isEqualTo(10);
+            assertThat(close.getRowCount()).isEqualTo(30);
+        });
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AttendanceMonthSnapshot>> copied = ArgumentCaptor.forClass(List.class);
+        verify(copyWriter).copy(copied.capture());
+        assertThat(copied.getValue())
+            .extracting(AttendanceMonthSnapshot::getStampHistoryId)
+            .containsExactlyElementsOf(sources.stream().map(AttendanceCloseSource::getStampHistoryId).toList());
+        // 9:00〜19:00、休憩はスケジュールの60分 → 実労働540分・残業60分
+        assertThat(copied.getValue()).allSatisfy(row -> {
+            assertThat(row.getWorkedMinutes()).isEqualTo(540);
+            assertThat(row.getOvertimeMinutes()).isEqualTo(60);
+        });
+        verify(mapper).updateCloseCounts(OCTOBER.atDay(1), 10, 30);
+        // 打刻記録を変更中のトランザクションの完了を待ってから計算元を読む
+        InOrder inOrder = inOrder(mapper);
+        inOrder.verify(mapper).lockMonthExclusive(OCTOBER.atDay(1));
+        inOrder.verify(mapper).insertClose(OCTOBER.atDay(1), OPERATOR_ID, NOW);
+        inOrder.verify(mapper).findCloseSources(OCTOBER.atDay(1), OCTOBER.atEndOfMonth());
+    }
+
+    @Test
+    @DisplayName("既に締め済みの月は計算・登録を行わない")
+    void skipsAlreadyClosedMonth() {
+        when(mapper.insertClose(any(), any(), any())).thenReturn(0);
+
+        assertThat(service.close(OCTOBER, OPERATOR_ID)).isEmpty();
+
+        verify(mapper, never()).findCloseSources(any(), any());
+        verifyNoInteractions(copyWriter);
+    }
+
+    @Test
+    @DisplayName("当月以降は締められない")
+    void rejectsCurrentMonth() {
+        assertThatThrownBy(() -> service.close(YearMonth.of(2025, 11), OPERATOR_ID))
+            .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(mapper, copyWriter);
+    }
+
+    @Test
+    @DisplayName("締め済みの判定は締め済みの月のみキャッシュする")
+    void cachesOnlyClosedMonths() {
+        when(mapper.existsClose(OCTOBER.atDay(1))).thenReturn(true);
+        when(mapper.existsClose(YearMonth.of(2025, 9).atDay(1))).thenReturn(false);
+
+        assertThat(service.isClosed(OCTOBER)).isTrue();
+        assertThat(service.isClosed(OCTOBER)).isTrue();
+        assertThat(service.isClosed(YearMonth.of(2025, 9))).isFalse();
+        assertThat(service.isClosed(YearMonth.of(2025, 9))).isFalse();
+
+        verify(mapper, times(1)).existsClose(OCTOBER.atDay(1));
+        verify(mapper, times(2)).existsClose(YearMonth.of(2025, 9).atDay(1));
+    }
+
+    @Test
+    @DisplayName("変更前の確認では未締めの月の共有ロックを取得してから締め情報を確認し、締め済みの月を返す")
+    void locksOpenMonthsBeforeCheckingClose() {
+        YearMonth september = YearMonth.of(2025, 9);
+        when(mapper.existsClose(september.atDay(1))).thenReturn(false);
+        when(mapper.existsClose(OCTOBER.atDay(1))).thenReturn(true);
+
+        Set<YearMonth> closed = service.lockOpenMonths(
+            List.of(OCTOBER.atDay(31), september.atDay(2), OCTOBER.atDay(1)));
+
+        assertThat(closed).containsExactly(OCTOBER);
+        InOrder inOrder = inOrder(mapper);
+        inOrder.verify(mapper).lockMonthShared(september.atDay(1));
+        inOrder.verify(mapper).existsClose(september.atDay(1));
+        inOrder.verify(mapper).lockMonthShared(OCTOBER.atDay(1));
+        inOrder.verify(mapper).existsClose(OCTOBER.atDay(1));
+
+        // 締め済みの月は取り消せないため、以降はロック・確認を行わずに拒否する
+        assertThatThrownBy(() -> service.assertOpen(OCTOBER.atDay(15)))
+            .isInstanceOfSatisfying(ClosedMonthException.class, e -> assertThat(e.getMonth()).isEqualTo(OCTOBER));
+        verify(mapper, times(1)).lockMonthShared(OCTOBER.atDay(1));
+        verify(mapper, times(1)).existsClose(OCTOBER.atDay(1));
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.teamdev.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.teamdev.entity.AttendanceCloseSource;
+import com.example.teamdev.entity.AttendanceMonthSnapshot;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AttendanceSnapshotCalculatorTest {
+
+    private static final ZoneId TOKYO = ZoneId.of("Asia/Tokyo");
+    private static final LocalDate MONTH = LocalDate.of(2025, 10, 1);
+
+    @DisplayName("日勤は実労働・残業・遅刻を勤務スケジュールで計算し、深夜時間は0")
+    @Test
+    void calculatesDayShift() {
+        AttendanceCloseSource source = source(LocalDate.of(2025, 10, 1),
+            "2025-10-01T09:15:30+09:00", "2025-10-01T12:00:00+09:00",
+            "2025-10-01T13:00:00+09:00", "2025-10-01T20:00:00+09:00", false);
+
+        AttendanceMonthSnapshot row = AttendanceSnapshotCalculator.calculate(MONTH, List.of(source), TOKYO).get(0);
+
+        // 9:15:30〜20:00 から休憩60分 = 584.5分 → 584分、所定 8時間 → 残業 104分
+        assertThat(row.getWorkedMinutes()).isEqualTo(584);
+        assertThat(row.getOvertimeMinutes()).isEqualTo(104);
+        assertThat(row.getNightMinutes()).isZero();
+        assertThat(row.getLateMinutes()).isEqualTo(15);
+        assertThat(row.getTargetMonth()).isEqualTo(MONTH);
+        assertThat(row.getStampHistoryId()).isEqualTo(source.getStampHistoryId());
+    }
+
+    @DisplayName("日付をまたぐ夜勤は 22:00〜翌5:00 の勤務を深夜時間とし、深夜帯の休憩を除く")
+    @Test
+    void calculatesNightMinutesAcrossMidnight() {
+        AttendanceCloseSource source = source(LocalDate.of(2025, 10, 10),
+            "2025-10-10T20:00:00+09:00", "2025-10-11T01:00:00+09:00",
+            "2025-10-11T01:30:00+09:00", "2025-10-11T06:00:00+09:00", true);
+
+        AttendanceMonthSnapshot row = AttendanceSnapshotCalculator.calculate(MONTH, List.of(source), TOKYO).get(0);
+
+        // 深夜帯 22:00〜5:00 = 420分 から 1:00〜1:30 の休憩を除く
+        assertThat(row.getNightMinutes()).isEqualTo(390);
+        assertThat(row.getWorkedMinutes()).isEqualTo(570);
+        // 夜勤の日は遅刻として扱わない
+        assertThat(row.getLateMinutes()).isZero();
+    }
+
+    @DisplayName("退勤がない日は実労働・残業・深夜をすべて0とする")
+    @Test
+    void returnsZeroWithoutDeparture() {
+        AttendanceCloseSource source = source(LocalDate.of(2025, 10, 2),
+            "2025-10-02T09:00:00+09:00", null, null, null, false);
+
+        AttendanceMonthSnapshot row = AttendanceSnapshotCalculator.calculate(MONTH, List.of(source), TOKYO).get(0);
+
+        assertThat(row.getWorkedMinutes()).isZero();
+        assertThat(row.getOvertimeMinutes()).isZero();
+        assertThat(row.getNightMinutes()).isZero();
+        assertThat(row.getLateMinutes()).isZero();
+    }
+
+    static AttendanceCloseSource source(LocalDate stampDate, String in, String breakStart, String breakEnd,
+                                        String out, boolean nightShift) {
+        return source(1, stampDate, in, breakStart, breakEnd, out, nightShift);
+    }
+
+    static AttendanceCloseSource source(int employeeId, LocalDate stampDate, String in, String breakStart,
+                                        String breakEnd, String out, boolean nightShift) {
+        AttendanceCloseSource source = new AttendanceCloseSource();
+        source.setStampHistoryId(employeeId * 100 + stampDate.getDayOfMonth());
+        source.setEmployeeId(employeeId);
+        source.setStampDate(stampDate);
+        source.setInTime(parse(in));
+        source.setBreakStartTime(parse(breakStart));
+        source.setBreakEndTime(parse(breakEnd));
+        source.setOutTime(parse(out));
+        source.setIsNightShift(nightShift);
+        source.setScheduleStart("09:00");
+        source.setScheduleEnd("18:00");
+        source.setScheduleBreakMinutes(60);
+        return source;
+    }
+
+    private static OffsetDateTime parse(String value) {
+        return value != null ? OffsetDateTime.parse(value) : null;
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.teamdev.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.teamdev.dto.api.home.HomeNewsItem;
+import com.example.teamdev.entity.News;
+import com.example.teamdev.entity.ResourceWatermark;
+import com.example.teamdev.mapper.ResourceWatermarkMapper;
+import com.example.teamdev.service.event.NewsChangedEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NewsFeedCache単体テスト")
+class NewsFeedCacheTest {
+
+    private static final long REVALIDATE_MILLIS = 2000;
+
+    @Mock
+    private NewsManageService newsManageService;
+
+    @Mock
+    private HomeNewsService homeNewsService;
+
+    @Mock
+    private ResourceWatermarkMapper watermarkMapper;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong nanos = new AtomicLong();
+
+    private NewsFeedCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new NewsFeedCache(newsManageService, homeNewsService, watermarkMapper, objectMapper, REVALIDATE_MILLIS) {
+            @Override
+            long nanoTime() {
+                return nanos.get();
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("初回構築後はDBを参照せず同じバイト列を返す")
+    void servesCachedBytesUntilNewsChanges() throws Exception {
+        when(newsManageService.getPublishedNews()).thenReturn(List.of(news(1, "メンテナンス")));
+        when(homeNewsService.execute()).thenReturn(List.of(homeItem(1)));
+
+        NewsFeedCache.SerializedFeed first = cache.publishedFeed();
+        NewsFeedCache.SerializedFeed second = cache.publishedFeed();
+        NewsFeedCache.HomeNews home = cache.homeNews();
+
+        assertThat(second).isSameAs(first);
+        assertThat(home.items()).extracting(HomeNewsItem::id).containsExactly(1);
+        assertThat(home.etag()).isEqualTo(first.etag());
+        JsonNode body = objectMapper.readTree(first.json());
+        assertThat(body.at("/news/0/title").asText()).isEqualTo("メンテナンス");
+        verify(newsManageService, times(1)).getPublishedNews();
+        verify(homeNewsService, times(1)).execute();
+    }
+
+    @Test
+    @DisplayName("変更イベント受信時に再構築し、ETagが変わる")
+    void rebuildsOnNewsChangedEvent() {
+        when(newsManageService.getPublishedNews())
+            .thenReturn(List.of(news(1, "旧タイトル")))
+            .thenReturn(List.of(news(1, "新タイトル")));
+        when(homeNewsService.execute()).thenReturn(List.of());
+
+        NewsFeedCache.SerializedFeed before = cache.publishedFeed();
+        cache.onNewsChanged(new NewsChangedEvent(Instant.parse("2025-11-07T00:00:00Z")));
+        NewsFeedCache.SerializedFeed after = cache.publishedFeed();
+
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+        assertThat(new String(after.json(), StandardCharsets.UTF_8)).contains("新タイトル");
+        verify(newsManageService, times(2)).getPublishedNews();
+    }
+
+    @Test
+    @DisplayName("ほかのノードでの変更は確認間隔ごとのウォーターマーク比較で検知して再構築する")
+    void rebuildsWhenWatermarkChangesOnAnotherNode() {
+        when(watermarkMapper.findPublishedNewsWatermark())
+            .thenReturn(watermark(1, "2025-11-01T00:00:00Z"))
+            .thenReturn(watermark(1, "2025-11-01T00:00:00Z"))
+            .thenReturn(watermark(1, "2025-11-02T00:00:00Z"));
+        when(newsManageService.getPublishedNews())
+            .thenReturn(List.of(news(1, "旧タイトル")))
+            .thenReturn(List.of(news(1, "新タイトル")));
+        when(homeNewsService.execute()).thenReturn(List.of());
+
+        NewsFeedCache.SerializedFeed first = cache.publishedFeed();
+        // 確認間隔内はウォーターマークも参照しない
+        assertThat(cache.publishedFeed()).isSameAs(first);
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(REVALIDATE_MILLIS));
+        assertThat(cache.publishedFeed()).isSameAs(first);
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(REVALIDATE_MILLIS));
+        NewsFeedCache.SerializedFeed changed = cache.publishedFeed();
+
+        assertThat(new String(changed.json(), StandardCharsets.UTF_8)).contains("新タイトル");
+        // 構築時1回 + 確認2回 + 再構築時1回
+        verify(watermarkMapper, times(4)).findPublishedNewsWatermark();
+        verify(newsManageService, times(2)).getPublishedNews();
+    }
+
+    @Test
+    @DisplayName("gzip版は展開すると非圧縮版と一致し、ETagは表現ごとに異なる")
+    void gzipVariantMatchesJson() throws Exception {
+        NewsFeedCache.SerializedFeed feed = NewsFeedCache.SerializedFeed.of(
+            "{\"news\":[]}".getBytes(StandardCharsets.UTF_8));
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(feed.gzip()))) {
+            assertThat(in.readAllBytes()).isEqualTo(feed.json());
+        }
+        assertThat(feed.etag(false)).isEqualTo(feed.etag());
+        assertThat(feed.etag(true)).isNotEqualTo(feed.etag()).startsWith("\"").endsWith("-gzip\"");
+    }
+
+    private static News news(int id, String title) {
+        News news = new News();
+        news.setId(id);
+        news.setNewsDate(LocalDate.parse("2025-11-01"));
+        news.setTitle(title);
+        news.setContent("本文");
+        news.setLabel("GENERAL");
+        news.setReleaseFlag(true);
+        news.setUpdateDate(Timestamp.from(Instant.parse("2025-11-01T00:00:00Z")));
+        return news;
+    }
+
+    private static ResourceWatermark watermark(long rowCount, String lastModified) {
+        return new ResourceWatermark(rowCount, Timestamp.from(Instant.parse(lastModified)), rowCount);
+    }
+
+    private static HomeNewsItem homeItem(int id) {
+        return new HomeNewsItem(id, "タイトル", "本文", "GENERAL", "2025/11/01", true);
+    }
+}
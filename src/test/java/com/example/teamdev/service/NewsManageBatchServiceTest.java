@@ -0,0 +1,136 @@
+package com.example.teamdev.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.teamdev.dto.api.news.BulkDeletionResult;
+import com.example.teamdev.dto.api.news.BulkUpdateResult;
+import com.example.teamdev.dto.api.news.NewsBulkPublishRequest.NewsPublishItem;
+import com.example.teamdev.mapper.NewsMapper;
+import com.example.teamdev.service.event.NewsChangedEvent;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NewsManageBatchService単体テスト")
+class NewsManageBatchServiceTest {
+
+    private static final Instant FIXED_INSTANT = Instant.parse("2025-11-07T00:00:00Z");
+    private static final Integer OPERATOR_ID = 1;
+
+    @Mock
+    private NewsMapper mapper;
+
+    @Mock
+    private LogHistoryRegistrationService logHistoryService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private NewsManageBatchService service;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(FIXED_INSTANT, ZoneOffset.UTC);
+        service = new NewsManageBatchService(mapper, logHistoryService, clock, eventPublisher, transactionManager, 1000);
+    }
+
+    @Test
+    @DisplayName("チャンクごとに1文・1トランザクションで削除し、RETURNINGから個別結果を組み立てる")
+    void deleteProcessesInChunksAndUsesReturningIds() {
+        List<Integer> ids = IntStream.rangeClosed(1, 2500).boxed().toList();
+        when(mapper.deleteByIdsReturningIds(any(Integer[].class))).thenAnswer(invocation -> {
+            Integer[] chunk = invocation.getArgument(0);
+            // 2500番のみ存在しない
+            return Arrays.stream(chunk).filter(id -> id != 2500).toList();
+        });
+
+        BulkDeletionResult result = service.delete(ids, OPERATOR_ID);
+
+        ArgumentCaptor<Integer[]> chunks = ArgumentCaptor.forClass(Integer[].class);
+        verify(mapper, times(3)).deleteByIdsReturningIds(chunks.capture());
+        assertThat(chunks.getAllValues()).extracting(chunk -> chunk.length).containsExactly(1000, 1000, 500);
+        verify(transactionManager, times(3)).commit(any());
+        verify(mapper, never()).findExistingIds(any());
+
+        assertThat(result.successCount()).isEqualTo(2499);
+        assertThat(result.failureCount()).isEqualTo(1);
+        assertThat(result.results()).hasSize(2500);
+        assertThat(result.results().get(2499).success()).isFalse();
+        assertThat(result.results().get(2499).errorMessage()).isEqualTo("お知らせが見つかりません");
+        verify(logHistoryService, times(3)).execute(2, 4, null, null, OPERATOR_ID, Timestamp.from(FIXED_INSTANT));
+        verify(eventPublisher, times(3)).publishEvent(new NewsChangedEvent(FIXED_INSTANT));
+    }
+
+    @Test
+    @DisplayName("公開フラグはIDと同じ並びの配列で渡し、重複IDは最後の指定を採用する")
+    void publishPassesParallelArraysAndDeduplicates() {
+        List<NewsPublishItem> items = List.of(
+            new NewsPublishItem(10, true),
+            new NewsPublishItem(20, false),
+            new NewsPublishItem(10, false)
+        );
+        when(mapper.updateReleaseFlagsReturningIds(any(Integer[].class), any(Boolean[].class), any(Timestamp.class)))
+            .thenReturn(List.of(10));
+
+        BulkUpdateResult result = service.publish(items, OPERATOR_ID);
+
+        ArgumentCaptor<Integer[]> idsCaptor = ArgumentCaptor.forClass(Integer[].class);
+        ArgumentCaptor<Boolean[]> flagsCaptor = ArgumentCaptor.forClass(Boolean[].class);
+        verify(mapper).updateReleaseFlagsReturningIds(idsCaptor.capture(), flagsCaptor.capture(),
+            eq(Timestamp.from(FIXED_INSTANT)));
+        assertThat(idsCaptor.getValue()).containsExactly(10, 20);
+        assertThat(flagsCaptor.getValue()).containsExactly(false, false);
+
+        assertThat(result.successCount()).isEqualTo(1);
+        assertThat(result.failureCount()).isEqualTo(1);
+        assertThat(result.results()).extracting(r -> r.id() + ":" + r.success()).containsExactly("10:true", "20:false");
+    }
+
+    @Test
+    @DisplayName("1件も更新されなかった場合は履歴・イベントを記録しない")
+    void publishWithoutChangesSkipsHistory() {
+        when(mapper.updateReleaseFlagsReturningIds(any(Integer[].class), any(Boolean[].class), any(Timestamp.class)))
+            .thenReturn(List.of());
+
+        BulkUpdateResult result = service.publish(List.of(new NewsPublishItem(99, true)), OPERATOR_ID);
+
+        assertThat(result.successCount()).isZero();
+        verifyNoInteractions(logHistoryService, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("上限件数を超える場合は例外")
+    void rejectsTooManyIds() {
+        List<Integer> ids = IntStream.rangeClosed(1, NewsManageBatchService.MAX_BATCH_SIZE + 1).boxed().toList();
+
+        assertThatThrownBy(() -> service.delete(ids, OPERATOR_ID))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("10000");
+        verifyNoInteractions(mapper);
+    }
+}
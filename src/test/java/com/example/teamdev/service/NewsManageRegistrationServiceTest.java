@@ -9,6 +9,7 @@ import static org.mockito.Mockito.when;
 import com.example.teamdev.entity.News;
 import com.example.teamdev.form.NewsManageForm;
 import com.example.teamdev.mapper.NewsMapper;
+import com.example.teamdev.service.event.NewsChangedEvent;
 import java.sql.Timestamp;
 import java.time.Clock;
 import java.time.Instant;
@@ -22,6 +23,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class NewsManageRegistrationServiceTest {
@@ -32,6 +34,9 @@ class NewsManageRegistrationServiceTest {
     @Mock
     LogHistoryRegistrationService logHistoryService;
 
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
     Clock fixedClock;
 
     NewsManageRegistrationService service;
@@ -39,7 +44,7 @@ class NewsManageRegistrationServiceTest {
     @BeforeEach
     void setUp() {
         fixedClock = Clock.fixed(Instant.parse("2025-10-30T12:34:56Z"), ZoneOffset.UTC);
-        service = new NewsManageRegistrationService(mapper, logHistoryService, fixedClock);
+        service = new NewsManageRegistrationService(mapper, logHistoryService, fixedClock, eventPublisher);
     }
 
     @DisplayName("新規登録時にフォームの公開状態・タイトル・ラベルを保存する")
@@ -79,6 +84,7 @@ class NewsManageRegistrationServiceTest {
         assertThat(result.getReleaseFlag()).isTrue();
 
         verify(logHistoryService).execute(2, 3, null, null, 200, Timestamp.from(fixedClock.instant()));
+        verify(eventPublisher).publishEvent(new NewsChangedEvent(fixedClock.instant()));
     }
 
     @DisplayName("既存ニュースを更新する際に公開状態・タイトル・ラベルを反映する")
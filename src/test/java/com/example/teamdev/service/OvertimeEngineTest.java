@@ -0,0 +1,273 @@
+package com.example.teamdev.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.teamdev.service.dto.DailyAttendanceRecord;
+import com.example.teamdev.service.profile.model.ProfileWorkScheduleDocument;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+class OvertimeEngineTest {
+
+    private static final Logger log = LoggerFactory.getLogger(OvertimeEngineTest.class);
+
+    private static final int MEASURE_ROUNDS = 5;
+
+    private static final ProfileWorkScheduleDocument DEFAULT_SCHEDULE =
+        new ProfileWorkScheduleDocument("09:00", "18:00", 60);
+
+    @DisplayName("ランダムな打刻で従来のDuration実装と同じ残業分数を返す")
+    @Test
+    void matchesDurationBasedReferenceForRandomRecords() {
+        Random random = new Random(20251107L);
+
+        for (int i = 0; i < 20_000; i++) {
+            ProfileWorkScheduleDocument schedule = randomSchedule(random);
+            DailyAttendanceRecord record = randomRecord(random);
+
+            int expected = referenceOvertimeMinutes(record, schedule);
+
+            assertThat(OvertimeEngine.compile(schedule).overtimeMinutes(record))
+                .as("schedule=%s record=%s", schedule, record)
+                .isEqualTo(expected);
+        }
+    }
+
+    @DisplayName("月次一括計算は日次計算と同じ結果を同じ並びで返す")
+    @Test
+    void monthlyBatchMatchesDailyCalculation() {
+        Random random = new Random(42L);
+        List<DailyAttendanceRecord> records = new ArrayList<>();
+        for (int day = 0; day < 31; day++) {
+            records.add(randomRecord(random));
+        }
+
+        int[] result = OvertimeCalculator.calculateMonthlyOvertimeMinutes(records, DEFAULT_SCHEDULE);
+
+        assertThat(result).hasSize(31);
+        for (int day = 0; day < 31; day++) {
+            assertThat(result[day]).isEqualTo(referenceOvertimeMinutes(records.get(day), DEFAULT_SCHEDULE));
+        }
+    }
+
+    @DisplayName("エポックマイクロ秒の並列配列からも同じ結果を返す")
+    @Test
+    void primitiveArraysMatchRecordCalculation() {
+        Random random = new Random(7L);
+        OvertimeEngine engine = OvertimeEngine.compile(DEFAULT_SCHEDULE);
+        int days = 28;
+        long[] attendance = new long[days];
+        long[] breakStart = new long[days];
+        long[] breakEnd = new long[days];
+        long[] departure = new long[days];
+        List<DailyAttendanceRecord> records = new ArrayList<>();
+        for (int day = 0; day < days; day++) {
+            DailyAttendanceRecord record = randomRecord(random);
+            records.add(record);
+            attendance[day] = OvertimeEngine.toEpochMicros(record.attendanceTime());
+            breakStart[day] = OvertimeEngine.toEpochMicros(record.breakStartTime());
+            breakEnd[day] = OvertimeEngine.toEpochMicros(record.breakEndTime());
+            departure[day] = OvertimeEngine.toEpochMicros(record.departureTime());
+        }
+
+        int[] fromArrays = new int[days];
+        engine.fill(attendance, breakStart, breakEnd, departure, fromArrays);
+        int[] fromRecords = new int[days];
+        engine.fill(records, fromRecords);
+
+        assertThat(fromArrays).containsExactly(fromRecords);
+    }
+
+    @DisplayName("分未満の端数は最後に切り捨てる")
+    @Test
+    void truncatesSubMinuteRemainderAtTheEnd() {
+        // 09:00:59 出勤、18:01:00 退勤、休憩記録なし → 実働 8h0m1s、残業 0分
+        DailyAttendanceRecord record = new DailyAttendanceRecord(
+            OffsetDateTime.of(2025, 11, 7, 9, 0, 59, 0, ZoneOffset.UTC),
+            null,
+            null,
+            OffsetDateTime.of(2025, 11, 7, 18, 1, 0, 0, ZoneOffset.UTC)
+        );
+
+        assertThat(OvertimeEngine.compile(DEFAULT_SCHEDULE).overtimeMinutes(record)).isZero();
+    }
+
+    @DisplayName("エポックマイクロ秒の表現範囲外の時刻でも例外にせず範囲の端に丸めて計算する")
+    @Test
+    void clampsTimesOutsideRepresentableRange() {
+        DailyAttendanceRecord record = new DailyAttendanceRecord(
+            OffsetDateTime.of(2025, 11, 7, 9, 0, 0, 0, ZoneOffset.UTC),
+            null,
+            null,
+            OffsetDateTime.MAX
+        );
+
+        assertThat(OvertimeEngine.toEpochMicros(OffsetDateTime.MIN)).isEqualTo(-OvertimeEngine.toEpochMicros(OffsetDateTime.MAX));
+        assertThat(OvertimeEngine.compile(DEFAULT_SCHEDULE).overtimeMinutes(record)).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    @DisplayName("格納先配列が短い場合は例外")
+    @Test
+    void rejectsShortOutputArray() {
+        OvertimeEngine engine = OvertimeEngine.compile(DEFAULT_SCHEDULE);
+        List<DailyAttendanceRecord> records = List.of(
+            new DailyAttendanceRecord(null, null, null, null),
+            new DailyAttendanceRecord(null, null, null, null)
+        );
+
+        assertThatThrownBy(() -> engine.fill(records, new int[1]))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * 31日分の残業計算を、エンジン導入前の {@code Duration} ベースの基準実装と同じデータで比較します。
+     * エンジンは1日あたりのオブジェクト生成をなくしたため、基準実装より速いことを検証します。
+     * 1回の計測は揺らぐため、それぞれ複数回計測した最小値で比較します。
+     * 通常のテスト実行からは除外され、{@code ./gradlew benchmarkTest} で実行します。
+     */
+    @Tag("benchmark")
+    @DisplayName("月次グリッド計算はエンジン導入前の基準実装より速い")
+    @Test
+    void benchmarkMonthlyGrid() {
+        Random random = new Random(1L);
+        List<DailyAttendanceRecord> records = new ArrayList<>();
+        for (int day = 0; day < 31; day++) {
+            records.add(randomRecord(random));
+        }
+        int iterations = 200_000;
+
+        long referenceNanos = measure(iterations, () -> {
+            int sum = 0;
+            for (DailyAttendanceRecord record : records) {
+                sum += referenceOvertimeMinutes(record, DEFAULT_SCHEDULE);
+            }
+            return sum;
+        });
+        // スケジュールの解析は計測に含めない（呼び出し側は解析済みエンジンを使い回す）
+        OvertimeEngine engine = OvertimeEngine.compile(DEFAULT_SCHEDULE);
+        int[] out = new int[records.size()];
+        long engineNanos = measure(iterations, () -> {
+            engine.fill(records, out);
+            return out[0];
+        });
+
+        log.info("overtime month grid: reference={} ns/op, engine={} ns/op",
+            referenceNanos / iterations, engineNanos / iterations);
+        assertThat(engineNanos).isLessThan(referenceNanos);
+    }
+
+    /**
+     * ウォームアップの後に {@value #MEASURE_ROUNDS} 回計測し、最小の経過時間を返します。
+     */
+    private static long measure(int iterations, java.util.function.IntSupplier body) {
+        int sink = 0;
+        // ウォームアップ
+        for (int i = 0; i < iterations; i++) {
+            sink += body.getAsInt();
+        }
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < MEASURE_ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                sink += body.getAsInt();
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        if (sink == Integer.MIN_VALUE) {
+            log.debug("sink={}", sink);
+        }
+        return best;
+    }
+
+    private static ProfileWorkScheduleDocument randomSchedule(Random random) {
+        String start = random.nextInt(10) == 0 ? "" : randomTime(random);
+        String end = random.nextInt(10) == 0 ? "" : randomTime(random);
+        int breakMinutes = random.nextInt(8) == 0 ? -random.nextInt(30) : random.nextInt(120);
+        return new ProfileWorkScheduleDocument(start, end, breakMinutes);
+    }
+
+    private static String randomTime(Random random) {
+        LocalTime time = LocalTime.of(random.nextInt(24), random.nextInt(60));
+        if (random.nextInt(4) == 0) {
+            time = time.withSecond(random.nextInt(60));
+        }
+        return time.toString();
+    }
+
+    /**
+     * 打刻記録（timestamptz）と同じマイクロ秒精度のランダムな打刻を生成します。
+     */
+    private static DailyAttendanceRecord randomRecord(Random random) {
+        OffsetDateTime base = OffsetDateTime.of(2025, 1, 1, 0, 0, 0, 0, ZoneOffset.ofHours(9))
+            .plusDays(random.nextInt(365))
+            .plusSeconds(random.nextInt(24 * 3600))
+            .plusNanos(randomMicros(random));
+        OffsetDateTime attendance = random.nextInt(20) == 0 ? null : base;
+        OffsetDateTime departure = random.nextInt(20) == 0
+            ? null
+            : base.plusSeconds(random.nextInt(16 * 3600) - 3600).plusNanos(randomMicros(random));
+        OffsetDateTime breakStart = null;
+        OffsetDateTime breakEnd = null;
+        if (random.nextBoolean()) {
+            breakStart = base.plusSeconds(random.nextInt(8 * 3600)).plusNanos(randomMicros(random));
+            breakEnd = random.nextInt(5) == 0
+                ? null
+                : breakStart.plusSeconds(random.nextInt(3 * 3600) - 1800).plusNanos(randomMicros(random));
+        }
+        return new DailyAttendanceRecord(attendance, breakStart, breakEnd, departure);
+    }
+
+    private static long randomMicros(Random random) {
+        return random.nextInt(1_000_000) * 1_000L;
+    }
+
+    /**
+     * エンジン導入前の {@code Duration} ベースの計算ロジック（比較用の基準実装）。
+     */
+    private static int referenceOvertimeMinutes(DailyAttendanceRecord record, ProfileWorkScheduleDocument schedule) {
+        if (record.departureTime() == null || record.attendanceTime() == null) {
+            return 0;
+        }
+
+        Duration worked = Duration.between(record.attendanceTime(), record.departureTime());
+        if (record.breakStartTime() != null && record.breakEndTime() != null) {
+            Duration breakDuration = Duration.between(record.breakStartTime(), record.breakEndTime());
+            if (!breakDuration.isNegative()) {
+                worked = worked.minus(breakDuration);
+            }
+        } else if (schedule.breakMinutes() > 0) {
+            worked = worked.minus(Duration.ofMinutes(schedule.breakMinutes()));
+        }
+
+        LocalTime startTime = schedule.start().isBlank() ? LocalTime.of(9, 0) : LocalTime.parse(schedule.start());
+        LocalTime endTime = schedule.end().isBlank() ? LocalTime.of(18, 0) : LocalTime.parse(schedule.end());
+        Duration scheduled = Duration.between(
+            OffsetDateTime.of(LocalDate.now(), startTime, ZoneOffset.UTC),
+            OffsetDateTime.of(LocalDate.now(), endTime, ZoneOffset.UTC));
+        if (schedule.breakMinutes() > 0) {
+            scheduled = scheduled.minus(Duration.ofMinutes(schedule.breakMinutes()));
+        }
+        if (scheduled.isNegative()) {
+            scheduled = Duration.ZERO;
+        }
+
+        Duration overtime = worked.minus(scheduled);
+        if (overtime.isNegative()) {
+            return 0;
+        }
+        return (int) overtime.truncatedTo(ChronoUnit.MINUTES).toMinutes();
+    }
+}
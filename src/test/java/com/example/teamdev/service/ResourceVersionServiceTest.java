@@ -0,0 +1,99 @@
+package com.example.teamdev.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+
+import com.example.teamdev.entity.ResourceWatermark;
+import com.example.teamdev.mapper.ResourceWatermarkMapper;
+import com.example.teamdev.service.dto.ResourceVersion;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ResourceVersionService単体テスト")
+class ResourceVersionServiceTest {
+
+    private static final Instant UPDATED_AT = Instant.parse("2025-11-01T03:00:00Z");
+
+    @Mock
+    private ResourceWatermarkMapper watermarkMapper;
+
+    private ResourceVersionService service;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2025-11-07T00:00:00Z"), ZoneId.of("Asia/Tokyo"));
+        service = new ResourceVersionService(watermarkMapper, clock);
+    }
+
+    @Test
+    @DisplayName("ウォーターマークが同じなら同じ強いETagと最終更新日時を返す")
+    void sameWatermarkProducesSameVersion() {
+        when(watermarkMapper.findEmployeeWatermark(isNull(), isNull()))
+            .thenReturn(watermark(3L, UPDATED_AT, 6L))
+            .thenReturn(watermark(3L, UPDATED_AT, 6L));
+
+        ResourceVersion first = service.employeeList(false);
+        ResourceVersion second = service.employeeList(false);
+
+        assertThat(first).isEqualTo(second);
+        assertThat(first.etag()).matches("\"[0-9a-f]{32}\"");
+        assertThat(first.lastModified()).isEqualTo(UPDATED_AT.toEpochMilli());
+    }
+
+    @Test
+    @DisplayName("更新日時が変わらなくても行の削除と追加でETagが変わる")
+    void rowReplacementChangesEtag() {
+        when(watermarkMapper.findEmployeeWatermark(isNull(), isNull()))
+            .thenReturn(watermark(3L, UPDATED_AT, 6L))
+            .thenReturn(watermark(3L, UPDATED_AT, 7L));
+
+        assertThat(service.employeeList(false).etag()).isNotEqualTo(service.employeeList(false).etag());
+    }
+
+    @Test
+    @DisplayName("対象行がない場合は最終更新日時を -1 とする")
+    void emptyWatermarkHasNoLastModified() {
+        when(watermarkMapper.findEmployeeWatermark(eq(1), isNull()))
+            .thenReturn(watermark(0L, null, 0L));
+
+        ResourceVersion version = service.employeeList(true);
+
+        assertThat(version.lastModified()).isEqualTo(-1L);
+        assertThat(version.etag()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("打刻履歴は年月ごとに異なるETagを返し、従業員テーブルの更新日時も反映する")
+    void stampHistoryVersionDependsOnMonthAndEmployees() {
+        Instant employeeUpdatedAt = UPDATED_AT.plusSeconds(60);
+        when(watermarkMapper.findStampWatermark(anyInt(), any(LocalDate.class), any(LocalDate.class)))
+            .thenReturn(watermark(2L, UPDATED_AT, 30L));
+        when(watermarkMapper.findEmployeeWatermark(isNull(), isNull()))
+            .thenReturn(watermark(5L, employeeUpdatedAt, 15L));
+
+        ResourceVersion october = service.stampHistory(1, YearMonth.of(2025, 10));
+        ResourceVersion november = service.stampHistory(1, YearMonth.of(2025, 11));
+
+        assertThat(october.etag()).isNotEqualTo(november.etag());
+        assertThat(november.lastModified()).isEqualTo(employeeUpdatedAt.toEpochMilli());
+    }
+
+    private static ResourceWatermark watermark(Long rowCount, Instant lastModified, Long checksum) {
+        return new ResourceWatermark(rowCount, lastModified != null ? Timestamp.from(lastModified) : null, checksum);
+    }
+}
@@ -1,19 +1,24 @@
 package com.example.teamdev.service;
 
+import com.example.teamdev.entity.StampDeleteJob;
 import com.example.teamdev.entity.StampHistory;
+import com.example.teamdev.exception.ClosedMonthException;
 import com.example.teamdev.form.StampDeleteForm;
-import com.example.teamdev.mapper.StampDeleteMapper;
 import com.example.teamdev.mapper.StampHistoryMapper;
+import com.example.teamdev.service.event.StampHistoryChangedEvent;
+import com.example.teamdev.service.job.StampDeleteJobService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.sql.Timestamp;
 import java.time.Clock;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.ZoneId;
 import java.util.Optional;
 
@@ -28,7 +33,7 @@ import static org.mockito.Mockito.*;
 class StampDeleteServiceTest {
 
     @Mock
-    private StampDeleteMapper stampDeleteMapper;
+    private StampDeleteJobService stampDeleteJobService;
 
     @Mock
     private StampHistoryMapper stampHistoryMapper;
@@ -36,6 +41,12 @@ class StampDeleteServiceTest {
     @Mock
     private LogHistoryRegistrationService logHistoryService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private AttendanceMonthCloseService monthCloseService;
+
     private Clock clock;
     private StampDeleteService service;
 
@@ -46,115 +57,60 @@ class StampDeleteServiceTest {
         // テスト用の固定Clock
         clock = Clock.fixed(FIXED_INSTANT, ZoneId.systemDefault());
         service = new StampDeleteService(
-            stampDeleteMapper,
+            stampDeleteJobService,
             stampHistoryMapper,
             logHistoryService,
+            eventPublisher,
+            monthCloseService,
             clock
         );
     }
 
     // ========================================
-    // deleteStampsByYearMonthRange() - 正常系
+    // startRangeDeletion()
     // ========================================
 
     @Test
-    void deleteStampsByYearMonthRange_正常に削除できる() {
+    void startRangeDeletion_範囲削除ジョブを投入する() {
         // Given
-        StampDeleteForm form = new StampDeleteForm();
-        form.setStartYear("2024");
-        form.setStartMonth("01");
-        form.setEndYear("2024");
-        form.setEndMonth("03");
-        Integer updateEmployeeId = 1;
-
-        when(stampDeleteMapper.deleteStampsByYearMonthRange(any())).thenReturn(5);
-
-        // When
-        int result = service.deleteStampsByYearMonthRange(form, updateEmployeeId);
-
-        // Then
-        assertEquals(5, result);
-        verify(stampDeleteMapper).deleteStampsByYearMonthRange(any());
-        verify(logHistoryService).execute(
-            eq(5),
-            eq(4),
-            isNull(),
-            isNull(),
-            eq(updateEmployeeId),
-            any(Timestamp.class)
-        );
-    }
-
-    @Test
-    void deleteStampsByYearMonthRange_削除成功時のみログが記録される() {
-        // Given
-        StampDeleteForm form = createForm("2024", "01", "2024", "12");
+        StampDeleteForm form = createForm("2024", "01", "2024", "03");
         Integer updateEmployeeId = 1;
+        StampDeleteJob job = new StampDeleteJob();
+        job.setId(7L);
 
-        when(stampDeleteMapper.deleteStampsByYearMonthRange(any())).thenReturn(10);
+        when(stampDeleteJobService.submit(YearMonth.of(2024, 1), YearMonth.of(2024, 3), updateEmployeeId))
+            .thenReturn(job);
 
         // When
-        service.deleteStampsByYearMonthRange(form, updateEmployeeId);
+        StampDeleteJob result = service.startRangeDeletion(form, updateEmployeeId);
 
-        // Then
-        verify(logHistoryService, times(1)).execute(
-            anyInt(),
-            anyInt(),
-            isNull(),
-            isNull(),
-            eq(updateEmployeeId),
-            any(Timestamp.class)
-        );
+        // Then: 削除・ログ記録・キャッシュ無効化はジョブの完了時に行われる
+        assertSame(job, result);
+        verifyNoInteractions(logHistoryService, eventPublisher);
     }
 
     @Test
-    void deleteStampsByYearMonthRange_削除件数が0でもログは記録される() {
+    void startRangeDeletion_開始が終了より後の場合は投入しない() {
         // Given
-        StampDeleteForm form = createForm("2024", "01", "2024", "03");
-        Integer updateEmployeeId = 1;
-
-        when(stampDeleteMapper.deleteStampsByYearMonthRange(any())).thenReturn(0);
-
-        // When
-        int result = service.deleteStampsByYearMonthRange(form, updateEmployeeId);
+        StampDeleteForm form = createForm("2024", "12", "2024", "01");
 
-        // Then
-        assertEquals(0, result);
-        verify(logHistoryService).execute(
-            anyInt(),
-            anyInt(),
-            isNull(),
-            isNull(),
-            eq(updateEmployeeId),
-            any(Timestamp.class)
-        );
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> service.startRangeDeletion(form, 1));
+        verifyNoInteractions(stampDeleteJobService);
     }
 
     @Test
-    void deleteStampsByYearMonthRange_固定時刻でログが記録される() {
+    void startRangeDeletion_締め済みの月を含む場合は投入しない() {
         // Given
         StampDeleteForm form = createForm("2024", "01", "2024", "03");
-        Integer updateEmployeeId = 1;
-
-        when(stampDeleteMapper.deleteStampsByYearMonthRange(any())).thenReturn(3);
-
-        ArgumentCaptor<Timestamp> timestampCaptor = ArgumentCaptor.forClass(Timestamp.class);
-
-        // When
-        service.deleteStampsByYearMonthRange(form, updateEmployeeId);
+        when(monthCloseService.isClosed(YearMonth.of(2024, 1))).thenReturn(false);
+        when(monthCloseService.isClosed(YearMonth.of(2024, 2))).thenReturn(true);
 
-        // Then
-        verify(logHistoryService).execute(
-            anyInt(),
-            anyInt(),
-            isNull(),
-            isNull(),
-            eq(updateEmployeeId),
-            timestampCaptor.capture()
-        );
-
-        Timestamp capturedTimestamp = timestampCaptor.getValue();
-        assertEquals(Timestamp.from(FIXED_INSTANT), capturedTimestamp);
+        // When & Then
+        ClosedMonthException exception =
+            assertThrows(ClosedMonthException.class, () -> service.startRangeDeletion(form, 1));
+        assertEquals(YearMonth.of(2024, 2), exception.getMonth());
+        verifyNoInteractions(stampDeleteJobService);
     }
 
     // ========================================
@@ -341,22 +297,24 @@ class StampDeleteServiceTest {
     void deleteStampById_正常に削除できる() {
         // Given
         Integer stampId = 123;
+        LocalDate stampDate = LocalDate.of(2024, 1, 10);
         Integer updateEmployeeId = 1;
 
         StampHistory stampHistory = new StampHistory();
         stampHistory.setId(stampId);
         stampHistory.setEmployeeId(10);
+        stampHistory.setStampDate(stampDate);
 
-        when(stampHistoryMapper.getById(stampId)).thenReturn(Optional.of(stampHistory));
-        when(stampHistoryMapper.deleteById(stampId)).thenReturn(1);
+        when(stampHistoryMapper.getById(stampId, stampDate)).thenReturn(Optional.of(stampHistory));
+        when(stampHistoryMapper.deleteById(stampId, stampDate)).thenReturn(1);
 
         // When
-        boolean result = service.deleteStampById(stampId, updateEmployeeId);
+        boolean result = service.deleteStampById(stampId, stampDate, updateEmployeeId);
 
         // Then
         assertTrue(result);
-        verify(stampHistoryMapper).getById(stampId);
-        verify(stampHistoryMapper).deleteById(stampId);
+        verify(stampHistoryMapper).getById(stampId, stampDate);
+        verify(stampHistoryMapper).deleteById(stampId, stampDate);
         verify(logHistoryService).execute(
             eq(5),
             eq(4),
@@ -365,23 +323,25 @@ class StampDeleteServiceTest {
             eq(updateEmployeeId),
             any(Timestamp.class)
         );
+        verify(eventPublisher).publishEvent(StampHistoryChangedEvent.forDate(10, LocalDate.of(2024, 1, 10)));
     }
 
     @Test
     void deleteStampById_存在しないIDでfalseを返す() {
         // Given
         Integer stampId = 999;
+        LocalDate stampDate = LocalDate.of(2024, 1, 10);
         Integer updateEmployeeId = 1;
 
-        when(stampHistoryMapper.getById(stampId)).thenReturn(Optional.empty());
+        when(stampHistoryMapper.getById(stampId, stampDate)).thenReturn(Optional.empty());
 
         // When
-        boolean result = service.deleteStampById(stampId, updateEmployeeId);
+        boolean result = service.deleteStampById(stampId, stampDate, updateEmployeeId);
 
         // Then
         assertFalse(result);
-        verify(stampHistoryMapper).getById(stampId);
-        verify(stampHistoryMapper, never()).deleteById(anyInt());
+        verify(stampHistoryMapper).getById(stampId, stampDate);
+        verify(stampHistoryMapper, never()).deleteById(anyInt(), any());
         verify(logHistoryService, never()).execute(
             anyInt(),
             anyInt(),
@@ -396,21 +356,23 @@ class StampDeleteServiceTest {
     void deleteStampById_削除が0件の場合falseを返す() {
         // Given
         Integer stampId = 123;
+        LocalDate stampDate = LocalDate.of(2024, 1, 10);
         Integer updateEmployeeId = 1;
 
         StampHistory stampHistory = new StampHistory();
         stampHistory.setId(stampId);
         stampHistory.setEmployeeId(10);
+        stampHistory.setStampDate(stampDate);
 
-        when(stampHistoryMapper.getById(stampId)).thenReturn(Optional.of(stampHistory));
-        when(stampHistoryMapper.deleteById(stampId)).thenReturn(0); // 削除失敗
+        when(stampHistoryMapper.getById(stampId, stampDate)).thenReturn(Optional.of(stampHistory));
+        when(stampHistoryMapper.deleteById(stampId, stampDate)).thenReturn(0); // 削除失敗
 
         // When
-        boolean result = service.deleteStampById(stampId, updateEmployeeId);
+        boolean result = service.deleteStampById(stampId, stampDate, updateEmployeeId);
 
         // Then
         assertFalse(result);
-        verify(stampHistoryMapper).deleteById(stampId);
+        verify(stampHistoryMapper).deleteById(stampId, stampDate);
         verify(logHistoryService, never()).execute(
             anyInt(),
             anyInt(),
@@ -425,6 +387,23 @@ class StampDeleteServiceTest {
     // deleteStampById() - 異常系
     // ========================================
 
+    @Test
+    void deleteStampById_締め済みの月の場合は削除しない() {
+        // Given
+        StampHistory stampHistory = new StampHistory();
+        stampHistory.setId(123);
+        stampHistory.setEmployeeId(10);
+        stampHistory.setStampDate(LocalDate.of(2024, 1, 10));
+        when(stampHistoryMapper.getById(123, LocalDate.of(2024, 1, 10))).thenReturn(Optional.of(stampHistory));
+        doThrow(new ClosedMonthException(YearMonth.of(2024, 1)))
+            .when(monthCloseService).assertOpen(LocalDate.of(2024, 1, 10));
+
+        // When & Then
+        assertThrows(ClosedMonthException.class, () -> service.deleteStampById(123, LocalDate.of(2024, 1, 10), 1));
+        verify(stampHistoryMapper, never()).deleteById(anyInt(), any());
+        verifyNoInteractions(logHistoryService, eventPublisher);
+    }
+
     @Test
     void deleteStampById_nullのIDで例外を投げる() {
         // Given
@@ -434,12 +413,12 @@ class StampDeleteServiceTest {
         // When & Then
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class,
-            () -> service.deleteStampById(stampId, updateEmployeeId)
+            () -> service.deleteStampById(stampId, LocalDate.of(2024, 1, 10), updateEmployeeId)
         );
 
         assertEquals("stampId must not be null", exception.getMessage());
-        verify(stampHistoryMapper, never()).getById(any());
-        verify(stampHistoryMapper, never()).deleteById(any());
+        verify(stampHistoryMapper, never()).getById(any(), any());
+        verify(stampHistoryMapper, never()).deleteById(any(), any());
         verify(logHistoryService, never()).execute(
             anyInt(),
             anyInt(),
@@ -1,6 +1,7 @@
 package com.example.teamdev.service;
 
 import com.example.teamdev.dto.StampEditData;
+import com.example.teamdev.exception.ClosedMonthException;
 import com.example.teamdev.service.stamp.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -10,16 +11,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.Clock;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.time.YearMonth;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -43,6 +47,12 @@ class StampEditServiceTest {
     @Mock
     private LogHistoryRegistrationService logHistoryService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private AttendanceMonthCloseService monthCloseService;
+
     @Mock
     private Clock clock;
 
@@ -90,6 +100,22 @@ class StampEditServiceTest {
             verify(logHistoryService).execute(eq(4), eq(3), isNull(), eq(100), eq(UPDATE_EMPLOYEE_ID), any());
         }
 
+        @Test
+        @DisplayName("異常系: 締め済みの月の打刻データは保存しない")
+        void execute_withClosedMonth_shouldNotSave() {
+            // Arrange
+            Map<String, Object> stampEdit = createStampEditMap("100", "2025", "10", "1", "09:00", "18:00", null);
+            StampEditData extractedData = new StampEditData(null, 100, "2025", "10", "1", LocalDate.of(2025, 10, 1), "09:00", "18:00", null, null, null);
+            when(dataExtractor.extractFromMap(stampEdit)).thenReturn(extractedData);
+            doThrow(new ClosedMonthException(YearMonth.of(2025, 10)))
+                .when(monthCloseService).assertOpen(LocalDate.of(2025, 10, 1));
+
+            // Act & Assert
+            assertThrows(ClosedMonthException.class,
+                () -> stampEditService.execute(List.of(stampEdit), UPDATE_EMPLOYEE_ID));
+            verifyNoInteractions(stampPersistence, logHistoryService, eventPublisher);
+        }
+
         @Test
         @DisplayName("正常系: 複数の打刻データが順次処理される")
         void execute_withMultipleStampData_shouldProcessSequentially() {
@@ -0,0 +1,179 @@
+package com.example.teamdev.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.teamdev.service.event.AttendanceEvent;
+import com.example.teamdev.service.event.AttendanceEventType;
+import com.example.teamdev.service.event.StampHistoryChangedEvent;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("StampHistoryMonthCache単体テスト")
+class StampHistoryMonthCacheTest {
+
+    private static final YearMonth CURRENT = YearMonth.of(2025, 11);
+    private static final YearMonth PAST = YearMonth.of(2025, 9);
+
+    private MutableClock clock;
+    private StampHistoryMonthCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-11-15T03:00:00Z"));
+        cache = new StampHistoryMonthCache(clock, 2, 60, 100, 3600);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("同じ従業員・年月の2回目以降は読み込まずにキャッシュを返す")
+    void servesRepeatViewsFromMemory() {
+        List<Map<String, Object>> first = cache.get(1, PAST, loader("2025-09"));
+        List<Map<String, Object>> second = cache.get(1, PAST, loader("2025-09"));
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        assertThatThrownBy(() -> second.get(0).put("id", 2)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("当月は短い保持期間で期限切れになり、過去月は保持し続ける")
+    void expiresCurrentMonthSoonerThanPastMonths() {
+        cache.get(1, CURRENT, loader("2025-11"));
+        cache.get(1, PAST, loader("2025-09"));
+
+        clock.advanceSeconds(61);
+        cache.get(1, CURRENT, loader("2025-11"));
+        cache.get(1, PAST, loader("2025-09"));
+
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("当月領域は件数上限を超えると最も長く参照されていないエントリから破棄する")
+    void evictsLeastRecentlyUsedCurrentMonthEntries() {
+        cache.get(1, CURRENT, loader("a"));
+        cache.get(2, CURRENT, loader("b"));
+        cache.get(1, CURRENT, loader("a"));
+        cache.get(3, CURRENT, loader("c"));
+
+        cache.get(1, CURRENT, loader("a"));
+        assertThat(loads).hasValue(3);
+        cache.get(2, CURRENT, loader("b"));
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("勤怠イベントは対象の従業員・年月のみ無効化する")
+    void attendanceEventInvalidatesOnlyAffectedMonth() {
+        cache.get(1, CURRENT, loader("1-current"));
+        cache.get(1, PAST, loader("1-past"));
+        cache.get(2, CURRENT, loader("2-current"));
+
+        cache.onAttendanceEvent(AttendanceEvent.request(AttendanceEventType.REQUEST_APPROVED,
+            1, LocalDate.of(2025, 9, 30), 10, OffsetDateTime.now(clock)));
+
+        assertThat(cache.size()).isEqualTo(2);
+        cache.get(1, PAST, loader("1-past"));
+        cache.get(1, CURRENT, loader("1-current"));
+        cache.get(2, CURRENT, loader("2-current"));
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("期間指定の変更は全従業員の対象月を無効化し、従業員指定の変更は全期間を無効化する")
+    void rangeAndEmployeeEventsInvalidateMatchingEntries() {
+        cache.get(1, PAST, loader("1-past"));
+        cache.get(2, PAST, loader("2-past"));
+        cache.get(2, CURRENT, loader("2-current"));
+
+        cache.onStampHistoryChanged(StampHistoryChangedEvent.forMonths(YearMonth.of(2025, 8), PAST));
+        assertThat(cache.size()).isEqualTo(1);
+
+        cache.onStampHistoryChanged(StampHistoryChangedEvent.forEmployee(2));
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("読み込み中に無効化された場合は変更前の可能性がある結果を保存しない")
+    void doesNotStoreResultLoadedAcrossInvalidation() {
+        List<Map<String, Object>> stale = cache.get(1, PAST, () -> {
+            cache.invalidate(StampHistoryChangedEvent.forDate(1, LocalDate.of(2025, 9, 1)));
+            return List.of(row("stale"));
+        });
+
+        assertThat(stale).hasSize(1);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("バージョンを指定した場合は保存時と同じバージョンの間だけキャッシュを返す")
+    void reloadsWhenVersionDiffers() {
+        cache.get(1, PAST, "\"v1\"", loader("v1"));
+        cache.get(1, PAST, "\"v1\"", loader("v1"));
+        assertThat(loads).hasValue(1);
+
+        // ほかのノードでの変更（イベントは届かない）でバージョンだけが進んだ
+        List<Map<String, Object>> reloaded = cache.get(1, PAST, "\"v2\"", loader("v2"));
+
+        assertThat(reloaded.get(0)).containsEntry("value", "v2");
+        assertThat(loads).hasValue(2);
+        cache.get(1, PAST, loader("any"));
+        assertThat(loads).hasValue(2);
+    }
+
+    private Supplier<List<Map<String, Object>>> loader(String value) {
+        return () -> {
+            loads.incrementAndGet();
+            return List.of(row(value));
+        };
+    }
+
+    private static Map<String, Object> row(String value) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", 1);
+        row.put("value", value);
+        return row;
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advanceSeconds(long seconds) {
+            instant = instant.plusSeconds(seconds);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("Asia/Tokyo");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
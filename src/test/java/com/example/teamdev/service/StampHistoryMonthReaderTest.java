@@ -0,0 +1,138 @@
+package com.example.teamdev.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.teamdev.entity.Employee;
+import com.example.teamdev.entity.StampHistoryDisplay;
+import com.example.teamdev.entity.StampHistoryMonthRow;
+import com.example.teamdev.mapper.EmployeeMapper;
+import com.example.teamdev.mapper.StampHistoryMapper;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StampHistoryMonthReader単体テスト")
+class StampHistoryMonthReaderTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2025, 2);
+    private static final List<LocalDate> DATES =
+        MONTH.atDay(1).datesUntil(MONTH.plusMonths(1).atDay(1)).toList();
+
+    @Mock
+    private StampHistoryMapper mapper;
+
+    @Mock
+    private EmployeeMapper employeeMapper;
+
+    @Test
+    @DisplayName("疎取得した行を月のカレンダーへ展開し、時刻・氏名・曜日を整形する")
+    void mergesSparseRowsIntoMonthCalendar() {
+        StampHistoryMonthRow stamped = new StampHistoryMonthRow(1, LocalDate.of(2025, 2, 3), 10,
+            OffsetDateTime.of(2025, 2, 3, 0, 0, 0, 0, ZoneOffset.UTC),
+            OffsetDateTime.of(2025, 2, 3, 9, 30, 0, 0, ZoneOffset.UTC),
+            null, null, false, 9,
+            OffsetDateTime.of(2025, 2, 3, 10, 0, 0, 0, ZoneOffset.UTC),
+            null, null);
+        StampHistoryMonthRow requestOnly = new StampHistoryMonthRow(2, LocalDate.of(2025, 2, 28), null,
+            null, null, null, null, null, null, null, 55, "PENDING");
+        when(mapper.findMonthRows(List.of(1, 2), LocalDate.of(2025, 2, 1), LocalDate.of(2025, 3, 1)))
+            .thenReturn(List.of(requestOnly, stamped));
+        when(employeeMapper.getNamesByIdList(List.of(1, 2, 9)))
+            .thenReturn(List.of(employee(1, "山田", "太郎"), employee(9, "管理", "者")));
+
+        StampHistoryMonthReader reader = new StampHistoryMonthReader(mapper, employeeMapper, true);
+        List<StampHistoryDisplay> result = reader.read("2025", "02", List.of(1, 2), DATES);
+
+        assertThat(result).hasSize(56);
+        assertThat(result.subList(0, 28)).extracting(StampHistoryDisplay::getEmployeeId).containsOnly(1);
+        assertThat(result.subList(28, 56)).extracting(StampHistoryDisplay::getEmployeeId).containsOnly(2);
+
+        StampHistoryDisplay empty = result.get(0);
+        assertThat(empty.getYear()).isEqualTo("2025");
+        assertThat(empty.getMonth()).isEqualTo("02");
+        assertThat(empty.getDay()).isEqualTo("01");
+        assertThat(empty.getDayOfWeek()).isEqualTo("土");
+        assertThat(empty.getEmployeeName()).isEqualTo("山田 太郎");
+        assertThat(empty.getUpdateEmployeeName()).isEqualTo(" ");
+        assertThat(empty.getId()).isNull();
+        assertThat(empty.getOvertimeMinutes()).isNull();
+
+        StampHistoryDisplay day3 = result.get(2);
+        assertThat(day3.getId()).isEqualTo(10);
+        assertThat(day3.getDayOfWeek()).isEqualTo("月");
+        assertThat(day3.getInTime()).isEqualTo("09:00");
+        assertThat(day3.getOutTime()).isEqualTo("18:30");
+        assertThat(day3.getBreakStartTime()).isNull();
+        assertThat(day3.getOvertimeMinutes()).isZero();
+        assertThat(day3.getUpdateEmployeeName()).isEqualTo("管理 者");
+        assertThat(day3.getUpdateDate()).isEqualTo("2025/02/03 19:00");
+        assertThat(day3.getInTimeRaw()).isEqualTo(stamped.getInTime());
+
+        StampHistoryDisplay lastDay = result.get(55);
+        assertThat(lastDay.getEmployeeName()).isEqualTo(" ");
+        assertThat(lastDay.getId()).isNull();
+        assertThat(lastDay.getInTime()).isNull();
+        assertThat(lastDay.getOvertimeMinutes()).isNull();
+        assertThat(lastDay.getRequestId()).isEqualTo(55);
+        assertThat(lastDay.getRequestStatus()).isEqualTo("PENDING");
+    }
+
+    @Test
+    @DisplayName("同じ日に複数の打刻記録がある場合はID順にすべて出力する")
+    void keepsEveryStampRowOfTheSameDay() {
+        LocalDate date = LocalDate.of(2025, 2, 10);
+        when(mapper.findMonthRows(eq(List.of(1)), any(), any())).thenReturn(List.of(
+            new StampHistoryMonthRow(1, date, 21, null, null, null, null, null, null, null, null, null),
+            new StampHistoryMonthRow(1, date, 20, null, null, null, null, null, null, null, null, null)));
+        when(employeeMapper.getNamesByIdList(List.of(1))).thenReturn(List.of(employee(1, "山田", "太郎")));
+
+        List<StampHistoryDisplay> result =
+            new StampHistoryMonthReader(mapper, employeeMapper, true).read("2025", "02", 1, DATES);
+
+        assertThat(result).hasSize(29);
+        assertThat(result.subList(9, 11)).extracting(StampHistoryDisplay::getId).containsExactly(20, 21);
+    }
+
+    @Test
+    @DisplayName("月ごとのカレンダーテンプレートは一度だけ構築して再利用する")
+    void reusesMonthTemplate() {
+        assertThat(StampHistoryMonthReader.template(MONTH)).isSameAs(StampHistoryMonthReader.template(MONTH));
+        assertThat(StampHistoryMonthReader.template(YearMonth.of(2024, 2))).hasSize(29);
+    }
+
+    @Test
+    @DisplayName("疎取得を無効にした場合はSQLでカレンダーを生成する従来の取得を使用する")
+    void delegatesToSqlCalendarWhenSparseFetchDisabled() {
+        StampHistoryDisplay row = new StampHistoryDisplay();
+        when(mapper.getStampHistoryByYearMonthEmployeeIds(eq("2025"), eq("02"), eq(List.of(1)), anyList()))
+            .thenReturn(List.of(row));
+
+        List<StampHistoryDisplay> result =
+            new StampHistoryMonthReader(mapper, employeeMapper, false).read("2025", "02", List.of(1), DATES);
+
+        assertThat(result).containsExactly(row);
+        verify(mapper, never()).findMonthRows(anyList(), any(), any());
+    }
+
+    private static Employee employee(int id, String firstName, String lastName) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setFirstName(firstName);
+        employee.setLastName(lastName);
+        return employee;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.teamdev.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.teamdev.mapper.StampHistoryPartitionMapper;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StampHistoryPartitionMaintainer単体テスト")
+class StampHistoryPartitionMaintainerTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-11-30T15:00:00Z"), ZoneOffset.UTC);
+
+    @Mock
+    private StampHistoryPartitionMapper mapper;
+
+    private StampHistoryPartitionMaintainer maintainer;
+
+    @BeforeEach
+    void setUp() {
+        maintainer = new StampHistoryPartitionMaintainer(mapper, CLOCK, 2, 24);
+    }
+
+    @AfterEach
+    void tearDown() {
+        maintainer.shutdown();
+    }
+
+    @Test
+    @DisplayName("当月から指定した月数先までのパーティションを作成し、作成できない月があっても続ける")
+    void ensuresUpcomingMonthsAndContinuesOnFailure() {
+        when(mapper.ensurePartition(LocalDate.of(2025, 11, 1))).thenReturn(false);
+        when(mapper.ensurePartition(LocalDate.of(2025, 12, 1)))
+            .thenThrow(new DataIntegrityViolationException("updated partition constraint for default partition"));
+        when(mapper.ensurePartition(LocalDate.of(2026, 1, 1))).thenReturn(true);
+
+        int created = maintainer.ensureUpcomingPartitions();
+
+        assertThat(created).isEqualTo(1);
+        verify(mapper).ensurePartition(LocalDate.of(2026, 1, 1));
+    }
+
+    @Test
+    @DisplayName("先行作成の月数が1未満の場合は設定エラーとする")
+    void rejectsNonPositiveSettings() {
+        assertThatThrownBy(() -> new StampHistoryPartitionMaintainer(mapper, CLOCK, 0, 24))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -13,6 +13,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.sql.Timestamp;
 import java.time.Clock;
@@ -22,6 +23,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
+import java.time.YearMonth;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.List;
@@ -43,6 +45,12 @@ class StampHistoryServiceTest {
     @Mock
     private ProfileMetadataRepository profileMetadataRepository;
 
+    @Mock
+    private AttendanceMonthCloseService monthCloseService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     private StampHistoryService service;
 
     private ProfileMetadataDocument defaultMetadata;
@@ -61,7 +69,12 @@ class StampHistoryServiceTest {
         objectMapper.registerModule(new JavaTimeModule());
 
         // サービスを手動で作成
-        service = new StampHistoryService(mapper, objectMapper, profileMetadataRepository, clock);
+        // 月次キャッシュは無効（件数上限0）にして毎回取得処理を検証する
+        StampHistoryMonthCache monthCache = new StampHistoryMonthCache(clock, 0, 0, 0, 0);
+        // 打刻記録の取得は従来の SQL カレンダー生成モードで mapper を直接検証する
+        StampHistoryMonthReader monthReader = new StampHistoryMonthReader(mapper, null, false);
+        service = new StampHistoryService(monthReader, objectMapper, profileMetadataRepository, monthCloseService,
+            monthCache, transactionManager, clock);
 
         // デフォルトのProfileMetadataを準備
         ProfileWorkScheduleDocument schedule = new ProfileWorkScheduleDocument(
@@ -284,6 +297,28 @@ class StampHistoryServiceTest {
             assertFalse(firstEntry.containsKey("breakEndTimeRaw"));
         }
     }
+    @Test
+    void execute_締め済みの月はスナップショットの残業時間を返す() {
+        // Given
+        int employeeId = 1;
+        StampHistoryDisplay display = createStampHistoryDisplay(
+            1, "2024", "01", "01", "月"
+        );
+        display.setOvertimeMinutes(45);
+
+        when(monthCloseService.isClosed(YearMonth.of(2024, 1))).thenReturn(true);
+        when(monthCloseService.getClosedMonthHistories(eq(YearMonth.of(2024, 1)), eq(List.of(employeeId)), anyList()))
+            .thenReturn(List.of(display));
+
+        // When
+        List<Map<String, Object>> result = service.execute("2024", "01", employeeId);
+
+        // Then
+        assertEquals(45, result.get(0).get("overtimeMinutes"));
+        verify(mapper, never()).getStampHistoryByYearMonthEmployeeId(anyString(), anyString(), anyInt(), anyList());
+        verifyNoInteractions(profileMetadataRepository);
+    }
+
 
     // ========================================
     // execute() - 異常系
@@ -2,7 +2,6 @@ package com.example.teamdev.service;
 
 import com.example.teamdev.entity.StampHistoryDisplay;
 import com.example.teamdev.form.StampOutputForm;
-import com.example.teamdev.mapper.StampHistoryMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,6 +13,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.io.IOException;
 import java.net.URLEncoder;
@@ -37,7 +37,7 @@ class StampOutputServiceTest {
     private static final Instant FIXED_INSTANT = Instant.parse("2025-04-01T00:00:00Z");
 
     @Mock
-    private StampHistoryMapper mapper;
+    private StampHistoryMonthReader monthReader;
 
     @Mock
     private LogHistoryRegistrationService logHistoryRegistrationService;
@@ -45,9 +45,15 @@ class StampOutputServiceTest {
     @Mock
     private StampCsvDocumentFactory documentFactory;
 
+    @Mock
+    private AttendanceMonthCloseService monthCloseService;
+
     @Mock
     private Clock clock;
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private StampOutputService service;
 
@@ -75,7 +81,7 @@ class StampOutputServiceTest {
         history2Day1.setEmployeeId(2);
         history2Day1.setEmployeeName("山田花子");
 
-        when(mapper.getStampHistoryByYearMonthEmployeeIds(eq("2025"), eq("04"), eq(List.of(1, 2)), anyList()))
+        when(monthReader.read(eq("2025"), eq("04"), eq(List.of(1, 2)), anyList()))
                 .thenReturn(List.of(history1Day1, history1Day2, history2Day1));
 
         StampCsvDocumentFactory.StampCsvDocument document =
@@ -99,7 +105,7 @@ class StampOutputServiceTest {
         assertEquals(List.of("田中太郎", "山田花子"), namesCaptor.getValue());
         assertEquals(3, historyCaptor.getValue().size());
         assertTrue(historyCaptor.getValue().containsAll(List.of(history1Day1, history1Day2, history2Day1)));
-        verify(mapper).getStampHistoryByYearMonthEmployeeIds(eq("2025"), eq("04"), eq(List.of(1, 2)), anyList());
+        verify(monthReader).read(eq("2025"), eq("04"), eq(List.of(1, 2)), anyList());
 
         String expectedFileName = URLEncoder.encode(document.fileName(), StandardCharsets.UTF_8)
                 .replaceAll("\\+", "%20");
@@ -0,0 +1,197 @@
+package com.example.teamdev.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.teamdev.constant.StampPunchOutcome;
+import com.example.teamdev.dto.api.home.StampType;
+import com.example.teamdev.entity.StampPunchIdempotency;
+import com.example.teamdev.exception.DuplicateStampException;
+import com.example.teamdev.form.HomeForm;
+import com.example.teamdev.mapper.EmployeeMapper;
+import com.example.teamdev.service.dto.StampPunch;
+import com.example.teamdev.service.dto.StampPunchResult;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StampPunchBatchService単体テスト")
+class StampPunchBatchServiceTest {
+
+    private static final int KIOSK_ID = 900;
+
+    @Mock
+    private StampService stampService;
+
+    @Mock
+    private StampPunchIdempotencyStore idempotencyStore;
+
+    @Mock
+    private EmployeeMapper employeeMapper;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StampPunchBatchService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new StampPunchBatchService(stampService, idempotencyStore, employeeMapper, transactionManager, 3);
+    }
+
+    @Test
+    @DisplayName("従業員ごとに打刻時刻の順で記録し、同じ冪等キーの2件目は再送として初回の結果を返す")
+    void apply_ordersByEmployeeAndTime() {
+        List<StampPunch> punches = List.of(
+            punch("k-2", 2, StampType.DEPARTURE, "2025-10-01T18:00:00+09:00"),
+            punch("k-1", 2, StampType.ATTENDANCE, "2025-10-01T09:00:00+09:00"),
+            punch("k-1", 2, StampType.ATTENDANCE, "2025-10-01T09:00:00+09:00"));
+        when(idempotencyStore.findCached(any())).thenReturn(Optional.empty());
+        when(idempotencyStore.claim(anyList())).thenReturn(Set.of(key("k-1", 2), key("k-2", 2)));
+        when(employeeMapper.getActiveIdsByIdList(List.of(2))).thenReturn(List.of(2));
+
+        List<StampPunchResult> results = service.apply(KIOSK_ID, punches);
+
+        assertThat(results).extracting(StampPunchResult::outcome).containsOnly(StampPunchOutcome.APPLIED);
+        assertThat(results).extracting(StampPunchResult::replayed).containsExactly(false, false, true);
+        InOrder order = inOrder(stampService);
+        order.verify(stampService).execute(eq(new HomeForm("2025-10-01T09:00:00+09:00", StampType.ATTENDANCE, "0")), eq(2));
+        order.verify(stampService).execute(eq(new HomeForm("2025-10-01T18:00:00+09:00", StampType.DEPARTURE, "0")), eq(2));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<StampPunchIdempotency>> recorded = ArgumentCaptor.forClass(List.class);
+        verify(idempotencyStore).record(recorded.capture());
+        assertThat(recorded.getValue()).extracting(StampPunchIdempotency::getIdempotencyKey)
+            .containsExactlyInAnyOrder("k-1", "k-2");
+        assertThat(recorded.getValue()).extracting(StampPunchIdempotency::getKioskId).containsOnly(KIOSK_ID);
+    }
+
+    @Test
+    @DisplayName("冪等キーは従業員ごとに区別し、別の従業員の同じキーは再送として扱わない")
+    void apply_scopesKeysPerEmployee() {
+        List<StampPunch> punches = List.of(
+            punch("seq-1", 1, StampType.ATTENDANCE, "2025-10-01T09:00:00+09:00"),
+            punch("seq-1", 2, StampType.ATTENDANCE, "2025-10-01T09:01:00+09:00"));
+        when(idempotencyStore.findCached(any())).thenReturn(Optional.empty());
+        when(idempotencyStore.claim(List.of(key("seq-1", 1), key("seq-1", 2))))
+            .thenReturn(Set.of(key("seq-1", 1), key("seq-1", 2)));
+        when(employeeMapper.getActiveIdsByIdList(List.of(1, 2))).thenReturn(List.of(1, 2));
+
+        List<StampPunchResult> results = service.apply(KIOSK_ID, punches);
+
+        assertThat(results).extracting(StampPunchResult::replayed).containsExactly(false, false);
+        verify(stampService).execute(any(HomeForm.class), eq(1));
+        verify(stampService).execute(any(HomeForm.class), eq(2));
+    }
+
+    @Test
+    @DisplayName("処理済みのキーは記録せず初回の結果を返し、記録できない打刻は他の打刻に影響しない")
+    void apply_replaysRecordedKeysAndIsolatesFailures() {
+        List<StampPunch> punches = List.of(
+            punch("cached", 1, StampType.ATTENDANCE, "2025-10-01T09:00:00+09:00"),
+            punch("other-tx", 1, StampType.DEPARTURE, "2025-10-01T18:00:00+09:00"),
+            punch("dup", 3, StampType.ATTENDANCE, "2025-10-01T08:55:00+09:00"));
+        OffsetDateTime createdAt = OffsetDateTime.parse("2025-10-01T09:00:05+09:00");
+        when(idempotencyStore.findCached(key("cached", 1))).thenReturn(Optional.of(
+            new StampPunchIdempotencyStore.Recorded(1, StampPunchOutcome.APPLIED, null, createdAt)));
+        when(idempotencyStore.findCached(key("other-tx", 1))).thenReturn(Optional.empty());
+        when(idempotencyStore.findCached(key("dup", 3))).thenReturn(Optional.empty());
+        when(idempotencyStore.claim(anyList())).thenReturn(Set.of(key("dup", 3)));
+        when(idempotencyStore.findRecorded(List.of(key("other-tx", 1)))).thenReturn(Map.of(key("other-tx", 1),
+            new StampPunchIdempotencyStore.Recorded(1, StampPunchOutcome.REJECTED, "出勤打刻が必要です", createdAt)));
+        when(employeeMapper.getActiveIdsByIdList(List.of(3))).thenReturn(List.of(3));
+        doThrow(new DuplicateStampException("出勤", "2025-10-01T08:50+09:00"))
+            .when(stampService).execute(any(HomeForm.class), eq(3));
+
+        List<StampPunchResult> results = service.apply(KIOSK_ID, punches);
+
+        assertThat(results).extracting(StampPunchResult::outcome).containsExactly(
+            StampPunchOutcome.APPLIED, StampPunchOutcome.REJECTED, StampPunchOutcome.ALREADY_RECORDED);
+        assertThat(results).extracting(StampPunchResult::replayed).containsExactly(true, true, false);
+        verify(stampService, never()).execute(any(HomeForm.class), eq(1));
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    @DisplayName("存在しない従業員・不正な打刻時刻の打刻は記録せずに REJECTED を返す")
+    void apply_rejectsUnknownEmployeeAndMalformedTime() {
+        List<StampPunch> punches = List.of(
+            punch("unknown", 999, StampType.ATTENDANCE, "2025-10-01T09:00:00+09:00"),
+            punch("malformed", 1, StampType.ATTENDANCE, "2025-10-01 09:00"));
+        when(idempotencyStore.findCached(any())).thenReturn(Optional.empty());
+        when(idempotencyStore.claim(anyList())).thenReturn(Set.of(key("unknown", 999), key("malformed", 1)));
+        when(employeeMapper.getActiveIdsByIdList(List.of(999))).thenReturn(List.of());
+
+        List<StampPunchResult> results = service.apply(KIOSK_ID, punches);
+
+        assertThat(results).extracting(StampPunchResult::outcome)
+            .containsExactly(StampPunchOutcome.REJECTED, StampPunchOutcome.REJECTED);
+        verify(stampService, never()).execute(any(HomeForm.class), any());
+    }
+
+    @Test
+    @DisplayName("DBエラーの打刻はその打刻だけを REJECTED とし、キーを解放して他の打刻は記録する")
+    void apply_isolatesDatabaseErrorPerPunch() {
+        List<StampPunch> punches = List.of(
+            punch("broken", 1, StampType.ATTENDANCE, "2025-10-01T09:00:00+09:00"),
+            punch("ok", 2, StampType.ATTENDANCE, "2025-10-01T09:00:00+09:00"));
+        when(idempotencyStore.findCached(any())).thenReturn(Optional.empty());
+        when(idempotencyStore.claim(anyList())).thenReturn(Set.of(key("broken", 1), key("ok", 2)));
+        when(employeeMapper.getActiveIdsByIdList(List.of(1, 2))).thenReturn(List.of(1, 2));
+        doThrow(new QueryTimeoutException("canceling statement due to statement timeout"))
+            .when(stampService).execute(any(HomeForm.class), eq(1));
+
+        List<StampPunchResult> results = service.apply(KIOSK_ID, punches);
+
+        assertThat(results).extracting(StampPunchResult::outcome)
+            .containsExactly(StampPunchOutcome.REJECTED, StampPunchOutcome.APPLIED);
+        verify(transactionManager).rollback(any());
+        verify(idempotencyStore).release(List.of(key("broken", 1)));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<StampPunchIdempotency>> recorded = ArgumentCaptor.forClass(List.class);
+        verify(idempotencyStore).record(recorded.capture());
+        assertThat(recorded.getValue()).extracting(StampPunchIdempotency::getIdempotencyKey).containsExactly("ok");
+    }
+
+    @Test
+    @DisplayName("上限を超える件数は受け付けない")
+    void apply_rejectsOversizedBatch() {
+        List<StampPunch> punches = List.of(
+            punch("a", 1, StampType.ATTENDANCE, "2025-10-01T09:00:00+09:00"),
+            punch("b", 2, StampType.ATTENDANCE, "2025-10-01T09:00:00+09:00"),
+            punch("c", 3, StampType.ATTENDANCE, "2025-10-01T09:00:00+09:00"),
+            punch("d", 4, StampType.ATTENDANCE, "2025-10-01T09:00:00+09:00"));
+
+        assertThatThrownBy(() -> service.apply(KIOSK_ID, punches)).isInstanceOf(IllegalArgumentException.class);
+        verify(idempotencyStore, never()).claim(anyList());
+    }
+
+    private static StampPunch punch(String key, int employeeId, StampType type, String time) {
+        return new StampPunch(key, employeeId, type, time, false);
+    }
+
+    private static StampPunchIdempotencyStore.ScopedKey key(String idempotencyKey, int employeeId) {
+        return new StampPunchIdempotencyStore.ScopedKey(KIOSK_ID, employeeId, idempotencyKey);
+    }
+}
@@ -3,14 +3,22 @@ package com.example.teamdev.service;
 import com.example.teamdev.constant.StampRequestStatus;
 import com.example.teamdev.entity.StampHistory;
 import com.example.teamdev.entity.StampRequest;
+import com.example.teamdev.exception.ClosedMonthException;
 import com.example.teamdev.exception.StampRequestException;
 import com.example.teamdev.mapper.StampHistoryMapper;
+import com.example.teamdev.service.event.AttendanceEvent;
+import com.example.teamdev.service.event.AttendanceEventType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.time.YearMonth;
 import java.time.ZoneId;
 import java.util.Optional;
 
@@ -19,7 +27,9 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -38,6 +48,8 @@ class StampRequestApprovalServiceTest {
     private StampRequestApprovalService service;
     private Clock fixedClock;
     private StampHistoryMapper stampHistoryMapper;
+    private ApplicationEventPublisher eventPublisher;
+    private AttendanceMonthCloseService monthCloseService;
 
     @BeforeEach
     void setUp() {
@@ -47,7 +59,9 @@ class StampRequestApprovalServiceTest {
         );
         store = new StampRequestStore(null, fixedClock);
         stampHistoryMapper = mock(StampHistoryMapper.class);
-        service = new StampRequestApprovalService(store, stampHistoryMapper);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        monthCloseService = mock(AttendanceMonthCloseService.class);
+        service = new StampRequestApprovalService(store, stampHistoryMapper, eventPublisher, monthCloseService);
     }
 
     @Test
@@ -66,6 +80,11 @@ class StampRequestApprovalServiceTest {
         assertThat(approved.getApprovalNote()).isNull();
         assertThat(approved.getApprovedAt()).isNotNull();
         assertThat(approved.getUpdatedAt()).isNotNull();
+
+        ArgumentCaptor<AttendanceEvent> eventCaptor = ArgumentCaptor.forClass(AttendanceEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().type()).isEqualTo(AttendanceEventType.REQUEST_APPROVED);
+        assertThat(eventCaptor.getValue().requestId()).isEqualTo(request.getId());
     }
 
     @Test
@@ -146,6 +165,55 @@ class StampRequestApprovalServiceTest {
             .hasMessageContaining("対象の申請は存在しないか既に処理済みです");
     }
 
+    @Test
+    void approveRequest_失敗_他の管理者が割り当て中() {
+        // Given - 管理者300が承認キューから割り当て済み
+        StampRequest request = createPendingRequest();
+        mockStampHistoryLookup(request);
+        store.claimPending(300, 1, Duration.ofMinutes(15));
+
+        // When & Then
+        assertThatThrownBy(() -> service.approveRequest(request.getId(), 200, null))
+            .isInstanceOf(StampRequestException.class)
+            .hasMessageContaining("対象の申請は他の管理者が確認中です");
+        assertThat(store.findById(request.getId()).orElseThrow().getStatus())
+            .isEqualTo(StampRequestStatus.PENDING.name());
+    }
+
+    @Test
+    void approveRequest_成功_割り当ての期限切れ後は他の管理者も処理可能() {
+        // Given - 管理者300の割り当てが期限切れ
+        StampRequest request = createPendingRequest();
+        mockStampHistoryLookup(request);
+        request.setClaimedBy(300);
+        request.setClaimExpiresAt(OffsetDateTime.now(fixedClock).minusMinutes(1));
+        store.save(request);
+
+        // When
+        service.approveRequest(request.getId(), 200, null);
+
+        // Then
+        assertThat(store.findById(request.getId()).orElseThrow().getStatus())
+            .isEqualTo(StampRequestStatus.APPROVED.name());
+    }
+
+    @Test
+    void approveRequest_失敗_締め済みの月() {
+        // Given
+        StampRequest request = createPendingRequest();
+        doThrow(new ClosedMonthException(YearMonth.from(request.getStampDate())))
+            .when(monthCloseService).assertOpen(request.getStampDate());
+
+        // When & Then
+        assertThatThrownBy(() -> service.approveRequest(request.getId(), 200, null))
+            .isInstanceOfSatisfying(StampRequestException.class,
+                e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.CONFLICT))
+            .hasMessageContaining("締め済み");
+        verify(stampHistoryMapper, never()).update(any());
+        assertThat(store.findById(request.getId()).orElseThrow().getStatus())
+            .isEqualTo(StampRequestStatus.PENDING.name());
+    }
+
     @Test
     void approveRequest_失敗_承認者IDがnull() {
         // Given
@@ -175,6 +243,10 @@ class StampRequestApprovalServiceTest {
         assertThat(rejected.getRejectionEmployeeId()).isEqualTo(200);
         assertThat(rejected.getRejectedAt()).isNotNull();
         assertThat(rejected.getUpdatedAt()).isNotNull();
+
+        ArgumentCaptor<AttendanceEvent> eventCaptor = ArgumentCaptor.forClass(AttendanceEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().type()).isEqualTo(AttendanceEventType.REQUEST_REJECTED);
     }
 
     @Test
@@ -313,9 +385,6 @@ class StampRequestApprovalServiceTest {
         StampHistory savedHistory = capturedHistory[0];
         assertThat(savedHistory).isNotNull();
         assertThat(savedHistory.getStampDate()).isEqualTo(request.getStampDate());
-        assertThat(savedHistory.getYear()).isEqualTo("2025");
-        assertThat(savedHistory.getMonth()).isEqualTo("11");
-        assertThat(savedHistory.getDay()).isEqualTo("15");
         assertThat(savedHistory.getEmployeeId()).isEqualTo(request.getEmployeeId());
         assertThat(savedHistory.getInTime()).isEqualTo(request.getRequestedInTime());
         assertThat(savedHistory.getOutTime()).isEqualTo(request.getRequestedOutTime());
@@ -330,9 +399,6 @@ class StampRequestApprovalServiceTest {
         // 承認までの間に同じ日付の打刻が既に登録されたケース
         StampHistory existingHistory = new StampHistory(
             888,
-            "2025",
-            "11",
-            "15",
             request.getStampDate(),
             request.getEmployeeId(),
             OffsetDateTime.parse("2025-11-15T08:00:00Z"),
@@ -426,9 +492,6 @@ class StampRequestApprovalServiceTest {
     private void mockStampHistoryLookup(StampRequest request) {
         StampHistory history = new StampHistory(
             request.getStampHistoryId(),
-            String.format("%04d", request.getStampDate().getYear()),
-            String.format("%02d", request.getStampDate().getMonthValue()),
-            String.format("%02d", request.getStampDate().getDayOfMonth()),
             request.getStampDate(),
             request.getEmployeeId(),
             request.getOriginalInTime(),
@@ -439,7 +502,8 @@ class StampRequestApprovalServiceTest {
             null,
             request.getCreatedAt()
         );
-        when(stampHistoryMapper.getById(request.getStampHistoryId())).thenReturn(Optional.of(history));
+        when(stampHistoryMapper.getById(request.getStampHistoryId(), request.getStampDate()))
+            .thenReturn(Optional.of(history));
     }
 
     /**
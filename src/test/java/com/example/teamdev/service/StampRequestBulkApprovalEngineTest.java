@@ -0,0 +1,238 @@
+package com.example.teamdev.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.teamdev.constant.StampRequestStatus;
+import com.example.teamdev.entity.StampHistory;
+import com.example.teamdev.entity.StampRequest;
+import com.example.teamdev.mapper.StampHistoryMapper;
+import com.example.teamdev.mapper.StampRequestMapper;
+import com.example.teamdev.service.event.AttendanceEvent;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StampRequestBulkApprovalEngine単体テスト")
+class StampRequestBulkApprovalEngineTest {
+
+    private static final Instant FIXED_INSTANT = Instant.parse("2025-11-15T10:00:00Z");
+    private static final OffsetDateTime NOW = OffsetDateTime.ofInstant(FIXED_INSTANT, ZoneOffset.UTC);
+    private static final LocalDate STAMP_DATE = LocalDate.of(2025, 11, 14);
+    private static final OffsetDateTime IN_TIME = OffsetDateTime.parse("2025-11-14T09:00:00+09:00");
+    private static final OffsetDateTime OUT_TIME = OffsetDateTime.parse("2025-11-14T18:00:00+09:00");
+    private static final Integer APPROVER_ID = 200;
+
+    @Mock
+    private StampRequestMapper requestMapper;
+
+    @Mock
+    private StampHistoryMapper stampHistoryMapper;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private AttendanceMonthCloseService monthCloseService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StampRequestBulkApprovalEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(FIXED_INSTANT, ZoneOffset.UTC);
+        engine = new StampRequestBulkApprovalEngine(
+            requestMapper, stampHistoryMapper, eventPublisher, monthCloseService, clock, transactionManager, 500);
+    }
+
+    @Test
+    @DisplayName("リクエストと勤怠記録を1クエリずつロック取得し、検証を通過したものだけを1文ずつで反映する")
+    void approvesValidRequestsWithSetBasedStatements() {
+        StampRequest valid = pendingRequest(1, 10, 101);
+        StampRequest changed = pendingRequest(2, 20, 102);
+        StampRequest approved = pendingRequest(3, 30, 103);
+        approved.setStatus(StampRequestStatus.APPROVED.name());
+        when(requestMapper.findByIdsForUpdate(any(Integer[].class))).thenReturn(List.of(valid, changed, approved));
+
+        StampHistory changedHistory = history(20, 102);
+        changedHistory.setOutTime(OUT_TIME.plusHours(1));
+        when(stampHistoryMapper.findByIdsForUpdate(anyList()))
+            .thenReturn(List.of(history(10, 101), changedHistory));
+        when(requestMapper.approveAllReturningIds(any(), any(), any(), any(), any())).thenReturn(List.of(1));
+
+        Set<Integer> result = engine.approve(List.of(1, 2, 3, 4), APPROVER_ID, "確認済み");
+
+        assertThat(result).containsExactly(1);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<StampHistory>> historyKeys = ArgumentCaptor.forClass(List.class);
+        verify(stampHistoryMapper).findByIdsForUpdate(historyKeys.capture());
+        // 処理済みの申請が参照する勤怠記録はロックせず、主キー (id, stamp_date) で指定する
+        assertThat(historyKeys.getValue())
+            .extracting(StampHistory::getId, StampHistory::getStampDate)
+            .containsExactlyInAnyOrder(tuple(10, STAMP_DATE), tuple(20, STAMP_DATE));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<StampHistory>> updates = ArgumentCaptor.forClass(List.class);
+        verify(stampHistoryMapper).updateAll(updates.capture());
+        assertThat(updates.getValue()).singleElement().satisfies(history -> {
+            assertThat(history.getId()).isEqualTo(10);
+            assertThat(history.getStampDate()).isEqualTo(STAMP_DATE);
+            assertThat(history.getOutTime()).isEqualTo(OUT_TIME.plusMinutes(30));
+            assertThat(history.getUpdateEmployeeId()).isEqualTo(APPROVER_ID);
+            assertThat(history.getUpdateDate()).isEqualTo(NOW);
+        });
+        verify(stampHistoryMapper, never()).saveAllReturning(anyList());
+
+        verify(requestMapper).approveAllReturningIds(
+            eq(new Integer[] {1}), eq(new Integer[] {10}), eq(APPROVER_ID), eq("確認済み"), eq(NOW));
+        verify(requestMapper).upsertLatestRequests(eq(new Integer[] {1}));
+        verify(eventPublisher).publishEvent(any(AttendanceEvent.class));
+    }
+
+    @Test
+    @DisplayName("打刻忘れ申請は既存記録・チャンク内の重複を除いて一括作成し、採番IDを申請に反映する")
+    void createsMissingStampHistoriesInOneStatement() {
+        StampRequest first = pendingRequest(1, null, 101);
+        StampRequest duplicate = pendingRequest(2, null, 101);
+        StampRequest alreadyStamped = pendingRequest(3, null, 102);
+        when(requestMapper.findByIdsForUpdate(any(Integer[].class)))
+            .thenReturn(List.of(first, duplicate, alreadyStamped));
+        when(stampHistoryMapper.findByEmployeeIdAndStampDates(anyList()))
+            .thenReturn(List.of(history(55, 102)));
+        when(stampHistoryMapper.saveAllReturning(anyList())).thenReturn(List.of(history(77, 101)));
+        when(requestMapper.approveAllReturningIds(any(), any(), any(), any(), any())).thenReturn(List.of(1));
+
+        Set<Integer> result = engine.approve(List.of(1, 2, 3), APPROVER_ID, null);
+
+        assertThat(result).containsExactly(1);
+        verify(stampHistoryMapper, never()).findByIdsForUpdate(any());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<StampHistory>> inserts = ArgumentCaptor.forClass(List.class);
+        verify(stampHistoryMapper).saveAllReturning(inserts.capture());
+        assertThat(inserts.getValue()).singleElement().satisfies(history -> {
+            assertThat(history.getEmployeeId()).isEqualTo(101);
+            assertThat(history.getStampDate()).isEqualTo(STAMP_DATE);
+            assertThat(history.getInTime()).isEqualTo(IN_TIME);
+        });
+        verify(requestMapper).approveAllReturningIds(
+            eq(new Integer[] {1}), eq(new Integer[] {77}), eq(APPROVER_ID), eq(null), eq(NOW));
+    }
+
+    @Test
+    @DisplayName("チャンクごとに個別のトランザクションで処理し、承認対象がなければ更新文を発行しない")
+    void processesEachChunkInItsOwnTransaction() {
+        engine = new StampRequestBulkApprovalEngine(requestMapper, stampHistoryMapper, eventPublisher,
+            monthCloseService, Clock.fixed(FIXED_INSTANT, ZoneOffset.UTC), transactionManager, 2);
+        when(requestMapper.findByIdsForUpdate(any(Integer[].class))).thenReturn(List.of());
+
+        Set<Integer> result = engine.approve(IntStream.rangeClosed(1, 5).boxed().toList(), APPROVER_ID, null);
+
+        assertThat(result).isEmpty();
+        ArgumentCaptor<Integer[]> chunks = ArgumentCaptor.forClass(Integer[].class);
+        verify(requestMapper, times(3)).findByIdsForUpdate(chunks.capture());
+        assertThat(chunks.getAllValues()).extracting(Arrays::asList)
+            .containsExactly(List.of(1, 2), List.of(3, 4), List.of(5));
+        verify(transactionManager, times(3)).commit(any());
+        verify(requestMapper, never()).approveAllReturningIds(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("チャンクの反映中にDBエラーが発生した場合はそのチャンクだけを失敗とし、後続のチャンクを続ける")
+    void failsOnlyTheChunkThatHitADatabaseError() {
+        engine = new StampRequestBulkApprovalEngine(requestMapper, stampHistoryMapper, eventPublisher,
+            monthCloseService, Clock.fixed(FIXED_INSTANT, ZoneOffset.UTC), transactionManager, 1);
+        when(requestMapper.findByIdsForUpdate(any(Integer[].class)))
+            .thenReturn(List.of(pendingRequest(1, null, 101)))
+            .thenReturn(List.of(pendingRequest(2, 20, 102)));
+        // 承認までの間に同じ日付の打刻が登録された
+        when(stampHistoryMapper.saveAllReturning(anyList()))
+            .thenThrow(new DuplicateKeyException("uk_employee_date"));
+        when(stampHistoryMapper.findByIdsForUpdate(anyList())).thenReturn(List.of(history(20, 102)));
+        when(requestMapper.approveAllReturningIds(any(), any(), any(), any(), any())).thenReturn(List.of(2));
+
+        Set<Integer> result = engine.approve(List.of(1, 2), APPROVER_ID, null);
+
+        assertThat(result).containsExactly(2);
+        verify(transactionManager).rollback(any());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("締め済みの月の申請は失敗として扱い、同じチャンクの他の申請は承認する")
+    void skipsRequestsOfClosedMonths() {
+        StampRequest open = pendingRequest(1, 10, 101);
+        StampRequest closed = pendingRequest(2, 20, 102);
+        closed.setStampDate(LocalDate.of(2025, 10, 31));
+        when(requestMapper.findByIdsForUpdate(any(Integer[].class))).thenReturn(List.of(open, closed));
+        when(monthCloseService.lockOpenMonths(List.of(STAMP_DATE, closed.getStampDate())))
+            .thenReturn(Set.of(YearMonth.of(2025, 10)));
+        when(stampHistoryMapper.findByIdsForUpdate(anyList()))
+            .thenReturn(List.of(history(10, 101), history(20, 102)));
+        when(requestMapper.approveAllReturningIds(any(), any(), any(), any(), any())).thenReturn(List.of(1));
+
+        Set<Integer> result = engine.approve(List.of(1, 2), APPROVER_ID, null);
+
+        assertThat(result).containsExactly(1);
+        verify(requestMapper).approveAllReturningIds(
+            eq(new Integer[] {1}), eq(new Integer[] {10}), eq(APPROVER_ID), eq(null), eq(NOW));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<StampHistory>> updates = ArgumentCaptor.forClass(List.class);
+        verify(stampHistoryMapper).updateAll(updates.capture());
+        assertThat(updates.getValue()).extracting(StampHistory::getId).containsExactly(10);
+    }
+
+    private static StampRequest pendingRequest(int id, Integer stampHistoryId, int employeeId) {
+        return StampRequest.builder()
+            .id(id)
+            .employeeId(employeeId)
+            .stampHistoryId(stampHistoryId)
+            .stampDate(STAMP_DATE)
+            .status(StampRequestStatus.PENDING.name())
+            .originalInTime(IN_TIME)
+            .originalOutTime(OUT_TIME)
+            .originalIsNightShift(false)
+            .requestedInTime(IN_TIME)
+            .requestedOutTime(OUT_TIME.plusMinutes(30))
+            .build();
+    }
+
+    private static StampHistory history(int id, int employeeId) {
+        StampHistory history = new StampHistory();
+        history.setId(id);
+        history.setEmployeeId(employeeId);
+        history.setStampDate(STAMP_DATE);
+        history.setInTime(IN_TIME);
+        history.setOutTime(OUT_TIME);
+        history.setIsNightShift(false);
+        return history;
+    }
+}
@@ -10,7 +10,9 @@ import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
@@ -18,14 +20,16 @@ import org.springframework.http.HttpStatus;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 /**
  * StampRequestBulkOperationService のユニットテスト。
  *
  * Requirement 4 の受入基準を検証:
- * - バルク承認/却下（≤50件）
+ * - バルク承認（≤5000件）/却下（≤50件）
  * - 部分的成功の報告
  * - 共通却下理由
  */
@@ -33,6 +37,7 @@ class StampRequestBulkOperationServiceTest {
 
     private StampRequestStore store;
     private StampRequestApprovalService approvalService;
+    private StampRequestBulkApprovalEngine bulkApprovalEngine;
     private StampRequestBulkOperationService service;
     private Clock fixedClock;
 
@@ -44,36 +49,29 @@ class StampRequestBulkOperationServiceTest {
         );
         store = new StampRequestStore(null, fixedClock);
         approvalService = mock(StampRequestApprovalService.class);
-        when(approvalService.approveRequest(any(), any(), any())).then(invocation -> {
-            Integer requestId = invocation.getArgument(0);
+        bulkApprovalEngine = mock(StampRequestBulkApprovalEngine.class);
+        when(bulkApprovalEngine.approve(anyList(), any(), any())).then(invocation -> {
+            List<Integer> requestIds = invocation.getArgument(0);
             Integer approverId = invocation.getArgument(1);
             String approvalNote = invocation.getArgument(2);
 
-            if (approverId == null) {
-                throw new IllegalArgumentException("承認者が指定されていません");
+            // 集合指向の処理はエンジンのテストで検証するため、ストア上の状態遷移のみを再現する
+            Set<Integer> approved = new HashSet<>();
+            for (Integer requestId : requestIds) {
+                StampRequest request = store.findById(requestId).orElse(null);
+                if (request == null || StampRequestStatus.isFinalState(request.getStatus())) {
+                    continue;
+                }
+                OffsetDateTime now = store.now();
+                request.setStatus(StampRequestStatus.APPROVED.name());
+                request.setApprovalEmployeeId(approverId);
+                request.setApprovalNote(approvalNote);
+                request.setApprovedAt(now);
+                request.setUpdatedAt(now);
+                store.save(request);
+                approved.add(requestId);
             }
-
-            StampRequest request = store.findById(requestId)
-                .orElseThrow(() -> new StampRequestException(
-                    HttpStatus.NOT_FOUND,
-                    "対象の申請は存在しないか既に処理済みです"
-                ));
-
-            if (StampRequestStatus.isFinalState(request.getStatus())) {
-                throw new StampRequestException(
-                    HttpStatus.CONFLICT,
-                    "対象の申請は存在しないか既に処理済みです"
-                );
-            }
-
-            OffsetDateTime now = store.now();
-            request.setStatus(StampRequestStatus.APPROVED.name());
-            request.setApprovalEmployeeId(approverId);
-            request.setApprovalNote(approvalNote);
-            request.setApprovedAt(now);
-            request.setUpdatedAt(now);
-            store.save(request);
-            return request;
+            return approved;
         });
         when(approvalService.rejectRequest(any(), any(), any())).then(invocation -> {
             Integer requestId = invocation.getArgument(0);
@@ -117,7 +115,7 @@ class StampRequestBulkOperationServiceTest {
             return request;
         });
 
-        service = new StampRequestBulkOperationService(store, approvalService);
+        service = new StampRequestBulkOperationService(store, approvalService, bulkApprovalEngine);
     }
 
     @Test
@@ -198,17 +196,17 @@ class StampRequestBulkOperationServiceTest {
     }
 
     @Test
-    void bulkApprove_失敗_50件を超える() {
-        // Given - 51件のリクエスト
+    void bulkApprove_失敗_5000件を超える() {
+        // Given - 5001件のリクエストID
         List<Integer> ids = new ArrayList<>();
-        for (int i = 0; i < 51; i++) {
-            ids.add(createPendingRequest(100 + i, i + 1).getId());
+        for (int i = 0; i < 5001; i++) {
+            ids.add(i + 1);
         }
 
         // When & Then
         assertThatThrownBy(() -> service.bulkApprove(ids, 200, null))
             .isInstanceOf(IllegalArgumentException.class)
-            .hasMessageContaining("一度に処理できる申請は50件までです");
+            .hasMessageContaining("一度に処理できる申請は5000件までです");
     }
 
     @Test
@@ -227,6 +225,41 @@ class StampRequestBulkOperationServiceTest {
         assertThat(response.failureCount()).isEqualTo(0);
     }
 
+    @Test
+    void bulkApprove_成功_50件を超えても承認できる() {
+        // Given - 51件
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < 51; i++) {
+            ids.add(createPendingRequest(100 + i, i + 1).getId());
+        }
+
+        // When
+        StampRequestBulkOperationResponse response = service.bulkApprove(ids, 200, null);
+
+        // Then
+        assertThat(response.successCount()).isEqualTo(51);
+        assertThat(response.failureCount()).isEqualTo(0);
+    }
+
+    @Test
+    void bulkApprove_エンジン利用時_nullと重複を除いて委譲し未承認IDを失敗として返す() {
+        // Given
+        StampRequestBulkApprovalEngine engine = mock(StampRequestBulkApprovalEngine.class);
+        when(engine.approve(List.of(1, 2, 3), 200, "OK")).thenReturn(Set.of(1, 3));
+        StampRequestBulkOperationService engineService =
+            new StampRequestBulkOperationService(store, approvalService, engine);
+
+        // When
+        StampRequestBulkOperationResponse response =
+            engineService.bulkApprove(Arrays.asList(1, null, 2, 1, 3), 200, "OK");
+
+        // Then
+        assertThat(response.successCount()).isEqualTo(2);
+        assertThat(response.failureCount()).isEqualTo(1);
+        assertThat(response.failedRequestIds()).containsExactly(2);
+        verifyNoInteractions(approvalService);
+    }
+
     @Test
     void bulkApprove_失敗_リクエストIDリストがnull() {
         // When & Then
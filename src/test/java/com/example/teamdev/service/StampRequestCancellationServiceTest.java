@@ -2,16 +2,21 @@ package com.example.teamdev.service;
 
 import com.example.teamdev.constant.StampRequestStatus;
 import com.example.teamdev.entity.StampRequest;
+import com.example.teamdev.service.event.StampHistoryChangedEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.Clock;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 /**
  * StampRequestCancellationService のユニットテスト。
@@ -26,6 +31,7 @@ class StampRequestCancellationServiceTest {
 
     private StampRequestStore store;
     private StampRequestCancellationService service;
+    private ApplicationEventPublisher eventPublisher;
     private Clock fixedClock;
 
     @BeforeEach
@@ -35,7 +41,8 @@ class StampRequestCancellationServiceTest {
             ZoneId.of("UTC")
         );
         store = new StampRequestStore(null, fixedClock);
-        service = new StampRequestCancellationService(store);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        service = new StampRequestCancellationService(store, eventPublisher);
     }
 
     @Test
@@ -52,6 +59,7 @@ class StampRequestCancellationServiceTest {
         assertThat(cancelled.getCancellationReason()).isEqualTo("予定変更のためキャンセルします。");
         assertThat(cancelled.getCancelledAt()).isNotNull();
         assertThat(cancelled.getUpdatedAt()).isNotNull();
+        verify(eventPublisher).publishEvent(StampHistoryChangedEvent.forDate(100, LocalDate.of(2025, 11, 15)));
     }
 
     @Test
@@ -7,9 +7,11 @@ import com.example.teamdev.entity.StampRequest;
 import com.example.teamdev.mapper.StampHistoryMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.Clock;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.util.HashMap;
@@ -19,6 +21,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -35,11 +38,14 @@ import static org.mockito.Mockito.when;
  */
 class StampRequestRegistrationServiceTest {
 
+    private static final LocalDate STAMP_DATE = LocalDate.of(2025, 11, 15);
+
     private StampRequestStore store;
     private StampRequestRegistrationService service;
     private Clock fixedClock;
     private StampHistoryMapper stampHistoryMapper;
     private Map<Integer, StampHistory> historyStub;
+    private ApplicationEventPublisher eventPublisher;
 
     @BeforeEach
     void setUp() {
@@ -50,12 +56,13 @@ class StampRequestRegistrationServiceTest {
         );
         store = new StampRequestStore(null, fixedClock);
         stampHistoryMapper = mock(StampHistoryMapper.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
         historyStub = new HashMap<>();
-        when(stampHistoryMapper.getById(anyInt())).thenAnswer(invocation -> {
+        when(stampHistoryMapper.getById(anyInt(), eq(STAMP_DATE))).thenAnswer(invocation -> {
             Integer id = invocation.getArgument(0);
             return Optional.ofNullable(historyStub.get(id));
         });
-        service = new StampRequestRegistrationService(store, stampHistoryMapper);
+        service = new StampRequestRegistrationService(store, stampHistoryMapper, eventPublisher);
         stubStampHistory(1, 100);
     }
 
@@ -69,6 +76,7 @@ class StampRequestRegistrationServiceTest {
 
         StampRequestCreateRequest request = new StampRequestCreateRequest(
             1,                                  // stampHistoryId
+            STAMP_DATE,
             inTime,
             outTime,
             breakStart,
@@ -96,6 +104,7 @@ class StampRequestRegistrationServiceTest {
         // Given
         StampRequestCreateRequest request = new StampRequestCreateRequest(
             1,
+            STAMP_DATE,
             OffsetDateTime.parse("2025-11-15T09:00:00Z"),
             OffsetDateTime.parse("2025-11-15T18:00:00Z"),
             null,
@@ -115,6 +124,7 @@ class StampRequestRegistrationServiceTest {
         // Given
         StampRequestCreateRequest request = new StampRequestCreateRequest(
             1,
+            STAMP_DATE,
             OffsetDateTime.parse("2025-11-15T09:00:00Z"),
             OffsetDateTime.parse("2025-11-15T18:00:00Z"),
             null,
@@ -134,6 +144,7 @@ class StampRequestRegistrationServiceTest {
         // Given
         StampRequestCreateRequest request = new StampRequestCreateRequest(
             1,
+            STAMP_DATE,
             OffsetDateTime.parse("2025-11-15T09:00:00Z"),
             OffsetDateTime.parse("2025-11-15T18:00:00Z"),
             null,
@@ -153,6 +164,7 @@ class StampRequestRegistrationServiceTest {
         // Given
         StampRequestCreateRequest request = new StampRequestCreateRequest(
             1,
+            STAMP_DATE,
             OffsetDateTime.parse("2025-11-15T09:00:00Z"),
             OffsetDateTime.parse("2025-11-15T18:00:00Z"),
             null,
@@ -172,6 +184,7 @@ class StampRequestRegistrationServiceTest {
         // Given
         StampRequestCreateRequest request = new StampRequestCreateRequest(
             1,
+            STAMP_DATE,
             OffsetDateTime.parse("2025-11-15T09:00:00Z"),
             OffsetDateTime.parse("2025-11-15T18:00:00Z"),
             null,
@@ -191,6 +204,7 @@ class StampRequestRegistrationServiceTest {
         // Given - ちょうど10文字
         StampRequestCreateRequest request = new StampRequestCreateRequest(
             1,
+            STAMP_DATE,
             OffsetDateTime.parse("2025-11-15T09:00:00Z"),
             OffsetDateTime.parse("2025-11-15T18:00:00Z"),
             null,
@@ -213,6 +227,7 @@ class StampRequestRegistrationServiceTest {
         String reason500 = "あ".repeat(500);
         StampRequestCreateRequest request = new StampRequestCreateRequest(
             1,
+            STAMP_DATE,
             OffsetDateTime.parse("2025-11-15T09:00:00Z"),
             OffsetDateTime.parse("2025-11-15T18:00:00Z"),
             null,
@@ -236,6 +251,7 @@ class StampRequestRegistrationServiceTest {
         String longReason = "あ".repeat(501);  // 501文字
         StampRequestCreateRequest request = new StampRequestCreateRequest(
             1,
+            STAMP_DATE,
             OffsetDateTime.parse("2025-11-15T09:00:00Z"),
             OffsetDateTime.parse("2025-11-15T18:00:00Z"),
             null,
@@ -256,6 +272,7 @@ class StampRequestRegistrationServiceTest {
         OffsetDateTime futureTime = OffsetDateTime.parse("2025-11-15T11:00:00Z");
         StampRequestCreateRequest request = new StampRequestCreateRequest(
             1,
+            STAMP_DATE,
             futureTime,
             OffsetDateTime.parse("2025-11-15T18:00:00Z"),
             null,
@@ -275,6 +292,7 @@ class StampRequestRegistrationServiceTest {
         // Given
         StampRequestCreateRequest request = new StampRequestCreateRequest(
             1,
+            STAMP_DATE,
             OffsetDateTime.parse("2025-11-15T09:00:00Z"),  // 出勤が09:00
             OffsetDateTime.parse("2025-11-15T08:00:00Z"),  // 退勤が08:00（出勤より前）
             null,
@@ -294,6 +312,7 @@ class StampRequestRegistrationServiceTest {
         // Given
         StampRequestCreateRequest request = new StampRequestCreateRequest(
             1,
+            STAMP_DATE,
             OffsetDateTime.parse("2025-11-15T09:00:00Z"),
             OffsetDateTime.parse("2025-11-15T18:00:00Z"),
             OffsetDateTime.parse("2025-11-15T13:00:00Z"),  // 終了より後
@@ -313,6 +332,7 @@ class StampRequestRegistrationServiceTest {
         // Given
         StampRequestCreateRequest request = new StampRequestCreateRequest(
             1,
+            STAMP_DATE,
             OffsetDateTime.parse("2025-11-15T09:00:00Z"),
             OffsetDateTime.parse("2025-11-15T18:00:00Z"),
             OffsetDateTime.parse("2025-11-15T08:00:00Z"),  // 出勤前
@@ -332,6 +352,7 @@ class StampRequestRegistrationServiceTest {
         // Given
         StampRequestCreateRequest request = new StampRequestCreateRequest(
             1,
+            STAMP_DATE,
             OffsetDateTime.parse("2025-11-15T09:00:00Z"),
             OffsetDateTime.parse("2025-11-15T18:00:00Z"),
             OffsetDateTime.parse("2025-11-15T18:30:00Z"),  // 退勤後
@@ -351,6 +372,7 @@ class StampRequestRegistrationServiceTest {
         // Given - 休憩開始だけ指定、終了がnull
         StampRequestCreateRequest request = new StampRequestCreateRequest(
             1,
+            STAMP_DATE,
             OffsetDateTime.parse("2025-11-15T09:00:00Z"),
             OffsetDateTime.parse("2025-11-15T18:00:00Z"),
             OffsetDateTime.parse("2025-11-15T12:00:00Z"),
@@ -370,6 +392,7 @@ class StampRequestRegistrationServiceTest {
         // Given - 休憩終了だけ指定、開始がnull
         StampRequestCreateRequest request = new StampRequestCreateRequest(
             1,
+            STAMP_DATE,
             OffsetDateTime.parse("2025-11-15T09:00:00Z"),
             OffsetDateTime.parse("2025-11-15T18:00:00Z"),
             null,  // 開始時刻がnull
@@ -389,6 +412,7 @@ class StampRequestRegistrationServiceTest {
         // Given - 最初のリクエストを作成
         StampRequestCreateRequest firstRequest = new StampRequestCreateRequest(
             1,
+            STAMP_DATE,
             OffsetDateTime.parse("2025-11-15T09:00:00Z"),
             OffsetDateTime.parse("2025-11-15T18:00:00Z"),
             null,
@@ -401,6 +425,7 @@ class StampRequestRegistrationServiceTest {
         // 同じstampHistoryIdで2つ目のリクエスト
         StampRequestCreateRequest duplicateRequest = new StampRequestCreateRequest(
             1,  // 同じstampHistoryId
+            STAMP_DATE,
             OffsetDateTime.parse("2025-11-15T09:30:00Z"),
             OffsetDateTime.parse("2025-11-15T18:30:00Z"),
             null,
@@ -420,6 +445,7 @@ class StampRequestRegistrationServiceTest {
         // Given - 社員100がstampHistory=1にリクエスト
         StampRequestCreateRequest request100 = new StampRequestCreateRequest(
             1,
+            STAMP_DATE,
             OffsetDateTime.parse("2025-11-15T09:00:00Z"),
             OffsetDateTime.parse("2025-11-15T18:00:00Z"),
             null,
@@ -432,6 +458,7 @@ class StampRequestRegistrationServiceTest {
         // 社員200も同じstampHistory=1にリクエスト（別の社員なので許可されるべき）
         StampRequestCreateRequest request200 = new StampRequestCreateRequest(
             1,  // 同じstampHistoryId
+            STAMP_DATE,
             OffsetDateTime.parse("2025-11-15T09:30:00Z"),
             OffsetDateTime.parse("2025-11-15T18:30:00Z"),
             null,
@@ -455,6 +482,7 @@ class StampRequestRegistrationServiceTest {
         // Given - PENDING状態でリクエストを作成
         StampRequestCreateRequest firstRequest = new StampRequestCreateRequest(
             1,
+            STAMP_DATE,
             OffsetDateTime.parse("2025-11-15T09:00:00Z"),
             OffsetDateTime.parse("2025-11-15T18:00:00Z"),
             null,
@@ -472,6 +500,7 @@ class StampRequestRegistrationServiceTest {
         // 同じstampHistoryIdで新規リクエスト
         StampRequestCreateRequest newRequest = new StampRequestCreateRequest(
             1,  // 同じstampHistoryId
+            STAMP_DATE,
             OffsetDateTime.parse("2025-11-15T09:30:00Z"),
             OffsetDateTime.parse("2025-11-15T18:30:00Z"),
             null,
@@ -496,13 +525,14 @@ class StampRequestRegistrationServiceTest {
         // 未来時刻チェックを回避するため、Clockを進める
         Clock futureClock = Clock.fixed(Instant.parse("2025-11-16T10:00:00Z"), ZoneId.of("UTC"));
         store = new StampRequestStore(null, futureClock);
-        service = new StampRequestRegistrationService(store, stampHistoryMapper);
+        service = new StampRequestRegistrationService(store, stampHistoryMapper, eventPublisher);
 
         OffsetDateTime inTime = OffsetDateTime.parse("2025-11-15T22:00:00Z");  // 当日22:00
         OffsetDateTime outTime = OffsetDateTime.parse("2025-11-16T02:00:00Z");  // 翌日02:00
 
         StampRequestCreateRequest request = new StampRequestCreateRequest(
             1,
+            STAMP_DATE,
             inTime,
             outTime,
             null,
@@ -522,14 +552,34 @@ class StampRequestRegistrationServiceTest {
         assertThat(result.getStampDate()).isEqualTo(inTime.toLocalDate());
     }
 
+    @Test
+    void createRequest_成功_勤務日の指定なしはIDのみで検索() {
+        // Given - 勤務日を送らない旧クライアントからのリクエスト
+        when(stampHistoryMapper.getById(1, null)).thenReturn(Optional.of(historyStub.get(1)));
+        StampRequestCreateRequest request = new StampRequestCreateRequest(
+            1,
+            null,
+            OffsetDateTime.parse("2025-11-15T09:00:00Z"),
+            OffsetDateTime.parse("2025-11-15T18:00:00Z"),
+            null,
+            null,
+            false,
+            "理由を記載します。十分な長さがあります。"
+        );
+
+        // When
+        StampRequest result = service.createRequest(request, 100);
+
+        // Then - 勤務日は打刻履歴から補う
+        assertThat(result.getStampHistoryId()).isEqualTo(1);
+        assertThat(result.getStampDate()).isEqualTo(STAMP_DATE);
+    }
+
     private void stubStampHistory(int stampHistoryId, int employeeId) {
         OffsetDateTime defaultIn = OffsetDateTime.parse("2025-11-15T08:00:00Z");
         OffsetDateTime defaultOut = OffsetDateTime.parse("2025-11-15T17:00:00Z");
         StampHistory history = new StampHistory(
             stampHistoryId,
-            "2025",
-            "11",
-            "15",
             defaultIn.toLocalDate(),
             employeeId,
             defaultIn,
@@ -0,0 +1,112 @@
+package com.example.teamdev.service;
+
+import com.example.teamdev.entity.StampRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * StampRequestReviewQueueService のユニットテスト（インメモリストア使用）。
+ */
+class StampRequestReviewQueueServiceTest {
+
+    private static final int REVIEWER_A = 200;
+    private static final int REVIEWER_B = 300;
+
+    private StampRequestStore store;
+    private StampRequestReviewQueueService service;
+    private StampRequestQueryService queryService;
+
+    @BeforeEach
+    void setUp() {
+        store = new StampRequestStore(null, Clock.fixed(Instant.parse("2025-11-15T10:00:00Z"), ZoneId.of("UTC")));
+        service = new StampRequestReviewQueueService(store, 900, 50);
+        queryService = new StampRequestQueryService(store, null);
+    }
+
+    @Test
+    @DisplayName("担当者ごとに重複しない申請が古い順に割り当てられる")
+    void claimNext_assignsDistinctRequestsOldestFirst() {
+        List<Integer> ids = createPending(5);
+
+        List<StampRequest> claimedByA = service.claimNext(REVIEWER_A, 2);
+        List<StampRequest> claimedByB = service.claimNext(REVIEWER_B, 2);
+
+        assertThat(claimedByA).extracting(StampRequest::getId).containsExactly(ids.get(0), ids.get(1));
+        assertThat(claimedByB).extracting(StampRequest::getId).containsExactly(ids.get(2), ids.get(3));
+        assertThat(claimedByA).allSatisfy(r -> {
+            assertThat(r.getClaimedBy()).isEqualTo(REVIEWER_A);
+            assertThat(r.getClaimExpiresAt()).isEqualTo(store.now().plusSeconds(900));
+        });
+    }
+
+    @Test
+    @DisplayName("他の担当者に割り当て中の申請は保留一覧に表示されない")
+    void pendingList_hidesRequestsClaimedByOthers() {
+        List<Integer> ids = createPending(3);
+        service.claimNext(REVIEWER_A, 2);
+
+        assertThat(queryService.getPendingRequests(0, 20, null, null, "oldest", REVIEWER_B))
+            .extracting(StampRequest::getId)
+            .containsExactly(ids.get(2));
+        assertThat(queryService.countPendingRequests(null, null, REVIEWER_B)).isEqualTo(1);
+        assertThat(queryService.getPendingRequests(0, 20, null, null, "oldest", REVIEWER_A))
+            .extracting(StampRequest::getId)
+            .containsExactlyElementsOf(ids);
+    }
+
+    @Test
+    @DisplayName("再割り当てでは自分の割り当てが優先して延長される")
+    void claimNext_renewsOwnClaimsFirst() {
+        List<Integer> ids = createPending(3);
+        service.claimNext(REVIEWER_A, 1);
+
+        List<StampRequest> claimed = service.claimNext(REVIEWER_A, 2);
+
+        assertThat(claimed).extracting(StampRequest::getId).containsExactly(ids.get(0), ids.get(1));
+    }
+
+    @Test
+    @DisplayName("割り当てを解放すると他の担当者に割り当てられる")
+    void release_returnsRequestsToQueue() {
+        List<Integer> ids = createPending(2);
+        service.claimNext(REVIEWER_A, 2);
+
+        int released = service.release(REVIEWER_A, List.of(ids.get(1)));
+
+        assertThat(released).isEqualTo(1);
+        assertThat(service.claimNext(REVIEWER_B, 2)).extracting(StampRequest::getId).containsExactly(ids.get(1));
+    }
+
+    @Test
+    @DisplayName("件数が上限を超える場合は例外")
+    void claimNext_rejectsTooManyRequests() {
+        assertThatThrownBy(() -> service.claimNext(REVIEWER_A, 51))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("1〜50件");
+        assertThatThrownBy(() -> service.claimNext(null, 1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("レビュー担当者が指定されていません");
+    }
+
+    private List<Integer> createPending(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> store.create(StampRequest.builder()
+                .employeeId(100 + i)
+                .stampDate(LocalDate.of(2025, 11, 1 + i))
+                .status("PENDING")
+                .reason("承認キューのテストです。")
+                .build()).getId())
+            .toList();
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.teamdev.service;
+
+import com.example.teamdev.constant.StampRequestStatus;
+import com.example.teamdev.entity.StampRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * StampRequestStore のインメモリバックエンドのユニットテスト。
+ */
+class StampRequestStoreTest {
+
+    private static final Instant BASE = Instant.parse("2025-11-15T10:00:00Z");
+
+    private MutableClock clock;
+    private StampRequestStore store;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(BASE);
+        store = new StampRequestStore(null, clock);
+    }
+
+    @Test
+    @DisplayName("従業員ごとの取得は作成日時の新しい順でページングされる")
+    void findByEmployeeIdWithPagination_returnsRecentFirst() {
+        StampRequest first = create(100, "PENDING", "1日目");
+        StampRequest second = create(100, "PENDING", "2日目");
+        StampRequest third = create(100, "APPROVED", "3日目");
+        create(200, "PENDING", "他人");
+
+        assertThat(ids(store.findByEmployeeIdWithPagination(100, 0, 2)))
+            .containsExactly(third.getId(), second.getId());
+        assertThat(ids(store.findByEmployeeIdWithPagination(100, 2, 2)))
+            .containsExactly(first.getId());
+        assertThat(store.countByEmployeeId(100)).isEqualTo(3);
+        assertThat(store.countByEmployeeIdAndStatus(100, "PENDING")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("作成日時が同じ場合はIDの降順になる")
+    void findByStatus_sameCreatedAt_ordersByIdDesc() {
+        StampRequest first = create(100, "PENDING", "同時刻1", false);
+        StampRequest second = create(200, "PENDING", "同時刻2", false);
+
+        assertThat(ids(store.findByStatus("PENDING"))).containsExactly(second.getId(), first.getId());
+    }
+
+    @Test
+    @DisplayName("ステータスを変更して保存すると索引と件数が更新される")
+    void save_statusChange_reindexes() {
+        StampRequest request = create(100, "PENDING", "修正申請");
+
+        request.setStatus(StampRequestStatus.APPROVED.name());
+        store.save(request);
+        store.save(request);
+
+        assertThat(store.countByStatus("PENDING")).isZero();
+        assertThat(store.countByStatus("APPROVED")).isEqualTo(1);
+        assertThat(store.countByEmployeeIdAndStatus(100, "APPROVED")).isEqualTo(1);
+        assertThat(store.countByEmployeeId(100)).isEqualTo(1);
+        assertThat(store.findPendingByEmployeeIdAndStampHistoryId(100, request.getStampHistoryId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("打刻レコードなしのPENDING申請を対象日で検索できる")
+    void findPendingByEmployeeIdAndStampDate_returnsOnlyWithoutHistory() {
+        StampRequest withHistory = create(100, "PENDING", "打刻あり");
+        withHistory.setStampHistoryId(10);
+        store.save(withHistory);
+        StampRequest withoutHistory = create(100, "PENDING", "打刻なし");
+
+        assertThat(store.findPendingByEmployeeIdAndStampDate(100, LocalDate.of(2025, 11, 1)))
+            .contains(withoutHistory);
+        assertThat(store.findPendingByEmployeeIdAndStampHistoryId(100, 10)).contains(withHistory);
+    }
+
+    @Test
+    @DisplayName("検索はSQLと同じ並び順と件数を返す")
+    void findWithSearch_matchesSqlOrdering() {
+        StampRequest rejected = create(100, "REJECTED", "Late train");
+        StampRequest pending = create(100, "PENDING", "Forgot to stamp");
+        StampRequest approved = create(200, "APPROVED", "late arrival");
+        StampRequest pending2 = create(300, "PENDING", "Missing break");
+
+        assertThat(ids(store.findWithSearch(null, null, "oldest", 0, 10)))
+            .containsExactly(rejected.getId(), pending.getId(), approved.getId(), pending2.getId());
+        assertThat(ids(store.findWithSearch(null, null, "status", 0, 10)))
+            .containsExactly(pending2.getId(), pending.getId(), approved.getId(), rejected.getId());
+        assertThat(ids(store.findWithSearch(null, null, null, 1, 2)))
+            .containsExactly(approved.getId(), pending.getId());
+        assertThat(ids(store.findWithSearch(null, "LATE", "recent", 0, 10)))
+            .containsExactly(approved.getId(), rejected.getId());
+        assertThat(ids(store.findWithSearch(null, String.valueOf(pending.getId()), "recent", 0, 10)))
+            .containsExactly(pending.getId());
+        assertThat(store.countWithSearch("PENDING", null)).isEqualTo(2);
+        assertThat(store.countWithSearch(null, "late")).isEqualTo(2);
+    }
+
+    private StampRequest create(Integer employeeId, String status, String reason) {
+        return create(employeeId, status, reason, true);
+    }
+
+    private StampRequest create(Integer employeeId, String status, String reason, boolean tick) {
+        if (tick) {
+            clock.advanceSeconds(60);
+        }
+        return store.create(StampRequest.builder()
+            .employeeId(employeeId)
+            .stampDate(LocalDate.of(2025, 11, 1))
+            .status(status)
+            .reason(reason)
+            .build());
+    }
+
+    private static List<Integer> ids(List<StampRequest> requests) {
+        return requests.stream().map(StampRequest::getId).toList();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advanceSeconds(long seconds) {
+            instant = instant.plusSeconds(seconds);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package com.example.teamdev.service;
 
 import com.example.teamdev.entity.StampHistory;
+import com.example.teamdev.exception.ClosedMonthException;
 import com.example.teamdev.exception.DuplicateStampException;
 import com.example.teamdev.exception.InvalidStampStateException;
 import com.example.teamdev.form.HomeForm;
 import com.example.teamdev.mapper.StampHistoryMapper;
+import com.example.teamdev.service.event.AttendanceEvent;
+import com.example.teamdev.service.event.AttendanceEventType;
 import com.example.teamdev.constant.AppConstants;
 import com.example.teamdev.dto.api.home.StampType;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,11 +17,13 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
+import java.time.YearMonth;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 
@@ -26,6 +31,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -41,6 +47,12 @@ public class StampServiceTest {
     @Mock
     private LogHistoryRegistrationService logHistoryService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private AttendanceMonthCloseService monthCloseService;
+
     @InjectMocks
     private StampService stampService;
 
@@ -68,9 +80,7 @@ public class StampServiceTest {
         verify(mapper, times(1)).save(stampHistoryCaptor.capture());
         StampHistory capturedStamp = stampHistoryCaptor.getValue();
 
-        assertEquals("2025", capturedStamp.getYear());
-        assertEquals("07", capturedStamp.getMonth());
-        assertEquals("10", capturedStamp.getDay());
+        assertEquals(LocalDate.of(2025, 7, 10), capturedStamp.getStampDate());
         assertEquals(employeeId, capturedStamp.getEmployeeId());
         assertNotNull(capturedStamp.getInTime());
         assertNull(capturedStamp.getOutTime());
@@ -85,6 +95,11 @@ public class StampServiceTest {
                 eq(employeeId),
                 any(Timestamp.class)
         );
+
+        ArgumentCaptor<AttendanceEvent> eventCaptor = ArgumentCaptor.forClass(AttendanceEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertEquals(AttendanceEventType.STAMP_ATTENDANCE, eventCaptor.getValue().type());
+        assertEquals(employeeId, eventCaptor.getValue().employeeId());
     }
 
     /**
@@ -110,6 +125,25 @@ public class StampServiceTest {
         verify(mapper, never()).save(any());
         verify(mapper, never()).update(any());
         verifyNoInteractions(logHistoryService);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    /**
+     * 締め済みの月への打刻は記録しないことを確認
+     */
+    @Test
+    void execute_shouldThrowException_whenMonthIsClosed() {
+        homeForm.setStampType(StampType.ATTENDANCE);
+        homeForm.setNightWorkFlag(AppConstants.Stamp.NIGHT_WORK_FLAG_OFF);
+        doThrow(new ClosedMonthException(YearMonth.of(2025, 7)))
+            .when(monthCloseService).assertOpen(LocalDate.of(2025, 7, 10));
+
+        assertThrows(ClosedMonthException.class, () -> stampService.execute(homeForm, employeeId));
+
+        verify(mapper, never()).getStampHistoryByStampDateEmployeeId(any(), anyInt());
+        verify(mapper, never()).save(any());
+        verifyNoInteractions(logHistoryService);
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -138,9 +172,7 @@ public class StampServiceTest {
         StampHistory capturedStamp = stampHistoryCaptor.getValue();
 
         // 夜勤フラグがONの場合、日付が前日になることを確認
-        assertEquals("2025", capturedStamp.getYear());
-        assertEquals("07", capturedStamp.getMonth());
-        assertEquals("10", capturedStamp.getDay()); // 日付が前日になっていることを確認
+        assertEquals(LocalDate.of(2025, 7, 10), capturedStamp.getStampDate()); // 日付が前日になっていることを確認
         assertEquals(employeeId, capturedStamp.getEmployeeId());
         assertNotNull(capturedStamp.getInTime()); // 既存の出勤時刻が保持される
         assertNotNull(capturedStamp.getOutTime());
@@ -556,9 +588,7 @@ public class StampServiceTest {
         StampHistory captured = captor.getValue();
 
         // 夜勤フラグONで0時の退勤 → 前日（7月10日）として記録される
-        assertEquals("2025", captured.getYear());
-        assertEquals("07", captured.getMonth());
-        assertEquals("10", captured.getDay());
+        assertEquals(LocalDate.of(2025, 7, 10), captured.getStampDate());
         assertNotNull(captured.getOutTime());
         assertEquals(OffsetDateTime.of(2025, 7, 11, 0, 0, 0, 0, ZoneOffset.ofHours(9)), captured.getOutTime());
 
@@ -602,9 +632,7 @@ public class StampServiceTest {
         StampHistory captured = captor.getValue();
 
         // 夜勤フラグONで2時の退勤 → 前日（7月10日）として記録される
-        assertEquals("2025", captured.getYear());
-        assertEquals("07", captured.getMonth());
-        assertEquals("10", captured.getDay());
+        assertEquals(LocalDate.of(2025, 7, 10), captured.getStampDate());
         assertNotNull(captured.getOutTime());
         assertEquals(OffsetDateTime.of(2025, 7, 11, 2, 0, 0, 0, ZoneOffset.ofHours(9)), captured.getOutTime());
 
@@ -648,9 +676,7 @@ public class StampServiceTest {
         StampHistory captured = captor.getValue();
 
         // 夜勤フラグONで5時の退勤 → 前日（7月10日）として記録される
-        assertEquals("2025", captured.getYear());
-        assertEquals("07", captured.getMonth());
-        assertEquals("10", captured.getDay());
+        assertEquals(LocalDate.of(2025, 7, 10), captured.getStampDate());
         assertNotNull(captured.getOutTime());
         assertEquals(OffsetDateTime.of(2025, 7, 11, 5, 0, 0, 0, ZoneOffset.ofHours(9)), captured.getOutTime());
 
@@ -694,9 +720,7 @@ public class StampServiceTest {
         StampHistory captured = captor.getValue();
 
         // 夜勤フラグOFFの場合は日付が変わらない（7月11日のまま）
-        assertEquals("2025", captured.getYear());
-        assertEquals("07", captured.getMonth());
-        assertEquals("11", captured.getDay());
+        assertEquals(LocalDate.of(2025, 7, 11), captured.getStampDate());
         assertNotNull(captured.getOutTime());
 
         // ログ履歴が正しく記録されることを確認
@@ -729,9 +753,7 @@ public class StampServiceTest {
         StampHistory captured = captor.getValue();
 
         // 出勤は打刻時刻の日付で記録される（7月10日）
-        assertEquals("2025", captured.getYear());
-        assertEquals("07", captured.getMonth());
-        assertEquals("10", captured.getDay());
+        assertEquals(LocalDate.of(2025, 7, 10), captured.getStampDate());
         assertNotNull(captured.getInTime());
         assertEquals(OffsetDateTime.of(2025, 7, 10, 23, 0, 0, 0, ZoneOffset.ofHours(9)), captured.getInTime());
 
@@ -775,9 +797,7 @@ public class StampServiceTest {
         StampHistory captured = captor.getValue();
 
         // 夜勤フラグONで8月1日の退勤 → 前日（7月31日）として記録される
-        assertEquals("2025", captured.getYear());
-        assertEquals("07", captured.getMonth());
-        assertEquals("31", captured.getDay());
+        assertEquals(LocalDate.of(2025, 7, 31), captured.getStampDate());
         assertNotNull(captured.getOutTime());
         assertEquals(OffsetDateTime.of(2025, 8, 1, 2, 0, 0, 0, ZoneOffset.ofHours(9)), captured.getOutTime());
 
@@ -821,9 +841,7 @@ public class StampServiceTest {
         StampHistory captured = captor.getValue();
 
         // 夜勤フラグONで2026年1月1日の退勤 → 前日（2025年12月31日）として記録される
-        assertEquals("2025", captured.getYear());
-        assertEquals("12", captured.getMonth());
-        assertEquals("31", captured.getDay());
+        assertEquals(LocalDate.of(2025, 12, 31), captured.getStampDate());
         assertNotNull(captured.getOutTime());
         assertEquals(OffsetDateTime.of(2026, 1, 1, 3, 0, 0, 0, ZoneOffset.ofHours(9)), captured.getOutTime());
 
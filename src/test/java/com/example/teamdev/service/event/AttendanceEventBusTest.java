@@ -0,0 +1,196 @@
+package com.example.teamdev.service.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AttendanceEventBusTest {
+
+    private AttendanceEventBus bus;
+
+    @AfterEach
+    void tearDown() {
+        if (bus != null) {
+            bus.shutdown();
+        }
+    }
+
+    @DisplayName("発行したイベントが全購読者に採番順で届く")
+    @Test
+    void fansOutToAllSubscribers() throws Exception {
+        bus = new AttendanceEventBus(16, 16, 10, 2, 60);
+        RecordingSink first = new RecordingSink();
+        RecordingSink second = new RecordingSink();
+        bus.subscribe(null, first);
+        bus.subscribe(null, second);
+
+        long id1 = bus.publish(event(AttendanceEventType.STAMP_ATTENDANCE));
+        long id2 = bus.publish(event(AttendanceEventType.BREAK_TOGGLED));
+
+        assertThat(first.take(2)).containsExactly(id1, id2);
+        assertThat(second.take(2)).containsExactly(id1, id2);
+    }
+
+    @DisplayName("Last-Event-ID 以降のイベントをリプレイする")
+    @Test
+    void replaysEventsAfterLastEventId() throws Exception {
+        bus = new AttendanceEventBus(16, 16, 10, 1, 60);
+        long id1 = bus.publish(event(AttendanceEventType.STAMP_ATTENDANCE));
+        long id2 = bus.publish(event(AttendanceEventType.REQUEST_CREATED));
+        long id3 = bus.publish(event(AttendanceEventType.REQUEST_APPROVED));
+
+        RecordingSink sink = new RecordingSink();
+        bus.subscribe(id1, sink);
+
+        assertThat(sink.take(2)).containsExactly(id2, id3);
+    }
+
+    @DisplayName("Last-Event-ID 以降のイベントがリプレイウィンドウから外れている場合は再送せずにリセットを通知する")
+    @Test
+    void requestsResetWhenReplayWindowHasGap() throws Exception {
+        bus = new AttendanceEventBus(16, 2, 10, 1, 60);
+        long id1 = bus.publish(event(AttendanceEventType.STAMP_ATTENDANCE));
+        bus.publish(event(AttendanceEventType.REQUEST_CREATED));
+        bus.publish(event(AttendanceEventType.REQUEST_APPROVED));
+        long id4 = bus.publish(event(AttendanceEventType.STAMP_DEPARTURE));
+
+        RecordingSink sink = new RecordingSink();
+        bus.subscribe(id1, sink);
+        long id5 = bus.publish(event(AttendanceEventType.BREAK_TOGGLED));
+
+        // ウィンドウに残る id3, id4 は送らず、リセットの後に新しいイベントだけが届く
+        assertThat(sink.take(2)).containsExactly(-id4, id5);
+    }
+
+    @DisplayName("採番済みの最新IDより大きい Last-Event-ID（再起動前のID）はリセットを通知する")
+    @Test
+    void requestsResetForEventIdFromBeforeRestart() throws Exception {
+        bus = new AttendanceEventBus(16, 16, 10, 1, 60);
+        long id1 = bus.publish(event(AttendanceEventType.STAMP_ATTENDANCE));
+
+        RecordingSink sink = new RecordingSink();
+        bus.subscribe(100L, sink);
+
+        assertThat(sink.take(1)).containsExactly(-id1);
+    }
+
+    @DisplayName("バッファが溢れた場合は最も古いイベントを破棄する")
+    @Test
+    void dropsOldestWhenBufferIsFull() throws Exception {
+        bus = new AttendanceEventBus(2, 0, 10, 1, 60);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch blocked = new CountDownLatch(1);
+        RecordingSink sink = new RecordingSink() {
+            @Override
+            public void send(long eventId, AttendanceEvent event) throws IOException {
+                if (eventId == 1) {
+                    blocked.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                super.send(eventId, event);
+            }
+        };
+        AttendanceEventBus.Subscription subscription = bus.subscribe(null, sink);
+
+        bus.publish(event(AttendanceEventType.STAMP_ATTENDANCE));
+        assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 4; i++) {
+            bus.publish(event(AttendanceEventType.STAMP_DEPARTURE));
+        }
+        release.countDown();
+
+        assertThat(sink.take(3)).containsExactly(1L, 4L, 5L);
+        assertThat(subscription.droppedCount()).isEqualTo(2);
+    }
+
+    @DisplayName("送信に失敗した購読者は解除される")
+    @Test
+    void unsubscribesFailedSink() throws Exception {
+        bus = new AttendanceEventBus(16, 16, 10, 1, 60);
+        CountDownLatch closed = new CountDownLatch(1);
+        bus.subscribe(null, new RecordingSink() {
+            @Override
+            public void send(long eventId, AttendanceEvent event) throws IOException {
+                throw new IOException("broken pipe");
+            }
+
+            @Override
+            public void close() {
+                closed.countDown();
+            }
+        });
+
+        bus.publish(event(AttendanceEventType.STAMP_ATTENDANCE));
+
+        assertThat(closed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(bus.subscriberCount()).isZero();
+    }
+
+    @DisplayName("購読者数の上限を超える購読は拒否する")
+    @Test
+    void rejectsSubscribersOverLimit() {
+        bus = new AttendanceEventBus(16, 16, 1, 1, 60);
+        bus.subscribe(null, new RecordingSink());
+
+        assertThatThrownBy(() -> bus.subscribe(null, new RecordingSink()))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static AttendanceEvent event(AttendanceEventType type) {
+        return AttendanceEvent.stamp(type, 1, LocalDate.of(2025, 11, 7),
+            OffsetDateTime.of(2025, 11, 7, 9, 0, 0, 0, ZoneOffset.ofHours(9)));
+    }
+
+    private static class RecordingSink implements AttendanceEventSink {
+
+        private final BlockingQueue<Long> received = new LinkedBlockingQueue<>();
+
+        @Override
+        public void send(long eventId, AttendanceEvent event) throws IOException {
+            received.add(eventId);
+        }
+
+        /** リセット通知は負のIDとして記録する */
+        @Override
+        public void reset(long eventId) {
+            received.add(-eventId);
+        }
+
+        @Override
+        public void heartbeat() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        List<Long> take(int count) throws InterruptedException {
+            List<Long> ids = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                Long id = received.poll(5, TimeUnit.SECONDS);
+                if (id == null) {
+                    break;
+                }
+                ids.add(id);
+            }
+            return ids;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.teamdev.service.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.teamdev.constant.BulkJobStatus;
+import com.example.teamdev.constant.BulkJobType;
+import com.example.teamdev.entity.BulkJob;
+import com.example.teamdev.mapper.BulkJobMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BulkJobRunner単体テスト")
+class BulkJobRunnerTest {
+
+    private static final Instant FIXED_INSTANT = Instant.parse("2025-11-30T15:00:00Z");
+    private static final OffsetDateTime NOW = OffsetDateTime.ofInstant(FIXED_INSTANT, ZoneOffset.UTC);
+    private static final Long JOB_ID = 7L;
+    private static final Integer OPERATOR_ID = 1;
+
+    @Mock
+    private BulkJobMapper mapper;
+
+    @Mock
+    private BulkJobHandler handler;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BulkJobRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        when(handler.type()).thenReturn(BulkJobType.STAMP_REQUEST_APPROVE);
+        runner = new BulkJobRunner(mapper, List.of(handler), new ObjectMapper(),
+            Clock.fixed(FIXED_INSTANT, ZoneOffset.UTC), transactionManager, 1, 10, 300);
+    }
+
+    @AfterEach
+    void tearDown() {
+        runner.shutdown();
+    }
+
+    @Test
+    @DisplayName("最後にコミットしたチャンクの次から再開し、チャンクごとに進捗を記録して完了する")
+    void resumesFromCommittedOffsetAndRecordsEachChunk() {
+        when(mapper.findById(JOB_ID)).thenReturn(Optional.of(job(List.of(1, 2, 3, 4, 5), 2)));
+        when(mapper.markRunning(JOB_ID, NOW)).thenReturn(1);
+        // 前回のプロセスで最初のチャンク（1, 2）はコミット済み
+        AtomicInteger offset = new AtomicInteger(2);
+        when(mapper.lockForChunk(JOB_ID)).thenAnswer(invocation -> Optional.of(locked(offset.get(), false)));
+        doAnswer(invocation -> {
+            offset.set(invocation.getArgument(1));
+            return 1;
+        }).when(mapper).recordChunk(eq(JOB_ID), anyInt(), anyInt(), any(), eq(NOW));
+        when(handler.process(any(), anyMap(), eq(OPERATOR_ID))).thenAnswer(invocation -> {
+            List<Integer> chunk = invocation.getArgument(0);
+            return Set.copyOf(chunk.stream().filter(id -> id != 4).toList());
+        });
+
+        runner.run(JOB_ID);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Integer>> chunks = ArgumentCaptor.forClass(List.class);
+        verify(handler, times(2)).process(chunks.capture(), eq(Map.of("approvalNote", "OK")), eq(OPERATOR_ID));
+        assertThat(chunks.getAllValues()).containsExactly(List.of(3, 4), List.of(5));
+        verify(mapper).recordChunk(JOB_ID, 4, 1, new Integer[] {4}, NOW);
+        verify(mapper).recordChunk(JOB_ID, 5, 1, new Integer[0], NOW);
+        verify(mapper).finish(JOB_ID, BulkJobStatus.SUCCEEDED.name(), null, NOW);
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    @Test
+    @DisplayName("取消要求はチャンクの開始時に検出して CANCELLED にする")
+    void stopsAtChunkBoundaryWhenCancelRequested() {
+        when(mapper.findById(JOB_ID)).thenReturn(Optional.of(job(List.of(1, 2, 3), 1)));
+        when(mapper.markRunning(JOB_ID, NOW)).thenReturn(1);
+        when(mapper.lockForChunk(JOB_ID)).thenReturn(Optional.of(locked(1, true)));
+
+        runner.run(JOB_ID);
+
+        verify(handler, never()).process(any(), anyMap(), any());
+        verify(mapper).finish(JOB_ID, BulkJobStatus.CANCELLED.name(), null, NOW);
+    }
+
+    @Test
+    @DisplayName("チャンクの処理で例外が発生した場合はロールバックして FAILED にする")
+    void marksJobFailedWhenChunkThrows() {
+        when(mapper.findById(JOB_ID)).thenReturn(Optional.of(job(List.of(1, 2), 2)));
+        when(mapper.markRunning(JOB_ID, NOW)).thenReturn(1);
+        when(mapper.lockForChunk(JOB_ID)).thenReturn(Optional.of(locked(0, false)));
+        when(handler.process(any(), anyMap(), any())).thenThrow(new IllegalStateException("connection lost"));
+
+        runner.run(JOB_ID);
+
+        verify(transactionManager).rollback(any());
+        verify(mapper, never()).recordChunk(any(), anyInt(), anyInt(), any(), any());
+        verify(mapper).finish(JOB_ID, BulkJobStatus.FAILED.name(), "connection lost", NOW);
+    }
+
+    @Test
+    @DisplayName("既に完了・取消済みのジョブは処理しない")
+    void skipsFinishedJobs() {
+        when(mapper.findById(JOB_ID)).thenReturn(Optional.of(job(List.of(1), 1)));
+        when(mapper.markRunning(JOB_ID, NOW)).thenReturn(0);
+
+        runner.run(JOB_ID);
+
+        verify(mapper, never()).lockForChunk(any());
+        verify(handler, never()).process(any(), anyMap(), any());
+    }
+
+    private static BulkJob job(List<Integer> targetIds, int chunkSize) {
+        BulkJob job = new BulkJob();
+        job.setId(JOB_ID);
+        job.setJobType(BulkJobType.STAMP_REQUEST_APPROVE.name());
+        job.setStatus(BulkJobStatus.QUEUED.name());
+        job.setRequestedBy(OPERATOR_ID);
+        job.setTargetIds(targetIds.toArray(Integer[]::new));
+        job.setParameters("{\"approvalNote\":\"OK\"}");
+        job.setChunkSize(chunkSize);
+        job.setTotalCount(targetIds.size());
+        return job;
+    }
+
+    private static BulkJob locked(int nextOffset, boolean cancelRequested) {
+        BulkJob locked = new BulkJob();
+        locked.setId(JOB_ID);
+        locked.setStatus(BulkJobStatus.RUNNING.name());
+        locked.setNextOffset(nextOffset);
+        locked.setCancelRequested(cancelRequested);
+        return locked;
+    }
+}
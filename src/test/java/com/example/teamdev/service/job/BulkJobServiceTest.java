@@ -0,0 +1,132 @@
+package com.example.teamdev.service.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.teamdev.constant.BulkJobType;
+import com.example.teamdev.entity.BulkJob;
+import com.example.teamdev.mapper.BulkJobMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BulkJobService単体テスト")
+class BulkJobServiceTest {
+
+    private static final Instant FIXED_INSTANT = Instant.parse("2025-11-30T15:00:00Z");
+    private static final OffsetDateTime NOW = OffsetDateTime.ofInstant(FIXED_INSTANT, ZoneOffset.UTC);
+    private static final Integer OPERATOR_ID = 1;
+
+    @Mock
+    private BulkJobMapper mapper;
+
+    @Mock
+    private BulkJobRunner runner;
+
+    @Mock
+    private BulkJobHandler handler;
+
+    private BulkJobService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new BulkJobService(mapper, runner, new ObjectMapper(),
+            Clock.fixed(FIXED_INSTANT, ZoneOffset.UTC), 500);
+    }
+
+    @Test
+    @DisplayName("重複を除いた対象とパラメータを登録し、ワーカーに投入する")
+    void submitPersistsDeduplicatedTargetsAndDispatches() {
+        when(runner.handlerFor(BulkJobType.STAMP_REQUEST_REJECT)).thenReturn(handler);
+        doAnswer(invocation -> {
+            invocation.<BulkJob>getArgument(0).setId(42L);
+            return null;
+        }).when(mapper).insert(any(BulkJob.class));
+
+        BulkJob job = service.submit(BulkJobType.STAMP_REQUEST_REJECT, Arrays.asList(3, 1, 3, 2),
+            Map.of("rejectionReason", "勤務実態と一致しないため却下します"), OPERATOR_ID);
+
+        ArgumentCaptor<BulkJob> inserted = ArgumentCaptor.forClass(BulkJob.class);
+        verify(mapper).insert(inserted.capture());
+        assertThat(inserted.getValue().getTargetIds()).containsExactly(3, 1, 2);
+        assertThat(inserted.getValue().getTotalCount()).isEqualTo(3);
+        assertThat(inserted.getValue().getChunkSize()).isEqualTo(500);
+        assertThat(inserted.getValue().getStatus()).isEqualTo("QUEUED");
+        assertThat(inserted.getValue().getParameters()).contains("rejectionReason");
+        verify(handler).validate(List.of(3, 1, 2), Map.of("rejectionReason", "勤務実態と一致しないため却下します"));
+        verify(runner).dispatch(42L);
+        assertThat(job.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("ハンドラの検証に失敗した場合は登録しない")
+    void submitRejectsInvalidParameters() {
+        when(runner.handlerFor(BulkJobType.STAMP_REQUEST_REJECT)).thenReturn(handler);
+        doThrow(new IllegalArgumentException("却下理由は必須です"))
+            .when(handler).validate(any(), any());
+
+        assertThatThrownBy(() -> service.submit(BulkJobType.STAMP_REQUEST_REJECT, List.of(1), null, OPERATOR_ID))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("却下理由は必須です");
+        verifyNoInteractions(mapper);
+        verify(runner, never()).dispatch(any());
+    }
+
+    @Test
+    @DisplayName("上限件数を超える場合は例外")
+    void submitRejectsTooManyTargets() {
+        List<Integer> ids = IntStream.rangeClosed(1, BulkJobService.MAX_TARGETS + 1).boxed().toList();
+
+        assertThatThrownBy(() -> service.submit(BulkJobType.NEWS_DELETE, ids, Map.of(), OPERATOR_ID))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("10000");
+        verifyNoInteractions(mapper, runner);
+    }
+
+    @Test
+    @DisplayName("完了済みジョブの取消は IllegalStateException、存在しないジョブは空を返す")
+    void cancelDistinguishesFinishedAndMissingJobs() {
+        when(mapper.requestCancel(eq(1L), eq(NOW))).thenReturn(0);
+        when(mapper.findById(1L)).thenReturn(Optional.of(new BulkJob()));
+        when(mapper.requestCancel(eq(2L), eq(NOW))).thenReturn(0);
+        when(mapper.findById(2L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.cancel(1L)).isInstanceOf(IllegalStateException.class);
+        assertThat(service.cancel(2L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("失敗したジョブの再実行は QUEUED に戻してワーカーに投入する")
+    void retryRequeuesFailedJob() {
+        BulkJob job = new BulkJob();
+        job.setId(5L);
+        when(mapper.requeueFailed(5L, NOW)).thenReturn(1);
+        when(mapper.findById(5L)).thenReturn(Optional.of(job));
+
+        assertThat(service.retry(5L)).contains(job);
+        verify(runner).dispatch(5L);
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.teamdev.service.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.teamdev.config.ReplicaLsnTracker;
+import com.example.teamdev.constant.EmployeePurgeJobStatus;
+import com.example.teamdev.constant.EmployeePurgePhase;
+import com.example.teamdev.entity.EmployeePurgeJob;
+import com.example.teamdev.mapper.EmployeePurgeJobMapper;
+import com.example.teamdev.mapper.EmployeePurgeMapper;
+import com.example.teamdev.service.event.StampHistoryChangedEvent;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmployeePurgeRunner単体テスト")
+class EmployeePurgeRunnerTest {
+
+    private static final Instant FIXED_INSTANT = Instant.parse("2025-11-30T15:00:00Z");
+    private static final OffsetDateTime NOW = OffsetDateTime.ofInstant(FIXED_INSTANT, ZoneOffset.UTC);
+    private static final Integer EMPLOYEE_ID = 12;
+    private static final int CHUNK_SIZE = 2;
+
+    @Mock
+    private EmployeePurgeJobMapper jobMapper;
+
+    @Mock
+    private EmployeePurgeMapper purgeMapper;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ObjectProvider<ReplicaLsnTracker> replicaLsnTracker;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Long> sleeps = new ArrayList<>();
+    private final AtomicReference<EmployeePurgePhase> phase = new AtomicReference<>(EmployeePurgePhase.LOG_HISTORY);
+    private EmployeePurgeRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        runner = new EmployeePurgeRunner(jobMapper, purgeMapper, eventPublisher, replicaLsnTracker,
+            Clock.fixed(FIXED_INSTANT, ZoneOffset.UTC), transactionManager,
+            1, 50, 10_000, 1.0, 16_777_216L, 300) {
+            @Override
+            boolean sleep(long millis) {
+                sleeps.add(millis);
+                return true;
+            }
+        };
+        when(jobMapper.findById(EMPLOYEE_ID)).thenReturn(Optional.of(job()));
+        when(jobMapper.markRunning(EMPLOYEE_ID, NOW)).thenReturn(1);
+        when(jobMapper.lockForChunk(EMPLOYEE_ID)).thenAnswer(invocation -> Optional.of(locked(phase.get())));
+        lenient().doAnswer(invocation -> {
+            phase.set(EmployeePurgePhase.valueOf(invocation.getArgument(2)));
+            return 1;
+        }).when(jobMapper).recordChunk(eq(EMPLOYEE_ID), any(), any(), anyInt(), anyInt(), eq(NOW));
+    }
+
+    @AfterEach
+    void tearDown() {
+        runner.shutdown();
+    }
+
+    @Test
+    @DisplayName("操作履歴・申請・打刻記録の順にチャンク削除し、最後に従業員行を削除して完了する")
+    void purgesTablesInPhaseOrder() {
+        when(purgeMapper.deleteLogHistoryChunk(EMPLOYEE_ID, CHUNK_SIZE)).thenReturn(2, 1);
+        when(purgeMapper.deleteStampRequestChunk(EMPLOYEE_ID, CHUNK_SIZE)).thenReturn(0);
+        when(purgeMapper.deleteStampHistoryChunk(EMPLOYEE_ID, CHUNK_SIZE)).thenReturn(2, 0);
+        when(purgeMapper.deleteArchivedRows(EMPLOYEE_ID)).thenReturn(3);
+        when(purgeMapper.deleteEmployee(EMPLOYEE_ID)).thenReturn(1);
+
+        runner.run(EMPLOYEE_ID);
+
+        InOrder order = inOrder(jobMapper, purgeMapper);
+        order.verify(jobMapper).recordChunk(eq(EMPLOYEE_ID), eq("LOG_HISTORY"), eq("LOG_HISTORY"), eq(2), anyInt(), eq(NOW));
+        order.verify(jobMapper).recordChunk(eq(EMPLOYEE_ID), eq("LOG_HISTORY"), eq("STAMP_REQUEST"), eq(1), anyInt(), eq(NOW));
+        order.verify(jobMapper).recordChunk(eq(EMPLOYEE_ID), eq("STAMP_REQUEST"), eq("STAMP_HISTORY"), eq(0), anyInt(), eq(NOW));
+        order.verify(jobMapper).recordChunk(eq(EMPLOYEE_ID), eq("STAMP_HISTORY"), eq("STAMP_HISTORY"), eq(2), anyInt(), eq(NOW));
+        order.verify(jobMapper).recordChunk(eq(EMPLOYEE_ID), eq("STAMP_HISTORY"), eq("EMPLOYEE"), eq(0), anyInt(), eq(NOW));
+        order.verify(purgeMapper).deleteArchivedRows(EMPLOYEE_ID);
+        order.verify(purgeMapper).deleteEmployee(EMPLOYEE_ID);
+        order.verify(jobMapper).finish(EMPLOYEE_ID, EmployeePurgeJobStatus.SUCCEEDED.name(), false, null, NOW);
+        verify(eventPublisher).publishEvent(StampHistoryChangedEvent.forEmployee(EMPLOYEE_ID));
+        // 行を削除しなかったチャンクの後は待機しない
+        assertThat(sleeps).hasSize(3);
+        verify(transactionManager, times(6)).commit(any());
+    }
+
+    @Test
+    @DisplayName("従業員行が他の行から参照されている場合は論理削除のまま残して完了する")
+    void retainsReferencedEmployeeRow() {
+        phase.set(EmployeePurgePhase.EMPLOYEE);
+        when(purgeMapper.deleteEmployee(EMPLOYEE_ID))
+            .thenThrow(new DataIntegrityViolationException("stamp_request_approval_employee_id_fkey"));
+
+        runner.run(EMPLOYEE_ID);
+
+        verify(purgeMapper, times(2)).deleteArchivedRows(EMPLOYEE_ID);
+        verify(transactionManager).rollback(any());
+        verify(jobMapper).finish(EMPLOYEE_ID, EmployeePurgeJobStatus.SUCCEEDED.name(), true, null, NOW);
+        verify(jobMapper, never()).finish(eq(EMPLOYEE_ID), eq(EmployeePurgeJobStatus.FAILED.name()),
+            anyBoolean(), any(), any());
+        verify(eventPublisher).publishEvent(StampHistoryChangedEvent.forEmployee(EMPLOYEE_ID));
+    }
+
+    private static EmployeePurgeJob job() {
+        EmployeePurgeJob job = new EmployeePurgeJob();
+        job.setEmployeeId(EMPLOYEE_ID);
+        job.setStatus(EmployeePurgeJobStatus.QUEUED.name());
+        job.setPhase(EmployeePurgePhase.LOG_HISTORY.name());
+        job.setRequestedBy(1);
+        job.setChunkSize(CHUNK_SIZE);
+        return job;
+    }
+
+    private static EmployeePurgeJob locked(EmployeePurgePhase phase) {
+        EmployeePurgeJob locked = new EmployeePurgeJob();
+        locked.setEmployeeId(EMPLOYEE_ID);
+        locked.setStatus(EmployeePurgeJobStatus.RUNNING.name());
+        locked.setPhase(phase.name());
+        locked.setChunkSize(CHUNK_SIZE);
+        return locked;
+    }
+}
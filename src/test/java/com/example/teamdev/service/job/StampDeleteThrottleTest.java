@@ -0,0 +1,43 @@
+package com.example.teamdev.service.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("StampDeleteThrottle単体テスト")
+class StampDeleteThrottleTest {
+
+    private static final long MAX_LAG = 1_000L;
+
+    @Test
+    @DisplayName("再生遅延が上限以下の間はチャンクの処理時間に比例して待機し、上下限で丸める")
+    void sleepsInProportionToChunkTime() {
+        StampDeleteThrottle throttle = new StampDeleteThrottle(50, 2_000, 1.5, MAX_LAG);
+
+        assertThat(throttle.nextSleepMillis(200, -1)).isEqualTo(300);
+        assertThat(throttle.nextSleepMillis(10, MAX_LAG)).isEqualTo(50);
+        assertThat(throttle.nextSleepMillis(5_000, 0)).isEqualTo(2_000);
+    }
+
+    @Test
+    @DisplayName("再生遅延が上限を超える間は待機を倍々に延ばし、解消すると処理時間に比例した待機に戻る")
+    void backsOffWhileReplicaLags() {
+        StampDeleteThrottle throttle = new StampDeleteThrottle(50, 1_000, 1.0, MAX_LAG);
+
+        assertThat(throttle.nextSleepMillis(100, 0)).isEqualTo(100);
+        assertThat(throttle.nextSleepMillis(100, MAX_LAG + 1)).isEqualTo(200);
+        assertThat(throttle.nextSleepMillis(100, MAX_LAG + 1)).isEqualTo(400);
+        assertThat(throttle.nextSleepMillis(100, MAX_LAG + 1)).isEqualTo(800);
+        assertThat(throttle.nextSleepMillis(100, MAX_LAG + 1)).isEqualTo(1_000);
+        assertThat(throttle.nextSleepMillis(100, 10)).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("待機時間の上限が下限より小さい設定は拒否する")
+    void rejectsInvalidSettings() {
+        assertThatThrownBy(() -> new StampDeleteThrottle(100, 50, 1.0, MAX_LAG))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
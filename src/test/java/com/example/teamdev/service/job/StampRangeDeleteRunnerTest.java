@@ -0,0 +1,277 @@
+package com.example.teamdev.service.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.teamdev.config.ReplicaLsnTracker;
+import com.example.teamdev.constant.StampDeleteJobStatus;
+import com.example.teamdev.entity.StampDeleteChunk;
+import com.example.teamdev.entity.StampDeleteJob;
+import com.example.teamdev.mapper.StampDeleteJobMapper;
+import com.example.teamdev.mapper.StampDeleteMapper;
+import com.example.teamdev.mapper.StampHistoryPartitionMapper;
+import com.example.teamdev.exception.ClosedMonthException;
+import com.example.teamdev.service.AttendanceMonthCloseService;
+import com.example.teamdev.service.LogHistoryRegistrationService;
+import com.example.teamdev.service.event.StampHistoryChangedEvent;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StampRangeDeleteRunner単体テスト")
+class StampRangeDeleteRunnerTest {
+
+    private static final Instant FIXED_INSTANT = Instant.parse("2025-11-30T15:00:00Z");
+    private static final OffsetDateTime NOW = OffsetDateTime.ofInstant(FIXED_INSTANT, ZoneOffset.UTC);
+    private static final Long JOB_ID = 9L;
+    private static final Integer OPERATOR_ID = 1;
+    private static final LocalDate FROM = LocalDate.of(2024, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 1, 15);
+
+    @Mock
+    private StampDeleteJobMapper jobMapper;
+
+    @Mock
+    private StampDeleteMapper deleteMapper;
+
+    @Mock
+    private StampHistoryPartitionMapper partitionMapper;
+
+    @Mock
+    private LogHistoryRegistrationService logHistoryService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private AttendanceMonthCloseService monthCloseService;
+
+    @Mock
+    private ObjectProvider<ReplicaLsnTracker> replicaLsnTracker;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Long> sleeps = new ArrayList<>();
+    private StampRangeDeleteRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        runner = new StampRangeDeleteRunner(jobMapper, deleteMapper, partitionMapper, logHistoryService,
+            eventPublisher, monthCloseService, replicaLsnTracker, Clock.fixed(FIXED_INSTANT, ZoneOffset.UTC), transactionManager,
+            1, 50, 10_000, 1.0, 16_777_216L, 300, 2_000) {
+            @Override
+            boolean sleep(long millis) {
+                sleeps.add(millis);
+                return true;
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        runner.shutdown();
+    }
+
+    @Test
+    @DisplayName("ウィンドウ内を ID 順にチャンク削除し、カーソルを記録しながら次のウィンドウへ進んで完了する")
+    void deletesWindowsInKeyOrderedChunks() {
+        when(jobMapper.findById(JOB_ID)).thenReturn(Optional.of(job()));
+        when(deleteMapper.countInRange(FROM, TO)).thenReturn(3);
+        when(jobMapper.markRunning(JOB_ID, 3, NOW)).thenReturn(1);
+        AtomicReference<LocalDate> windowStart = new AtomicReference<>(FROM);
+        AtomicInteger cursor = new AtomicInteger();
+        when(jobMapper.lockForChunk(JOB_ID))
+            .thenAnswer(invocation -> Optional.of(locked(windowStart.get(), cursor.get(), false, false)));
+        doAnswer(invocation -> {
+            windowStart.set(invocation.getArgument(1));
+            cursor.set(invocation.getArgument(2));
+            return 1;
+        }).when(jobMapper).recordChunk(eq(JOB_ID), any(), anyInt(), anyInt(), anyInt(), eq(NOW));
+        LocalDate secondWindow = LocalDate.of(2024, 1, 8);
+        when(deleteMapper.deleteChunk(FROM, secondWindow, 0, 2))
+            .thenReturn(new StampDeleteChunk(2, 2, 11, LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 5)));
+        when(deleteMapper.deleteChunk(FROM, secondWindow, 11, 2))
+            .thenReturn(new StampDeleteChunk(1, 1, 12, LocalDate.of(2024, 1, 7), LocalDate.of(2024, 1, 7)));
+        when(deleteMapper.deleteChunk(secondWindow, TO, 0, 2))
+            .thenReturn(new StampDeleteChunk(0, 0, null, null, null));
+
+        runner.run(JOB_ID);
+
+        verify(jobMapper).recordChunk(eq(JOB_ID), eq(FROM), eq(11), eq(2), anyInt(), eq(NOW));
+        verify(jobMapper).recordChunk(eq(JOB_ID), eq(secondWindow), eq(0), eq(1), anyInt(), eq(NOW));
+        verify(jobMapper).recordChunk(eq(JOB_ID), eq(TO), eq(0), eq(0), anyInt(), eq(NOW));
+        verify(jobMapper).finish(JOB_ID, StampDeleteJobStatus.SUCCEEDED.name(), null, NOW);
+        verify(logHistoryService).execute(5, 4, null, null, OPERATOR_ID, Timestamp.from(FIXED_INSTANT));
+        verify(eventPublisher, times(2))
+            .publishEvent(StampHistoryChangedEvent.forMonths(YearMonth.of(2024, 1), YearMonth.of(2024, 1)));
+        // 空のウィンドウの後は待機しない。レプリカ未構成のため再生遅延は記録しない
+        assertThat(sleeps).hasSize(2);
+        verify(jobMapper, times(2)).recordThrottle(eq(JOB_ID), anyInt(), isNull(), eq(NOW));
+        verify(transactionManager, times(4)).commit(any());
+    }
+
+    @Test
+    @DisplayName("月全体を含むウィンドウはパーティションごと削除し、ロックを取れない場合はチャンク削除に切り替える")
+    void dropsWholeMonthPartitionsAndFallsBackToChunks() {
+        StampDeleteJob job = job();
+        job.setToDate(LocalDate.of(2024, 3, 1));
+        job.setEstimatedCount(121);
+        when(jobMapper.findById(JOB_ID)).thenReturn(Optional.of(job));
+        when(jobMapper.markRunning(JOB_ID, null, NOW)).thenReturn(1);
+        AtomicReference<LocalDate> windowStart = new AtomicReference<>(FROM);
+        AtomicInteger cursor = new AtomicInteger();
+        when(jobMapper.lockForChunk(JOB_ID))
+            .thenAnswer(invocation -> Optional.of(locked(windowStart.get(), cursor.get(), false, false)));
+        doAnswer(invocation -> {
+            windowStart.set(invocation.getArgument(1));
+            cursor.set(invocation.getArgument(2));
+            return 1;
+        }).when(jobMapper).recordChunk(eq(JOB_ID), any(), anyInt(), anyInt(), anyInt(), eq(NOW));
+        LocalDate february = LocalDate.of(2024, 2, 1);
+        when(partitionMapper.dropPartition(FROM, 2_000)).thenReturn(120L);
+        when(partitionMapper.dropPartition(february, 2_000))
+            .thenThrow(new CannotAcquireLockException("canceling statement due to lock timeout"));
+        when(deleteMapper.deleteChunk(any(), any(), anyInt(), anyInt()))
+            .thenReturn(new StampDeleteChunk(0, 0, null, null, null));
+        when(deleteMapper.deleteChunk(february, LocalDate.of(2024, 2, 8), 0, 2))
+            .thenReturn(new StampDeleteChunk(1, 1, 500, LocalDate.of(2024, 2, 3), LocalDate.of(2024, 2, 3)));
+
+        runner.run(JOB_ID);
+
+        verify(jobMapper).recordChunk(eq(JOB_ID), eq(february), eq(0), eq(120), anyInt(), eq(NOW));
+        verify(transactionManager).rollback(any());
+        // 2月は週単位のウィンドウで削除し、最後のウィンドウは月末で区切る
+        verify(deleteMapper).deleteChunk(february, LocalDate.of(2024, 2, 8), 0, 2);
+        verify(deleteMapper).deleteChunk(LocalDate.of(2024, 2, 29), LocalDate.of(2024, 3, 1), 0, 2);
+        verify(partitionMapper, times(2)).dropPartition(any(), anyInt());
+        verify(eventPublisher)
+            .publishEvent(StampHistoryChangedEvent.forMonths(YearMonth.of(2024, 1), YearMonth.of(2024, 1)));
+        verify(eventPublisher)
+            .publishEvent(StampHistoryChangedEvent.forMonths(YearMonth.of(2024, 2), YearMonth.of(2024, 2)));
+        verify(jobMapper).finish(JOB_ID, StampDeleteJobStatus.SUCCEEDED.name(), null, NOW);
+    }
+
+    @Test
+    @DisplayName("一時停止要求はチャンクの開始時に検出してカーソルを残したまま PAUSED にする")
+    void pausesAtChunkBoundary() {
+        StampDeleteJob job = job();
+        job.setEstimatedCount(10);
+        when(jobMapper.findById(JOB_ID)).thenReturn(Optional.of(job));
+        when(jobMapper.markRunning(JOB_ID, null, NOW)).thenReturn(1);
+        when(jobMapper.lockForChunk(JOB_ID)).thenReturn(Optional.of(locked(FROM, 11, true, false)));
+
+        runner.run(JOB_ID);
+
+        verify(jobMapper).markPaused(JOB_ID, NOW);
+        verify(deleteMapper, never()).countInRange(any(), any());
+        verify(deleteMapper, never()).deleteChunk(any(), any(), anyInt(), anyInt());
+        verify(jobMapper, never()).finish(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("取消要求は一時停止要求より優先して CANCELLED にする")
+    void cancelsAtChunkBoundary() {
+        when(jobMapper.findById(JOB_ID)).thenReturn(Optional.of(job()));
+        when(deleteMapper.countInRange(FROM, TO)).thenReturn(3);
+        when(jobMapper.markRunning(JOB_ID, 3, NOW)).thenReturn(1);
+        when(jobMapper.lockForChunk(JOB_ID)).thenReturn(Optional.of(locked(FROM, 0, true, true)));
+
+        runner.run(JOB_ID);
+
+        verify(jobMapper).finish(JOB_ID, StampDeleteJobStatus.CANCELLED.name(), null, NOW);
+        verify(jobMapper, never()).markPaused(any(), any());
+        verify(deleteMapper, never()).deleteChunk(any(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("チャンクの削除で例外が発生した場合はロールバックしてカーソルを残したまま FAILED にする")
+    void marksJobFailedWhenChunkThrows() {
+        when(jobMapper.findById(JOB_ID)).thenReturn(Optional.of(job()));
+        when(deleteMapper.countInRange(FROM, TO)).thenReturn(3);
+        when(jobMapper.markRunning(JOB_ID, 3, NOW)).thenReturn(1);
+        when(jobMapper.lockForChunk(JOB_ID)).thenReturn(Optional.of(locked(FROM, 0, false, false)));
+        when(deleteMapper.deleteChunk(any(), any(), anyInt(), anyInt()))
+            .thenThrow(new IllegalStateException("violates foreign key constraint"));
+
+        runner.run(JOB_ID);
+
+        verify(transactionManager).rollback(any());
+        verify(jobMapper, never()).recordChunk(any(), any(), anyInt(), anyInt(), anyInt(), any());
+        verify(jobMapper).finish(JOB_ID, StampDeleteJobStatus.FAILED.name(), "violates foreign key constraint", NOW);
+    }
+
+    @Test
+    @DisplayName("投入後に締められた月に達した場合は削除せずに FAILED にする")
+    void marksJobFailedWhenMonthWasClosed() {
+        when(jobMapper.findById(JOB_ID)).thenReturn(Optional.of(job()));
+        when(deleteMapper.countInRange(FROM, TO)).thenReturn(3);
+        when(jobMapper.markRunning(JOB_ID, 3, NOW)).thenReturn(1);
+        when(jobMapper.lockForChunk(JOB_ID)).thenReturn(Optional.of(locked(FROM, 0, false, false)));
+        ClosedMonthException closed = new ClosedMonthException(YearMonth.of(2024, 1));
+        doThrow(closed).when(monthCloseService).assertOpen(FROM);
+
+        runner.run(JOB_ID);
+
+        verify(transactionManager).rollback(any());
+        verify(partitionMapper, never()).dropPartition(any(), anyInt());
+        verify(deleteMapper, never()).deleteChunk(any(), any(), anyInt(), anyInt());
+        verify(jobMapper).finish(JOB_ID, StampDeleteJobStatus.FAILED.name(), closed.getMessage(), NOW);
+    }
+
+    private static StampDeleteJob job() {
+        StampDeleteJob job = new StampDeleteJob();
+        job.setId(JOB_ID);
+        job.setStatus(StampDeleteJobStatus.QUEUED.name());
+        job.setRequestedBy(OPERATOR_ID);
+        job.setFromDate(FROM);
+        job.setToDate(TO);
+        job.setChunkSize(2);
+        job.setWindowDays(7);
+        job.setWindowStart(FROM);
+        job.setCursorId(0);
+        return job;
+    }
+
+    private static StampDeleteJob locked(
+            LocalDate windowStart, int cursorId, boolean pauseRequested, boolean cancelRequested) {
+        StampDeleteJob locked = new StampDeleteJob();
+        locked.setId(JOB_ID);
+        locked.setStatus(StampDeleteJobStatus.RUNNING.name());
+        locked.setWindowStart(windowStart);
+        locked.setCursorId(cursorId);
+        locked.setPauseRequested(pauseRequested);
+        locked.setCancelRequested(cancelRequested);
+        return locked;
+    }
+}
@@ -35,6 +35,7 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 
 @ExtendWith(MockitoExtension.class)
@@ -55,6 +56,9 @@ class ProfileAppServiceTest {
     @Mock
     private ProfileAuditService auditService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Mock
     private Clock clock;
 
@@ -80,9 +80,7 @@ class StampHistoryPersistenceTest {
             StampHistory saved = captor.getValue();
             assertAll(
                 "保存されたエンティティの検証",
-                () -> assertEquals("2025", saved.getYear()),
-                () -> assertEquals("10", saved.getMonth()),
-                () -> assertEquals("1", saved.getDay()),
+                () -> assertEquals(LocalDate.of(2025, 10, 1), saved.getStampDate()),
                 () -> assertEquals(200, saved.getEmployeeId()),
                 () -> assertEquals(testInTime, saved.getInTime()),
                 () -> assertEquals(testOutTime, saved.getOutTime()),
@@ -222,11 +220,9 @@ class StampHistoryPersistenceTest {
             StampHistory existingEntity = new StampHistory();
             existingEntity.setId(999);
             existingEntity.setEmployeeId(200);
-            existingEntity.setYear("2025");
-            existingEntity.setMonth("10");
-            existingEntity.setDay("1");
+            existingEntity.setStampDate(LocalDate.of(2025, 10, 1));
 
-            when(stampHistoryMapper.getById(999)).thenReturn(Optional.of(existingEntity));
+            when(stampHistoryMapper.getById(999, data.getStampDate())).thenReturn(Optional.of(existingEntity));
 
             ArgumentCaptor<StampHistory> updateCaptor = ArgumentCaptor.forClass(StampHistory.class);
 
@@ -235,7 +231,7 @@ class StampHistoryPersistenceTest {
 
             // Assert
             assertTrue(result, "更新成功");
-            verify(stampHistoryMapper).getById(999);
+            verify(stampHistoryMapper).getById(999, data.getStampDate());
             verify(stampHistoryMapper).update(updateCaptor.capture());
 
             StampHistory updated = updateCaptor.getValue();
@@ -272,7 +268,7 @@ class StampHistoryPersistenceTest {
             existingEntity.setInTime(testInTime);
             existingEntity.setOutTime(testOutTime);
 
-            when(stampHistoryMapper.getById(888)).thenReturn(Optional.of(existingEntity));
+            when(stampHistoryMapper.getById(888, data.getStampDate())).thenReturn(Optional.of(existingEntity));
 
             ArgumentCaptor<StampHistory> captor = ArgumentCaptor.forClass(StampHistory.class);
 
@@ -309,14 +305,14 @@ class StampHistoryPersistenceTest {
                 null   // isNightShift
             );
 
-            when(stampHistoryMapper.getById(777)).thenReturn(Optional.empty());
+            when(stampHistoryMapper.getById(777, data.getStampDate())).thenReturn(Optional.empty());
 
             // Act
             boolean result = persistence.saveOrUpdate(data, testInTime, testOutTime, UPDATE_EMPLOYEE_ID);
 
             // Assert
             assertFalse(result, "存在しないIDの場合はfalse");
-            verify(stampHistoryMapper).getById(777);
+            verify(stampHistoryMapper).getById(777, data.getStampDate());
             verify(stampHistoryMapper, never()).update(any());
             verify(stampHistoryMapper, never()).save(any());
         }
@@ -342,7 +338,7 @@ class StampHistoryPersistenceTest {
             StampHistory existingEntity = new StampHistory();
             existingEntity.setId(666);
 
-            when(stampHistoryMapper.getById(666)).thenReturn(Optional.of(existingEntity));
+            when(stampHistoryMapper.getById(666, data.getStampDate())).thenReturn(Optional.of(existingEntity));
 
             ArgumentCaptor<StampHistory> captor = ArgumentCaptor.forClass(StampHistory.class);
 
@@ -371,15 +367,16 @@ class StampHistoryPersistenceTest {
         void exists_withExistingId_shouldReturnTrue() {
             // Arrange
             Integer id = 100;
+            LocalDate stampDate = LocalDate.of(2025, 10, 1);
             StampHistory entity = new StampHistory();
-            when(stampHistoryMapper.getById(id)).thenReturn(Optional.of(entity));
+            when(stampHistoryMapper.getById(id, stampDate)).thenReturn(Optional.of(entity));
 
             // Act
-            boolean result = persistence.exists(id);
+            boolean result = persistence.exists(id, stampDate);
 
             // Assert
             assertTrue(result, "存在するIDの場合true");
-            verify(stampHistoryMapper).getById(id);
+            verify(stampHistoryMapper).getById(id, stampDate);
         }
 
         @Test
@@ -387,25 +384,26 @@ class StampHistoryPersistenceTest {
         void exists_withNonExistentId_shouldReturnFalse() {
             // Arrange
             Integer id = 999;
-            when(stampHistoryMapper.getById(id)).thenReturn(Optional.empty());
+            LocalDate stampDate = LocalDate.of(2025, 10, 1);
+            when(stampHistoryMapper.getById(id, stampDate)).thenReturn(Optional.empty());
 
             // Act
-            boolean result = persistence.exists(id);
+            boolean result = persistence.exists(id, stampDate);
 
             // Assert
             assertFalse(result, "存在しないIDの場合false");
-            verify(stampHistoryMapper).getById(id);
+            verify(stampHistoryMapper).getById(id, stampDate);
         }
 
         @Test
         @DisplayName("正常系: IDがnullの場合falseを返す")
         void exists_withNullId_shouldReturnFalse() {
             // Act
-            boolean result = persistence.exists(null);
+            boolean result = persistence.exists(null, LocalDate.of(2025, 10, 1));
 
             // Assert
             assertFalse(result, "nullの場合false");
-            verify(stampHistoryMapper, never()).getById(any());
+            verify(stampHistoryMapper, never()).getById(any(), any());
         }
     }
 
@@ -455,7 +453,7 @@ class StampHistoryPersistenceTest {
 
             StampHistory existingEntity = new StampHistory();
             existingEntity.setId(500);
-            when(stampHistoryMapper.getById(500)).thenReturn(Optional.of(existingEntity));
+            when(stampHistoryMapper.getById(500, updateData.getStampDate())).thenReturn(Optional.of(existingEntity));
 
             // Act - 更新
             boolean updateResult = persistence.saveOrUpdate(updateData, testInTime, testOutTime, UPDATE_EMPLOYEE_ID);
@@ -0,0 +1,115 @@
+package com.example.teamdev.service.stamp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("StampImportReader テスト")
+class StampImportReaderTest {
+
+    private final StampImportRowValidator validator =
+        new StampImportRowValidator(new StampFormDataExtractor(), new OutTimeAdjuster());
+    private final List<String> rejects = new ArrayList<>();
+
+    @Test
+    @DisplayName("CSV: 有効な行のみ返し、不備のある行は行番号と理由を通知して読み飛ばす")
+    void csv_skipsInvalidLines() {
+        String csv = """
+            \uFEFFemployeeId,year,month,day,inTime,outTime,breakStartTime,breakEndTime,isNightShift
+            1,2025,10,01,09:00,18:00,12:00,13:00,false
+
+            2,2025,10,02,22:00,06:00,,,true
+            1,2025,02,30,09:00,18:00,,,
+            1,2025,10,03,9:00,18:00,,,
+            999,2025,10,04,09:00,18:00,,,
+            1,2025,10,05
+            """;
+
+        StampImportReader reader = reader(csv, StampImportFormat.CSV);
+        List<StampImportRow> rows = drain(reader);
+
+        assertThat(rows).extracting(StampImportRow::lineNumber).containsExactly(2L, 4L);
+        assertThat(rows.get(0).breakStartTime()).isEqualTo(OffsetDateTime.parse("2025-10-01T12:00+09:00"));
+        assertThat(rows.get(0).isNightShift()).isFalse();
+        // 退勤が出勤より前の場合は翌日扱い（打刻編集と同じ規則）
+        assertThat(rows.get(1).outTime()).isEqualTo(OffsetDateTime.parse("2025-10-03T06:00+09:00"));
+        assertThat(rows.get(1).breakStartTime()).isNull();
+        assertThat(rows.get(1).isNightShift()).isTrue();
+
+        assertThat(rejects).containsExactly(
+            "5:Invalid date: year=2025, month=02, day=30",
+            "6:Invalid inTime (HH:mm): 9:00",
+            "7:Unknown employee ID: 999",
+            "8:Expected 9 columns but found 4");
+        assertThat(reader.lineNumber()).isEqualTo(8L);
+        assertThat(reader.acceptedCount()).isEqualTo(2L);
+        assertThat(reader.minStampDate()).isEqualTo(LocalDate.of(2025, 10, 1));
+        assertThat(reader.maxStampDate()).isEqualTo(LocalDate.of(2025, 10, 2));
+    }
+
+    @Test
+    @DisplayName("CSV: 必須列が欠けたヘッダーは取り込み全体を拒否する")
+    void csv_rejectsHeaderWithoutRequiredColumns() {
+        assertThatThrownBy(() -> reader("employeeId,year,month,inTime\n", StampImportFormat.CSV))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("day");
+    }
+
+    @Test
+    @DisplayName("NDJSON: 数値・真偽値・文字列の値を受け付け、JSON として不正な行を通知する")
+    void ndjson_acceptsTypedValues() {
+        String ndjson = """
+            {"employeeId":1,"year":2025,"month":10,"day":6,"inTime":"08:30","isNightShift":true}
+            {"employeeId":1,"year":2025,"month":10
+            [1,2,3]
+            {"employeeId":2,"year":"2025","month":"10","day":"07","outTime":"17:00"}
+            """;
+
+        StampImportReader reader = reader(ndjson, StampImportFormat.NDJSON);
+        List<StampImportRow> rows = drain(reader);
+
+        assertThat(rows).extracting(StampImportRow::stampDate)
+            .containsExactly(LocalDate.of(2025, 10, 6), LocalDate.of(2025, 10, 7));
+        assertThat(rows.get(0).inTime()).isEqualTo(OffsetDateTime.parse("2025-10-06T08:30+09:00"));
+        assertThat(rows.get(0).isNightShift()).isTrue();
+        assertThat(rows.get(1).inTime()).isNull();
+        assertThat(rejects).hasSize(2);
+        assertThat(rejects.get(0)).startsWith("2:Malformed JSON");
+        assertThat(rejects.get(1)).isEqualTo("3:Each line must be a JSON object");
+    }
+
+    @Test
+    @DisplayName("detect: Content-Type・拡張子から形式を判定し、判定できない場合は拒否する")
+    void detect_resolvesFormat() {
+        assertThat(StampImportFormat.detect("text/csv; charset=UTF-8")).isEqualTo(StampImportFormat.CSV);
+        assertThat(StampImportFormat.detect("application/x-ndjson")).isEqualTo(StampImportFormat.NDJSON);
+        assertThat(StampImportFormat.detect("stamps.jsonl")).isEqualTo(StampImportFormat.NDJSON);
+        assertThatThrownBy(() -> StampImportFormat.detect("application/pdf"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private StampImportReader reader(String input, StampImportFormat format) {
+        return new StampImportReader(
+            new StringReader(input),
+            format,
+            validator,
+            new ObjectMapper(),
+            Set.of(1, 2)::contains,
+            (lineNumber, reason) -> rejects.add(lineNumber + ":" + reason));
+    }
+
+    private static List<StampImportRow> drain(StampImportReader reader) {
+        List<StampImportRow> rows = new ArrayList<>();
+        reader.forEachRemaining(rows::add);
+        return rows;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.teamdev.util;
+
+import com.example.teamdev.service.dto.ResourceVersion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * HttpCacheUtilクラスのテストクラス
+ * 条件付きGETの評価を検証します
+ */
+@DisplayName("HttpCacheUtil テスト")
+class HttpCacheUtilTest {
+
+    private static final long LAST_MODIFIED = 1_762_473_600_000L;
+
+    @Test
+    @DisplayName("If-None-Match がETagと一致する場合は304とする")
+    void isNotModified_ETag一致() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/employees");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"v1\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        boolean notModified = HttpCacheUtil.isNotModified(
+            new ServletWebRequest(request, response), new ResourceVersion("\"v1\"", LAST_MODIFIED));
+
+        // Then
+        assertTrue(notModified);
+        assertEquals(304, response.getStatus());
+        assertEquals("\"v1\"", response.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    @DisplayName("If-Modified-Since は最終更新日時以降でも評価しない（削除では最終更新日時が進まないため）")
+    void isNotModified_IfModifiedSinceのみ() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/employees");
+        request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, LAST_MODIFIED);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        boolean notModified = HttpCacheUtil.isNotModified(
+            new ServletWebRequest(request, response), new ResourceVersion("\"v2\"", LAST_MODIFIED));
+
+        // Then
+        assertFalse(notModified);
+        assertEquals(200, response.getStatus());
+        assertNull(response.getHeader(HttpHeaders.LAST_MODIFIED));
+    }
+}
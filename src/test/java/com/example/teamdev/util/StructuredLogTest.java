@@ -0,0 +1,189 @@
+package com.example.teamdev.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+@DisplayName("StructuredLog のテスト")
+class StructuredLogTest {
+
+    private static final org.slf4j.Logger log = LoggerFactory.getLogger(StructuredLogTest.class);
+
+    private Logger logger;
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    void setUp() {
+        logger = (Logger) LoggerFactory.getLogger("test.structured-log");
+        logger.setAdditive(false);
+        logger.setLevel(Level.INFO);
+        appender = new ListAppender<>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                // 出力時点の MDC を確定させる
+                event.prepareForDeferredProcessing();
+                super.append(event);
+            }
+        };
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("フィールドを JSON オブジェクトとして出力し、文字列をエスケープする")
+    void writesFieldsAsJson() throws Exception {
+        StructuredLog.info(logger, "business")
+            .field("operation", "UPDATE \"news\"\n")
+            .field("userId", (Object) 12)
+            .field("entityId", (String) null)
+            .field("count", 3L)
+            .field("success", true)
+            .log();
+
+        assertThat(appender.list).hasSize(1);
+        JsonNode json = new ObjectMapper().readTree(appender.list.get(0).getFormattedMessage());
+        assertThat(json.get("event").asText()).isEqualTo("business");
+        assertThat(json.get("operation").asText()).isEqualTo("UPDATE \"news\"\n");
+        assertThat(json.get("userId").asInt()).isEqualTo(12);
+        assertThat(json.get("entityId").isNull()).isTrue();
+        assertThat(json.get("count").asLong()).isEqualTo(3L);
+        assertThat(json.get("success").asBoolean()).isTrue();
+    }
+
+    @Test
+    @DisplayName("ログレベルが無効な場合は出力しない")
+    void skipsDisabledLevel() {
+        logger.setLevel(Level.WARN);
+
+        StructuredLog.info(logger, "business").field("operation", "LOGIN").log();
+        StructuredLog.warn(logger, "slow_execution").field("method", "X.y").log();
+
+        assertThat(appender.list).singleElement()
+            .extracting(ILoggingEvent::getLevel)
+            .isEqualTo(Level.WARN);
+    }
+
+    @Test
+    @DisplayName("出力中だけ MDC を設定し、出力後は元の MDC に戻す")
+    void restoresPreviousMdc() {
+        MDC.put("requestId", "req-1");
+        MDC.put("userId", "7");
+
+        StructuredLog.info(logger, "security").field("action", "LOGIN").mdc("userId", "42").log();
+
+        assertThat(appender.list.get(0).getMDCPropertyMap())
+            .containsEntry("userId", "42")
+            .containsEntry("requestId", "req-1");
+        assertThat(MDC.get("userId")).isEqualTo("7");
+        assertThat(MDC.get("requestId")).isEqualTo("req-1");
+    }
+
+    @Test
+    @DisplayName("値の toString() から再入しても両方のイベントを出力する")
+    void supportsReentrantEvents() {
+        Object nested = new Object() {
+            @Override
+            public String toString() {
+                StructuredLog.info(logger, "inner").field("k", "v").log();
+                return "outer-value";
+            }
+        };
+
+        StructuredLog.info(logger, "outer").field("value", nested).log();
+
+        assertThat(appender.list).extracting(ILoggingEvent::getFormattedMessage)
+            .containsExactly("{\"event\":\"inner\",\"k\":\"v\"}", "{\"event\":\"outer\",\"value\":\"outer-value\"}");
+    }
+
+    /**
+     * 業務ログ1件の出力でスレッドが割り当てるバイト数を、{@code ThreadMXBean} で従来の LogUtil 方式
+     * （MDC への6項目の設定とタイムスタンプの整形）と比較します。
+     * レベルが有効な場合は従来方式より少ないこと、無効な場合はフィールドを組み立てずほぼ割り当てないことを検証します。
+     * 計測中はアペンダーを外すため、出力先の書式化は含みません。
+     * 通常のテスト実行からは除外され、{@code ./gradlew benchmarkTest} で実行します。
+     */
+    @Tag("benchmark")
+    @DisplayName("1イベントあたりの割り当てバイト数のベンチマーク")
+    @Test
+    void benchmarkAllocationPerEvent() {
+        logger.detachAppender(appender);
+        int iterations = 200_000;
+
+        long legacyEnabled = allocatedBytesPerEvent(iterations, () -> legacyLogBusiness(logger));
+        long structuredEnabled = allocatedBytesPerEvent(iterations, () -> structuredLogBusiness(logger));
+        logger.setLevel(Level.WARN);
+        long legacyDisabled = allocatedBytesPerEvent(iterations, () -> legacyLogBusiness(logger));
+        long structuredDisabled = allocatedBytesPerEvent(iterations, () -> structuredLogBusiness(logger));
+
+        log.info("log event allocation: enabled legacy={} B, structured={} B; disabled legacy={} B, structured={} B",
+            legacyEnabled, structuredEnabled, legacyDisabled, structuredDisabled);
+        assertThat(structuredEnabled).isLessThan(legacyEnabled);
+        assertThat(structuredDisabled).isLessThan(16);
+    }
+
+    private static void structuredLogBusiness(Logger logger) {
+        StructuredLog.info(logger, "business")
+            .field("operation", "STAMP")
+            .field("userId", (Object) 42)
+            .field("entityType", "StampHistory")
+            .field("entityId", "1001")
+            .field("result", "SUCCESS")
+            .mdc("userId", "42")
+            .log();
+    }
+
+    /** 従来の LogUtil.logBusiness と同じ処理 */
+    private static void legacyLogBusiness(Logger logger) {
+        Integer userId = 42;
+        try {
+            MDC.put("operation", "STAMP");
+            MDC.put("userId", userId.toString());
+            MDC.put("entityType", "StampHistory");
+            MDC.put("entityId", "1001");
+            MDC.put("result", "SUCCESS");
+            MDC.put("timestamp", LocalDateTime.now(ZoneId.of("Asia/Tokyo"))
+                .format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+            logger.info("Business Operation - Op: {}, User: {}, Entity: {}({}), Result: {}",
+                "STAMP", userId, "StampHistory", "1001", "SUCCESS");
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    private static long allocatedBytesPerEvent(int iterations, Runnable body) {
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        // ウォームアップ
+        for (int i = 0; i < iterations; i++) {
+            body.run();
+        }
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < iterations; i++) {
+            body.run();
+        }
+        return (threads.getThreadAllocatedBytes(threadId) - before) / iterations;
+    }
+}